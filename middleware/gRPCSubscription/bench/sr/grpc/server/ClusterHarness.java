@@ -0,0 +1,423 @@
+package sr.grpc.server;
+
+import com.google.protobuf.Any;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.protobuf.StatusProto;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import sr.grpc.gen.event.*;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Runs cluster nodes on loopback ports in one JVM and checks what they promise each other: a Subscribe for a city
+ * owned elsewhere is redirected with a {@link NodeRedirect} detail, or relayed from the owner by a PROXY node;
+ * events published on one node reach the subscribers of the city's owner in order; a joining node takes over
+ * only the cities its {@link HashRing} points move to it, and their subscriptions are redirected there; and a
+ * peer that stops reading its Forward stream neither blocks publishing nor the other peers. Node departure is
+ * checked on the rings alone, since nodes never leave a running cluster's view.
+ * <p>
+ * Prints one line per check and exits with status 1 if any failed.
+ *
+ * Run: java sr.grpc.server.ClusterHarness [events]
+ */
+public class ClusterHarness {
+
+    private static final int CITIES = 300; // Sample of targets whose owners are compared
+    private static final long WAIT_SECONDS = 10;
+
+    private static int failures;
+
+    public static void main(String[] args) throws Exception {
+        int events = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        Logger.getLogger("sr.grpc.server").setLevel(Level.WARNING);
+        Logger.getLogger("io.grpc").setLevel(Level.SEVERE);
+        List<String> clusterWarnings = new CopyOnWriteArrayList<>();
+        Logger.getLogger(ClusterNode.class.getName()).addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                clusterWarnings.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+
+        List<Node> nodes = new ArrayList<>();
+        List<ManagedChannel> channels = new ArrayList<>();
+        Server stalled = null;
+        try {
+            Node a = Node.start(ClusterRouting.REDIRECT, null);
+            nodes.add(a);
+            Node b = Node.start(ClusterRouting.PROXY, a);
+            nodes.add(b);
+            awaitViews(nodes, 2);
+            HashRing twoNodes = new HashRing(a.view());
+            String cityOfA = cityOwnedBy(twoNodes, a.address);
+            String cityOfB = cityOwnedBy(twoNodes, b.address);
+            ManagedChannel toA = channel(a, channels);
+            ManagedChannel toB = channel(b, channels);
+
+            // --- Redirect: A refuses B's city and names B ---
+            Collector refused = Collector.subscribe(toA, "redirected", cityOfB);
+            NodeRedirect redirect = refused.awaitRedirect();
+            check("redirect names the owner", redirect != null && redirect.getOwnerAddress().equals(b.address)
+                    && redirect.getTarget().equals(Topic.of(EventType.WEATHER_UPDATE, cityOfB).target())
+                    && redirect.getViewVersion() == a.view().getVersion(),
+                    redirect == null ? "none" : redirect.getTarget() + " -> " + redirect.getOwnerAddress()
+                            + " (view " + redirect.getViewVersion() + ")");
+
+            // --- Forwarder: events of B's city published on A reach B's subscriber, in order ---
+            Collector atOwner = Collector.subscribe(toB, "at-owner", cityOfB);
+            atOwner.awaitConfirmation();
+            for (int i = 0; i < events; i++) {
+                a.source.publish(update(cityOfB, i));
+            }
+            check("forwarded events arrive in order", atOwner.await(events) && atOwner.inOrder(events),
+                    atOwner.received.size() + " of " + events);
+
+            // --- Proxy: B relays A's city from A ---
+            Collector proxied = Collector.subscribe(toB, "proxied", cityOfA);
+            proxied.awaitConfirmation();
+            for (int i = 0; i < events; i++) {
+                a.source.publish(update(cityOfA, i));
+            }
+            check("proxied subscription relays the owner's events", proxied.await(events) && proxied.inOrder(events),
+                    proxied.received.size() + " of " + events);
+
+            // --- Join: C takes over some cities from A and B, and only those move ---
+            List<Collector> beforeJoin = new ArrayList<>();
+            for (int i = 0; i < CITIES; i++) {
+                String city = "City-" + i;
+                Node owner = twoNodes.ownerOf(Topic.of(EventType.WEATHER_UPDATE, city).target()).equals(a.address) ? a : b;
+                beforeJoin.add(Collector.subscribe(owner == a ? toA : toB, "join-" + i, city));
+            }
+            for (Collector collector : beforeJoin) {
+                collector.awaitConfirmation();
+            }
+            Node c = Node.start(ClusterRouting.REDIRECT, b);
+            nodes.add(c);
+            awaitViews(nodes, 3);
+            HashRing threeNodes = new HashRing(c.view());
+            int moved = 0;
+            int misplaced = 0;
+            int redirected = 0;
+            for (int i = 0; i < CITIES; i++) {
+                String target = Topic.of(EventType.WEATHER_UPDATE, "City-" + i).target();
+                String before = twoNodes.ownerOf(target);
+                String after = threeNodes.ownerOf(target);
+                if (!before.equals(after)) {
+                    moved++;
+                    misplaced += after.equals(c.address) ? 0 : 1;
+                    NodeRedirect movedTo = beforeJoin.get(i).awaitRedirect();
+                    redirected += movedTo != null && movedTo.getOwnerAddress().equals(c.address) ? 1 : 0;
+                }
+            }
+            check("join moves cities to the new node only", moved > 0 && misplaced == 0,
+                    moved + " of " + CITIES + " moved, " + misplaced + " elsewhere");
+            check("join moves about a third of the cities", moved > CITIES / 6 && moved < CITIES / 2,
+                    moved + " of " + CITIES);
+            check("moved subscriptions are redirected to the new owner", redirected == moved,
+                    redirected + " of " + moved);
+            int stillOpen = 0;
+            for (Collector collector : beforeJoin) {
+                stillOpen += collector.status == null ? 1 : 0;
+            }
+            check("other subscriptions stay open", stillOpen == CITIES - moved, stillOpen + " open");
+
+            // --- Leave: the ring without C gives each of C's cities back, and no other moves ---
+            HashRing afterLeave = new HashRing(ClusterView.newBuilder().setVersion(4)
+                    .addNodes(a.address).addNodes(b.address).build());
+            int changedWithoutC = 0;
+            for (int i = 0; i < CITIES; i++) {
+                String target = Topic.of(EventType.WEATHER_UPDATE, "City-" + i).target();
+                if (!threeNodes.ownerOf(target).equals(c.address)
+                        && !threeNodes.ownerOf(target).equals(afterLeave.ownerOf(target))) {
+                    changedWithoutC++;
+                }
+            }
+            check("leave only moves the leaving node's cities", changedWithoutC == 0, changedWithoutC + " others moved");
+
+            // --- Dead peer: a member that stops reading its Forward stream ---
+            int stalledPort = freePort();
+            String stalledAddress = "localhost:" + stalledPort;
+            stalled = NettyServerBuilder.forPort(stalledPort)
+                    .flowControlWindow(64 * 1024) // Fixed, so the unread events fill it soon
+                    .addService(new StalledPeer())
+                    .build()
+                    .start();
+            ClusterServiceGrpc.newBlockingStub(toA).withDeadlineAfter(WAIT_SECONDS, TimeUnit.SECONDS)
+                    .join(JoinRequest.newBuilder().setAddress(stalledAddress).build());
+            awaitViews(nodes, 4);
+            HashRing withStalled = new HashRing(a.view());
+            String cityOfStalled = cityOwnedBy(withStalled, stalledAddress);
+            String cityOfC = cityOwnedBy(withStalled, c.address);
+            Collector alive = Collector.subscribe(channel(c, channels), "alive", cityOfC);
+            alive.awaitConfirmation();
+            long maxPublishNanos = 0;
+            int flood = ClusterNode.FORWARD_QUEUE_CAPACITY * 2;
+            for (int i = 0; i < flood; i++) {
+                long start = System.nanoTime();
+                a.source.publish(update(cityOfStalled, i));
+                maxPublishNanos = Math.max(maxPublishNanos, System.nanoTime() - start);
+            }
+            for (int i = 0; i < events; i++) {
+                a.source.publish(update(cityOfC, i));
+            }
+            check("publishing does not wait for a stalled peer", maxPublishNanos < TimeUnit.MILLISECONDS.toNanos(100),
+                    String.format("slowest publish %.1f ms", maxPublishNanos / 1e6));
+            check("a stalled peer's queue drops its oldest events", a.cluster().forwardDroppedCount() > 0,
+                    a.cluster().forwardDroppedCount() + " dropped");
+            check("other peers still get their events", alive.await(events) && alive.inOrder(events),
+                    alive.received.size() + " of " + events);
+            // The stall is noticed by a send after the limit
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(ClusterNode.PEER_STALL_SECONDS + 3);
+            while (System.nanoTime() < deadline && clusterWarnings.stream().noneMatch(m -> m.contains("took no forwarded events"))) {
+                a.source.publish(update(cityOfStalled, flood));
+                Thread.sleep(100);
+            }
+            check("a stalled peer's stream is cancelled", clusterWarnings.stream().anyMatch(m -> m.contains("took no forwarded events")),
+                    "after " + ClusterNode.PEER_STALL_SECONDS + " s");
+        } finally {
+            for (ManagedChannel channel : channels) {
+                channel.shutdownNow();
+            }
+            for (Node node : nodes) {
+                node.server.stop();
+            }
+            if (stalled != null) {
+                stalled.shutdownNow();
+            }
+        }
+        System.out.println(failures == 0 ? "All checks passed" : failures + " checks failed");
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    private static void check(String what, boolean passed, String detail) {
+        System.out.printf("%-56s %-4s %s%n", what, passed ? "ok" : "FAIL", detail);
+        if (!passed) {
+            failures++;
+        }
+    }
+
+    // Waits until every node's view has the given number of members, under the same version
+    private static void awaitViews(List<Node> nodes, int members) throws InterruptedException {
+        awaitCondition(() -> nodes.stream().allMatch(node -> node.view().getNodesCount() == members
+                && node.view().getVersion() == nodes.get(0).view().getVersion()));
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private static String cityOwnedBy(HashRing ring, String address) {
+        for (int i = 0; ; i++) {
+            String city = "City-" + i;
+            if (ring.ownerOf(Topic.of(EventType.WEATHER_UPDATE, city).target()).equals(address)) {
+                return city;
+            }
+        }
+    }
+
+    // The index travels as the wind speed, so the subscriber can tell the order it was published in
+    private static EventNotification update(String city, int index) {
+        return EventNotification.newBuilder()
+                .setNotificationId("cluster-" + city + "-" + index)
+                .setWeatherUpdate(WeatherUpdate.newBuilder()
+                        .setCity(city)
+                        .setWindSpeedKph(index)
+                        .setCurrentCondition(WeatherCondition.CLOUDY))
+                .build();
+    }
+
+    private static ManagedChannel channel(Node node, List<ManagedChannel> channels) {
+        ManagedChannel channel = ManagedChannelBuilder.forTarget(node.address).usePlaintext().build();
+        channels.add(channel);
+        return channel;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    // A cluster node on a loopback port whose events are published by the harness
+    private static final class Node {
+        final String address;
+        final WeatherEventSubscriptionServer server;
+        final PublishingSource source = new PublishingSource();
+
+        private Node(int port, ClusterRouting routing, Node seed) throws IOException {
+            this.address = "localhost:" + port;
+            this.server = new WeatherEventSubscriptionServer(ServerOptions.builder()
+                    .port(port)
+                    .dispatcherThreads(2)
+                    .outboundQueueCapacity(ClusterNode.FORWARD_QUEUE_CAPACITY)
+                    .eventSource(source)
+                    .clusterAddress(address)
+                    .clusterSeeds(seed == null ? List.of() : List.of(seed.address))
+                    .clusterRouting(routing)
+                    .build());
+        }
+
+        static Node start(ClusterRouting routing, Node seed) throws IOException {
+            Node node = new Node(freePort(), routing, seed);
+            node.server.start();
+            return node;
+        }
+
+        ClusterNode cluster() {
+            return server.service().cluster();
+        }
+
+        ClusterView view() {
+            return cluster().view();
+        }
+    }
+
+    private static final class PublishingSource implements EventSource {
+        private volatile Consumer<EventNotification> sink;
+
+        @Override
+        public void start(Consumer<EventNotification> sink) {
+            this.sink = sink;
+        }
+
+        void publish(EventNotification notification) {
+            sink.accept(notification);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    // The weather updates of one Subscribe call, and how it ended
+    private static final class Collector implements StreamObserver<EventNotification> {
+        final List<EventNotification> received = new CopyOnWriteArrayList<>();
+        private final CountDownLatch confirmed = new CountDownLatch(1);
+        private final CountDownLatch ended = new CountDownLatch(1);
+        volatile Status status; // Null while the call is open
+        private volatile NodeRedirect redirect;
+
+        static Collector subscribe(ManagedChannel channel, String id, String city) {
+            Collector collector = new Collector();
+            EventSubscriptionServiceGrpc.newStub(channel).subscribe(SubscriptionRequest.newBuilder()
+                    .setClientSubscriptionId(id + "-" + city)
+                    .setEventType(EventType.WEATHER_UPDATE)
+                    .setCriteria(SubscriptionCriteria.newBuilder().setTargetIdentifier(city))
+                    .build(), collector);
+            return collector;
+        }
+
+        @Override
+        public void onNext(EventNotification notification) {
+            if (notification.hasWeatherUpdate()) {
+                received.add(notification);
+            } else {
+                confirmed.countDown();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            com.google.rpc.Status details = StatusProto.fromThrowable(t);
+            if (details != null) {
+                for (Any detail : details.getDetailsList()) {
+                    if (detail.is(NodeRedirect.class)) {
+                        try {
+                            redirect = detail.unpack(NodeRedirect.class);
+                        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }
+                }
+            }
+            status = Status.fromThrowable(t);
+            confirmed.countDown();
+            ended.countDown();
+        }
+
+        @Override
+        public void onCompleted() {
+            status = Status.OK;
+            confirmed.countDown();
+            ended.countDown();
+        }
+
+        void awaitConfirmation() throws InterruptedException {
+            confirmed.await(WAIT_SECONDS, TimeUnit.SECONDS);
+        }
+
+        NodeRedirect awaitRedirect() throws InterruptedException {
+            ended.await(WAIT_SECONDS, TimeUnit.SECONDS);
+            return redirect;
+        }
+
+        boolean await(int count) throws InterruptedException {
+            awaitCondition(() -> received.size() >= count);
+            return received.size() == count;
+        }
+
+        boolean inOrder(int count) {
+            for (int i = 0; i < count; i++) {
+                if (received.get(i).getWeatherUpdate().getWindSpeedKph() != i) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // A member that joins but never reads the events forwarded to it, as a hung process would
+    private static final class StalledPeer extends ClusterServiceGrpc.ClusterServiceImplBase {
+        @Override
+        public void updateView(ClusterView request, StreamObserver<ClusterView> responseObserver) {
+            responseObserver.onNext(request);
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public StreamObserver<EventNotification> forward(StreamObserver<ForwardSummary> responseObserver) {
+            ((ServerCallStreamObserver<ForwardSummary>) responseObserver).disableAutoRequest();
+            return new StreamObserver<>() {
+                @Override
+                public void onNext(EventNotification value) {
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+
+                @Override
+                public void onCompleted() {
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package sr.grpc.server;
+
+import io.grpc.Codec;
+import sr.grpc.codec.DeflateCodec;
+import sr.grpc.gen.event.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Compresses encoded weather notifications, single and batched, with each response encoding the server offers,
+ * the way gRPC compresses one message at a time. Reports the size ratio and the cost per message, and how many
+ * messages a size threshold would have left uncompressed.
+ *
+ * Run: java sr.grpc.server.CompressionBenchmark [messages] [batchSize] [thresholdBytes]
+ */
+public class CompressionBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int messages = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int batchSize = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int threshold = args.length > 2 ? Integer.parseInt(args[2]) : 256;
+
+        SplittableRandom random = new SplittableRandom(13);
+        byte[] prefix = EncodedNotification.encodeSubscriberPrefix("Client-Alpha-WEATHER_UPDATE-3f2b9c1e-5d7a-4e8b-9c0d-1a2b3c4d5e6f");
+        byte[][] singles = new byte[messages][];
+        byte[][] batches = new byte[messages / batchSize][];
+        List<EncodedNotification> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < messages; i++) {
+            EncodedNotification notification = new EncodedNotification(prefix,
+                    EncodedNotification.encodeBody(weather(i, random), i + 1));
+            singles[i] = toBytes(NotificationMarshaller.INSTANCE.stream(notification));
+            batch.add(notification);
+            if (batch.size() == batchSize) {
+                batches[i / batchSize] = toBytes(NotificationBatchMarshaller.INSTANCE.stream(new EncodedBatch(batch)));
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+
+        Codec[] codecs = {Codec.Identity.NONE, new DeflateCodec(), new Codec.Gzip()};
+        for (int round = 0; round < 3; round++) { // The first rounds warm the JIT up
+            System.out.printf("Round %d%n", round);
+            for (Codec codec : codecs) {
+                report("single", codec, singles, threshold);
+                report("batch of " + batchSize, codec, batches, threshold);
+            }
+        }
+    }
+
+    private static void report(String kind, Codec codec, byte[][] messages, int threshold) throws IOException {
+        long raw = 0;
+        long wire = 0;
+        long compressed = 0;
+        CountingStream sink = new CountingStream();
+        long start = System.nanoTime();
+        for (byte[] message : messages) {
+            raw += message.length;
+            if (codec == Codec.Identity.NONE || message.length < threshold) {
+                wire += message.length;
+                continue;
+            }
+            sink.count = 0;
+            try (OutputStream out = codec.compress(sink)) {
+                out.write(message);
+            }
+            wire += sink.count;
+            compressed++;
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.printf("  %-12s %-9s %7.1f -> %7.1f bytes/message (%5.1f%%), %6.0f ns/message, %d of %d compressed%n",
+                kind, codec.getMessageEncoding(), (double) raw / messages.length, (double) wire / messages.length,
+                100.0 * wire / raw, (double) nanos / messages.length, compressed, messages.length);
+    }
+
+    private static EventNotification weather(int i, SplittableRandom random) {
+        String city = new String[]{"Kraków", "Warszawa", "Gdańsk", "Wrocław", "Poznań"}[i % 5];
+        WeatherCondition condition = WeatherCondition.forNumber(1 + random.nextInt(5));
+        WeatherUpdate.Builder weather = WeatherUpdate.newBuilder()
+                .setCity(city)
+                .setCurrentTemperatureCelsius(Math.round(random.nextDouble(-10, 35) * 10) / 10.0)
+                .setHumidityPercent(20 + random.nextInt(80))
+                .setWindSpeedKph(random.nextInt(60))
+                .setCurrentCondition(condition)
+                .setDetailedDescription("Warunki dla " + city + ": " + condition
+                        + ". Szczegółowy opis sytuacji synoptycznej, ostrzeżenia i zalecenia dla mieszkańców regionu.");
+        for (int day = 1; day <= 3; day++) {
+            weather.addForecast(DailyForecast.newBuilder()
+                    .setDayDescription("Dzień +" + day)
+                    .setMaxTemperatureCelsius(15 + random.nextInt(10))
+                    .setMinTemperatureCelsius(5 + random.nextInt(8))
+                    .setCondition(WeatherCondition.forNumber(1 + random.nextInt(5)))
+                    .setSummary("Prognoza na dzień " + day));
+        }
+        return EventNotification.newBuilder()
+                .setNotificationId("WEATHER-" + i)
+                .setTimestampUnixSeconds(1_700_000_000L + i)
+                .setEventType(EventType.WEATHER_UPDATE)
+                .setWeatherUpdate(weather)
+                .build();
+    }
+
+    private static byte[] toBytes(InputStream message) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        message.transferTo(out);
+        return out.toByteArray();
+    }
+
+    private static final class CountingStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.*;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+/**
+ * Compares the bytes a subscriber receives for a stream of weather updates in full and in delta mode.
+ * <p>
+ * The updates evolve like real readings rather than the demo's random ones: temperature drifts every tick,
+ * humidity and wind change now and then, the condition (and its description) rarely, and the forecast is
+ * reissued every {@code forecastEvery} ticks; some ticks repeat the previous reading. Wire bytes include the
+ * 5-byte gRPC message header, which a suppressed update does not cost either.
+ *
+ * Run: java sr.grpc.server.DeltaEncodingBenchmark [updates] [forecastEvery]
+ */
+public class DeltaEncodingBenchmark {
+
+    private static final int GRPC_FRAME_HEADER = 5;
+
+    public static void main(String[] args) {
+        int updates = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int forecastEvery = args.length > 1 ? Integer.parseInt(args[1]) : 60;
+
+        SplittableRandom random = new SplittableRandom(7);
+        SubscriptionInfo full = subscription("full", false);
+        SubscriptionInfo delta = subscription("delta", true);
+
+        WeatherUpdate.Builder weather = WeatherUpdate.newBuilder()
+                .setCity("Kraków")
+                .setCurrentTemperatureCelsius(18.0)
+                .setHumidityPercent(55)
+                .setWindSpeedKph(10)
+                .setCurrentCondition(WeatherCondition.CLOUDY);
+        describe(weather);
+        reissueForecast(weather, random);
+
+        long fullBytes = 0;
+        long deltaBytes = 0;
+        long deltaMessages = 0;
+        long start = System.nanoTime();
+        for (int tick = 1; tick <= updates; tick++) {
+            if (random.nextInt(4) != 0) { // One tick in four repeats the last reading
+                weather.setCurrentTemperatureCelsius(Math.round((weather.getCurrentTemperatureCelsius()
+                        + random.nextDouble(-0.3, 0.3)) * 10) / 10.0);
+            }
+            if (random.nextInt(5) == 0) {
+                weather.setHumidityPercent(Math.max(20, Math.min(100, weather.getHumidityPercent() + random.nextInt(-2, 3))));
+            }
+            if (random.nextInt(10) == 0) {
+                weather.setWindSpeedKph(Math.max(0, weather.getWindSpeedKph() + random.nextInt(-3, 4)));
+            }
+            if (random.nextInt(100) == 0) {
+                weather.setCurrentCondition(WeatherCondition.forNumber(1 + random.nextInt(5)));
+                describe(weather);
+            }
+            if (tick % forecastEvery == 0) {
+                reissueForecast(weather, random);
+            }
+
+            EventNotification notification = EventNotification.newBuilder()
+                    .setNotificationId("WEATHER-" + tick)
+                    .setTimestampUnixSeconds(1_700_000_000L + tick)
+                    .setEventType(EventType.WEATHER_UPDATE)
+                    .setWeatherUpdate(weather)
+                    .build();
+            ByteBuffer body = ByteBuffer.wrap(EncodedNotification.encodeBody(notification, tick));
+            WeatherDeltaEncoder deltas = new WeatherDeltaEncoder(notification, tick, body);
+
+            fullBytes += GRPC_FRAME_HEADER + new EncodedNotification(full.subscriberPrefix, body).serializedSize();
+            EncodedNotification written = deltas.notificationFor(delta, 0, false).resolve(); // What the queue would write
+            if (written != null) {
+                deltaBytes += GRPC_FRAME_HEADER + written.serializedSize();
+                deltaMessages++;
+            }
+        }
+        long nanos = System.nanoTime() - start;
+
+        System.out.printf("Full updates:  %d messages, %d bytes on the wire (%.1f per update)%n",
+                updates, fullBytes, (double) fullBytes / updates);
+        System.out.printf("Delta mode:    %d messages, %d bytes on the wire (%.1f per update), %d suppressed%n",
+                deltaMessages, deltaBytes, (double) deltaBytes / updates, updates - deltaMessages);
+        System.out.printf("Reduction:     %.1f%% fewer bytes; %.0f ns per update to encode both%n",
+                100.0 * (fullBytes - deltaBytes) / fullBytes, (double) nanos / updates);
+    }
+
+    private static SubscriptionInfo subscription(String id, boolean weatherDelta) {
+        return new SubscriptionInfo(id, SubscriptionRequest.newBuilder()
+                .setClientSubscriptionId(id)
+                .setEventType(EventType.WEATHER_UPDATE)
+                .setCriteria(SubscriptionCriteria.newBuilder().setTargetIdentifier("Kraków"))
+                .setWeatherDelta(weatherDelta)
+                .build(), null);
+    }
+
+    private static void describe(WeatherUpdate.Builder weather) {
+        weather.setDetailedDescription("Warunki dla " + weather.getCity() + ": " + weather.getCurrentCondition()
+                + ". Szczegółowy opis sytuacji synoptycznej, ostrzeżenia i zalecenia dla mieszkańców regionu.");
+    }
+
+    private static void reissueForecast(WeatherUpdate.Builder weather, SplittableRandom random) {
+        weather.clearForecast();
+        for (int day = 1; day <= 3; day++) {
+            weather.addForecast(DailyForecast.newBuilder()
+                    .setDayDescription("Dzień +" + day)
+                    .setMaxTemperatureCelsius(15 + random.nextInt(10))
+                    .setMinTemperatureCelsius(5 + random.nextInt(8))
+                    .setCondition(WeatherCondition.forNumber(1 + random.nextInt(5)))
+                    .setSummary("Prognoza na dzień " + day));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Publishes a burst of weather events through the partitioned dispatcher with an increasing number of
+ * dispatcher threads and reports throughput and speed-up relative to a single thread.
+ * Defaults follow the sizing target: 10k subscribers spread over 500 cities.
+ *
+ * Run: java sr.grpc.server.DispatcherScalingBenchmark [subscribers] [cities] [events]
+ */
+public class DispatcherScalingBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        int subscribers = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int cities = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        int events = args.length > 2 ? Integer.parseInt(args[2]) : 200_000;
+
+        Logger.getLogger(WeatherEventSubscriptionService.class.getName()).setLevel(Level.WARNING);
+
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int t = 1; t <= Runtime.getRuntime().availableProcessors(); t *= 2) {
+            threadCounts.add(t);
+        }
+        if (threadCounts.get(threadCounts.size() - 1) != Runtime.getRuntime().availableProcessors()) {
+            threadCounts.add(Runtime.getRuntime().availableProcessors());
+        }
+
+        System.out.println(subscribers + " subscribers, " + cities + " cities, " + events + " events");
+        System.out.printf("%8s %14s %16s %10s%n", "threads", "events/s", "deliveries/s", "speed-up");
+        run(1, subscribers, cities, events / 4); // Warm-up
+        double baseline = 0;
+        for (int threads : threadCounts) {
+            double eventsPerSecond = run(threads, subscribers, cities, events);
+            if (threads == 1) {
+                baseline = eventsPerSecond;
+            }
+            System.out.printf("%8d %14.0f %16.0f %9.2fx%n", threads, eventsPerSecond,
+                    eventsPerSecond * subscribers / cities, eventsPerSecond / baseline);
+        }
+    }
+
+    private static double run(int threads, int subscribers, int cities, int events) throws InterruptedException {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            WeatherEventSubscriptionService service = new WeatherEventSubscriptionService(scheduler,
+                    ServerOptions.builder().dispatcherThreads(threads).build());
+            List<NoopServerCallStreamObserver<EncodedNotification>> observers = new ArrayList<>();
+            for (int i = 0; i < subscribers; i++) {
+                NoopServerCallStreamObserver<EncodedNotification> observer = new NoopServerCallStreamObserver<>();
+                observers.add(observer);
+                service.subscribeEncoded(SubscriptionRequest.newBuilder()
+                        .setClientSubscriptionId("bench-" + i)
+                        .setEventType(EventType.WEATHER_UPDATE)
+                        .setCriteria(SubscriptionCriteria.newBuilder().setTargetIdentifier("City-" + (i % cities)))
+                        .build(), observer);
+            }
+
+            EventNotification[] notifications = new EventNotification[cities];
+            for (int c = 0; c < cities; c++) {
+                notifications[c] = EventNotification.newBuilder()
+                        .setNotificationId("WEATHER-BENCH-" + c)
+                        .setEventType(EventType.WEATHER_UPDATE)
+                        .setWeatherUpdate(WeatherUpdate.newBuilder()
+                                .setCity("City-" + c)
+                                .setCurrentTemperatureCelsius(18.0)
+                                .setCurrentCondition(WeatherCondition.CLOUDY)
+                                .setDetailedDescription("Benchmark update for City-" + c))
+                        .build();
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < events; i++) {
+                service.publish(notifications[i % cities]);
+            }
+            service.shutdownDispatcher(1, TimeUnit.MINUTES); // Returns once every published event is delivered
+            long elapsed = System.nanoTime() - start;
+
+            long delivered = 0;
+            for (NoopServerCallStreamObserver<EncodedNotification> observer : observers) {
+                delivered += observer.received - 1; // Minus the subscription confirmation
+            }
+            long expected = (long) events * subscribers / cities;
+            if (delivered != expected) {
+                System.out.println("  WARNING: delivered " + delivered + " notifications, expected " + expected);
+            }
+            return events / (elapsed / 1e9);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
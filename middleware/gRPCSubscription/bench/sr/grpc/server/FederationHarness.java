@@ -0,0 +1,370 @@
+package sr.grpc.server;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import sr.grpc.gen.event.*;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs an edge server against upstream servers on loopback ports in one JVM and checks the federation protocol.
+ * A scripted upstream records the edge's InterestUpdates and sends the batches it is told to: subscriptions
+ * made together are announced in one update, extra subscribers of a topic and changes undone within the flush
+ * window are not announced, withdrawals follow the last subscriber, a reopened call announces the whole
+ * interest again, and repeated sequences are dropped. A real upstream then serves the edge end to end: only the
+ * events of the topics the edge asked for are sent, and clients can neither take nor cancel the IDs of the
+ * upstream's federation subscriptions.
+ * <p>
+ * Prints one line per check and exits with status 1 if any failed.
+ *
+ * Run: java sr.grpc.server.FederationHarness [cities]
+ */
+public class FederationHarness {
+
+    private static final long WAIT_SECONDS = 10;
+    private static final long QUIET_MILLIS = UpstreamLink.INTEREST_FLUSH_MILLIS * 10; // Long enough for a flush to happen
+
+    private static int failures;
+
+    public static void main(String[] args) throws Exception {
+        int cities = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        Logger.getLogger("sr.grpc.server").setLevel(Level.SEVERE);
+        Logger.getLogger("io.grpc").setLevel(Level.SEVERE);
+
+        List<ManagedChannel> channels = new ArrayList<>();
+        List<WeatherEventSubscriptionServer> servers = new ArrayList<>();
+        Server scripted = null;
+        try {
+            // --- Scripted upstream ---
+            ScriptedUpstream upstream = new ScriptedUpstream();
+            int scriptedPort = freePort();
+            scripted = NettyServerBuilder.forPort(scriptedPort).addService(upstream).build().start();
+            WeatherEventSubscriptionServer edge = startEdge("localhost:" + scriptedPort, servers);
+            ManagedChannel toEdge = channel(edge.getPort(), channels);
+            UpstreamLink link = edge.service().upstream();
+
+            List<Collector> first = new ArrayList<>();
+            for (int i = 0; i < cities; i++) {
+                first.add(Collector.subscribe(toEdge, "first-" + i, "City-" + i));
+            }
+            awaitConfirmations(first);
+            InterestUpdate added = upstream.next();
+            int announced = added == null ? 0 : added.getAddedCount();
+            while (announced < cities && (added = upstream.next()) != null) {
+                announced += added.getAddedCount(); // A window may close while the subscriptions are still coming
+            }
+            check("subscriptions made together are announced together", announced == cities
+                    && upstream.updates.size() <= 2, upstream.updates.size() + " updates for " + announced + " cities");
+
+            List<Collector> second = new ArrayList<>();
+            for (int i = 0; i < cities; i++) {
+                second.add(Collector.subscribe(toEdge, "second-" + i, "City-" + i));
+            }
+            awaitConfirmations(second);
+            check("more subscribers of a topic are not announced", upstream.quiet(), upstream.updates.size() + " updates");
+
+            unsubscribe(toEdge, first.get(0));
+            check("a topic is kept while it has subscribers", upstream.quiet(), upstream.updates.size() + " updates");
+            unsubscribe(toEdge, second.get(0));
+            InterestUpdate withdrawn = upstream.next();
+            check("the last subscriber's topic is withdrawn", withdrawn != null && withdrawn.getAddedCount() == 0
+                    && withdrawn.getRemovedList().equals(List.of(interest("City-0"))),
+                    withdrawn == null ? "no update" : withdrawn.getRemovedCount() + " removed, " + withdrawn.getAddedCount() + " added");
+
+            Collector passing = Collector.subscribe(toEdge, "passing", "Passing-City");
+            passing.awaitConfirmation();
+            unsubscribe(toEdge, passing);
+            check("a topic added and removed within a window is not announced", upstream.quiet(),
+                    upstream.updates.size() + " updates");
+
+            // Sequences 1 2 2 3 1 4: the second 2 and the second 1 are repeats
+            Collector city1 = second.get(1);
+            long repeatsBefore = link.repeatCount();
+            upstream.send(1, 2, 2, 3, 1, 4);
+            check("repeated sequences are dropped", city1.await(4) && link.repeatCount() - repeatsBefore == 2,
+                    city1.received.size() + " received, " + (link.repeatCount() - repeatsBefore) + " repeats");
+
+            upstream.end();
+            InterestUpdate reannounced = upstream.next(); // Reconnected after the backoff
+            Set<FederationInterest> expected = new HashSet<>();
+            for (int i = 1; i < cities; i++) {
+                expected.add(interest("City-" + i));
+            }
+            check("a reopened call announces the whole interest", reannounced != null
+                            && new HashSet<>(reannounced.getAddedList()).equals(expected) && reannounced.getRemovedCount() == 0,
+                    reannounced == null ? "no update" : reannounced.getAddedCount() + " of " + expected.size() + " cities");
+            upstream.send(1); // Numbering starts over with the new call
+            check("a reopened call starts its own numbering", city1.await(5), city1.received.size() + " received");
+
+            // --- Real upstream ---
+            PublishingSource source = new PublishingSource();
+            WeatherEventSubscriptionServer origin = start(ServerOptions.builder().port(0).eventSource(source), servers);
+            WeatherEventSubscriptionServer realEdge = startEdge("localhost:" + origin.getPort(), servers);
+            ManagedChannel toRealEdge = channel(realEdge.getPort(), channels);
+            ManagedChannel toOrigin = channel(origin.getPort(), channels);
+            Collector wanted = Collector.subscribe(toRealEdge, "wanted", "City-0");
+            wanted.awaitConfirmation();
+            awaitCondition(() -> origin.service().activeSubscriptionCount() == 1);
+            for (int i = 0; i < cities; i++) {
+                for (int j = 0; j < cities; j++) {
+                    source.publish(update("City-" + j, i));
+                }
+            }
+            check("the edge's subscribers get their city's events", wanted.await(cities) && wanted.inOrder(cities),
+                    wanted.received.size() + " of " + cities);
+            check("events of topics the edge did not ask for are not sent",
+                    realEdge.service().upstream().receivedCount() == cities,
+                    realEdge.service().upstream().receivedCount() + " received for " + cities + " wanted");
+
+            String linkSubscription = FederationLink.SUBSCRIPTION_ID_PREFIX + "1/city-0"; // The first link of this JVM
+            Status taken = Collector.subscribe(toOrigin, linkSubscription, "City-0").awaitEnd();
+            check("clients cannot use a federation subscription ID", taken != null
+                    && taken.getCode() == Status.Code.INVALID_ARGUMENT, taken == null ? "accepted" : taken.getCode().toString());
+            boolean cancelled = unsubscribeById(toOrigin, linkSubscription);
+            source.publish(update("City-0", cities));
+            check("clients cannot cancel a federation subscription", !cancelled && wanted.await(cities + 1),
+                    "unsubscribe " + (cancelled ? "succeeded" : "refused") + ", " + wanted.received.size() + " received");
+        } finally {
+            for (ManagedChannel channel : channels) {
+                channel.shutdownNow();
+            }
+            for (WeatherEventSubscriptionServer server : servers) {
+                server.stop();
+            }
+            if (scripted != null) {
+                scripted.shutdownNow();
+            }
+        }
+        System.out.println(failures == 0 ? "All checks passed" : failures + " checks failed");
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    private static void check(String what, boolean passed, String detail) {
+        System.out.printf("%-60s %-4s %s%n", what, passed ? "ok" : "FAIL", detail);
+        if (!passed) {
+            failures++;
+        }
+    }
+
+    private static WeatherEventSubscriptionServer startEdge(String upstream, List<WeatherEventSubscriptionServer> servers)
+            throws IOException {
+        return start(ServerOptions.builder().port(0).federationUpstream(upstream), servers);
+    }
+
+    private static WeatherEventSubscriptionServer start(ServerOptions.Builder options,
+                                                        List<WeatherEventSubscriptionServer> servers) throws IOException {
+        WeatherEventSubscriptionServer server = new WeatherEventSubscriptionServer(options.dispatcherThreads(2).build());
+        server.start();
+        servers.add(server);
+        return server;
+    }
+
+    private static void awaitConfirmations(List<Collector> collectors) throws InterruptedException {
+        for (Collector collector : collectors) {
+            collector.awaitConfirmation();
+        }
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private static void unsubscribe(ManagedChannel channel, Collector collector) {
+        unsubscribeById(channel, collector.id);
+    }
+
+    private static boolean unsubscribeById(ManagedChannel channel, String id) {
+        return EventSubscriptionServiceGrpc.newBlockingStub(channel)
+                .withDeadlineAfter(WAIT_SECONDS, TimeUnit.SECONDS)
+                .unsubscribe(UnsubscriptionRequest.newBuilder().setClientSubscriptionId(id).build())
+                .getSuccess();
+    }
+
+    private static FederationInterest interest(String city) {
+        return FederationInterest.newBuilder()
+                .setEventType(EventType.WEATHER_UPDATE)
+                .setTarget(Topic.of(EventType.WEATHER_UPDATE, city).target())
+                .build();
+    }
+
+    // The index travels as the wind speed, so the subscriber can tell the order it was published in
+    private static EventNotification update(String city, int index) {
+        return EventNotification.newBuilder()
+                .setNotificationId("federation-" + city + "-" + index)
+                .setWeatherUpdate(WeatherUpdate.newBuilder()
+                        .setCity(city)
+                        .setWindSpeedKph(index)
+                        .setCurrentCondition(WeatherCondition.CLOUDY))
+                .build();
+    }
+
+    private static ManagedChannel channel(int port, List<ManagedChannel> channels) {
+        ManagedChannel channel = ManagedChannelBuilder.forAddress("localhost", port).usePlaintext().build();
+        channels.add(channel);
+        return channel;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    // An upstream that records what the edge asks for and sends City-1 updates with the sequences it is given
+    private static final class ScriptedUpstream extends FederationServiceGrpc.FederationServiceImplBase {
+        final List<InterestUpdate> updates = new CopyOnWriteArrayList<>();
+        private final BlockingQueue<InterestUpdate> unread = new LinkedBlockingQueue<>();
+        private volatile StreamObserver<EventNotificationBatch> edge;
+
+        @Override
+        public StreamObserver<InterestUpdate> federate(StreamObserver<EventNotificationBatch> responseObserver) {
+            edge = responseObserver;
+            return new StreamObserver<>() {
+                @Override
+                public void onNext(InterestUpdate update) {
+                    updates.add(update);
+                    unread.add(update);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+
+                @Override
+                public void onCompleted() {
+                }
+            };
+        }
+
+        // The next InterestUpdate, or null if none comes in time
+        InterestUpdate next() throws InterruptedException {
+            return unread.poll(WAIT_SECONDS, TimeUnit.SECONDS);
+        }
+
+        // Whether no InterestUpdate comes within a few flush windows
+        boolean quiet() throws InterruptedException {
+            return unread.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS) == null;
+        }
+
+        void send(long... sequences) {
+            EventNotificationBatch.Builder batch = EventNotificationBatch.newBuilder();
+            for (long sequence : sequences) {
+                batch.addNotifications(update("City-1", (int) sequence).toBuilder().setSequence(sequence));
+            }
+            edge.onNext(batch.build());
+        }
+
+        void end() {
+            edge.onCompleted();
+        }
+    }
+
+    private static final class PublishingSource implements EventSource {
+        private volatile Consumer<EventNotification> sink;
+
+        @Override
+        public void start(Consumer<EventNotification> sink) {
+            this.sink = sink;
+        }
+
+        void publish(EventNotification notification) {
+            sink.accept(notification);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    // The weather updates of one Subscribe call, and how it ended
+    private static final class Collector implements StreamObserver<EventNotification> {
+        final String id;
+        final List<EventNotification> received = new CopyOnWriteArrayList<>();
+        private final CountDownLatch confirmed = new CountDownLatch(1);
+        private final CountDownLatch ended = new CountDownLatch(1);
+        private volatile Status status; // Null while the call is open
+
+        private Collector(String id) {
+            this.id = id;
+        }
+
+        static Collector subscribe(ManagedChannel channel, String id, String city) {
+            Collector collector = new Collector(id);
+            EventSubscriptionServiceGrpc.newStub(channel).subscribe(SubscriptionRequest.newBuilder()
+                    .setClientSubscriptionId(id)
+                    .setEventType(EventType.WEATHER_UPDATE)
+                    .setCriteria(SubscriptionCriteria.newBuilder().setTargetIdentifier(city))
+                    .build(), collector);
+            return collector;
+        }
+
+        @Override
+        public void onNext(EventNotification notification) {
+            if (notification.hasWeatherUpdate()) {
+                received.add(notification);
+            } else {
+                confirmed.countDown();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            status = Status.fromThrowable(t);
+            confirmed.countDown();
+            ended.countDown();
+        }
+
+        @Override
+        public void onCompleted() {
+            status = Status.OK;
+            confirmed.countDown();
+            ended.countDown();
+        }
+
+        void awaitConfirmation() throws InterruptedException {
+            confirmed.await(WAIT_SECONDS, TimeUnit.SECONDS);
+        }
+
+        Status awaitEnd() throws InterruptedException {
+            ended.await(WAIT_SECONDS, TimeUnit.SECONDS);
+            return status;
+        }
+
+        // Whether exactly count updates arrive
+        boolean await(int count) throws InterruptedException {
+            awaitCondition(() -> received.size() >= count);
+            Thread.sleep(QUIET_MILLIS); // Nothing more should follow
+            return received.size() == count;
+        }
+
+        boolean inOrder(int count) {
+            for (int i = 0; i < count; i++) {
+                if (received.get(i).getWeatherUpdate().getWindSpeedKph() != i) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
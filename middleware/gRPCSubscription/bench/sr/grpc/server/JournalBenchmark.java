@@ -0,0 +1,76 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Appends weather notifications for a number of cities to an {@link EventJournal} in a temporary directory,
+ * then replays one city from the start through a cursor, the way a resuming subscription is replayed.
+ * Reports append and replay rates and how many segments the journal rolled over to.
+ *
+ * Run: java sr.grpc.server.JournalBenchmark [events] [cities] [segmentMiB]
+ */
+public class JournalBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int events = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int cities = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int segmentBytes = (args.length > 2 ? Integer.parseInt(args[2]) : 64) * 1024 * 1024;
+
+        Topic[] topics = new Topic[cities];
+        ByteBuffer[] bodies = new ByteBuffer[cities];
+        for (int c = 0; c < cities; c++) {
+            String city = "Miasto-" + c;
+            topics[c] = Topic.of(EventType.WEATHER_UPDATE, city);
+            bodies[c] = ByteBuffer.wrap(EncodedNotification.encodeBody(EventNotification.newBuilder()
+                    .setNotificationId("WEATHER-" + c)
+                    .setEventType(EventType.WEATHER_UPDATE)
+                    .setTimestampUnixSeconds(1_700_000_000L)
+                    .setWeatherUpdate(WeatherUpdate.newBuilder()
+                            .setCity(city)
+                            .setCurrentTemperatureCelsius(21.5f)
+                            .setCurrentCondition(WeatherCondition.SUNNY)
+                            .setWindSpeedKph(12))
+                    .build(), 1));
+        }
+
+        Path directory = Files.createTempDirectory("journal-bench");
+        try {
+            EventJournal journal = new EventJournal(directory, segmentBytes, Long.MAX_VALUE, Long.MAX_VALUE);
+            long[] sequences = new long[cities];
+            long start = System.nanoTime();
+            for (int i = 0; i < events; i++) {
+                int c = i % cities;
+                journal.append(topics[c], ++sequences[c], bodies[c]);
+            }
+            long appendNanos = System.nanoTime() - start;
+            System.out.printf("Append: %d events (%d bytes each) in %.1f ms, %.0f events/s, %d segments%n",
+                    events, bodies[0].remaining(), appendNanos / 1e6, events / (appendNanos / 1e9), journal.segmentCount());
+
+            for (int round = 0; round < 3; round++) {
+                EventJournal.Cursor cursor = journal.read(topics[0], 0);
+                long replayed = 0;
+                long bytes = 0;
+                start = System.nanoTime();
+                for (ByteBuffer body = cursor.next(); body != null; body = cursor.next()) {
+                    replayed++;
+                    bytes += body.remaining();
+                }
+                long replayNanos = System.nanoTime() - start;
+                System.out.printf("Replay of one city (round %d): %d events, %d bytes in %.1f ms, %.0f events/s%n",
+                        round, replayed, bytes, replayNanos / 1e6, replayed / (replayNanos / 1e9));
+            }
+            journal.close();
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+}
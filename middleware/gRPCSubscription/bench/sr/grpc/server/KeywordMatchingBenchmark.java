@@ -0,0 +1,119 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Matches synthetic news articles against keyword subscriptions with {@link KeywordIndex} and, for comparison,
+ * with a naive scan that checks every subscription's keywords against every article. Also reports how long the
+ * automaton takes to rebuild after a new keyword appears.
+ *
+ * Run: java sr.grpc.server.KeywordMatchingBenchmark [subscriptions] [vocabulary] [articles]
+ */
+public class KeywordMatchingBenchmark {
+
+    public static void main(String[] args) {
+        int subscriptions = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int vocabulary = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+        int articles = args.length > 2 ? Integer.parseInt(args[2]) : 20_000;
+
+        SplittableRandom random = new SplittableRandom(42);
+        String[] words = new String[vocabulary];
+        for (int i = 0; i < vocabulary; i++) {
+            words[i] = "słowo" + Integer.toString(i, 36);
+        }
+
+        KeywordIndex index = new KeywordIndex();
+        List<SubscriptionInfo> all = new ArrayList<>();
+        for (int i = 0; i < subscriptions; i++) {
+            SubscriptionCriteria.Builder criteria = SubscriptionCriteria.newBuilder();
+            for (int k = 0; k < 3; k++) {
+                criteria.addKeywords(words[random.nextInt(vocabulary)]);
+            }
+            SubscriptionInfo subInfo = new SubscriptionInfo("news-" + i, SubscriptionRequest.newBuilder()
+                    .setClientSubscriptionId("news-" + i)
+                    .setEventType(EventType.NEWS_FLASH)
+                    .setCriteria(criteria)
+                    .build(), null);
+            index.add(subInfo);
+            all.add(subInfo);
+        }
+
+        NewsFlash[] feed = new NewsFlash[1000];
+        for (int a = 0; a < feed.length; a++) {
+            StringBuilder summary = new StringBuilder();
+            for (int w = 0; w < 60; w++) {
+                summary.append(words[random.nextInt(vocabulary)]).append(w % 12 == 11 ? ". " : " ");
+            }
+            feed[a] = NewsFlash.newBuilder()
+                    .setHeadline("Wiadomość " + a + " " + words[random.nextInt(vocabulary)])
+                    .setSummary(summary.toString())
+                    .addRelatedKeywords(words[random.nextInt(vocabulary)])
+                    .build();
+        }
+
+        long start = System.nanoTime();
+        index.match(feed[0]); // First match builds the automaton
+        System.out.printf("%d subscriptions, %d distinct keywords: automaton built in %.1f ms%n",
+                subscriptions, index.keywordCount(), (System.nanoTime() - start) / 1e6);
+
+        long matches = 0;
+        for (int warmUp = 0; warmUp < 2; warmUp++) {
+            matches = 0;
+            start = System.nanoTime();
+            for (int a = 0; a < articles; a++) {
+                matches += index.match(feed[a % feed.length]).size();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("automaton: %10.0f articles/s, %.1f matching subscriptions per article%n",
+                articles / seconds, (double) matches / articles);
+
+        int naiveArticles = Math.max(1, articles / 100);
+        long naiveMatches = 0;
+        start = System.nanoTime();
+        for (int a = 0; a < naiveArticles; a++) {
+            naiveMatches += naiveMatch(all, feed[a % feed.length]).size();
+        }
+        seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("naive:     %10.0f articles/s, %.1f matching subscriptions per article%n",
+                naiveArticles / seconds, (double) naiveMatches / naiveArticles);
+
+        // A subscription with a new keyword makes the next match rebuild the automaton
+        index.add(new SubscriptionInfo("news-new", SubscriptionRequest.newBuilder()
+                .setClientSubscriptionId("news-new")
+                .setEventType(EventType.NEWS_FLASH)
+                .setCriteria(SubscriptionCriteria.newBuilder().addKeywords("zupełnie-nowe"))
+                .build(), null));
+        start = System.nanoTime();
+        index.match(feed[0]);
+        System.out.printf("rebuild after a new keyword: %.1f ms (%d rebuilds in total)%n",
+                (System.nanoTime() - start) / 1e6, index.rebuildCount());
+    }
+
+    // Every keyword of every subscription searched in the article text, as a whole word
+    private static Set<SubscriptionInfo> naiveMatch(List<SubscriptionInfo> subscriptions, NewsFlash newsFlash) {
+        String text = KeywordIndex.searchText(newsFlash);
+        Set<SubscriptionInfo> matched = new HashSet<>();
+        for (SubscriptionInfo subInfo : subscriptions) {
+            for (String keyword : KeywordIndex.keywordsOf(subInfo)) {
+                int at = text.indexOf(keyword);
+                while (at >= 0) {
+                    int end = at + keyword.length();
+                    if ((at == 0 || !Character.isLetterOrDigit(text.charAt(at - 1)))
+                            && (end == text.length() || !Character.isLetterOrDigit(text.charAt(end)))) {
+                        matched.add(subInfo);
+                        break;
+                    }
+                    at = text.indexOf(keyword, at + 1);
+                }
+            }
+        }
+        return matched;
+    }
+}
@@ -0,0 +1,480 @@
+package sr.grpc.server;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import sr.grpc.gen.event.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Loopback end-to-end load test. Starts a {@link WeatherEventSubscriptionServer} in a child JVM, so that the
+ * CPU time and heap it reports are its own, opens {@code clients} channels to it with
+ * {@code subscriptionsPerClient} Subscribe calls each, spread over {@code cities} cities by a Zipf distribution
+ * ({@code citySkew} 0 is uniform), then has the server publish {@code eventsPerSecond} weather events for
+ * {@code seconds}, round-robin over the cities.
+ * <p>
+ * Every event carries the wall-clock time it was published at in {@code timestamp_unix_nanos}, so the clients
+ * measure the delivery latency from publish to receipt; server and clients share the machine's clock. Loss is the number of deliveries the
+ * subscriptions per city call for, minus what arrived once the streams have drained. CPU time, heap, GC, drops
+ * and the server's own fan-out latency come from EventStatsService. The results are printed and written as JSON,
+ * so runs of different builds can be compared.
+ *
+ * Run: java sr.grpc.server.LoadGenerator [clients] [subscriptionsPerClient] [cities] [eventsPerSecond] [seconds] [citySkew] [report.json]
+ */
+public class LoadGenerator {
+
+    // Held so that the levels set on them are not lost with a collected logger
+    private static final Logger SERVER_LOGGER = Logger.getLogger("sr.grpc.server");
+    private static final Logger GRPC_LOGGER = Logger.getLogger("io.grpc");
+
+    private static final long DRAIN_IDLE_NANOS = TimeUnit.SECONDS.toNanos(3); // Streams count as drained after this
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("server")) {
+            runServer(Integer.parseInt(args[1]), Integer.parseInt(args[2]), Integer.parseInt(args[3]));
+            return;
+        }
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        int subscriptionsPerClient = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int cities = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        int eventsPerSecond = args.length > 3 ? Integer.parseInt(args[3]) : 1_000;
+        int seconds = args.length > 4 ? Integer.parseInt(args[4]) : 20;
+        double citySkew = args.length > 5 ? Double.parseDouble(args[5]) : 1.0;
+        Path reportFile = Paths.get(args.length > 6 ? args[6] : "load-report.json");
+
+        SERVER_LOGGER.setLevel(Level.WARNING);
+        GRPC_LOGGER.setLevel(Level.WARNING);
+        new LoadGenerator(clients, subscriptionsPerClient, cities, eventsPerSecond, seconds, citySkew).run(reportFile);
+    }
+
+    private final int clients;
+    private final int subscriptionsPerClient;
+    private final int cities;
+    private final int eventsPerSecond;
+    private final int seconds;
+    private final double citySkew;
+
+    private final int[] subscribersPerCity;
+    private final AtomicHistogram latency = new AtomicHistogram();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder streamErrors = new LongAdder();
+
+    private LoadGenerator(int clients, int subscriptionsPerClient, int cities, int eventsPerSecond, int seconds,
+                          double citySkew) {
+        this.clients = clients;
+        this.subscriptionsPerClient = subscriptionsPerClient;
+        this.cities = cities;
+        this.eventsPerSecond = eventsPerSecond;
+        this.seconds = seconds;
+        this.citySkew = citySkew;
+        this.subscribersPerCity = new int[cities];
+    }
+
+    private void run(Path reportFile) throws Exception {
+        Process server = new ProcessBuilder(Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"), LoadGenerator.class.getName(), "server",
+                String.valueOf(cities), String.valueOf(eventsPerSecond), String.valueOf(seconds))
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        BufferedReader serverOut = new BufferedReader(new InputStreamReader(server.getInputStream(), StandardCharsets.UTF_8));
+        PrintWriter serverIn = new PrintWriter(server.getOutputStream(), true, StandardCharsets.UTF_8);
+        List<ManagedChannel> channels = new ArrayList<>();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            int port = Integer.parseInt(expect(serverOut, "READY"));
+            EventStatsServiceGrpc.EventStatsServiceBlockingStub stats = null;
+
+            // Open every subscription and wait for all confirmations before any event is published
+            CountDownLatch subscribed = new CountDownLatch(clients * subscriptionsPerClient);
+            SplittableRandom random = new SplittableRandom(42);
+            double[] cityCdf = zipfCdf(cities, citySkew);
+            long start = System.nanoTime();
+            for (int c = 0; c < clients; c++) {
+                ManagedChannel channel = ManagedChannelBuilder.forAddress("localhost", port).usePlaintext().build();
+                channels.add(channel);
+                EventSubscriptionServiceGrpc.EventSubscriptionServiceStub stub = EventSubscriptionServiceGrpc.newStub(channel);
+                for (int s = 0; s < subscriptionsPerClient; s++) {
+                    int city = pick(cityCdf, random.nextDouble());
+                    subscribersPerCity[city]++;
+                    stub.subscribe(SubscriptionRequest.newBuilder()
+                            .setClientSubscriptionId("load-" + c + "-" + s)
+                            .setEventType(EventType.WEATHER_UPDATE)
+                            .setCriteria(SubscriptionCriteria.newBuilder().setTargetIdentifier(cityName(city)))
+                            .build(), new LoadObserver(subscribed));
+                }
+                if (stats == null) {
+                    stats = EventStatsServiceGrpc.newBlockingStub(channel);
+                }
+            }
+            if (!subscribed.await(60, TimeUnit.SECONDS)) {
+                throw new IllegalStateException(subscribed.getCount() + " subscriptions were not confirmed in time");
+            }
+            System.out.printf("%d subscriptions over %d channels opened in %.1f s%n", clients * subscriptionsPerClient,
+                    clients, (System.nanoTime() - start) / 1e9);
+
+            // Publish, sampling the server's heap meanwhile, then wait for the streams to drain
+            EventStatsServiceGrpc.EventStatsServiceBlockingStub statsStub = stats;
+            ServerStats before = statsStub.getStats(StatsRequest.getDefaultInstance());
+            AtomicLong peakHeap = new AtomicLong(before.getProcess().getHeapUsedBytes());
+            sampler.scheduleAtFixedRate(() -> {
+                long heap = statsStub.getStats(StatsRequest.newBuilder().setSlowestSubscribers(1).build())
+                        .getProcess().getHeapUsedBytes();
+                peakHeap.accumulateAndGet(heap, Math::max);
+            }, 1, 1, TimeUnit.SECONDS);
+            long wallStart = System.nanoTime();
+            serverIn.println("START");
+            String[] done = expect(serverOut, "DONE").split(" ");
+            long published = Long.parseLong(done[0]);
+            double publishSeconds = Long.parseLong(done[1]) / 1e9;
+            long expected = expectedDeliveries(published);
+            awaitDrain(expected);
+            long wallNanos = System.nanoTime() - wallStart;
+            sampler.shutdownNow();
+            ServerStats after = statsStub.getStats(StatsRequest.newBuilder().setSlowestSubscribers(5).build());
+            peakHeap.accumulateAndGet(after.getProcess().getHeapUsedBytes(), Math::max);
+
+            String report = report(published, publishSeconds, expected, wallNanos, before, after, peakHeap.get());
+            Files.writeString(reportFile, report);
+            System.out.println(report);
+            System.out.println("Report written to " + reportFile.toAbsolutePath());
+        } finally {
+            sampler.shutdownNow();
+            channels.forEach(ManagedChannel::shutdownNow);
+            serverIn.println("STOP");
+            if (!server.waitFor(15, TimeUnit.SECONDS)) {
+                server.destroyForcibly();
+            }
+        }
+    }
+
+    // Waits until every expected notification has arrived, or nothing has for DRAIN_IDLE_NANOS
+    private void awaitDrain(long expected) throws InterruptedException {
+        long last = received.sum();
+        long lastProgress = System.nanoTime();
+        while (last < expected && System.nanoTime() - lastProgress < DRAIN_IDLE_NANOS) {
+            TimeUnit.MILLISECONDS.sleep(50);
+            long now = received.sum();
+            if (now != last) {
+                last = now;
+                lastProgress = System.nanoTime();
+            }
+        }
+    }
+
+    // Event i goes to city i % cities
+    private long expectedDeliveries(long published) {
+        long perRound = 0;
+        long partial = 0;
+        for (int city = 0; city < cities; city++) {
+            perRound += subscribersPerCity[city];
+            if (city < published % cities) {
+                partial += subscribersPerCity[city];
+            }
+        }
+        return published / cities * perRound + partial;
+    }
+
+    private String report(long published, double publishSeconds, long expected, long wallNanos,
+                          ServerStats before, ServerStats after, long peakHeap) {
+        long receivedCount = received.sum();
+        long lost = Math.max(0, expected - receivedCount);
+        ProcessStats startProcess = before.getProcess();
+        ProcessStats endProcess = after.getProcess();
+        double cpuSeconds = (endProcess.getCpuTimeNanos() - startProcess.getCpuTimeNanos()) / 1e9;
+        double wallSeconds = wallNanos / 1e9;
+        LatencyHistogram clientLatency = latency.snapshot();
+        LatencyHistogram serverFanOut = after.getFanOutLatency();
+
+        Json json = new Json();
+        json.begin(null);
+        json.field("timestamp", Instant.now().toString());
+        json.field("javaVersion", System.getProperty("java.version"));
+        json.begin("config");
+        json.field("clients", clients);
+        json.field("subscriptionsPerClient", subscriptionsPerClient);
+        json.field("cities", cities);
+        json.field("citySkew", citySkew);
+        json.field("targetEventsPerSecond", eventsPerSecond);
+        json.field("seconds", seconds);
+        json.field("serverProcessors", endProcess.getAvailableProcessors());
+        json.end();
+        json.begin("events");
+        json.field("published", published);
+        json.field("publishedPerSecond", published / publishSeconds);
+        json.field("expectedDeliveries", expected);
+        json.field("received", receivedCount);
+        json.field("lost", lost);
+        json.field("lossRatio", expected == 0 ? 0 : (double) lost / expected);
+        json.field("receivedPerSecond", receivedCount / wallSeconds);
+        json.field("streamErrors", streamErrors.sum());
+        json.end();
+        latency(json, "deliveryLatencyMicros", clientLatency);
+        latency(json, "serverFanOutLatencyMicros", serverFanOut);
+        json.begin("server");
+        json.field("cpuSeconds", cpuSeconds);
+        json.field("cpuCoresUsed", cpuSeconds / wallSeconds);
+        json.field("heapUsedPeakBytes", peakHeap);
+        json.field("heapUsedEndBytes", endProcess.getHeapUsedBytes());
+        json.field("heapMaxBytes", endProcess.getHeapMaxBytes());
+        json.field("gcCount", endProcess.getGcCount() - startProcess.getGcCount());
+        json.field("gcTimeMillis", endProcess.getGcTimeMillis() - startProcess.getGcTimeMillis());
+        json.field("threads", endProcess.getThreadCount());
+        json.field("notificationsDropped", after.getNotificationsDropped().getTotal() - before.getNotificationsDropped().getTotal());
+        json.end();
+        json.end();
+        return json.toString();
+    }
+
+    private static void latency(Json json, String name, LatencyHistogram histogram) {
+        json.begin(name);
+        json.field("count", histogram.getCount());
+        json.field("mean", histogram.getMeanMicros());
+        json.field("p50", histogram.getP50Micros());
+        json.field("p90", histogram.getP90Micros());
+        json.field("p99", histogram.getP99Micros());
+        json.field("p999", histogram.getP999Micros());
+        json.field("max", histogram.getMaxMicros());
+        json.end();
+    }
+
+    private static String expect(BufferedReader serverOut, String keyword) throws IOException {
+        String line;
+        while ((line = serverOut.readLine()) != null) {
+            if (line.startsWith(keyword + " ")) {
+                return line.substring(keyword.length() + 1);
+            }
+        }
+        throw new IOException("Server process exited before reporting " + keyword);
+    }
+
+    // Cumulative probabilities of the cities' ranks: rank r is followed with weight 1 / (r + 1)^skew
+    private static double[] zipfCdf(int cities, double skew) {
+        double[] cdf = new double[cities];
+        double total = 0;
+        for (int rank = 0; rank < cities; rank++) {
+            total += 1 / Math.pow(rank + 1, skew);
+            cdf[rank] = total;
+        }
+        for (int rank = 0; rank < cities; rank++) {
+            cdf[rank] /= total;
+        }
+        return cdf;
+    }
+
+    private static int pick(double[] cdf, double u) {
+        int low = 0;
+        int high = cdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cdf[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String cityName(int city) {
+        return "City-" + city;
+    }
+
+    // Counts the confirmation of its subscription down, then records the latency of every event notification
+    private final class LoadObserver implements StreamObserver<EventNotification> {
+        private final CountDownLatch subscribed;
+        private boolean confirmed; // Called by one transport thread at a time
+
+        LoadObserver(CountDownLatch subscribed) {
+            this.subscribed = subscribed;
+        }
+
+        @Override
+        public void onNext(EventNotification notification) {
+            if (notification.getSequence() > 0) { // Confirmations have none
+                latency.record(EventClock.epochNanos() - notification.getTimestampUnixNanos());
+                received.increment();
+            } else if (!confirmed) {
+                confirmed = true;
+                subscribed.countDown();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            streamErrors.increment();
+            if (!confirmed) {
+                confirmed = true;
+                subscribed.countDown();
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+    }
+
+    // --- Server side, in the child JVM ---
+
+    // Publishes paced events once told to START on stdin, reports DONE on stdout and exits on STOP or end of input
+    private static void runServer(int cities, int eventsPerSecond, int seconds) throws Exception {
+        SERVER_LOGGER.setLevel(Level.WARNING);
+        PacedEventSource source = new PacedEventSource(cities, eventsPerSecond, seconds);
+        WeatherEventSubscriptionServer server = new WeatherEventSubscriptionServer(ServerOptions.builder()
+                .port(0)
+                .eventSource(source)
+                .build());
+        server.start();
+        System.out.println("READY " + server.getPort());
+        BufferedReader commands = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        String command;
+        while ((command = commands.readLine()) != null && !command.equals("STOP")) {
+            if (command.equals("START")) {
+                source.begin();
+            }
+        }
+        System.exit(0); // The server's shutdown hook stops it
+    }
+
+    /**
+     * Publishes {@code eventsPerSecond} weather events for {@code seconds} on a thread of its own, round-robin over
+     * the cities. Events are paced against their scheduled
+     * times, so a publisher held up by a saturated dispatcher catches up instead of drifting.
+     */
+    private static final class PacedEventSource implements EventSource {
+        private final int cities;
+        private final int eventsPerSecond;
+        private final int seconds;
+        private final NotificationIds ids = new NotificationIds("LOAD");
+        private volatile java.util.function.Consumer<EventNotification> sink;
+        private volatile boolean closed;
+
+        PacedEventSource(int cities, int eventsPerSecond, int seconds) {
+            this.cities = cities;
+            this.eventsPerSecond = eventsPerSecond;
+            this.seconds = seconds;
+        }
+
+        @Override
+        public void start(java.util.function.Consumer<EventNotification> sink) {
+            this.sink = sink; // Publishing waits for begin(), once the subscriptions are open
+        }
+
+        void begin() {
+            Thread publisher = new Thread(this::publish, "load-publisher");
+            publisher.setDaemon(true);
+            publisher.start();
+        }
+
+        private void publish() {
+            long total = (long) eventsPerSecond * seconds;
+            long intervalNanos = 1_000_000_000L / eventsPerSecond;
+            WeatherUpdate.Builder weather = WeatherUpdate.newBuilder()
+                    .setHumidityPercent(55)
+                    .setWindSpeedKph(12)
+                    .setCurrentCondition(WeatherCondition.CLOUDY)
+                    .setDetailedDescription("Zachmurzenie umiarkowane, możliwe przelotne opady deszczu wieczorem.");
+            long start = System.nanoTime();
+            long published = 0;
+            for (; published < total && !closed; published++) {
+                long delay = start + published * intervalNanos - System.nanoTime();
+                if (delay > 0) {
+                    LockSupport.parkNanos(delay);
+                }
+                long publishedAt = EventClock.epochNanos();
+                sink.accept(EventNotification.newBuilder()
+                        .setNotificationId(ids.next())
+                        .setTimestampUnixSeconds(EventClock.toEpochSeconds(publishedAt))
+                        .setTimestampUnixNanos(publishedAt)
+                        .setEventType(EventType.WEATHER_UPDATE)
+                        .setWeatherUpdate(weather
+                                .setCity(cityName((int) (published % cities)))
+                                .setCurrentTemperatureCelsius(15 + published % 100 / 10.0))
+                        .build());
+            }
+            System.out.println("DONE " + published + " " + (System.nanoTime() - start));
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "paced load of %d events/s over %d cities for %d s", eventsPerSecond, cities, seconds);
+        }
+    }
+
+    // Just enough of a JSON writer for the flat report: nested objects of string and number fields
+    private static final class Json {
+        private final StringBuilder out = new StringBuilder();
+        private int depth;
+        private boolean first = true;
+
+        void begin(String name) {
+            separate();
+            if (name != null) {
+                out.append('"').append(name).append("\": ");
+            }
+            out.append('{');
+            depth++;
+            first = true;
+        }
+
+        void end() {
+            depth--;
+            out.append('\n').append("  ".repeat(depth)).append('}');
+            first = false;
+        }
+
+        void field(String name, String value) {
+            separate();
+            out.append('"').append(name).append("\": \"").append(value.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+        }
+
+        void field(String name, long value) {
+            separate();
+            out.append('"').append(name).append("\": ").append(value);
+        }
+
+        void field(String name, double value) {
+            separate();
+            out.append('"').append(name).append("\": ")
+                    .append(Double.isFinite(value) ? String.format(Locale.ROOT, "%.3f", value) : "null");
+        }
+
+        private void separate() {
+            if (depth > 0) {
+                out.append(first ? "\n" : ",\n").append("  ".repeat(depth));
+            }
+            first = false;
+        }
+
+        @Override
+        public String toString() {
+            return out.toString();
+        }
+    }
+}
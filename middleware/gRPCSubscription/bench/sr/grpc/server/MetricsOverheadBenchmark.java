@@ -0,0 +1,60 @@
+package sr.grpc.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what the always-on dispatch metrics cost per notification: a {@link DispatchMetrics#notificationSent}
+ * call (one adder, one histogram bucket, one clock read) from several threads at once, as the draining threads
+ * of many outbound queues would make it. The same loop without the metrics call is the baseline.
+ *
+ * Run: java sr.grpc.server.MetricsOverheadBenchmark [notificationsPerThread] [threads]
+ */
+public class MetricsOverheadBenchmark {
+
+    private static volatile long sink; // Keeps the baseline loop from being optimized away
+
+    public static void main(String[] args) throws InterruptedException {
+        int perThread = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        for (int round = 0; round < 3; round++) { // The first rounds warm the JIT up
+            double baseline = run(null, perThread, threads);
+            DispatchMetrics metrics = new DispatchMetrics(TimeUnit.MILLISECONDS.toNanos(50));
+            double recorded = run(metrics, perThread, threads);
+            System.out.printf("Round %d, %d threads: baseline %.1f ns, with metrics %.1f ns per notification"
+                            + " (+%.1f ns); p99 of recorded values %.3f us%n",
+                    round, threads, baseline, recorded, recorded - baseline,
+                    metrics.fanOutLatency().snapshot().getP99Micros());
+        }
+    }
+
+    // Nanoseconds of wall time per notification, over all threads
+    private static double run(DispatchMetrics metrics, int perThread, int threads) throws InterruptedException {
+        List<Thread> workers = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                long published = System.nanoTime();
+                long local = 0;
+                for (int i = 0; i < perThread; i++) {
+                    long now = System.nanoTime();
+                    if (metrics != null) {
+                        metrics.notificationSent(published, now);
+                    } else {
+                        local += now - published;
+                    }
+                    published = now;
+                }
+                sink = local;
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return (double) (System.nanoTime() - start) / ((long) perThread * threads);
+    }
+}
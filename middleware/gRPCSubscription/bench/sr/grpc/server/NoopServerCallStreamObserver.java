@@ -0,0 +1,59 @@
+package sr.grpc.server;
+
+import io.grpc.stub.ServerCallStreamObserver;
+
+/**
+ * Server-side observer that accepts and discards everything, used to drive the service in benchmarks
+ * without any transport underneath.
+ */
+class NoopServerCallStreamObserver<T> extends ServerCallStreamObserver<T> {
+
+    long received; // Number of messages passed to onNext, read after a run to check the fan-out
+
+    @Override
+    public boolean isCancelled() {
+        return false;
+    }
+
+    @Override
+    public void setOnCancelHandler(Runnable onCancelHandler) {
+    }
+
+    @Override
+    public void setCompression(String compression) {
+    }
+
+    @Override
+    public boolean isReady() {
+        return true;
+    }
+
+    @Override
+    public void setOnReadyHandler(Runnable onReadyHandler) {
+    }
+
+    @Override
+    public void request(int count) {
+    }
+
+    @Override
+    public void setMessageCompression(boolean enable) {
+    }
+
+    @Override
+    public void disableAutoInboundFlowControl() {
+    }
+
+    @Override
+    public void onNext(T value) {
+        received++;
+    }
+
+    @Override
+    public void onError(Throwable t) {
+    }
+
+    @Override
+    public void onCompleted() {
+    }
+}
@@ -0,0 +1,163 @@
+package sr.grpc.server;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import sr.grpc.gen.event.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Measures how long a storm warning takes to reach subscribers that are behind. Every subscriber's stream only
+ * takes {@code sendRate} messages per second, as a slow link would, while one city's updates are published faster
+ * than that, so each outbound queue holds a backlog up to its capacity. Every 100th update is a marked one, whose
+ * latency from publishing to onNext is recorded apart from the routine ones.
+ * <p>
+ * The marked updates are STORMY in one run, which makes them HIGH priority, and SNOWY in the other, which leaves
+ * them routine; the difference is what the priority lanes save.
+ *
+ * Run: java sr.grpc.server.PriorityBenchmark [subscribers] [publishRate] [sendRate] [seconds]
+ */
+public class PriorityBenchmark {
+
+    private static final String CITY = "City-0";
+    private static final int QUEUE_CAPACITY = 1024;
+
+    public static void main(String[] args) throws InterruptedException {
+        int subscribers = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        int publishRate = args.length > 1 ? Integer.parseInt(args[1]) : 3_000;
+        int sendRate = args.length > 2 ? Integer.parseInt(args[2]) : 2_000;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+
+        Logger.getLogger(WeatherEventSubscriptionService.class.getName()).setLevel(Level.WARNING);
+        System.out.println(subscribers + " subscribers taking " + sendRate + " messages/s each, " + publishRate
+                + " updates/s published for " + seconds + " s, outbound queues of " + QUEUE_CAPACITY);
+        run(WeatherCondition.STORMY, subscribers, publishRate, sendRate, 1); // Warm-up
+        for (WeatherCondition marked : new WeatherCondition[]{WeatherCondition.SNOWY, WeatherCondition.STORMY}) {
+            run(marked, subscribers, publishRate, sendRate, seconds);
+        }
+    }
+
+    private static void run(WeatherCondition markedCondition, int subscribers, int publishRate, int sendRate,
+                            int seconds) throws InterruptedException {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        try {
+            WeatherEventSubscriptionService service = new WeatherEventSubscriptionService(scheduler,
+                    ServerOptions.builder().dispatcherThreads(1).outboundQueueCapacity(QUEUE_CAPACITY).build());
+            AtomicHistogram routine = new AtomicHistogram();
+            AtomicHistogram marked = new AtomicHistogram();
+            List<SlowLinkObserver> observers = new ArrayList<>();
+            for (int i = 0; i < subscribers; i++) {
+                SlowLinkObserver observer = new SlowLinkObserver(markedCondition, routine, marked);
+                observers.add(observer);
+                service.subscribeEncoded(SubscriptionRequest.newBuilder()
+                        .setClientSubscriptionId("bench-" + i)
+                        .setEventType(EventType.WEATHER_UPDATE)
+                        .setCriteria(SubscriptionCriteria.newBuilder().setTargetIdentifier(CITY))
+                        .build(), observer);
+            }
+            // Each link takes a share of its rate every millisecond
+            int perTick = Math.max(1, sendRate / 1000);
+            ScheduledFuture<?> link = scheduler.scheduleAtFixedRate(() -> {
+                for (SlowLinkObserver observer : observers) {
+                    observer.grant(perTick);
+                }
+            }, 1, 1, TimeUnit.MILLISECONDS);
+
+            EventNotification routineUpdate = update(WeatherCondition.CLOUDY);
+            EventNotification markedUpdate = update(markedCondition);
+            long intervalNanos = 1_000_000_000L / publishRate;
+            long start = System.nanoTime();
+            long events = (long) publishRate * seconds;
+            for (long i = 0; i < events; i++) {
+                long due = start + i * intervalNanos;
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                service.publish(i % 100 == 99 ? markedUpdate : routineUpdate);
+            }
+            link.cancel(false);
+            service.shutdownDispatcher(1, TimeUnit.MINUTES);
+
+            LatencyHistogram r = routine.snapshot();
+            LatencyHistogram m = marked.snapshot();
+            System.out.printf("Marked %-6s: routine p50 %8.1f ms p99 %8.1f ms (%d) | marked p50 %8.1f ms p99 %8.1f ms"
+                            + " max %8.1f ms (%d)%n",
+                    markedCondition, r.getP50Micros() / 1000, r.getP99Micros() / 1000, r.getCount(),
+                    m.getP50Micros() / 1000, m.getP99Micros() / 1000, m.getMaxMicros() / 1000, m.getCount());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static EventNotification update(WeatherCondition condition) {
+        return EventNotification.newBuilder()
+                .setNotificationId("WEATHER-BENCH-" + condition)
+                .setEventType(EventType.WEATHER_UPDATE)
+                .setWeatherUpdate(WeatherUpdate.newBuilder()
+                        .setCity(CITY)
+                        .setCurrentTemperatureCelsius(18.0)
+                        .setCurrentCondition(condition)
+                        .setDetailedDescription("Benchmark update"))
+                .build();
+    }
+
+    // A stream that is only ready while its link has room, and records the latency of every notification written
+    private static final class SlowLinkObserver extends NoopServerCallStreamObserver<EncodedNotification> {
+        private final WeatherCondition markedCondition;
+        private final AtomicHistogram routine;
+        private final AtomicHistogram marked;
+        private final AtomicInteger credits = new AtomicInteger();
+        private volatile Runnable onReadyHandler;
+
+        SlowLinkObserver(WeatherCondition markedCondition, AtomicHistogram routine, AtomicHistogram marked) {
+            this.markedCondition = markedCondition;
+            this.routine = routine;
+            this.marked = marked;
+        }
+
+        void grant(int messages) {
+            if (credits.getAndAdd(messages) <= 0) {
+                Runnable handler = onReadyHandler;
+                if (handler != null) {
+                    handler.run();
+                }
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return credits.get() > 0;
+        }
+
+        @Override
+        public void setOnReadyHandler(Runnable onReadyHandler) {
+            this.onReadyHandler = onReadyHandler;
+        }
+
+        @Override
+        public void onNext(EncodedNotification value) {
+            super.onNext(value);
+            credits.decrementAndGet();
+            if (value.publishedNanos == 0) {
+                return; // The confirmation
+            }
+            long latency = System.nanoTime() - value.publishedNanos;
+            try {
+                WeatherCondition condition = EventNotification.parseFrom(value.body.duplicate())
+                        .getWeatherUpdate().getCurrentCondition();
+                (condition == markedCondition ? marked : routine).record(latency);
+            } catch (InvalidProtocolBufferException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
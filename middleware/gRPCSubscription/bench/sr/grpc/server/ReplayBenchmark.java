@@ -0,0 +1,102 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.*;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Records a synthetic weather feed to a temporary file and replays it through the service with each
+ * {@link ReplayRate}, reporting the achieved event rate. Also measures raw read speed of the mapped reader.
+ *
+ * Run: java sr.grpc.server.ReplayBenchmark [events] [recordedSeconds] [subscribers]
+ */
+public class ReplayBenchmark {
+
+    // Held so that the level set below is not lost when the logger is garbage collected
+    private static final Logger SERVER_LOGGER = Logger.getLogger("sr.grpc.server");
+
+    public static void main(String[] args) throws Exception {
+        int events = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int recordedSeconds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int subscribers = args.length > 2 ? Integer.parseInt(args[2]) : 1_000;
+        int cities = 500;
+
+        SERVER_LOGGER.setLevel(Level.WARNING);
+
+        Path recording = Files.createTempFile("weather-replay", ".bin");
+        try {
+            record(recording, events, recordedSeconds, cities);
+            System.out.printf("Recorded %d events over %d s (%.1f MB)%n", events, recordedSeconds, Files.size(recording) / 1e6);
+
+            for (int windowSize : new int[]{MappedEventReader.DEFAULT_WINDOW_SIZE, 1 << 16}) {
+                long start = System.nanoTime();
+                int read = 0;
+                try (MappedEventReader reader = new MappedEventReader(recording, windowSize)) {
+                    while (reader.next() != null) {
+                        read++;
+                    }
+                }
+                System.out.printf("read only, %6d KB window: %10.0f events/s (%d events)%n",
+                        windowSize >> 10, read / ((System.nanoTime() - start) / 1e9), read);
+            }
+
+            replay(recording, ReplayRate.asFastAsPossible(), subscribers, cities);
+            replay(recording, ReplayRate.fixed(events / (double) recordedSeconds * 2), subscribers, cities);
+            replay(recording, ReplayRate.original(10), subscribers, cities);
+        } finally {
+            Files.delete(recording);
+        }
+    }
+
+    private static void record(Path file, int events, int recordedSeconds, int cities) throws IOException {
+        long firstSecond = System.currentTimeMillis() / 1000;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            for (int i = 0; i < events; i++) {
+                String city = "City-" + (i % cities);
+                EventNotification.newBuilder()
+                        .setNotificationId("WEATHER-REC-" + i)
+                        .setTimestampUnixSeconds(firstSecond + (long) i * recordedSeconds / events)
+                        .setEventType(EventType.WEATHER_UPDATE)
+                        .setWeatherUpdate(WeatherUpdate.newBuilder()
+                                .setCity(city)
+                                .setCurrentTemperatureCelsius(i % 30)
+                                .setCurrentCondition(WeatherCondition.SUNNY)
+                                .setDetailedDescription("Recorded update " + i + " for " + city))
+                        .build()
+                        .writeDelimitedTo(out);
+            }
+        }
+    }
+
+    private static void replay(Path recording, ReplayRate rate, int subscribers, int cities) throws InterruptedException {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            WeatherEventSubscriptionService service = new WeatherEventSubscriptionService(scheduler);
+            for (int i = 0; i < subscribers; i++) {
+                service.subscribeEncoded(SubscriptionRequest.newBuilder()
+                        .setClientSubscriptionId("replay-" + i)
+                        .setEventType(EventType.WEATHER_UPDATE)
+                        .setCriteria(SubscriptionCriteria.newBuilder().setTargetIdentifier("City-" + (i % cities)))
+                        .build(), new NoopServerCallStreamObserver<>());
+            }
+            FileReplayEventSource source = new FileReplayEventSource(recording, rate);
+            long start = System.nanoTime();
+            service.startEventSource(source);
+            source.awaitCompletion(10, TimeUnit.MINUTES);
+            service.shutdownDispatcher(1, TimeUnit.MINUTES);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("replay %-22s %10.0f events/s, %6.2f s%n", rate, source.replayedCount() / seconds, seconds);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package sr.grpc.server;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import sr.grpc.gen.event.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Fires a storm of concurrent Subscribe calls followed by Unsubscribe calls against a loopback server in each
+ * {@link ExecutionMode} and reports latency percentiles: Subscribe is measured until the confirmation arrives,
+ * Unsubscribe until its response. VIRTUAL_THREADS only differs from FIXED_POOL on Java 21+.
+ *
+ * Run: java sr.grpc.server.SubscribeStormBenchmark [subscriptions] [channels] [threadPoolSize]
+ */
+public class SubscribeStormBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int subscriptions = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        int channels = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int threadPoolSize = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        Logger.getLogger("sr.grpc.server").setLevel(Level.WARNING);
+
+        System.out.println(subscriptions + " subscriptions over " + channels + " channels, java " + System.getProperty("java.version"));
+        System.out.printf("%-16s %-12s %10s %10s %10s %10s%n", "mode", "call", "p50 ms", "p99 ms", "max ms", "errors");
+        run(ExecutionMode.FIXED_POOL, subscriptions / 5, channels, threadPoolSize, false); // Warm-up
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            run(mode, subscriptions, channels, threadPoolSize, true);
+        }
+    }
+
+    private static void run(ExecutionMode mode, int subscriptions, int channelCount, int threadPoolSize, boolean report)
+            throws IOException, InterruptedException {
+        WeatherEventSubscriptionServer server = new WeatherEventSubscriptionServer(ServerOptions.builder()
+                .port(0)
+                .executionMode(mode)
+                .threadPoolSize(threadPoolSize)
+                .build());
+        server.start();
+        List<ManagedChannel> channels = new ArrayList<>();
+        try {
+            List<EventSubscriptionServiceGrpc.EventSubscriptionServiceStub> stubs = new ArrayList<>();
+            for (int i = 0; i < channelCount; i++) {
+                ManagedChannel channel = ManagedChannelBuilder.forAddress("localhost", server.getPort()).usePlaintext().build();
+                channels.add(channel);
+                stubs.add(EventSubscriptionServiceGrpc.newStub(channel));
+            }
+
+            // --- Subscribe storm ---
+            long[] subscribeNanos = new long[subscriptions];
+            AtomicInteger subscribeErrors = new AtomicInteger();
+            CountDownLatch confirmed = new CountDownLatch(subscriptions);
+            for (int i = 0; i < subscriptions; i++) {
+                final int index = i;
+                final long start = System.nanoTime();
+                SubscriptionRequest request = SubscriptionRequest.newBuilder()
+                        .setClientSubscriptionId("storm-" + mode + "-" + i)
+                        .setEventType(EventType.WEATHER_UPDATE)
+                        .setCriteria(SubscriptionCriteria.newBuilder().setTargetIdentifier("City-" + (i % 500)))
+                        .build();
+                stubs.get(i % channelCount).subscribe(request, new ClientResponseObserver<SubscriptionRequest, EventNotification>() {
+                    boolean first = true;
+
+                    @Override
+                    public void beforeStart(ClientCallStreamObserver<SubscriptionRequest> requestStream) {
+                    }
+
+                    @Override
+                    public void onNext(EventNotification value) {
+                        if (first) {
+                            first = false;
+                            subscribeNanos[index] = System.nanoTime() - start;
+                            confirmed.countDown();
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        if (first) {
+                            first = false;
+                            subscribeErrors.incrementAndGet();
+                            subscribeNanos[index] = System.nanoTime() - start;
+                            confirmed.countDown();
+                        }
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                    }
+                });
+            }
+            confirmed.await(2, TimeUnit.MINUTES);
+
+            // --- Unsubscribe storm ---
+            long[] unsubscribeNanos = new long[subscriptions];
+            AtomicInteger unsubscribeErrors = new AtomicInteger();
+            CountDownLatch unsubscribed = new CountDownLatch(subscriptions);
+            for (int i = 0; i < subscriptions; i++) {
+                final int index = i;
+                final long start = System.nanoTime();
+                UnsubscriptionRequest request = UnsubscriptionRequest.newBuilder()
+                        .setClientSubscriptionId("storm-" + mode + "-" + i)
+                        .build();
+                stubs.get(i % channelCount).unsubscribe(request, new StreamObserver<UnsubscriptionResponse>() {
+                    @Override
+                    public void onNext(UnsubscriptionResponse value) {
+                        if (!value.getSuccess()) {
+                            unsubscribeErrors.incrementAndGet();
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        unsubscribeErrors.incrementAndGet();
+                        unsubscribeNanos[index] = System.nanoTime() - start;
+                        unsubscribed.countDown();
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        unsubscribeNanos[index] = System.nanoTime() - start;
+                        unsubscribed.countDown();
+                    }
+                });
+            }
+            unsubscribed.await(2, TimeUnit.MINUTES);
+
+            if (report) {
+                print(mode, "subscribe", subscribeNanos, subscribeErrors.get());
+                print(mode, "unsubscribe", unsubscribeNanos, unsubscribeErrors.get());
+            }
+        } finally {
+            for (ManagedChannel channel : channels) {
+                channel.shutdownNow();
+            }
+            for (ManagedChannel channel : channels) {
+                channel.awaitTermination(5, TimeUnit.SECONDS);
+            }
+            server.stop();
+        }
+    }
+
+    private static void print(ExecutionMode mode, String call, long[] nanos, int errors) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%-16s %-12s %10.2f %10.2f %10.2f %10d%n", mode, call,
+                percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6, sorted[sorted.length - 1] / 1e6, errors);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
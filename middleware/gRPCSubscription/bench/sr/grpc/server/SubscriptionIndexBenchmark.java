@@ -0,0 +1,80 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.*;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Measures the cost of dispatching one weather event while the total number of subscriptions grows.
+ * The dispatched city always has the same number of subscribers; every other subscription is spread
+ * over a few hundred unrelated cities. With the topic index the time per event should stay flat
+ * across the rows instead of growing with the total subscription count.
+ *
+ * Run: java sr.grpc.server.SubscriptionIndexBenchmark [matchingSubscribers] [otherCities]
+ */
+public class SubscriptionIndexBenchmark {
+
+    private static final int[] TOTAL_SUBSCRIPTIONS = {1_000, 10_000, 50_000, 100_000, 200_000};
+    private static final int WARMUP_EVENTS = 2_000;
+    private static final int MEASURED_EVENTS = 10_000;
+
+    public static void main(String[] args) {
+        int matchingSubscribers = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int otherCities = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+
+        // Subscribe/unsubscribe log every call at INFO, which would dominate the setup phase
+        Logger.getLogger(WeatherEventSubscriptionService.class.getName()).setLevel(Level.WARNING);
+
+        System.out.printf("%12s %12s %14s %18s%n", "total subs", "matching", "ns/event", "ns/matched sub");
+        for (int total : TOTAL_SUBSCRIPTIONS) {
+            run(total, matchingSubscribers, otherCities);
+        }
+    }
+
+    private static void run(int total, int matchingSubscribers, int otherCities) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            WeatherEventSubscriptionService service = new WeatherEventSubscriptionService(scheduler);
+            for (int i = 0; i < total; i++) {
+                String city = i < matchingSubscribers ? "Kraków" : "City-" + (i % otherCities);
+                service.subscribeEncoded(request("bench-" + i, city), new NoopServerCallStreamObserver<>());
+            }
+
+            EventNotification notification = EventNotification.newBuilder()
+                    .setNotificationId("WEATHER-BENCH")
+                    .setEventType(EventType.WEATHER_UPDATE)
+                    .setWeatherUpdate(WeatherUpdate.newBuilder()
+                            .setCity("Kraków")
+                            .setCurrentTemperatureCelsius(21.5)
+                            .setCurrentCondition(WeatherCondition.SUNNY)
+                            .setDetailedDescription("Benchmark update"))
+                    .build();
+
+            for (int i = 0; i < WARMUP_EVENTS; i++) {
+                service.dispatchWeatherUpdate(notification);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_EVENTS; i++) {
+                service.dispatchWeatherUpdate(notification);
+            }
+            long elapsed = System.nanoTime() - start;
+
+            double nsPerEvent = (double) elapsed / MEASURED_EVENTS;
+            System.out.printf("%12d %12d %14.0f %18.1f%n", service.activeSubscriptionCount(), matchingSubscribers,
+                    nsPerEvent, nsPerEvent / Math.max(1, matchingSubscribers));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static SubscriptionRequest request(String id, String city) {
+        return SubscriptionRequest.newBuilder()
+                .setClientSubscriptionId(id)
+                .setEventType(EventType.WEATHER_UPDATE)
+                .setCriteria(SubscriptionCriteria.newBuilder().setTargetIdentifier(city))
+                .build();
+    }
+}
@@ -24,7 +24,7 @@ _sym_db = _symbol_database.Default()
 
 
 
-DESCRIPTOR = _descriptor_pool.Default().AddSerializedFile(b'\n\rweather.proto\x12\x11\x65ventsubscription\"C\n\x14SubscriptionCriteria\x12\x19\n\x11target_identifier\x18\x01 \x01(\t\x12\x10\n\x08keywords\x18\r \x03(\t\"\xa2\x01\n\x13SubscriptionRequest\x12\x1e\n\x16\x63lient_subscription_id\x18\x01 \x01(\t\x12\x30\n\nevent_type\x18\x02 \x01(\x0e\x32\x1c.eventsubscription.EventType\x12\x39\n\x08\x63riteria\x18\x03 \x01(\x0b\x32\'.eventsubscription.SubscriptionCriteria\"\xb3\x01\n\rDailyForecast\x12\x17\n\x0f\x64\x61y_description\x18\x01 \x01(\t\x12\x1f\n\x17max_temperature_celsius\x18\x02 \x01(\x01\x12\x1f\n\x17min_temperature_celsius\x18\x03 \x01(\x01\x12\x36\n\tcondition\x18\x04 \x01(\x0e\x32#.eventsubscription.WeatherCondition\x12\x0f\n\x07summary\x18\x05 \x01(\t\"\x86\x02\n\rWeatherUpdate\x12\x0c\n\x04\x63ity\x18\x01 \x01(\t\x12#\n\x1b\x63urrent_temperature_celsius\x18\x02 \x01(\x01\x12\x18\n\x10humidity_percent\x18\x03 \x01(\x01\x12\x16\n\x0ewind_speed_kph\x18\x04 \x01(\x05\x12>\n\x11\x63urrent_condition\x18\x05 \x01(\x0e\x32#.eventsubscription.WeatherCondition\x12\x1c\n\x14\x64\x65tailed_description\x18\x06 \x01(\t\x12\x32\n\x08\x66orecast\x18\x07 \x03(\x0b\x32 .eventsubscription.DailyForecast\"\x8d\x01\n\x0c\x43oncertAlert\x12\x0e\n\x06\x61rtist\x18\x01 \x01(\t\x12\r\n\x05venue\x18\x02 \x01(\t\x12\x0c\n\x04\x63ity\x18\x03 \x01(\t\x12\x1f\n\x17\x65vent_date_unix_seconds\x18\x04 \x01(\x03\x12\x19\n\x11tickets_available\x18\x05 \x01(\x05\x12\x14\n\x0cticket_links\x18\x06 \x03(\t\"\x8d\x01\n\tNewsFlash\x12\x10\n\x08headline\x18\x01 \x01(\t\x12\x0e\n\x06source\x18\x02 \x01(\t\x12\x18\n\x10related_keywords\x18\x03 \x03(\t\x12\x0f\n\x07summary\x18\x04 \x01(\t\x12\x0c\n\x04link\x18\x05 \x01(\t\x12%\n\x1dpublication_date_unix_seconds\x18\x06 \x01(\x03\"\xd9\x02\n\x11\x45ventNotification\x12\x17\n\x0fnotification_id\x18\x01 \x01(\t\x12\x1e\n\x16\x63lient_subscription_id\x18\x02 \x01(\t\x12\x1e\n\x16timestamp_unix_seconds\x18\x03 \x01(\x03\x12\x30\n\nevent_type\x18\x04 \x01(\x0e\x32\x1c.eventsubscription.EventType\x12:\n\x0eweather_update\x18\x05 \x01(\x0b\x32 .eventsubscription.WeatherUpdateH\x00\x12\x38\n\rconcert_alert\x18\x06 \x01(\x0b\x32\x1f.eventsubscription.ConcertAlertH\x00\x12\x32\n\nnews_flash\x18\x07 \x01(\x0b\x32\x1c.eventsubscription.NewsFlashH\x00\x42\x0f\n\revent_payload\"7\n\x15UnsubscriptionRequest\x12\x1e\n\x16\x63lient_subscription_id\x18\x01 \x01(\t\":\n\x16UnsubscriptionResponse\x12\x0f\n\x07success\x18\x01 \x01(\x08\x12\x0f\n\x07message\x18\x02 \x01(\t*^\n\tEventType\x12\x1a\n\x16\x45VENT_TYPE_UNSPECIFIED\x10\x00\x12\x12\n\x0eWEATHER_UPDATE\x10\x01\x12\x11\n\rCONCERT_ALERT\x10\x02\x12\x0e\n\nNEWS_FLASH\x10\x03*f\n\x10WeatherCondition\x12\x19\n\x15\x43ONDITION_UNSPECIFIED\x10\x00\x12\t\n\x05SUNNY\x10\x01\x12\n\n\x06\x43LOUDY\x10\x02\x12\t\n\x05RAINY\x10\x03\x12\t\n\x05SNOWY\x10\x04\x12\n\n\x06STORMY\x10\x05\x32\xdf\x01\n\x18\x45ventSubscriptionService\x12]\n\tSubscribe\x12&.eventsubscription.SubscriptionRequest\x1a$.eventsubscription.EventNotification\"\x00\x30\x01\x12\x64\n\x0bUnsubscribe\x12(.eventsubscription.UnsubscriptionRequest\x1a).eventsubscription.UnsubscriptionResponse\"\x00\x42-\n\x11sr.grpc.gen.eventB\x16\x45ventSubscriptionProtoP\x01\x62\x06proto3')
+DESCRIPTOR = _descriptor_pool.Default().AddSerializedFile(b'\n\rweather.proto\x12\x11\x65ventsubscription\"\xab\x01\n\x14SubscriptionCriteria\x12\x19\n\x11target_identifier\x18\x01 \x01(\t\x12\x10\n\x08keywords\x18\r \x03(\t\x12\x38\n\x0eweather_filter\x18\x0e \x01(\x0b\x32 .eventsubscription.WeatherFilter\x12,\n\x06within\x18\x0f \x01(\x0b\x32\x1c.eventsubscription.GeoCircle\"/\n\x08GeoPoint\x12\x10\n\x08latitude\x18\x01 \x01(\x01\x12\x11\n\tlongitude\x18\x02 \x01(\x01\"K\n\tGeoCircle\x12+\n\x06\x63\x65nter\x18\x01 \x01(\x0b\x32\x1b.eventsubscription.GeoPoint\x12\x11\n\tradius_km\x18\x02 \x01(\x01\"\xa6\x02\n\rWeatherFilter\x12\x30\n\x05range\x18\x01 \x01(\x0b\x32\x1f.eventsubscription.NumericRangeH\x00\x12\x35\n\nconditions\x18\x02 \x01(\x0b\x32\x1f.eventsubscription.ConditionSetH\x00\x12\x36\n\x06\x61ll_of\x18\x03 \x01(\x0b\x32$.eventsubscription.WeatherFilterListH\x00\x12\x36\n\x06\x61ny_of\x18\x04 \x01(\x0b\x32$.eventsubscription.WeatherFilterListH\x00\x12\x32\n\x06negate\x18\x05 \x01(\x0b\x32 .eventsubscription.WeatherFilterH\x00\x42\x08\n\x06\x66ilter\"\xe3\x01\n\x0cNumericRange\x12\x34\n\x05\x66ield\x18\x01 \x01(\x0e\x32%.eventsubscription.NumericRange.Field\x12\x10\n\x03min\x18\x02 \x01(\x01H\x00\x88\x01\x01\x12\x10\n\x03max\x18\x03 \x01(\x01H\x01\x88\x01\x01\"i\n\x05\x46ield\x12\x15\n\x11\x46IELD_UNSPECIFIED\x10\x00\x12\x1f\n\x1b\x43URRENT_TEMPERATURE_CELSIUS\x10\x01\x12\x14\n\x10HUMIDITY_PERCENT\x10\x02\x12\x12\n\x0eWIND_SPEED_KPH\x10\x03\x42\x06\n\x04_minB\x06\n\x04_max\"G\n\x0c\x43onditionSet\x12\x37\n\nconditions\x18\x01 \x03(\x0e\x32#.eventsubscription.WeatherCondition\"F\n\x11WeatherFilterList\x12\x31\n\x07\x66ilters\x18\x01 \x03(\x0b\x32 .eventsubscription.WeatherFilter\"\xca\x02\n\x13SubscriptionRequest\x12\x1e\n\x16\x63lient_subscription_id\x18\x01 \x01(\t\x12\x30\n\nevent_type\x18\x02 \x01(\x0e\x32\x1c.eventsubscription.EventType\x12\x39\n\x08\x63riteria\x18\x03 \x01(\x0b\x32\'.eventsubscription.SubscriptionCriteria\x12\x36\n\rdelivery_mode\x18\x04 \x01(\x0e\x32\x1f.eventsubscription.DeliveryMode\x12\"\n\x15resume_after_sequence\x18\x05 \x01(\x04H\x00\x88\x01\x01\x12\x15\n\rweather_delta\x18\x06 \x01(\x08\x12\x19\n\x11response_encoding\x18\x07 \x01(\tB\x18\n\x16_resume_after_sequence\"\xb3\x01\n\rDailyForecast\x12\x17\n\x0f\x64\x61y_description\x18\x01 \x01(\t\x12\x1f\n\x17max_temperature_celsius\x18\x02 \x01(\x01\x12\x1f\n\x17min_temperature_celsius\x18\x03 \x01(\x01\x12\x36\n\tcondition\x18\x04 \x01(\x0e\x32#.eventsubscription.WeatherCondition\x12\x0f\n\x07summary\x18\x05 \x01(\t\"\xc5\x02\n\rWeatherUpdate\x12\x0c\n\x04\x63ity\x18\x01 \x01(\t\x12#\n\x1b\x63urrent_temperature_celsius\x18\x02 \x01(\x01\x12\x18\n\x10humidity_percent\x18\x03 \x01(\x01\x12\x16\n\x0ewind_speed_kph\x18\x04 \x01(\x05\x12>\n\x11\x63urrent_condition\x18\x05 \x01(\x0e\x32#.eventsubscription.WeatherCondition\x12\x1c\n\x14\x64\x65tailed_description\x18\x06 \x01(\t\x12\x32\n\x08\x66orecast\x18\x07 \x03(\x0b\x32 .eventsubscription.DailyForecast\x12-\n\x08location\x18\x08 \x01(\x0b\x32\x1b.eventsubscription.GeoPoint\x12\x0e\n\x06region\x18\t \x01(\t\"\x84\x01\n\x12WeatherUpdateDelta\x12\x0c\n\x04\x63ity\x18\x01 \x01(\t\x12\x15\n\rbase_sequence\x18\x02 \x01(\x04\x12\x16\n\x0e\x63hanged_fields\x18\x03 \x03(\r\x12\x31\n\x07\x63hanges\x18\x04 \x01(\x0b\x32 .eventsubscription.WeatherUpdate\"\x8d\x01\n\x0c\x43oncertAlert\x12\x0e\n\x06\x61rtist\x18\x01 \x01(\t\x12\r\n\x05venue\x18\x02 \x01(\t\x12\x0c\n\x04\x63ity\x18\x03 \x01(\t\x12\x1f\n\x17\x65vent_date_unix_seconds\x18\x04 \x01(\x03\x12\x19\n\x11tickets_available\x18\x05 \x01(\x05\x12\x14\n\x0cticket_links\x18\x06 \x03(\t\"\x8d\x01\n\tNewsFlash\x12\x10\n\x08headline\x18\x01 \x01(\t\x12\x0e\n\x06source\x18\x02 \x01(\t\x12\x18\n\x10related_keywords\x18\x03 \x03(\t\x12\x0f\n\x07summary\x18\x04 \x01(\t\x12\x0c\n\x04link\x18\x05 \x01(\t\x12%\n\x1dpublication_date_unix_seconds\x18\x06 \x01(\x03\"\x84\x04\n\x11\x45ventNotification\x12\x17\n\x0fnotification_id\x18\x01 \x01(\t\x12\x1e\n\x16\x63lient_subscription_id\x18\x02 \x01(\t\x12\x1e\n\x16timestamp_unix_seconds\x18\x03 \x01(\x03\x12\x30\n\nevent_type\x18\x04 \x01(\x0e\x32\x1c.eventsubscription.EventType\x12:\n\x0eweather_update\x18\x05 \x01(\x0b\x32 .eventsubscription.WeatherUpdateH\x00\x12\x38\n\rconcert_alert\x18\x06 \x01(\x0b\x32\x1f.eventsubscription.ConcertAlertH\x00\x12\x32\n\nnews_flash\x18\x07 \x01(\x0b\x32\x1c.eventsubscription.NewsFlashH\x00\x12\x45\n\x14weather_update_delta\x18\t \x01(\x0b\x32%.eventsubscription.WeatherUpdateDeltaH\x00\x12\x10\n\x08sequence\x18\x08 \x01(\x04\x12\x1c\n\x14timestamp_unix_nanos\x18\n \x01(\x06\x12\x32\n\x08priority\x18\x0b \x01(\x0e\x32 .eventsubscription.EventPriorityB\x0f\n\revent_payload\"U\n\x16\x45ventNotificationBatch\x12;\n\rnotifications\x18\x01 \x03(\x0b\x32$.eventsubscription.EventNotification\"7\n\x15UnsubscriptionRequest\x12\x1e\n\x16\x63lient_subscription_id\x18\x01 \x01(\t\":\n\x16UnsubscriptionResponse\x12\x0f\n\x07success\x18\x01 \x01(\x08\x12\x0f\n\x07message\x18\x02 \x01(\t\"\x81\x01\n\x0eSessionRequest\x12\x42\n\x10\x61\x64\x64_subscription\x18\x01 \x01(\x0b\x32&.eventsubscription.SubscriptionRequestH\x00\x12 \n\x16remove_subscription_id\x18\x02 \x01(\tH\x00\x42\t\n\x07\x63ommand\"\xbb\x01\n\nControlAck\x12\x1e\n\x16\x63lient_subscription_id\x18\x01 \x01(\t\x12\x34\n\x06\x61\x63tion\x18\x02 \x01(\x0e\x32$.eventsubscription.ControlAck.Action\x12\x0f\n\x07success\x18\x03 \x01(\x08\x12\x0f\n\x07message\x18\x04 \x01(\t\"5\n\x06\x41\x63tion\x12\x16\n\x12\x41\x43TION_UNSPECIFIED\x10\x00\x12\x07\n\x03\x41\x44\x44\x10\x01\x12\n\n\x06REMOVE\x10\x02\"\x88\x01\n\x0fSessionResponse\x12<\n\x0cnotification\x18\x01 \x01(\x0b\x32$.eventsubscription.EventNotificationH\x00\x12,\n\x03\x61\x63k\x18\x02 \x01(\x0b\x32\x1d.eventsubscription.ControlAckH\x00\x42\t\n\x07message\"D\n\x0cStatsRequest\x12\x1b\n\x13slowest_subscribers\x18\x01 \x01(\r\x12\x17\n\x0f\x61ll_subscribers\x18\x02 \x01(\x08\"m\n\x12TopicSubscriptions\x12\x30\n\nevent_type\x18\x01 \x01(\x0e\x32\x1c.eventsubscription.EventType\x12\x0e\n\x06target\x18\x02 \x01(\t\x12\x15\n\rsubscriptions\x18\x03 \x01(\r\"a\n\x16\x45ventTypeSubscriptions\x12\x30\n\nevent_type\x18\x01 \x01(\x0e\x32\x1c.eventsubscription.EventType\x12\x15\n\rsubscriptions\x18\x02 \x01(\r\".\n\tEventRate\x12\r\n\x05total\x18\x01 \x01(\x04\x12\x12\n\nper_second\x18\x02 \x01(\x01\"\xce\x01\n\x10LatencyHistogram\x12\r\n\x05\x63ount\x18\x01 \x01(\x04\x12\x13\n\x0bmean_micros\x18\x02 \x01(\x01\x12\x12\n\np50_micros\x18\x03 \x01(\x01\x12\x12\n\np90_micros\x18\x04 \x01(\x01\x12\x12\n\np99_micros\x18\x05 \x01(\x01\x12\x13\n\x0bp999_micros\x18\x06 \x01(\x01\x12\x12\n\nmax_micros\x18\x07 \x01(\x01\x12\x31\n\x07\x62uckets\x18\x08 \x03(\x0b\x32 .eventsubscription.LatencyBucket\":\n\rLatencyBucket\x12\x1a\n\x12upper_bound_micros\x18\x01 \x01(\x01\x12\r\n\x05\x63ount\x18\x02 \x01(\x04\"\xc6\x02\n\x0fSubscriberStats\x12\x1e\n\x16\x63lient_subscription_id\x18\x01 \x01(\t\x12\x30\n\nevent_type\x18\x02 \x01(\x0e\x32\x1c.eventsubscription.EventType\x12\x0e\n\x06target\x18\x03 \x01(\t\x12\x0f\n\x07session\x18\x04 \x01(\x08\x12\x13\n\x0bqueue_depth\x18\x05 \x01(\r\x12\x16\n\x0equeue_capacity\x18\x06 \x01(\r\x12\x1d\n\x15oldest_pending_micros\x18\x07 \x01(\x01\x12\x0c\n\x04sent\x18\x08 \x01(\x04\x12\x0f\n\x07\x64ropped\x18\t \x01(\x04\x12\x11\n\tconflated\x18\n \x01(\x04\x12\x12\n\nsuppressed\x18\x0b \x01(\x04\x12\x1a\n\x12uncompressed_bytes\x18\x0c \x01(\x03\x12\x12\n\nwire_bytes\x18\r \x01(\x03\"\x85\x07\n\x0bServerStats\x12\x15\n\ruptime_millis\x18\x01 \x01(\x04\x12\x1c\n\x14\x61\x63tive_subscriptions\x18\x02 \x01(\r\x12O\n\x1csubscriptions_per_event_type\x18\x03 \x03(\x0b\x32).eventsubscription.EventTypeSubscriptions\x12\x46\n\x17subscriptions_per_topic\x18\x04 \x03(\x0b\x32%.eventsubscription.TopicSubscriptions\x12\x36\n\x10\x65vents_published\x18\x05 \x01(\x0b\x32\x1c.eventsubscription.EventRate\x12>\n\x18notifications_dispatched\x18\x06 \x01(\x0b\x32\x1c.eventsubscription.EventRate\x12;\n\x15notifications_dropped\x18\x07 \x01(\x0b\x32\x1c.eventsubscription.EventRate\x12\x38\n\x12notifications_sent\x18\x08 \x01(\x0b\x32\x1c.eventsubscription.EventRate\x12=\n\x10\x64ispatch_latency\x18\t \x01(\x0b\x32#.eventsubscription.LatencyHistogram\x12<\n\x0f\x66\x61n_out_latency\x18\n \x01(\x0b\x32#.eventsubscription.LatencyHistogram\x12?\n\x13slowest_subscribers\x18\x0b \x03(\x0b\x32\".eventsubscription.SubscriberStats\x12\x37\n\x0bsubscribers\x18\x0c \x03(\x0b\x32\".eventsubscription.SubscriberStats\x12\x30\n\x07process\x18\r \x01(\x0b\x32\x1f.eventsubscription.ProcessStats\x12J\n\x1dhigh_priority_fan_out_latency\x18\x0e \x01(\x0b\x32#.eventsubscription.LatencyHistogram\x12\x44\n\x17high_priority_objective\x18\x0f \x01(\x0b\x32#.eventsubscription.LatencyObjective\"b\n\x10LatencyObjective\x12\x18\n\x10objective_micros\x18\x01 \x01(\x01\x12\x0e\n\x06within\x18\x02 \x01(\x04\x12\x0e\n\x06missed\x18\x03 \x01(\x04\x12\x14\n\x0cwithin_ratio\x18\x04 \x01(\x01\"\xd3\x01\n\x0cProcessStats\x12\x16\n\x0e\x63pu_time_nanos\x18\x01 \x01(\x04\x12\x1c\n\x14\x61vailable_processors\x18\x02 \x01(\r\x12\x17\n\x0fheap_used_bytes\x18\x03 \x01(\x04\x12\x1c\n\x14heap_committed_bytes\x18\x04 \x01(\x04\x12\x16\n\x0eheap_max_bytes\x18\x05 \x01(\x04\x12\x10\n\x08gc_count\x18\x06 \x01(\x04\x12\x16\n\x0egc_time_millis\x18\x07 \x01(\x04\x12\x14\n\x0cthread_count\x18\x08 \x01(\r\"-\n\x0b\x43lusterView\x12\x0f\n\x07version\x18\x01 \x01(\x04\x12\r\n\x05nodes\x18\x02 \x03(\t\"\x1e\n\x0bJoinRequest\x12\x0f\n\x07\x61\x64\x64ress\x18\x01 \x01(\t\"\"\n\x0e\x46orwardSummary\x12\x10\n\x08received\x18\x01 \x01(\x04\"K\n\x0cNodeRedirect\x12\x15\n\rowner_address\x18\x01 \x01(\t\x12\x0e\n\x06target\x18\x02 \x01(\t\x12\x14\n\x0cview_version\x18\x03 \x01(\x04\"V\n\x12\x46\x65\x64\x65rationInterest\x12\x30\n\nevent_type\x18\x01 \x01(\x0e\x32\x1c.eventsubscription.EventType\x12\x0e\n\x06target\x18\x02 \x01(\t\"~\n\x0eInterestUpdate\x12\x34\n\x05\x61\x64\x64\x65\x64\x18\x01 \x03(\x0b\x32%.eventsubscription.FederationInterest\x12\x36\n\x07removed\x18\x02 \x03(\x0b\x32%.eventsubscription.FederationInterest*^\n\tEventType\x12\x1a\n\x16\x45VENT_TYPE_UNSPECIFIED\x10\x00\x12\x12\n\x0eWEATHER_UPDATE\x10\x01\x12\x11\n\rCONCERT_ALERT\x10\x02\x12\x0e\n\nNEWS_FLASH\x10\x03*Q\n\x0c\x44\x65liveryMode\x12\x1d\n\x19\x44\x45LIVERY_MODE_UNSPECIFIED\x10\x00\x12\r\n\tQUEUE_ALL\x10\x01\x12\x13\n\x0f\x43ONFLATE_LATEST\x10\x02*&\n\rEventPriority\x12\x0b\n\x07ROUTINE\x10\x00\x12\x08\n\x04HIGH\x10\x01*f\n\x10WeatherCondition\x12\x19\n\x15\x43ONDITION_UNSPECIFIED\x10\x00\x12\t\n\x05SUNNY\x10\x01\x12\n\n\x06\x43LOUDY\x10\x02\x12\t\n\x05RAINY\x10\x03\x12\t\n\x05SNOWY\x10\x04\x12\n\n\x06STORMY\x10\x05\x32\xae\x03\n\x18\x45ventSubscriptionService\x12]\n\tSubscribe\x12&.eventsubscription.SubscriptionRequest\x1a$.eventsubscription.EventNotification\"\x00\x30\x01\x12\x64\n\x0bUnsubscribe\x12(.eventsubscription.UnsubscriptionRequest\x1a).eventsubscription.UnsubscriptionResponse\"\x00\x12i\n\x10SubscribeBatched\x12&.eventsubscription.SubscriptionRequest\x1a).eventsubscription.EventNotificationBatch\"\x00\x30\x01\x12\x62\n\x13SubscriptionSession\x12!.eventsubscription.SessionRequest\x1a\".eventsubscription.SessionResponse\"\x00(\x01\x30\x01\x32\x62\n\x11\x45ventStatsService\x12M\n\x08GetStats\x12\x1f.eventsubscription.StatsRequest\x1a\x1e.eventsubscription.ServerStats\"\x00\x32\x82\x02\n\x0e\x43lusterService\x12H\n\x04Join\x12\x1e.eventsubscription.JoinRequest\x1a\x1e.eventsubscription.ClusterView\"\x00\x12N\n\nUpdateView\x12\x1e.eventsubscription.ClusterView\x1a\x1e.eventsubscription.ClusterView\"\x00\x12V\n\x07\x46orward\x12$.eventsubscription.EventNotification\x1a!.eventsubscription.ForwardSummary\"\x00(\x01\x32s\n\x11\x46\x65\x64\x65rationService\x12^\n\x08\x46\x65\x64\x65rate\x12!.eventsubscription.InterestUpdate\x1a).eventsubscription.EventNotificationBatch\"\x00(\x01\x30\x01\x42-\n\x11sr.grpc.gen.eventB\x16\x45ventSubscriptionProtoP\x01\x62\x06proto3')
 
 _globals = globals()
 _builder.BuildMessageAndEnumDescriptors(DESCRIPTOR, _globals)
@@ -32,28 +32,96 @@ _builder.BuildTopDescriptorsAndMessages(DESCRIPTOR, 'weather_pb2', _globals)
 if not _descriptor._USE_C_DESCRIPTORS:
   _globals['DESCRIPTOR']._loaded_options = None
   _globals['DESCRIPTOR']._serialized_options = b'\n\021sr.grpc.gen.eventB\026EventSubscriptionProtoP\001'
-  _globals['_EVENTTYPE']._serialized_start=1470
-  _globals['_EVENTTYPE']._serialized_end=1564
-  _globals['_WEATHERCONDITION']._serialized_start=1566
-  _globals['_WEATHERCONDITION']._serialized_end=1668
-  _globals['_SUBSCRIPTIONCRITERIA']._serialized_start=36
-  _globals['_SUBSCRIPTIONCRITERIA']._serialized_end=103
-  _globals['_SUBSCRIPTIONREQUEST']._serialized_start=106
-  _globals['_SUBSCRIPTIONREQUEST']._serialized_end=268
-  _globals['_DAILYFORECAST']._serialized_start=271
-  _globals['_DAILYFORECAST']._serialized_end=450
-  _globals['_WEATHERUPDATE']._serialized_start=453
-  _globals['_WEATHERUPDATE']._serialized_end=715
-  _globals['_CONCERTALERT']._serialized_start=718
-  _globals['_CONCERTALERT']._serialized_end=859
-  _globals['_NEWSFLASH']._serialized_start=862
-  _globals['_NEWSFLASH']._serialized_end=1003
-  _globals['_EVENTNOTIFICATION']._serialized_start=1006
-  _globals['_EVENTNOTIFICATION']._serialized_end=1351
-  _globals['_UNSUBSCRIPTIONREQUEST']._serialized_start=1353
-  _globals['_UNSUBSCRIPTIONREQUEST']._serialized_end=1408
-  _globals['_UNSUBSCRIPTIONRESPONSE']._serialized_start=1410
-  _globals['_UNSUBSCRIPTIONRESPONSE']._serialized_end=1468
-  _globals['_EVENTSUBSCRIPTIONSERVICE']._serialized_start=1671
-  _globals['_EVENTSUBSCRIPTIONSERVICE']._serialized_end=1894
+  _globals['_EVENTTYPE']._serialized_start=6010
+  _globals['_EVENTTYPE']._serialized_end=6104
+  _globals['_DELIVERYMODE']._serialized_start=6106
+  _globals['_DELIVERYMODE']._serialized_end=6187
+  _globals['_EVENTPRIORITY']._serialized_start=6189
+  _globals['_EVENTPRIORITY']._serialized_end=6227
+  _globals['_WEATHERCONDITION']._serialized_start=6229
+  _globals['_WEATHERCONDITION']._serialized_end=6331
+  _globals['_SUBSCRIPTIONCRITERIA']._serialized_start=37
+  _globals['_SUBSCRIPTIONCRITERIA']._serialized_end=208
+  _globals['_GEOPOINT']._serialized_start=210
+  _globals['_GEOPOINT']._serialized_end=257
+  _globals['_GEOCIRCLE']._serialized_start=259
+  _globals['_GEOCIRCLE']._serialized_end=334
+  _globals['_WEATHERFILTER']._serialized_start=337
+  _globals['_WEATHERFILTER']._serialized_end=631
+  _globals['_NUMERICRANGE']._serialized_start=634
+  _globals['_NUMERICRANGE']._serialized_end=861
+  _globals['_NUMERICRANGE_FIELD']._serialized_start=740
+  _globals['_NUMERICRANGE_FIELD']._serialized_end=845
+  _globals['_CONDITIONSET']._serialized_start=863
+  _globals['_CONDITIONSET']._serialized_end=934
+  _globals['_WEATHERFILTERLIST']._serialized_start=936
+  _globals['_WEATHERFILTERLIST']._serialized_end=1006
+  _globals['_SUBSCRIPTIONREQUEST']._serialized_start=1009
+  _globals['_SUBSCRIPTIONREQUEST']._serialized_end=1339
+  _globals['_DAILYFORECAST']._serialized_start=1342
+  _globals['_DAILYFORECAST']._serialized_end=1521
+  _globals['_WEATHERUPDATE']._serialized_start=1524
+  _globals['_WEATHERUPDATE']._serialized_end=1849
+  _globals['_WEATHERUPDATEDELTA']._serialized_start=1852
+  _globals['_WEATHERUPDATEDELTA']._serialized_end=1984
+  _globals['_CONCERTALERT']._serialized_start=1987
+  _globals['_CONCERTALERT']._serialized_end=2128
+  _globals['_NEWSFLASH']._serialized_start=2131
+  _globals['_NEWSFLASH']._serialized_end=2272
+  _globals['_EVENTNOTIFICATION']._serialized_start=2275
+  _globals['_EVENTNOTIFICATION']._serialized_end=2791
+  _globals['_EVENTNOTIFICATIONBATCH']._serialized_start=2793
+  _globals['_EVENTNOTIFICATIONBATCH']._serialized_end=2878
+  _globals['_UNSUBSCRIPTIONREQUEST']._serialized_start=2880
+  _globals['_UNSUBSCRIPTIONREQUEST']._serialized_end=2935
+  _globals['_UNSUBSCRIPTIONRESPONSE']._serialized_start=2937
+  _globals['_UNSUBSCRIPTIONRESPONSE']._serialized_end=2995
+  _globals['_SESSIONREQUEST']._serialized_start=2998
+  _globals['_SESSIONREQUEST']._serialized_end=3127
+  _globals['_CONTROLACK']._serialized_start=3130
+  _globals['_CONTROLACK']._serialized_end=3317
+  _globals['_CONTROLACK_ACTION']._serialized_start=3264
+  _globals['_CONTROLACK_ACTION']._serialized_end=3317
+  _globals['_SESSIONRESPONSE']._serialized_start=3320
+  _globals['_SESSIONRESPONSE']._serialized_end=3456
+  _globals['_STATSREQUEST']._serialized_start=3458
+  _globals['_STATSREQUEST']._serialized_end=3526
+  _globals['_TOPICSUBSCRIPTIONS']._serialized_start=3528
+  _globals['_TOPICSUBSCRIPTIONS']._serialized_end=3637
+  _globals['_EVENTTYPESUBSCRIPTIONS']._serialized_start=3639
+  _globals['_EVENTTYPESUBSCRIPTIONS']._serialized_end=3736
+  _globals['_EVENTRATE']._serialized_start=3738
+  _globals['_EVENTRATE']._serialized_end=3784
+  _globals['_LATENCYHISTOGRAM']._serialized_start=3787
+  _globals['_LATENCYHISTOGRAM']._serialized_end=3993
+  _globals['_LATENCYBUCKET']._serialized_start=3995
+  _globals['_LATENCYBUCKET']._serialized_end=4053
+  _globals['_SUBSCRIBERSTATS']._serialized_start=4056
+  _globals['_SUBSCRIBERSTATS']._serialized_end=4382
+  _globals['_SERVERSTATS']._serialized_start=4385
+  _globals['_SERVERSTATS']._serialized_end=5286
+  _globals['_LATENCYOBJECTIVE']._serialized_start=5288
+  _globals['_LATENCYOBJECTIVE']._serialized_end=5386
+  _globals['_PROCESSSTATS']._serialized_start=5389
+  _globals['_PROCESSSTATS']._serialized_end=5600
+  _globals['_CLUSTERVIEW']._serialized_start=5602
+  _globals['_CLUSTERVIEW']._serialized_end=5647
+  _globals['_JOINREQUEST']._serialized_start=5649
+  _globals['_JOINREQUEST']._serialized_end=5679
+  _globals['_FORWARDSUMMARY']._serialized_start=5681
+  _globals['_FORWARDSUMMARY']._serialized_end=5715
+  _globals['_NODEREDIRECT']._serialized_start=5717
+  _globals['_NODEREDIRECT']._serialized_end=5792
+  _globals['_FEDERATIONINTEREST']._serialized_start=5794
+  _globals['_FEDERATIONINTEREST']._serialized_end=5880
+  _globals['_INTERESTUPDATE']._serialized_start=5882
+  _globals['_INTERESTUPDATE']._serialized_end=6008
+  _globals['_EVENTSUBSCRIPTIONSERVICE']._serialized_start=6334
+  _globals['_EVENTSUBSCRIPTIONSERVICE']._serialized_end=6764
+  _globals['_EVENTSTATSSERVICE']._serialized_start=6766
+  _globals['_EVENTSTATSSERVICE']._serialized_end=6864
+  _globals['_CLUSTERSERVICE']._serialized_start=6867
+  _globals['_CLUSTERSERVICE']._serialized_end=7125
+  _globals['_FEDERATIONSERVICE']._serialized_start=7127
+  _globals['_FEDERATIONSERVICE']._serialized_end=7242
 # @@protoc_insertion_point(module_scope)
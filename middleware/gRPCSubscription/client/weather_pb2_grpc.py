@@ -45,6 +45,16 @@ class EventSubscriptionServiceStub(object):
                 request_serializer=weather__pb2.UnsubscriptionRequest.SerializeToString,
                 response_deserializer=weather__pb2.UnsubscriptionResponse.FromString,
                 _registered_method=True)
+        self.SubscribeBatched = channel.unary_stream(
+                '/eventsubscription.EventSubscriptionService/SubscribeBatched',
+                request_serializer=weather__pb2.SubscriptionRequest.SerializeToString,
+                response_deserializer=weather__pb2.EventNotificationBatch.FromString,
+                _registered_method=True)
+        self.SubscriptionSession = channel.stream_stream(
+                '/eventsubscription.EventSubscriptionService/SubscriptionSession',
+                request_serializer=weather__pb2.SessionRequest.SerializeToString,
+                response_deserializer=weather__pb2.SessionResponse.FromString,
+                _registered_method=True)
 
 
 class EventSubscriptionServiceServicer(object):
@@ -65,6 +75,23 @@ class EventSubscriptionServiceServicer(object):
         context.set_details('Method not implemented!')
         raise NotImplementedError('Method not implemented!')
 
+    def SubscribeBatched(self, request, context):
+        """Same as Subscribe, but the server coalesces notifications into batches to save per-message overhead.
+        Unsubscribe works the same way for both kinds of subscription.
+        """
+        context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+        context.set_details('Method not implemented!')
+        raise NotImplementedError('Method not implemented!')
+
+    def SubscriptionSession(self, request_iterator, context):
+        """Many subscriptions over a single stream: the client adds and removes subscriptions with control messages,
+        each answered by a ControlAck, and receives the notifications of all of them on the response stream.
+        Closing the request stream ends every subscription of the session.
+        """
+        context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+        context.set_details('Method not implemented!')
+        raise NotImplementedError('Method not implemented!')
+
 
 def add_EventSubscriptionServiceServicer_to_server(servicer, server):
     rpc_method_handlers = {
@@ -78,6 +105,16 @@ def add_EventSubscriptionServiceServicer_to_server(servicer, server):
                     request_deserializer=weather__pb2.UnsubscriptionRequest.FromString,
                     response_serializer=weather__pb2.UnsubscriptionResponse.SerializeToString,
             ),
+            'SubscribeBatched': grpc.unary_stream_rpc_method_handler(
+                    servicer.SubscribeBatched,
+                    request_deserializer=weather__pb2.SubscriptionRequest.FromString,
+                    response_serializer=weather__pb2.EventNotificationBatch.SerializeToString,
+            ),
+            'SubscriptionSession': grpc.stream_stream_rpc_method_handler(
+                    servicer.SubscriptionSession,
+                    request_deserializer=weather__pb2.SessionRequest.FromString,
+                    response_serializer=weather__pb2.SessionResponse.SerializeToString,
+            ),
     }
     generic_handler = grpc.method_handlers_generic_handler(
             'eventsubscription.EventSubscriptionService', rpc_method_handlers)
@@ -143,3 +180,374 @@ class EventSubscriptionService(object):
             timeout,
             metadata,
             _registered_method=True)
+
+    @staticmethod
+    def SubscribeBatched(request,
+            target,
+            options=(),
+            channel_credentials=None,
+            call_credentials=None,
+            insecure=False,
+            compression=None,
+            wait_for_ready=None,
+            timeout=None,
+            metadata=None):
+        return grpc.experimental.unary_stream(
+            request,
+            target,
+            '/eventsubscription.EventSubscriptionService/SubscribeBatched',
+            weather__pb2.SubscriptionRequest.SerializeToString,
+            weather__pb2.EventNotificationBatch.FromString,
+            options,
+            channel_credentials,
+            insecure,
+            call_credentials,
+            compression,
+            wait_for_ready,
+            timeout,
+            metadata,
+            _registered_method=True)
+
+    @staticmethod
+    def SubscriptionSession(request_iterator,
+            target,
+            options=(),
+            channel_credentials=None,
+            call_credentials=None,
+            insecure=False,
+            compression=None,
+            wait_for_ready=None,
+            timeout=None,
+            metadata=None):
+        return grpc.experimental.stream_stream(
+            request_iterator,
+            target,
+            '/eventsubscription.EventSubscriptionService/SubscriptionSession',
+            weather__pb2.SessionRequest.SerializeToString,
+            weather__pb2.SessionResponse.FromString,
+            options,
+            channel_credentials,
+            insecure,
+            call_credentials,
+            compression,
+            wait_for_ready,
+            timeout,
+            metadata,
+            _registered_method=True)
+
+
+class EventStatsServiceStub(object):
+    """Live metrics of the server, served next to EventSubscriptionService.
+    """
+
+    def __init__(self, channel):
+        """Constructor.
+
+        Args:
+            channel: A grpc.Channel.
+        """
+        self.GetStats = channel.unary_unary(
+                '/eventsubscription.EventStatsService/GetStats',
+                request_serializer=weather__pb2.StatsRequest.SerializeToString,
+                response_deserializer=weather__pb2.ServerStats.FromString,
+                _registered_method=True)
+
+
+class EventStatsServiceServicer(object):
+    """Live metrics of the server, served next to EventSubscriptionService.
+    """
+
+    def GetStats(self, request, context):
+        """Missing associated documentation comment in .proto file."""
+        context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+        context.set_details('Method not implemented!')
+        raise NotImplementedError('Method not implemented!')
+
+
+def add_EventStatsServiceServicer_to_server(servicer, server):
+    rpc_method_handlers = {
+            'GetStats': grpc.unary_unary_rpc_method_handler(
+                    servicer.GetStats,
+                    request_deserializer=weather__pb2.StatsRequest.FromString,
+                    response_serializer=weather__pb2.ServerStats.SerializeToString,
+            ),
+    }
+    generic_handler = grpc.method_handlers_generic_handler(
+            'eventsubscription.EventStatsService', rpc_method_handlers)
+    server.add_generic_rpc_handlers((generic_handler,))
+    server.add_registered_method_handlers('eventsubscription.EventStatsService', rpc_method_handlers)
+
+
+ # This class is part of an EXPERIMENTAL API.
+class EventStatsService(object):
+    """Live metrics of the server, served next to EventSubscriptionService.
+    """
+
+    @staticmethod
+    def GetStats(request,
+            target,
+            options=(),
+            channel_credentials=None,
+            call_credentials=None,
+            insecure=False,
+            compression=None,
+            wait_for_ready=None,
+            timeout=None,
+            metadata=None):
+        return grpc.experimental.unary_unary(
+            request,
+            target,
+            '/eventsubscription.EventStatsService/GetStats',
+            weather__pb2.StatsRequest.SerializeToString,
+            weather__pb2.ServerStats.FromString,
+            options,
+            channel_credentials,
+            insecure,
+            call_credentials,
+            compression,
+            wait_for_ready,
+            timeout,
+            metadata,
+            _registered_method=True)
+
+
+class ClusterServiceStub(object):
+    """Spoken between the nodes of a cluster, next to EventSubscriptionService.
+    """
+
+    def __init__(self, channel):
+        """Constructor.
+
+        Args:
+            channel: A grpc.Channel.
+        """
+        self.Join = channel.unary_unary(
+                '/eventsubscription.ClusterService/Join',
+                request_serializer=weather__pb2.JoinRequest.SerializeToString,
+                response_deserializer=weather__pb2.ClusterView.FromString,
+                _registered_method=True)
+        self.UpdateView = channel.unary_unary(
+                '/eventsubscription.ClusterService/UpdateView',
+                request_serializer=weather__pb2.ClusterView.SerializeToString,
+                response_deserializer=weather__pb2.ClusterView.FromString,
+                _registered_method=True)
+        self.Forward = channel.stream_unary(
+                '/eventsubscription.ClusterService/Forward',
+                request_serializer=weather__pb2.EventNotification.SerializeToString,
+                response_deserializer=weather__pb2.ForwardSummary.FromString,
+                _registered_method=True)
+
+
+class ClusterServiceServicer(object):
+    """Spoken between the nodes of a cluster, next to EventSubscriptionService.
+    """
+
+    def Join(self, request, context):
+        """Adds the calling node to the cluster and answers with the view that includes it
+        """
+        context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+        context.set_details('Method not implemented!')
+        raise NotImplementedError('Method not implemented!')
+
+    def UpdateView(self, request, context):
+        """Hands a member a newer view; answers with the member's view after merging the two
+        """
+        context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+        context.set_details('Method not implemented!')
+        raise NotImplementedError('Method not implemented!')
+
+    def Forward(self, request_iterator, context):
+        """Events published on another node for targets this node owns, in the order they were published there
+        """
+        context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+        context.set_details('Method not implemented!')
+        raise NotImplementedError('Method not implemented!')
+
+
+def add_ClusterServiceServicer_to_server(servicer, server):
+    rpc_method_handlers = {
+            'Join': grpc.unary_unary_rpc_method_handler(
+                    servicer.Join,
+                    request_deserializer=weather__pb2.JoinRequest.FromString,
+                    response_serializer=weather__pb2.ClusterView.SerializeToString,
+            ),
+            'UpdateView': grpc.unary_unary_rpc_method_handler(
+                    servicer.UpdateView,
+                    request_deserializer=weather__pb2.ClusterView.FromString,
+                    response_serializer=weather__pb2.ClusterView.SerializeToString,
+            ),
+            'Forward': grpc.stream_unary_rpc_method_handler(
+                    servicer.Forward,
+                    request_deserializer=weather__pb2.EventNotification.FromString,
+                    response_serializer=weather__pb2.ForwardSummary.SerializeToString,
+            ),
+    }
+    generic_handler = grpc.method_handlers_generic_handler(
+            'eventsubscription.ClusterService', rpc_method_handlers)
+    server.add_generic_rpc_handlers((generic_handler,))
+    server.add_registered_method_handlers('eventsubscription.ClusterService', rpc_method_handlers)
+
+
+ # This class is part of an EXPERIMENTAL API.
+class ClusterService(object):
+    """Spoken between the nodes of a cluster, next to EventSubscriptionService.
+    """
+
+    @staticmethod
+    def Join(request,
+            target,
+            options=(),
+            channel_credentials=None,
+            call_credentials=None,
+            insecure=False,
+            compression=None,
+            wait_for_ready=None,
+            timeout=None,
+            metadata=None):
+        return grpc.experimental.unary_unary(
+            request,
+            target,
+            '/eventsubscription.ClusterService/Join',
+            weather__pb2.JoinRequest.SerializeToString,
+            weather__pb2.ClusterView.FromString,
+            options,
+            channel_credentials,
+            insecure,
+            call_credentials,
+            compression,
+            wait_for_ready,
+            timeout,
+            metadata,
+            _registered_method=True)
+
+    @staticmethod
+    def UpdateView(request,
+            target,
+            options=(),
+            channel_credentials=None,
+            call_credentials=None,
+            insecure=False,
+            compression=None,
+            wait_for_ready=None,
+            timeout=None,
+            metadata=None):
+        return grpc.experimental.unary_unary(
+            request,
+            target,
+            '/eventsubscription.ClusterService/UpdateView',
+            weather__pb2.ClusterView.SerializeToString,
+            weather__pb2.ClusterView.FromString,
+            options,
+            channel_credentials,
+            insecure,
+            call_credentials,
+            compression,
+            wait_for_ready,
+            timeout,
+            metadata,
+            _registered_method=True)
+
+    @staticmethod
+    def Forward(request_iterator,
+            target,
+            options=(),
+            channel_credentials=None,
+            call_credentials=None,
+            insecure=False,
+            compression=None,
+            wait_for_ready=None,
+            timeout=None,
+            metadata=None):
+        return grpc.experimental.stream_unary(
+            request_iterator,
+            target,
+            '/eventsubscription.ClusterService/Forward',
+            weather__pb2.EventNotification.SerializeToString,
+            weather__pb2.ForwardSummary.FromString,
+            options,
+            channel_credentials,
+            insecure,
+            call_credentials,
+            compression,
+            wait_for_ready,
+            timeout,
+            metadata,
+            _registered_method=True)
+
+
+class FederationServiceStub(object):
+    """Spoken by an edge server to its upstream server, which may itself be the edge of another one.
+    """
+
+    def __init__(self, channel):
+        """Constructor.
+
+        Args:
+            channel: A grpc.Channel.
+        """
+        self.Federate = channel.stream_stream(
+                '/eventsubscription.FederationService/Federate',
+                request_serializer=weather__pb2.InterestUpdate.SerializeToString,
+                response_deserializer=weather__pb2.EventNotificationBatch.FromString,
+                _registered_method=True)
+
+
+class FederationServiceServicer(object):
+    """Spoken by an edge server to its upstream server, which may itself be the edge of another one.
+    """
+
+    def Federate(self, request_iterator, context):
+        """The edge streams its interest as local subscriptions come and go; the upstream streams back, in batches,
+        every event of those topics once, however many subscribers the edge has for it. Each notification keeps
+        the upstream's sequence number, so the edge can drop a repeated one.
+        """
+        context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+        context.set_details('Method not implemented!')
+        raise NotImplementedError('Method not implemented!')
+
+
+def add_FederationServiceServicer_to_server(servicer, server):
+    rpc_method_handlers = {
+            'Federate': grpc.stream_stream_rpc_method_handler(
+                    servicer.Federate,
+                    request_deserializer=weather__pb2.InterestUpdate.FromString,
+                    response_serializer=weather__pb2.EventNotificationBatch.SerializeToString,
+            ),
+    }
+    generic_handler = grpc.method_handlers_generic_handler(
+            'eventsubscription.FederationService', rpc_method_handlers)
+    server.add_generic_rpc_handlers((generic_handler,))
+    server.add_registered_method_handlers('eventsubscription.FederationService', rpc_method_handlers)
+
+
+ # This class is part of an EXPERIMENTAL API.
+class FederationService(object):
+    """Spoken by an edge server to its upstream server, which may itself be the edge of another one.
+    """
+
+    @staticmethod
+    def Federate(request_iterator,
+            target,
+            options=(),
+            channel_credentials=None,
+            call_credentials=None,
+            insecure=False,
+            compression=None,
+            wait_for_ready=None,
+            timeout=None,
+            metadata=None):
+        return grpc.experimental.stream_stream(
+            request_iterator,
+            target,
+            '/eventsubscription.FederationService/Federate',
+            weather__pb2.InterestUpdate.SerializeToString,
+            weather__pb2.EventNotificationBatch.FromString,
+            options,
+            channel_credentials,
+            insecure,
+            call_credentials,
+            compression,
+            wait_for_ready,
+            timeout,
+            metadata,
+            _registered_method=True)
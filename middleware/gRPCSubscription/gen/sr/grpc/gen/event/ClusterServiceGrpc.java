@@ -0,0 +1,540 @@
+package sr.grpc.gen.event;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ * <pre>
+ * Spoken between the nodes of a cluster, next to EventSubscriptionService.
+ * </pre>
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.71.0)",
+    comments = "Source: weather.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class ClusterServiceGrpc {
+
+  private ClusterServiceGrpc() {}
+
+  public static final java.lang.String SERVICE_NAME = "eventsubscription.ClusterService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<sr.grpc.gen.event.JoinRequest,
+      sr.grpc.gen.event.ClusterView> getJoinMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "Join",
+      requestType = sr.grpc.gen.event.JoinRequest.class,
+      responseType = sr.grpc.gen.event.ClusterView.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<sr.grpc.gen.event.JoinRequest,
+      sr.grpc.gen.event.ClusterView> getJoinMethod() {
+    io.grpc.MethodDescriptor<sr.grpc.gen.event.JoinRequest, sr.grpc.gen.event.ClusterView> getJoinMethod;
+    if ((getJoinMethod = ClusterServiceGrpc.getJoinMethod) == null) {
+      synchronized (ClusterServiceGrpc.class) {
+        if ((getJoinMethod = ClusterServiceGrpc.getJoinMethod) == null) {
+          ClusterServiceGrpc.getJoinMethod = getJoinMethod =
+              io.grpc.MethodDescriptor.<sr.grpc.gen.event.JoinRequest, sr.grpc.gen.event.ClusterView>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "Join"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  sr.grpc.gen.event.JoinRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  sr.grpc.gen.event.ClusterView.getDefaultInstance()))
+              .setSchemaDescriptor(new ClusterServiceMethodDescriptorSupplier("Join"))
+              .build();
+        }
+      }
+    }
+    return getJoinMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<sr.grpc.gen.event.ClusterView,
+      sr.grpc.gen.event.ClusterView> getUpdateViewMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "UpdateView",
+      requestType = sr.grpc.gen.event.ClusterView.class,
+      responseType = sr.grpc.gen.event.ClusterView.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<sr.grpc.gen.event.ClusterView,
+      sr.grpc.gen.event.ClusterView> getUpdateViewMethod() {
+    io.grpc.MethodDescriptor<sr.grpc.gen.event.ClusterView, sr.grpc.gen.event.ClusterView> getUpdateViewMethod;
+    if ((getUpdateViewMethod = ClusterServiceGrpc.getUpdateViewMethod) == null) {
+      synchronized (ClusterServiceGrpc.class) {
+        if ((getUpdateViewMethod = ClusterServiceGrpc.getUpdateViewMethod) == null) {
+          ClusterServiceGrpc.getUpdateViewMethod = getUpdateViewMethod =
+              io.grpc.MethodDescriptor.<sr.grpc.gen.event.ClusterView, sr.grpc.gen.event.ClusterView>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "UpdateView"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  sr.grpc.gen.event.ClusterView.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  sr.grpc.gen.event.ClusterView.getDefaultInstance()))
+              .setSchemaDescriptor(new ClusterServiceMethodDescriptorSupplier("UpdateView"))
+              .build();
+        }
+      }
+    }
+    return getUpdateViewMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<sr.grpc.gen.event.EventNotification,
+      sr.grpc.gen.event.ForwardSummary> getForwardMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "Forward",
+      requestType = sr.grpc.gen.event.EventNotification.class,
+      responseType = sr.grpc.gen.event.ForwardSummary.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+  public static io.grpc.MethodDescriptor<sr.grpc.gen.event.EventNotification,
+      sr.grpc.gen.event.ForwardSummary> getForwardMethod() {
+    io.grpc.MethodDescriptor<sr.grpc.gen.event.EventNotification, sr.grpc.gen.event.ForwardSummary> getForwardMethod;
+    if ((getForwardMethod = ClusterServiceGrpc.getForwardMethod) == null) {
+      synchronized (ClusterServiceGrpc.class) {
+        if ((getForwardMethod = ClusterServiceGrpc.getForwardMethod) == null) {
+          ClusterServiceGrpc.getForwardMethod = getForwardMethod =
+              io.grpc.MethodDescriptor.<sr.grpc.gen.event.EventNotification, sr.grpc.gen.event.ForwardSummary>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "Forward"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  sr.grpc.gen.event.EventNotification.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  sr.grpc.gen.event.ForwardSummary.getDefaultInstance()))
+              .setSchemaDescriptor(new ClusterServiceMethodDescriptorSupplier("Forward"))
+              .build();
+        }
+      }
+    }
+    return getForwardMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static ClusterServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<ClusterServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<ClusterServiceStub>() {
+        @java.lang.Override
+        public ClusterServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new ClusterServiceStub(channel, callOptions);
+        }
+      };
+    return ClusterServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports all types of calls on the service
+   */
+  public static ClusterServiceBlockingV2Stub newBlockingV2Stub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<ClusterServiceBlockingV2Stub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<ClusterServiceBlockingV2Stub>() {
+        @java.lang.Override
+        public ClusterServiceBlockingV2Stub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new ClusterServiceBlockingV2Stub(channel, callOptions);
+        }
+      };
+    return ClusterServiceBlockingV2Stub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static ClusterServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<ClusterServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<ClusterServiceBlockingStub>() {
+        @java.lang.Override
+        public ClusterServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new ClusterServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return ClusterServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static ClusterServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<ClusterServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<ClusterServiceFutureStub>() {
+        @java.lang.Override
+        public ClusterServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new ClusterServiceFutureStub(channel, callOptions);
+        }
+      };
+    return ClusterServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   * <pre>
+   * Spoken between the nodes of a cluster, next to EventSubscriptionService.
+   * </pre>
+   */
+  public interface AsyncService {
+
+    /**
+     * <pre>
+     * Adds the calling node to the cluster and answers with the view that includes it
+     * </pre>
+     */
+    default void join(sr.grpc.gen.event.JoinRequest request,
+        io.grpc.stub.StreamObserver<sr.grpc.gen.event.ClusterView> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getJoinMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Hands a member a newer view; answers with the member's view after merging the two
+     * </pre>
+     */
+    default void updateView(sr.grpc.gen.event.ClusterView request,
+        io.grpc.stub.StreamObserver<sr.grpc.gen.event.ClusterView> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getUpdateViewMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Events published on another node for targets this node owns, in the order they were published there
+     * </pre>
+     */
+    default io.grpc.stub.StreamObserver<sr.grpc.gen.event.EventNotification> forward(
+        io.grpc.stub.StreamObserver<sr.grpc.gen.event.ForwardSummary> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getForwardMethod(), responseObserver);
+    }
+  }
+
+  /**
+   * Base class for the server implementation of the service ClusterService.
+   * <pre>
+   * Spoken between the nodes of a cluster, next to EventSubscriptionService.
+   * </pre>
+   */
+  public static abstract class ClusterServiceImplBase
+      implements io.grpc.BindableService, AsyncService {
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return ClusterServiceGrpc.bindService(this);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do asynchronous rpc calls to service ClusterService.
+   * <pre>
+   * Spoken between the nodes of a cluster, next to EventSubscriptionService.
+   * </pre>
+   */
+  public static final class ClusterServiceStub
+      extends io.grpc.stub.AbstractAsyncStub<ClusterServiceStub> {
+    private ClusterServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClusterServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new ClusterServiceStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * Adds the calling node to the cluster and answers with the view that includes it
+     * </pre>
+     */
+    public void join(sr.grpc.gen.event.JoinRequest request,
+        io.grpc.stub.StreamObserver<sr.grpc.gen.event.ClusterView> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getJoinMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Hands a member a newer view; answers with the member's view after merging the two
+     * </pre>
+     */
+    public void updateView(sr.grpc.gen.event.ClusterView request,
+        io.grpc.stub.StreamObserver<sr.grpc.gen.event.ClusterView> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getUpdateViewMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Events published on another node for targets this node owns, in the order they were published there
+     * </pre>
+     */
+    public io.grpc.stub.StreamObserver<sr.grpc.gen.event.EventNotification> forward(
+        io.grpc.stub.StreamObserver<sr.grpc.gen.event.ForwardSummary> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncClientStreamingCall(
+          getChannel().newCall(getForwardMethod(), getCallOptions()), responseObserver);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do synchronous rpc calls to service ClusterService.
+   * <pre>
+   * Spoken between the nodes of a cluster, next to EventSubscriptionService.
+   * </pre>
+   */
+  public static final class ClusterServiceBlockingV2Stub
+      extends io.grpc.stub.AbstractBlockingStub<ClusterServiceBlockingV2Stub> {
+    private ClusterServiceBlockingV2Stub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClusterServiceBlockingV2Stub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new ClusterServiceBlockingV2Stub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * Adds the calling node to the cluster and answers with the view that includes it
+     * </pre>
+     */
+    public sr.grpc.gen.event.ClusterView join(sr.grpc.gen.event.JoinRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getJoinMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * Hands a member a newer view; answers with the member's view after merging the two
+     * </pre>
+     */
+    public sr.grpc.gen.event.ClusterView updateView(sr.grpc.gen.event.ClusterView request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getUpdateViewMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * Events published on another node for targets this node owns, in the order they were published there
+     * </pre>
+     */
+    @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/10918")
+    public io.grpc.stub.BlockingClientCall<sr.grpc.gen.event.EventNotification, sr.grpc.gen.event.ForwardSummary>
+        forward() {
+      return io.grpc.stub.ClientCalls.blockingClientStreamingCall(
+          getChannel(), getForwardMethod(), getCallOptions());
+    }
+  }
+
+  /**
+   * A stub to allow clients to do limited synchronous rpc calls to service ClusterService.
+   * <pre>
+   * Spoken between the nodes of a cluster, next to EventSubscriptionService.
+   * </pre>
+   */
+  public static final class ClusterServiceBlockingStub
+      extends io.grpc.stub.AbstractBlockingStub<ClusterServiceBlockingStub> {
+    private ClusterServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClusterServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new ClusterServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * Adds the calling node to the cluster and answers with the view that includes it
+     * </pre>
+     */
+    public sr.grpc.gen.event.ClusterView join(sr.grpc.gen.event.JoinRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getJoinMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * Hands a member a newer view; answers with the member's view after merging the two
+     * </pre>
+     */
+    public sr.grpc.gen.event.ClusterView updateView(sr.grpc.gen.event.ClusterView request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getUpdateViewMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do ListenableFuture-style rpc calls to service ClusterService.
+   * <pre>
+   * Spoken between the nodes of a cluster, next to EventSubscriptionService.
+   * </pre>
+   */
+  public static final class ClusterServiceFutureStub
+      extends io.grpc.stub.AbstractFutureStub<ClusterServiceFutureStub> {
+    private ClusterServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ClusterServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new ClusterServiceFutureStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * Adds the calling node to the cluster and answers with the view that includes it
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<sr.grpc.gen.event.ClusterView> join(
+        sr.grpc.gen.event.JoinRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getJoinMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * Hands a member a newer view; answers with the member's view after merging the two
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<sr.grpc.gen.event.ClusterView> updateView(
+        sr.grpc.gen.event.ClusterView request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getUpdateViewMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_JOIN = 0;
+  private static final int METHODID_UPDATE_VIEW = 1;
+  private static final int METHODID_FORWARD = 2;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final AsyncService serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(AsyncService serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_JOIN:
+          serviceImpl.join((sr.grpc.gen.event.JoinRequest) request,
+              (io.grpc.stub.StreamObserver<sr.grpc.gen.event.ClusterView>) responseObserver);
+          break;
+        case METHODID_UPDATE_VIEW:
+          serviceImpl.updateView((sr.grpc.gen.event.ClusterView) request,
+              (io.grpc.stub.StreamObserver<sr.grpc.gen.event.ClusterView>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_FORWARD:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.forward(
+              (io.grpc.stub.StreamObserver<sr.grpc.gen.event.ForwardSummary>) responseObserver);
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  public static final io.grpc.ServerServiceDefinition bindService(AsyncService service) {
+    return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+        .addMethod(
+          getJoinMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              sr.grpc.gen.event.JoinRequest,
+              sr.grpc.gen.event.ClusterView>(
+                service, METHODID_JOIN)))
+        .addMethod(
+          getUpdateViewMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              sr.grpc.gen.event.ClusterView,
+              sr.grpc.gen.event.ClusterView>(
+                service, METHODID_UPDATE_VIEW)))
+        .addMethod(
+          getForwardMethod(),
+          io.grpc.stub.ServerCalls.asyncClientStreamingCall(
+            new MethodHandlers<
+              sr.grpc.gen.event.EventNotification,
+              sr.grpc.gen.event.ForwardSummary>(
+                service, METHODID_FORWARD)))
+        .build();
+  }
+
+  private static abstract class ClusterServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    ClusterServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("ClusterService");
+    }
+  }
+
+  private static final class ClusterServiceFileDescriptorSupplier
+      extends ClusterServiceBaseDescriptorSupplier {
+    ClusterServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class ClusterServiceMethodDescriptorSupplier
+      extends ClusterServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final java.lang.String methodName;
+
+    ClusterServiceMethodDescriptorSupplier(java.lang.String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (ClusterServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new ClusterServiceFileDescriptorSupplier())
+              .addMethod(getJoinMethod())
+              .addMethod(getUpdateViewMethod())
+              .addMethod(getForwardMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
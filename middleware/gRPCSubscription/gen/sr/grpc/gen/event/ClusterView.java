@@ -0,0 +1,683 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * <pre>
+ * The members of a cluster. Every node owns the targets that hash closest to it on a ring built from this list;
+ * a view with a higher version replaces an older one.
+ * </pre>
+ *
+ * Protobuf type {@code eventsubscription.ClusterView}
+ */
+public final class ClusterView extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.ClusterView)
+    ClusterViewOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      ClusterView.class.getName());
+  }
+  // Use ClusterView.newBuilder() to construct.
+  private ClusterView(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private ClusterView() {
+    nodes_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ClusterView_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ClusterView_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.ClusterView.class, sr.grpc.gen.event.ClusterView.Builder.class);
+  }
+
+  public static final int VERSION_FIELD_NUMBER = 1;
+  private long version_ = 0L;
+  /**
+   * <code>uint64 version = 1;</code>
+   * @return The version.
+   */
+  @java.lang.Override
+  public long getVersion() {
+    return version_;
+  }
+
+  public static final int NODES_FIELD_NUMBER = 2;
+  @SuppressWarnings("serial")
+  private com.google.protobuf.LazyStringArrayList nodes_ =
+      com.google.protobuf.LazyStringArrayList.emptyList();
+  /**
+   * <pre>
+   * host:port of every member, sorted
+   * </pre>
+   *
+   * <code>repeated string nodes = 2;</code>
+   * @return A list containing the nodes.
+   */
+  public com.google.protobuf.ProtocolStringList
+      getNodesList() {
+    return nodes_;
+  }
+  /**
+   * <pre>
+   * host:port of every member, sorted
+   * </pre>
+   *
+   * <code>repeated string nodes = 2;</code>
+   * @return The count of nodes.
+   */
+  public int getNodesCount() {
+    return nodes_.size();
+  }
+  /**
+   * <pre>
+   * host:port of every member, sorted
+   * </pre>
+   *
+   * <code>repeated string nodes = 2;</code>
+   * @param index The index of the element to return.
+   * @return The nodes at the given index.
+   */
+  public java.lang.String getNodes(int index) {
+    return nodes_.get(index);
+  }
+  /**
+   * <pre>
+   * host:port of every member, sorted
+   * </pre>
+   *
+   * <code>repeated string nodes = 2;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the nodes at the given index.
+   */
+  public com.google.protobuf.ByteString
+      getNodesBytes(int index) {
+    return nodes_.getByteString(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (version_ != 0L) {
+      output.writeUInt64(1, version_);
+    }
+    for (int i = 0; i < nodes_.size(); i++) {
+      com.google.protobuf.GeneratedMessage.writeString(output, 2, nodes_.getRaw(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (version_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(1, version_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < nodes_.size(); i++) {
+        dataSize += computeStringSizeNoTag(nodes_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getNodesList().size();
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.ClusterView)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.ClusterView other = (sr.grpc.gen.event.ClusterView) obj;
+
+    if (getVersion()
+        != other.getVersion()) return false;
+    if (!getNodesList()
+        .equals(other.getNodesList())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + VERSION_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getVersion());
+    if (getNodesCount() > 0) {
+      hash = (37 * hash) + NODES_FIELD_NUMBER;
+      hash = (53 * hash) + getNodesList().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.ClusterView parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.ClusterView parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ClusterView parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.ClusterView parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ClusterView parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.ClusterView parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ClusterView parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.ClusterView parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.ClusterView parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.ClusterView parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ClusterView parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.ClusterView parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.ClusterView prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * The members of a cluster. Every node owns the targets that hash closest to it on a ring built from this list;
+   * a view with a higher version replaces an older one.
+   * </pre>
+   *
+   * Protobuf type {@code eventsubscription.ClusterView}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.ClusterView)
+      sr.grpc.gen.event.ClusterViewOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ClusterView_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ClusterView_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.ClusterView.class, sr.grpc.gen.event.ClusterView.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.ClusterView.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      version_ = 0L;
+      nodes_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ClusterView_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.ClusterView getDefaultInstanceForType() {
+      return sr.grpc.gen.event.ClusterView.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.ClusterView build() {
+      sr.grpc.gen.event.ClusterView result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.ClusterView buildPartial() {
+      sr.grpc.gen.event.ClusterView result = new sr.grpc.gen.event.ClusterView(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.ClusterView result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.version_ = version_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        nodes_.makeImmutable();
+        result.nodes_ = nodes_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.ClusterView) {
+        return mergeFrom((sr.grpc.gen.event.ClusterView)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.ClusterView other) {
+      if (other == sr.grpc.gen.event.ClusterView.getDefaultInstance()) return this;
+      if (other.getVersion() != 0L) {
+        setVersion(other.getVersion());
+      }
+      if (!other.nodes_.isEmpty()) {
+        if (nodes_.isEmpty()) {
+          nodes_ = other.nodes_;
+          bitField0_ |= 0x00000002;
+        } else {
+          ensureNodesIsMutable();
+          nodes_.addAll(other.nodes_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              version_ = input.readUInt64();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 8
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+              ensureNodesIsMutable();
+              nodes_.add(s);
+              break;
+            } // case 18
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private long version_ ;
+    /**
+     * <code>uint64 version = 1;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public long getVersion() {
+      return version_;
+    }
+    /**
+     * <code>uint64 version = 1;</code>
+     * @param value The version to set.
+     * @return This builder for chaining.
+     */
+    public Builder setVersion(long value) {
+
+      version_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 version = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearVersion() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      version_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.LazyStringArrayList nodes_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    private void ensureNodesIsMutable() {
+      if (!nodes_.isModifiable()) {
+        nodes_ = new com.google.protobuf.LazyStringArrayList(nodes_);
+      }
+      bitField0_ |= 0x00000002;
+    }
+    /**
+     * <pre>
+     * host:port of every member, sorted
+     * </pre>
+     *
+     * <code>repeated string nodes = 2;</code>
+     * @return A list containing the nodes.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getNodesList() {
+      nodes_.makeImmutable();
+      return nodes_;
+    }
+    /**
+     * <pre>
+     * host:port of every member, sorted
+     * </pre>
+     *
+     * <code>repeated string nodes = 2;</code>
+     * @return The count of nodes.
+     */
+    public int getNodesCount() {
+      return nodes_.size();
+    }
+    /**
+     * <pre>
+     * host:port of every member, sorted
+     * </pre>
+     *
+     * <code>repeated string nodes = 2;</code>
+     * @param index The index of the element to return.
+     * @return The nodes at the given index.
+     */
+    public java.lang.String getNodes(int index) {
+      return nodes_.get(index);
+    }
+    /**
+     * <pre>
+     * host:port of every member, sorted
+     * </pre>
+     *
+     * <code>repeated string nodes = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the nodes at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getNodesBytes(int index) {
+      return nodes_.getByteString(index);
+    }
+    /**
+     * <pre>
+     * host:port of every member, sorted
+     * </pre>
+     *
+     * <code>repeated string nodes = 2;</code>
+     * @param index The index to set the value at.
+     * @param value The nodes to set.
+     * @return This builder for chaining.
+     */
+    public Builder setNodes(
+        int index, java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      ensureNodesIsMutable();
+      nodes_.set(index, value);
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * host:port of every member, sorted
+     * </pre>
+     *
+     * <code>repeated string nodes = 2;</code>
+     * @param value The nodes to add.
+     * @return This builder for chaining.
+     */
+    public Builder addNodes(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      ensureNodesIsMutable();
+      nodes_.add(value);
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * host:port of every member, sorted
+     * </pre>
+     *
+     * <code>repeated string nodes = 2;</code>
+     * @param values The nodes to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllNodes(
+        java.lang.Iterable<java.lang.String> values) {
+      ensureNodesIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, nodes_);
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * host:port of every member, sorted
+     * </pre>
+     *
+     * <code>repeated string nodes = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearNodes() {
+      nodes_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+      bitField0_ = (bitField0_ & ~0x00000002);;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * host:port of every member, sorted
+     * </pre>
+     *
+     * <code>repeated string nodes = 2;</code>
+     * @param value The bytes of the nodes to add.
+     * @return This builder for chaining.
+     */
+    public Builder addNodesBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      ensureNodesIsMutable();
+      nodes_.add(value);
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.ClusterView)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.ClusterView)
+  private static final sr.grpc.gen.event.ClusterView DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.ClusterView();
+  }
+
+  public static sr.grpc.gen.event.ClusterView getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ClusterView>
+      PARSER = new com.google.protobuf.AbstractParser<ClusterView>() {
+    @java.lang.Override
+    public ClusterView parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<ClusterView> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ClusterView> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.ClusterView getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,58 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface ClusterViewOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.ClusterView)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>uint64 version = 1;</code>
+   * @return The version.
+   */
+  long getVersion();
+
+  /**
+   * <pre>
+   * host:port of every member, sorted
+   * </pre>
+   *
+   * <code>repeated string nodes = 2;</code>
+   * @return A list containing the nodes.
+   */
+  java.util.List<java.lang.String>
+      getNodesList();
+  /**
+   * <pre>
+   * host:port of every member, sorted
+   * </pre>
+   *
+   * <code>repeated string nodes = 2;</code>
+   * @return The count of nodes.
+   */
+  int getNodesCount();
+  /**
+   * <pre>
+   * host:port of every member, sorted
+   * </pre>
+   *
+   * <code>repeated string nodes = 2;</code>
+   * @param index The index of the element to return.
+   * @return The nodes at the given index.
+   */
+  java.lang.String getNodes(int index);
+  /**
+   * <pre>
+   * host:port of every member, sorted
+   * </pre>
+   *
+   * <code>repeated string nodes = 2;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the nodes at the given index.
+   */
+  com.google.protobuf.ByteString
+      getNodesBytes(int index);
+}
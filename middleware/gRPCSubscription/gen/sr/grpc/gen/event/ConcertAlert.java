@@ -7,7 +7,7 @@ package sr.grpc.gen.event;
 
 /**
  * <pre>
- * Payload for a CONCERT_ALERT event (Example)
+ * Payload for a CONCERT_ALERT event
  * </pre>
  *
  * Protobuf type {@code eventsubscription.ConcertAlert}
@@ -55,10 +55,6 @@ private static final long serialVersionUID = 0L;
   @SuppressWarnings("serial")
   private volatile java.lang.Object artist_ = "";
   /**
-   * <pre>
-   * Matches criteria.target_identifier
-   * </pre>
-   *
    * <code>string artist = 1;</code>
    * @return The artist.
    */
@@ -76,10 +72,6 @@ private static final long serialVersionUID = 0L;
     }
   }
   /**
-   * <pre>
-   * Matches criteria.target_identifier
-   * </pre>
-   *
    * <code>string artist = 1;</code>
    * @return The bytes for artist.
    */
@@ -203,10 +195,6 @@ private static final long serialVersionUID = 0L;
   private com.google.protobuf.LazyStringArrayList ticketLinks_ =
       com.google.protobuf.LazyStringArrayList.emptyList();
   /**
-   * <pre>
-   * Repeated string
-   * </pre>
-   *
    * <code>repeated string ticket_links = 6;</code>
    * @return A list containing the ticketLinks.
    */
@@ -215,10 +203,6 @@ private static final long serialVersionUID = 0L;
     return ticketLinks_;
   }
   /**
-   * <pre>
-   * Repeated string
-   * </pre>
-   *
    * <code>repeated string ticket_links = 6;</code>
    * @return The count of ticketLinks.
    */
@@ -226,10 +210,6 @@ private static final long serialVersionUID = 0L;
     return ticketLinks_.size();
   }
   /**
-   * <pre>
-   * Repeated string
-   * </pre>
-   *
    * <code>repeated string ticket_links = 6;</code>
    * @param index The index of the element to return.
    * @return The ticketLinks at the given index.
@@ -238,10 +218,6 @@ private static final long serialVersionUID = 0L;
     return ticketLinks_.get(index);
   }
   /**
-   * <pre>
-   * Repeated string
-   * </pre>
-   *
    * <code>repeated string ticket_links = 6;</code>
    * @param index The index of the value to return.
    * @return The bytes of the ticketLinks at the given index.
@@ -469,7 +445,7 @@ private static final long serialVersionUID = 0L;
   }
   /**
    * <pre>
-   * Payload for a CONCERT_ALERT event (Example)
+   * Payload for a CONCERT_ALERT event
    * </pre>
    *
    * Protobuf type {@code eventsubscription.ConcertAlert}
@@ -685,10 +661,6 @@ private static final long serialVersionUID = 0L;
 
     private java.lang.Object artist_ = "";
     /**
-     * <pre>
-     * Matches criteria.target_identifier
-     * </pre>
-     *
      * <code>string artist = 1;</code>
      * @return The artist.
      */
@@ -705,10 +677,6 @@ private static final long serialVersionUID = 0L;
       }
     }
     /**
-     * <pre>
-     * Matches criteria.target_identifier
-     * </pre>
-     *
      * <code>string artist = 1;</code>
      * @return The bytes for artist.
      */
@@ -726,10 +694,6 @@ private static final long serialVersionUID = 0L;
       }
     }
     /**
-     * <pre>
-     * Matches criteria.target_identifier
-     * </pre>
-     *
      * <code>string artist = 1;</code>
      * @param value The artist to set.
      * @return This builder for chaining.
@@ -743,10 +707,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Matches criteria.target_identifier
-     * </pre>
-     *
      * <code>string artist = 1;</code>
      * @return This builder for chaining.
      */
@@ -757,10 +717,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Matches criteria.target_identifier
-     * </pre>
-     *
      * <code>string artist = 1;</code>
      * @param value The bytes for artist to set.
      * @return This builder for chaining.
@@ -992,10 +948,6 @@ private static final long serialVersionUID = 0L;
       bitField0_ |= 0x00000020;
     }
     /**
-     * <pre>
-     * Repeated string
-     * </pre>
-     *
      * <code>repeated string ticket_links = 6;</code>
      * @return A list containing the ticketLinks.
      */
@@ -1005,10 +957,6 @@ private static final long serialVersionUID = 0L;
       return ticketLinks_;
     }
     /**
-     * <pre>
-     * Repeated string
-     * </pre>
-     *
      * <code>repeated string ticket_links = 6;</code>
      * @return The count of ticketLinks.
      */
@@ -1016,10 +964,6 @@ private static final long serialVersionUID = 0L;
       return ticketLinks_.size();
     }
     /**
-     * <pre>
-     * Repeated string
-     * </pre>
-     *
      * <code>repeated string ticket_links = 6;</code>
      * @param index The index of the element to return.
      * @return The ticketLinks at the given index.
@@ -1028,10 +972,6 @@ private static final long serialVersionUID = 0L;
       return ticketLinks_.get(index);
     }
     /**
-     * <pre>
-     * Repeated string
-     * </pre>
-     *
      * <code>repeated string ticket_links = 6;</code>
      * @param index The index of the value to return.
      * @return The bytes of the ticketLinks at the given index.
@@ -1041,10 +981,6 @@ private static final long serialVersionUID = 0L;
       return ticketLinks_.getByteString(index);
     }
     /**
-     * <pre>
-     * Repeated string
-     * </pre>
-     *
      * <code>repeated string ticket_links = 6;</code>
      * @param index The index to set the value at.
      * @param value The ticketLinks to set.
@@ -1060,10 +996,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Repeated string
-     * </pre>
-     *
      * <code>repeated string ticket_links = 6;</code>
      * @param value The ticketLinks to add.
      * @return This builder for chaining.
@@ -1078,10 +1010,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Repeated string
-     * </pre>
-     *
      * <code>repeated string ticket_links = 6;</code>
      * @param values The ticketLinks to add.
      * @return This builder for chaining.
@@ -1096,10 +1024,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Repeated string
-     * </pre>
-     *
      * <code>repeated string ticket_links = 6;</code>
      * @return This builder for chaining.
      */
@@ -1111,10 +1035,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Repeated string
-     * </pre>
-     *
      * <code>repeated string ticket_links = 6;</code>
      * @param value The bytes of the ticketLinks to add.
      * @return This builder for chaining.
@@ -10,19 +10,11 @@ public interface ConcertAlertOrBuilder extends
     com.google.protobuf.MessageOrBuilder {
 
   /**
-   * <pre>
-   * Matches criteria.target_identifier
-   * </pre>
-   *
    * <code>string artist = 1;</code>
    * @return The artist.
    */
   java.lang.String getArtist();
   /**
-   * <pre>
-   * Matches criteria.target_identifier
-   * </pre>
-   *
    * <code>string artist = 1;</code>
    * @return The bytes for artist.
    */
@@ -66,39 +58,23 @@ public interface ConcertAlertOrBuilder extends
   int getTicketsAvailable();
 
   /**
-   * <pre>
-   * Repeated string
-   * </pre>
-   *
    * <code>repeated string ticket_links = 6;</code>
    * @return A list containing the ticketLinks.
    */
   java.util.List<java.lang.String>
       getTicketLinksList();
   /**
-   * <pre>
-   * Repeated string
-   * </pre>
-   *
    * <code>repeated string ticket_links = 6;</code>
    * @return The count of ticketLinks.
    */
   int getTicketLinksCount();
   /**
-   * <pre>
-   * Repeated string
-   * </pre>
-   *
    * <code>repeated string ticket_links = 6;</code>
    * @param index The index of the element to return.
    * @return The ticketLinks at the given index.
    */
   java.lang.String getTicketLinks(int index);
   /**
-   * <pre>
-   * Repeated string
-   * </pre>
-   *
    * <code>repeated string ticket_links = 6;</code>
    * @param index The index of the value to return.
    * @return The bytes of the ticketLinks at the given index.
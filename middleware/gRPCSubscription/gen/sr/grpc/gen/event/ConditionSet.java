@@ -0,0 +1,627 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * Protobuf type {@code eventsubscription.ConditionSet}
+ */
+public final class ConditionSet extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.ConditionSet)
+    ConditionSetOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      ConditionSet.class.getName());
+  }
+  // Use ConditionSet.newBuilder() to construct.
+  private ConditionSet(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private ConditionSet() {
+    conditions_ = emptyIntList();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ConditionSet_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ConditionSet_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.ConditionSet.class, sr.grpc.gen.event.ConditionSet.Builder.class);
+  }
+
+  public static final int CONDITIONS_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private com.google.protobuf.Internal.IntList conditions_;
+  private static final com.google.protobuf.Internal.IntListAdapter.IntConverter<
+      sr.grpc.gen.event.WeatherCondition> conditions_converter_ =
+          new com.google.protobuf.Internal.IntListAdapter.IntConverter<
+              sr.grpc.gen.event.WeatherCondition>() {
+            public sr.grpc.gen.event.WeatherCondition convert(int from) {
+              sr.grpc.gen.event.WeatherCondition result = sr.grpc.gen.event.WeatherCondition.forNumber(from);
+              return result == null ? sr.grpc.gen.event.WeatherCondition.UNRECOGNIZED : result;
+            }
+          };
+  /**
+   * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+   * @return A list containing the conditions.
+   */
+  @java.lang.Override
+  public java.util.List<sr.grpc.gen.event.WeatherCondition> getConditionsList() {
+    return new com.google.protobuf.Internal.IntListAdapter<
+        sr.grpc.gen.event.WeatherCondition>(conditions_, conditions_converter_);
+  }
+  /**
+   * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+   * @return The count of conditions.
+   */
+  @java.lang.Override
+  public int getConditionsCount() {
+    return conditions_.size();
+  }
+  /**
+   * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+   * @param index The index of the element to return.
+   * @return The conditions at the given index.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.WeatherCondition getConditions(int index) {
+    return conditions_converter_.convert(conditions_.getInt(index));
+  }
+  /**
+   * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+   * @return A list containing the enum numeric values on the wire for conditions.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Integer>
+  getConditionsValueList() {
+    return conditions_;
+  }
+  /**
+   * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+   * @param index The index of the value to return.
+   * @return The enum numeric value on the wire of conditions at the given index.
+   */
+  @java.lang.Override
+  public int getConditionsValue(int index) {
+    return conditions_.getInt(index);
+  }
+  private int conditionsMemoizedSerializedSize;
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (getConditionsList().size() > 0) {
+      output.writeUInt32NoTag(10);
+      output.writeUInt32NoTag(conditionsMemoizedSerializedSize);
+    }
+    for (int i = 0; i < conditions_.size(); i++) {
+      output.writeEnumNoTag(conditions_.getInt(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    {
+      int dataSize = 0;
+      for (int i = 0; i < conditions_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeEnumSizeNoTag(conditions_.getInt(i));
+      }
+      size += dataSize;
+      if (!getConditionsList().isEmpty()) {  size += 1;
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32SizeNoTag(dataSize);
+      }conditionsMemoizedSerializedSize = dataSize;
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.ConditionSet)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.ConditionSet other = (sr.grpc.gen.event.ConditionSet) obj;
+
+    if (!conditions_.equals(other.conditions_)) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getConditionsCount() > 0) {
+      hash = (37 * hash) + CONDITIONS_FIELD_NUMBER;
+      hash = (53 * hash) + conditions_.hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.ConditionSet parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.ConditionSet parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ConditionSet parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.ConditionSet parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ConditionSet parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.ConditionSet parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ConditionSet parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.ConditionSet parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.ConditionSet parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.ConditionSet parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ConditionSet parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.ConditionSet parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.ConditionSet prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code eventsubscription.ConditionSet}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.ConditionSet)
+      sr.grpc.gen.event.ConditionSetOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ConditionSet_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ConditionSet_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.ConditionSet.class, sr.grpc.gen.event.ConditionSet.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.ConditionSet.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      conditions_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ConditionSet_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.ConditionSet getDefaultInstanceForType() {
+      return sr.grpc.gen.event.ConditionSet.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.ConditionSet build() {
+      sr.grpc.gen.event.ConditionSet result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.ConditionSet buildPartial() {
+      sr.grpc.gen.event.ConditionSet result = new sr.grpc.gen.event.ConditionSet(this);
+      buildPartialRepeatedFields(result);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartialRepeatedFields(sr.grpc.gen.event.ConditionSet result) {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        conditions_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.conditions_ = conditions_;
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.ConditionSet result) {
+      int from_bitField0_ = bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.ConditionSet) {
+        return mergeFrom((sr.grpc.gen.event.ConditionSet)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.ConditionSet other) {
+      if (other == sr.grpc.gen.event.ConditionSet.getDefaultInstance()) return this;
+      if (!other.conditions_.isEmpty()) {
+        if (conditions_.isEmpty()) {
+          conditions_ = other.conditions_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureConditionsIsMutable();
+          conditions_.addAll(other.conditions_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              int tmpRaw = input.readEnum();
+              ensureConditionsIsMutable();
+              conditions_.addInt(tmpRaw);
+              break;
+            } // case 8
+            case 10: {
+              int length = input.readRawVarint32();
+              int oldLimit = input.pushLimit(length);
+              while(input.getBytesUntilLimit() > 0) {
+                int tmpRaw = input.readEnum();
+                ensureConditionsIsMutable();
+                conditions_.addInt(tmpRaw);
+              }
+              input.popLimit(oldLimit);
+              break;
+            } // case 10
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.Internal.IntList conditions_ =
+      emptyIntList();
+    private void ensureConditionsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        conditions_ = makeMutableCopy(conditions_);
+        bitField0_ |= 0x00000001;
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+     * @return A list containing the conditions.
+     */
+    public java.util.List<sr.grpc.gen.event.WeatherCondition> getConditionsList() {
+      return new com.google.protobuf.Internal.IntListAdapter<
+          sr.grpc.gen.event.WeatherCondition>(conditions_, conditions_converter_);
+    }
+    /**
+     * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+     * @return The count of conditions.
+     */
+    public int getConditionsCount() {
+      return conditions_.size();
+    }
+    /**
+     * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+     * @param index The index of the element to return.
+     * @return The conditions at the given index.
+     */
+    public sr.grpc.gen.event.WeatherCondition getConditions(int index) {
+      return conditions_converter_.convert(conditions_.getInt(index));
+    }
+    /**
+     * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+     * @param index The index to set the value at.
+     * @param value The conditions to set.
+     * @return This builder for chaining.
+     */
+    public Builder setConditions(
+        int index, sr.grpc.gen.event.WeatherCondition value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      ensureConditionsIsMutable();
+      conditions_.setInt(index, value.getNumber());
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+     * @param value The conditions to add.
+     * @return This builder for chaining.
+     */
+    public Builder addConditions(sr.grpc.gen.event.WeatherCondition value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      ensureConditionsIsMutable();
+      conditions_.addInt(value.getNumber());
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+     * @param values The conditions to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllConditions(
+        java.lang.Iterable<? extends sr.grpc.gen.event.WeatherCondition> values) {
+      ensureConditionsIsMutable();
+      for (sr.grpc.gen.event.WeatherCondition value : values) {
+        conditions_.addInt(value.getNumber());
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearConditions() {
+      conditions_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+     * @return A list containing the enum numeric values on the wire for conditions.
+     */
+    public java.util.List<java.lang.Integer>
+    getConditionsValueList() {
+      return java.util.Collections.unmodifiableList(conditions_);
+    }
+    /**
+     * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+     * @param index The index of the value to return.
+     * @return The enum numeric value on the wire of conditions at the given index.
+     */
+    public int getConditionsValue(int index) {
+      return conditions_.getInt(index);
+    }
+    /**
+     * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+     * @param index The index to set the value at.
+     * @param value The enum numeric value on the wire for conditions to set.
+     * @return This builder for chaining.
+     */
+    public Builder setConditionsValue(
+        int index, int value) {
+      ensureConditionsIsMutable();
+      conditions_.setInt(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+     * @param value The enum numeric value on the wire for conditions to add.
+     * @return This builder for chaining.
+     */
+    public Builder addConditionsValue(int value) {
+      ensureConditionsIsMutable();
+      conditions_.addInt(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+     * @param values The enum numeric values on the wire for conditions to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllConditionsValue(
+        java.lang.Iterable<java.lang.Integer> values) {
+      ensureConditionsIsMutable();
+      for (int value : values) {
+        conditions_.addInt(value);
+      }
+      onChanged();
+      return this;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.ConditionSet)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.ConditionSet)
+  private static final sr.grpc.gen.event.ConditionSet DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.ConditionSet();
+  }
+
+  public static sr.grpc.gen.event.ConditionSet getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ConditionSet>
+      PARSER = new com.google.protobuf.AbstractParser<ConditionSet>() {
+    @java.lang.Override
+    public ConditionSet parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<ConditionSet> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ConditionSet> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.ConditionSet getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,40 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface ConditionSetOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.ConditionSet)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+   * @return A list containing the conditions.
+   */
+  java.util.List<sr.grpc.gen.event.WeatherCondition> getConditionsList();
+  /**
+   * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+   * @return The count of conditions.
+   */
+  int getConditionsCount();
+  /**
+   * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+   * @param index The index of the element to return.
+   * @return The conditions at the given index.
+   */
+  sr.grpc.gen.event.WeatherCondition getConditions(int index);
+  /**
+   * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+   * @return A list containing the enum numeric values on the wire for conditions.
+   */
+  java.util.List<java.lang.Integer>
+  getConditionsValueList();
+  /**
+   * <code>repeated .eventsubscription.WeatherCondition conditions = 1;</code>
+   * @param index The index of the value to return.
+   * @return The enum numeric value on the wire of conditions at the given index.
+   */
+  int getConditionsValue(int index);
+}
@@ -0,0 +1,968 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * <pre>
+ * Server's answer to one control message, sent before any notification of the subscription it concerns.
+ * </pre>
+ *
+ * Protobuf type {@code eventsubscription.ControlAck}
+ */
+public final class ControlAck extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.ControlAck)
+    ControlAckOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      ControlAck.class.getName());
+  }
+  // Use ControlAck.newBuilder() to construct.
+  private ControlAck(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private ControlAck() {
+    clientSubscriptionId_ = "";
+    action_ = 0;
+    message_ = "";
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ControlAck_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ControlAck_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.ControlAck.class, sr.grpc.gen.event.ControlAck.Builder.class);
+  }
+
+  /**
+   * Protobuf enum {@code eventsubscription.ControlAck.Action}
+   */
+  public enum Action
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>ACTION_UNSPECIFIED = 0;</code>
+     */
+    ACTION_UNSPECIFIED(0),
+    /**
+     * <code>ADD = 1;</code>
+     */
+    ADD(1),
+    /**
+     * <pre>
+     * Also sent unprompted when the subscription is cancelled through Unsubscribe
+     * </pre>
+     *
+     * <code>REMOVE = 2;</code>
+     */
+    REMOVE(2),
+    UNRECOGNIZED(-1),
+    ;
+
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 30,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        Action.class.getName());
+    }
+    /**
+     * <code>ACTION_UNSPECIFIED = 0;</code>
+     */
+    public static final int ACTION_UNSPECIFIED_VALUE = 0;
+    /**
+     * <code>ADD = 1;</code>
+     */
+    public static final int ADD_VALUE = 1;
+    /**
+     * <pre>
+     * Also sent unprompted when the subscription is cancelled through Unsubscribe
+     * </pre>
+     *
+     * <code>REMOVE = 2;</code>
+     */
+    public static final int REMOVE_VALUE = 2;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static Action valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static Action forNumber(int value) {
+      switch (value) {
+        case 0: return ACTION_UNSPECIFIED;
+        case 1: return ADD;
+        case 2: return REMOVE;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<Action>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        Action> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<Action>() {
+            public Action findValueByNumber(int number) {
+              return Action.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.ControlAck.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final Action[] VALUES = values();
+
+    public static Action valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private Action(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:eventsubscription.ControlAck.Action)
+  }
+
+  public static final int CLIENT_SUBSCRIPTION_ID_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object clientSubscriptionId_ = "";
+  /**
+   * <code>string client_subscription_id = 1;</code>
+   * @return The clientSubscriptionId.
+   */
+  @java.lang.Override
+  public java.lang.String getClientSubscriptionId() {
+    java.lang.Object ref = clientSubscriptionId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      clientSubscriptionId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string client_subscription_id = 1;</code>
+   * @return The bytes for clientSubscriptionId.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getClientSubscriptionIdBytes() {
+    java.lang.Object ref = clientSubscriptionId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      clientSubscriptionId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int ACTION_FIELD_NUMBER = 2;
+  private int action_ = 0;
+  /**
+   * <code>.eventsubscription.ControlAck.Action action = 2;</code>
+   * @return The enum numeric value on the wire for action.
+   */
+  @java.lang.Override public int getActionValue() {
+    return action_;
+  }
+  /**
+   * <code>.eventsubscription.ControlAck.Action action = 2;</code>
+   * @return The action.
+   */
+  @java.lang.Override public sr.grpc.gen.event.ControlAck.Action getAction() {
+    sr.grpc.gen.event.ControlAck.Action result = sr.grpc.gen.event.ControlAck.Action.forNumber(action_);
+    return result == null ? sr.grpc.gen.event.ControlAck.Action.UNRECOGNIZED : result;
+  }
+
+  public static final int SUCCESS_FIELD_NUMBER = 3;
+  private boolean success_ = false;
+  /**
+   * <code>bool success = 3;</code>
+   * @return The success.
+   */
+  @java.lang.Override
+  public boolean getSuccess() {
+    return success_;
+  }
+
+  public static final int MESSAGE_FIELD_NUMBER = 4;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object message_ = "";
+  /**
+   * <pre>
+   * Reason when success is false
+   * </pre>
+   *
+   * <code>string message = 4;</code>
+   * @return The message.
+   */
+  @java.lang.Override
+  public java.lang.String getMessage() {
+    java.lang.Object ref = message_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      message_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Reason when success is false
+   * </pre>
+   *
+   * <code>string message = 4;</code>
+   * @return The bytes for message.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getMessageBytes() {
+    java.lang.Object ref = message_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      message_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(clientSubscriptionId_)) {
+      com.google.protobuf.GeneratedMessage.writeString(output, 1, clientSubscriptionId_);
+    }
+    if (action_ != sr.grpc.gen.event.ControlAck.Action.ACTION_UNSPECIFIED.getNumber()) {
+      output.writeEnum(2, action_);
+    }
+    if (success_ != false) {
+      output.writeBool(3, success_);
+    }
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(message_)) {
+      com.google.protobuf.GeneratedMessage.writeString(output, 4, message_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(clientSubscriptionId_)) {
+      size += com.google.protobuf.GeneratedMessage.computeStringSize(1, clientSubscriptionId_);
+    }
+    if (action_ != sr.grpc.gen.event.ControlAck.Action.ACTION_UNSPECIFIED.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(2, action_);
+    }
+    if (success_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(3, success_);
+    }
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(message_)) {
+      size += com.google.protobuf.GeneratedMessage.computeStringSize(4, message_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.ControlAck)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.ControlAck other = (sr.grpc.gen.event.ControlAck) obj;
+
+    if (!getClientSubscriptionId()
+        .equals(other.getClientSubscriptionId())) return false;
+    if (action_ != other.action_) return false;
+    if (getSuccess()
+        != other.getSuccess()) return false;
+    if (!getMessage()
+        .equals(other.getMessage())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + CLIENT_SUBSCRIPTION_ID_FIELD_NUMBER;
+    hash = (53 * hash) + getClientSubscriptionId().hashCode();
+    hash = (37 * hash) + ACTION_FIELD_NUMBER;
+    hash = (53 * hash) + action_;
+    hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getSuccess());
+    hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
+    hash = (53 * hash) + getMessage().hashCode();
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.ControlAck parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.ControlAck parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ControlAck parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.ControlAck parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ControlAck parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.ControlAck parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ControlAck parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.ControlAck parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.ControlAck parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.ControlAck parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ControlAck parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.ControlAck parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.ControlAck prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Server's answer to one control message, sent before any notification of the subscription it concerns.
+   * </pre>
+   *
+   * Protobuf type {@code eventsubscription.ControlAck}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.ControlAck)
+      sr.grpc.gen.event.ControlAckOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ControlAck_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ControlAck_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.ControlAck.class, sr.grpc.gen.event.ControlAck.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.ControlAck.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      clientSubscriptionId_ = "";
+      action_ = 0;
+      success_ = false;
+      message_ = "";
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ControlAck_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.ControlAck getDefaultInstanceForType() {
+      return sr.grpc.gen.event.ControlAck.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.ControlAck build() {
+      sr.grpc.gen.event.ControlAck result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.ControlAck buildPartial() {
+      sr.grpc.gen.event.ControlAck result = new sr.grpc.gen.event.ControlAck(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.ControlAck result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.clientSubscriptionId_ = clientSubscriptionId_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.action_ = action_;
+      }
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.success_ = success_;
+      }
+      if (((from_bitField0_ & 0x00000008) != 0)) {
+        result.message_ = message_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.ControlAck) {
+        return mergeFrom((sr.grpc.gen.event.ControlAck)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.ControlAck other) {
+      if (other == sr.grpc.gen.event.ControlAck.getDefaultInstance()) return this;
+      if (!other.getClientSubscriptionId().isEmpty()) {
+        clientSubscriptionId_ = other.clientSubscriptionId_;
+        bitField0_ |= 0x00000001;
+        onChanged();
+      }
+      if (other.action_ != 0) {
+        setActionValue(other.getActionValue());
+      }
+      if (other.getSuccess() != false) {
+        setSuccess(other.getSuccess());
+      }
+      if (!other.getMessage().isEmpty()) {
+        message_ = other.message_;
+        bitField0_ |= 0x00000008;
+        onChanged();
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              clientSubscriptionId_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 10
+            case 16: {
+              action_ = input.readEnum();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 16
+            case 24: {
+              success_ = input.readBool();
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 24
+            case 34: {
+              message_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000008;
+              break;
+            } // case 34
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object clientSubscriptionId_ = "";
+    /**
+     * <code>string client_subscription_id = 1;</code>
+     * @return The clientSubscriptionId.
+     */
+    public java.lang.String getClientSubscriptionId() {
+      java.lang.Object ref = clientSubscriptionId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        clientSubscriptionId_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string client_subscription_id = 1;</code>
+     * @return The bytes for clientSubscriptionId.
+     */
+    public com.google.protobuf.ByteString
+        getClientSubscriptionIdBytes() {
+      java.lang.Object ref = clientSubscriptionId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        clientSubscriptionId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string client_subscription_id = 1;</code>
+     * @param value The clientSubscriptionId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setClientSubscriptionId(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      clientSubscriptionId_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string client_subscription_id = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearClientSubscriptionId() {
+      clientSubscriptionId_ = getDefaultInstance().getClientSubscriptionId();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string client_subscription_id = 1;</code>
+     * @param value The bytes for clientSubscriptionId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setClientSubscriptionIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      clientSubscriptionId_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+
+    private int action_ = 0;
+    /**
+     * <code>.eventsubscription.ControlAck.Action action = 2;</code>
+     * @return The enum numeric value on the wire for action.
+     */
+    @java.lang.Override public int getActionValue() {
+      return action_;
+    }
+    /**
+     * <code>.eventsubscription.ControlAck.Action action = 2;</code>
+     * @param value The enum numeric value on the wire for action to set.
+     * @return This builder for chaining.
+     */
+    public Builder setActionValue(int value) {
+      action_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.ControlAck.Action action = 2;</code>
+     * @return The action.
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.ControlAck.Action getAction() {
+      sr.grpc.gen.event.ControlAck.Action result = sr.grpc.gen.event.ControlAck.Action.forNumber(action_);
+      return result == null ? sr.grpc.gen.event.ControlAck.Action.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.eventsubscription.ControlAck.Action action = 2;</code>
+     * @param value The action to set.
+     * @return This builder for chaining.
+     */
+    public Builder setAction(sr.grpc.gen.event.ControlAck.Action value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      bitField0_ |= 0x00000002;
+      action_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.ControlAck.Action action = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearAction() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      action_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private boolean success_ ;
+    /**
+     * <code>bool success = 3;</code>
+     * @return The success.
+     */
+    @java.lang.Override
+    public boolean getSuccess() {
+      return success_;
+    }
+    /**
+     * <code>bool success = 3;</code>
+     * @param value The success to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSuccess(boolean value) {
+
+      success_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bool success = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSuccess() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      success_ = false;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object message_ = "";
+    /**
+     * <pre>
+     * Reason when success is false
+     * </pre>
+     *
+     * <code>string message = 4;</code>
+     * @return The message.
+     */
+    public java.lang.String getMessage() {
+      java.lang.Object ref = message_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        message_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Reason when success is false
+     * </pre>
+     *
+     * <code>string message = 4;</code>
+     * @return The bytes for message.
+     */
+    public com.google.protobuf.ByteString
+        getMessageBytes() {
+      java.lang.Object ref = message_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        message_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Reason when success is false
+     * </pre>
+     *
+     * <code>string message = 4;</code>
+     * @param value The message to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMessage(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      message_ = value;
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Reason when success is false
+     * </pre>
+     *
+     * <code>string message = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMessage() {
+      message_ = getDefaultInstance().getMessage();
+      bitField0_ = (bitField0_ & ~0x00000008);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Reason when success is false
+     * </pre>
+     *
+     * <code>string message = 4;</code>
+     * @param value The bytes for message to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMessageBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      message_ = value;
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.ControlAck)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.ControlAck)
+  private static final sr.grpc.gen.event.ControlAck DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.ControlAck();
+  }
+
+  public static sr.grpc.gen.event.ControlAck getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ControlAck>
+      PARSER = new com.google.protobuf.AbstractParser<ControlAck>() {
+    @java.lang.Override
+    public ControlAck parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<ControlAck> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ControlAck> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.ControlAck getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,60 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface ControlAckOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.ControlAck)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string client_subscription_id = 1;</code>
+   * @return The clientSubscriptionId.
+   */
+  java.lang.String getClientSubscriptionId();
+  /**
+   * <code>string client_subscription_id = 1;</code>
+   * @return The bytes for clientSubscriptionId.
+   */
+  com.google.protobuf.ByteString
+      getClientSubscriptionIdBytes();
+
+  /**
+   * <code>.eventsubscription.ControlAck.Action action = 2;</code>
+   * @return The enum numeric value on the wire for action.
+   */
+  int getActionValue();
+  /**
+   * <code>.eventsubscription.ControlAck.Action action = 2;</code>
+   * @return The action.
+   */
+  sr.grpc.gen.event.ControlAck.Action getAction();
+
+  /**
+   * <code>bool success = 3;</code>
+   * @return The success.
+   */
+  boolean getSuccess();
+
+  /**
+   * <pre>
+   * Reason when success is false
+   * </pre>
+   *
+   * <code>string message = 4;</code>
+   * @return The message.
+   */
+  java.lang.String getMessage();
+  /**
+   * <pre>
+   * Reason when success is false
+   * </pre>
+   *
+   * <code>string message = 4;</code>
+   * @return The bytes for message.
+   */
+  com.google.protobuf.ByteString
+      getMessageBytes();
+}
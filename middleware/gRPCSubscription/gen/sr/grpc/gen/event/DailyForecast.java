@@ -53,10 +53,6 @@ private static final long serialVersionUID = 0L;
   @SuppressWarnings("serial")
   private volatile java.lang.Object dayDescription_ = "";
   /**
-   * <pre>
-   * e.g., "Tomorrow", "Monday"
-   * </pre>
-   *
    * <code>string day_description = 1;</code>
    * @return The dayDescription.
    */
@@ -74,10 +70,6 @@ private static final long serialVersionUID = 0L;
     }
   }
   /**
-   * <pre>
-   * e.g., "Tomorrow", "Monday"
-   * </pre>
-   *
    * <code>string day_description = 1;</code>
    * @return The bytes for dayDescription.
    */
@@ -99,10 +91,6 @@ private static final long serialVersionUID = 0L;
   public static final int MAX_TEMPERATURE_CELSIUS_FIELD_NUMBER = 2;
   private double maxTemperatureCelsius_ = 0D;
   /**
-   * <pre>
-   * Numeric field
-   * </pre>
-   *
    * <code>double max_temperature_celsius = 2;</code>
    * @return The maxTemperatureCelsius.
    */
@@ -114,10 +102,6 @@ private static final long serialVersionUID = 0L;
   public static final int MIN_TEMPERATURE_CELSIUS_FIELD_NUMBER = 3;
   private double minTemperatureCelsius_ = 0D;
   /**
-   * <pre>
-   * Numeric field
-   * </pre>
-   *
    * <code>double min_temperature_celsius = 3;</code>
    * @return The minTemperatureCelsius.
    */
@@ -129,10 +113,6 @@ private static final long serialVersionUID = 0L;
   public static final int CONDITION_FIELD_NUMBER = 4;
   private int condition_ = 0;
   /**
-   * <pre>
-   * Enum field
-   * </pre>
-   *
    * <code>.eventsubscription.WeatherCondition condition = 4;</code>
    * @return The enum numeric value on the wire for condition.
    */
@@ -140,10 +120,6 @@ private static final long serialVersionUID = 0L;
     return condition_;
   }
   /**
-   * <pre>
-   * Enum field
-   * </pre>
-   *
    * <code>.eventsubscription.WeatherCondition condition = 4;</code>
    * @return The condition.
    */
@@ -156,10 +132,6 @@ private static final long serialVersionUID = 0L;
   @SuppressWarnings("serial")
   private volatile java.lang.Object summary_ = "";
   /**
-   * <pre>
-   * String field
-   * </pre>
-   *
    * <code>string summary = 5;</code>
    * @return The summary.
    */
@@ -177,10 +149,6 @@ private static final long serialVersionUID = 0L;
     }
   }
   /**
-   * <pre>
-   * String field
-   * </pre>
-   *
    * <code>string summary = 5;</code>
    * @return The bytes for summary.
    */
@@ -595,10 +563,6 @@ private static final long serialVersionUID = 0L;
 
     private java.lang.Object dayDescription_ = "";
     /**
-     * <pre>
-     * e.g., "Tomorrow", "Monday"
-     * </pre>
-     *
      * <code>string day_description = 1;</code>
      * @return The dayDescription.
      */
@@ -615,10 +579,6 @@ private static final long serialVersionUID = 0L;
       }
     }
     /**
-     * <pre>
-     * e.g., "Tomorrow", "Monday"
-     * </pre>
-     *
      * <code>string day_description = 1;</code>
      * @return The bytes for dayDescription.
      */
@@ -636,10 +596,6 @@ private static final long serialVersionUID = 0L;
       }
     }
     /**
-     * <pre>
-     * e.g., "Tomorrow", "Monday"
-     * </pre>
-     *
      * <code>string day_description = 1;</code>
      * @param value The dayDescription to set.
      * @return This builder for chaining.
@@ -653,10 +609,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * e.g., "Tomorrow", "Monday"
-     * </pre>
-     *
      * <code>string day_description = 1;</code>
      * @return This builder for chaining.
      */
@@ -667,10 +619,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * e.g., "Tomorrow", "Monday"
-     * </pre>
-     *
      * <code>string day_description = 1;</code>
      * @param value The bytes for dayDescription to set.
      * @return This builder for chaining.
@@ -687,10 +635,6 @@ private static final long serialVersionUID = 0L;
 
     private double maxTemperatureCelsius_ ;
     /**
-     * <pre>
-     * Numeric field
-     * </pre>
-     *
      * <code>double max_temperature_celsius = 2;</code>
      * @return The maxTemperatureCelsius.
      */
@@ -699,10 +643,6 @@ private static final long serialVersionUID = 0L;
       return maxTemperatureCelsius_;
     }
     /**
-     * <pre>
-     * Numeric field
-     * </pre>
-     *
      * <code>double max_temperature_celsius = 2;</code>
      * @param value The maxTemperatureCelsius to set.
      * @return This builder for chaining.
@@ -715,10 +655,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Numeric field
-     * </pre>
-     *
      * <code>double max_temperature_celsius = 2;</code>
      * @return This builder for chaining.
      */
@@ -731,10 +667,6 @@ private static final long serialVersionUID = 0L;
 
     private double minTemperatureCelsius_ ;
     /**
-     * <pre>
-     * Numeric field
-     * </pre>
-     *
      * <code>double min_temperature_celsius = 3;</code>
      * @return The minTemperatureCelsius.
      */
@@ -743,10 +675,6 @@ private static final long serialVersionUID = 0L;
       return minTemperatureCelsius_;
     }
     /**
-     * <pre>
-     * Numeric field
-     * </pre>
-     *
      * <code>double min_temperature_celsius = 3;</code>
      * @param value The minTemperatureCelsius to set.
      * @return This builder for chaining.
@@ -759,10 +687,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Numeric field
-     * </pre>
-     *
      * <code>double min_temperature_celsius = 3;</code>
      * @return This builder for chaining.
      */
@@ -775,10 +699,6 @@ private static final long serialVersionUID = 0L;
 
     private int condition_ = 0;
     /**
-     * <pre>
-     * Enum field
-     * </pre>
-     *
      * <code>.eventsubscription.WeatherCondition condition = 4;</code>
      * @return The enum numeric value on the wire for condition.
      */
@@ -786,10 +706,6 @@ private static final long serialVersionUID = 0L;
       return condition_;
     }
     /**
-     * <pre>
-     * Enum field
-     * </pre>
-     *
      * <code>.eventsubscription.WeatherCondition condition = 4;</code>
      * @param value The enum numeric value on the wire for condition to set.
      * @return This builder for chaining.
@@ -801,10 +717,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Enum field
-     * </pre>
-     *
      * <code>.eventsubscription.WeatherCondition condition = 4;</code>
      * @return The condition.
      */
@@ -814,10 +726,6 @@ private static final long serialVersionUID = 0L;
       return result == null ? sr.grpc.gen.event.WeatherCondition.UNRECOGNIZED : result;
     }
     /**
-     * <pre>
-     * Enum field
-     * </pre>
-     *
      * <code>.eventsubscription.WeatherCondition condition = 4;</code>
      * @param value The condition to set.
      * @return This builder for chaining.
@@ -832,10 +740,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Enum field
-     * </pre>
-     *
      * <code>.eventsubscription.WeatherCondition condition = 4;</code>
      * @return This builder for chaining.
      */
@@ -848,10 +752,6 @@ private static final long serialVersionUID = 0L;
 
     private java.lang.Object summary_ = "";
     /**
-     * <pre>
-     * String field
-     * </pre>
-     *
      * <code>string summary = 5;</code>
      * @return The summary.
      */
@@ -868,10 +768,6 @@ private static final long serialVersionUID = 0L;
       }
     }
     /**
-     * <pre>
-     * String field
-     * </pre>
-     *
      * <code>string summary = 5;</code>
      * @return The bytes for summary.
      */
@@ -889,10 +785,6 @@ private static final long serialVersionUID = 0L;
       }
     }
     /**
-     * <pre>
-     * String field
-     * </pre>
-     *
      * <code>string summary = 5;</code>
      * @param value The summary to set.
      * @return This builder for chaining.
@@ -906,10 +798,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * String field
-     * </pre>
-     *
      * <code>string summary = 5;</code>
      * @return This builder for chaining.
      */
@@ -920,10 +808,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * String field
-     * </pre>
-     *
      * <code>string summary = 5;</code>
      * @param value The bytes for summary to set.
      * @return This builder for chaining.
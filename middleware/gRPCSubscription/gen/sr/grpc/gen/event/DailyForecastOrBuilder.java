@@ -10,19 +10,11 @@ public interface DailyForecastOrBuilder extends
     com.google.protobuf.MessageOrBuilder {
 
   /**
-   * <pre>
-   * e.g., "Tomorrow", "Monday"
-   * </pre>
-   *
    * <code>string day_description = 1;</code>
    * @return The dayDescription.
    */
   java.lang.String getDayDescription();
   /**
-   * <pre>
-   * e.g., "Tomorrow", "Monday"
-   * </pre>
-   *
    * <code>string day_description = 1;</code>
    * @return The bytes for dayDescription.
    */
@@ -30,58 +22,34 @@ public interface DailyForecastOrBuilder extends
       getDayDescriptionBytes();
 
   /**
-   * <pre>
-   * Numeric field
-   * </pre>
-   *
    * <code>double max_temperature_celsius = 2;</code>
    * @return The maxTemperatureCelsius.
    */
   double getMaxTemperatureCelsius();
 
   /**
-   * <pre>
-   * Numeric field
-   * </pre>
-   *
    * <code>double min_temperature_celsius = 3;</code>
    * @return The minTemperatureCelsius.
    */
   double getMinTemperatureCelsius();
 
   /**
-   * <pre>
-   * Enum field
-   * </pre>
-   *
    * <code>.eventsubscription.WeatherCondition condition = 4;</code>
    * @return The enum numeric value on the wire for condition.
    */
   int getConditionValue();
   /**
-   * <pre>
-   * Enum field
-   * </pre>
-   *
    * <code>.eventsubscription.WeatherCondition condition = 4;</code>
    * @return The condition.
    */
   sr.grpc.gen.event.WeatherCondition getCondition();
 
   /**
-   * <pre>
-   * String field
-   * </pre>
-   *
    * <code>string summary = 5;</code>
    * @return The summary.
    */
   java.lang.String getSummary();
   /**
-   * <pre>
-   * String field
-   * </pre>
-   *
    * <code>string summary = 5;</code>
    * @return The bytes for summary.
    */
@@ -0,0 +1,161 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * <pre>
+ * How the server treats notifications that pile up while a subscriber's stream is not ready
+ * </pre>
+ *
+ * Protobuf enum {@code eventsubscription.DeliveryMode}
+ */
+public enum DeliveryMode
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <pre>
+   * Same as QUEUE_ALL
+   * </pre>
+   *
+   * <code>DELIVERY_MODE_UNSPECIFIED = 0;</code>
+   */
+  DELIVERY_MODE_UNSPECIFIED(0),
+  /**
+   * <pre>
+   * Every notification is queued, up to the server's per-subscription limit
+   * </pre>
+   *
+   * <code>QUEUE_ALL = 1;</code>
+   */
+  QUEUE_ALL(1),
+  /**
+   * <pre>
+   * Only the latest pending notification per (event type, target) is kept
+   * </pre>
+   *
+   * <code>CONFLATE_LATEST = 2;</code>
+   */
+  CONFLATE_LATEST(2),
+  UNRECOGNIZED(-1),
+  ;
+
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      DeliveryMode.class.getName());
+  }
+  /**
+   * <pre>
+   * Same as QUEUE_ALL
+   * </pre>
+   *
+   * <code>DELIVERY_MODE_UNSPECIFIED = 0;</code>
+   */
+  public static final int DELIVERY_MODE_UNSPECIFIED_VALUE = 0;
+  /**
+   * <pre>
+   * Every notification is queued, up to the server's per-subscription limit
+   * </pre>
+   *
+   * <code>QUEUE_ALL = 1;</code>
+   */
+  public static final int QUEUE_ALL_VALUE = 1;
+  /**
+   * <pre>
+   * Only the latest pending notification per (event type, target) is kept
+   * </pre>
+   *
+   * <code>CONFLATE_LATEST = 2;</code>
+   */
+  public static final int CONFLATE_LATEST_VALUE = 2;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static DeliveryMode valueOf(int value) {
+    return forNumber(value);
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   */
+  public static DeliveryMode forNumber(int value) {
+    switch (value) {
+      case 0: return DELIVERY_MODE_UNSPECIFIED;
+      case 1: return QUEUE_ALL;
+      case 2: return CONFLATE_LATEST;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<DeliveryMode>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      DeliveryMode> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<DeliveryMode>() {
+          public DeliveryMode findValueByNumber(int number) {
+            return DeliveryMode.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalStateException(
+          "Can't get the descriptor of an unrecognized enum value.");
+    }
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.getDescriptor().getEnumTypes().get(1);
+  }
+
+  private static final DeliveryMode[] VALUES = values();
+
+  public static DeliveryMode valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private DeliveryMode(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:eventsubscription.DeliveryMode)
+}
+
@@ -34,6 +34,7 @@ private static final long serialVersionUID = 0L;
     notificationId_ = "";
     clientSubscriptionId_ = "";
     eventType_ = 0;
+    priority_ = 0;
   }
 
   public static final com.google.protobuf.Descriptors.Descriptor
@@ -58,6 +59,7 @@ private static final long serialVersionUID = 0L;
     WEATHER_UPDATE(5),
     CONCERT_ALERT(6),
     NEWS_FLASH(7),
+    WEATHER_UPDATE_DELTA(9),
     EVENTPAYLOAD_NOT_SET(0);
     private final int value;
     private EventPayloadCase(int value) {
@@ -78,6 +80,7 @@ private static final long serialVersionUID = 0L;
         case 5: return WEATHER_UPDATE;
         case 6: return CONCERT_ALERT;
         case 7: return NEWS_FLASH;
+        case 9: return WEATHER_UPDATE_DELTA;
         case 0: return EVENTPAYLOAD_NOT_SET;
         default: return null;
       }
@@ -321,6 +324,110 @@ private static final long serialVersionUID = 0L;
     return sr.grpc.gen.event.NewsFlash.getDefaultInstance();
   }
 
+  public static final int WEATHER_UPDATE_DELTA_FIELD_NUMBER = 9;
+  /**
+   * <pre>
+   * Instead of weather_update on subscriptions with weather_delta
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherUpdateDelta weather_update_delta = 9;</code>
+   * @return Whether the weatherUpdateDelta field is set.
+   */
+  @java.lang.Override
+  public boolean hasWeatherUpdateDelta() {
+    return eventPayloadCase_ == 9;
+  }
+  /**
+   * <pre>
+   * Instead of weather_update on subscriptions with weather_delta
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherUpdateDelta weather_update_delta = 9;</code>
+   * @return The weatherUpdateDelta.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.WeatherUpdateDelta getWeatherUpdateDelta() {
+    if (eventPayloadCase_ == 9) {
+       return (sr.grpc.gen.event.WeatherUpdateDelta) eventPayload_;
+    }
+    return sr.grpc.gen.event.WeatherUpdateDelta.getDefaultInstance();
+  }
+  /**
+   * <pre>
+   * Instead of weather_update on subscriptions with weather_delta
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherUpdateDelta weather_update_delta = 9;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.WeatherUpdateDeltaOrBuilder getWeatherUpdateDeltaOrBuilder() {
+    if (eventPayloadCase_ == 9) {
+       return (sr.grpc.gen.event.WeatherUpdateDelta) eventPayload_;
+    }
+    return sr.grpc.gen.event.WeatherUpdateDelta.getDefaultInstance();
+  }
+
+  public static final int SEQUENCE_FIELD_NUMBER = 8;
+  private long sequence_ = 0L;
+  /**
+   * <pre>
+   * Position of the event in its topic (city for weather, source for news), starting at 1 and increasing by one.
+   * Not set on confirmations.
+   * </pre>
+   *
+   * <code>uint64 sequence = 8;</code>
+   * @return The sequence.
+   */
+  @java.lang.Override
+  public long getSequence() {
+    return sequence_;
+  }
+
+  public static final int TIMESTAMP_UNIX_NANOS_FIELD_NUMBER = 10;
+  private long timestampUnixNanos_ = 0L;
+  /**
+   * <pre>
+   * When the producer created the event, in nanoseconds since the epoch; timestamp_unix_seconds is the same
+   * instant in whole seconds. Receivers subtract it from their clock for the delivery lag. 0 if the producer did
+   * not set it.
+   * </pre>
+   *
+   * <code>fixed64 timestamp_unix_nanos = 10;</code>
+   * @return The timestampUnixNanos.
+   */
+  @java.lang.Override
+  public long getTimestampUnixNanos() {
+    return timestampUnixNanos_;
+  }
+
+  public static final int PRIORITY_FIELD_NUMBER = 11;
+  private int priority_ = 0;
+  /**
+   * <pre>
+   * Set by the producer, or raised to HIGH by the server for a STORMY weather update. A HIGH notification may
+   * arrive before routine notifications of its topic with lower sequence numbers that were queued before it.
+   * </pre>
+   *
+   * <code>.eventsubscription.EventPriority priority = 11;</code>
+   * @return The enum numeric value on the wire for priority.
+   */
+  @java.lang.Override public int getPriorityValue() {
+    return priority_;
+  }
+  /**
+   * <pre>
+   * Set by the producer, or raised to HIGH by the server for a STORMY weather update. A HIGH notification may
+   * arrive before routine notifications of its topic with lower sequence numbers that were queued before it.
+   * </pre>
+   *
+   * <code>.eventsubscription.EventPriority priority = 11;</code>
+   * @return The priority.
+   */
+  @java.lang.Override public sr.grpc.gen.event.EventPriority getPriority() {
+    sr.grpc.gen.event.EventPriority result = sr.grpc.gen.event.EventPriority.forNumber(priority_);
+    return result == null ? sr.grpc.gen.event.EventPriority.UNRECOGNIZED : result;
+  }
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -356,6 +463,18 @@ private static final long serialVersionUID = 0L;
     if (eventPayloadCase_ == 7) {
       output.writeMessage(7, (sr.grpc.gen.event.NewsFlash) eventPayload_);
     }
+    if (sequence_ != 0L) {
+      output.writeUInt64(8, sequence_);
+    }
+    if (eventPayloadCase_ == 9) {
+      output.writeMessage(9, (sr.grpc.gen.event.WeatherUpdateDelta) eventPayload_);
+    }
+    if (timestampUnixNanos_ != 0L) {
+      output.writeFixed64(10, timestampUnixNanos_);
+    }
+    if (priority_ != sr.grpc.gen.event.EventPriority.ROUTINE.getNumber()) {
+      output.writeEnum(11, priority_);
+    }
     getUnknownFields().writeTo(output);
   }
 
@@ -391,6 +510,22 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeMessageSize(7, (sr.grpc.gen.event.NewsFlash) eventPayload_);
     }
+    if (sequence_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(8, sequence_);
+    }
+    if (eventPayloadCase_ == 9) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(9, (sr.grpc.gen.event.WeatherUpdateDelta) eventPayload_);
+    }
+    if (timestampUnixNanos_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeFixed64Size(10, timestampUnixNanos_);
+    }
+    if (priority_ != sr.grpc.gen.event.EventPriority.ROUTINE.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(11, priority_);
+    }
     size += getUnknownFields().getSerializedSize();
     memoizedSize = size;
     return size;
@@ -413,6 +548,11 @@ private static final long serialVersionUID = 0L;
     if (getTimestampUnixSeconds()
         != other.getTimestampUnixSeconds()) return false;
     if (eventType_ != other.eventType_) return false;
+    if (getSequence()
+        != other.getSequence()) return false;
+    if (getTimestampUnixNanos()
+        != other.getTimestampUnixNanos()) return false;
+    if (priority_ != other.priority_) return false;
     if (!getEventPayloadCase().equals(other.getEventPayloadCase())) return false;
     switch (eventPayloadCase_) {
       case 5:
@@ -427,6 +567,10 @@ private static final long serialVersionUID = 0L;
         if (!getNewsFlash()
             .equals(other.getNewsFlash())) return false;
         break;
+      case 9:
+        if (!getWeatherUpdateDelta()
+            .equals(other.getWeatherUpdateDelta())) return false;
+        break;
       case 0:
       default:
     }
@@ -450,6 +594,14 @@ private static final long serialVersionUID = 0L;
         getTimestampUnixSeconds());
     hash = (37 * hash) + EVENT_TYPE_FIELD_NUMBER;
     hash = (53 * hash) + eventType_;
+    hash = (37 * hash) + SEQUENCE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSequence());
+    hash = (37 * hash) + TIMESTAMP_UNIX_NANOS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getTimestampUnixNanos());
+    hash = (37 * hash) + PRIORITY_FIELD_NUMBER;
+    hash = (53 * hash) + priority_;
     switch (eventPayloadCase_) {
       case 5:
         hash = (37 * hash) + WEATHER_UPDATE_FIELD_NUMBER;
@@ -463,6 +615,10 @@ private static final long serialVersionUID = 0L;
         hash = (37 * hash) + NEWS_FLASH_FIELD_NUMBER;
         hash = (53 * hash) + getNewsFlash().hashCode();
         break;
+      case 9:
+        hash = (37 * hash) + WEATHER_UPDATE_DELTA_FIELD_NUMBER;
+        hash = (53 * hash) + getWeatherUpdateDelta().hashCode();
+        break;
       case 0:
       default:
     }
@@ -614,6 +770,12 @@ private static final long serialVersionUID = 0L;
       if (newsFlashBuilder_ != null) {
         newsFlashBuilder_.clear();
       }
+      if (weatherUpdateDeltaBuilder_ != null) {
+        weatherUpdateDeltaBuilder_.clear();
+      }
+      sequence_ = 0L;
+      timestampUnixNanos_ = 0L;
+      priority_ = 0;
       eventPayloadCase_ = 0;
       eventPayload_ = null;
       return this;
@@ -662,6 +824,15 @@ private static final long serialVersionUID = 0L;
       if (((from_bitField0_ & 0x00000008) != 0)) {
         result.eventType_ = eventType_;
       }
+      if (((from_bitField0_ & 0x00000100) != 0)) {
+        result.sequence_ = sequence_;
+      }
+      if (((from_bitField0_ & 0x00000200) != 0)) {
+        result.timestampUnixNanos_ = timestampUnixNanos_;
+      }
+      if (((from_bitField0_ & 0x00000400) != 0)) {
+        result.priority_ = priority_;
+      }
     }
 
     private void buildPartialOneofs(sr.grpc.gen.event.EventNotification result) {
@@ -679,6 +850,10 @@ private static final long serialVersionUID = 0L;
           newsFlashBuilder_ != null) {
         result.eventPayload_ = newsFlashBuilder_.build();
       }
+      if (eventPayloadCase_ == 9 &&
+          weatherUpdateDeltaBuilder_ != null) {
+        result.eventPayload_ = weatherUpdateDeltaBuilder_.build();
+      }
     }
 
     @java.lang.Override
@@ -709,6 +884,15 @@ private static final long serialVersionUID = 0L;
       if (other.eventType_ != 0) {
         setEventTypeValue(other.getEventTypeValue());
       }
+      if (other.getSequence() != 0L) {
+        setSequence(other.getSequence());
+      }
+      if (other.getTimestampUnixNanos() != 0L) {
+        setTimestampUnixNanos(other.getTimestampUnixNanos());
+      }
+      if (other.priority_ != 0) {
+        setPriorityValue(other.getPriorityValue());
+      }
       switch (other.getEventPayloadCase()) {
         case WEATHER_UPDATE: {
           mergeWeatherUpdate(other.getWeatherUpdate());
@@ -722,6 +906,10 @@ private static final long serialVersionUID = 0L;
           mergeNewsFlash(other.getNewsFlash());
           break;
         }
+        case WEATHER_UPDATE_DELTA: {
+          mergeWeatherUpdateDelta(other.getWeatherUpdateDelta());
+          break;
+        }
         case EVENTPAYLOAD_NOT_SET: {
           break;
         }
@@ -793,6 +981,28 @@ private static final long serialVersionUID = 0L;
               eventPayloadCase_ = 7;
               break;
             } // case 58
+            case 64: {
+              sequence_ = input.readUInt64();
+              bitField0_ |= 0x00000100;
+              break;
+            } // case 64
+            case 74: {
+              input.readMessage(
+                  internalGetWeatherUpdateDeltaFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              eventPayloadCase_ = 9;
+              break;
+            } // case 74
+            case 81: {
+              timestampUnixNanos_ = input.readFixed64();
+              bitField0_ |= 0x00000200;
+              break;
+            } // case 81
+            case 88: {
+              priority_ = input.readEnum();
+              bitField0_ |= 0x00000400;
+              break;
+            } // case 88
             default: {
               if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                 done = true; // was an endgroup tag
@@ -1552,6 +1762,359 @@ private static final long serialVersionUID = 0L;
       return newsFlashBuilder_;
     }
 
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.WeatherUpdateDelta, sr.grpc.gen.event.WeatherUpdateDelta.Builder, sr.grpc.gen.event.WeatherUpdateDeltaOrBuilder> weatherUpdateDeltaBuilder_;
+    /**
+     * <pre>
+     * Instead of weather_update on subscriptions with weather_delta
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherUpdateDelta weather_update_delta = 9;</code>
+     * @return Whether the weatherUpdateDelta field is set.
+     */
+    @java.lang.Override
+    public boolean hasWeatherUpdateDelta() {
+      return eventPayloadCase_ == 9;
+    }
+    /**
+     * <pre>
+     * Instead of weather_update on subscriptions with weather_delta
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherUpdateDelta weather_update_delta = 9;</code>
+     * @return The weatherUpdateDelta.
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.WeatherUpdateDelta getWeatherUpdateDelta() {
+      if (weatherUpdateDeltaBuilder_ == null) {
+        if (eventPayloadCase_ == 9) {
+          return (sr.grpc.gen.event.WeatherUpdateDelta) eventPayload_;
+        }
+        return sr.grpc.gen.event.WeatherUpdateDelta.getDefaultInstance();
+      } else {
+        if (eventPayloadCase_ == 9) {
+          return weatherUpdateDeltaBuilder_.getMessage();
+        }
+        return sr.grpc.gen.event.WeatherUpdateDelta.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * Instead of weather_update on subscriptions with weather_delta
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherUpdateDelta weather_update_delta = 9;</code>
+     */
+    public Builder setWeatherUpdateDelta(sr.grpc.gen.event.WeatherUpdateDelta value) {
+      if (weatherUpdateDeltaBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        eventPayload_ = value;
+        onChanged();
+      } else {
+        weatherUpdateDeltaBuilder_.setMessage(value);
+      }
+      eventPayloadCase_ = 9;
+      return this;
+    }
+    /**
+     * <pre>
+     * Instead of weather_update on subscriptions with weather_delta
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherUpdateDelta weather_update_delta = 9;</code>
+     */
+    public Builder setWeatherUpdateDelta(
+        sr.grpc.gen.event.WeatherUpdateDelta.Builder builderForValue) {
+      if (weatherUpdateDeltaBuilder_ == null) {
+        eventPayload_ = builderForValue.build();
+        onChanged();
+      } else {
+        weatherUpdateDeltaBuilder_.setMessage(builderForValue.build());
+      }
+      eventPayloadCase_ = 9;
+      return this;
+    }
+    /**
+     * <pre>
+     * Instead of weather_update on subscriptions with weather_delta
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherUpdateDelta weather_update_delta = 9;</code>
+     */
+    public Builder mergeWeatherUpdateDelta(sr.grpc.gen.event.WeatherUpdateDelta value) {
+      if (weatherUpdateDeltaBuilder_ == null) {
+        if (eventPayloadCase_ == 9 &&
+            eventPayload_ != sr.grpc.gen.event.WeatherUpdateDelta.getDefaultInstance()) {
+          eventPayload_ = sr.grpc.gen.event.WeatherUpdateDelta.newBuilder((sr.grpc.gen.event.WeatherUpdateDelta) eventPayload_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          eventPayload_ = value;
+        }
+        onChanged();
+      } else {
+        if (eventPayloadCase_ == 9) {
+          weatherUpdateDeltaBuilder_.mergeFrom(value);
+        } else {
+          weatherUpdateDeltaBuilder_.setMessage(value);
+        }
+      }
+      eventPayloadCase_ = 9;
+      return this;
+    }
+    /**
+     * <pre>
+     * Instead of weather_update on subscriptions with weather_delta
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherUpdateDelta weather_update_delta = 9;</code>
+     */
+    public Builder clearWeatherUpdateDelta() {
+      if (weatherUpdateDeltaBuilder_ == null) {
+        if (eventPayloadCase_ == 9) {
+          eventPayloadCase_ = 0;
+          eventPayload_ = null;
+          onChanged();
+        }
+      } else {
+        if (eventPayloadCase_ == 9) {
+          eventPayloadCase_ = 0;
+          eventPayload_ = null;
+        }
+        weatherUpdateDeltaBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Instead of weather_update on subscriptions with weather_delta
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherUpdateDelta weather_update_delta = 9;</code>
+     */
+    public sr.grpc.gen.event.WeatherUpdateDelta.Builder getWeatherUpdateDeltaBuilder() {
+      return internalGetWeatherUpdateDeltaFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * Instead of weather_update on subscriptions with weather_delta
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherUpdateDelta weather_update_delta = 9;</code>
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.WeatherUpdateDeltaOrBuilder getWeatherUpdateDeltaOrBuilder() {
+      if ((eventPayloadCase_ == 9) && (weatherUpdateDeltaBuilder_ != null)) {
+        return weatherUpdateDeltaBuilder_.getMessageOrBuilder();
+      } else {
+        if (eventPayloadCase_ == 9) {
+          return (sr.grpc.gen.event.WeatherUpdateDelta) eventPayload_;
+        }
+        return sr.grpc.gen.event.WeatherUpdateDelta.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * Instead of weather_update on subscriptions with weather_delta
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherUpdateDelta weather_update_delta = 9;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.WeatherUpdateDelta, sr.grpc.gen.event.WeatherUpdateDelta.Builder, sr.grpc.gen.event.WeatherUpdateDeltaOrBuilder> 
+        internalGetWeatherUpdateDeltaFieldBuilder() {
+      if (weatherUpdateDeltaBuilder_ == null) {
+        if (!(eventPayloadCase_ == 9)) {
+          eventPayload_ = sr.grpc.gen.event.WeatherUpdateDelta.getDefaultInstance();
+        }
+        weatherUpdateDeltaBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.WeatherUpdateDelta, sr.grpc.gen.event.WeatherUpdateDelta.Builder, sr.grpc.gen.event.WeatherUpdateDeltaOrBuilder>(
+                (sr.grpc.gen.event.WeatherUpdateDelta) eventPayload_,
+                getParentForChildren(),
+                isClean());
+        eventPayload_ = null;
+      }
+      eventPayloadCase_ = 9;
+      onChanged();
+      return weatherUpdateDeltaBuilder_;
+    }
+
+    private long sequence_ ;
+    /**
+     * <pre>
+     * Position of the event in its topic (city for weather, source for news), starting at 1 and increasing by one.
+     * Not set on confirmations.
+     * </pre>
+     *
+     * <code>uint64 sequence = 8;</code>
+     * @return The sequence.
+     */
+    @java.lang.Override
+    public long getSequence() {
+      return sequence_;
+    }
+    /**
+     * <pre>
+     * Position of the event in its topic (city for weather, source for news), starting at 1 and increasing by one.
+     * Not set on confirmations.
+     * </pre>
+     *
+     * <code>uint64 sequence = 8;</code>
+     * @param value The sequence to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSequence(long value) {
+
+      sequence_ = value;
+      bitField0_ |= 0x00000100;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Position of the event in its topic (city for weather, source for news), starting at 1 and increasing by one.
+     * Not set on confirmations.
+     * </pre>
+     *
+     * <code>uint64 sequence = 8;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSequence() {
+      bitField0_ = (bitField0_ & ~0x00000100);
+      sequence_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long timestampUnixNanos_ ;
+    /**
+     * <pre>
+     * When the producer created the event, in nanoseconds since the epoch; timestamp_unix_seconds is the same
+     * instant in whole seconds. Receivers subtract it from their clock for the delivery lag. 0 if the producer did
+     * not set it.
+     * </pre>
+     *
+     * <code>fixed64 timestamp_unix_nanos = 10;</code>
+     * @return The timestampUnixNanos.
+     */
+    @java.lang.Override
+    public long getTimestampUnixNanos() {
+      return timestampUnixNanos_;
+    }
+    /**
+     * <pre>
+     * When the producer created the event, in nanoseconds since the epoch; timestamp_unix_seconds is the same
+     * instant in whole seconds. Receivers subtract it from their clock for the delivery lag. 0 if the producer did
+     * not set it.
+     * </pre>
+     *
+     * <code>fixed64 timestamp_unix_nanos = 10;</code>
+     * @param value The timestampUnixNanos to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTimestampUnixNanos(long value) {
+
+      timestampUnixNanos_ = value;
+      bitField0_ |= 0x00000200;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * When the producer created the event, in nanoseconds since the epoch; timestamp_unix_seconds is the same
+     * instant in whole seconds. Receivers subtract it from their clock for the delivery lag. 0 if the producer did
+     * not set it.
+     * </pre>
+     *
+     * <code>fixed64 timestamp_unix_nanos = 10;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTimestampUnixNanos() {
+      bitField0_ = (bitField0_ & ~0x00000200);
+      timestampUnixNanos_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private int priority_ = 0;
+    /**
+     * <pre>
+     * Set by the producer, or raised to HIGH by the server for a STORMY weather update. A HIGH notification may
+     * arrive before routine notifications of its topic with lower sequence numbers that were queued before it.
+     * </pre>
+     *
+     * <code>.eventsubscription.EventPriority priority = 11;</code>
+     * @return The enum numeric value on the wire for priority.
+     */
+    @java.lang.Override public int getPriorityValue() {
+      return priority_;
+    }
+    /**
+     * <pre>
+     * Set by the producer, or raised to HIGH by the server for a STORMY weather update. A HIGH notification may
+     * arrive before routine notifications of its topic with lower sequence numbers that were queued before it.
+     * </pre>
+     *
+     * <code>.eventsubscription.EventPriority priority = 11;</code>
+     * @param value The enum numeric value on the wire for priority to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPriorityValue(int value) {
+      priority_ = value;
+      bitField0_ |= 0x00000400;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Set by the producer, or raised to HIGH by the server for a STORMY weather update. A HIGH notification may
+     * arrive before routine notifications of its topic with lower sequence numbers that were queued before it.
+     * </pre>
+     *
+     * <code>.eventsubscription.EventPriority priority = 11;</code>
+     * @return The priority.
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.EventPriority getPriority() {
+      sr.grpc.gen.event.EventPriority result = sr.grpc.gen.event.EventPriority.forNumber(priority_);
+      return result == null ? sr.grpc.gen.event.EventPriority.UNRECOGNIZED : result;
+    }
+    /**
+     * <pre>
+     * Set by the producer, or raised to HIGH by the server for a STORMY weather update. A HIGH notification may
+     * arrive before routine notifications of its topic with lower sequence numbers that were queued before it.
+     * </pre>
+     *
+     * <code>.eventsubscription.EventPriority priority = 11;</code>
+     * @param value The priority to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPriority(sr.grpc.gen.event.EventPriority value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      bitField0_ |= 0x00000400;
+      priority_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Set by the producer, or raised to HIGH by the server for a STORMY weather update. A HIGH notification may
+     * arrive before routine notifications of its topic with lower sequence numbers that were queued before it.
+     * </pre>
+     *
+     * <code>.eventsubscription.EventPriority priority = 11;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPriority() {
+      bitField0_ = (bitField0_ & ~0x00000400);
+      priority_ = 0;
+      onChanged();
+      return this;
+    }
+
     // @@protoc_insertion_point(builder_scope:eventsubscription.EventNotification)
   }
 
@@ -0,0 +1,821 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * <pre>
+ * Several notifications delivered together on a SubscribeBatched stream.
+ * The server flushes a batch when it reaches its size limit or its oldest notification has waited long enough.
+ * </pre>
+ *
+ * Protobuf type {@code eventsubscription.EventNotificationBatch}
+ */
+public final class EventNotificationBatch extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.EventNotificationBatch)
+    EventNotificationBatchOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      EventNotificationBatch.class.getName());
+  }
+  // Use EventNotificationBatch.newBuilder() to construct.
+  private EventNotificationBatch(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private EventNotificationBatch() {
+    notifications_ = java.util.Collections.emptyList();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_EventNotificationBatch_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_EventNotificationBatch_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.EventNotificationBatch.class, sr.grpc.gen.event.EventNotificationBatch.Builder.class);
+  }
+
+  public static final int NOTIFICATIONS_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private java.util.List<sr.grpc.gen.event.EventNotification> notifications_;
+  /**
+   * <pre>
+   * In the order they were published
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<sr.grpc.gen.event.EventNotification> getNotificationsList() {
+    return notifications_;
+  }
+  /**
+   * <pre>
+   * In the order they were published
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends sr.grpc.gen.event.EventNotificationOrBuilder> 
+      getNotificationsOrBuilderList() {
+    return notifications_;
+  }
+  /**
+   * <pre>
+   * In the order they were published
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+   */
+  @java.lang.Override
+  public int getNotificationsCount() {
+    return notifications_.size();
+  }
+  /**
+   * <pre>
+   * In the order they were published
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.EventNotification getNotifications(int index) {
+    return notifications_.get(index);
+  }
+  /**
+   * <pre>
+   * In the order they were published
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.EventNotificationOrBuilder getNotificationsOrBuilder(
+      int index) {
+    return notifications_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < notifications_.size(); i++) {
+      output.writeMessage(1, notifications_.get(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < notifications_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, notifications_.get(i));
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.EventNotificationBatch)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.EventNotificationBatch other = (sr.grpc.gen.event.EventNotificationBatch) obj;
+
+    if (!getNotificationsList()
+        .equals(other.getNotificationsList())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getNotificationsCount() > 0) {
+      hash = (37 * hash) + NOTIFICATIONS_FIELD_NUMBER;
+      hash = (53 * hash) + getNotificationsList().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.EventNotificationBatch parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.EventNotificationBatch parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.EventNotificationBatch parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.EventNotificationBatch parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.EventNotificationBatch parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.EventNotificationBatch parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.EventNotificationBatch parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.EventNotificationBatch parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.EventNotificationBatch parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.EventNotificationBatch parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.EventNotificationBatch parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.EventNotificationBatch parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.EventNotificationBatch prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Several notifications delivered together on a SubscribeBatched stream.
+   * The server flushes a batch when it reaches its size limit or its oldest notification has waited long enough.
+   * </pre>
+   *
+   * Protobuf type {@code eventsubscription.EventNotificationBatch}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.EventNotificationBatch)
+      sr.grpc.gen.event.EventNotificationBatchOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_EventNotificationBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_EventNotificationBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.EventNotificationBatch.class, sr.grpc.gen.event.EventNotificationBatch.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.EventNotificationBatch.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      if (notificationsBuilder_ == null) {
+        notifications_ = java.util.Collections.emptyList();
+      } else {
+        notifications_ = null;
+        notificationsBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_EventNotificationBatch_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.EventNotificationBatch getDefaultInstanceForType() {
+      return sr.grpc.gen.event.EventNotificationBatch.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.EventNotificationBatch build() {
+      sr.grpc.gen.event.EventNotificationBatch result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.EventNotificationBatch buildPartial() {
+      sr.grpc.gen.event.EventNotificationBatch result = new sr.grpc.gen.event.EventNotificationBatch(this);
+      buildPartialRepeatedFields(result);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartialRepeatedFields(sr.grpc.gen.event.EventNotificationBatch result) {
+      if (notificationsBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          notifications_ = java.util.Collections.unmodifiableList(notifications_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.notifications_ = notifications_;
+      } else {
+        result.notifications_ = notificationsBuilder_.build();
+      }
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.EventNotificationBatch result) {
+      int from_bitField0_ = bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.EventNotificationBatch) {
+        return mergeFrom((sr.grpc.gen.event.EventNotificationBatch)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.EventNotificationBatch other) {
+      if (other == sr.grpc.gen.event.EventNotificationBatch.getDefaultInstance()) return this;
+      if (notificationsBuilder_ == null) {
+        if (!other.notifications_.isEmpty()) {
+          if (notifications_.isEmpty()) {
+            notifications_ = other.notifications_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureNotificationsIsMutable();
+            notifications_.addAll(other.notifications_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.notifications_.isEmpty()) {
+          if (notificationsBuilder_.isEmpty()) {
+            notificationsBuilder_.dispose();
+            notificationsBuilder_ = null;
+            notifications_ = other.notifications_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            notificationsBuilder_ = 
+              com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                 internalGetNotificationsFieldBuilder() : null;
+          } else {
+            notificationsBuilder_.addAllMessages(other.notifications_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              sr.grpc.gen.event.EventNotification m =
+                  input.readMessage(
+                      sr.grpc.gen.event.EventNotification.parser(),
+                      extensionRegistry);
+              if (notificationsBuilder_ == null) {
+                ensureNotificationsIsMutable();
+                notifications_.add(m);
+              } else {
+                notificationsBuilder_.addMessage(m);
+              }
+              break;
+            } // case 10
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<sr.grpc.gen.event.EventNotification> notifications_ =
+      java.util.Collections.emptyList();
+    private void ensureNotificationsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        notifications_ = new java.util.ArrayList<sr.grpc.gen.event.EventNotification>(notifications_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilder<
+        sr.grpc.gen.event.EventNotification, sr.grpc.gen.event.EventNotification.Builder, sr.grpc.gen.event.EventNotificationOrBuilder> notificationsBuilder_;
+
+    /**
+     * <pre>
+     * In the order they were published
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+     */
+    public java.util.List<sr.grpc.gen.event.EventNotification> getNotificationsList() {
+      if (notificationsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(notifications_);
+      } else {
+        return notificationsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <pre>
+     * In the order they were published
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+     */
+    public int getNotificationsCount() {
+      if (notificationsBuilder_ == null) {
+        return notifications_.size();
+      } else {
+        return notificationsBuilder_.getCount();
+      }
+    }
+    /**
+     * <pre>
+     * In the order they were published
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+     */
+    public sr.grpc.gen.event.EventNotification getNotifications(int index) {
+      if (notificationsBuilder_ == null) {
+        return notifications_.get(index);
+      } else {
+        return notificationsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <pre>
+     * In the order they were published
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+     */
+    public Builder setNotifications(
+        int index, sr.grpc.gen.event.EventNotification value) {
+      if (notificationsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureNotificationsIsMutable();
+        notifications_.set(index, value);
+        onChanged();
+      } else {
+        notificationsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * In the order they were published
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+     */
+    public Builder setNotifications(
+        int index, sr.grpc.gen.event.EventNotification.Builder builderForValue) {
+      if (notificationsBuilder_ == null) {
+        ensureNotificationsIsMutable();
+        notifications_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        notificationsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * In the order they were published
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+     */
+    public Builder addNotifications(sr.grpc.gen.event.EventNotification value) {
+      if (notificationsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureNotificationsIsMutable();
+        notifications_.add(value);
+        onChanged();
+      } else {
+        notificationsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * In the order they were published
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+     */
+    public Builder addNotifications(
+        int index, sr.grpc.gen.event.EventNotification value) {
+      if (notificationsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureNotificationsIsMutable();
+        notifications_.add(index, value);
+        onChanged();
+      } else {
+        notificationsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * In the order they were published
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+     */
+    public Builder addNotifications(
+        sr.grpc.gen.event.EventNotification.Builder builderForValue) {
+      if (notificationsBuilder_ == null) {
+        ensureNotificationsIsMutable();
+        notifications_.add(builderForValue.build());
+        onChanged();
+      } else {
+        notificationsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * In the order they were published
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+     */
+    public Builder addNotifications(
+        int index, sr.grpc.gen.event.EventNotification.Builder builderForValue) {
+      if (notificationsBuilder_ == null) {
+        ensureNotificationsIsMutable();
+        notifications_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        notificationsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * In the order they were published
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+     */
+    public Builder addAllNotifications(
+        java.lang.Iterable<? extends sr.grpc.gen.event.EventNotification> values) {
+      if (notificationsBuilder_ == null) {
+        ensureNotificationsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, notifications_);
+        onChanged();
+      } else {
+        notificationsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * In the order they were published
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+     */
+    public Builder clearNotifications() {
+      if (notificationsBuilder_ == null) {
+        notifications_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        notificationsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * In the order they were published
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+     */
+    public Builder removeNotifications(int index) {
+      if (notificationsBuilder_ == null) {
+        ensureNotificationsIsMutable();
+        notifications_.remove(index);
+        onChanged();
+      } else {
+        notificationsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * In the order they were published
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+     */
+    public sr.grpc.gen.event.EventNotification.Builder getNotificationsBuilder(
+        int index) {
+      return internalGetNotificationsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <pre>
+     * In the order they were published
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+     */
+    public sr.grpc.gen.event.EventNotificationOrBuilder getNotificationsOrBuilder(
+        int index) {
+      if (notificationsBuilder_ == null) {
+        return notifications_.get(index);  } else {
+        return notificationsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <pre>
+     * In the order they were published
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+     */
+    public java.util.List<? extends sr.grpc.gen.event.EventNotificationOrBuilder> 
+         getNotificationsOrBuilderList() {
+      if (notificationsBuilder_ != null) {
+        return notificationsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(notifications_);
+      }
+    }
+    /**
+     * <pre>
+     * In the order they were published
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+     */
+    public sr.grpc.gen.event.EventNotification.Builder addNotificationsBuilder() {
+      return internalGetNotificationsFieldBuilder().addBuilder(
+          sr.grpc.gen.event.EventNotification.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * In the order they were published
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+     */
+    public sr.grpc.gen.event.EventNotification.Builder addNotificationsBuilder(
+        int index) {
+      return internalGetNotificationsFieldBuilder().addBuilder(
+          index, sr.grpc.gen.event.EventNotification.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * In the order they were published
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+     */
+    public java.util.List<sr.grpc.gen.event.EventNotification.Builder> 
+         getNotificationsBuilderList() {
+      return internalGetNotificationsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilder<
+        sr.grpc.gen.event.EventNotification, sr.grpc.gen.event.EventNotification.Builder, sr.grpc.gen.event.EventNotificationOrBuilder> 
+        internalGetNotificationsFieldBuilder() {
+      if (notificationsBuilder_ == null) {
+        notificationsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+            sr.grpc.gen.event.EventNotification, sr.grpc.gen.event.EventNotification.Builder, sr.grpc.gen.event.EventNotificationOrBuilder>(
+                notifications_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        notifications_ = null;
+      }
+      return notificationsBuilder_;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.EventNotificationBatch)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.EventNotificationBatch)
+  private static final sr.grpc.gen.event.EventNotificationBatch DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.EventNotificationBatch();
+  }
+
+  public static sr.grpc.gen.event.EventNotificationBatch getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<EventNotificationBatch>
+      PARSER = new com.google.protobuf.AbstractParser<EventNotificationBatch>() {
+    @java.lang.Override
+    public EventNotificationBatch parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<EventNotificationBatch> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<EventNotificationBatch> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.EventNotificationBatch getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,55 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface EventNotificationBatchOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.EventNotificationBatch)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * In the order they were published
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+   */
+  java.util.List<sr.grpc.gen.event.EventNotification> 
+      getNotificationsList();
+  /**
+   * <pre>
+   * In the order they were published
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+   */
+  sr.grpc.gen.event.EventNotification getNotifications(int index);
+  /**
+   * <pre>
+   * In the order they were published
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+   */
+  int getNotificationsCount();
+  /**
+   * <pre>
+   * In the order they were published
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+   */
+  java.util.List<? extends sr.grpc.gen.event.EventNotificationOrBuilder> 
+      getNotificationsOrBuilderList();
+  /**
+   * <pre>
+   * In the order they were published
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.EventNotification notifications = 1;</code>
+   */
+  sr.grpc.gen.event.EventNotificationOrBuilder getNotificationsOrBuilder(
+      int index);
+}
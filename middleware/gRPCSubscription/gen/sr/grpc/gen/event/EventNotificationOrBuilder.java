@@ -123,5 +123,76 @@ public interface EventNotificationOrBuilder extends
    */
   sr.grpc.gen.event.NewsFlashOrBuilder getNewsFlashOrBuilder();
 
+  /**
+   * <pre>
+   * Instead of weather_update on subscriptions with weather_delta
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherUpdateDelta weather_update_delta = 9;</code>
+   * @return Whether the weatherUpdateDelta field is set.
+   */
+  boolean hasWeatherUpdateDelta();
+  /**
+   * <pre>
+   * Instead of weather_update on subscriptions with weather_delta
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherUpdateDelta weather_update_delta = 9;</code>
+   * @return The weatherUpdateDelta.
+   */
+  sr.grpc.gen.event.WeatherUpdateDelta getWeatherUpdateDelta();
+  /**
+   * <pre>
+   * Instead of weather_update on subscriptions with weather_delta
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherUpdateDelta weather_update_delta = 9;</code>
+   */
+  sr.grpc.gen.event.WeatherUpdateDeltaOrBuilder getWeatherUpdateDeltaOrBuilder();
+
+  /**
+   * <pre>
+   * Position of the event in its topic (city for weather, source for news), starting at 1 and increasing by one.
+   * Not set on confirmations.
+   * </pre>
+   *
+   * <code>uint64 sequence = 8;</code>
+   * @return The sequence.
+   */
+  long getSequence();
+
+  /**
+   * <pre>
+   * When the producer created the event, in nanoseconds since the epoch; timestamp_unix_seconds is the same
+   * instant in whole seconds. Receivers subtract it from their clock for the delivery lag. 0 if the producer did
+   * not set it.
+   * </pre>
+   *
+   * <code>fixed64 timestamp_unix_nanos = 10;</code>
+   * @return The timestampUnixNanos.
+   */
+  long getTimestampUnixNanos();
+
+  /**
+   * <pre>
+   * Set by the producer, or raised to HIGH by the server for a STORMY weather update. A HIGH notification may
+   * arrive before routine notifications of its topic with lower sequence numbers that were queued before it.
+   * </pre>
+   *
+   * <code>.eventsubscription.EventPriority priority = 11;</code>
+   * @return The enum numeric value on the wire for priority.
+   */
+  int getPriorityValue();
+  /**
+   * <pre>
+   * Set by the producer, or raised to HIGH by the server for a STORMY weather update. A HIGH notification may
+   * arrive before routine notifications of its topic with lower sequence numbers that were queued before it.
+   * </pre>
+   *
+   * <code>.eventsubscription.EventPriority priority = 11;</code>
+   * @return The priority.
+   */
+  sr.grpc.gen.event.EventPriority getPriority();
+
   sr.grpc.gen.event.EventNotification.EventPayloadCase getEventPayloadCase();
 }
@@ -0,0 +1,140 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * Protobuf enum {@code eventsubscription.EventPriority}
+ */
+public enum EventPriority
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <pre>
+   * Delivered in publication order behind the notifications already queued
+   * </pre>
+   *
+   * <code>ROUTINE = 0;</code>
+   */
+  ROUTINE(0),
+  /**
+   * <pre>
+   * E.g. a storm: dispatched and written ahead of queued routine notifications
+   * </pre>
+   *
+   * <code>HIGH = 1;</code>
+   */
+  HIGH(1),
+  UNRECOGNIZED(-1),
+  ;
+
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      EventPriority.class.getName());
+  }
+  /**
+   * <pre>
+   * Delivered in publication order behind the notifications already queued
+   * </pre>
+   *
+   * <code>ROUTINE = 0;</code>
+   */
+  public static final int ROUTINE_VALUE = 0;
+  /**
+   * <pre>
+   * E.g. a storm: dispatched and written ahead of queued routine notifications
+   * </pre>
+   *
+   * <code>HIGH = 1;</code>
+   */
+  public static final int HIGH_VALUE = 1;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static EventPriority valueOf(int value) {
+    return forNumber(value);
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   */
+  public static EventPriority forNumber(int value) {
+    switch (value) {
+      case 0: return ROUTINE;
+      case 1: return HIGH;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<EventPriority>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      EventPriority> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<EventPriority>() {
+          public EventPriority findValueByNumber(int number) {
+            return EventPriority.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalStateException(
+          "Can't get the descriptor of an unrecognized enum value.");
+    }
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.getDescriptor().getEnumTypes().get(2);
+  }
+
+  private static final EventPriority[] VALUES = values();
+
+  public static EventPriority valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private EventPriority(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:eventsubscription.EventPriority)
+}
+
@@ -0,0 +1,508 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * <pre>
+ * A counter since server start and its rate over the last full second
+ * </pre>
+ *
+ * Protobuf type {@code eventsubscription.EventRate}
+ */
+public final class EventRate extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.EventRate)
+    EventRateOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      EventRate.class.getName());
+  }
+  // Use EventRate.newBuilder() to construct.
+  private EventRate(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private EventRate() {
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_EventRate_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_EventRate_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.EventRate.class, sr.grpc.gen.event.EventRate.Builder.class);
+  }
+
+  public static final int TOTAL_FIELD_NUMBER = 1;
+  private long total_ = 0L;
+  /**
+   * <code>uint64 total = 1;</code>
+   * @return The total.
+   */
+  @java.lang.Override
+  public long getTotal() {
+    return total_;
+  }
+
+  public static final int PER_SECOND_FIELD_NUMBER = 2;
+  private double perSecond_ = 0D;
+  /**
+   * <code>double per_second = 2;</code>
+   * @return The perSecond.
+   */
+  @java.lang.Override
+  public double getPerSecond() {
+    return perSecond_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (total_ != 0L) {
+      output.writeUInt64(1, total_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(perSecond_) != 0) {
+      output.writeDouble(2, perSecond_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (total_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(1, total_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(perSecond_) != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(2, perSecond_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.EventRate)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.EventRate other = (sr.grpc.gen.event.EventRate) obj;
+
+    if (getTotal()
+        != other.getTotal()) return false;
+    if (java.lang.Double.doubleToLongBits(getPerSecond())
+        != java.lang.Double.doubleToLongBits(
+            other.getPerSecond())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + TOTAL_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getTotal());
+    hash = (37 * hash) + PER_SECOND_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        java.lang.Double.doubleToLongBits(getPerSecond()));
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.EventRate parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.EventRate parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.EventRate parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.EventRate parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.EventRate parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.EventRate parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.EventRate parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.EventRate parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.EventRate parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.EventRate parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.EventRate parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.EventRate parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.EventRate prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * A counter since server start and its rate over the last full second
+   * </pre>
+   *
+   * Protobuf type {@code eventsubscription.EventRate}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.EventRate)
+      sr.grpc.gen.event.EventRateOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_EventRate_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_EventRate_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.EventRate.class, sr.grpc.gen.event.EventRate.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.EventRate.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      total_ = 0L;
+      perSecond_ = 0D;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_EventRate_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.EventRate getDefaultInstanceForType() {
+      return sr.grpc.gen.event.EventRate.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.EventRate build() {
+      sr.grpc.gen.event.EventRate result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.EventRate buildPartial() {
+      sr.grpc.gen.event.EventRate result = new sr.grpc.gen.event.EventRate(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.EventRate result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.total_ = total_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.perSecond_ = perSecond_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.EventRate) {
+        return mergeFrom((sr.grpc.gen.event.EventRate)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.EventRate other) {
+      if (other == sr.grpc.gen.event.EventRate.getDefaultInstance()) return this;
+      if (other.getTotal() != 0L) {
+        setTotal(other.getTotal());
+      }
+      if (java.lang.Double.doubleToRawLongBits(other.getPerSecond()) != 0) {
+        setPerSecond(other.getPerSecond());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              total_ = input.readUInt64();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 8
+            case 17: {
+              perSecond_ = input.readDouble();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 17
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private long total_ ;
+    /**
+     * <code>uint64 total = 1;</code>
+     * @return The total.
+     */
+    @java.lang.Override
+    public long getTotal() {
+      return total_;
+    }
+    /**
+     * <code>uint64 total = 1;</code>
+     * @param value The total to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTotal(long value) {
+
+      total_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 total = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTotal() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      total_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private double perSecond_ ;
+    /**
+     * <code>double per_second = 2;</code>
+     * @return The perSecond.
+     */
+    @java.lang.Override
+    public double getPerSecond() {
+      return perSecond_;
+    }
+    /**
+     * <code>double per_second = 2;</code>
+     * @param value The perSecond to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPerSecond(double value) {
+
+      perSecond_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>double per_second = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPerSecond() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      perSecond_ = 0D;
+      onChanged();
+      return this;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.EventRate)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.EventRate)
+  private static final sr.grpc.gen.event.EventRate DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.EventRate();
+  }
+
+  public static sr.grpc.gen.event.EventRate getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<EventRate>
+      PARSER = new com.google.protobuf.AbstractParser<EventRate>() {
+    @java.lang.Override
+    public EventRate parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<EventRate> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<EventRate> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.EventRate getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
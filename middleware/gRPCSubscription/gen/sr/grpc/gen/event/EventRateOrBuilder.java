@@ -0,0 +1,23 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface EventRateOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.EventRate)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>uint64 total = 1;</code>
+   * @return The total.
+   */
+  long getTotal();
+
+  /**
+   * <code>double per_second = 2;</code>
+   * @return The perSecond.
+   */
+  double getPerSecond();
+}
@@ -0,0 +1,353 @@
+package sr.grpc.gen.event;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ * <pre>
+ * Live metrics of the server, served next to EventSubscriptionService.
+ * </pre>
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.71.0)",
+    comments = "Source: weather.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class EventStatsServiceGrpc {
+
+  private EventStatsServiceGrpc() {}
+
+  public static final java.lang.String SERVICE_NAME = "eventsubscription.EventStatsService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<sr.grpc.gen.event.StatsRequest,
+      sr.grpc.gen.event.ServerStats> getGetStatsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetStats",
+      requestType = sr.grpc.gen.event.StatsRequest.class,
+      responseType = sr.grpc.gen.event.ServerStats.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<sr.grpc.gen.event.StatsRequest,
+      sr.grpc.gen.event.ServerStats> getGetStatsMethod() {
+    io.grpc.MethodDescriptor<sr.grpc.gen.event.StatsRequest, sr.grpc.gen.event.ServerStats> getGetStatsMethod;
+    if ((getGetStatsMethod = EventStatsServiceGrpc.getGetStatsMethod) == null) {
+      synchronized (EventStatsServiceGrpc.class) {
+        if ((getGetStatsMethod = EventStatsServiceGrpc.getGetStatsMethod) == null) {
+          EventStatsServiceGrpc.getGetStatsMethod = getGetStatsMethod =
+              io.grpc.MethodDescriptor.<sr.grpc.gen.event.StatsRequest, sr.grpc.gen.event.ServerStats>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "GetStats"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  sr.grpc.gen.event.StatsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  sr.grpc.gen.event.ServerStats.getDefaultInstance()))
+              .setSchemaDescriptor(new EventStatsServiceMethodDescriptorSupplier("GetStats"))
+              .build();
+        }
+      }
+    }
+    return getGetStatsMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static EventStatsServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<EventStatsServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<EventStatsServiceStub>() {
+        @java.lang.Override
+        public EventStatsServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new EventStatsServiceStub(channel, callOptions);
+        }
+      };
+    return EventStatsServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports all types of calls on the service
+   */
+  public static EventStatsServiceBlockingV2Stub newBlockingV2Stub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<EventStatsServiceBlockingV2Stub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<EventStatsServiceBlockingV2Stub>() {
+        @java.lang.Override
+        public EventStatsServiceBlockingV2Stub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new EventStatsServiceBlockingV2Stub(channel, callOptions);
+        }
+      };
+    return EventStatsServiceBlockingV2Stub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static EventStatsServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<EventStatsServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<EventStatsServiceBlockingStub>() {
+        @java.lang.Override
+        public EventStatsServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new EventStatsServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return EventStatsServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static EventStatsServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<EventStatsServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<EventStatsServiceFutureStub>() {
+        @java.lang.Override
+        public EventStatsServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new EventStatsServiceFutureStub(channel, callOptions);
+        }
+      };
+    return EventStatsServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   * <pre>
+   * Live metrics of the server, served next to EventSubscriptionService.
+   * </pre>
+   */
+  public interface AsyncService {
+
+    /**
+     */
+    default void getStats(sr.grpc.gen.event.StatsRequest request,
+        io.grpc.stub.StreamObserver<sr.grpc.gen.event.ServerStats> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetStatsMethod(), responseObserver);
+    }
+  }
+
+  /**
+   * Base class for the server implementation of the service EventStatsService.
+   * <pre>
+   * Live metrics of the server, served next to EventSubscriptionService.
+   * </pre>
+   */
+  public static abstract class EventStatsServiceImplBase
+      implements io.grpc.BindableService, AsyncService {
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return EventStatsServiceGrpc.bindService(this);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do asynchronous rpc calls to service EventStatsService.
+   * <pre>
+   * Live metrics of the server, served next to EventSubscriptionService.
+   * </pre>
+   */
+  public static final class EventStatsServiceStub
+      extends io.grpc.stub.AbstractAsyncStub<EventStatsServiceStub> {
+    private EventStatsServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected EventStatsServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new EventStatsServiceStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public void getStats(sr.grpc.gen.event.StatsRequest request,
+        io.grpc.stub.StreamObserver<sr.grpc.gen.event.ServerStats> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetStatsMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do synchronous rpc calls to service EventStatsService.
+   * <pre>
+   * Live metrics of the server, served next to EventSubscriptionService.
+   * </pre>
+   */
+  public static final class EventStatsServiceBlockingV2Stub
+      extends io.grpc.stub.AbstractBlockingStub<EventStatsServiceBlockingV2Stub> {
+    private EventStatsServiceBlockingV2Stub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected EventStatsServiceBlockingV2Stub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new EventStatsServiceBlockingV2Stub(channel, callOptions);
+    }
+
+    /**
+     */
+    public sr.grpc.gen.event.ServerStats getStats(sr.grpc.gen.event.StatsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetStatsMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do limited synchronous rpc calls to service EventStatsService.
+   * <pre>
+   * Live metrics of the server, served next to EventSubscriptionService.
+   * </pre>
+   */
+  public static final class EventStatsServiceBlockingStub
+      extends io.grpc.stub.AbstractBlockingStub<EventStatsServiceBlockingStub> {
+    private EventStatsServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected EventStatsServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new EventStatsServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public sr.grpc.gen.event.ServerStats getStats(sr.grpc.gen.event.StatsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetStatsMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do ListenableFuture-style rpc calls to service EventStatsService.
+   * <pre>
+   * Live metrics of the server, served next to EventSubscriptionService.
+   * </pre>
+   */
+  public static final class EventStatsServiceFutureStub
+      extends io.grpc.stub.AbstractFutureStub<EventStatsServiceFutureStub> {
+    private EventStatsServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected EventStatsServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new EventStatsServiceFutureStub(channel, callOptions);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<sr.grpc.gen.event.ServerStats> getStats(
+        sr.grpc.gen.event.StatsRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetStatsMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_GET_STATS = 0;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final AsyncService serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(AsyncService serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_GET_STATS:
+          serviceImpl.getStats((sr.grpc.gen.event.StatsRequest) request,
+              (io.grpc.stub.StreamObserver<sr.grpc.gen.event.ServerStats>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  public static final io.grpc.ServerServiceDefinition bindService(AsyncService service) {
+    return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+        .addMethod(
+          getGetStatsMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              sr.grpc.gen.event.StatsRequest,
+              sr.grpc.gen.event.ServerStats>(
+                service, METHODID_GET_STATS)))
+        .build();
+  }
+
+  private static abstract class EventStatsServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    EventStatsServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("EventStatsService");
+    }
+  }
+
+  private static final class EventStatsServiceFileDescriptorSupplier
+      extends EventStatsServiceBaseDescriptorSupplier {
+    EventStatsServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class EventStatsServiceMethodDescriptorSupplier
+      extends EventStatsServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final java.lang.String methodName;
+
+    EventStatsServiceMethodDescriptorSupplier(java.lang.String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (EventStatsServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new EventStatsServiceFileDescriptorSupplier())
+              .addMethod(getGetStatsMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
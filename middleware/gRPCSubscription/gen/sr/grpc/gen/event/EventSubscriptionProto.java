@@ -30,6 +30,36 @@ public final class EventSubscriptionProto {
   static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_eventsubscription_SubscriptionCriteria_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_GeoPoint_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_GeoPoint_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_GeoCircle_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_GeoCircle_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_WeatherFilter_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_WeatherFilter_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_NumericRange_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_NumericRange_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_ConditionSet_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_ConditionSet_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_WeatherFilterList_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_WeatherFilterList_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_eventsubscription_SubscriptionRequest_descriptor;
   static final 
@@ -45,6 +75,11 @@ public final class EventSubscriptionProto {
   static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_eventsubscription_WeatherUpdate_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_WeatherUpdateDelta_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_WeatherUpdateDelta_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_eventsubscription_ConcertAlert_descriptor;
   static final 
@@ -60,6 +95,11 @@ public final class EventSubscriptionProto {
   static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_eventsubscription_EventNotification_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_EventNotificationBatch_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_EventNotificationBatch_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_eventsubscription_UnsubscriptionRequest_descriptor;
   static final 
@@ -70,6 +110,101 @@ public final class EventSubscriptionProto {
   static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_eventsubscription_UnsubscriptionResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_SessionRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_SessionRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_ControlAck_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_ControlAck_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_SessionResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_SessionResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_StatsRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_StatsRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_TopicSubscriptions_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_TopicSubscriptions_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_EventTypeSubscriptions_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_EventTypeSubscriptions_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_EventRate_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_EventRate_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_LatencyHistogram_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_LatencyHistogram_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_LatencyBucket_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_LatencyBucket_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_SubscriberStats_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_SubscriberStats_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_ServerStats_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_ServerStats_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_LatencyObjective_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_LatencyObjective_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_ProcessStats_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_ProcessStats_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_ClusterView_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_ClusterView_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_JoinRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_JoinRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_ForwardSummary_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_ForwardSummary_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_NodeRedirect_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_NodeRedirect_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_FederationInterest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_FederationInterest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_eventsubscription_InterestUpdate_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_eventsubscription_InterestUpdate_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -79,55 +214,189 @@ public final class EventSubscriptionProto {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\rweather.proto\022\021eventsubscription\"C\n\024Su" +
-      "bscriptionCriteria\022\031\n\021target_identifier\030" +
-      "\001 \001(\t\022\020\n\010keywords\030\r \003(\t\"\242\001\n\023Subscription" +
-      "Request\022\036\n\026client_subscription_id\030\001 \001(\t\022" +
-      "0\n\nevent_type\030\002 \001(\0162\034.eventsubscription." +
-      "EventType\0229\n\010criteria\030\003 \001(\0132\'.eventsubsc" +
-      "ription.SubscriptionCriteria\"\263\001\n\rDailyFo" +
-      "recast\022\027\n\017day_description\030\001 \001(\t\022\037\n\027max_t" +
-      "emperature_celsius\030\002 \001(\001\022\037\n\027min_temperat" +
-      "ure_celsius\030\003 \001(\001\0226\n\tcondition\030\004 \001(\0162#.e" +
-      "ventsubscription.WeatherCondition\022\017\n\007sum" +
-      "mary\030\005 \001(\t\"\206\002\n\rWeatherUpdate\022\014\n\004city\030\001 \001" +
-      "(\t\022#\n\033current_temperature_celsius\030\002 \001(\001\022" +
-      "\030\n\020humidity_percent\030\003 \001(\001\022\026\n\016wind_speed_" +
-      "kph\030\004 \001(\005\022>\n\021current_condition\030\005 \001(\0162#.e" +
-      "ventsubscription.WeatherCondition\022\034\n\024det" +
-      "ailed_description\030\006 \001(\t\0222\n\010forecast\030\007 \003(" +
-      "\0132 .eventsubscription.DailyForecast\"\215\001\n\014" +
-      "ConcertAlert\022\016\n\006artist\030\001 \001(\t\022\r\n\005venue\030\002 " +
-      "\001(\t\022\014\n\004city\030\003 \001(\t\022\037\n\027event_date_unix_sec" +
-      "onds\030\004 \001(\003\022\031\n\021tickets_available\030\005 \001(\005\022\024\n" +
-      "\014ticket_links\030\006 \003(\t\"\215\001\n\tNewsFlash\022\020\n\010hea" +
-      "dline\030\001 \001(\t\022\016\n\006source\030\002 \001(\t\022\030\n\020related_k" +
-      "eywords\030\003 \003(\t\022\017\n\007summary\030\004 \001(\t\022\014\n\004link\030\005" +
-      " \001(\t\022%\n\035publication_date_unix_seconds\030\006 " +
-      "\001(\003\"\331\002\n\021EventNotification\022\027\n\017notificatio" +
-      "n_id\030\001 \001(\t\022\036\n\026client_subscription_id\030\002 \001" +
-      "(\t\022\036\n\026timestamp_unix_seconds\030\003 \001(\003\0220\n\nev" +
-      "ent_type\030\004 \001(\0162\034.eventsubscription.Event" +
-      "Type\022:\n\016weather_update\030\005 \001(\0132 .eventsubs" +
-      "cription.WeatherUpdateH\000\0228\n\rconcert_aler" +
-      "t\030\006 \001(\0132\037.eventsubscription.ConcertAlert" +
-      "H\000\0222\n\nnews_flash\030\007 \001(\0132\034.eventsubscripti" +
-      "on.NewsFlashH\000B\017\n\revent_payload\"7\n\025Unsub" +
-      "scriptionRequest\022\036\n\026client_subscription_" +
-      "id\030\001 \001(\t\":\n\026UnsubscriptionResponse\022\017\n\007su" +
-      "ccess\030\001 \001(\010\022\017\n\007message\030\002 \001(\t*^\n\tEventTyp" +
-      "e\022\032\n\026EVENT_TYPE_UNSPECIFIED\020\000\022\022\n\016WEATHER" +
-      "_UPDATE\020\001\022\021\n\rCONCERT_ALERT\020\002\022\016\n\nNEWS_FLA" +
-      "SH\020\003*f\n\020WeatherCondition\022\031\n\025CONDITION_UN" +
-      "SPECIFIED\020\000\022\t\n\005SUNNY\020\001\022\n\n\006CLOUDY\020\002\022\t\n\005RA" +
-      "INY\020\003\022\t\n\005SNOWY\020\004\022\n\n\006STORMY\020\0052\337\001\n\030EventSu" +
-      "bscriptionService\022]\n\tSubscribe\022&.eventsu" +
-      "bscription.SubscriptionRequest\032$.eventsu" +
-      "bscription.EventNotification\"\0000\001\022d\n\013Unsu" +
-      "bscribe\022(.eventsubscription.Unsubscripti" +
-      "onRequest\032).eventsubscription.Unsubscrip" +
-      "tionResponse\"\000B-\n\021sr.grpc.gen.eventB\026Eve" +
-      "ntSubscriptionProtoP\001b\006proto3"
+      "\n\rweather.proto\022\021eventsubscription\"\253\001\n\024S" +
+      "ubscriptionCriteria\022\031\n\021target_identifier" +
+      "\030\001 \001(\t\022\020\n\010keywords\030\r \003(\t\0228\n\016weather_filt" +
+      "er\030\016 \001(\0132 .eventsubscription.WeatherFilt" +
+      "er\022,\n\006within\030\017 \001(\0132\034.eventsubscription.G" +
+      "eoCircle\"/\n\010GeoPoint\022\020\n\010latitude\030\001 \001(\001\022\021" +
+      "\n\tlongitude\030\002 \001(\001\"K\n\tGeoCircle\022+\n\006center" +
+      "\030\001 \001(\0132\033.eventsubscription.GeoPoint\022\021\n\tr" +
+      "adius_km\030\002 \001(\001\"\246\002\n\rWeatherFilter\0220\n\005rang" +
+      "e\030\001 \001(\0132\037.eventsubscription.NumericRange" +
+      "H\000\0225\n\nconditions\030\002 \001(\0132\037.eventsubscripti" +
+      "on.ConditionSetH\000\0226\n\006all_of\030\003 \001(\0132$.even" +
+      "tsubscription.WeatherFilterListH\000\0226\n\006any" +
+      "_of\030\004 \001(\0132$.eventsubscription.WeatherFil" +
+      "terListH\000\0222\n\006negate\030\005 \001(\0132 .eventsubscri" +
+      "ption.WeatherFilterH\000B\010\n\006filter\"\343\001\n\014Nume" +
+      "ricRange\0224\n\005field\030\001 \001(\0162%.eventsubscript" +
+      "ion.NumericRange.Field\022\020\n\003min\030\002 \001(\001H\000\210\001\001" +
+      "\022\020\n\003max\030\003 \001(\001H\001\210\001\001\"i\n\005Field\022\025\n\021FIELD_UNS" +
+      "PECIFIED\020\000\022\037\n\033CURRENT_TEMPERATURE_CELSIU" +
+      "S\020\001\022\024\n\020HUMIDITY_PERCENT\020\002\022\022\n\016WIND_SPEED_" +
+      "KPH\020\003B\006\n\004_minB\006\n\004_max\"G\n\014ConditionSet\0227\n" +
+      "\nconditions\030\001 \003(\0162#.eventsubscription.We" +
+      "atherCondition\"F\n\021WeatherFilterList\0221\n\007f" +
+      "ilters\030\001 \003(\0132 .eventsubscription.Weather" +
+      "Filter\"\312\002\n\023SubscriptionRequest\022\036\n\026client" +
+      "_subscription_id\030\001 \001(\t\0220\n\nevent_type\030\002 \001" +
+      "(\0162\034.eventsubscription.EventType\0229\n\010crit" +
+      "eria\030\003 \001(\0132\'.eventsubscription.Subscript" +
+      "ionCriteria\0226\n\rdelivery_mode\030\004 \001(\0162\037.eve" +
+      "ntsubscription.DeliveryMode\022\"\n\025resume_af" +
+      "ter_sequence\030\005 \001(\004H\000\210\001\001\022\025\n\rweather_delta" +
+      "\030\006 \001(\010\022\031\n\021response_encoding\030\007 \001(\tB\030\n\026_re" +
+      "sume_after_sequence\"\263\001\n\rDailyForecast\022\027\n" +
+      "\017day_description\030\001 \001(\t\022\037\n\027max_temperatur" +
+      "e_celsius\030\002 \001(\001\022\037\n\027min_temperature_celsi" +
+      "us\030\003 \001(\001\0226\n\tcondition\030\004 \001(\0162#.eventsubsc" +
+      "ription.WeatherCondition\022\017\n\007summary\030\005 \001(" +
+      "\t\"\305\002\n\rWeatherUpdate\022\014\n\004city\030\001 \001(\t\022#\n\033cur" +
+      "rent_temperature_celsius\030\002 \001(\001\022\030\n\020humidi" +
+      "ty_percent\030\003 \001(\001\022\026\n\016wind_speed_kph\030\004 \001(\005" +
+      "\022>\n\021current_condition\030\005 \001(\0162#.eventsubsc" +
+      "ription.WeatherCondition\022\034\n\024detailed_des" +
+      "cription\030\006 \001(\t\0222\n\010forecast\030\007 \003(\0132 .event" +
+      "subscription.DailyForecast\022-\n\010location\030\010" +
+      " \001(\0132\033.eventsubscription.GeoPoint\022\016\n\006reg" +
+      "ion\030\t \001(\t\"\204\001\n\022WeatherUpdateDelta\022\014\n\004city" +
+      "\030\001 \001(\t\022\025\n\rbase_sequence\030\002 \001(\004\022\026\n\016changed" +
+      "_fields\030\003 \003(\r\0221\n\007changes\030\004 \001(\0132 .eventsu" +
+      "bscription.WeatherUpdate\"\215\001\n\014ConcertAler" +
+      "t\022\016\n\006artist\030\001 \001(\t\022\r\n\005venue\030\002 \001(\t\022\014\n\004city" +
+      "\030\003 \001(\t\022\037\n\027event_date_unix_seconds\030\004 \001(\003\022" +
+      "\031\n\021tickets_available\030\005 \001(\005\022\024\n\014ticket_lin" +
+      "ks\030\006 \003(\t\"\215\001\n\tNewsFlash\022\020\n\010headline\030\001 \001(\t" +
+      "\022\016\n\006source\030\002 \001(\t\022\030\n\020related_keywords\030\003 \003" +
+      "(\t\022\017\n\007summary\030\004 \001(\t\022\014\n\004link\030\005 \001(\t\022%\n\035pub" +
+      "lication_date_unix_seconds\030\006 \001(\003\"\204\004\n\021Eve" +
+      "ntNotification\022\027\n\017notification_id\030\001 \001(\t\022" +
+      "\036\n\026client_subscription_id\030\002 \001(\t\022\036\n\026times" +
+      "tamp_unix_seconds\030\003 \001(\003\0220\n\nevent_type\030\004 " +
+      "\001(\0162\034.eventsubscription.EventType\022:\n\016wea" +
+      "ther_update\030\005 \001(\0132 .eventsubscription.We" +
+      "atherUpdateH\000\0228\n\rconcert_alert\030\006 \001(\0132\037.e" +
+      "ventsubscription.ConcertAlertH\000\0222\n\nnews_" +
+      "flash\030\007 \001(\0132\034.eventsubscription.NewsFlas" +
+      "hH\000\022E\n\024weather_update_delta\030\t \001(\0132%.even" +
+      "tsubscription.WeatherUpdateDeltaH\000\022\020\n\010se" +
+      "quence\030\010 \001(\004\022\034\n\024timestamp_unix_nanos\030\n \001" +
+      "(\006\0222\n\010priority\030\013 \001(\0162 .eventsubscription" +
+      ".EventPriorityB\017\n\revent_payload\"U\n\026Event" +
+      "NotificationBatch\022;\n\rnotifications\030\001 \003(\013" +
+      "2$.eventsubscription.EventNotification\"7" +
+      "\n\025UnsubscriptionRequest\022\036\n\026client_subscr" +
+      "iption_id\030\001 \001(\t\":\n\026UnsubscriptionRespons" +
+      "e\022\017\n\007success\030\001 \001(\010\022\017\n\007message\030\002 \001(\t\"\201\001\n\016" +
+      "SessionRequest\022B\n\020add_subscription\030\001 \001(\013" +
+      "2&.eventsubscription.SubscriptionRequest" +
+      "H\000\022 \n\026remove_subscription_id\030\002 \001(\tH\000B\t\n\007" +
+      "command\"\273\001\n\nControlAck\022\036\n\026client_subscri" +
+      "ption_id\030\001 \001(\t\0224\n\006action\030\002 \001(\0162$.eventsu" +
+      "bscription.ControlAck.Action\022\017\n\007success\030" +
+      "\003 \001(\010\022\017\n\007message\030\004 \001(\t\"5\n\006Action\022\026\n\022ACTI" +
+      "ON_UNSPECIFIED\020\000\022\007\n\003ADD\020\001\022\n\n\006REMOVE\020\002\"\210\001" +
+      "\n\017SessionResponse\022<\n\014notification\030\001 \001(\0132" +
+      "$.eventsubscription.EventNotificationH\000\022" +
+      ",\n\003ack\030\002 \001(\0132\035.eventsubscription.Control" +
+      "AckH\000B\t\n\007message\"D\n\014StatsRequest\022\033\n\023slow" +
+      "est_subscribers\030\001 \001(\r\022\027\n\017all_subscribers" +
+      "\030\002 \001(\010\"m\n\022TopicSubscriptions\0220\n\nevent_ty" +
+      "pe\030\001 \001(\0162\034.eventsubscription.EventType\022\016" +
+      "\n\006target\030\002 \001(\t\022\025\n\rsubscriptions\030\003 \001(\r\"a\n" +
+      "\026EventTypeSubscriptions\0220\n\nevent_type\030\001 " +
+      "\001(\0162\034.eventsubscription.EventType\022\025\n\rsub" +
+      "scriptions\030\002 \001(\r\".\n\tEventRate\022\r\n\005total\030\001" +
+      " \001(\004\022\022\n\nper_second\030\002 \001(\001\"\316\001\n\020LatencyHist" +
+      "ogram\022\r\n\005count\030\001 \001(\004\022\023\n\013mean_micros\030\002 \001(" +
+      "\001\022\022\n\np50_micros\030\003 \001(\001\022\022\n\np90_micros\030\004 \001(" +
+      "\001\022\022\n\np99_micros\030\005 \001(\001\022\023\n\013p999_micros\030\006 \001" +
+      "(\001\022\022\n\nmax_micros\030\007 \001(\001\0221\n\007buckets\030\010 \003(\0132" +
+      " .eventsubscription.LatencyBucket\":\n\rLat" +
+      "encyBucket\022\032\n\022upper_bound_micros\030\001 \001(\001\022\r" +
+      "\n\005count\030\002 \001(\004\"\306\002\n\017SubscriberStats\022\036\n\026cli" +
+      "ent_subscription_id\030\001 \001(\t\0220\n\nevent_type\030" +
+      "\002 \001(\0162\034.eventsubscription.EventType\022\016\n\006t" +
+      "arget\030\003 \001(\t\022\017\n\007session\030\004 \001(\010\022\023\n\013queue_de" +
+      "pth\030\005 \001(\r\022\026\n\016queue_capacity\030\006 \001(\r\022\035\n\025old" +
+      "est_pending_micros\030\007 \001(\001\022\014\n\004sent\030\010 \001(\004\022\017" +
+      "\n\007dropped\030\t \001(\004\022\021\n\tconflated\030\n \001(\004\022\022\n\nsu" +
+      "ppressed\030\013 \001(\004\022\032\n\022uncompressed_bytes\030\014 \001" +
+      "(\003\022\022\n\nwire_bytes\030\r \001(\003\"\205\007\n\013ServerStats\022\025" +
+      "\n\ruptime_millis\030\001 \001(\004\022\034\n\024active_subscrip" +
+      "tions\030\002 \001(\r\022O\n\034subscriptions_per_event_t" +
+      "ype\030\003 \003(\0132).eventsubscription.EventTypeS" +
+      "ubscriptions\022F\n\027subscriptions_per_topic\030" +
+      "\004 \003(\0132%.eventsubscription.TopicSubscript" +
+      "ions\0226\n\020events_published\030\005 \001(\0132\034.eventsu" +
+      "bscription.EventRate\022>\n\030notifications_di" +
+      "spatched\030\006 \001(\0132\034.eventsubscription.Event" +
+      "Rate\022;\n\025notifications_dropped\030\007 \001(\0132\034.ev" +
+      "entsubscription.EventRate\0228\n\022notificatio" +
+      "ns_sent\030\010 \001(\0132\034.eventsubscription.EventR" +
+      "ate\022=\n\020dispatch_latency\030\t \001(\0132#.eventsub" +
+      "scription.LatencyHistogram\022<\n\017fan_out_la" +
+      "tency\030\n \001(\0132#.eventsubscription.LatencyH" +
+      "istogram\022?\n\023slowest_subscribers\030\013 \003(\0132\"." +
+      "eventsubscription.SubscriberStats\0227\n\013sub" +
+      "scribers\030\014 \003(\0132\".eventsubscription.Subsc" +
+      "riberStats\0220\n\007process\030\r \001(\0132\037.eventsubsc" +
+      "ription.ProcessStats\022J\n\035high_priority_fa" +
+      "n_out_latency\030\016 \001(\0132#.eventsubscription." +
+      "LatencyHistogram\022D\n\027high_priority_object" +
+      "ive\030\017 \001(\0132#.eventsubscription.LatencyObj" +
+      "ective\"b\n\020LatencyObjective\022\030\n\020objective_" +
+      "micros\030\001 \001(\001\022\016\n\006within\030\002 \001(\004\022\016\n\006missed\030\003" +
+      " \001(\004\022\024\n\014within_ratio\030\004 \001(\001\"\323\001\n\014ProcessSt" +
+      "ats\022\026\n\016cpu_time_nanos\030\001 \001(\004\022\034\n\024available" +
+      "_processors\030\002 \001(\r\022\027\n\017heap_used_bytes\030\003 \001" +
+      "(\004\022\034\n\024heap_committed_bytes\030\004 \001(\004\022\026\n\016heap" +
+      "_max_bytes\030\005 \001(\004\022\020\n\010gc_count\030\006 \001(\004\022\026\n\016gc" +
+      "_time_millis\030\007 \001(\004\022\024\n\014thread_count\030\010 \001(\r" +
+      "\"-\n\013ClusterView\022\017\n\007version\030\001 \001(\004\022\r\n\005node" +
+      "s\030\002 \003(\t\"\036\n\013JoinRequest\022\017\n\007address\030\001 \001(\t\"" +
+      "\"\n\016ForwardSummary\022\020\n\010received\030\001 \001(\004\"K\n\014N" +
+      "odeRedirect\022\025\n\rowner_address\030\001 \001(\t\022\016\n\006ta" +
+      "rget\030\002 \001(\t\022\024\n\014view_version\030\003 \001(\004\"V\n\022Fede" +
+      "rationInterest\0220\n\nevent_type\030\001 \001(\0162\034.eve" +
+      "ntsubscription.EventType\022\016\n\006target\030\002 \001(\t" +
+      "\"~\n\016InterestUpdate\0224\n\005added\030\001 \003(\0132%.even" +
+      "tsubscription.FederationInterest\0226\n\007remo" +
+      "ved\030\002 \003(\0132%.eventsubscription.Federation" +
+      "Interest*^\n\tEventType\022\032\n\026EVENT_TYPE_UNSP" +
+      "ECIFIED\020\000\022\022\n\016WEATHER_UPDATE\020\001\022\021\n\rCONCERT" +
+      "_ALERT\020\002\022\016\n\nNEWS_FLASH\020\003*Q\n\014DeliveryMode" +
+      "\022\035\n\031DELIVERY_MODE_UNSPECIFIED\020\000\022\r\n\tQUEUE" +
+      "_ALL\020\001\022\023\n\017CONFLATE_LATEST\020\002*&\n\rEventPrio" +
+      "rity\022\013\n\007ROUTINE\020\000\022\010\n\004HIGH\020\001*f\n\020WeatherCo" +
+      "ndition\022\031\n\025CONDITION_UNSPECIFIED\020\000\022\t\n\005SU" +
+      "NNY\020\001\022\n\n\006CLOUDY\020\002\022\t\n\005RAINY\020\003\022\t\n\005SNOWY\020\004\022" +
+      "\n\n\006STORMY\020\0052\256\003\n\030EventSubscriptionService" +
+      "\022]\n\tSubscribe\022&.eventsubscription.Subscr" +
+      "iptionRequest\032$.eventsubscription.EventN" +
+      "otification\"\0000\001\022d\n\013Unsubscribe\022(.eventsu" +
+      "bscription.UnsubscriptionRequest\032).event" +
+      "subscription.UnsubscriptionResponse\"\000\022i\n" +
+      "\020SubscribeBatched\022&.eventsubscription.Su" +
+      "bscriptionRequest\032).eventsubscription.Ev" +
+      "entNotificationBatch\"\0000\001\022b\n\023Subscription" +
+      "Session\022!.eventsubscription.SessionReque" +
+      "st\032\".eventsubscription.SessionResponse\"\000" +
+      "(\0010\0012b\n\021EventStatsService\022M\n\010GetStats\022\037." +
+      "eventsubscription.StatsRequest\032\036.eventsu" +
+      "bscription.ServerStats\"\0002\202\002\n\016ClusterServ" +
+      "ice\022H\n\004Join\022\036.eventsubscription.JoinRequ" +
+      "est\032\036.eventsubscription.ClusterView\"\000\022N\n" +
+      "\nUpdateView\022\036.eventsubscription.ClusterV" +
+      "iew\032\036.eventsubscription.ClusterView\"\000\022V\n" +
+      "\007Forward\022$.eventsubscription.EventNotifi" +
+      "cation\032!.eventsubscription.ForwardSummar" +
+      "y\"\000(\0012s\n\021FederationService\022^\n\010Federate\022!" +
+      ".eventsubscription.InterestUpdate\032).even" +
+      "tsubscription.EventNotificationBatch\"\000(\001" +
+      "0\001B-\n\021sr.grpc.gen.eventB\026EventSubscripti" +
+      "onProtoP\001b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -138,55 +407,217 @@ public final class EventSubscriptionProto {
     internal_static_eventsubscription_SubscriptionCriteria_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_eventsubscription_SubscriptionCriteria_descriptor,
-        new java.lang.String[] { "TargetIdentifier", "Keywords", });
-    internal_static_eventsubscription_SubscriptionRequest_descriptor =
+        new java.lang.String[] { "TargetIdentifier", "Keywords", "WeatherFilter", "Within", });
+    internal_static_eventsubscription_GeoPoint_descriptor =
       getDescriptor().getMessageTypes().get(1);
+    internal_static_eventsubscription_GeoPoint_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_GeoPoint_descriptor,
+        new java.lang.String[] { "Latitude", "Longitude", });
+    internal_static_eventsubscription_GeoCircle_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_eventsubscription_GeoCircle_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_GeoCircle_descriptor,
+        new java.lang.String[] { "Center", "RadiusKm", });
+    internal_static_eventsubscription_WeatherFilter_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_eventsubscription_WeatherFilter_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_WeatherFilter_descriptor,
+        new java.lang.String[] { "Range", "Conditions", "AllOf", "AnyOf", "Negate", "Filter", });
+    internal_static_eventsubscription_NumericRange_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_eventsubscription_NumericRange_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_NumericRange_descriptor,
+        new java.lang.String[] { "Field", "Min", "Max", });
+    internal_static_eventsubscription_ConditionSet_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_eventsubscription_ConditionSet_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_ConditionSet_descriptor,
+        new java.lang.String[] { "Conditions", });
+    internal_static_eventsubscription_WeatherFilterList_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_eventsubscription_WeatherFilterList_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_WeatherFilterList_descriptor,
+        new java.lang.String[] { "Filters", });
+    internal_static_eventsubscription_SubscriptionRequest_descriptor =
+      getDescriptor().getMessageTypes().get(7);
     internal_static_eventsubscription_SubscriptionRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_eventsubscription_SubscriptionRequest_descriptor,
-        new java.lang.String[] { "ClientSubscriptionId", "EventType", "Criteria", });
+        new java.lang.String[] { "ClientSubscriptionId", "EventType", "Criteria", "DeliveryMode", "ResumeAfterSequence", "WeatherDelta", "ResponseEncoding", });
     internal_static_eventsubscription_DailyForecast_descriptor =
-      getDescriptor().getMessageTypes().get(2);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_eventsubscription_DailyForecast_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_eventsubscription_DailyForecast_descriptor,
         new java.lang.String[] { "DayDescription", "MaxTemperatureCelsius", "MinTemperatureCelsius", "Condition", "Summary", });
     internal_static_eventsubscription_WeatherUpdate_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_eventsubscription_WeatherUpdate_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_eventsubscription_WeatherUpdate_descriptor,
-        new java.lang.String[] { "City", "CurrentTemperatureCelsius", "HumidityPercent", "WindSpeedKph", "CurrentCondition", "DetailedDescription", "Forecast", });
+        new java.lang.String[] { "City", "CurrentTemperatureCelsius", "HumidityPercent", "WindSpeedKph", "CurrentCondition", "DetailedDescription", "Forecast", "Location", "Region", });
+    internal_static_eventsubscription_WeatherUpdateDelta_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_eventsubscription_WeatherUpdateDelta_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_WeatherUpdateDelta_descriptor,
+        new java.lang.String[] { "City", "BaseSequence", "ChangedFields", "Changes", });
     internal_static_eventsubscription_ConcertAlert_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_eventsubscription_ConcertAlert_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_eventsubscription_ConcertAlert_descriptor,
         new java.lang.String[] { "Artist", "Venue", "City", "EventDateUnixSeconds", "TicketsAvailable", "TicketLinks", });
     internal_static_eventsubscription_NewsFlash_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_eventsubscription_NewsFlash_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_eventsubscription_NewsFlash_descriptor,
         new java.lang.String[] { "Headline", "Source", "RelatedKeywords", "Summary", "Link", "PublicationDateUnixSeconds", });
     internal_static_eventsubscription_EventNotification_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_eventsubscription_EventNotification_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_eventsubscription_EventNotification_descriptor,
-        new java.lang.String[] { "NotificationId", "ClientSubscriptionId", "TimestampUnixSeconds", "EventType", "WeatherUpdate", "ConcertAlert", "NewsFlash", "EventPayload", });
+        new java.lang.String[] { "NotificationId", "ClientSubscriptionId", "TimestampUnixSeconds", "EventType", "WeatherUpdate", "ConcertAlert", "NewsFlash", "WeatherUpdateDelta", "Sequence", "TimestampUnixNanos", "Priority", "EventPayload", });
+    internal_static_eventsubscription_EventNotificationBatch_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_eventsubscription_EventNotificationBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_EventNotificationBatch_descriptor,
+        new java.lang.String[] { "Notifications", });
     internal_static_eventsubscription_UnsubscriptionRequest_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(15);
     internal_static_eventsubscription_UnsubscriptionRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_eventsubscription_UnsubscriptionRequest_descriptor,
         new java.lang.String[] { "ClientSubscriptionId", });
     internal_static_eventsubscription_UnsubscriptionResponse_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(16);
     internal_static_eventsubscription_UnsubscriptionResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_eventsubscription_UnsubscriptionResponse_descriptor,
         new java.lang.String[] { "Success", "Message", });
+    internal_static_eventsubscription_SessionRequest_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_eventsubscription_SessionRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_SessionRequest_descriptor,
+        new java.lang.String[] { "AddSubscription", "RemoveSubscriptionId", "Command", });
+    internal_static_eventsubscription_ControlAck_descriptor =
+      getDescriptor().getMessageTypes().get(18);
+    internal_static_eventsubscription_ControlAck_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_ControlAck_descriptor,
+        new java.lang.String[] { "ClientSubscriptionId", "Action", "Success", "Message", });
+    internal_static_eventsubscription_SessionResponse_descriptor =
+      getDescriptor().getMessageTypes().get(19);
+    internal_static_eventsubscription_SessionResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_SessionResponse_descriptor,
+        new java.lang.String[] { "Notification", "Ack", "Message", });
+    internal_static_eventsubscription_StatsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(20);
+    internal_static_eventsubscription_StatsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_StatsRequest_descriptor,
+        new java.lang.String[] { "SlowestSubscribers", "AllSubscribers", });
+    internal_static_eventsubscription_TopicSubscriptions_descriptor =
+      getDescriptor().getMessageTypes().get(21);
+    internal_static_eventsubscription_TopicSubscriptions_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_TopicSubscriptions_descriptor,
+        new java.lang.String[] { "EventType", "Target", "Subscriptions", });
+    internal_static_eventsubscription_EventTypeSubscriptions_descriptor =
+      getDescriptor().getMessageTypes().get(22);
+    internal_static_eventsubscription_EventTypeSubscriptions_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_EventTypeSubscriptions_descriptor,
+        new java.lang.String[] { "EventType", "Subscriptions", });
+    internal_static_eventsubscription_EventRate_descriptor =
+      getDescriptor().getMessageTypes().get(23);
+    internal_static_eventsubscription_EventRate_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_EventRate_descriptor,
+        new java.lang.String[] { "Total", "PerSecond", });
+    internal_static_eventsubscription_LatencyHistogram_descriptor =
+      getDescriptor().getMessageTypes().get(24);
+    internal_static_eventsubscription_LatencyHistogram_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_LatencyHistogram_descriptor,
+        new java.lang.String[] { "Count", "MeanMicros", "P50Micros", "P90Micros", "P99Micros", "P999Micros", "MaxMicros", "Buckets", });
+    internal_static_eventsubscription_LatencyBucket_descriptor =
+      getDescriptor().getMessageTypes().get(25);
+    internal_static_eventsubscription_LatencyBucket_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_LatencyBucket_descriptor,
+        new java.lang.String[] { "UpperBoundMicros", "Count", });
+    internal_static_eventsubscription_SubscriberStats_descriptor =
+      getDescriptor().getMessageTypes().get(26);
+    internal_static_eventsubscription_SubscriberStats_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_SubscriberStats_descriptor,
+        new java.lang.String[] { "ClientSubscriptionId", "EventType", "Target", "Session", "QueueDepth", "QueueCapacity", "OldestPendingMicros", "Sent", "Dropped", "Conflated", "Suppressed", "UncompressedBytes", "WireBytes", });
+    internal_static_eventsubscription_ServerStats_descriptor =
+      getDescriptor().getMessageTypes().get(27);
+    internal_static_eventsubscription_ServerStats_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_ServerStats_descriptor,
+        new java.lang.String[] { "UptimeMillis", "ActiveSubscriptions", "SubscriptionsPerEventType", "SubscriptionsPerTopic", "EventsPublished", "NotificationsDispatched", "NotificationsDropped", "NotificationsSent", "DispatchLatency", "FanOutLatency", "SlowestSubscribers", "Subscribers", "Process", "HighPriorityFanOutLatency", "HighPriorityObjective", });
+    internal_static_eventsubscription_LatencyObjective_descriptor =
+      getDescriptor().getMessageTypes().get(28);
+    internal_static_eventsubscription_LatencyObjective_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_LatencyObjective_descriptor,
+        new java.lang.String[] { "ObjectiveMicros", "Within", "Missed", "WithinRatio", });
+    internal_static_eventsubscription_ProcessStats_descriptor =
+      getDescriptor().getMessageTypes().get(29);
+    internal_static_eventsubscription_ProcessStats_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_ProcessStats_descriptor,
+        new java.lang.String[] { "CpuTimeNanos", "AvailableProcessors", "HeapUsedBytes", "HeapCommittedBytes", "HeapMaxBytes", "GcCount", "GcTimeMillis", "ThreadCount", });
+    internal_static_eventsubscription_ClusterView_descriptor =
+      getDescriptor().getMessageTypes().get(30);
+    internal_static_eventsubscription_ClusterView_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_ClusterView_descriptor,
+        new java.lang.String[] { "Version", "Nodes", });
+    internal_static_eventsubscription_JoinRequest_descriptor =
+      getDescriptor().getMessageTypes().get(31);
+    internal_static_eventsubscription_JoinRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_JoinRequest_descriptor,
+        new java.lang.String[] { "Address", });
+    internal_static_eventsubscription_ForwardSummary_descriptor =
+      getDescriptor().getMessageTypes().get(32);
+    internal_static_eventsubscription_ForwardSummary_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_ForwardSummary_descriptor,
+        new java.lang.String[] { "Received", });
+    internal_static_eventsubscription_NodeRedirect_descriptor =
+      getDescriptor().getMessageTypes().get(33);
+    internal_static_eventsubscription_NodeRedirect_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_NodeRedirect_descriptor,
+        new java.lang.String[] { "OwnerAddress", "Target", "ViewVersion", });
+    internal_static_eventsubscription_FederationInterest_descriptor =
+      getDescriptor().getMessageTypes().get(34);
+    internal_static_eventsubscription_FederationInterest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_FederationInterest_descriptor,
+        new java.lang.String[] { "EventType", "Target", });
+    internal_static_eventsubscription_InterestUpdate_descriptor =
+      getDescriptor().getMessageTypes().get(35);
+    internal_static_eventsubscription_InterestUpdate_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_eventsubscription_InterestUpdate_descriptor,
+        new java.lang.String[] { "Added", "Removed", });
     descriptor.resolveAllFeaturesImmutable();
   }
 
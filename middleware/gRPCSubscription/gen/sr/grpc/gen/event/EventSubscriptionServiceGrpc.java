@@ -80,6 +80,68 @@ public final class EventSubscriptionServiceGrpc {
     return getUnsubscribeMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<sr.grpc.gen.event.SubscriptionRequest,
+      sr.grpc.gen.event.EventNotificationBatch> getSubscribeBatchedMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "SubscribeBatched",
+      requestType = sr.grpc.gen.event.SubscriptionRequest.class,
+      responseType = sr.grpc.gen.event.EventNotificationBatch.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<sr.grpc.gen.event.SubscriptionRequest,
+      sr.grpc.gen.event.EventNotificationBatch> getSubscribeBatchedMethod() {
+    io.grpc.MethodDescriptor<sr.grpc.gen.event.SubscriptionRequest, sr.grpc.gen.event.EventNotificationBatch> getSubscribeBatchedMethod;
+    if ((getSubscribeBatchedMethod = EventSubscriptionServiceGrpc.getSubscribeBatchedMethod) == null) {
+      synchronized (EventSubscriptionServiceGrpc.class) {
+        if ((getSubscribeBatchedMethod = EventSubscriptionServiceGrpc.getSubscribeBatchedMethod) == null) {
+          EventSubscriptionServiceGrpc.getSubscribeBatchedMethod = getSubscribeBatchedMethod =
+              io.grpc.MethodDescriptor.<sr.grpc.gen.event.SubscriptionRequest, sr.grpc.gen.event.EventNotificationBatch>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "SubscribeBatched"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  sr.grpc.gen.event.SubscriptionRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  sr.grpc.gen.event.EventNotificationBatch.getDefaultInstance()))
+              .setSchemaDescriptor(new EventSubscriptionServiceMethodDescriptorSupplier("SubscribeBatched"))
+              .build();
+        }
+      }
+    }
+    return getSubscribeBatchedMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<sr.grpc.gen.event.SessionRequest,
+      sr.grpc.gen.event.SessionResponse> getSubscriptionSessionMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "SubscriptionSession",
+      requestType = sr.grpc.gen.event.SessionRequest.class,
+      responseType = sr.grpc.gen.event.SessionResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+  public static io.grpc.MethodDescriptor<sr.grpc.gen.event.SessionRequest,
+      sr.grpc.gen.event.SessionResponse> getSubscriptionSessionMethod() {
+    io.grpc.MethodDescriptor<sr.grpc.gen.event.SessionRequest, sr.grpc.gen.event.SessionResponse> getSubscriptionSessionMethod;
+    if ((getSubscriptionSessionMethod = EventSubscriptionServiceGrpc.getSubscriptionSessionMethod) == null) {
+      synchronized (EventSubscriptionServiceGrpc.class) {
+        if ((getSubscriptionSessionMethod = EventSubscriptionServiceGrpc.getSubscriptionSessionMethod) == null) {
+          EventSubscriptionServiceGrpc.getSubscriptionSessionMethod = getSubscriptionSessionMethod =
+              io.grpc.MethodDescriptor.<sr.grpc.gen.event.SessionRequest, sr.grpc.gen.event.SessionResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "SubscriptionSession"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  sr.grpc.gen.event.SessionRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  sr.grpc.gen.event.SessionResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new EventSubscriptionServiceMethodDescriptorSupplier("SubscriptionSession"))
+              .build();
+        }
+      }
+    }
+    return getSubscriptionSessionMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -165,6 +227,29 @@ public final class EventSubscriptionServiceGrpc {
         io.grpc.stub.StreamObserver<sr.grpc.gen.event.UnsubscriptionResponse> responseObserver) {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getUnsubscribeMethod(), responseObserver);
     }
+
+    /**
+     * <pre>
+     * Same as Subscribe, but the server coalesces notifications into batches to save per-message overhead.
+     * Unsubscribe works the same way for both kinds of subscription.
+     * </pre>
+     */
+    default void subscribeBatched(sr.grpc.gen.event.SubscriptionRequest request,
+        io.grpc.stub.StreamObserver<sr.grpc.gen.event.EventNotificationBatch> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getSubscribeBatchedMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Many subscriptions over a single stream: the client adds and removes subscriptions with control messages,
+     * each answered by a ControlAck, and receives the notifications of all of them on the response stream.
+     * Closing the request stream ends every subscription of the session.
+     * </pre>
+     */
+    default io.grpc.stub.StreamObserver<sr.grpc.gen.event.SessionRequest> subscriptionSession(
+        io.grpc.stub.StreamObserver<sr.grpc.gen.event.SessionResponse> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getSubscriptionSessionMethod(), responseObserver);
+    }
   }
 
   /**
@@ -221,6 +306,31 @@ public final class EventSubscriptionServiceGrpc {
       io.grpc.stub.ClientCalls.asyncUnaryCall(
           getChannel().newCall(getUnsubscribeMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     * <pre>
+     * Same as Subscribe, but the server coalesces notifications into batches to save per-message overhead.
+     * Unsubscribe works the same way for both kinds of subscription.
+     * </pre>
+     */
+    public void subscribeBatched(sr.grpc.gen.event.SubscriptionRequest request,
+        io.grpc.stub.StreamObserver<sr.grpc.gen.event.EventNotificationBatch> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getSubscribeBatchedMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Many subscriptions over a single stream: the client adds and removes subscriptions with control messages,
+     * each answered by a ControlAck, and receives the notifications of all of them on the response stream.
+     * Closing the request stream ends every subscription of the session.
+     * </pre>
+     */
+    public io.grpc.stub.StreamObserver<sr.grpc.gen.event.SessionRequest> subscriptionSession(
+        io.grpc.stub.StreamObserver<sr.grpc.gen.event.SessionResponse> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncBidiStreamingCall(
+          getChannel().newCall(getSubscriptionSessionMethod(), getCallOptions()), responseObserver);
+    }
   }
 
   /**
@@ -263,6 +373,33 @@ public final class EventSubscriptionServiceGrpc {
       return io.grpc.stub.ClientCalls.blockingUnaryCall(
           getChannel(), getUnsubscribeMethod(), getCallOptions(), request);
     }
+
+    /**
+     * <pre>
+     * Same as Subscribe, but the server coalesces notifications into batches to save per-message overhead.
+     * Unsubscribe works the same way for both kinds of subscription.
+     * </pre>
+     */
+    @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/10918")
+    public io.grpc.stub.BlockingClientCall<?, sr.grpc.gen.event.EventNotificationBatch>
+        subscribeBatched(sr.grpc.gen.event.SubscriptionRequest request) {
+      return io.grpc.stub.ClientCalls.blockingV2ServerStreamingCall(
+          getChannel(), getSubscribeBatchedMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * Many subscriptions over a single stream: the client adds and removes subscriptions with control messages,
+     * each answered by a ControlAck, and receives the notifications of all of them on the response stream.
+     * Closing the request stream ends every subscription of the session.
+     * </pre>
+     */
+    @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/10918")
+    public io.grpc.stub.BlockingClientCall<sr.grpc.gen.event.SessionRequest, sr.grpc.gen.event.SessionResponse>
+        subscriptionSession() {
+      return io.grpc.stub.ClientCalls.blockingBidiStreamingCall(
+          getChannel(), getSubscriptionSessionMethod(), getCallOptions());
+    }
   }
 
   /**
@@ -304,6 +441,18 @@ public final class EventSubscriptionServiceGrpc {
       return io.grpc.stub.ClientCalls.blockingUnaryCall(
           getChannel(), getUnsubscribeMethod(), getCallOptions(), request);
     }
+
+    /**
+     * <pre>
+     * Same as Subscribe, but the server coalesces notifications into batches to save per-message overhead.
+     * Unsubscribe works the same way for both kinds of subscription.
+     * </pre>
+     */
+    public java.util.Iterator<sr.grpc.gen.event.EventNotificationBatch> subscribeBatched(
+        sr.grpc.gen.event.SubscriptionRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getSubscribeBatchedMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -339,6 +488,8 @@ public final class EventSubscriptionServiceGrpc {
 
   private static final int METHODID_SUBSCRIBE = 0;
   private static final int METHODID_UNSUBSCRIBE = 1;
+  private static final int METHODID_SUBSCRIBE_BATCHED = 2;
+  private static final int METHODID_SUBSCRIPTION_SESSION = 3;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -365,6 +516,10 @@ public final class EventSubscriptionServiceGrpc {
           serviceImpl.unsubscribe((sr.grpc.gen.event.UnsubscriptionRequest) request,
               (io.grpc.stub.StreamObserver<sr.grpc.gen.event.UnsubscriptionResponse>) responseObserver);
           break;
+        case METHODID_SUBSCRIBE_BATCHED:
+          serviceImpl.subscribeBatched((sr.grpc.gen.event.SubscriptionRequest) request,
+              (io.grpc.stub.StreamObserver<sr.grpc.gen.event.EventNotificationBatch>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -375,6 +530,9 @@ public final class EventSubscriptionServiceGrpc {
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_SUBSCRIPTION_SESSION:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.subscriptionSession(
+              (io.grpc.stub.StreamObserver<sr.grpc.gen.event.SessionResponse>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -397,6 +555,20 @@ public final class EventSubscriptionServiceGrpc {
               sr.grpc.gen.event.UnsubscriptionRequest,
               sr.grpc.gen.event.UnsubscriptionResponse>(
                 service, METHODID_UNSUBSCRIBE)))
+        .addMethod(
+          getSubscribeBatchedMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              sr.grpc.gen.event.SubscriptionRequest,
+              sr.grpc.gen.event.EventNotificationBatch>(
+                service, METHODID_SUBSCRIBE_BATCHED)))
+        .addMethod(
+          getSubscriptionSessionMethod(),
+          io.grpc.stub.ServerCalls.asyncBidiStreamingCall(
+            new MethodHandlers<
+              sr.grpc.gen.event.SessionRequest,
+              sr.grpc.gen.event.SessionResponse>(
+                service, METHODID_SUBSCRIPTION_SESSION)))
         .build();
   }
 
@@ -447,6 +619,8 @@ public final class EventSubscriptionServiceGrpc {
               .setSchemaDescriptor(new EventSubscriptionServiceFileDescriptorSupplier())
               .addMethod(getSubscribeMethod())
               .addMethod(getUnsubscribeMethod())
+              .addMethod(getSubscribeBatchedMethod())
+              .addMethod(getSubscriptionSessionMethod())
               .build();
         }
       }
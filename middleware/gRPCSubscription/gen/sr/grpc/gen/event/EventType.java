@@ -27,18 +27,10 @@ public enum EventType
    */
   WEATHER_UPDATE(1),
   /**
-   * <pre>
-   * Example of another potential event type
-   * </pre>
-   *
    * <code>CONCERT_ALERT = 2;</code>
    */
   CONCERT_ALERT(2),
   /**
-   * <pre>
-   * Example of another potential event type
-   * </pre>
-   *
    * <code>NEWS_FLASH = 3;</code>
    */
   NEWS_FLASH(3),
@@ -67,18 +59,10 @@ public enum EventType
    */
   public static final int WEATHER_UPDATE_VALUE = 1;
   /**
-   * <pre>
-   * Example of another potential event type
-   * </pre>
-   *
    * <code>CONCERT_ALERT = 2;</code>
    */
   public static final int CONCERT_ALERT_VALUE = 2;
   /**
-   * <pre>
-   * Example of another potential event type
-   * </pre>
-   *
    * <code>NEWS_FLASH = 3;</code>
    */
   public static final int NEWS_FLASH_VALUE = 3;
@@ -0,0 +1,525 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * Protobuf type {@code eventsubscription.EventTypeSubscriptions}
+ */
+public final class EventTypeSubscriptions extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.EventTypeSubscriptions)
+    EventTypeSubscriptionsOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      EventTypeSubscriptions.class.getName());
+  }
+  // Use EventTypeSubscriptions.newBuilder() to construct.
+  private EventTypeSubscriptions(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private EventTypeSubscriptions() {
+    eventType_ = 0;
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_EventTypeSubscriptions_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_EventTypeSubscriptions_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.EventTypeSubscriptions.class, sr.grpc.gen.event.EventTypeSubscriptions.Builder.class);
+  }
+
+  public static final int EVENT_TYPE_FIELD_NUMBER = 1;
+  private int eventType_ = 0;
+  /**
+   * <code>.eventsubscription.EventType event_type = 1;</code>
+   * @return The enum numeric value on the wire for eventType.
+   */
+  @java.lang.Override public int getEventTypeValue() {
+    return eventType_;
+  }
+  /**
+   * <code>.eventsubscription.EventType event_type = 1;</code>
+   * @return The eventType.
+   */
+  @java.lang.Override public sr.grpc.gen.event.EventType getEventType() {
+    sr.grpc.gen.event.EventType result = sr.grpc.gen.event.EventType.forNumber(eventType_);
+    return result == null ? sr.grpc.gen.event.EventType.UNRECOGNIZED : result;
+  }
+
+  public static final int SUBSCRIPTIONS_FIELD_NUMBER = 2;
+  private int subscriptions_ = 0;
+  /**
+   * <code>uint32 subscriptions = 2;</code>
+   * @return The subscriptions.
+   */
+  @java.lang.Override
+  public int getSubscriptions() {
+    return subscriptions_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (eventType_ != sr.grpc.gen.event.EventType.EVENT_TYPE_UNSPECIFIED.getNumber()) {
+      output.writeEnum(1, eventType_);
+    }
+    if (subscriptions_ != 0) {
+      output.writeUInt32(2, subscriptions_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (eventType_ != sr.grpc.gen.event.EventType.EVENT_TYPE_UNSPECIFIED.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(1, eventType_);
+    }
+    if (subscriptions_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(2, subscriptions_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.EventTypeSubscriptions)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.EventTypeSubscriptions other = (sr.grpc.gen.event.EventTypeSubscriptions) obj;
+
+    if (eventType_ != other.eventType_) return false;
+    if (getSubscriptions()
+        != other.getSubscriptions()) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + EVENT_TYPE_FIELD_NUMBER;
+    hash = (53 * hash) + eventType_;
+    hash = (37 * hash) + SUBSCRIPTIONS_FIELD_NUMBER;
+    hash = (53 * hash) + getSubscriptions();
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.EventTypeSubscriptions parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.EventTypeSubscriptions parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.EventTypeSubscriptions parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.EventTypeSubscriptions parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.EventTypeSubscriptions parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.EventTypeSubscriptions parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.EventTypeSubscriptions parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.EventTypeSubscriptions parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.EventTypeSubscriptions parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.EventTypeSubscriptions parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.EventTypeSubscriptions parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.EventTypeSubscriptions parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.EventTypeSubscriptions prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code eventsubscription.EventTypeSubscriptions}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.EventTypeSubscriptions)
+      sr.grpc.gen.event.EventTypeSubscriptionsOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_EventTypeSubscriptions_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_EventTypeSubscriptions_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.EventTypeSubscriptions.class, sr.grpc.gen.event.EventTypeSubscriptions.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.EventTypeSubscriptions.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      eventType_ = 0;
+      subscriptions_ = 0;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_EventTypeSubscriptions_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.EventTypeSubscriptions getDefaultInstanceForType() {
+      return sr.grpc.gen.event.EventTypeSubscriptions.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.EventTypeSubscriptions build() {
+      sr.grpc.gen.event.EventTypeSubscriptions result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.EventTypeSubscriptions buildPartial() {
+      sr.grpc.gen.event.EventTypeSubscriptions result = new sr.grpc.gen.event.EventTypeSubscriptions(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.EventTypeSubscriptions result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.eventType_ = eventType_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.subscriptions_ = subscriptions_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.EventTypeSubscriptions) {
+        return mergeFrom((sr.grpc.gen.event.EventTypeSubscriptions)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.EventTypeSubscriptions other) {
+      if (other == sr.grpc.gen.event.EventTypeSubscriptions.getDefaultInstance()) return this;
+      if (other.eventType_ != 0) {
+        setEventTypeValue(other.getEventTypeValue());
+      }
+      if (other.getSubscriptions() != 0) {
+        setSubscriptions(other.getSubscriptions());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              eventType_ = input.readEnum();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 8
+            case 16: {
+              subscriptions_ = input.readUInt32();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 16
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private int eventType_ = 0;
+    /**
+     * <code>.eventsubscription.EventType event_type = 1;</code>
+     * @return The enum numeric value on the wire for eventType.
+     */
+    @java.lang.Override public int getEventTypeValue() {
+      return eventType_;
+    }
+    /**
+     * <code>.eventsubscription.EventType event_type = 1;</code>
+     * @param value The enum numeric value on the wire for eventType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setEventTypeValue(int value) {
+      eventType_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.EventType event_type = 1;</code>
+     * @return The eventType.
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.EventType getEventType() {
+      sr.grpc.gen.event.EventType result = sr.grpc.gen.event.EventType.forNumber(eventType_);
+      return result == null ? sr.grpc.gen.event.EventType.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.eventsubscription.EventType event_type = 1;</code>
+     * @param value The eventType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setEventType(sr.grpc.gen.event.EventType value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      bitField0_ |= 0x00000001;
+      eventType_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.EventType event_type = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearEventType() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      eventType_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int subscriptions_ ;
+    /**
+     * <code>uint32 subscriptions = 2;</code>
+     * @return The subscriptions.
+     */
+    @java.lang.Override
+    public int getSubscriptions() {
+      return subscriptions_;
+    }
+    /**
+     * <code>uint32 subscriptions = 2;</code>
+     * @param value The subscriptions to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSubscriptions(int value) {
+
+      subscriptions_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint32 subscriptions = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSubscriptions() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      subscriptions_ = 0;
+      onChanged();
+      return this;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.EventTypeSubscriptions)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.EventTypeSubscriptions)
+  private static final sr.grpc.gen.event.EventTypeSubscriptions DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.EventTypeSubscriptions();
+  }
+
+  public static sr.grpc.gen.event.EventTypeSubscriptions getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<EventTypeSubscriptions>
+      PARSER = new com.google.protobuf.AbstractParser<EventTypeSubscriptions>() {
+    @java.lang.Override
+    public EventTypeSubscriptions parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<EventTypeSubscriptions> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<EventTypeSubscriptions> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.EventTypeSubscriptions getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,28 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface EventTypeSubscriptionsOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.EventTypeSubscriptions)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.eventsubscription.EventType event_type = 1;</code>
+   * @return The enum numeric value on the wire for eventType.
+   */
+  int getEventTypeValue();
+  /**
+   * <code>.eventsubscription.EventType event_type = 1;</code>
+   * @return The eventType.
+   */
+  sr.grpc.gen.event.EventType getEventType();
+
+  /**
+   * <code>uint32 subscriptions = 2;</code>
+   * @return The subscriptions.
+   */
+  int getSubscriptions();
+}
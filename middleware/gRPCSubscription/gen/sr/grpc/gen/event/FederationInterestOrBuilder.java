@@ -0,0 +1,42 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface FederationInterestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.FederationInterest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.eventsubscription.EventType event_type = 1;</code>
+   * @return The enum numeric value on the wire for eventType.
+   */
+  int getEventTypeValue();
+  /**
+   * <code>.eventsubscription.EventType event_type = 1;</code>
+   * @return The eventType.
+   */
+  sr.grpc.gen.event.EventType getEventType();
+
+  /**
+   * <pre>
+   * WEATHER_UPDATE: the city; NEWS_FLASH: a keyword. Normalized (trimmed, lower case)
+   * </pre>
+   *
+   * <code>string target = 2;</code>
+   * @return The target.
+   */
+  java.lang.String getTarget();
+  /**
+   * <pre>
+   * WEATHER_UPDATE: the city; NEWS_FLASH: a keyword. Normalized (trimmed, lower case)
+   * </pre>
+   *
+   * <code>string target = 2;</code>
+   * @return The bytes for target.
+   */
+  com.google.protobuf.ByteString
+      getTargetBytes();
+}
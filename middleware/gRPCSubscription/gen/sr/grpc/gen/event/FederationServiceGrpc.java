@@ -0,0 +1,354 @@
+package sr.grpc.gen.event;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ * <pre>
+ * Spoken by an edge server to its upstream server, which may itself be the edge of another one.
+ * </pre>
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.71.0)",
+    comments = "Source: weather.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class FederationServiceGrpc {
+
+  private FederationServiceGrpc() {}
+
+  public static final java.lang.String SERVICE_NAME = "eventsubscription.FederationService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<sr.grpc.gen.event.InterestUpdate,
+      sr.grpc.gen.event.EventNotificationBatch> getFederateMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "Federate",
+      requestType = sr.grpc.gen.event.InterestUpdate.class,
+      responseType = sr.grpc.gen.event.EventNotificationBatch.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+  public static io.grpc.MethodDescriptor<sr.grpc.gen.event.InterestUpdate,
+      sr.grpc.gen.event.EventNotificationBatch> getFederateMethod() {
+    io.grpc.MethodDescriptor<sr.grpc.gen.event.InterestUpdate, sr.grpc.gen.event.EventNotificationBatch> getFederateMethod;
+    if ((getFederateMethod = FederationServiceGrpc.getFederateMethod) == null) {
+      synchronized (FederationServiceGrpc.class) {
+        if ((getFederateMethod = FederationServiceGrpc.getFederateMethod) == null) {
+          FederationServiceGrpc.getFederateMethod = getFederateMethod =
+              io.grpc.MethodDescriptor.<sr.grpc.gen.event.InterestUpdate, sr.grpc.gen.event.EventNotificationBatch>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "Federate"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  sr.grpc.gen.event.InterestUpdate.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  sr.grpc.gen.event.EventNotificationBatch.getDefaultInstance()))
+              .setSchemaDescriptor(new FederationServiceMethodDescriptorSupplier("Federate"))
+              .build();
+        }
+      }
+    }
+    return getFederateMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static FederationServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<FederationServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<FederationServiceStub>() {
+        @java.lang.Override
+        public FederationServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new FederationServiceStub(channel, callOptions);
+        }
+      };
+    return FederationServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports all types of calls on the service
+   */
+  public static FederationServiceBlockingV2Stub newBlockingV2Stub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<FederationServiceBlockingV2Stub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<FederationServiceBlockingV2Stub>() {
+        @java.lang.Override
+        public FederationServiceBlockingV2Stub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new FederationServiceBlockingV2Stub(channel, callOptions);
+        }
+      };
+    return FederationServiceBlockingV2Stub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static FederationServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<FederationServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<FederationServiceBlockingStub>() {
+        @java.lang.Override
+        public FederationServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new FederationServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return FederationServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static FederationServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<FederationServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<FederationServiceFutureStub>() {
+        @java.lang.Override
+        public FederationServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new FederationServiceFutureStub(channel, callOptions);
+        }
+      };
+    return FederationServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   * <pre>
+   * Spoken by an edge server to its upstream server, which may itself be the edge of another one.
+   * </pre>
+   */
+  public interface AsyncService {
+
+    /**
+     * <pre>
+     * The edge streams its interest as local subscriptions come and go; the upstream streams back, in batches,
+     * every event of those topics once, however many subscribers the edge has for it. Each notification keeps
+     * the upstream's sequence number, so the edge can drop a repeated one.
+     * </pre>
+     */
+    default io.grpc.stub.StreamObserver<sr.grpc.gen.event.InterestUpdate> federate(
+        io.grpc.stub.StreamObserver<sr.grpc.gen.event.EventNotificationBatch> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getFederateMethod(), responseObserver);
+    }
+  }
+
+  /**
+   * Base class for the server implementation of the service FederationService.
+   * <pre>
+   * Spoken by an edge server to its upstream server, which may itself be the edge of another one.
+   * </pre>
+   */
+  public static abstract class FederationServiceImplBase
+      implements io.grpc.BindableService, AsyncService {
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return FederationServiceGrpc.bindService(this);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do asynchronous rpc calls to service FederationService.
+   * <pre>
+   * Spoken by an edge server to its upstream server, which may itself be the edge of another one.
+   * </pre>
+   */
+  public static final class FederationServiceStub
+      extends io.grpc.stub.AbstractAsyncStub<FederationServiceStub> {
+    private FederationServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected FederationServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new FederationServiceStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * The edge streams its interest as local subscriptions come and go; the upstream streams back, in batches,
+     * every event of those topics once, however many subscribers the edge has for it. Each notification keeps
+     * the upstream's sequence number, so the edge can drop a repeated one.
+     * </pre>
+     */
+    public io.grpc.stub.StreamObserver<sr.grpc.gen.event.InterestUpdate> federate(
+        io.grpc.stub.StreamObserver<sr.grpc.gen.event.EventNotificationBatch> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncBidiStreamingCall(
+          getChannel().newCall(getFederateMethod(), getCallOptions()), responseObserver);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do synchronous rpc calls to service FederationService.
+   * <pre>
+   * Spoken by an edge server to its upstream server, which may itself be the edge of another one.
+   * </pre>
+   */
+  public static final class FederationServiceBlockingV2Stub
+      extends io.grpc.stub.AbstractBlockingStub<FederationServiceBlockingV2Stub> {
+    private FederationServiceBlockingV2Stub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected FederationServiceBlockingV2Stub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new FederationServiceBlockingV2Stub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * The edge streams its interest as local subscriptions come and go; the upstream streams back, in batches,
+     * every event of those topics once, however many subscribers the edge has for it. Each notification keeps
+     * the upstream's sequence number, so the edge can drop a repeated one.
+     * </pre>
+     */
+    @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/10918")
+    public io.grpc.stub.BlockingClientCall<sr.grpc.gen.event.InterestUpdate, sr.grpc.gen.event.EventNotificationBatch>
+        federate() {
+      return io.grpc.stub.ClientCalls.blockingBidiStreamingCall(
+          getChannel(), getFederateMethod(), getCallOptions());
+    }
+  }
+
+  /**
+   * A stub to allow clients to do limited synchronous rpc calls to service FederationService.
+   * <pre>
+   * Spoken by an edge server to its upstream server, which may itself be the edge of another one.
+   * </pre>
+   */
+  public static final class FederationServiceBlockingStub
+      extends io.grpc.stub.AbstractBlockingStub<FederationServiceBlockingStub> {
+    private FederationServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected FederationServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new FederationServiceBlockingStub(channel, callOptions);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do ListenableFuture-style rpc calls to service FederationService.
+   * <pre>
+   * Spoken by an edge server to its upstream server, which may itself be the edge of another one.
+   * </pre>
+   */
+  public static final class FederationServiceFutureStub
+      extends io.grpc.stub.AbstractFutureStub<FederationServiceFutureStub> {
+    private FederationServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected FederationServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new FederationServiceFutureStub(channel, callOptions);
+    }
+  }
+
+  private static final int METHODID_FEDERATE = 0;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final AsyncService serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(AsyncService serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_FEDERATE:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.federate(
+              (io.grpc.stub.StreamObserver<sr.grpc.gen.event.EventNotificationBatch>) responseObserver);
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  public static final io.grpc.ServerServiceDefinition bindService(AsyncService service) {
+    return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+        .addMethod(
+          getFederateMethod(),
+          io.grpc.stub.ServerCalls.asyncBidiStreamingCall(
+            new MethodHandlers<
+              sr.grpc.gen.event.InterestUpdate,
+              sr.grpc.gen.event.EventNotificationBatch>(
+                service, METHODID_FEDERATE)))
+        .build();
+  }
+
+  private static abstract class FederationServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    FederationServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("FederationService");
+    }
+  }
+
+  private static final class FederationServiceFileDescriptorSupplier
+      extends FederationServiceBaseDescriptorSupplier {
+    FederationServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class FederationServiceMethodDescriptorSupplier
+      extends FederationServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final java.lang.String methodName;
+
+    FederationServiceMethodDescriptorSupplier(java.lang.String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (FederationServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new FederationServiceFileDescriptorSupplier())
+              .addMethod(getFederateMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,21 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface ForwardSummaryOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.ForwardSummary)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * Events received on the Forward stream
+   * </pre>
+   *
+   * <code>uint64 received = 1;</code>
+   * @return The received.
+   */
+  long getReceived();
+}
@@ -0,0 +1,650 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * <pre>
+ * The points at most radius_km from center, measured along the Earth's surface
+ * </pre>
+ *
+ * Protobuf type {@code eventsubscription.GeoCircle}
+ */
+public final class GeoCircle extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.GeoCircle)
+    GeoCircleOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      GeoCircle.class.getName());
+  }
+  // Use GeoCircle.newBuilder() to construct.
+  private GeoCircle(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private GeoCircle() {
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_GeoCircle_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_GeoCircle_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.GeoCircle.class, sr.grpc.gen.event.GeoCircle.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int CENTER_FIELD_NUMBER = 1;
+  private sr.grpc.gen.event.GeoPoint center_;
+  /**
+   * <code>.eventsubscription.GeoPoint center = 1;</code>
+   * @return Whether the center field is set.
+   */
+  @java.lang.Override
+  public boolean hasCenter() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <code>.eventsubscription.GeoPoint center = 1;</code>
+   * @return The center.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.GeoPoint getCenter() {
+    return center_ == null ? sr.grpc.gen.event.GeoPoint.getDefaultInstance() : center_;
+  }
+  /**
+   * <code>.eventsubscription.GeoPoint center = 1;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.GeoPointOrBuilder getCenterOrBuilder() {
+    return center_ == null ? sr.grpc.gen.event.GeoPoint.getDefaultInstance() : center_;
+  }
+
+  public static final int RADIUS_KM_FIELD_NUMBER = 2;
+  private double radiusKm_ = 0D;
+  /**
+   * <pre>
+   * Above 0, at most 2000
+   * </pre>
+   *
+   * <code>double radius_km = 2;</code>
+   * @return The radiusKm.
+   */
+  @java.lang.Override
+  public double getRadiusKm() {
+    return radiusKm_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (((bitField0_ & 0x00000001) != 0)) {
+      output.writeMessage(1, getCenter());
+    }
+    if (java.lang.Double.doubleToRawLongBits(radiusKm_) != 0) {
+      output.writeDouble(2, radiusKm_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getCenter());
+    }
+    if (java.lang.Double.doubleToRawLongBits(radiusKm_) != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(2, radiusKm_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.GeoCircle)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.GeoCircle other = (sr.grpc.gen.event.GeoCircle) obj;
+
+    if (hasCenter() != other.hasCenter()) return false;
+    if (hasCenter()) {
+      if (!getCenter()
+          .equals(other.getCenter())) return false;
+    }
+    if (java.lang.Double.doubleToLongBits(getRadiusKm())
+        != java.lang.Double.doubleToLongBits(
+            other.getRadiusKm())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasCenter()) {
+      hash = (37 * hash) + CENTER_FIELD_NUMBER;
+      hash = (53 * hash) + getCenter().hashCode();
+    }
+    hash = (37 * hash) + RADIUS_KM_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        java.lang.Double.doubleToLongBits(getRadiusKm()));
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.GeoCircle parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.GeoCircle parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.GeoCircle parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.GeoCircle parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.GeoCircle parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.GeoCircle parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.GeoCircle parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.GeoCircle parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.GeoCircle parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.GeoCircle parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.GeoCircle parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.GeoCircle parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.GeoCircle prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * The points at most radius_km from center, measured along the Earth's surface
+   * </pre>
+   *
+   * Protobuf type {@code eventsubscription.GeoCircle}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.GeoCircle)
+      sr.grpc.gen.event.GeoCircleOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_GeoCircle_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_GeoCircle_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.GeoCircle.class, sr.grpc.gen.event.GeoCircle.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.GeoCircle.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessage
+              .alwaysUseFieldBuilders) {
+        internalGetCenterFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      center_ = null;
+      if (centerBuilder_ != null) {
+        centerBuilder_.dispose();
+        centerBuilder_ = null;
+      }
+      radiusKm_ = 0D;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_GeoCircle_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.GeoCircle getDefaultInstanceForType() {
+      return sr.grpc.gen.event.GeoCircle.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.GeoCircle build() {
+      sr.grpc.gen.event.GeoCircle result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.GeoCircle buildPartial() {
+      sr.grpc.gen.event.GeoCircle result = new sr.grpc.gen.event.GeoCircle(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.GeoCircle result) {
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.center_ = centerBuilder_ == null
+            ? center_
+            : centerBuilder_.build();
+        to_bitField0_ |= 0x00000001;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.radiusKm_ = radiusKm_;
+      }
+      result.bitField0_ |= to_bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.GeoCircle) {
+        return mergeFrom((sr.grpc.gen.event.GeoCircle)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.GeoCircle other) {
+      if (other == sr.grpc.gen.event.GeoCircle.getDefaultInstance()) return this;
+      if (other.hasCenter()) {
+        mergeCenter(other.getCenter());
+      }
+      if (java.lang.Double.doubleToRawLongBits(other.getRadiusKm()) != 0) {
+        setRadiusKm(other.getRadiusKm());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              input.readMessage(
+                  internalGetCenterFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 10
+            case 17: {
+              radiusKm_ = input.readDouble();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 17
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private sr.grpc.gen.event.GeoPoint center_;
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.GeoPoint, sr.grpc.gen.event.GeoPoint.Builder, sr.grpc.gen.event.GeoPointOrBuilder> centerBuilder_;
+    /**
+     * <code>.eventsubscription.GeoPoint center = 1;</code>
+     * @return Whether the center field is set.
+     */
+    public boolean hasCenter() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>.eventsubscription.GeoPoint center = 1;</code>
+     * @return The center.
+     */
+    public sr.grpc.gen.event.GeoPoint getCenter() {
+      if (centerBuilder_ == null) {
+        return center_ == null ? sr.grpc.gen.event.GeoPoint.getDefaultInstance() : center_;
+      } else {
+        return centerBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.eventsubscription.GeoPoint center = 1;</code>
+     */
+    public Builder setCenter(sr.grpc.gen.event.GeoPoint value) {
+      if (centerBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        center_ = value;
+      } else {
+        centerBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.GeoPoint center = 1;</code>
+     */
+    public Builder setCenter(
+        sr.grpc.gen.event.GeoPoint.Builder builderForValue) {
+      if (centerBuilder_ == null) {
+        center_ = builderForValue.build();
+      } else {
+        centerBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.GeoPoint center = 1;</code>
+     */
+    public Builder mergeCenter(sr.grpc.gen.event.GeoPoint value) {
+      if (centerBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0) &&
+          center_ != null &&
+          center_ != sr.grpc.gen.event.GeoPoint.getDefaultInstance()) {
+          getCenterBuilder().mergeFrom(value);
+        } else {
+          center_ = value;
+        }
+      } else {
+        centerBuilder_.mergeFrom(value);
+      }
+      if (center_ != null) {
+        bitField0_ |= 0x00000001;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.GeoPoint center = 1;</code>
+     */
+    public Builder clearCenter() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      center_ = null;
+      if (centerBuilder_ != null) {
+        centerBuilder_.dispose();
+        centerBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.GeoPoint center = 1;</code>
+     */
+    public sr.grpc.gen.event.GeoPoint.Builder getCenterBuilder() {
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return internalGetCenterFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.eventsubscription.GeoPoint center = 1;</code>
+     */
+    public sr.grpc.gen.event.GeoPointOrBuilder getCenterOrBuilder() {
+      if (centerBuilder_ != null) {
+        return centerBuilder_.getMessageOrBuilder();
+      } else {
+        return center_ == null ?
+            sr.grpc.gen.event.GeoPoint.getDefaultInstance() : center_;
+      }
+    }
+    /**
+     * <code>.eventsubscription.GeoPoint center = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.GeoPoint, sr.grpc.gen.event.GeoPoint.Builder, sr.grpc.gen.event.GeoPointOrBuilder> 
+        internalGetCenterFieldBuilder() {
+      if (centerBuilder_ == null) {
+        centerBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.GeoPoint, sr.grpc.gen.event.GeoPoint.Builder, sr.grpc.gen.event.GeoPointOrBuilder>(
+                getCenter(),
+                getParentForChildren(),
+                isClean());
+        center_ = null;
+      }
+      return centerBuilder_;
+    }
+
+    private double radiusKm_ ;
+    /**
+     * <pre>
+     * Above 0, at most 2000
+     * </pre>
+     *
+     * <code>double radius_km = 2;</code>
+     * @return The radiusKm.
+     */
+    @java.lang.Override
+    public double getRadiusKm() {
+      return radiusKm_;
+    }
+    /**
+     * <pre>
+     * Above 0, at most 2000
+     * </pre>
+     *
+     * <code>double radius_km = 2;</code>
+     * @param value The radiusKm to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRadiusKm(double value) {
+
+      radiusKm_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Above 0, at most 2000
+     * </pre>
+     *
+     * <code>double radius_km = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRadiusKm() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      radiusKm_ = 0D;
+      onChanged();
+      return this;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.GeoCircle)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.GeoCircle)
+  private static final sr.grpc.gen.event.GeoCircle DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.GeoCircle();
+  }
+
+  public static sr.grpc.gen.event.GeoCircle getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<GeoCircle>
+      PARSER = new com.google.protobuf.AbstractParser<GeoCircle>() {
+    @java.lang.Override
+    public GeoCircle parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<GeoCircle> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<GeoCircle> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.GeoCircle getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
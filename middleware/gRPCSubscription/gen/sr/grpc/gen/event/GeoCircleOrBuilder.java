@@ -0,0 +1,36 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface GeoCircleOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.GeoCircle)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.eventsubscription.GeoPoint center = 1;</code>
+   * @return Whether the center field is set.
+   */
+  boolean hasCenter();
+  /**
+   * <code>.eventsubscription.GeoPoint center = 1;</code>
+   * @return The center.
+   */
+  sr.grpc.gen.event.GeoPoint getCenter();
+  /**
+   * <code>.eventsubscription.GeoPoint center = 1;</code>
+   */
+  sr.grpc.gen.event.GeoPointOrBuilder getCenterOrBuilder();
+
+  /**
+   * <pre>
+   * Above 0, at most 2000
+   * </pre>
+   *
+   * <code>double radius_km = 2;</code>
+   * @return The radiusKm.
+   */
+  double getRadiusKm();
+}
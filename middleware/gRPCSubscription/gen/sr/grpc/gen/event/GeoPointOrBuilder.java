@@ -0,0 +1,31 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface GeoPointOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.GeoPoint)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * -90 to 90
+   * </pre>
+   *
+   * <code>double latitude = 1;</code>
+   * @return The latitude.
+   */
+  double getLatitude();
+
+  /**
+   * <pre>
+   * -180 to 180
+   * </pre>
+   *
+   * <code>double longitude = 2;</code>
+   * @return The longitude.
+   */
+  double getLongitude();
+}
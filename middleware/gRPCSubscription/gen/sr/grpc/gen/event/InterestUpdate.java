@@ -0,0 +1,1077 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * <pre>
+ * Change of an edge server's interest. The first one on a link lists everything the edge is interested in.
+ * </pre>
+ *
+ * Protobuf type {@code eventsubscription.InterestUpdate}
+ */
+public final class InterestUpdate extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.InterestUpdate)
+    InterestUpdateOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      InterestUpdate.class.getName());
+  }
+  // Use InterestUpdate.newBuilder() to construct.
+  private InterestUpdate(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private InterestUpdate() {
+    added_ = java.util.Collections.emptyList();
+    removed_ = java.util.Collections.emptyList();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_InterestUpdate_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_InterestUpdate_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.InterestUpdate.class, sr.grpc.gen.event.InterestUpdate.Builder.class);
+  }
+
+  public static final int ADDED_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private java.util.List<sr.grpc.gen.event.FederationInterest> added_;
+  /**
+   * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<sr.grpc.gen.event.FederationInterest> getAddedList() {
+    return added_;
+  }
+  /**
+   * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends sr.grpc.gen.event.FederationInterestOrBuilder> 
+      getAddedOrBuilderList() {
+    return added_;
+  }
+  /**
+   * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+   */
+  @java.lang.Override
+  public int getAddedCount() {
+    return added_.size();
+  }
+  /**
+   * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.FederationInterest getAdded(int index) {
+    return added_.get(index);
+  }
+  /**
+   * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.FederationInterestOrBuilder getAddedOrBuilder(
+      int index) {
+    return added_.get(index);
+  }
+
+  public static final int REMOVED_FIELD_NUMBER = 2;
+  @SuppressWarnings("serial")
+  private java.util.List<sr.grpc.gen.event.FederationInterest> removed_;
+  /**
+   * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+   */
+  @java.lang.Override
+  public java.util.List<sr.grpc.gen.event.FederationInterest> getRemovedList() {
+    return removed_;
+  }
+  /**
+   * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends sr.grpc.gen.event.FederationInterestOrBuilder> 
+      getRemovedOrBuilderList() {
+    return removed_;
+  }
+  /**
+   * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+   */
+  @java.lang.Override
+  public int getRemovedCount() {
+    return removed_.size();
+  }
+  /**
+   * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.FederationInterest getRemoved(int index) {
+    return removed_.get(index);
+  }
+  /**
+   * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.FederationInterestOrBuilder getRemovedOrBuilder(
+      int index) {
+    return removed_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < added_.size(); i++) {
+      output.writeMessage(1, added_.get(i));
+    }
+    for (int i = 0; i < removed_.size(); i++) {
+      output.writeMessage(2, removed_.get(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < added_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, added_.get(i));
+    }
+    for (int i = 0; i < removed_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, removed_.get(i));
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.InterestUpdate)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.InterestUpdate other = (sr.grpc.gen.event.InterestUpdate) obj;
+
+    if (!getAddedList()
+        .equals(other.getAddedList())) return false;
+    if (!getRemovedList()
+        .equals(other.getRemovedList())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getAddedCount() > 0) {
+      hash = (37 * hash) + ADDED_FIELD_NUMBER;
+      hash = (53 * hash) + getAddedList().hashCode();
+    }
+    if (getRemovedCount() > 0) {
+      hash = (37 * hash) + REMOVED_FIELD_NUMBER;
+      hash = (53 * hash) + getRemovedList().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.InterestUpdate parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.InterestUpdate parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.InterestUpdate parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.InterestUpdate parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.InterestUpdate parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.InterestUpdate parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.InterestUpdate parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.InterestUpdate parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.InterestUpdate parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.InterestUpdate parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.InterestUpdate parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.InterestUpdate parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.InterestUpdate prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Change of an edge server's interest. The first one on a link lists everything the edge is interested in.
+   * </pre>
+   *
+   * Protobuf type {@code eventsubscription.InterestUpdate}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.InterestUpdate)
+      sr.grpc.gen.event.InterestUpdateOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_InterestUpdate_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_InterestUpdate_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.InterestUpdate.class, sr.grpc.gen.event.InterestUpdate.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.InterestUpdate.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      if (addedBuilder_ == null) {
+        added_ = java.util.Collections.emptyList();
+      } else {
+        added_ = null;
+        addedBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000001);
+      if (removedBuilder_ == null) {
+        removed_ = java.util.Collections.emptyList();
+      } else {
+        removed_ = null;
+        removedBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000002);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_InterestUpdate_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.InterestUpdate getDefaultInstanceForType() {
+      return sr.grpc.gen.event.InterestUpdate.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.InterestUpdate build() {
+      sr.grpc.gen.event.InterestUpdate result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.InterestUpdate buildPartial() {
+      sr.grpc.gen.event.InterestUpdate result = new sr.grpc.gen.event.InterestUpdate(this);
+      buildPartialRepeatedFields(result);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartialRepeatedFields(sr.grpc.gen.event.InterestUpdate result) {
+      if (addedBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          added_ = java.util.Collections.unmodifiableList(added_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.added_ = added_;
+      } else {
+        result.added_ = addedBuilder_.build();
+      }
+      if (removedBuilder_ == null) {
+        if (((bitField0_ & 0x00000002) != 0)) {
+          removed_ = java.util.Collections.unmodifiableList(removed_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.removed_ = removed_;
+      } else {
+        result.removed_ = removedBuilder_.build();
+      }
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.InterestUpdate result) {
+      int from_bitField0_ = bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.InterestUpdate) {
+        return mergeFrom((sr.grpc.gen.event.InterestUpdate)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.InterestUpdate other) {
+      if (other == sr.grpc.gen.event.InterestUpdate.getDefaultInstance()) return this;
+      if (addedBuilder_ == null) {
+        if (!other.added_.isEmpty()) {
+          if (added_.isEmpty()) {
+            added_ = other.added_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureAddedIsMutable();
+            added_.addAll(other.added_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.added_.isEmpty()) {
+          if (addedBuilder_.isEmpty()) {
+            addedBuilder_.dispose();
+            addedBuilder_ = null;
+            added_ = other.added_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            addedBuilder_ = 
+              com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                 internalGetAddedFieldBuilder() : null;
+          } else {
+            addedBuilder_.addAllMessages(other.added_);
+          }
+        }
+      }
+      if (removedBuilder_ == null) {
+        if (!other.removed_.isEmpty()) {
+          if (removed_.isEmpty()) {
+            removed_ = other.removed_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureRemovedIsMutable();
+            removed_.addAll(other.removed_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.removed_.isEmpty()) {
+          if (removedBuilder_.isEmpty()) {
+            removedBuilder_.dispose();
+            removedBuilder_ = null;
+            removed_ = other.removed_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+            removedBuilder_ = 
+              com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                 internalGetRemovedFieldBuilder() : null;
+          } else {
+            removedBuilder_.addAllMessages(other.removed_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              sr.grpc.gen.event.FederationInterest m =
+                  input.readMessage(
+                      sr.grpc.gen.event.FederationInterest.parser(),
+                      extensionRegistry);
+              if (addedBuilder_ == null) {
+                ensureAddedIsMutable();
+                added_.add(m);
+              } else {
+                addedBuilder_.addMessage(m);
+              }
+              break;
+            } // case 10
+            case 18: {
+              sr.grpc.gen.event.FederationInterest m =
+                  input.readMessage(
+                      sr.grpc.gen.event.FederationInterest.parser(),
+                      extensionRegistry);
+              if (removedBuilder_ == null) {
+                ensureRemovedIsMutable();
+                removed_.add(m);
+              } else {
+                removedBuilder_.addMessage(m);
+              }
+              break;
+            } // case 18
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<sr.grpc.gen.event.FederationInterest> added_ =
+      java.util.Collections.emptyList();
+    private void ensureAddedIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        added_ = new java.util.ArrayList<sr.grpc.gen.event.FederationInterest>(added_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilder<
+        sr.grpc.gen.event.FederationInterest, sr.grpc.gen.event.FederationInterest.Builder, sr.grpc.gen.event.FederationInterestOrBuilder> addedBuilder_;
+
+    /**
+     * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+     */
+    public java.util.List<sr.grpc.gen.event.FederationInterest> getAddedList() {
+      if (addedBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(added_);
+      } else {
+        return addedBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+     */
+    public int getAddedCount() {
+      if (addedBuilder_ == null) {
+        return added_.size();
+      } else {
+        return addedBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+     */
+    public sr.grpc.gen.event.FederationInterest getAdded(int index) {
+      if (addedBuilder_ == null) {
+        return added_.get(index);
+      } else {
+        return addedBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+     */
+    public Builder setAdded(
+        int index, sr.grpc.gen.event.FederationInterest value) {
+      if (addedBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureAddedIsMutable();
+        added_.set(index, value);
+        onChanged();
+      } else {
+        addedBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+     */
+    public Builder setAdded(
+        int index, sr.grpc.gen.event.FederationInterest.Builder builderForValue) {
+      if (addedBuilder_ == null) {
+        ensureAddedIsMutable();
+        added_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        addedBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+     */
+    public Builder addAdded(sr.grpc.gen.event.FederationInterest value) {
+      if (addedBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureAddedIsMutable();
+        added_.add(value);
+        onChanged();
+      } else {
+        addedBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+     */
+    public Builder addAdded(
+        int index, sr.grpc.gen.event.FederationInterest value) {
+      if (addedBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureAddedIsMutable();
+        added_.add(index, value);
+        onChanged();
+      } else {
+        addedBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+     */
+    public Builder addAdded(
+        sr.grpc.gen.event.FederationInterest.Builder builderForValue) {
+      if (addedBuilder_ == null) {
+        ensureAddedIsMutable();
+        added_.add(builderForValue.build());
+        onChanged();
+      } else {
+        addedBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+     */
+    public Builder addAdded(
+        int index, sr.grpc.gen.event.FederationInterest.Builder builderForValue) {
+      if (addedBuilder_ == null) {
+        ensureAddedIsMutable();
+        added_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        addedBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+     */
+    public Builder addAllAdded(
+        java.lang.Iterable<? extends sr.grpc.gen.event.FederationInterest> values) {
+      if (addedBuilder_ == null) {
+        ensureAddedIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, added_);
+        onChanged();
+      } else {
+        addedBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+     */
+    public Builder clearAdded() {
+      if (addedBuilder_ == null) {
+        added_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        addedBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+     */
+    public Builder removeAdded(int index) {
+      if (addedBuilder_ == null) {
+        ensureAddedIsMutable();
+        added_.remove(index);
+        onChanged();
+      } else {
+        addedBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+     */
+    public sr.grpc.gen.event.FederationInterest.Builder getAddedBuilder(
+        int index) {
+      return internalGetAddedFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+     */
+    public sr.grpc.gen.event.FederationInterestOrBuilder getAddedOrBuilder(
+        int index) {
+      if (addedBuilder_ == null) {
+        return added_.get(index);  } else {
+        return addedBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+     */
+    public java.util.List<? extends sr.grpc.gen.event.FederationInterestOrBuilder> 
+         getAddedOrBuilderList() {
+      if (addedBuilder_ != null) {
+        return addedBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(added_);
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+     */
+    public sr.grpc.gen.event.FederationInterest.Builder addAddedBuilder() {
+      return internalGetAddedFieldBuilder().addBuilder(
+          sr.grpc.gen.event.FederationInterest.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+     */
+    public sr.grpc.gen.event.FederationInterest.Builder addAddedBuilder(
+        int index) {
+      return internalGetAddedFieldBuilder().addBuilder(
+          index, sr.grpc.gen.event.FederationInterest.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+     */
+    public java.util.List<sr.grpc.gen.event.FederationInterest.Builder> 
+         getAddedBuilderList() {
+      return internalGetAddedFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilder<
+        sr.grpc.gen.event.FederationInterest, sr.grpc.gen.event.FederationInterest.Builder, sr.grpc.gen.event.FederationInterestOrBuilder> 
+        internalGetAddedFieldBuilder() {
+      if (addedBuilder_ == null) {
+        addedBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+            sr.grpc.gen.event.FederationInterest, sr.grpc.gen.event.FederationInterest.Builder, sr.grpc.gen.event.FederationInterestOrBuilder>(
+                added_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        added_ = null;
+      }
+      return addedBuilder_;
+    }
+
+    private java.util.List<sr.grpc.gen.event.FederationInterest> removed_ =
+      java.util.Collections.emptyList();
+    private void ensureRemovedIsMutable() {
+      if (!((bitField0_ & 0x00000002) != 0)) {
+        removed_ = new java.util.ArrayList<sr.grpc.gen.event.FederationInterest>(removed_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilder<
+        sr.grpc.gen.event.FederationInterest, sr.grpc.gen.event.FederationInterest.Builder, sr.grpc.gen.event.FederationInterestOrBuilder> removedBuilder_;
+
+    /**
+     * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+     */
+    public java.util.List<sr.grpc.gen.event.FederationInterest> getRemovedList() {
+      if (removedBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(removed_);
+      } else {
+        return removedBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+     */
+    public int getRemovedCount() {
+      if (removedBuilder_ == null) {
+        return removed_.size();
+      } else {
+        return removedBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+     */
+    public sr.grpc.gen.event.FederationInterest getRemoved(int index) {
+      if (removedBuilder_ == null) {
+        return removed_.get(index);
+      } else {
+        return removedBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+     */
+    public Builder setRemoved(
+        int index, sr.grpc.gen.event.FederationInterest value) {
+      if (removedBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRemovedIsMutable();
+        removed_.set(index, value);
+        onChanged();
+      } else {
+        removedBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+     */
+    public Builder setRemoved(
+        int index, sr.grpc.gen.event.FederationInterest.Builder builderForValue) {
+      if (removedBuilder_ == null) {
+        ensureRemovedIsMutable();
+        removed_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        removedBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+     */
+    public Builder addRemoved(sr.grpc.gen.event.FederationInterest value) {
+      if (removedBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRemovedIsMutable();
+        removed_.add(value);
+        onChanged();
+      } else {
+        removedBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+     */
+    public Builder addRemoved(
+        int index, sr.grpc.gen.event.FederationInterest value) {
+      if (removedBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureRemovedIsMutable();
+        removed_.add(index, value);
+        onChanged();
+      } else {
+        removedBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+     */
+    public Builder addRemoved(
+        sr.grpc.gen.event.FederationInterest.Builder builderForValue) {
+      if (removedBuilder_ == null) {
+        ensureRemovedIsMutable();
+        removed_.add(builderForValue.build());
+        onChanged();
+      } else {
+        removedBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+     */
+    public Builder addRemoved(
+        int index, sr.grpc.gen.event.FederationInterest.Builder builderForValue) {
+      if (removedBuilder_ == null) {
+        ensureRemovedIsMutable();
+        removed_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        removedBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+     */
+    public Builder addAllRemoved(
+        java.lang.Iterable<? extends sr.grpc.gen.event.FederationInterest> values) {
+      if (removedBuilder_ == null) {
+        ensureRemovedIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removed_);
+        onChanged();
+      } else {
+        removedBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+     */
+    public Builder clearRemoved() {
+      if (removedBuilder_ == null) {
+        removed_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+      } else {
+        removedBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+     */
+    public Builder removeRemoved(int index) {
+      if (removedBuilder_ == null) {
+        ensureRemovedIsMutable();
+        removed_.remove(index);
+        onChanged();
+      } else {
+        removedBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+     */
+    public sr.grpc.gen.event.FederationInterest.Builder getRemovedBuilder(
+        int index) {
+      return internalGetRemovedFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+     */
+    public sr.grpc.gen.event.FederationInterestOrBuilder getRemovedOrBuilder(
+        int index) {
+      if (removedBuilder_ == null) {
+        return removed_.get(index);  } else {
+        return removedBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+     */
+    public java.util.List<? extends sr.grpc.gen.event.FederationInterestOrBuilder> 
+         getRemovedOrBuilderList() {
+      if (removedBuilder_ != null) {
+        return removedBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(removed_);
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+     */
+    public sr.grpc.gen.event.FederationInterest.Builder addRemovedBuilder() {
+      return internalGetRemovedFieldBuilder().addBuilder(
+          sr.grpc.gen.event.FederationInterest.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+     */
+    public sr.grpc.gen.event.FederationInterest.Builder addRemovedBuilder(
+        int index) {
+      return internalGetRemovedFieldBuilder().addBuilder(
+          index, sr.grpc.gen.event.FederationInterest.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+     */
+    public java.util.List<sr.grpc.gen.event.FederationInterest.Builder> 
+         getRemovedBuilderList() {
+      return internalGetRemovedFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilder<
+        sr.grpc.gen.event.FederationInterest, sr.grpc.gen.event.FederationInterest.Builder, sr.grpc.gen.event.FederationInterestOrBuilder> 
+        internalGetRemovedFieldBuilder() {
+      if (removedBuilder_ == null) {
+        removedBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+            sr.grpc.gen.event.FederationInterest, sr.grpc.gen.event.FederationInterest.Builder, sr.grpc.gen.event.FederationInterestOrBuilder>(
+                removed_,
+                ((bitField0_ & 0x00000002) != 0),
+                getParentForChildren(),
+                isClean());
+        removed_ = null;
+      }
+      return removedBuilder_;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.InterestUpdate)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.InterestUpdate)
+  private static final sr.grpc.gen.event.InterestUpdate DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.InterestUpdate();
+  }
+
+  public static sr.grpc.gen.event.InterestUpdate getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<InterestUpdate>
+      PARSER = new com.google.protobuf.AbstractParser<InterestUpdate>() {
+    @java.lang.Override
+    public InterestUpdate parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<InterestUpdate> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<InterestUpdate> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.InterestUpdate getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
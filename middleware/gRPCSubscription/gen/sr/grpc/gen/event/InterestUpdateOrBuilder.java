@@ -0,0 +1,59 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface InterestUpdateOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.InterestUpdate)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+   */
+  java.util.List<sr.grpc.gen.event.FederationInterest> 
+      getAddedList();
+  /**
+   * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+   */
+  sr.grpc.gen.event.FederationInterest getAdded(int index);
+  /**
+   * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+   */
+  int getAddedCount();
+  /**
+   * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+   */
+  java.util.List<? extends sr.grpc.gen.event.FederationInterestOrBuilder> 
+      getAddedOrBuilderList();
+  /**
+   * <code>repeated .eventsubscription.FederationInterest added = 1;</code>
+   */
+  sr.grpc.gen.event.FederationInterestOrBuilder getAddedOrBuilder(
+      int index);
+
+  /**
+   * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+   */
+  java.util.List<sr.grpc.gen.event.FederationInterest> 
+      getRemovedList();
+  /**
+   * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+   */
+  sr.grpc.gen.event.FederationInterest getRemoved(int index);
+  /**
+   * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+   */
+  int getRemovedCount();
+  /**
+   * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+   */
+  java.util.List<? extends sr.grpc.gen.event.FederationInterestOrBuilder> 
+      getRemovedOrBuilderList();
+  /**
+   * <code>repeated .eventsubscription.FederationInterest removed = 2;</code>
+   */
+  sr.grpc.gen.event.FederationInterestOrBuilder getRemovedOrBuilder(
+      int index);
+}
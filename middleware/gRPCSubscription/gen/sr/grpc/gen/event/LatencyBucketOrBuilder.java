@@ -0,0 +1,23 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface LatencyBucketOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.LatencyBucket)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>double upper_bound_micros = 1;</code>
+   * @return The upperBoundMicros.
+   */
+  double getUpperBoundMicros();
+
+  /**
+   * <code>uint64 count = 2;</code>
+   * @return The count.
+   */
+  long getCount();
+}
@@ -0,0 +1,1296 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * <pre>
+ * Latency distribution since server start. Buckets grow by 1/8 of a power of two, so each percentile is
+ * reported as the upper bound of its bucket, at most 12.5% above the true value.
+ * </pre>
+ *
+ * Protobuf type {@code eventsubscription.LatencyHistogram}
+ */
+public final class LatencyHistogram extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.LatencyHistogram)
+    LatencyHistogramOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      LatencyHistogram.class.getName());
+  }
+  // Use LatencyHistogram.newBuilder() to construct.
+  private LatencyHistogram(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private LatencyHistogram() {
+    buckets_ = java.util.Collections.emptyList();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_LatencyHistogram_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_LatencyHistogram_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.LatencyHistogram.class, sr.grpc.gen.event.LatencyHistogram.Builder.class);
+  }
+
+  public static final int COUNT_FIELD_NUMBER = 1;
+  private long count_ = 0L;
+  /**
+   * <code>uint64 count = 1;</code>
+   * @return The count.
+   */
+  @java.lang.Override
+  public long getCount() {
+    return count_;
+  }
+
+  public static final int MEAN_MICROS_FIELD_NUMBER = 2;
+  private double meanMicros_ = 0D;
+  /**
+   * <code>double mean_micros = 2;</code>
+   * @return The meanMicros.
+   */
+  @java.lang.Override
+  public double getMeanMicros() {
+    return meanMicros_;
+  }
+
+  public static final int P50_MICROS_FIELD_NUMBER = 3;
+  private double p50Micros_ = 0D;
+  /**
+   * <code>double p50_micros = 3;</code>
+   * @return The p50Micros.
+   */
+  @java.lang.Override
+  public double getP50Micros() {
+    return p50Micros_;
+  }
+
+  public static final int P90_MICROS_FIELD_NUMBER = 4;
+  private double p90Micros_ = 0D;
+  /**
+   * <code>double p90_micros = 4;</code>
+   * @return The p90Micros.
+   */
+  @java.lang.Override
+  public double getP90Micros() {
+    return p90Micros_;
+  }
+
+  public static final int P99_MICROS_FIELD_NUMBER = 5;
+  private double p99Micros_ = 0D;
+  /**
+   * <code>double p99_micros = 5;</code>
+   * @return The p99Micros.
+   */
+  @java.lang.Override
+  public double getP99Micros() {
+    return p99Micros_;
+  }
+
+  public static final int P999_MICROS_FIELD_NUMBER = 6;
+  private double p999Micros_ = 0D;
+  /**
+   * <code>double p999_micros = 6;</code>
+   * @return The p999Micros.
+   */
+  @java.lang.Override
+  public double getP999Micros() {
+    return p999Micros_;
+  }
+
+  public static final int MAX_MICROS_FIELD_NUMBER = 7;
+  private double maxMicros_ = 0D;
+  /**
+   * <code>double max_micros = 7;</code>
+   * @return The maxMicros.
+   */
+  @java.lang.Override
+  public double getMaxMicros() {
+    return maxMicros_;
+  }
+
+  public static final int BUCKETS_FIELD_NUMBER = 8;
+  @SuppressWarnings("serial")
+  private java.util.List<sr.grpc.gen.event.LatencyBucket> buckets_;
+  /**
+   * <pre>
+   * Non-empty buckets only, in increasing order
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+   */
+  @java.lang.Override
+  public java.util.List<sr.grpc.gen.event.LatencyBucket> getBucketsList() {
+    return buckets_;
+  }
+  /**
+   * <pre>
+   * Non-empty buckets only, in increasing order
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends sr.grpc.gen.event.LatencyBucketOrBuilder> 
+      getBucketsOrBuilderList() {
+    return buckets_;
+  }
+  /**
+   * <pre>
+   * Non-empty buckets only, in increasing order
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+   */
+  @java.lang.Override
+  public int getBucketsCount() {
+    return buckets_.size();
+  }
+  /**
+   * <pre>
+   * Non-empty buckets only, in increasing order
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.LatencyBucket getBuckets(int index) {
+    return buckets_.get(index);
+  }
+  /**
+   * <pre>
+   * Non-empty buckets only, in increasing order
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.LatencyBucketOrBuilder getBucketsOrBuilder(
+      int index) {
+    return buckets_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (count_ != 0L) {
+      output.writeUInt64(1, count_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(meanMicros_) != 0) {
+      output.writeDouble(2, meanMicros_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(p50Micros_) != 0) {
+      output.writeDouble(3, p50Micros_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(p90Micros_) != 0) {
+      output.writeDouble(4, p90Micros_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(p99Micros_) != 0) {
+      output.writeDouble(5, p99Micros_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(p999Micros_) != 0) {
+      output.writeDouble(6, p999Micros_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(maxMicros_) != 0) {
+      output.writeDouble(7, maxMicros_);
+    }
+    for (int i = 0; i < buckets_.size(); i++) {
+      output.writeMessage(8, buckets_.get(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (count_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(1, count_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(meanMicros_) != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(2, meanMicros_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(p50Micros_) != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(3, p50Micros_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(p90Micros_) != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(4, p90Micros_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(p99Micros_) != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(5, p99Micros_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(p999Micros_) != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(6, p999Micros_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(maxMicros_) != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(7, maxMicros_);
+    }
+    for (int i = 0; i < buckets_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(8, buckets_.get(i));
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.LatencyHistogram)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.LatencyHistogram other = (sr.grpc.gen.event.LatencyHistogram) obj;
+
+    if (getCount()
+        != other.getCount()) return false;
+    if (java.lang.Double.doubleToLongBits(getMeanMicros())
+        != java.lang.Double.doubleToLongBits(
+            other.getMeanMicros())) return false;
+    if (java.lang.Double.doubleToLongBits(getP50Micros())
+        != java.lang.Double.doubleToLongBits(
+            other.getP50Micros())) return false;
+    if (java.lang.Double.doubleToLongBits(getP90Micros())
+        != java.lang.Double.doubleToLongBits(
+            other.getP90Micros())) return false;
+    if (java.lang.Double.doubleToLongBits(getP99Micros())
+        != java.lang.Double.doubleToLongBits(
+            other.getP99Micros())) return false;
+    if (java.lang.Double.doubleToLongBits(getP999Micros())
+        != java.lang.Double.doubleToLongBits(
+            other.getP999Micros())) return false;
+    if (java.lang.Double.doubleToLongBits(getMaxMicros())
+        != java.lang.Double.doubleToLongBits(
+            other.getMaxMicros())) return false;
+    if (!getBucketsList()
+        .equals(other.getBucketsList())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + COUNT_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getCount());
+    hash = (37 * hash) + MEAN_MICROS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        java.lang.Double.doubleToLongBits(getMeanMicros()));
+    hash = (37 * hash) + P50_MICROS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        java.lang.Double.doubleToLongBits(getP50Micros()));
+    hash = (37 * hash) + P90_MICROS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        java.lang.Double.doubleToLongBits(getP90Micros()));
+    hash = (37 * hash) + P99_MICROS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        java.lang.Double.doubleToLongBits(getP99Micros()));
+    hash = (37 * hash) + P999_MICROS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        java.lang.Double.doubleToLongBits(getP999Micros()));
+    hash = (37 * hash) + MAX_MICROS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        java.lang.Double.doubleToLongBits(getMaxMicros()));
+    if (getBucketsCount() > 0) {
+      hash = (37 * hash) + BUCKETS_FIELD_NUMBER;
+      hash = (53 * hash) + getBucketsList().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.LatencyHistogram parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.LatencyHistogram parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.LatencyHistogram parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.LatencyHistogram parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.LatencyHistogram parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.LatencyHistogram parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.LatencyHistogram parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.LatencyHistogram parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.LatencyHistogram parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.LatencyHistogram parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.LatencyHistogram parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.LatencyHistogram parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.LatencyHistogram prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Latency distribution since server start. Buckets grow by 1/8 of a power of two, so each percentile is
+   * reported as the upper bound of its bucket, at most 12.5% above the true value.
+   * </pre>
+   *
+   * Protobuf type {@code eventsubscription.LatencyHistogram}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.LatencyHistogram)
+      sr.grpc.gen.event.LatencyHistogramOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_LatencyHistogram_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_LatencyHistogram_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.LatencyHistogram.class, sr.grpc.gen.event.LatencyHistogram.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.LatencyHistogram.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      count_ = 0L;
+      meanMicros_ = 0D;
+      p50Micros_ = 0D;
+      p90Micros_ = 0D;
+      p99Micros_ = 0D;
+      p999Micros_ = 0D;
+      maxMicros_ = 0D;
+      if (bucketsBuilder_ == null) {
+        buckets_ = java.util.Collections.emptyList();
+      } else {
+        buckets_ = null;
+        bucketsBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000080);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_LatencyHistogram_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.LatencyHistogram getDefaultInstanceForType() {
+      return sr.grpc.gen.event.LatencyHistogram.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.LatencyHistogram build() {
+      sr.grpc.gen.event.LatencyHistogram result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.LatencyHistogram buildPartial() {
+      sr.grpc.gen.event.LatencyHistogram result = new sr.grpc.gen.event.LatencyHistogram(this);
+      buildPartialRepeatedFields(result);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartialRepeatedFields(sr.grpc.gen.event.LatencyHistogram result) {
+      if (bucketsBuilder_ == null) {
+        if (((bitField0_ & 0x00000080) != 0)) {
+          buckets_ = java.util.Collections.unmodifiableList(buckets_);
+          bitField0_ = (bitField0_ & ~0x00000080);
+        }
+        result.buckets_ = buckets_;
+      } else {
+        result.buckets_ = bucketsBuilder_.build();
+      }
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.LatencyHistogram result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.count_ = count_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.meanMicros_ = meanMicros_;
+      }
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.p50Micros_ = p50Micros_;
+      }
+      if (((from_bitField0_ & 0x00000008) != 0)) {
+        result.p90Micros_ = p90Micros_;
+      }
+      if (((from_bitField0_ & 0x00000010) != 0)) {
+        result.p99Micros_ = p99Micros_;
+      }
+      if (((from_bitField0_ & 0x00000020) != 0)) {
+        result.p999Micros_ = p999Micros_;
+      }
+      if (((from_bitField0_ & 0x00000040) != 0)) {
+        result.maxMicros_ = maxMicros_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.LatencyHistogram) {
+        return mergeFrom((sr.grpc.gen.event.LatencyHistogram)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.LatencyHistogram other) {
+      if (other == sr.grpc.gen.event.LatencyHistogram.getDefaultInstance()) return this;
+      if (other.getCount() != 0L) {
+        setCount(other.getCount());
+      }
+      if (java.lang.Double.doubleToRawLongBits(other.getMeanMicros()) != 0) {
+        setMeanMicros(other.getMeanMicros());
+      }
+      if (java.lang.Double.doubleToRawLongBits(other.getP50Micros()) != 0) {
+        setP50Micros(other.getP50Micros());
+      }
+      if (java.lang.Double.doubleToRawLongBits(other.getP90Micros()) != 0) {
+        setP90Micros(other.getP90Micros());
+      }
+      if (java.lang.Double.doubleToRawLongBits(other.getP99Micros()) != 0) {
+        setP99Micros(other.getP99Micros());
+      }
+      if (java.lang.Double.doubleToRawLongBits(other.getP999Micros()) != 0) {
+        setP999Micros(other.getP999Micros());
+      }
+      if (java.lang.Double.doubleToRawLongBits(other.getMaxMicros()) != 0) {
+        setMaxMicros(other.getMaxMicros());
+      }
+      if (bucketsBuilder_ == null) {
+        if (!other.buckets_.isEmpty()) {
+          if (buckets_.isEmpty()) {
+            buckets_ = other.buckets_;
+            bitField0_ = (bitField0_ & ~0x00000080);
+          } else {
+            ensureBucketsIsMutable();
+            buckets_.addAll(other.buckets_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.buckets_.isEmpty()) {
+          if (bucketsBuilder_.isEmpty()) {
+            bucketsBuilder_.dispose();
+            bucketsBuilder_ = null;
+            buckets_ = other.buckets_;
+            bitField0_ = (bitField0_ & ~0x00000080);
+            bucketsBuilder_ = 
+              com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                 internalGetBucketsFieldBuilder() : null;
+          } else {
+            bucketsBuilder_.addAllMessages(other.buckets_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              count_ = input.readUInt64();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 8
+            case 17: {
+              meanMicros_ = input.readDouble();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 17
+            case 25: {
+              p50Micros_ = input.readDouble();
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 25
+            case 33: {
+              p90Micros_ = input.readDouble();
+              bitField0_ |= 0x00000008;
+              break;
+            } // case 33
+            case 41: {
+              p99Micros_ = input.readDouble();
+              bitField0_ |= 0x00000010;
+              break;
+            } // case 41
+            case 49: {
+              p999Micros_ = input.readDouble();
+              bitField0_ |= 0x00000020;
+              break;
+            } // case 49
+            case 57: {
+              maxMicros_ = input.readDouble();
+              bitField0_ |= 0x00000040;
+              break;
+            } // case 57
+            case 66: {
+              sr.grpc.gen.event.LatencyBucket m =
+                  input.readMessage(
+                      sr.grpc.gen.event.LatencyBucket.parser(),
+                      extensionRegistry);
+              if (bucketsBuilder_ == null) {
+                ensureBucketsIsMutable();
+                buckets_.add(m);
+              } else {
+                bucketsBuilder_.addMessage(m);
+              }
+              break;
+            } // case 66
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private long count_ ;
+    /**
+     * <code>uint64 count = 1;</code>
+     * @return The count.
+     */
+    @java.lang.Override
+    public long getCount() {
+      return count_;
+    }
+    /**
+     * <code>uint64 count = 1;</code>
+     * @param value The count to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCount(long value) {
+
+      count_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 count = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCount() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      count_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private double meanMicros_ ;
+    /**
+     * <code>double mean_micros = 2;</code>
+     * @return The meanMicros.
+     */
+    @java.lang.Override
+    public double getMeanMicros() {
+      return meanMicros_;
+    }
+    /**
+     * <code>double mean_micros = 2;</code>
+     * @param value The meanMicros to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMeanMicros(double value) {
+
+      meanMicros_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>double mean_micros = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMeanMicros() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      meanMicros_ = 0D;
+      onChanged();
+      return this;
+    }
+
+    private double p50Micros_ ;
+    /**
+     * <code>double p50_micros = 3;</code>
+     * @return The p50Micros.
+     */
+    @java.lang.Override
+    public double getP50Micros() {
+      return p50Micros_;
+    }
+    /**
+     * <code>double p50_micros = 3;</code>
+     * @param value The p50Micros to set.
+     * @return This builder for chaining.
+     */
+    public Builder setP50Micros(double value) {
+
+      p50Micros_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>double p50_micros = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearP50Micros() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      p50Micros_ = 0D;
+      onChanged();
+      return this;
+    }
+
+    private double p90Micros_ ;
+    /**
+     * <code>double p90_micros = 4;</code>
+     * @return The p90Micros.
+     */
+    @java.lang.Override
+    public double getP90Micros() {
+      return p90Micros_;
+    }
+    /**
+     * <code>double p90_micros = 4;</code>
+     * @param value The p90Micros to set.
+     * @return This builder for chaining.
+     */
+    public Builder setP90Micros(double value) {
+
+      p90Micros_ = value;
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>double p90_micros = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearP90Micros() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      p90Micros_ = 0D;
+      onChanged();
+      return this;
+    }
+
+    private double p99Micros_ ;
+    /**
+     * <code>double p99_micros = 5;</code>
+     * @return The p99Micros.
+     */
+    @java.lang.Override
+    public double getP99Micros() {
+      return p99Micros_;
+    }
+    /**
+     * <code>double p99_micros = 5;</code>
+     * @param value The p99Micros to set.
+     * @return This builder for chaining.
+     */
+    public Builder setP99Micros(double value) {
+
+      p99Micros_ = value;
+      bitField0_ |= 0x00000010;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>double p99_micros = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearP99Micros() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      p99Micros_ = 0D;
+      onChanged();
+      return this;
+    }
+
+    private double p999Micros_ ;
+    /**
+     * <code>double p999_micros = 6;</code>
+     * @return The p999Micros.
+     */
+    @java.lang.Override
+    public double getP999Micros() {
+      return p999Micros_;
+    }
+    /**
+     * <code>double p999_micros = 6;</code>
+     * @param value The p999Micros to set.
+     * @return This builder for chaining.
+     */
+    public Builder setP999Micros(double value) {
+
+      p999Micros_ = value;
+      bitField0_ |= 0x00000020;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>double p999_micros = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearP999Micros() {
+      bitField0_ = (bitField0_ & ~0x00000020);
+      p999Micros_ = 0D;
+      onChanged();
+      return this;
+    }
+
+    private double maxMicros_ ;
+    /**
+     * <code>double max_micros = 7;</code>
+     * @return The maxMicros.
+     */
+    @java.lang.Override
+    public double getMaxMicros() {
+      return maxMicros_;
+    }
+    /**
+     * <code>double max_micros = 7;</code>
+     * @param value The maxMicros to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMaxMicros(double value) {
+
+      maxMicros_ = value;
+      bitField0_ |= 0x00000040;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>double max_micros = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMaxMicros() {
+      bitField0_ = (bitField0_ & ~0x00000040);
+      maxMicros_ = 0D;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<sr.grpc.gen.event.LatencyBucket> buckets_ =
+      java.util.Collections.emptyList();
+    private void ensureBucketsIsMutable() {
+      if (!((bitField0_ & 0x00000080) != 0)) {
+        buckets_ = new java.util.ArrayList<sr.grpc.gen.event.LatencyBucket>(buckets_);
+        bitField0_ |= 0x00000080;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilder<
+        sr.grpc.gen.event.LatencyBucket, sr.grpc.gen.event.LatencyBucket.Builder, sr.grpc.gen.event.LatencyBucketOrBuilder> bucketsBuilder_;
+
+    /**
+     * <pre>
+     * Non-empty buckets only, in increasing order
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+     */
+    public java.util.List<sr.grpc.gen.event.LatencyBucket> getBucketsList() {
+      if (bucketsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(buckets_);
+      } else {
+        return bucketsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <pre>
+     * Non-empty buckets only, in increasing order
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+     */
+    public int getBucketsCount() {
+      if (bucketsBuilder_ == null) {
+        return buckets_.size();
+      } else {
+        return bucketsBuilder_.getCount();
+      }
+    }
+    /**
+     * <pre>
+     * Non-empty buckets only, in increasing order
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+     */
+    public sr.grpc.gen.event.LatencyBucket getBuckets(int index) {
+      if (bucketsBuilder_ == null) {
+        return buckets_.get(index);
+      } else {
+        return bucketsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <pre>
+     * Non-empty buckets only, in increasing order
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+     */
+    public Builder setBuckets(
+        int index, sr.grpc.gen.event.LatencyBucket value) {
+      if (bucketsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureBucketsIsMutable();
+        buckets_.set(index, value);
+        onChanged();
+      } else {
+        bucketsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Non-empty buckets only, in increasing order
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+     */
+    public Builder setBuckets(
+        int index, sr.grpc.gen.event.LatencyBucket.Builder builderForValue) {
+      if (bucketsBuilder_ == null) {
+        ensureBucketsIsMutable();
+        buckets_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        bucketsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Non-empty buckets only, in increasing order
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+     */
+    public Builder addBuckets(sr.grpc.gen.event.LatencyBucket value) {
+      if (bucketsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureBucketsIsMutable();
+        buckets_.add(value);
+        onChanged();
+      } else {
+        bucketsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Non-empty buckets only, in increasing order
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+     */
+    public Builder addBuckets(
+        int index, sr.grpc.gen.event.LatencyBucket value) {
+      if (bucketsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureBucketsIsMutable();
+        buckets_.add(index, value);
+        onChanged();
+      } else {
+        bucketsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Non-empty buckets only, in increasing order
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+     */
+    public Builder addBuckets(
+        sr.grpc.gen.event.LatencyBucket.Builder builderForValue) {
+      if (bucketsBuilder_ == null) {
+        ensureBucketsIsMutable();
+        buckets_.add(builderForValue.build());
+        onChanged();
+      } else {
+        bucketsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Non-empty buckets only, in increasing order
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+     */
+    public Builder addBuckets(
+        int index, sr.grpc.gen.event.LatencyBucket.Builder builderForValue) {
+      if (bucketsBuilder_ == null) {
+        ensureBucketsIsMutable();
+        buckets_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        bucketsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Non-empty buckets only, in increasing order
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+     */
+    public Builder addAllBuckets(
+        java.lang.Iterable<? extends sr.grpc.gen.event.LatencyBucket> values) {
+      if (bucketsBuilder_ == null) {
+        ensureBucketsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, buckets_);
+        onChanged();
+      } else {
+        bucketsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Non-empty buckets only, in increasing order
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+     */
+    public Builder clearBuckets() {
+      if (bucketsBuilder_ == null) {
+        buckets_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000080);
+        onChanged();
+      } else {
+        bucketsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Non-empty buckets only, in increasing order
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+     */
+    public Builder removeBuckets(int index) {
+      if (bucketsBuilder_ == null) {
+        ensureBucketsIsMutable();
+        buckets_.remove(index);
+        onChanged();
+      } else {
+        bucketsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Non-empty buckets only, in increasing order
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+     */
+    public sr.grpc.gen.event.LatencyBucket.Builder getBucketsBuilder(
+        int index) {
+      return internalGetBucketsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <pre>
+     * Non-empty buckets only, in increasing order
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+     */
+    public sr.grpc.gen.event.LatencyBucketOrBuilder getBucketsOrBuilder(
+        int index) {
+      if (bucketsBuilder_ == null) {
+        return buckets_.get(index);  } else {
+        return bucketsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <pre>
+     * Non-empty buckets only, in increasing order
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+     */
+    public java.util.List<? extends sr.grpc.gen.event.LatencyBucketOrBuilder> 
+         getBucketsOrBuilderList() {
+      if (bucketsBuilder_ != null) {
+        return bucketsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(buckets_);
+      }
+    }
+    /**
+     * <pre>
+     * Non-empty buckets only, in increasing order
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+     */
+    public sr.grpc.gen.event.LatencyBucket.Builder addBucketsBuilder() {
+      return internalGetBucketsFieldBuilder().addBuilder(
+          sr.grpc.gen.event.LatencyBucket.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * Non-empty buckets only, in increasing order
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+     */
+    public sr.grpc.gen.event.LatencyBucket.Builder addBucketsBuilder(
+        int index) {
+      return internalGetBucketsFieldBuilder().addBuilder(
+          index, sr.grpc.gen.event.LatencyBucket.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * Non-empty buckets only, in increasing order
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+     */
+    public java.util.List<sr.grpc.gen.event.LatencyBucket.Builder> 
+         getBucketsBuilderList() {
+      return internalGetBucketsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilder<
+        sr.grpc.gen.event.LatencyBucket, sr.grpc.gen.event.LatencyBucket.Builder, sr.grpc.gen.event.LatencyBucketOrBuilder> 
+        internalGetBucketsFieldBuilder() {
+      if (bucketsBuilder_ == null) {
+        bucketsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+            sr.grpc.gen.event.LatencyBucket, sr.grpc.gen.event.LatencyBucket.Builder, sr.grpc.gen.event.LatencyBucketOrBuilder>(
+                buckets_,
+                ((bitField0_ & 0x00000080) != 0),
+                getParentForChildren(),
+                isClean());
+        buckets_ = null;
+      }
+      return bucketsBuilder_;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.LatencyHistogram)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.LatencyHistogram)
+  private static final sr.grpc.gen.event.LatencyHistogram DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.LatencyHistogram();
+  }
+
+  public static sr.grpc.gen.event.LatencyHistogram getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<LatencyHistogram>
+      PARSER = new com.google.protobuf.AbstractParser<LatencyHistogram>() {
+    @java.lang.Override
+    public LatencyHistogram parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<LatencyHistogram> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<LatencyHistogram> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.LatencyHistogram getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
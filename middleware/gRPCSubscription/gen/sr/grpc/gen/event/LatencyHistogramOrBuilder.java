@@ -0,0 +1,97 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface LatencyHistogramOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.LatencyHistogram)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>uint64 count = 1;</code>
+   * @return The count.
+   */
+  long getCount();
+
+  /**
+   * <code>double mean_micros = 2;</code>
+   * @return The meanMicros.
+   */
+  double getMeanMicros();
+
+  /**
+   * <code>double p50_micros = 3;</code>
+   * @return The p50Micros.
+   */
+  double getP50Micros();
+
+  /**
+   * <code>double p90_micros = 4;</code>
+   * @return The p90Micros.
+   */
+  double getP90Micros();
+
+  /**
+   * <code>double p99_micros = 5;</code>
+   * @return The p99Micros.
+   */
+  double getP99Micros();
+
+  /**
+   * <code>double p999_micros = 6;</code>
+   * @return The p999Micros.
+   */
+  double getP999Micros();
+
+  /**
+   * <code>double max_micros = 7;</code>
+   * @return The maxMicros.
+   */
+  double getMaxMicros();
+
+  /**
+   * <pre>
+   * Non-empty buckets only, in increasing order
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+   */
+  java.util.List<sr.grpc.gen.event.LatencyBucket> 
+      getBucketsList();
+  /**
+   * <pre>
+   * Non-empty buckets only, in increasing order
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+   */
+  sr.grpc.gen.event.LatencyBucket getBuckets(int index);
+  /**
+   * <pre>
+   * Non-empty buckets only, in increasing order
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+   */
+  int getBucketsCount();
+  /**
+   * <pre>
+   * Non-empty buckets only, in increasing order
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+   */
+  java.util.List<? extends sr.grpc.gen.event.LatencyBucketOrBuilder> 
+      getBucketsOrBuilderList();
+  /**
+   * <pre>
+   * Non-empty buckets only, in increasing order
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.LatencyBucket buckets = 8;</code>
+   */
+  sr.grpc.gen.event.LatencyBucketOrBuilder getBucketsOrBuilder(
+      int index);
+}
@@ -0,0 +1,659 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * <pre>
+ * How many notifications were written within a latency objective, from publishing the event until onNext returns
+ * </pre>
+ *
+ * Protobuf type {@code eventsubscription.LatencyObjective}
+ */
+public final class LatencyObjective extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.LatencyObjective)
+    LatencyObjectiveOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      LatencyObjective.class.getName());
+  }
+  // Use LatencyObjective.newBuilder() to construct.
+  private LatencyObjective(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private LatencyObjective() {
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_LatencyObjective_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_LatencyObjective_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.LatencyObjective.class, sr.grpc.gen.event.LatencyObjective.Builder.class);
+  }
+
+  public static final int OBJECTIVE_MICROS_FIELD_NUMBER = 1;
+  private double objectiveMicros_ = 0D;
+  /**
+   * <code>double objective_micros = 1;</code>
+   * @return The objectiveMicros.
+   */
+  @java.lang.Override
+  public double getObjectiveMicros() {
+    return objectiveMicros_;
+  }
+
+  public static final int WITHIN_FIELD_NUMBER = 2;
+  private long within_ = 0L;
+  /**
+   * <code>uint64 within = 2;</code>
+   * @return The within.
+   */
+  @java.lang.Override
+  public long getWithin() {
+    return within_;
+  }
+
+  public static final int MISSED_FIELD_NUMBER = 3;
+  private long missed_ = 0L;
+  /**
+   * <code>uint64 missed = 3;</code>
+   * @return The missed.
+   */
+  @java.lang.Override
+  public long getMissed() {
+    return missed_;
+  }
+
+  public static final int WITHIN_RATIO_FIELD_NUMBER = 4;
+  private double withinRatio_ = 0D;
+  /**
+   * <pre>
+   * within / (within + missed); 1 if nothing was written yet
+   * </pre>
+   *
+   * <code>double within_ratio = 4;</code>
+   * @return The withinRatio.
+   */
+  @java.lang.Override
+  public double getWithinRatio() {
+    return withinRatio_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (java.lang.Double.doubleToRawLongBits(objectiveMicros_) != 0) {
+      output.writeDouble(1, objectiveMicros_);
+    }
+    if (within_ != 0L) {
+      output.writeUInt64(2, within_);
+    }
+    if (missed_ != 0L) {
+      output.writeUInt64(3, missed_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(withinRatio_) != 0) {
+      output.writeDouble(4, withinRatio_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (java.lang.Double.doubleToRawLongBits(objectiveMicros_) != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(1, objectiveMicros_);
+    }
+    if (within_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(2, within_);
+    }
+    if (missed_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(3, missed_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(withinRatio_) != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(4, withinRatio_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.LatencyObjective)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.LatencyObjective other = (sr.grpc.gen.event.LatencyObjective) obj;
+
+    if (java.lang.Double.doubleToLongBits(getObjectiveMicros())
+        != java.lang.Double.doubleToLongBits(
+            other.getObjectiveMicros())) return false;
+    if (getWithin()
+        != other.getWithin()) return false;
+    if (getMissed()
+        != other.getMissed()) return false;
+    if (java.lang.Double.doubleToLongBits(getWithinRatio())
+        != java.lang.Double.doubleToLongBits(
+            other.getWithinRatio())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + OBJECTIVE_MICROS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        java.lang.Double.doubleToLongBits(getObjectiveMicros()));
+    hash = (37 * hash) + WITHIN_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getWithin());
+    hash = (37 * hash) + MISSED_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getMissed());
+    hash = (37 * hash) + WITHIN_RATIO_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        java.lang.Double.doubleToLongBits(getWithinRatio()));
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.LatencyObjective parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.LatencyObjective parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.LatencyObjective parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.LatencyObjective parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.LatencyObjective parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.LatencyObjective parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.LatencyObjective parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.LatencyObjective parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.LatencyObjective parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.LatencyObjective parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.LatencyObjective parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.LatencyObjective parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.LatencyObjective prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * How many notifications were written within a latency objective, from publishing the event until onNext returns
+   * </pre>
+   *
+   * Protobuf type {@code eventsubscription.LatencyObjective}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.LatencyObjective)
+      sr.grpc.gen.event.LatencyObjectiveOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_LatencyObjective_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_LatencyObjective_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.LatencyObjective.class, sr.grpc.gen.event.LatencyObjective.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.LatencyObjective.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      objectiveMicros_ = 0D;
+      within_ = 0L;
+      missed_ = 0L;
+      withinRatio_ = 0D;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_LatencyObjective_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.LatencyObjective getDefaultInstanceForType() {
+      return sr.grpc.gen.event.LatencyObjective.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.LatencyObjective build() {
+      sr.grpc.gen.event.LatencyObjective result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.LatencyObjective buildPartial() {
+      sr.grpc.gen.event.LatencyObjective result = new sr.grpc.gen.event.LatencyObjective(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.LatencyObjective result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.objectiveMicros_ = objectiveMicros_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.within_ = within_;
+      }
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.missed_ = missed_;
+      }
+      if (((from_bitField0_ & 0x00000008) != 0)) {
+        result.withinRatio_ = withinRatio_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.LatencyObjective) {
+        return mergeFrom((sr.grpc.gen.event.LatencyObjective)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.LatencyObjective other) {
+      if (other == sr.grpc.gen.event.LatencyObjective.getDefaultInstance()) return this;
+      if (java.lang.Double.doubleToRawLongBits(other.getObjectiveMicros()) != 0) {
+        setObjectiveMicros(other.getObjectiveMicros());
+      }
+      if (other.getWithin() != 0L) {
+        setWithin(other.getWithin());
+      }
+      if (other.getMissed() != 0L) {
+        setMissed(other.getMissed());
+      }
+      if (java.lang.Double.doubleToRawLongBits(other.getWithinRatio()) != 0) {
+        setWithinRatio(other.getWithinRatio());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 9: {
+              objectiveMicros_ = input.readDouble();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 9
+            case 16: {
+              within_ = input.readUInt64();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 16
+            case 24: {
+              missed_ = input.readUInt64();
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 24
+            case 33: {
+              withinRatio_ = input.readDouble();
+              bitField0_ |= 0x00000008;
+              break;
+            } // case 33
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private double objectiveMicros_ ;
+    /**
+     * <code>double objective_micros = 1;</code>
+     * @return The objectiveMicros.
+     */
+    @java.lang.Override
+    public double getObjectiveMicros() {
+      return objectiveMicros_;
+    }
+    /**
+     * <code>double objective_micros = 1;</code>
+     * @param value The objectiveMicros to set.
+     * @return This builder for chaining.
+     */
+    public Builder setObjectiveMicros(double value) {
+
+      objectiveMicros_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>double objective_micros = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearObjectiveMicros() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      objectiveMicros_ = 0D;
+      onChanged();
+      return this;
+    }
+
+    private long within_ ;
+    /**
+     * <code>uint64 within = 2;</code>
+     * @return The within.
+     */
+    @java.lang.Override
+    public long getWithin() {
+      return within_;
+    }
+    /**
+     * <code>uint64 within = 2;</code>
+     * @param value The within to set.
+     * @return This builder for chaining.
+     */
+    public Builder setWithin(long value) {
+
+      within_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 within = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearWithin() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      within_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long missed_ ;
+    /**
+     * <code>uint64 missed = 3;</code>
+     * @return The missed.
+     */
+    @java.lang.Override
+    public long getMissed() {
+      return missed_;
+    }
+    /**
+     * <code>uint64 missed = 3;</code>
+     * @param value The missed to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMissed(long value) {
+
+      missed_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 missed = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMissed() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      missed_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private double withinRatio_ ;
+    /**
+     * <pre>
+     * within / (within + missed); 1 if nothing was written yet
+     * </pre>
+     *
+     * <code>double within_ratio = 4;</code>
+     * @return The withinRatio.
+     */
+    @java.lang.Override
+    public double getWithinRatio() {
+      return withinRatio_;
+    }
+    /**
+     * <pre>
+     * within / (within + missed); 1 if nothing was written yet
+     * </pre>
+     *
+     * <code>double within_ratio = 4;</code>
+     * @param value The withinRatio to set.
+     * @return This builder for chaining.
+     */
+    public Builder setWithinRatio(double value) {
+
+      withinRatio_ = value;
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * within / (within + missed); 1 if nothing was written yet
+     * </pre>
+     *
+     * <code>double within_ratio = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearWithinRatio() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      withinRatio_ = 0D;
+      onChanged();
+      return this;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.LatencyObjective)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.LatencyObjective)
+  private static final sr.grpc.gen.event.LatencyObjective DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.LatencyObjective();
+  }
+
+  public static sr.grpc.gen.event.LatencyObjective getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<LatencyObjective>
+      PARSER = new com.google.protobuf.AbstractParser<LatencyObjective>() {
+    @java.lang.Override
+    public LatencyObjective parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<LatencyObjective> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<LatencyObjective> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.LatencyObjective getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,39 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface LatencyObjectiveOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.LatencyObjective)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>double objective_micros = 1;</code>
+   * @return The objectiveMicros.
+   */
+  double getObjectiveMicros();
+
+  /**
+   * <code>uint64 within = 2;</code>
+   * @return The within.
+   */
+  long getWithin();
+
+  /**
+   * <code>uint64 missed = 3;</code>
+   * @return The missed.
+   */
+  long getMissed();
+
+  /**
+   * <pre>
+   * within / (within + missed); 1 if nothing was written yet
+   * </pre>
+   *
+   * <code>double within_ratio = 4;</code>
+   * @return The withinRatio.
+   */
+  double getWithinRatio();
+}
@@ -7,7 +7,7 @@ package sr.grpc.gen.event;
 
 /**
  * <pre>
- * Payload for a NEWS_FLASH event (Example)
+ * Payload for a NEWS_FLASH event
  * </pre>
  *
  * Protobuf type {@code eventsubscription.NewsFlash}
@@ -135,10 +135,6 @@ private static final long serialVersionUID = 0L;
   private com.google.protobuf.LazyStringArrayList relatedKeywords_ =
       com.google.protobuf.LazyStringArrayList.emptyList();
   /**
-   * <pre>
-   * Repeated string (matches criteria.keywords)
-   * </pre>
-   *
    * <code>repeated string related_keywords = 3;</code>
    * @return A list containing the relatedKeywords.
    */
@@ -147,10 +143,6 @@ private static final long serialVersionUID = 0L;
     return relatedKeywords_;
   }
   /**
-   * <pre>
-   * Repeated string (matches criteria.keywords)
-   * </pre>
-   *
    * <code>repeated string related_keywords = 3;</code>
    * @return The count of relatedKeywords.
    */
@@ -158,10 +150,6 @@ private static final long serialVersionUID = 0L;
     return relatedKeywords_.size();
   }
   /**
-   * <pre>
-   * Repeated string (matches criteria.keywords)
-   * </pre>
-   *
    * <code>repeated string related_keywords = 3;</code>
    * @param index The index of the element to return.
    * @return The relatedKeywords at the given index.
@@ -170,10 +158,6 @@ private static final long serialVersionUID = 0L;
     return relatedKeywords_.get(index);
   }
   /**
-   * <pre>
-   * Repeated string (matches criteria.keywords)
-   * </pre>
-   *
    * <code>repeated string related_keywords = 3;</code>
    * @param index The index of the value to return.
    * @return The bytes of the relatedKeywords at the given index.
@@ -489,7 +473,7 @@ private static final long serialVersionUID = 0L;
   }
   /**
    * <pre>
-   * Payload for a NEWS_FLASH event (Example)
+   * Payload for a NEWS_FLASH event
    * </pre>
    *
    * Protobuf type {@code eventsubscription.NewsFlash}
@@ -858,10 +842,6 @@ private static final long serialVersionUID = 0L;
       bitField0_ |= 0x00000004;
     }
     /**
-     * <pre>
-     * Repeated string (matches criteria.keywords)
-     * </pre>
-     *
      * <code>repeated string related_keywords = 3;</code>
      * @return A list containing the relatedKeywords.
      */
@@ -871,10 +851,6 @@ private static final long serialVersionUID = 0L;
       return relatedKeywords_;
     }
     /**
-     * <pre>
-     * Repeated string (matches criteria.keywords)
-     * </pre>
-     *
      * <code>repeated string related_keywords = 3;</code>
      * @return The count of relatedKeywords.
      */
@@ -882,10 +858,6 @@ private static final long serialVersionUID = 0L;
       return relatedKeywords_.size();
     }
     /**
-     * <pre>
-     * Repeated string (matches criteria.keywords)
-     * </pre>
-     *
      * <code>repeated string related_keywords = 3;</code>
      * @param index The index of the element to return.
      * @return The relatedKeywords at the given index.
@@ -894,10 +866,6 @@ private static final long serialVersionUID = 0L;
       return relatedKeywords_.get(index);
     }
     /**
-     * <pre>
-     * Repeated string (matches criteria.keywords)
-     * </pre>
-     *
      * <code>repeated string related_keywords = 3;</code>
      * @param index The index of the value to return.
      * @return The bytes of the relatedKeywords at the given index.
@@ -907,10 +875,6 @@ private static final long serialVersionUID = 0L;
       return relatedKeywords_.getByteString(index);
     }
     /**
-     * <pre>
-     * Repeated string (matches criteria.keywords)
-     * </pre>
-     *
      * <code>repeated string related_keywords = 3;</code>
      * @param index The index to set the value at.
      * @param value The relatedKeywords to set.
@@ -926,10 +890,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Repeated string (matches criteria.keywords)
-     * </pre>
-     *
      * <code>repeated string related_keywords = 3;</code>
      * @param value The relatedKeywords to add.
      * @return This builder for chaining.
@@ -944,10 +904,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Repeated string (matches criteria.keywords)
-     * </pre>
-     *
      * <code>repeated string related_keywords = 3;</code>
      * @param values The relatedKeywords to add.
      * @return This builder for chaining.
@@ -962,10 +918,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Repeated string (matches criteria.keywords)
-     * </pre>
-     *
      * <code>repeated string related_keywords = 3;</code>
      * @return This builder for chaining.
      */
@@ -977,10 +929,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Repeated string (matches criteria.keywords)
-     * </pre>
-     *
      * <code>repeated string related_keywords = 3;</code>
      * @param value The bytes of the relatedKeywords to add.
      * @return This builder for chaining.
@@ -34,39 +34,23 @@ public interface NewsFlashOrBuilder extends
       getSourceBytes();
 
   /**
-   * <pre>
-   * Repeated string (matches criteria.keywords)
-   * </pre>
-   *
    * <code>repeated string related_keywords = 3;</code>
    * @return A list containing the relatedKeywords.
    */
   java.util.List<java.lang.String>
       getRelatedKeywordsList();
   /**
-   * <pre>
-   * Repeated string (matches criteria.keywords)
-   * </pre>
-   *
    * <code>repeated string related_keywords = 3;</code>
    * @return The count of relatedKeywords.
    */
   int getRelatedKeywordsCount();
   /**
-   * <pre>
-   * Repeated string (matches criteria.keywords)
-   * </pre>
-   *
    * <code>repeated string related_keywords = 3;</code>
    * @param index The index of the element to return.
    * @return The relatedKeywords at the given index.
    */
   java.lang.String getRelatedKeywords(int index);
   /**
-   * <pre>
-   * Repeated string (matches criteria.keywords)
-   * </pre>
-   *
    * <code>repeated string related_keywords = 3;</code>
    * @param index The index of the value to return.
    * @return The bytes of the relatedKeywords at the given index.
@@ -0,0 +1,61 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface NodeRedirectOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.NodeRedirect)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * host:port of the node owning the target
+   * </pre>
+   *
+   * <code>string owner_address = 1;</code>
+   * @return The ownerAddress.
+   */
+  java.lang.String getOwnerAddress();
+  /**
+   * <pre>
+   * host:port of the node owning the target
+   * </pre>
+   *
+   * <code>string owner_address = 1;</code>
+   * @return The bytes for ownerAddress.
+   */
+  com.google.protobuf.ByteString
+      getOwnerAddressBytes();
+
+  /**
+   * <pre>
+   * The normalized target identifier
+   * </pre>
+   *
+   * <code>string target = 2;</code>
+   * @return The target.
+   */
+  java.lang.String getTarget();
+  /**
+   * <pre>
+   * The normalized target identifier
+   * </pre>
+   *
+   * <code>string target = 2;</code>
+   * @return The bytes for target.
+   */
+  com.google.protobuf.ByteString
+      getTargetBytes();
+
+  /**
+   * <pre>
+   * Version of the cluster view the owner was looked up in
+   * </pre>
+   *
+   * <code>uint64 view_version = 3;</code>
+   * @return The viewVersion.
+   */
+  long getViewVersion();
+}
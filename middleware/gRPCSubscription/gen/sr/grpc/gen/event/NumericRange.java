@@ -0,0 +1,825 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * Protobuf type {@code eventsubscription.NumericRange}
+ */
+public final class NumericRange extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.NumericRange)
+    NumericRangeOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      NumericRange.class.getName());
+  }
+  // Use NumericRange.newBuilder() to construct.
+  private NumericRange(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private NumericRange() {
+    field_ = 0;
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_NumericRange_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_NumericRange_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.NumericRange.class, sr.grpc.gen.event.NumericRange.Builder.class);
+  }
+
+  /**
+   * Protobuf enum {@code eventsubscription.NumericRange.Field}
+   */
+  public enum Field
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>FIELD_UNSPECIFIED = 0;</code>
+     */
+    FIELD_UNSPECIFIED(0),
+    /**
+     * <code>CURRENT_TEMPERATURE_CELSIUS = 1;</code>
+     */
+    CURRENT_TEMPERATURE_CELSIUS(1),
+    /**
+     * <code>HUMIDITY_PERCENT = 2;</code>
+     */
+    HUMIDITY_PERCENT(2),
+    /**
+     * <code>WIND_SPEED_KPH = 3;</code>
+     */
+    WIND_SPEED_KPH(3),
+    UNRECOGNIZED(-1),
+    ;
+
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 30,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        Field.class.getName());
+    }
+    /**
+     * <code>FIELD_UNSPECIFIED = 0;</code>
+     */
+    public static final int FIELD_UNSPECIFIED_VALUE = 0;
+    /**
+     * <code>CURRENT_TEMPERATURE_CELSIUS = 1;</code>
+     */
+    public static final int CURRENT_TEMPERATURE_CELSIUS_VALUE = 1;
+    /**
+     * <code>HUMIDITY_PERCENT = 2;</code>
+     */
+    public static final int HUMIDITY_PERCENT_VALUE = 2;
+    /**
+     * <code>WIND_SPEED_KPH = 3;</code>
+     */
+    public static final int WIND_SPEED_KPH_VALUE = 3;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static Field valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static Field forNumber(int value) {
+      switch (value) {
+        case 0: return FIELD_UNSPECIFIED;
+        case 1: return CURRENT_TEMPERATURE_CELSIUS;
+        case 2: return HUMIDITY_PERCENT;
+        case 3: return WIND_SPEED_KPH;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<Field>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        Field> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<Field>() {
+            public Field findValueByNumber(int number) {
+              return Field.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.NumericRange.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final Field[] VALUES = values();
+
+    public static Field valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private Field(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:eventsubscription.NumericRange.Field)
+  }
+
+  private int bitField0_;
+  public static final int FIELD_FIELD_NUMBER = 1;
+  private int field_ = 0;
+  /**
+   * <code>.eventsubscription.NumericRange.Field field = 1;</code>
+   * @return The enum numeric value on the wire for field.
+   */
+  @java.lang.Override public int getFieldValue() {
+    return field_;
+  }
+  /**
+   * <code>.eventsubscription.NumericRange.Field field = 1;</code>
+   * @return The field.
+   */
+  @java.lang.Override public sr.grpc.gen.event.NumericRange.Field getField() {
+    sr.grpc.gen.event.NumericRange.Field result = sr.grpc.gen.event.NumericRange.Field.forNumber(field_);
+    return result == null ? sr.grpc.gen.event.NumericRange.Field.UNRECOGNIZED : result;
+  }
+
+  public static final int MIN_FIELD_NUMBER = 2;
+  private double min_ = 0D;
+  /**
+   * <pre>
+   * Inclusive; unbounded if unset
+   * </pre>
+   *
+   * <code>optional double min = 2;</code>
+   * @return Whether the min field is set.
+   */
+  @java.lang.Override
+  public boolean hasMin() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <pre>
+   * Inclusive; unbounded if unset
+   * </pre>
+   *
+   * <code>optional double min = 2;</code>
+   * @return The min.
+   */
+  @java.lang.Override
+  public double getMin() {
+    return min_;
+  }
+
+  public static final int MAX_FIELD_NUMBER = 3;
+  private double max_ = 0D;
+  /**
+   * <pre>
+   * Inclusive; unbounded if unset
+   * </pre>
+   *
+   * <code>optional double max = 3;</code>
+   * @return Whether the max field is set.
+   */
+  @java.lang.Override
+  public boolean hasMax() {
+    return ((bitField0_ & 0x00000002) != 0);
+  }
+  /**
+   * <pre>
+   * Inclusive; unbounded if unset
+   * </pre>
+   *
+   * <code>optional double max = 3;</code>
+   * @return The max.
+   */
+  @java.lang.Override
+  public double getMax() {
+    return max_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (field_ != sr.grpc.gen.event.NumericRange.Field.FIELD_UNSPECIFIED.getNumber()) {
+      output.writeEnum(1, field_);
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      output.writeDouble(2, min_);
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      output.writeDouble(3, max_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (field_ != sr.grpc.gen.event.NumericRange.Field.FIELD_UNSPECIFIED.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(1, field_);
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(2, min_);
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(3, max_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.NumericRange)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.NumericRange other = (sr.grpc.gen.event.NumericRange) obj;
+
+    if (field_ != other.field_) return false;
+    if (hasMin() != other.hasMin()) return false;
+    if (hasMin()) {
+      if (java.lang.Double.doubleToLongBits(getMin())
+          != java.lang.Double.doubleToLongBits(
+              other.getMin())) return false;
+    }
+    if (hasMax() != other.hasMax()) return false;
+    if (hasMax()) {
+      if (java.lang.Double.doubleToLongBits(getMax())
+          != java.lang.Double.doubleToLongBits(
+              other.getMax())) return false;
+    }
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + FIELD_FIELD_NUMBER;
+    hash = (53 * hash) + field_;
+    if (hasMin()) {
+      hash = (37 * hash) + MIN_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getMin()));
+    }
+    if (hasMax()) {
+      hash = (37 * hash) + MAX_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getMax()));
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.NumericRange parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.NumericRange parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.NumericRange parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.NumericRange parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.NumericRange parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.NumericRange parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.NumericRange parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.NumericRange parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.NumericRange parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.NumericRange parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.NumericRange parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.NumericRange parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.NumericRange prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code eventsubscription.NumericRange}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.NumericRange)
+      sr.grpc.gen.event.NumericRangeOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_NumericRange_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_NumericRange_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.NumericRange.class, sr.grpc.gen.event.NumericRange.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.NumericRange.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      field_ = 0;
+      min_ = 0D;
+      max_ = 0D;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_NumericRange_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.NumericRange getDefaultInstanceForType() {
+      return sr.grpc.gen.event.NumericRange.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.NumericRange build() {
+      sr.grpc.gen.event.NumericRange result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.NumericRange buildPartial() {
+      sr.grpc.gen.event.NumericRange result = new sr.grpc.gen.event.NumericRange(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.NumericRange result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.field_ = field_;
+      }
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.min_ = min_;
+        to_bitField0_ |= 0x00000001;
+      }
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.max_ = max_;
+        to_bitField0_ |= 0x00000002;
+      }
+      result.bitField0_ |= to_bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.NumericRange) {
+        return mergeFrom((sr.grpc.gen.event.NumericRange)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.NumericRange other) {
+      if (other == sr.grpc.gen.event.NumericRange.getDefaultInstance()) return this;
+      if (other.field_ != 0) {
+        setFieldValue(other.getFieldValue());
+      }
+      if (other.hasMin()) {
+        setMin(other.getMin());
+      }
+      if (other.hasMax()) {
+        setMax(other.getMax());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              field_ = input.readEnum();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 8
+            case 17: {
+              min_ = input.readDouble();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 17
+            case 25: {
+              max_ = input.readDouble();
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 25
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private int field_ = 0;
+    /**
+     * <code>.eventsubscription.NumericRange.Field field = 1;</code>
+     * @return The enum numeric value on the wire for field.
+     */
+    @java.lang.Override public int getFieldValue() {
+      return field_;
+    }
+    /**
+     * <code>.eventsubscription.NumericRange.Field field = 1;</code>
+     * @param value The enum numeric value on the wire for field to set.
+     * @return This builder for chaining.
+     */
+    public Builder setFieldValue(int value) {
+      field_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.NumericRange.Field field = 1;</code>
+     * @return The field.
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.NumericRange.Field getField() {
+      sr.grpc.gen.event.NumericRange.Field result = sr.grpc.gen.event.NumericRange.Field.forNumber(field_);
+      return result == null ? sr.grpc.gen.event.NumericRange.Field.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.eventsubscription.NumericRange.Field field = 1;</code>
+     * @param value The field to set.
+     * @return This builder for chaining.
+     */
+    public Builder setField(sr.grpc.gen.event.NumericRange.Field value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      bitField0_ |= 0x00000001;
+      field_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.NumericRange.Field field = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearField() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      field_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private double min_ ;
+    /**
+     * <pre>
+     * Inclusive; unbounded if unset
+     * </pre>
+     *
+     * <code>optional double min = 2;</code>
+     * @return Whether the min field is set.
+     */
+    @java.lang.Override
+    public boolean hasMin() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * Inclusive; unbounded if unset
+     * </pre>
+     *
+     * <code>optional double min = 2;</code>
+     * @return The min.
+     */
+    @java.lang.Override
+    public double getMin() {
+      return min_;
+    }
+    /**
+     * <pre>
+     * Inclusive; unbounded if unset
+     * </pre>
+     *
+     * <code>optional double min = 2;</code>
+     * @param value The min to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMin(double value) {
+
+      min_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Inclusive; unbounded if unset
+     * </pre>
+     *
+     * <code>optional double min = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMin() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      min_ = 0D;
+      onChanged();
+      return this;
+    }
+
+    private double max_ ;
+    /**
+     * <pre>
+     * Inclusive; unbounded if unset
+     * </pre>
+     *
+     * <code>optional double max = 3;</code>
+     * @return Whether the max field is set.
+     */
+    @java.lang.Override
+    public boolean hasMax() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <pre>
+     * Inclusive; unbounded if unset
+     * </pre>
+     *
+     * <code>optional double max = 3;</code>
+     * @return The max.
+     */
+    @java.lang.Override
+    public double getMax() {
+      return max_;
+    }
+    /**
+     * <pre>
+     * Inclusive; unbounded if unset
+     * </pre>
+     *
+     * <code>optional double max = 3;</code>
+     * @param value The max to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMax(double value) {
+
+      max_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Inclusive; unbounded if unset
+     * </pre>
+     *
+     * <code>optional double max = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMax() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      max_ = 0D;
+      onChanged();
+      return this;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.NumericRange)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.NumericRange)
+  private static final sr.grpc.gen.event.NumericRange DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.NumericRange();
+  }
+
+  public static sr.grpc.gen.event.NumericRange getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<NumericRange>
+      PARSER = new com.google.protobuf.AbstractParser<NumericRange>() {
+    @java.lang.Override
+    public NumericRange parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<NumericRange> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<NumericRange> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.NumericRange getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
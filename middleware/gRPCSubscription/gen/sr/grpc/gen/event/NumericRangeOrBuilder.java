@@ -0,0 +1,60 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface NumericRangeOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.NumericRange)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.eventsubscription.NumericRange.Field field = 1;</code>
+   * @return The enum numeric value on the wire for field.
+   */
+  int getFieldValue();
+  /**
+   * <code>.eventsubscription.NumericRange.Field field = 1;</code>
+   * @return The field.
+   */
+  sr.grpc.gen.event.NumericRange.Field getField();
+
+  /**
+   * <pre>
+   * Inclusive; unbounded if unset
+   * </pre>
+   *
+   * <code>optional double min = 2;</code>
+   * @return Whether the min field is set.
+   */
+  boolean hasMin();
+  /**
+   * <pre>
+   * Inclusive; unbounded if unset
+   * </pre>
+   *
+   * <code>optional double min = 2;</code>
+   * @return The min.
+   */
+  double getMin();
+
+  /**
+   * <pre>
+   * Inclusive; unbounded if unset
+   * </pre>
+   *
+   * <code>optional double max = 3;</code>
+   * @return Whether the max field is set.
+   */
+  boolean hasMax();
+  /**
+   * <pre>
+   * Inclusive; unbounded if unset
+   * </pre>
+   *
+   * <code>optional double max = 3;</code>
+   * @return The max.
+   */
+  double getMax();
+}
@@ -0,0 +1,939 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * <pre>
+ * Resource usage of the server's JVM
+ * </pre>
+ *
+ * Protobuf type {@code eventsubscription.ProcessStats}
+ */
+public final class ProcessStats extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.ProcessStats)
+    ProcessStatsOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      ProcessStats.class.getName());
+  }
+  // Use ProcessStats.newBuilder() to construct.
+  private ProcessStats(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private ProcessStats() {
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ProcessStats_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ProcessStats_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.ProcessStats.class, sr.grpc.gen.event.ProcessStats.Builder.class);
+  }
+
+  public static final int CPU_TIME_NANOS_FIELD_NUMBER = 1;
+  private long cpuTimeNanos_ = 0L;
+  /**
+   * <pre>
+   * CPU time used by the process since it started; 0 if the JVM does not report it
+   * </pre>
+   *
+   * <code>uint64 cpu_time_nanos = 1;</code>
+   * @return The cpuTimeNanos.
+   */
+  @java.lang.Override
+  public long getCpuTimeNanos() {
+    return cpuTimeNanos_;
+  }
+
+  public static final int AVAILABLE_PROCESSORS_FIELD_NUMBER = 2;
+  private int availableProcessors_ = 0;
+  /**
+   * <code>uint32 available_processors = 2;</code>
+   * @return The availableProcessors.
+   */
+  @java.lang.Override
+  public int getAvailableProcessors() {
+    return availableProcessors_;
+  }
+
+  public static final int HEAP_USED_BYTES_FIELD_NUMBER = 3;
+  private long heapUsedBytes_ = 0L;
+  /**
+   * <code>uint64 heap_used_bytes = 3;</code>
+   * @return The heapUsedBytes.
+   */
+  @java.lang.Override
+  public long getHeapUsedBytes() {
+    return heapUsedBytes_;
+  }
+
+  public static final int HEAP_COMMITTED_BYTES_FIELD_NUMBER = 4;
+  private long heapCommittedBytes_ = 0L;
+  /**
+   * <code>uint64 heap_committed_bytes = 4;</code>
+   * @return The heapCommittedBytes.
+   */
+  @java.lang.Override
+  public long getHeapCommittedBytes() {
+    return heapCommittedBytes_;
+  }
+
+  public static final int HEAP_MAX_BYTES_FIELD_NUMBER = 5;
+  private long heapMaxBytes_ = 0L;
+  /**
+   * <code>uint64 heap_max_bytes = 5;</code>
+   * @return The heapMaxBytes.
+   */
+  @java.lang.Override
+  public long getHeapMaxBytes() {
+    return heapMaxBytes_;
+  }
+
+  public static final int GC_COUNT_FIELD_NUMBER = 6;
+  private long gcCount_ = 0L;
+  /**
+   * <pre>
+   * Collections since start, summed over all collectors
+   * </pre>
+   *
+   * <code>uint64 gc_count = 6;</code>
+   * @return The gcCount.
+   */
+  @java.lang.Override
+  public long getGcCount() {
+    return gcCount_;
+  }
+
+  public static final int GC_TIME_MILLIS_FIELD_NUMBER = 7;
+  private long gcTimeMillis_ = 0L;
+  /**
+   * <code>uint64 gc_time_millis = 7;</code>
+   * @return The gcTimeMillis.
+   */
+  @java.lang.Override
+  public long getGcTimeMillis() {
+    return gcTimeMillis_;
+  }
+
+  public static final int THREAD_COUNT_FIELD_NUMBER = 8;
+  private int threadCount_ = 0;
+  /**
+   * <code>uint32 thread_count = 8;</code>
+   * @return The threadCount.
+   */
+  @java.lang.Override
+  public int getThreadCount() {
+    return threadCount_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (cpuTimeNanos_ != 0L) {
+      output.writeUInt64(1, cpuTimeNanos_);
+    }
+    if (availableProcessors_ != 0) {
+      output.writeUInt32(2, availableProcessors_);
+    }
+    if (heapUsedBytes_ != 0L) {
+      output.writeUInt64(3, heapUsedBytes_);
+    }
+    if (heapCommittedBytes_ != 0L) {
+      output.writeUInt64(4, heapCommittedBytes_);
+    }
+    if (heapMaxBytes_ != 0L) {
+      output.writeUInt64(5, heapMaxBytes_);
+    }
+    if (gcCount_ != 0L) {
+      output.writeUInt64(6, gcCount_);
+    }
+    if (gcTimeMillis_ != 0L) {
+      output.writeUInt64(7, gcTimeMillis_);
+    }
+    if (threadCount_ != 0) {
+      output.writeUInt32(8, threadCount_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (cpuTimeNanos_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(1, cpuTimeNanos_);
+    }
+    if (availableProcessors_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(2, availableProcessors_);
+    }
+    if (heapUsedBytes_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(3, heapUsedBytes_);
+    }
+    if (heapCommittedBytes_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(4, heapCommittedBytes_);
+    }
+    if (heapMaxBytes_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(5, heapMaxBytes_);
+    }
+    if (gcCount_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(6, gcCount_);
+    }
+    if (gcTimeMillis_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(7, gcTimeMillis_);
+    }
+    if (threadCount_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(8, threadCount_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.ProcessStats)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.ProcessStats other = (sr.grpc.gen.event.ProcessStats) obj;
+
+    if (getCpuTimeNanos()
+        != other.getCpuTimeNanos()) return false;
+    if (getAvailableProcessors()
+        != other.getAvailableProcessors()) return false;
+    if (getHeapUsedBytes()
+        != other.getHeapUsedBytes()) return false;
+    if (getHeapCommittedBytes()
+        != other.getHeapCommittedBytes()) return false;
+    if (getHeapMaxBytes()
+        != other.getHeapMaxBytes()) return false;
+    if (getGcCount()
+        != other.getGcCount()) return false;
+    if (getGcTimeMillis()
+        != other.getGcTimeMillis()) return false;
+    if (getThreadCount()
+        != other.getThreadCount()) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + CPU_TIME_NANOS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getCpuTimeNanos());
+    hash = (37 * hash) + AVAILABLE_PROCESSORS_FIELD_NUMBER;
+    hash = (53 * hash) + getAvailableProcessors();
+    hash = (37 * hash) + HEAP_USED_BYTES_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getHeapUsedBytes());
+    hash = (37 * hash) + HEAP_COMMITTED_BYTES_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getHeapCommittedBytes());
+    hash = (37 * hash) + HEAP_MAX_BYTES_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getHeapMaxBytes());
+    hash = (37 * hash) + GC_COUNT_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getGcCount());
+    hash = (37 * hash) + GC_TIME_MILLIS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getGcTimeMillis());
+    hash = (37 * hash) + THREAD_COUNT_FIELD_NUMBER;
+    hash = (53 * hash) + getThreadCount();
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.ProcessStats parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.ProcessStats parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ProcessStats parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.ProcessStats parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ProcessStats parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.ProcessStats parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ProcessStats parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.ProcessStats parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.ProcessStats parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.ProcessStats parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ProcessStats parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.ProcessStats parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.ProcessStats prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Resource usage of the server's JVM
+   * </pre>
+   *
+   * Protobuf type {@code eventsubscription.ProcessStats}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.ProcessStats)
+      sr.grpc.gen.event.ProcessStatsOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ProcessStats_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ProcessStats_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.ProcessStats.class, sr.grpc.gen.event.ProcessStats.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.ProcessStats.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      cpuTimeNanos_ = 0L;
+      availableProcessors_ = 0;
+      heapUsedBytes_ = 0L;
+      heapCommittedBytes_ = 0L;
+      heapMaxBytes_ = 0L;
+      gcCount_ = 0L;
+      gcTimeMillis_ = 0L;
+      threadCount_ = 0;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ProcessStats_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.ProcessStats getDefaultInstanceForType() {
+      return sr.grpc.gen.event.ProcessStats.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.ProcessStats build() {
+      sr.grpc.gen.event.ProcessStats result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.ProcessStats buildPartial() {
+      sr.grpc.gen.event.ProcessStats result = new sr.grpc.gen.event.ProcessStats(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.ProcessStats result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.cpuTimeNanos_ = cpuTimeNanos_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.availableProcessors_ = availableProcessors_;
+      }
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.heapUsedBytes_ = heapUsedBytes_;
+      }
+      if (((from_bitField0_ & 0x00000008) != 0)) {
+        result.heapCommittedBytes_ = heapCommittedBytes_;
+      }
+      if (((from_bitField0_ & 0x00000010) != 0)) {
+        result.heapMaxBytes_ = heapMaxBytes_;
+      }
+      if (((from_bitField0_ & 0x00000020) != 0)) {
+        result.gcCount_ = gcCount_;
+      }
+      if (((from_bitField0_ & 0x00000040) != 0)) {
+        result.gcTimeMillis_ = gcTimeMillis_;
+      }
+      if (((from_bitField0_ & 0x00000080) != 0)) {
+        result.threadCount_ = threadCount_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.ProcessStats) {
+        return mergeFrom((sr.grpc.gen.event.ProcessStats)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.ProcessStats other) {
+      if (other == sr.grpc.gen.event.ProcessStats.getDefaultInstance()) return this;
+      if (other.getCpuTimeNanos() != 0L) {
+        setCpuTimeNanos(other.getCpuTimeNanos());
+      }
+      if (other.getAvailableProcessors() != 0) {
+        setAvailableProcessors(other.getAvailableProcessors());
+      }
+      if (other.getHeapUsedBytes() != 0L) {
+        setHeapUsedBytes(other.getHeapUsedBytes());
+      }
+      if (other.getHeapCommittedBytes() != 0L) {
+        setHeapCommittedBytes(other.getHeapCommittedBytes());
+      }
+      if (other.getHeapMaxBytes() != 0L) {
+        setHeapMaxBytes(other.getHeapMaxBytes());
+      }
+      if (other.getGcCount() != 0L) {
+        setGcCount(other.getGcCount());
+      }
+      if (other.getGcTimeMillis() != 0L) {
+        setGcTimeMillis(other.getGcTimeMillis());
+      }
+      if (other.getThreadCount() != 0) {
+        setThreadCount(other.getThreadCount());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              cpuTimeNanos_ = input.readUInt64();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 8
+            case 16: {
+              availableProcessors_ = input.readUInt32();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 16
+            case 24: {
+              heapUsedBytes_ = input.readUInt64();
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 24
+            case 32: {
+              heapCommittedBytes_ = input.readUInt64();
+              bitField0_ |= 0x00000008;
+              break;
+            } // case 32
+            case 40: {
+              heapMaxBytes_ = input.readUInt64();
+              bitField0_ |= 0x00000010;
+              break;
+            } // case 40
+            case 48: {
+              gcCount_ = input.readUInt64();
+              bitField0_ |= 0x00000020;
+              break;
+            } // case 48
+            case 56: {
+              gcTimeMillis_ = input.readUInt64();
+              bitField0_ |= 0x00000040;
+              break;
+            } // case 56
+            case 64: {
+              threadCount_ = input.readUInt32();
+              bitField0_ |= 0x00000080;
+              break;
+            } // case 64
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private long cpuTimeNanos_ ;
+    /**
+     * <pre>
+     * CPU time used by the process since it started; 0 if the JVM does not report it
+     * </pre>
+     *
+     * <code>uint64 cpu_time_nanos = 1;</code>
+     * @return The cpuTimeNanos.
+     */
+    @java.lang.Override
+    public long getCpuTimeNanos() {
+      return cpuTimeNanos_;
+    }
+    /**
+     * <pre>
+     * CPU time used by the process since it started; 0 if the JVM does not report it
+     * </pre>
+     *
+     * <code>uint64 cpu_time_nanos = 1;</code>
+     * @param value The cpuTimeNanos to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCpuTimeNanos(long value) {
+
+      cpuTimeNanos_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * CPU time used by the process since it started; 0 if the JVM does not report it
+     * </pre>
+     *
+     * <code>uint64 cpu_time_nanos = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCpuTimeNanos() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      cpuTimeNanos_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private int availableProcessors_ ;
+    /**
+     * <code>uint32 available_processors = 2;</code>
+     * @return The availableProcessors.
+     */
+    @java.lang.Override
+    public int getAvailableProcessors() {
+      return availableProcessors_;
+    }
+    /**
+     * <code>uint32 available_processors = 2;</code>
+     * @param value The availableProcessors to set.
+     * @return This builder for chaining.
+     */
+    public Builder setAvailableProcessors(int value) {
+
+      availableProcessors_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint32 available_processors = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearAvailableProcessors() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      availableProcessors_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private long heapUsedBytes_ ;
+    /**
+     * <code>uint64 heap_used_bytes = 3;</code>
+     * @return The heapUsedBytes.
+     */
+    @java.lang.Override
+    public long getHeapUsedBytes() {
+      return heapUsedBytes_;
+    }
+    /**
+     * <code>uint64 heap_used_bytes = 3;</code>
+     * @param value The heapUsedBytes to set.
+     * @return This builder for chaining.
+     */
+    public Builder setHeapUsedBytes(long value) {
+
+      heapUsedBytes_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 heap_used_bytes = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearHeapUsedBytes() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      heapUsedBytes_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long heapCommittedBytes_ ;
+    /**
+     * <code>uint64 heap_committed_bytes = 4;</code>
+     * @return The heapCommittedBytes.
+     */
+    @java.lang.Override
+    public long getHeapCommittedBytes() {
+      return heapCommittedBytes_;
+    }
+    /**
+     * <code>uint64 heap_committed_bytes = 4;</code>
+     * @param value The heapCommittedBytes to set.
+     * @return This builder for chaining.
+     */
+    public Builder setHeapCommittedBytes(long value) {
+
+      heapCommittedBytes_ = value;
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 heap_committed_bytes = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearHeapCommittedBytes() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      heapCommittedBytes_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long heapMaxBytes_ ;
+    /**
+     * <code>uint64 heap_max_bytes = 5;</code>
+     * @return The heapMaxBytes.
+     */
+    @java.lang.Override
+    public long getHeapMaxBytes() {
+      return heapMaxBytes_;
+    }
+    /**
+     * <code>uint64 heap_max_bytes = 5;</code>
+     * @param value The heapMaxBytes to set.
+     * @return This builder for chaining.
+     */
+    public Builder setHeapMaxBytes(long value) {
+
+      heapMaxBytes_ = value;
+      bitField0_ |= 0x00000010;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 heap_max_bytes = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearHeapMaxBytes() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      heapMaxBytes_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long gcCount_ ;
+    /**
+     * <pre>
+     * Collections since start, summed over all collectors
+     * </pre>
+     *
+     * <code>uint64 gc_count = 6;</code>
+     * @return The gcCount.
+     */
+    @java.lang.Override
+    public long getGcCount() {
+      return gcCount_;
+    }
+    /**
+     * <pre>
+     * Collections since start, summed over all collectors
+     * </pre>
+     *
+     * <code>uint64 gc_count = 6;</code>
+     * @param value The gcCount to set.
+     * @return This builder for chaining.
+     */
+    public Builder setGcCount(long value) {
+
+      gcCount_ = value;
+      bitField0_ |= 0x00000020;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Collections since start, summed over all collectors
+     * </pre>
+     *
+     * <code>uint64 gc_count = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearGcCount() {
+      bitField0_ = (bitField0_ & ~0x00000020);
+      gcCount_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long gcTimeMillis_ ;
+    /**
+     * <code>uint64 gc_time_millis = 7;</code>
+     * @return The gcTimeMillis.
+     */
+    @java.lang.Override
+    public long getGcTimeMillis() {
+      return gcTimeMillis_;
+    }
+    /**
+     * <code>uint64 gc_time_millis = 7;</code>
+     * @param value The gcTimeMillis to set.
+     * @return This builder for chaining.
+     */
+    public Builder setGcTimeMillis(long value) {
+
+      gcTimeMillis_ = value;
+      bitField0_ |= 0x00000040;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 gc_time_millis = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearGcTimeMillis() {
+      bitField0_ = (bitField0_ & ~0x00000040);
+      gcTimeMillis_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private int threadCount_ ;
+    /**
+     * <code>uint32 thread_count = 8;</code>
+     * @return The threadCount.
+     */
+    @java.lang.Override
+    public int getThreadCount() {
+      return threadCount_;
+    }
+    /**
+     * <code>uint32 thread_count = 8;</code>
+     * @param value The threadCount to set.
+     * @return This builder for chaining.
+     */
+    public Builder setThreadCount(int value) {
+
+      threadCount_ = value;
+      bitField0_ |= 0x00000080;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint32 thread_count = 8;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearThreadCount() {
+      bitField0_ = (bitField0_ & ~0x00000080);
+      threadCount_ = 0;
+      onChanged();
+      return this;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.ProcessStats)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.ProcessStats)
+  private static final sr.grpc.gen.event.ProcessStats DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.ProcessStats();
+  }
+
+  public static sr.grpc.gen.event.ProcessStats getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ProcessStats>
+      PARSER = new com.google.protobuf.AbstractParser<ProcessStats>() {
+    @java.lang.Override
+    public ProcessStats parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<ProcessStats> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ProcessStats> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.ProcessStats getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
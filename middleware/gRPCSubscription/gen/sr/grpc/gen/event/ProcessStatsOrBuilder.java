@@ -0,0 +1,67 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface ProcessStatsOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.ProcessStats)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * CPU time used by the process since it started; 0 if the JVM does not report it
+   * </pre>
+   *
+   * <code>uint64 cpu_time_nanos = 1;</code>
+   * @return The cpuTimeNanos.
+   */
+  long getCpuTimeNanos();
+
+  /**
+   * <code>uint32 available_processors = 2;</code>
+   * @return The availableProcessors.
+   */
+  int getAvailableProcessors();
+
+  /**
+   * <code>uint64 heap_used_bytes = 3;</code>
+   * @return The heapUsedBytes.
+   */
+  long getHeapUsedBytes();
+
+  /**
+   * <code>uint64 heap_committed_bytes = 4;</code>
+   * @return The heapCommittedBytes.
+   */
+  long getHeapCommittedBytes();
+
+  /**
+   * <code>uint64 heap_max_bytes = 5;</code>
+   * @return The heapMaxBytes.
+   */
+  long getHeapMaxBytes();
+
+  /**
+   * <pre>
+   * Collections since start, summed over all collectors
+   * </pre>
+   *
+   * <code>uint64 gc_count = 6;</code>
+   * @return The gcCount.
+   */
+  long getGcCount();
+
+  /**
+   * <code>uint64 gc_time_millis = 7;</code>
+   * @return The gcTimeMillis.
+   */
+  long getGcTimeMillis();
+
+  /**
+   * <code>uint32 thread_count = 8;</code>
+   * @return The threadCount.
+   */
+  int getThreadCount();
+}
@@ -0,0 +1,4099 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * Protobuf type {@code eventsubscription.ServerStats}
+ */
+public final class ServerStats extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.ServerStats)
+    ServerStatsOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      ServerStats.class.getName());
+  }
+  // Use ServerStats.newBuilder() to construct.
+  private ServerStats(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private ServerStats() {
+    subscriptionsPerEventType_ = java.util.Collections.emptyList();
+    subscriptionsPerTopic_ = java.util.Collections.emptyList();
+    slowestSubscribers_ = java.util.Collections.emptyList();
+    subscribers_ = java.util.Collections.emptyList();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ServerStats_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ServerStats_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.ServerStats.class, sr.grpc.gen.event.ServerStats.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int UPTIME_MILLIS_FIELD_NUMBER = 1;
+  private long uptimeMillis_ = 0L;
+  /**
+   * <code>uint64 uptime_millis = 1;</code>
+   * @return The uptimeMillis.
+   */
+  @java.lang.Override
+  public long getUptimeMillis() {
+    return uptimeMillis_;
+  }
+
+  public static final int ACTIVE_SUBSCRIPTIONS_FIELD_NUMBER = 2;
+  private int activeSubscriptions_ = 0;
+  /**
+   * <code>uint32 active_subscriptions = 2;</code>
+   * @return The activeSubscriptions.
+   */
+  @java.lang.Override
+  public int getActiveSubscriptions() {
+    return activeSubscriptions_;
+  }
+
+  public static final int SUBSCRIPTIONS_PER_EVENT_TYPE_FIELD_NUMBER = 3;
+  @SuppressWarnings("serial")
+  private java.util.List<sr.grpc.gen.event.EventTypeSubscriptions> subscriptionsPerEventType_;
+  /**
+   * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+   */
+  @java.lang.Override
+  public java.util.List<sr.grpc.gen.event.EventTypeSubscriptions> getSubscriptionsPerEventTypeList() {
+    return subscriptionsPerEventType_;
+  }
+  /**
+   * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends sr.grpc.gen.event.EventTypeSubscriptionsOrBuilder> 
+      getSubscriptionsPerEventTypeOrBuilderList() {
+    return subscriptionsPerEventType_;
+  }
+  /**
+   * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+   */
+  @java.lang.Override
+  public int getSubscriptionsPerEventTypeCount() {
+    return subscriptionsPerEventType_.size();
+  }
+  /**
+   * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.EventTypeSubscriptions getSubscriptionsPerEventType(int index) {
+    return subscriptionsPerEventType_.get(index);
+  }
+  /**
+   * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.EventTypeSubscriptionsOrBuilder getSubscriptionsPerEventTypeOrBuilder(
+      int index) {
+    return subscriptionsPerEventType_.get(index);
+  }
+
+  public static final int SUBSCRIPTIONS_PER_TOPIC_FIELD_NUMBER = 4;
+  @SuppressWarnings("serial")
+  private java.util.List<sr.grpc.gen.event.TopicSubscriptions> subscriptionsPerTopic_;
+  /**
+   * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+   */
+  @java.lang.Override
+  public java.util.List<sr.grpc.gen.event.TopicSubscriptions> getSubscriptionsPerTopicList() {
+    return subscriptionsPerTopic_;
+  }
+  /**
+   * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends sr.grpc.gen.event.TopicSubscriptionsOrBuilder> 
+      getSubscriptionsPerTopicOrBuilderList() {
+    return subscriptionsPerTopic_;
+  }
+  /**
+   * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+   */
+  @java.lang.Override
+  public int getSubscriptionsPerTopicCount() {
+    return subscriptionsPerTopic_.size();
+  }
+  /**
+   * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.TopicSubscriptions getSubscriptionsPerTopic(int index) {
+    return subscriptionsPerTopic_.get(index);
+  }
+  /**
+   * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.TopicSubscriptionsOrBuilder getSubscriptionsPerTopicOrBuilder(
+      int index) {
+    return subscriptionsPerTopic_.get(index);
+  }
+
+  public static final int EVENTS_PUBLISHED_FIELD_NUMBER = 5;
+  private sr.grpc.gen.event.EventRate eventsPublished_;
+  /**
+   * <pre>
+   * Events handed to the dispatcher by the event sources
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate events_published = 5;</code>
+   * @return Whether the eventsPublished field is set.
+   */
+  @java.lang.Override
+  public boolean hasEventsPublished() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <pre>
+   * Events handed to the dispatcher by the event sources
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate events_published = 5;</code>
+   * @return The eventsPublished.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.EventRate getEventsPublished() {
+    return eventsPublished_ == null ? sr.grpc.gen.event.EventRate.getDefaultInstance() : eventsPublished_;
+  }
+  /**
+   * <pre>
+   * Events handed to the dispatcher by the event sources
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate events_published = 5;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.EventRateOrBuilder getEventsPublishedOrBuilder() {
+    return eventsPublished_ == null ? sr.grpc.gen.event.EventRate.getDefaultInstance() : eventsPublished_;
+  }
+
+  public static final int NOTIFICATIONS_DISPATCHED_FIELD_NUMBER = 6;
+  private sr.grpc.gen.event.EventRate notificationsDispatched_;
+  /**
+   * <pre>
+   * Notifications queued for a subscriber
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate notifications_dispatched = 6;</code>
+   * @return Whether the notificationsDispatched field is set.
+   */
+  @java.lang.Override
+  public boolean hasNotificationsDispatched() {
+    return ((bitField0_ & 0x00000002) != 0);
+  }
+  /**
+   * <pre>
+   * Notifications queued for a subscriber
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate notifications_dispatched = 6;</code>
+   * @return The notificationsDispatched.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.EventRate getNotificationsDispatched() {
+    return notificationsDispatched_ == null ? sr.grpc.gen.event.EventRate.getDefaultInstance() : notificationsDispatched_;
+  }
+  /**
+   * <pre>
+   * Notifications queued for a subscriber
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate notifications_dispatched = 6;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.EventRateOrBuilder getNotificationsDispatchedOrBuilder() {
+    return notificationsDispatched_ == null ? sr.grpc.gen.event.EventRate.getDefaultInstance() : notificationsDispatched_;
+  }
+
+  public static final int NOTIFICATIONS_DROPPED_FIELD_NUMBER = 7;
+  private sr.grpc.gen.event.EventRate notificationsDropped_;
+  /**
+   * <pre>
+   * Discarded by a full outbound queue
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate notifications_dropped = 7;</code>
+   * @return Whether the notificationsDropped field is set.
+   */
+  @java.lang.Override
+  public boolean hasNotificationsDropped() {
+    return ((bitField0_ & 0x00000004) != 0);
+  }
+  /**
+   * <pre>
+   * Discarded by a full outbound queue
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate notifications_dropped = 7;</code>
+   * @return The notificationsDropped.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.EventRate getNotificationsDropped() {
+    return notificationsDropped_ == null ? sr.grpc.gen.event.EventRate.getDefaultInstance() : notificationsDropped_;
+  }
+  /**
+   * <pre>
+   * Discarded by a full outbound queue
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate notifications_dropped = 7;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.EventRateOrBuilder getNotificationsDroppedOrBuilder() {
+    return notificationsDropped_ == null ? sr.grpc.gen.event.EventRate.getDefaultInstance() : notificationsDropped_;
+  }
+
+  public static final int NOTIFICATIONS_SENT_FIELD_NUMBER = 8;
+  private sr.grpc.gen.event.EventRate notificationsSent_;
+  /**
+   * <pre>
+   * Written to a subscriber stream
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate notifications_sent = 8;</code>
+   * @return Whether the notificationsSent field is set.
+   */
+  @java.lang.Override
+  public boolean hasNotificationsSent() {
+    return ((bitField0_ & 0x00000008) != 0);
+  }
+  /**
+   * <pre>
+   * Written to a subscriber stream
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate notifications_sent = 8;</code>
+   * @return The notificationsSent.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.EventRate getNotificationsSent() {
+    return notificationsSent_ == null ? sr.grpc.gen.event.EventRate.getDefaultInstance() : notificationsSent_;
+  }
+  /**
+   * <pre>
+   * Written to a subscriber stream
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate notifications_sent = 8;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.EventRateOrBuilder getNotificationsSentOrBuilder() {
+    return notificationsSent_ == null ? sr.grpc.gen.event.EventRate.getDefaultInstance() : notificationsSent_;
+  }
+
+  public static final int DISPATCH_LATENCY_FIELD_NUMBER = 9;
+  private sr.grpc.gen.event.LatencyHistogram dispatchLatency_;
+  /**
+   * <pre>
+   * From publishing an event until it is queued for all of its subscribers
+   * </pre>
+   *
+   * <code>.eventsubscription.LatencyHistogram dispatch_latency = 9;</code>
+   * @return Whether the dispatchLatency field is set.
+   */
+  @java.lang.Override
+  public boolean hasDispatchLatency() {
+    return ((bitField0_ & 0x00000010) != 0);
+  }
+  /**
+   * <pre>
+   * From publishing an event until it is queued for all of its subscribers
+   * </pre>
+   *
+   * <code>.eventsubscription.LatencyHistogram dispatch_latency = 9;</code>
+   * @return The dispatchLatency.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.LatencyHistogram getDispatchLatency() {
+    return dispatchLatency_ == null ? sr.grpc.gen.event.LatencyHistogram.getDefaultInstance() : dispatchLatency_;
+  }
+  /**
+   * <pre>
+   * From publishing an event until it is queued for all of its subscribers
+   * </pre>
+   *
+   * <code>.eventsubscription.LatencyHistogram dispatch_latency = 9;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.LatencyHistogramOrBuilder getDispatchLatencyOrBuilder() {
+    return dispatchLatency_ == null ? sr.grpc.gen.event.LatencyHistogram.getDefaultInstance() : dispatchLatency_;
+  }
+
+  public static final int FAN_OUT_LATENCY_FIELD_NUMBER = 10;
+  private sr.grpc.gen.event.LatencyHistogram fanOutLatency_;
+  /**
+   * <pre>
+   * From publishing an event until onNext returns, per notification written
+   * </pre>
+   *
+   * <code>.eventsubscription.LatencyHistogram fan_out_latency = 10;</code>
+   * @return Whether the fanOutLatency field is set.
+   */
+  @java.lang.Override
+  public boolean hasFanOutLatency() {
+    return ((bitField0_ & 0x00000020) != 0);
+  }
+  /**
+   * <pre>
+   * From publishing an event until onNext returns, per notification written
+   * </pre>
+   *
+   * <code>.eventsubscription.LatencyHistogram fan_out_latency = 10;</code>
+   * @return The fanOutLatency.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.LatencyHistogram getFanOutLatency() {
+    return fanOutLatency_ == null ? sr.grpc.gen.event.LatencyHistogram.getDefaultInstance() : fanOutLatency_;
+  }
+  /**
+   * <pre>
+   * From publishing an event until onNext returns, per notification written
+   * </pre>
+   *
+   * <code>.eventsubscription.LatencyHistogram fan_out_latency = 10;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.LatencyHistogramOrBuilder getFanOutLatencyOrBuilder() {
+    return fanOutLatency_ == null ? sr.grpc.gen.event.LatencyHistogram.getDefaultInstance() : fanOutLatency_;
+  }
+
+  public static final int SLOWEST_SUBSCRIBERS_FIELD_NUMBER = 11;
+  @SuppressWarnings("serial")
+  private java.util.List<sr.grpc.gen.event.SubscriberStats> slowestSubscribers_;
+  /**
+   * <pre>
+   * Oldest pending notification first, then deepest queue
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+   */
+  @java.lang.Override
+  public java.util.List<sr.grpc.gen.event.SubscriberStats> getSlowestSubscribersList() {
+    return slowestSubscribers_;
+  }
+  /**
+   * <pre>
+   * Oldest pending notification first, then deepest queue
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends sr.grpc.gen.event.SubscriberStatsOrBuilder> 
+      getSlowestSubscribersOrBuilderList() {
+    return slowestSubscribers_;
+  }
+  /**
+   * <pre>
+   * Oldest pending notification first, then deepest queue
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+   */
+  @java.lang.Override
+  public int getSlowestSubscribersCount() {
+    return slowestSubscribers_.size();
+  }
+  /**
+   * <pre>
+   * Oldest pending notification first, then deepest queue
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.SubscriberStats getSlowestSubscribers(int index) {
+    return slowestSubscribers_.get(index);
+  }
+  /**
+   * <pre>
+   * Oldest pending notification first, then deepest queue
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.SubscriberStatsOrBuilder getSlowestSubscribersOrBuilder(
+      int index) {
+    return slowestSubscribers_.get(index);
+  }
+
+  public static final int SUBSCRIBERS_FIELD_NUMBER = 12;
+  @SuppressWarnings("serial")
+  private java.util.List<sr.grpc.gen.event.SubscriberStats> subscribers_;
+  /**
+   * <pre>
+   * Every active subscription, if asked for
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+   */
+  @java.lang.Override
+  public java.util.List<sr.grpc.gen.event.SubscriberStats> getSubscribersList() {
+    return subscribers_;
+  }
+  /**
+   * <pre>
+   * Every active subscription, if asked for
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends sr.grpc.gen.event.SubscriberStatsOrBuilder> 
+      getSubscribersOrBuilderList() {
+    return subscribers_;
+  }
+  /**
+   * <pre>
+   * Every active subscription, if asked for
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+   */
+  @java.lang.Override
+  public int getSubscribersCount() {
+    return subscribers_.size();
+  }
+  /**
+   * <pre>
+   * Every active subscription, if asked for
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.SubscriberStats getSubscribers(int index) {
+    return subscribers_.get(index);
+  }
+  /**
+   * <pre>
+   * Every active subscription, if asked for
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.SubscriberStatsOrBuilder getSubscribersOrBuilder(
+      int index) {
+    return subscribers_.get(index);
+  }
+
+  public static final int PROCESS_FIELD_NUMBER = 13;
+  private sr.grpc.gen.event.ProcessStats process_;
+  /**
+   * <code>.eventsubscription.ProcessStats process = 13;</code>
+   * @return Whether the process field is set.
+   */
+  @java.lang.Override
+  public boolean hasProcess() {
+    return ((bitField0_ & 0x00000040) != 0);
+  }
+  /**
+   * <code>.eventsubscription.ProcessStats process = 13;</code>
+   * @return The process.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.ProcessStats getProcess() {
+    return process_ == null ? sr.grpc.gen.event.ProcessStats.getDefaultInstance() : process_;
+  }
+  /**
+   * <code>.eventsubscription.ProcessStats process = 13;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.ProcessStatsOrBuilder getProcessOrBuilder() {
+    return process_ == null ? sr.grpc.gen.event.ProcessStats.getDefaultInstance() : process_;
+  }
+
+  public static final int HIGH_PRIORITY_FAN_OUT_LATENCY_FIELD_NUMBER = 14;
+  private sr.grpc.gen.event.LatencyHistogram highPriorityFanOutLatency_;
+  /**
+   * <pre>
+   * Part of fan_out_latency for HIGH notifications only
+   * </pre>
+   *
+   * <code>.eventsubscription.LatencyHistogram high_priority_fan_out_latency = 14;</code>
+   * @return Whether the highPriorityFanOutLatency field is set.
+   */
+  @java.lang.Override
+  public boolean hasHighPriorityFanOutLatency() {
+    return ((bitField0_ & 0x00000080) != 0);
+  }
+  /**
+   * <pre>
+   * Part of fan_out_latency for HIGH notifications only
+   * </pre>
+   *
+   * <code>.eventsubscription.LatencyHistogram high_priority_fan_out_latency = 14;</code>
+   * @return The highPriorityFanOutLatency.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.LatencyHistogram getHighPriorityFanOutLatency() {
+    return highPriorityFanOutLatency_ == null ? sr.grpc.gen.event.LatencyHistogram.getDefaultInstance() : highPriorityFanOutLatency_;
+  }
+  /**
+   * <pre>
+   * Part of fan_out_latency for HIGH notifications only
+   * </pre>
+   *
+   * <code>.eventsubscription.LatencyHistogram high_priority_fan_out_latency = 14;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.LatencyHistogramOrBuilder getHighPriorityFanOutLatencyOrBuilder() {
+    return highPriorityFanOutLatency_ == null ? sr.grpc.gen.event.LatencyHistogram.getDefaultInstance() : highPriorityFanOutLatency_;
+  }
+
+  public static final int HIGH_PRIORITY_OBJECTIVE_FIELD_NUMBER = 15;
+  private sr.grpc.gen.event.LatencyObjective highPriorityObjective_;
+  /**
+   * <code>.eventsubscription.LatencyObjective high_priority_objective = 15;</code>
+   * @return Whether the highPriorityObjective field is set.
+   */
+  @java.lang.Override
+  public boolean hasHighPriorityObjective() {
+    return ((bitField0_ & 0x00000100) != 0);
+  }
+  /**
+   * <code>.eventsubscription.LatencyObjective high_priority_objective = 15;</code>
+   * @return The highPriorityObjective.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.LatencyObjective getHighPriorityObjective() {
+    return highPriorityObjective_ == null ? sr.grpc.gen.event.LatencyObjective.getDefaultInstance() : highPriorityObjective_;
+  }
+  /**
+   * <code>.eventsubscription.LatencyObjective high_priority_objective = 15;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.LatencyObjectiveOrBuilder getHighPriorityObjectiveOrBuilder() {
+    return highPriorityObjective_ == null ? sr.grpc.gen.event.LatencyObjective.getDefaultInstance() : highPriorityObjective_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (uptimeMillis_ != 0L) {
+      output.writeUInt64(1, uptimeMillis_);
+    }
+    if (activeSubscriptions_ != 0) {
+      output.writeUInt32(2, activeSubscriptions_);
+    }
+    for (int i = 0; i < subscriptionsPerEventType_.size(); i++) {
+      output.writeMessage(3, subscriptionsPerEventType_.get(i));
+    }
+    for (int i = 0; i < subscriptionsPerTopic_.size(); i++) {
+      output.writeMessage(4, subscriptionsPerTopic_.get(i));
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      output.writeMessage(5, getEventsPublished());
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      output.writeMessage(6, getNotificationsDispatched());
+    }
+    if (((bitField0_ & 0x00000004) != 0)) {
+      output.writeMessage(7, getNotificationsDropped());
+    }
+    if (((bitField0_ & 0x00000008) != 0)) {
+      output.writeMessage(8, getNotificationsSent());
+    }
+    if (((bitField0_ & 0x00000010) != 0)) {
+      output.writeMessage(9, getDispatchLatency());
+    }
+    if (((bitField0_ & 0x00000020) != 0)) {
+      output.writeMessage(10, getFanOutLatency());
+    }
+    for (int i = 0; i < slowestSubscribers_.size(); i++) {
+      output.writeMessage(11, slowestSubscribers_.get(i));
+    }
+    for (int i = 0; i < subscribers_.size(); i++) {
+      output.writeMessage(12, subscribers_.get(i));
+    }
+    if (((bitField0_ & 0x00000040) != 0)) {
+      output.writeMessage(13, getProcess());
+    }
+    if (((bitField0_ & 0x00000080) != 0)) {
+      output.writeMessage(14, getHighPriorityFanOutLatency());
+    }
+    if (((bitField0_ & 0x00000100) != 0)) {
+      output.writeMessage(15, getHighPriorityObjective());
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (uptimeMillis_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(1, uptimeMillis_);
+    }
+    if (activeSubscriptions_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(2, activeSubscriptions_);
+    }
+    for (int i = 0; i < subscriptionsPerEventType_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, subscriptionsPerEventType_.get(i));
+    }
+    for (int i = 0; i < subscriptionsPerTopic_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(4, subscriptionsPerTopic_.get(i));
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(5, getEventsPublished());
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(6, getNotificationsDispatched());
+    }
+    if (((bitField0_ & 0x00000004) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(7, getNotificationsDropped());
+    }
+    if (((bitField0_ & 0x00000008) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(8, getNotificationsSent());
+    }
+    if (((bitField0_ & 0x00000010) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(9, getDispatchLatency());
+    }
+    if (((bitField0_ & 0x00000020) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(10, getFanOutLatency());
+    }
+    for (int i = 0; i < slowestSubscribers_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(11, slowestSubscribers_.get(i));
+    }
+    for (int i = 0; i < subscribers_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(12, subscribers_.get(i));
+    }
+    if (((bitField0_ & 0x00000040) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(13, getProcess());
+    }
+    if (((bitField0_ & 0x00000080) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(14, getHighPriorityFanOutLatency());
+    }
+    if (((bitField0_ & 0x00000100) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(15, getHighPriorityObjective());
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.ServerStats)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.ServerStats other = (sr.grpc.gen.event.ServerStats) obj;
+
+    if (getUptimeMillis()
+        != other.getUptimeMillis()) return false;
+    if (getActiveSubscriptions()
+        != other.getActiveSubscriptions()) return false;
+    if (!getSubscriptionsPerEventTypeList()
+        .equals(other.getSubscriptionsPerEventTypeList())) return false;
+    if (!getSubscriptionsPerTopicList()
+        .equals(other.getSubscriptionsPerTopicList())) return false;
+    if (hasEventsPublished() != other.hasEventsPublished()) return false;
+    if (hasEventsPublished()) {
+      if (!getEventsPublished()
+          .equals(other.getEventsPublished())) return false;
+    }
+    if (hasNotificationsDispatched() != other.hasNotificationsDispatched()) return false;
+    if (hasNotificationsDispatched()) {
+      if (!getNotificationsDispatched()
+          .equals(other.getNotificationsDispatched())) return false;
+    }
+    if (hasNotificationsDropped() != other.hasNotificationsDropped()) return false;
+    if (hasNotificationsDropped()) {
+      if (!getNotificationsDropped()
+          .equals(other.getNotificationsDropped())) return false;
+    }
+    if (hasNotificationsSent() != other.hasNotificationsSent()) return false;
+    if (hasNotificationsSent()) {
+      if (!getNotificationsSent()
+          .equals(other.getNotificationsSent())) return false;
+    }
+    if (hasDispatchLatency() != other.hasDispatchLatency()) return false;
+    if (hasDispatchLatency()) {
+      if (!getDispatchLatency()
+          .equals(other.getDispatchLatency())) return false;
+    }
+    if (hasFanOutLatency() != other.hasFanOutLatency()) return false;
+    if (hasFanOutLatency()) {
+      if (!getFanOutLatency()
+          .equals(other.getFanOutLatency())) return false;
+    }
+    if (!getSlowestSubscribersList()
+        .equals(other.getSlowestSubscribersList())) return false;
+    if (!getSubscribersList()
+        .equals(other.getSubscribersList())) return false;
+    if (hasProcess() != other.hasProcess()) return false;
+    if (hasProcess()) {
+      if (!getProcess()
+          .equals(other.getProcess())) return false;
+    }
+    if (hasHighPriorityFanOutLatency() != other.hasHighPriorityFanOutLatency()) return false;
+    if (hasHighPriorityFanOutLatency()) {
+      if (!getHighPriorityFanOutLatency()
+          .equals(other.getHighPriorityFanOutLatency())) return false;
+    }
+    if (hasHighPriorityObjective() != other.hasHighPriorityObjective()) return false;
+    if (hasHighPriorityObjective()) {
+      if (!getHighPriorityObjective()
+          .equals(other.getHighPriorityObjective())) return false;
+    }
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + UPTIME_MILLIS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getUptimeMillis());
+    hash = (37 * hash) + ACTIVE_SUBSCRIPTIONS_FIELD_NUMBER;
+    hash = (53 * hash) + getActiveSubscriptions();
+    if (getSubscriptionsPerEventTypeCount() > 0) {
+      hash = (37 * hash) + SUBSCRIPTIONS_PER_EVENT_TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getSubscriptionsPerEventTypeList().hashCode();
+    }
+    if (getSubscriptionsPerTopicCount() > 0) {
+      hash = (37 * hash) + SUBSCRIPTIONS_PER_TOPIC_FIELD_NUMBER;
+      hash = (53 * hash) + getSubscriptionsPerTopicList().hashCode();
+    }
+    if (hasEventsPublished()) {
+      hash = (37 * hash) + EVENTS_PUBLISHED_FIELD_NUMBER;
+      hash = (53 * hash) + getEventsPublished().hashCode();
+    }
+    if (hasNotificationsDispatched()) {
+      hash = (37 * hash) + NOTIFICATIONS_DISPATCHED_FIELD_NUMBER;
+      hash = (53 * hash) + getNotificationsDispatched().hashCode();
+    }
+    if (hasNotificationsDropped()) {
+      hash = (37 * hash) + NOTIFICATIONS_DROPPED_FIELD_NUMBER;
+      hash = (53 * hash) + getNotificationsDropped().hashCode();
+    }
+    if (hasNotificationsSent()) {
+      hash = (37 * hash) + NOTIFICATIONS_SENT_FIELD_NUMBER;
+      hash = (53 * hash) + getNotificationsSent().hashCode();
+    }
+    if (hasDispatchLatency()) {
+      hash = (37 * hash) + DISPATCH_LATENCY_FIELD_NUMBER;
+      hash = (53 * hash) + getDispatchLatency().hashCode();
+    }
+    if (hasFanOutLatency()) {
+      hash = (37 * hash) + FAN_OUT_LATENCY_FIELD_NUMBER;
+      hash = (53 * hash) + getFanOutLatency().hashCode();
+    }
+    if (getSlowestSubscribersCount() > 0) {
+      hash = (37 * hash) + SLOWEST_SUBSCRIBERS_FIELD_NUMBER;
+      hash = (53 * hash) + getSlowestSubscribersList().hashCode();
+    }
+    if (getSubscribersCount() > 0) {
+      hash = (37 * hash) + SUBSCRIBERS_FIELD_NUMBER;
+      hash = (53 * hash) + getSubscribersList().hashCode();
+    }
+    if (hasProcess()) {
+      hash = (37 * hash) + PROCESS_FIELD_NUMBER;
+      hash = (53 * hash) + getProcess().hashCode();
+    }
+    if (hasHighPriorityFanOutLatency()) {
+      hash = (37 * hash) + HIGH_PRIORITY_FAN_OUT_LATENCY_FIELD_NUMBER;
+      hash = (53 * hash) + getHighPriorityFanOutLatency().hashCode();
+    }
+    if (hasHighPriorityObjective()) {
+      hash = (37 * hash) + HIGH_PRIORITY_OBJECTIVE_FIELD_NUMBER;
+      hash = (53 * hash) + getHighPriorityObjective().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.ServerStats parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.ServerStats parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ServerStats parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.ServerStats parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ServerStats parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.ServerStats parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ServerStats parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.ServerStats parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.ServerStats parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.ServerStats parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.ServerStats parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.ServerStats parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.ServerStats prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code eventsubscription.ServerStats}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.ServerStats)
+      sr.grpc.gen.event.ServerStatsOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ServerStats_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ServerStats_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.ServerStats.class, sr.grpc.gen.event.ServerStats.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.ServerStats.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessage
+              .alwaysUseFieldBuilders) {
+        internalGetSubscriptionsPerEventTypeFieldBuilder();
+        internalGetSubscriptionsPerTopicFieldBuilder();
+        internalGetEventsPublishedFieldBuilder();
+        internalGetNotificationsDispatchedFieldBuilder();
+        internalGetNotificationsDroppedFieldBuilder();
+        internalGetNotificationsSentFieldBuilder();
+        internalGetDispatchLatencyFieldBuilder();
+        internalGetFanOutLatencyFieldBuilder();
+        internalGetSlowestSubscribersFieldBuilder();
+        internalGetSubscribersFieldBuilder();
+        internalGetProcessFieldBuilder();
+        internalGetHighPriorityFanOutLatencyFieldBuilder();
+        internalGetHighPriorityObjectiveFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      uptimeMillis_ = 0L;
+      activeSubscriptions_ = 0;
+      if (subscriptionsPerEventTypeBuilder_ == null) {
+        subscriptionsPerEventType_ = java.util.Collections.emptyList();
+      } else {
+        subscriptionsPerEventType_ = null;
+        subscriptionsPerEventTypeBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000004);
+      if (subscriptionsPerTopicBuilder_ == null) {
+        subscriptionsPerTopic_ = java.util.Collections.emptyList();
+      } else {
+        subscriptionsPerTopic_ = null;
+        subscriptionsPerTopicBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000008);
+      eventsPublished_ = null;
+      if (eventsPublishedBuilder_ != null) {
+        eventsPublishedBuilder_.dispose();
+        eventsPublishedBuilder_ = null;
+      }
+      notificationsDispatched_ = null;
+      if (notificationsDispatchedBuilder_ != null) {
+        notificationsDispatchedBuilder_.dispose();
+        notificationsDispatchedBuilder_ = null;
+      }
+      notificationsDropped_ = null;
+      if (notificationsDroppedBuilder_ != null) {
+        notificationsDroppedBuilder_.dispose();
+        notificationsDroppedBuilder_ = null;
+      }
+      notificationsSent_ = null;
+      if (notificationsSentBuilder_ != null) {
+        notificationsSentBuilder_.dispose();
+        notificationsSentBuilder_ = null;
+      }
+      dispatchLatency_ = null;
+      if (dispatchLatencyBuilder_ != null) {
+        dispatchLatencyBuilder_.dispose();
+        dispatchLatencyBuilder_ = null;
+      }
+      fanOutLatency_ = null;
+      if (fanOutLatencyBuilder_ != null) {
+        fanOutLatencyBuilder_.dispose();
+        fanOutLatencyBuilder_ = null;
+      }
+      if (slowestSubscribersBuilder_ == null) {
+        slowestSubscribers_ = java.util.Collections.emptyList();
+      } else {
+        slowestSubscribers_ = null;
+        slowestSubscribersBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000400);
+      if (subscribersBuilder_ == null) {
+        subscribers_ = java.util.Collections.emptyList();
+      } else {
+        subscribers_ = null;
+        subscribersBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000800);
+      process_ = null;
+      if (processBuilder_ != null) {
+        processBuilder_.dispose();
+        processBuilder_ = null;
+      }
+      highPriorityFanOutLatency_ = null;
+      if (highPriorityFanOutLatencyBuilder_ != null) {
+        highPriorityFanOutLatencyBuilder_.dispose();
+        highPriorityFanOutLatencyBuilder_ = null;
+      }
+      highPriorityObjective_ = null;
+      if (highPriorityObjectiveBuilder_ != null) {
+        highPriorityObjectiveBuilder_.dispose();
+        highPriorityObjectiveBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_ServerStats_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.ServerStats getDefaultInstanceForType() {
+      return sr.grpc.gen.event.ServerStats.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.ServerStats build() {
+      sr.grpc.gen.event.ServerStats result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.ServerStats buildPartial() {
+      sr.grpc.gen.event.ServerStats result = new sr.grpc.gen.event.ServerStats(this);
+      buildPartialRepeatedFields(result);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartialRepeatedFields(sr.grpc.gen.event.ServerStats result) {
+      if (subscriptionsPerEventTypeBuilder_ == null) {
+        if (((bitField0_ & 0x00000004) != 0)) {
+          subscriptionsPerEventType_ = java.util.Collections.unmodifiableList(subscriptionsPerEventType_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.subscriptionsPerEventType_ = subscriptionsPerEventType_;
+      } else {
+        result.subscriptionsPerEventType_ = subscriptionsPerEventTypeBuilder_.build();
+      }
+      if (subscriptionsPerTopicBuilder_ == null) {
+        if (((bitField0_ & 0x00000008) != 0)) {
+          subscriptionsPerTopic_ = java.util.Collections.unmodifiableList(subscriptionsPerTopic_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.subscriptionsPerTopic_ = subscriptionsPerTopic_;
+      } else {
+        result.subscriptionsPerTopic_ = subscriptionsPerTopicBuilder_.build();
+      }
+      if (slowestSubscribersBuilder_ == null) {
+        if (((bitField0_ & 0x00000400) != 0)) {
+          slowestSubscribers_ = java.util.Collections.unmodifiableList(slowestSubscribers_);
+          bitField0_ = (bitField0_ & ~0x00000400);
+        }
+        result.slowestSubscribers_ = slowestSubscribers_;
+      } else {
+        result.slowestSubscribers_ = slowestSubscribersBuilder_.build();
+      }
+      if (subscribersBuilder_ == null) {
+        if (((bitField0_ & 0x00000800) != 0)) {
+          subscribers_ = java.util.Collections.unmodifiableList(subscribers_);
+          bitField0_ = (bitField0_ & ~0x00000800);
+        }
+        result.subscribers_ = subscribers_;
+      } else {
+        result.subscribers_ = subscribersBuilder_.build();
+      }
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.ServerStats result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.uptimeMillis_ = uptimeMillis_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.activeSubscriptions_ = activeSubscriptions_;
+      }
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000010) != 0)) {
+        result.eventsPublished_ = eventsPublishedBuilder_ == null
+            ? eventsPublished_
+            : eventsPublishedBuilder_.build();
+        to_bitField0_ |= 0x00000001;
+      }
+      if (((from_bitField0_ & 0x00000020) != 0)) {
+        result.notificationsDispatched_ = notificationsDispatchedBuilder_ == null
+            ? notificationsDispatched_
+            : notificationsDispatchedBuilder_.build();
+        to_bitField0_ |= 0x00000002;
+      }
+      if (((from_bitField0_ & 0x00000040) != 0)) {
+        result.notificationsDropped_ = notificationsDroppedBuilder_ == null
+            ? notificationsDropped_
+            : notificationsDroppedBuilder_.build();
+        to_bitField0_ |= 0x00000004;
+      }
+      if (((from_bitField0_ & 0x00000080) != 0)) {
+        result.notificationsSent_ = notificationsSentBuilder_ == null
+            ? notificationsSent_
+            : notificationsSentBuilder_.build();
+        to_bitField0_ |= 0x00000008;
+      }
+      if (((from_bitField0_ & 0x00000100) != 0)) {
+        result.dispatchLatency_ = dispatchLatencyBuilder_ == null
+            ? dispatchLatency_
+            : dispatchLatencyBuilder_.build();
+        to_bitField0_ |= 0x00000010;
+      }
+      if (((from_bitField0_ & 0x00000200) != 0)) {
+        result.fanOutLatency_ = fanOutLatencyBuilder_ == null
+            ? fanOutLatency_
+            : fanOutLatencyBuilder_.build();
+        to_bitField0_ |= 0x00000020;
+      }
+      if (((from_bitField0_ & 0x00001000) != 0)) {
+        result.process_ = processBuilder_ == null
+            ? process_
+            : processBuilder_.build();
+        to_bitField0_ |= 0x00000040;
+      }
+      if (((from_bitField0_ & 0x00002000) != 0)) {
+        result.highPriorityFanOutLatency_ = highPriorityFanOutLatencyBuilder_ == null
+            ? highPriorityFanOutLatency_
+            : highPriorityFanOutLatencyBuilder_.build();
+        to_bitField0_ |= 0x00000080;
+      }
+      if (((from_bitField0_ & 0x00004000) != 0)) {
+        result.highPriorityObjective_ = highPriorityObjectiveBuilder_ == null
+            ? highPriorityObjective_
+            : highPriorityObjectiveBuilder_.build();
+        to_bitField0_ |= 0x00000100;
+      }
+      result.bitField0_ |= to_bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.ServerStats) {
+        return mergeFrom((sr.grpc.gen.event.ServerStats)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.ServerStats other) {
+      if (other == sr.grpc.gen.event.ServerStats.getDefaultInstance()) return this;
+      if (other.getUptimeMillis() != 0L) {
+        setUptimeMillis(other.getUptimeMillis());
+      }
+      if (other.getActiveSubscriptions() != 0) {
+        setActiveSubscriptions(other.getActiveSubscriptions());
+      }
+      if (subscriptionsPerEventTypeBuilder_ == null) {
+        if (!other.subscriptionsPerEventType_.isEmpty()) {
+          if (subscriptionsPerEventType_.isEmpty()) {
+            subscriptionsPerEventType_ = other.subscriptionsPerEventType_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureSubscriptionsPerEventTypeIsMutable();
+            subscriptionsPerEventType_.addAll(other.subscriptionsPerEventType_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.subscriptionsPerEventType_.isEmpty()) {
+          if (subscriptionsPerEventTypeBuilder_.isEmpty()) {
+            subscriptionsPerEventTypeBuilder_.dispose();
+            subscriptionsPerEventTypeBuilder_ = null;
+            subscriptionsPerEventType_ = other.subscriptionsPerEventType_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+            subscriptionsPerEventTypeBuilder_ = 
+              com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                 internalGetSubscriptionsPerEventTypeFieldBuilder() : null;
+          } else {
+            subscriptionsPerEventTypeBuilder_.addAllMessages(other.subscriptionsPerEventType_);
+          }
+        }
+      }
+      if (subscriptionsPerTopicBuilder_ == null) {
+        if (!other.subscriptionsPerTopic_.isEmpty()) {
+          if (subscriptionsPerTopic_.isEmpty()) {
+            subscriptionsPerTopic_ = other.subscriptionsPerTopic_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureSubscriptionsPerTopicIsMutable();
+            subscriptionsPerTopic_.addAll(other.subscriptionsPerTopic_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.subscriptionsPerTopic_.isEmpty()) {
+          if (subscriptionsPerTopicBuilder_.isEmpty()) {
+            subscriptionsPerTopicBuilder_.dispose();
+            subscriptionsPerTopicBuilder_ = null;
+            subscriptionsPerTopic_ = other.subscriptionsPerTopic_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+            subscriptionsPerTopicBuilder_ = 
+              com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                 internalGetSubscriptionsPerTopicFieldBuilder() : null;
+          } else {
+            subscriptionsPerTopicBuilder_.addAllMessages(other.subscriptionsPerTopic_);
+          }
+        }
+      }
+      if (other.hasEventsPublished()) {
+        mergeEventsPublished(other.getEventsPublished());
+      }
+      if (other.hasNotificationsDispatched()) {
+        mergeNotificationsDispatched(other.getNotificationsDispatched());
+      }
+      if (other.hasNotificationsDropped()) {
+        mergeNotificationsDropped(other.getNotificationsDropped());
+      }
+      if (other.hasNotificationsSent()) {
+        mergeNotificationsSent(other.getNotificationsSent());
+      }
+      if (other.hasDispatchLatency()) {
+        mergeDispatchLatency(other.getDispatchLatency());
+      }
+      if (other.hasFanOutLatency()) {
+        mergeFanOutLatency(other.getFanOutLatency());
+      }
+      if (slowestSubscribersBuilder_ == null) {
+        if (!other.slowestSubscribers_.isEmpty()) {
+          if (slowestSubscribers_.isEmpty()) {
+            slowestSubscribers_ = other.slowestSubscribers_;
+            bitField0_ = (bitField0_ & ~0x00000400);
+          } else {
+            ensureSlowestSubscribersIsMutable();
+            slowestSubscribers_.addAll(other.slowestSubscribers_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.slowestSubscribers_.isEmpty()) {
+          if (slowestSubscribersBuilder_.isEmpty()) {
+            slowestSubscribersBuilder_.dispose();
+            slowestSubscribersBuilder_ = null;
+            slowestSubscribers_ = other.slowestSubscribers_;
+            bitField0_ = (bitField0_ & ~0x00000400);
+            slowestSubscribersBuilder_ = 
+              com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                 internalGetSlowestSubscribersFieldBuilder() : null;
+          } else {
+            slowestSubscribersBuilder_.addAllMessages(other.slowestSubscribers_);
+          }
+        }
+      }
+      if (subscribersBuilder_ == null) {
+        if (!other.subscribers_.isEmpty()) {
+          if (subscribers_.isEmpty()) {
+            subscribers_ = other.subscribers_;
+            bitField0_ = (bitField0_ & ~0x00000800);
+          } else {
+            ensureSubscribersIsMutable();
+            subscribers_.addAll(other.subscribers_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.subscribers_.isEmpty()) {
+          if (subscribersBuilder_.isEmpty()) {
+            subscribersBuilder_.dispose();
+            subscribersBuilder_ = null;
+            subscribers_ = other.subscribers_;
+            bitField0_ = (bitField0_ & ~0x00000800);
+            subscribersBuilder_ = 
+              com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                 internalGetSubscribersFieldBuilder() : null;
+          } else {
+            subscribersBuilder_.addAllMessages(other.subscribers_);
+          }
+        }
+      }
+      if (other.hasProcess()) {
+        mergeProcess(other.getProcess());
+      }
+      if (other.hasHighPriorityFanOutLatency()) {
+        mergeHighPriorityFanOutLatency(other.getHighPriorityFanOutLatency());
+      }
+      if (other.hasHighPriorityObjective()) {
+        mergeHighPriorityObjective(other.getHighPriorityObjective());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              uptimeMillis_ = input.readUInt64();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 8
+            case 16: {
+              activeSubscriptions_ = input.readUInt32();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 16
+            case 26: {
+              sr.grpc.gen.event.EventTypeSubscriptions m =
+                  input.readMessage(
+                      sr.grpc.gen.event.EventTypeSubscriptions.parser(),
+                      extensionRegistry);
+              if (subscriptionsPerEventTypeBuilder_ == null) {
+                ensureSubscriptionsPerEventTypeIsMutable();
+                subscriptionsPerEventType_.add(m);
+              } else {
+                subscriptionsPerEventTypeBuilder_.addMessage(m);
+              }
+              break;
+            } // case 26
+            case 34: {
+              sr.grpc.gen.event.TopicSubscriptions m =
+                  input.readMessage(
+                      sr.grpc.gen.event.TopicSubscriptions.parser(),
+                      extensionRegistry);
+              if (subscriptionsPerTopicBuilder_ == null) {
+                ensureSubscriptionsPerTopicIsMutable();
+                subscriptionsPerTopic_.add(m);
+              } else {
+                subscriptionsPerTopicBuilder_.addMessage(m);
+              }
+              break;
+            } // case 34
+            case 42: {
+              input.readMessage(
+                  internalGetEventsPublishedFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00000010;
+              break;
+            } // case 42
+            case 50: {
+              input.readMessage(
+                  internalGetNotificationsDispatchedFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00000020;
+              break;
+            } // case 50
+            case 58: {
+              input.readMessage(
+                  internalGetNotificationsDroppedFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00000040;
+              break;
+            } // case 58
+            case 66: {
+              input.readMessage(
+                  internalGetNotificationsSentFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00000080;
+              break;
+            } // case 66
+            case 74: {
+              input.readMessage(
+                  internalGetDispatchLatencyFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00000100;
+              break;
+            } // case 74
+            case 82: {
+              input.readMessage(
+                  internalGetFanOutLatencyFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00000200;
+              break;
+            } // case 82
+            case 90: {
+              sr.grpc.gen.event.SubscriberStats m =
+                  input.readMessage(
+                      sr.grpc.gen.event.SubscriberStats.parser(),
+                      extensionRegistry);
+              if (slowestSubscribersBuilder_ == null) {
+                ensureSlowestSubscribersIsMutable();
+                slowestSubscribers_.add(m);
+              } else {
+                slowestSubscribersBuilder_.addMessage(m);
+              }
+              break;
+            } // case 90
+            case 98: {
+              sr.grpc.gen.event.SubscriberStats m =
+                  input.readMessage(
+                      sr.grpc.gen.event.SubscriberStats.parser(),
+                      extensionRegistry);
+              if (subscribersBuilder_ == null) {
+                ensureSubscribersIsMutable();
+                subscribers_.add(m);
+              } else {
+                subscribersBuilder_.addMessage(m);
+              }
+              break;
+            } // case 98
+            case 106: {
+              input.readMessage(
+                  internalGetProcessFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00001000;
+              break;
+            } // case 106
+            case 114: {
+              input.readMessage(
+                  internalGetHighPriorityFanOutLatencyFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00002000;
+              break;
+            } // case 114
+            case 122: {
+              input.readMessage(
+                  internalGetHighPriorityObjectiveFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00004000;
+              break;
+            } // case 122
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private long uptimeMillis_ ;
+    /**
+     * <code>uint64 uptime_millis = 1;</code>
+     * @return The uptimeMillis.
+     */
+    @java.lang.Override
+    public long getUptimeMillis() {
+      return uptimeMillis_;
+    }
+    /**
+     * <code>uint64 uptime_millis = 1;</code>
+     * @param value The uptimeMillis to set.
+     * @return This builder for chaining.
+     */
+    public Builder setUptimeMillis(long value) {
+
+      uptimeMillis_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 uptime_millis = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearUptimeMillis() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      uptimeMillis_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private int activeSubscriptions_ ;
+    /**
+     * <code>uint32 active_subscriptions = 2;</code>
+     * @return The activeSubscriptions.
+     */
+    @java.lang.Override
+    public int getActiveSubscriptions() {
+      return activeSubscriptions_;
+    }
+    /**
+     * <code>uint32 active_subscriptions = 2;</code>
+     * @param value The activeSubscriptions to set.
+     * @return This builder for chaining.
+     */
+    public Builder setActiveSubscriptions(int value) {
+
+      activeSubscriptions_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint32 active_subscriptions = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearActiveSubscriptions() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      activeSubscriptions_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<sr.grpc.gen.event.EventTypeSubscriptions> subscriptionsPerEventType_ =
+      java.util.Collections.emptyList();
+    private void ensureSubscriptionsPerEventTypeIsMutable() {
+      if (!((bitField0_ & 0x00000004) != 0)) {
+        subscriptionsPerEventType_ = new java.util.ArrayList<sr.grpc.gen.event.EventTypeSubscriptions>(subscriptionsPerEventType_);
+        bitField0_ |= 0x00000004;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilder<
+        sr.grpc.gen.event.EventTypeSubscriptions, sr.grpc.gen.event.EventTypeSubscriptions.Builder, sr.grpc.gen.event.EventTypeSubscriptionsOrBuilder> subscriptionsPerEventTypeBuilder_;
+
+    /**
+     * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+     */
+    public java.util.List<sr.grpc.gen.event.EventTypeSubscriptions> getSubscriptionsPerEventTypeList() {
+      if (subscriptionsPerEventTypeBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(subscriptionsPerEventType_);
+      } else {
+        return subscriptionsPerEventTypeBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+     */
+    public int getSubscriptionsPerEventTypeCount() {
+      if (subscriptionsPerEventTypeBuilder_ == null) {
+        return subscriptionsPerEventType_.size();
+      } else {
+        return subscriptionsPerEventTypeBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+     */
+    public sr.grpc.gen.event.EventTypeSubscriptions getSubscriptionsPerEventType(int index) {
+      if (subscriptionsPerEventTypeBuilder_ == null) {
+        return subscriptionsPerEventType_.get(index);
+      } else {
+        return subscriptionsPerEventTypeBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+     */
+    public Builder setSubscriptionsPerEventType(
+        int index, sr.grpc.gen.event.EventTypeSubscriptions value) {
+      if (subscriptionsPerEventTypeBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSubscriptionsPerEventTypeIsMutable();
+        subscriptionsPerEventType_.set(index, value);
+        onChanged();
+      } else {
+        subscriptionsPerEventTypeBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+     */
+    public Builder setSubscriptionsPerEventType(
+        int index, sr.grpc.gen.event.EventTypeSubscriptions.Builder builderForValue) {
+      if (subscriptionsPerEventTypeBuilder_ == null) {
+        ensureSubscriptionsPerEventTypeIsMutable();
+        subscriptionsPerEventType_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        subscriptionsPerEventTypeBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+     */
+    public Builder addSubscriptionsPerEventType(sr.grpc.gen.event.EventTypeSubscriptions value) {
+      if (subscriptionsPerEventTypeBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSubscriptionsPerEventTypeIsMutable();
+        subscriptionsPerEventType_.add(value);
+        onChanged();
+      } else {
+        subscriptionsPerEventTypeBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+     */
+    public Builder addSubscriptionsPerEventType(
+        int index, sr.grpc.gen.event.EventTypeSubscriptions value) {
+      if (subscriptionsPerEventTypeBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSubscriptionsPerEventTypeIsMutable();
+        subscriptionsPerEventType_.add(index, value);
+        onChanged();
+      } else {
+        subscriptionsPerEventTypeBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+     */
+    public Builder addSubscriptionsPerEventType(
+        sr.grpc.gen.event.EventTypeSubscriptions.Builder builderForValue) {
+      if (subscriptionsPerEventTypeBuilder_ == null) {
+        ensureSubscriptionsPerEventTypeIsMutable();
+        subscriptionsPerEventType_.add(builderForValue.build());
+        onChanged();
+      } else {
+        subscriptionsPerEventTypeBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+     */
+    public Builder addSubscriptionsPerEventType(
+        int index, sr.grpc.gen.event.EventTypeSubscriptions.Builder builderForValue) {
+      if (subscriptionsPerEventTypeBuilder_ == null) {
+        ensureSubscriptionsPerEventTypeIsMutable();
+        subscriptionsPerEventType_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        subscriptionsPerEventTypeBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+     */
+    public Builder addAllSubscriptionsPerEventType(
+        java.lang.Iterable<? extends sr.grpc.gen.event.EventTypeSubscriptions> values) {
+      if (subscriptionsPerEventTypeBuilder_ == null) {
+        ensureSubscriptionsPerEventTypeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, subscriptionsPerEventType_);
+        onChanged();
+      } else {
+        subscriptionsPerEventTypeBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+     */
+    public Builder clearSubscriptionsPerEventType() {
+      if (subscriptionsPerEventTypeBuilder_ == null) {
+        subscriptionsPerEventType_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+      } else {
+        subscriptionsPerEventTypeBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+     */
+    public Builder removeSubscriptionsPerEventType(int index) {
+      if (subscriptionsPerEventTypeBuilder_ == null) {
+        ensureSubscriptionsPerEventTypeIsMutable();
+        subscriptionsPerEventType_.remove(index);
+        onChanged();
+      } else {
+        subscriptionsPerEventTypeBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+     */
+    public sr.grpc.gen.event.EventTypeSubscriptions.Builder getSubscriptionsPerEventTypeBuilder(
+        int index) {
+      return internalGetSubscriptionsPerEventTypeFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+     */
+    public sr.grpc.gen.event.EventTypeSubscriptionsOrBuilder getSubscriptionsPerEventTypeOrBuilder(
+        int index) {
+      if (subscriptionsPerEventTypeBuilder_ == null) {
+        return subscriptionsPerEventType_.get(index);  } else {
+        return subscriptionsPerEventTypeBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+     */
+    public java.util.List<? extends sr.grpc.gen.event.EventTypeSubscriptionsOrBuilder> 
+         getSubscriptionsPerEventTypeOrBuilderList() {
+      if (subscriptionsPerEventTypeBuilder_ != null) {
+        return subscriptionsPerEventTypeBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(subscriptionsPerEventType_);
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+     */
+    public sr.grpc.gen.event.EventTypeSubscriptions.Builder addSubscriptionsPerEventTypeBuilder() {
+      return internalGetSubscriptionsPerEventTypeFieldBuilder().addBuilder(
+          sr.grpc.gen.event.EventTypeSubscriptions.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+     */
+    public sr.grpc.gen.event.EventTypeSubscriptions.Builder addSubscriptionsPerEventTypeBuilder(
+        int index) {
+      return internalGetSubscriptionsPerEventTypeFieldBuilder().addBuilder(
+          index, sr.grpc.gen.event.EventTypeSubscriptions.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+     */
+    public java.util.List<sr.grpc.gen.event.EventTypeSubscriptions.Builder> 
+         getSubscriptionsPerEventTypeBuilderList() {
+      return internalGetSubscriptionsPerEventTypeFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilder<
+        sr.grpc.gen.event.EventTypeSubscriptions, sr.grpc.gen.event.EventTypeSubscriptions.Builder, sr.grpc.gen.event.EventTypeSubscriptionsOrBuilder> 
+        internalGetSubscriptionsPerEventTypeFieldBuilder() {
+      if (subscriptionsPerEventTypeBuilder_ == null) {
+        subscriptionsPerEventTypeBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+            sr.grpc.gen.event.EventTypeSubscriptions, sr.grpc.gen.event.EventTypeSubscriptions.Builder, sr.grpc.gen.event.EventTypeSubscriptionsOrBuilder>(
+                subscriptionsPerEventType_,
+                ((bitField0_ & 0x00000004) != 0),
+                getParentForChildren(),
+                isClean());
+        subscriptionsPerEventType_ = null;
+      }
+      return subscriptionsPerEventTypeBuilder_;
+    }
+
+    private java.util.List<sr.grpc.gen.event.TopicSubscriptions> subscriptionsPerTopic_ =
+      java.util.Collections.emptyList();
+    private void ensureSubscriptionsPerTopicIsMutable() {
+      if (!((bitField0_ & 0x00000008) != 0)) {
+        subscriptionsPerTopic_ = new java.util.ArrayList<sr.grpc.gen.event.TopicSubscriptions>(subscriptionsPerTopic_);
+        bitField0_ |= 0x00000008;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilder<
+        sr.grpc.gen.event.TopicSubscriptions, sr.grpc.gen.event.TopicSubscriptions.Builder, sr.grpc.gen.event.TopicSubscriptionsOrBuilder> subscriptionsPerTopicBuilder_;
+
+    /**
+     * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+     */
+    public java.util.List<sr.grpc.gen.event.TopicSubscriptions> getSubscriptionsPerTopicList() {
+      if (subscriptionsPerTopicBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(subscriptionsPerTopic_);
+      } else {
+        return subscriptionsPerTopicBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+     */
+    public int getSubscriptionsPerTopicCount() {
+      if (subscriptionsPerTopicBuilder_ == null) {
+        return subscriptionsPerTopic_.size();
+      } else {
+        return subscriptionsPerTopicBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+     */
+    public sr.grpc.gen.event.TopicSubscriptions getSubscriptionsPerTopic(int index) {
+      if (subscriptionsPerTopicBuilder_ == null) {
+        return subscriptionsPerTopic_.get(index);
+      } else {
+        return subscriptionsPerTopicBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+     */
+    public Builder setSubscriptionsPerTopic(
+        int index, sr.grpc.gen.event.TopicSubscriptions value) {
+      if (subscriptionsPerTopicBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSubscriptionsPerTopicIsMutable();
+        subscriptionsPerTopic_.set(index, value);
+        onChanged();
+      } else {
+        subscriptionsPerTopicBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+     */
+    public Builder setSubscriptionsPerTopic(
+        int index, sr.grpc.gen.event.TopicSubscriptions.Builder builderForValue) {
+      if (subscriptionsPerTopicBuilder_ == null) {
+        ensureSubscriptionsPerTopicIsMutable();
+        subscriptionsPerTopic_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        subscriptionsPerTopicBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+     */
+    public Builder addSubscriptionsPerTopic(sr.grpc.gen.event.TopicSubscriptions value) {
+      if (subscriptionsPerTopicBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSubscriptionsPerTopicIsMutable();
+        subscriptionsPerTopic_.add(value);
+        onChanged();
+      } else {
+        subscriptionsPerTopicBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+     */
+    public Builder addSubscriptionsPerTopic(
+        int index, sr.grpc.gen.event.TopicSubscriptions value) {
+      if (subscriptionsPerTopicBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSubscriptionsPerTopicIsMutable();
+        subscriptionsPerTopic_.add(index, value);
+        onChanged();
+      } else {
+        subscriptionsPerTopicBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+     */
+    public Builder addSubscriptionsPerTopic(
+        sr.grpc.gen.event.TopicSubscriptions.Builder builderForValue) {
+      if (subscriptionsPerTopicBuilder_ == null) {
+        ensureSubscriptionsPerTopicIsMutable();
+        subscriptionsPerTopic_.add(builderForValue.build());
+        onChanged();
+      } else {
+        subscriptionsPerTopicBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+     */
+    public Builder addSubscriptionsPerTopic(
+        int index, sr.grpc.gen.event.TopicSubscriptions.Builder builderForValue) {
+      if (subscriptionsPerTopicBuilder_ == null) {
+        ensureSubscriptionsPerTopicIsMutable();
+        subscriptionsPerTopic_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        subscriptionsPerTopicBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+     */
+    public Builder addAllSubscriptionsPerTopic(
+        java.lang.Iterable<? extends sr.grpc.gen.event.TopicSubscriptions> values) {
+      if (subscriptionsPerTopicBuilder_ == null) {
+        ensureSubscriptionsPerTopicIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, subscriptionsPerTopic_);
+        onChanged();
+      } else {
+        subscriptionsPerTopicBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+     */
+    public Builder clearSubscriptionsPerTopic() {
+      if (subscriptionsPerTopicBuilder_ == null) {
+        subscriptionsPerTopic_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+      } else {
+        subscriptionsPerTopicBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+     */
+    public Builder removeSubscriptionsPerTopic(int index) {
+      if (subscriptionsPerTopicBuilder_ == null) {
+        ensureSubscriptionsPerTopicIsMutable();
+        subscriptionsPerTopic_.remove(index);
+        onChanged();
+      } else {
+        subscriptionsPerTopicBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+     */
+    public sr.grpc.gen.event.TopicSubscriptions.Builder getSubscriptionsPerTopicBuilder(
+        int index) {
+      return internalGetSubscriptionsPerTopicFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+     */
+    public sr.grpc.gen.event.TopicSubscriptionsOrBuilder getSubscriptionsPerTopicOrBuilder(
+        int index) {
+      if (subscriptionsPerTopicBuilder_ == null) {
+        return subscriptionsPerTopic_.get(index);  } else {
+        return subscriptionsPerTopicBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+     */
+    public java.util.List<? extends sr.grpc.gen.event.TopicSubscriptionsOrBuilder> 
+         getSubscriptionsPerTopicOrBuilderList() {
+      if (subscriptionsPerTopicBuilder_ != null) {
+        return subscriptionsPerTopicBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(subscriptionsPerTopic_);
+      }
+    }
+    /**
+     * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+     */
+    public sr.grpc.gen.event.TopicSubscriptions.Builder addSubscriptionsPerTopicBuilder() {
+      return internalGetSubscriptionsPerTopicFieldBuilder().addBuilder(
+          sr.grpc.gen.event.TopicSubscriptions.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+     */
+    public sr.grpc.gen.event.TopicSubscriptions.Builder addSubscriptionsPerTopicBuilder(
+        int index) {
+      return internalGetSubscriptionsPerTopicFieldBuilder().addBuilder(
+          index, sr.grpc.gen.event.TopicSubscriptions.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+     */
+    public java.util.List<sr.grpc.gen.event.TopicSubscriptions.Builder> 
+         getSubscriptionsPerTopicBuilderList() {
+      return internalGetSubscriptionsPerTopicFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilder<
+        sr.grpc.gen.event.TopicSubscriptions, sr.grpc.gen.event.TopicSubscriptions.Builder, sr.grpc.gen.event.TopicSubscriptionsOrBuilder> 
+        internalGetSubscriptionsPerTopicFieldBuilder() {
+      if (subscriptionsPerTopicBuilder_ == null) {
+        subscriptionsPerTopicBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+            sr.grpc.gen.event.TopicSubscriptions, sr.grpc.gen.event.TopicSubscriptions.Builder, sr.grpc.gen.event.TopicSubscriptionsOrBuilder>(
+                subscriptionsPerTopic_,
+                ((bitField0_ & 0x00000008) != 0),
+                getParentForChildren(),
+                isClean());
+        subscriptionsPerTopic_ = null;
+      }
+      return subscriptionsPerTopicBuilder_;
+    }
+
+    private sr.grpc.gen.event.EventRate eventsPublished_;
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.EventRate, sr.grpc.gen.event.EventRate.Builder, sr.grpc.gen.event.EventRateOrBuilder> eventsPublishedBuilder_;
+    /**
+     * <pre>
+     * Events handed to the dispatcher by the event sources
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate events_published = 5;</code>
+     * @return Whether the eventsPublished field is set.
+     */
+    public boolean hasEventsPublished() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <pre>
+     * Events handed to the dispatcher by the event sources
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate events_published = 5;</code>
+     * @return The eventsPublished.
+     */
+    public sr.grpc.gen.event.EventRate getEventsPublished() {
+      if (eventsPublishedBuilder_ == null) {
+        return eventsPublished_ == null ? sr.grpc.gen.event.EventRate.getDefaultInstance() : eventsPublished_;
+      } else {
+        return eventsPublishedBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * Events handed to the dispatcher by the event sources
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate events_published = 5;</code>
+     */
+    public Builder setEventsPublished(sr.grpc.gen.event.EventRate value) {
+      if (eventsPublishedBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        eventsPublished_ = value;
+      } else {
+        eventsPublishedBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00000010;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Events handed to the dispatcher by the event sources
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate events_published = 5;</code>
+     */
+    public Builder setEventsPublished(
+        sr.grpc.gen.event.EventRate.Builder builderForValue) {
+      if (eventsPublishedBuilder_ == null) {
+        eventsPublished_ = builderForValue.build();
+      } else {
+        eventsPublishedBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00000010;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Events handed to the dispatcher by the event sources
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate events_published = 5;</code>
+     */
+    public Builder mergeEventsPublished(sr.grpc.gen.event.EventRate value) {
+      if (eventsPublishedBuilder_ == null) {
+        if (((bitField0_ & 0x00000010) != 0) &&
+          eventsPublished_ != null &&
+          eventsPublished_ != sr.grpc.gen.event.EventRate.getDefaultInstance()) {
+          getEventsPublishedBuilder().mergeFrom(value);
+        } else {
+          eventsPublished_ = value;
+        }
+      } else {
+        eventsPublishedBuilder_.mergeFrom(value);
+      }
+      if (eventsPublished_ != null) {
+        bitField0_ |= 0x00000010;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Events handed to the dispatcher by the event sources
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate events_published = 5;</code>
+     */
+    public Builder clearEventsPublished() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      eventsPublished_ = null;
+      if (eventsPublishedBuilder_ != null) {
+        eventsPublishedBuilder_.dispose();
+        eventsPublishedBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Events handed to the dispatcher by the event sources
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate events_published = 5;</code>
+     */
+    public sr.grpc.gen.event.EventRate.Builder getEventsPublishedBuilder() {
+      bitField0_ |= 0x00000010;
+      onChanged();
+      return internalGetEventsPublishedFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * Events handed to the dispatcher by the event sources
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate events_published = 5;</code>
+     */
+    public sr.grpc.gen.event.EventRateOrBuilder getEventsPublishedOrBuilder() {
+      if (eventsPublishedBuilder_ != null) {
+        return eventsPublishedBuilder_.getMessageOrBuilder();
+      } else {
+        return eventsPublished_ == null ?
+            sr.grpc.gen.event.EventRate.getDefaultInstance() : eventsPublished_;
+      }
+    }
+    /**
+     * <pre>
+     * Events handed to the dispatcher by the event sources
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate events_published = 5;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.EventRate, sr.grpc.gen.event.EventRate.Builder, sr.grpc.gen.event.EventRateOrBuilder> 
+        internalGetEventsPublishedFieldBuilder() {
+      if (eventsPublishedBuilder_ == null) {
+        eventsPublishedBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.EventRate, sr.grpc.gen.event.EventRate.Builder, sr.grpc.gen.event.EventRateOrBuilder>(
+                getEventsPublished(),
+                getParentForChildren(),
+                isClean());
+        eventsPublished_ = null;
+      }
+      return eventsPublishedBuilder_;
+    }
+
+    private sr.grpc.gen.event.EventRate notificationsDispatched_;
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.EventRate, sr.grpc.gen.event.EventRate.Builder, sr.grpc.gen.event.EventRateOrBuilder> notificationsDispatchedBuilder_;
+    /**
+     * <pre>
+     * Notifications queued for a subscriber
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_dispatched = 6;</code>
+     * @return Whether the notificationsDispatched field is set.
+     */
+    public boolean hasNotificationsDispatched() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <pre>
+     * Notifications queued for a subscriber
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_dispatched = 6;</code>
+     * @return The notificationsDispatched.
+     */
+    public sr.grpc.gen.event.EventRate getNotificationsDispatched() {
+      if (notificationsDispatchedBuilder_ == null) {
+        return notificationsDispatched_ == null ? sr.grpc.gen.event.EventRate.getDefaultInstance() : notificationsDispatched_;
+      } else {
+        return notificationsDispatchedBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * Notifications queued for a subscriber
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_dispatched = 6;</code>
+     */
+    public Builder setNotificationsDispatched(sr.grpc.gen.event.EventRate value) {
+      if (notificationsDispatchedBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        notificationsDispatched_ = value;
+      } else {
+        notificationsDispatchedBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00000020;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Notifications queued for a subscriber
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_dispatched = 6;</code>
+     */
+    public Builder setNotificationsDispatched(
+        sr.grpc.gen.event.EventRate.Builder builderForValue) {
+      if (notificationsDispatchedBuilder_ == null) {
+        notificationsDispatched_ = builderForValue.build();
+      } else {
+        notificationsDispatchedBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00000020;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Notifications queued for a subscriber
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_dispatched = 6;</code>
+     */
+    public Builder mergeNotificationsDispatched(sr.grpc.gen.event.EventRate value) {
+      if (notificationsDispatchedBuilder_ == null) {
+        if (((bitField0_ & 0x00000020) != 0) &&
+          notificationsDispatched_ != null &&
+          notificationsDispatched_ != sr.grpc.gen.event.EventRate.getDefaultInstance()) {
+          getNotificationsDispatchedBuilder().mergeFrom(value);
+        } else {
+          notificationsDispatched_ = value;
+        }
+      } else {
+        notificationsDispatchedBuilder_.mergeFrom(value);
+      }
+      if (notificationsDispatched_ != null) {
+        bitField0_ |= 0x00000020;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Notifications queued for a subscriber
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_dispatched = 6;</code>
+     */
+    public Builder clearNotificationsDispatched() {
+      bitField0_ = (bitField0_ & ~0x00000020);
+      notificationsDispatched_ = null;
+      if (notificationsDispatchedBuilder_ != null) {
+        notificationsDispatchedBuilder_.dispose();
+        notificationsDispatchedBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Notifications queued for a subscriber
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_dispatched = 6;</code>
+     */
+    public sr.grpc.gen.event.EventRate.Builder getNotificationsDispatchedBuilder() {
+      bitField0_ |= 0x00000020;
+      onChanged();
+      return internalGetNotificationsDispatchedFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * Notifications queued for a subscriber
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_dispatched = 6;</code>
+     */
+    public sr.grpc.gen.event.EventRateOrBuilder getNotificationsDispatchedOrBuilder() {
+      if (notificationsDispatchedBuilder_ != null) {
+        return notificationsDispatchedBuilder_.getMessageOrBuilder();
+      } else {
+        return notificationsDispatched_ == null ?
+            sr.grpc.gen.event.EventRate.getDefaultInstance() : notificationsDispatched_;
+      }
+    }
+    /**
+     * <pre>
+     * Notifications queued for a subscriber
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_dispatched = 6;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.EventRate, sr.grpc.gen.event.EventRate.Builder, sr.grpc.gen.event.EventRateOrBuilder> 
+        internalGetNotificationsDispatchedFieldBuilder() {
+      if (notificationsDispatchedBuilder_ == null) {
+        notificationsDispatchedBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.EventRate, sr.grpc.gen.event.EventRate.Builder, sr.grpc.gen.event.EventRateOrBuilder>(
+                getNotificationsDispatched(),
+                getParentForChildren(),
+                isClean());
+        notificationsDispatched_ = null;
+      }
+      return notificationsDispatchedBuilder_;
+    }
+
+    private sr.grpc.gen.event.EventRate notificationsDropped_;
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.EventRate, sr.grpc.gen.event.EventRate.Builder, sr.grpc.gen.event.EventRateOrBuilder> notificationsDroppedBuilder_;
+    /**
+     * <pre>
+     * Discarded by a full outbound queue
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_dropped = 7;</code>
+     * @return Whether the notificationsDropped field is set.
+     */
+    public boolean hasNotificationsDropped() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <pre>
+     * Discarded by a full outbound queue
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_dropped = 7;</code>
+     * @return The notificationsDropped.
+     */
+    public sr.grpc.gen.event.EventRate getNotificationsDropped() {
+      if (notificationsDroppedBuilder_ == null) {
+        return notificationsDropped_ == null ? sr.grpc.gen.event.EventRate.getDefaultInstance() : notificationsDropped_;
+      } else {
+        return notificationsDroppedBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * Discarded by a full outbound queue
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_dropped = 7;</code>
+     */
+    public Builder setNotificationsDropped(sr.grpc.gen.event.EventRate value) {
+      if (notificationsDroppedBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        notificationsDropped_ = value;
+      } else {
+        notificationsDroppedBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00000040;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Discarded by a full outbound queue
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_dropped = 7;</code>
+     */
+    public Builder setNotificationsDropped(
+        sr.grpc.gen.event.EventRate.Builder builderForValue) {
+      if (notificationsDroppedBuilder_ == null) {
+        notificationsDropped_ = builderForValue.build();
+      } else {
+        notificationsDroppedBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00000040;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Discarded by a full outbound queue
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_dropped = 7;</code>
+     */
+    public Builder mergeNotificationsDropped(sr.grpc.gen.event.EventRate value) {
+      if (notificationsDroppedBuilder_ == null) {
+        if (((bitField0_ & 0x00000040) != 0) &&
+          notificationsDropped_ != null &&
+          notificationsDropped_ != sr.grpc.gen.event.EventRate.getDefaultInstance()) {
+          getNotificationsDroppedBuilder().mergeFrom(value);
+        } else {
+          notificationsDropped_ = value;
+        }
+      } else {
+        notificationsDroppedBuilder_.mergeFrom(value);
+      }
+      if (notificationsDropped_ != null) {
+        bitField0_ |= 0x00000040;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Discarded by a full outbound queue
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_dropped = 7;</code>
+     */
+    public Builder clearNotificationsDropped() {
+      bitField0_ = (bitField0_ & ~0x00000040);
+      notificationsDropped_ = null;
+      if (notificationsDroppedBuilder_ != null) {
+        notificationsDroppedBuilder_.dispose();
+        notificationsDroppedBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Discarded by a full outbound queue
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_dropped = 7;</code>
+     */
+    public sr.grpc.gen.event.EventRate.Builder getNotificationsDroppedBuilder() {
+      bitField0_ |= 0x00000040;
+      onChanged();
+      return internalGetNotificationsDroppedFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * Discarded by a full outbound queue
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_dropped = 7;</code>
+     */
+    public sr.grpc.gen.event.EventRateOrBuilder getNotificationsDroppedOrBuilder() {
+      if (notificationsDroppedBuilder_ != null) {
+        return notificationsDroppedBuilder_.getMessageOrBuilder();
+      } else {
+        return notificationsDropped_ == null ?
+            sr.grpc.gen.event.EventRate.getDefaultInstance() : notificationsDropped_;
+      }
+    }
+    /**
+     * <pre>
+     * Discarded by a full outbound queue
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_dropped = 7;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.EventRate, sr.grpc.gen.event.EventRate.Builder, sr.grpc.gen.event.EventRateOrBuilder> 
+        internalGetNotificationsDroppedFieldBuilder() {
+      if (notificationsDroppedBuilder_ == null) {
+        notificationsDroppedBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.EventRate, sr.grpc.gen.event.EventRate.Builder, sr.grpc.gen.event.EventRateOrBuilder>(
+                getNotificationsDropped(),
+                getParentForChildren(),
+                isClean());
+        notificationsDropped_ = null;
+      }
+      return notificationsDroppedBuilder_;
+    }
+
+    private sr.grpc.gen.event.EventRate notificationsSent_;
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.EventRate, sr.grpc.gen.event.EventRate.Builder, sr.grpc.gen.event.EventRateOrBuilder> notificationsSentBuilder_;
+    /**
+     * <pre>
+     * Written to a subscriber stream
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_sent = 8;</code>
+     * @return Whether the notificationsSent field is set.
+     */
+    public boolean hasNotificationsSent() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <pre>
+     * Written to a subscriber stream
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_sent = 8;</code>
+     * @return The notificationsSent.
+     */
+    public sr.grpc.gen.event.EventRate getNotificationsSent() {
+      if (notificationsSentBuilder_ == null) {
+        return notificationsSent_ == null ? sr.grpc.gen.event.EventRate.getDefaultInstance() : notificationsSent_;
+      } else {
+        return notificationsSentBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * Written to a subscriber stream
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_sent = 8;</code>
+     */
+    public Builder setNotificationsSent(sr.grpc.gen.event.EventRate value) {
+      if (notificationsSentBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        notificationsSent_ = value;
+      } else {
+        notificationsSentBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00000080;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Written to a subscriber stream
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_sent = 8;</code>
+     */
+    public Builder setNotificationsSent(
+        sr.grpc.gen.event.EventRate.Builder builderForValue) {
+      if (notificationsSentBuilder_ == null) {
+        notificationsSent_ = builderForValue.build();
+      } else {
+        notificationsSentBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00000080;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Written to a subscriber stream
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_sent = 8;</code>
+     */
+    public Builder mergeNotificationsSent(sr.grpc.gen.event.EventRate value) {
+      if (notificationsSentBuilder_ == null) {
+        if (((bitField0_ & 0x00000080) != 0) &&
+          notificationsSent_ != null &&
+          notificationsSent_ != sr.grpc.gen.event.EventRate.getDefaultInstance()) {
+          getNotificationsSentBuilder().mergeFrom(value);
+        } else {
+          notificationsSent_ = value;
+        }
+      } else {
+        notificationsSentBuilder_.mergeFrom(value);
+      }
+      if (notificationsSent_ != null) {
+        bitField0_ |= 0x00000080;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Written to a subscriber stream
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_sent = 8;</code>
+     */
+    public Builder clearNotificationsSent() {
+      bitField0_ = (bitField0_ & ~0x00000080);
+      notificationsSent_ = null;
+      if (notificationsSentBuilder_ != null) {
+        notificationsSentBuilder_.dispose();
+        notificationsSentBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Written to a subscriber stream
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_sent = 8;</code>
+     */
+    public sr.grpc.gen.event.EventRate.Builder getNotificationsSentBuilder() {
+      bitField0_ |= 0x00000080;
+      onChanged();
+      return internalGetNotificationsSentFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * Written to a subscriber stream
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_sent = 8;</code>
+     */
+    public sr.grpc.gen.event.EventRateOrBuilder getNotificationsSentOrBuilder() {
+      if (notificationsSentBuilder_ != null) {
+        return notificationsSentBuilder_.getMessageOrBuilder();
+      } else {
+        return notificationsSent_ == null ?
+            sr.grpc.gen.event.EventRate.getDefaultInstance() : notificationsSent_;
+      }
+    }
+    /**
+     * <pre>
+     * Written to a subscriber stream
+     * </pre>
+     *
+     * <code>.eventsubscription.EventRate notifications_sent = 8;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.EventRate, sr.grpc.gen.event.EventRate.Builder, sr.grpc.gen.event.EventRateOrBuilder> 
+        internalGetNotificationsSentFieldBuilder() {
+      if (notificationsSentBuilder_ == null) {
+        notificationsSentBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.EventRate, sr.grpc.gen.event.EventRate.Builder, sr.grpc.gen.event.EventRateOrBuilder>(
+                getNotificationsSent(),
+                getParentForChildren(),
+                isClean());
+        notificationsSent_ = null;
+      }
+      return notificationsSentBuilder_;
+    }
+
+    private sr.grpc.gen.event.LatencyHistogram dispatchLatency_;
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.LatencyHistogram, sr.grpc.gen.event.LatencyHistogram.Builder, sr.grpc.gen.event.LatencyHistogramOrBuilder> dispatchLatencyBuilder_;
+    /**
+     * <pre>
+     * From publishing an event until it is queued for all of its subscribers
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram dispatch_latency = 9;</code>
+     * @return Whether the dispatchLatency field is set.
+     */
+    public boolean hasDispatchLatency() {
+      return ((bitField0_ & 0x00000100) != 0);
+    }
+    /**
+     * <pre>
+     * From publishing an event until it is queued for all of its subscribers
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram dispatch_latency = 9;</code>
+     * @return The dispatchLatency.
+     */
+    public sr.grpc.gen.event.LatencyHistogram getDispatchLatency() {
+      if (dispatchLatencyBuilder_ == null) {
+        return dispatchLatency_ == null ? sr.grpc.gen.event.LatencyHistogram.getDefaultInstance() : dispatchLatency_;
+      } else {
+        return dispatchLatencyBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * From publishing an event until it is queued for all of its subscribers
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram dispatch_latency = 9;</code>
+     */
+    public Builder setDispatchLatency(sr.grpc.gen.event.LatencyHistogram value) {
+      if (dispatchLatencyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        dispatchLatency_ = value;
+      } else {
+        dispatchLatencyBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00000100;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * From publishing an event until it is queued for all of its subscribers
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram dispatch_latency = 9;</code>
+     */
+    public Builder setDispatchLatency(
+        sr.grpc.gen.event.LatencyHistogram.Builder builderForValue) {
+      if (dispatchLatencyBuilder_ == null) {
+        dispatchLatency_ = builderForValue.build();
+      } else {
+        dispatchLatencyBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00000100;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * From publishing an event until it is queued for all of its subscribers
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram dispatch_latency = 9;</code>
+     */
+    public Builder mergeDispatchLatency(sr.grpc.gen.event.LatencyHistogram value) {
+      if (dispatchLatencyBuilder_ == null) {
+        if (((bitField0_ & 0x00000100) != 0) &&
+          dispatchLatency_ != null &&
+          dispatchLatency_ != sr.grpc.gen.event.LatencyHistogram.getDefaultInstance()) {
+          getDispatchLatencyBuilder().mergeFrom(value);
+        } else {
+          dispatchLatency_ = value;
+        }
+      } else {
+        dispatchLatencyBuilder_.mergeFrom(value);
+      }
+      if (dispatchLatency_ != null) {
+        bitField0_ |= 0x00000100;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * From publishing an event until it is queued for all of its subscribers
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram dispatch_latency = 9;</code>
+     */
+    public Builder clearDispatchLatency() {
+      bitField0_ = (bitField0_ & ~0x00000100);
+      dispatchLatency_ = null;
+      if (dispatchLatencyBuilder_ != null) {
+        dispatchLatencyBuilder_.dispose();
+        dispatchLatencyBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * From publishing an event until it is queued for all of its subscribers
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram dispatch_latency = 9;</code>
+     */
+    public sr.grpc.gen.event.LatencyHistogram.Builder getDispatchLatencyBuilder() {
+      bitField0_ |= 0x00000100;
+      onChanged();
+      return internalGetDispatchLatencyFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * From publishing an event until it is queued for all of its subscribers
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram dispatch_latency = 9;</code>
+     */
+    public sr.grpc.gen.event.LatencyHistogramOrBuilder getDispatchLatencyOrBuilder() {
+      if (dispatchLatencyBuilder_ != null) {
+        return dispatchLatencyBuilder_.getMessageOrBuilder();
+      } else {
+        return dispatchLatency_ == null ?
+            sr.grpc.gen.event.LatencyHistogram.getDefaultInstance() : dispatchLatency_;
+      }
+    }
+    /**
+     * <pre>
+     * From publishing an event until it is queued for all of its subscribers
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram dispatch_latency = 9;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.LatencyHistogram, sr.grpc.gen.event.LatencyHistogram.Builder, sr.grpc.gen.event.LatencyHistogramOrBuilder> 
+        internalGetDispatchLatencyFieldBuilder() {
+      if (dispatchLatencyBuilder_ == null) {
+        dispatchLatencyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.LatencyHistogram, sr.grpc.gen.event.LatencyHistogram.Builder, sr.grpc.gen.event.LatencyHistogramOrBuilder>(
+                getDispatchLatency(),
+                getParentForChildren(),
+                isClean());
+        dispatchLatency_ = null;
+      }
+      return dispatchLatencyBuilder_;
+    }
+
+    private sr.grpc.gen.event.LatencyHistogram fanOutLatency_;
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.LatencyHistogram, sr.grpc.gen.event.LatencyHistogram.Builder, sr.grpc.gen.event.LatencyHistogramOrBuilder> fanOutLatencyBuilder_;
+    /**
+     * <pre>
+     * From publishing an event until onNext returns, per notification written
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram fan_out_latency = 10;</code>
+     * @return Whether the fanOutLatency field is set.
+     */
+    public boolean hasFanOutLatency() {
+      return ((bitField0_ & 0x00000200) != 0);
+    }
+    /**
+     * <pre>
+     * From publishing an event until onNext returns, per notification written
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram fan_out_latency = 10;</code>
+     * @return The fanOutLatency.
+     */
+    public sr.grpc.gen.event.LatencyHistogram getFanOutLatency() {
+      if (fanOutLatencyBuilder_ == null) {
+        return fanOutLatency_ == null ? sr.grpc.gen.event.LatencyHistogram.getDefaultInstance() : fanOutLatency_;
+      } else {
+        return fanOutLatencyBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * From publishing an event until onNext returns, per notification written
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram fan_out_latency = 10;</code>
+     */
+    public Builder setFanOutLatency(sr.grpc.gen.event.LatencyHistogram value) {
+      if (fanOutLatencyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        fanOutLatency_ = value;
+      } else {
+        fanOutLatencyBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00000200;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * From publishing an event until onNext returns, per notification written
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram fan_out_latency = 10;</code>
+     */
+    public Builder setFanOutLatency(
+        sr.grpc.gen.event.LatencyHistogram.Builder builderForValue) {
+      if (fanOutLatencyBuilder_ == null) {
+        fanOutLatency_ = builderForValue.build();
+      } else {
+        fanOutLatencyBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00000200;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * From publishing an event until onNext returns, per notification written
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram fan_out_latency = 10;</code>
+     */
+    public Builder mergeFanOutLatency(sr.grpc.gen.event.LatencyHistogram value) {
+      if (fanOutLatencyBuilder_ == null) {
+        if (((bitField0_ & 0x00000200) != 0) &&
+          fanOutLatency_ != null &&
+          fanOutLatency_ != sr.grpc.gen.event.LatencyHistogram.getDefaultInstance()) {
+          getFanOutLatencyBuilder().mergeFrom(value);
+        } else {
+          fanOutLatency_ = value;
+        }
+      } else {
+        fanOutLatencyBuilder_.mergeFrom(value);
+      }
+      if (fanOutLatency_ != null) {
+        bitField0_ |= 0x00000200;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * From publishing an event until onNext returns, per notification written
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram fan_out_latency = 10;</code>
+     */
+    public Builder clearFanOutLatency() {
+      bitField0_ = (bitField0_ & ~0x00000200);
+      fanOutLatency_ = null;
+      if (fanOutLatencyBuilder_ != null) {
+        fanOutLatencyBuilder_.dispose();
+        fanOutLatencyBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * From publishing an event until onNext returns, per notification written
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram fan_out_latency = 10;</code>
+     */
+    public sr.grpc.gen.event.LatencyHistogram.Builder getFanOutLatencyBuilder() {
+      bitField0_ |= 0x00000200;
+      onChanged();
+      return internalGetFanOutLatencyFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * From publishing an event until onNext returns, per notification written
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram fan_out_latency = 10;</code>
+     */
+    public sr.grpc.gen.event.LatencyHistogramOrBuilder getFanOutLatencyOrBuilder() {
+      if (fanOutLatencyBuilder_ != null) {
+        return fanOutLatencyBuilder_.getMessageOrBuilder();
+      } else {
+        return fanOutLatency_ == null ?
+            sr.grpc.gen.event.LatencyHistogram.getDefaultInstance() : fanOutLatency_;
+      }
+    }
+    /**
+     * <pre>
+     * From publishing an event until onNext returns, per notification written
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram fan_out_latency = 10;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.LatencyHistogram, sr.grpc.gen.event.LatencyHistogram.Builder, sr.grpc.gen.event.LatencyHistogramOrBuilder> 
+        internalGetFanOutLatencyFieldBuilder() {
+      if (fanOutLatencyBuilder_ == null) {
+        fanOutLatencyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.LatencyHistogram, sr.grpc.gen.event.LatencyHistogram.Builder, sr.grpc.gen.event.LatencyHistogramOrBuilder>(
+                getFanOutLatency(),
+                getParentForChildren(),
+                isClean());
+        fanOutLatency_ = null;
+      }
+      return fanOutLatencyBuilder_;
+    }
+
+    private java.util.List<sr.grpc.gen.event.SubscriberStats> slowestSubscribers_ =
+      java.util.Collections.emptyList();
+    private void ensureSlowestSubscribersIsMutable() {
+      if (!((bitField0_ & 0x00000400) != 0)) {
+        slowestSubscribers_ = new java.util.ArrayList<sr.grpc.gen.event.SubscriberStats>(slowestSubscribers_);
+        bitField0_ |= 0x00000400;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilder<
+        sr.grpc.gen.event.SubscriberStats, sr.grpc.gen.event.SubscriberStats.Builder, sr.grpc.gen.event.SubscriberStatsOrBuilder> slowestSubscribersBuilder_;
+
+    /**
+     * <pre>
+     * Oldest pending notification first, then deepest queue
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+     */
+    public java.util.List<sr.grpc.gen.event.SubscriberStats> getSlowestSubscribersList() {
+      if (slowestSubscribersBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(slowestSubscribers_);
+      } else {
+        return slowestSubscribersBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <pre>
+     * Oldest pending notification first, then deepest queue
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+     */
+    public int getSlowestSubscribersCount() {
+      if (slowestSubscribersBuilder_ == null) {
+        return slowestSubscribers_.size();
+      } else {
+        return slowestSubscribersBuilder_.getCount();
+      }
+    }
+    /**
+     * <pre>
+     * Oldest pending notification first, then deepest queue
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+     */
+    public sr.grpc.gen.event.SubscriberStats getSlowestSubscribers(int index) {
+      if (slowestSubscribersBuilder_ == null) {
+        return slowestSubscribers_.get(index);
+      } else {
+        return slowestSubscribersBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <pre>
+     * Oldest pending notification first, then deepest queue
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+     */
+    public Builder setSlowestSubscribers(
+        int index, sr.grpc.gen.event.SubscriberStats value) {
+      if (slowestSubscribersBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSlowestSubscribersIsMutable();
+        slowestSubscribers_.set(index, value);
+        onChanged();
+      } else {
+        slowestSubscribersBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Oldest pending notification first, then deepest queue
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+     */
+    public Builder setSlowestSubscribers(
+        int index, sr.grpc.gen.event.SubscriberStats.Builder builderForValue) {
+      if (slowestSubscribersBuilder_ == null) {
+        ensureSlowestSubscribersIsMutable();
+        slowestSubscribers_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        slowestSubscribersBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Oldest pending notification first, then deepest queue
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+     */
+    public Builder addSlowestSubscribers(sr.grpc.gen.event.SubscriberStats value) {
+      if (slowestSubscribersBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSlowestSubscribersIsMutable();
+        slowestSubscribers_.add(value);
+        onChanged();
+      } else {
+        slowestSubscribersBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Oldest pending notification first, then deepest queue
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+     */
+    public Builder addSlowestSubscribers(
+        int index, sr.grpc.gen.event.SubscriberStats value) {
+      if (slowestSubscribersBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSlowestSubscribersIsMutable();
+        slowestSubscribers_.add(index, value);
+        onChanged();
+      } else {
+        slowestSubscribersBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Oldest pending notification first, then deepest queue
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+     */
+    public Builder addSlowestSubscribers(
+        sr.grpc.gen.event.SubscriberStats.Builder builderForValue) {
+      if (slowestSubscribersBuilder_ == null) {
+        ensureSlowestSubscribersIsMutable();
+        slowestSubscribers_.add(builderForValue.build());
+        onChanged();
+      } else {
+        slowestSubscribersBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Oldest pending notification first, then deepest queue
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+     */
+    public Builder addSlowestSubscribers(
+        int index, sr.grpc.gen.event.SubscriberStats.Builder builderForValue) {
+      if (slowestSubscribersBuilder_ == null) {
+        ensureSlowestSubscribersIsMutable();
+        slowestSubscribers_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        slowestSubscribersBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Oldest pending notification first, then deepest queue
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+     */
+    public Builder addAllSlowestSubscribers(
+        java.lang.Iterable<? extends sr.grpc.gen.event.SubscriberStats> values) {
+      if (slowestSubscribersBuilder_ == null) {
+        ensureSlowestSubscribersIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, slowestSubscribers_);
+        onChanged();
+      } else {
+        slowestSubscribersBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Oldest pending notification first, then deepest queue
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+     */
+    public Builder clearSlowestSubscribers() {
+      if (slowestSubscribersBuilder_ == null) {
+        slowestSubscribers_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000400);
+        onChanged();
+      } else {
+        slowestSubscribersBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Oldest pending notification first, then deepest queue
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+     */
+    public Builder removeSlowestSubscribers(int index) {
+      if (slowestSubscribersBuilder_ == null) {
+        ensureSlowestSubscribersIsMutable();
+        slowestSubscribers_.remove(index);
+        onChanged();
+      } else {
+        slowestSubscribersBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Oldest pending notification first, then deepest queue
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+     */
+    public sr.grpc.gen.event.SubscriberStats.Builder getSlowestSubscribersBuilder(
+        int index) {
+      return internalGetSlowestSubscribersFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <pre>
+     * Oldest pending notification first, then deepest queue
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+     */
+    public sr.grpc.gen.event.SubscriberStatsOrBuilder getSlowestSubscribersOrBuilder(
+        int index) {
+      if (slowestSubscribersBuilder_ == null) {
+        return slowestSubscribers_.get(index);  } else {
+        return slowestSubscribersBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <pre>
+     * Oldest pending notification first, then deepest queue
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+     */
+    public java.util.List<? extends sr.grpc.gen.event.SubscriberStatsOrBuilder> 
+         getSlowestSubscribersOrBuilderList() {
+      if (slowestSubscribersBuilder_ != null) {
+        return slowestSubscribersBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(slowestSubscribers_);
+      }
+    }
+    /**
+     * <pre>
+     * Oldest pending notification first, then deepest queue
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+     */
+    public sr.grpc.gen.event.SubscriberStats.Builder addSlowestSubscribersBuilder() {
+      return internalGetSlowestSubscribersFieldBuilder().addBuilder(
+          sr.grpc.gen.event.SubscriberStats.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * Oldest pending notification first, then deepest queue
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+     */
+    public sr.grpc.gen.event.SubscriberStats.Builder addSlowestSubscribersBuilder(
+        int index) {
+      return internalGetSlowestSubscribersFieldBuilder().addBuilder(
+          index, sr.grpc.gen.event.SubscriberStats.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * Oldest pending notification first, then deepest queue
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+     */
+    public java.util.List<sr.grpc.gen.event.SubscriberStats.Builder> 
+         getSlowestSubscribersBuilderList() {
+      return internalGetSlowestSubscribersFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilder<
+        sr.grpc.gen.event.SubscriberStats, sr.grpc.gen.event.SubscriberStats.Builder, sr.grpc.gen.event.SubscriberStatsOrBuilder> 
+        internalGetSlowestSubscribersFieldBuilder() {
+      if (slowestSubscribersBuilder_ == null) {
+        slowestSubscribersBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+            sr.grpc.gen.event.SubscriberStats, sr.grpc.gen.event.SubscriberStats.Builder, sr.grpc.gen.event.SubscriberStatsOrBuilder>(
+                slowestSubscribers_,
+                ((bitField0_ & 0x00000400) != 0),
+                getParentForChildren(),
+                isClean());
+        slowestSubscribers_ = null;
+      }
+      return slowestSubscribersBuilder_;
+    }
+
+    private java.util.List<sr.grpc.gen.event.SubscriberStats> subscribers_ =
+      java.util.Collections.emptyList();
+    private void ensureSubscribersIsMutable() {
+      if (!((bitField0_ & 0x00000800) != 0)) {
+        subscribers_ = new java.util.ArrayList<sr.grpc.gen.event.SubscriberStats>(subscribers_);
+        bitField0_ |= 0x00000800;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilder<
+        sr.grpc.gen.event.SubscriberStats, sr.grpc.gen.event.SubscriberStats.Builder, sr.grpc.gen.event.SubscriberStatsOrBuilder> subscribersBuilder_;
+
+    /**
+     * <pre>
+     * Every active subscription, if asked for
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+     */
+    public java.util.List<sr.grpc.gen.event.SubscriberStats> getSubscribersList() {
+      if (subscribersBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(subscribers_);
+      } else {
+        return subscribersBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <pre>
+     * Every active subscription, if asked for
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+     */
+    public int getSubscribersCount() {
+      if (subscribersBuilder_ == null) {
+        return subscribers_.size();
+      } else {
+        return subscribersBuilder_.getCount();
+      }
+    }
+    /**
+     * <pre>
+     * Every active subscription, if asked for
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+     */
+    public sr.grpc.gen.event.SubscriberStats getSubscribers(int index) {
+      if (subscribersBuilder_ == null) {
+        return subscribers_.get(index);
+      } else {
+        return subscribersBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <pre>
+     * Every active subscription, if asked for
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+     */
+    public Builder setSubscribers(
+        int index, sr.grpc.gen.event.SubscriberStats value) {
+      if (subscribersBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSubscribersIsMutable();
+        subscribers_.set(index, value);
+        onChanged();
+      } else {
+        subscribersBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Every active subscription, if asked for
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+     */
+    public Builder setSubscribers(
+        int index, sr.grpc.gen.event.SubscriberStats.Builder builderForValue) {
+      if (subscribersBuilder_ == null) {
+        ensureSubscribersIsMutable();
+        subscribers_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        subscribersBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Every active subscription, if asked for
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+     */
+    public Builder addSubscribers(sr.grpc.gen.event.SubscriberStats value) {
+      if (subscribersBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSubscribersIsMutable();
+        subscribers_.add(value);
+        onChanged();
+      } else {
+        subscribersBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Every active subscription, if asked for
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+     */
+    public Builder addSubscribers(
+        int index, sr.grpc.gen.event.SubscriberStats value) {
+      if (subscribersBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSubscribersIsMutable();
+        subscribers_.add(index, value);
+        onChanged();
+      } else {
+        subscribersBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Every active subscription, if asked for
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+     */
+    public Builder addSubscribers(
+        sr.grpc.gen.event.SubscriberStats.Builder builderForValue) {
+      if (subscribersBuilder_ == null) {
+        ensureSubscribersIsMutable();
+        subscribers_.add(builderForValue.build());
+        onChanged();
+      } else {
+        subscribersBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Every active subscription, if asked for
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+     */
+    public Builder addSubscribers(
+        int index, sr.grpc.gen.event.SubscriberStats.Builder builderForValue) {
+      if (subscribersBuilder_ == null) {
+        ensureSubscribersIsMutable();
+        subscribers_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        subscribersBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Every active subscription, if asked for
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+     */
+    public Builder addAllSubscribers(
+        java.lang.Iterable<? extends sr.grpc.gen.event.SubscriberStats> values) {
+      if (subscribersBuilder_ == null) {
+        ensureSubscribersIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, subscribers_);
+        onChanged();
+      } else {
+        subscribersBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Every active subscription, if asked for
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+     */
+    public Builder clearSubscribers() {
+      if (subscribersBuilder_ == null) {
+        subscribers_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000800);
+        onChanged();
+      } else {
+        subscribersBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Every active subscription, if asked for
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+     */
+    public Builder removeSubscribers(int index) {
+      if (subscribersBuilder_ == null) {
+        ensureSubscribersIsMutable();
+        subscribers_.remove(index);
+        onChanged();
+      } else {
+        subscribersBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Every active subscription, if asked for
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+     */
+    public sr.grpc.gen.event.SubscriberStats.Builder getSubscribersBuilder(
+        int index) {
+      return internalGetSubscribersFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <pre>
+     * Every active subscription, if asked for
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+     */
+    public sr.grpc.gen.event.SubscriberStatsOrBuilder getSubscribersOrBuilder(
+        int index) {
+      if (subscribersBuilder_ == null) {
+        return subscribers_.get(index);  } else {
+        return subscribersBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <pre>
+     * Every active subscription, if asked for
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+     */
+    public java.util.List<? extends sr.grpc.gen.event.SubscriberStatsOrBuilder> 
+         getSubscribersOrBuilderList() {
+      if (subscribersBuilder_ != null) {
+        return subscribersBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(subscribers_);
+      }
+    }
+    /**
+     * <pre>
+     * Every active subscription, if asked for
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+     */
+    public sr.grpc.gen.event.SubscriberStats.Builder addSubscribersBuilder() {
+      return internalGetSubscribersFieldBuilder().addBuilder(
+          sr.grpc.gen.event.SubscriberStats.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * Every active subscription, if asked for
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+     */
+    public sr.grpc.gen.event.SubscriberStats.Builder addSubscribersBuilder(
+        int index) {
+      return internalGetSubscribersFieldBuilder().addBuilder(
+          index, sr.grpc.gen.event.SubscriberStats.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * Every active subscription, if asked for
+     * </pre>
+     *
+     * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+     */
+    public java.util.List<sr.grpc.gen.event.SubscriberStats.Builder> 
+         getSubscribersBuilderList() {
+      return internalGetSubscribersFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilder<
+        sr.grpc.gen.event.SubscriberStats, sr.grpc.gen.event.SubscriberStats.Builder, sr.grpc.gen.event.SubscriberStatsOrBuilder> 
+        internalGetSubscribersFieldBuilder() {
+      if (subscribersBuilder_ == null) {
+        subscribersBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+            sr.grpc.gen.event.SubscriberStats, sr.grpc.gen.event.SubscriberStats.Builder, sr.grpc.gen.event.SubscriberStatsOrBuilder>(
+                subscribers_,
+                ((bitField0_ & 0x00000800) != 0),
+                getParentForChildren(),
+                isClean());
+        subscribers_ = null;
+      }
+      return subscribersBuilder_;
+    }
+
+    private sr.grpc.gen.event.ProcessStats process_;
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.ProcessStats, sr.grpc.gen.event.ProcessStats.Builder, sr.grpc.gen.event.ProcessStatsOrBuilder> processBuilder_;
+    /**
+     * <code>.eventsubscription.ProcessStats process = 13;</code>
+     * @return Whether the process field is set.
+     */
+    public boolean hasProcess() {
+      return ((bitField0_ & 0x00001000) != 0);
+    }
+    /**
+     * <code>.eventsubscription.ProcessStats process = 13;</code>
+     * @return The process.
+     */
+    public sr.grpc.gen.event.ProcessStats getProcess() {
+      if (processBuilder_ == null) {
+        return process_ == null ? sr.grpc.gen.event.ProcessStats.getDefaultInstance() : process_;
+      } else {
+        return processBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.eventsubscription.ProcessStats process = 13;</code>
+     */
+    public Builder setProcess(sr.grpc.gen.event.ProcessStats value) {
+      if (processBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        process_ = value;
+      } else {
+        processBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00001000;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.ProcessStats process = 13;</code>
+     */
+    public Builder setProcess(
+        sr.grpc.gen.event.ProcessStats.Builder builderForValue) {
+      if (processBuilder_ == null) {
+        process_ = builderForValue.build();
+      } else {
+        processBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00001000;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.ProcessStats process = 13;</code>
+     */
+    public Builder mergeProcess(sr.grpc.gen.event.ProcessStats value) {
+      if (processBuilder_ == null) {
+        if (((bitField0_ & 0x00001000) != 0) &&
+          process_ != null &&
+          process_ != sr.grpc.gen.event.ProcessStats.getDefaultInstance()) {
+          getProcessBuilder().mergeFrom(value);
+        } else {
+          process_ = value;
+        }
+      } else {
+        processBuilder_.mergeFrom(value);
+      }
+      if (process_ != null) {
+        bitField0_ |= 0x00001000;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.ProcessStats process = 13;</code>
+     */
+    public Builder clearProcess() {
+      bitField0_ = (bitField0_ & ~0x00001000);
+      process_ = null;
+      if (processBuilder_ != null) {
+        processBuilder_.dispose();
+        processBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.ProcessStats process = 13;</code>
+     */
+    public sr.grpc.gen.event.ProcessStats.Builder getProcessBuilder() {
+      bitField0_ |= 0x00001000;
+      onChanged();
+      return internalGetProcessFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.eventsubscription.ProcessStats process = 13;</code>
+     */
+    public sr.grpc.gen.event.ProcessStatsOrBuilder getProcessOrBuilder() {
+      if (processBuilder_ != null) {
+        return processBuilder_.getMessageOrBuilder();
+      } else {
+        return process_ == null ?
+            sr.grpc.gen.event.ProcessStats.getDefaultInstance() : process_;
+      }
+    }
+    /**
+     * <code>.eventsubscription.ProcessStats process = 13;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.ProcessStats, sr.grpc.gen.event.ProcessStats.Builder, sr.grpc.gen.event.ProcessStatsOrBuilder> 
+        internalGetProcessFieldBuilder() {
+      if (processBuilder_ == null) {
+        processBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.ProcessStats, sr.grpc.gen.event.ProcessStats.Builder, sr.grpc.gen.event.ProcessStatsOrBuilder>(
+                getProcess(),
+                getParentForChildren(),
+                isClean());
+        process_ = null;
+      }
+      return processBuilder_;
+    }
+
+    private sr.grpc.gen.event.LatencyHistogram highPriorityFanOutLatency_;
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.LatencyHistogram, sr.grpc.gen.event.LatencyHistogram.Builder, sr.grpc.gen.event.LatencyHistogramOrBuilder> highPriorityFanOutLatencyBuilder_;
+    /**
+     * <pre>
+     * Part of fan_out_latency for HIGH notifications only
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram high_priority_fan_out_latency = 14;</code>
+     * @return Whether the highPriorityFanOutLatency field is set.
+     */
+    public boolean hasHighPriorityFanOutLatency() {
+      return ((bitField0_ & 0x00002000) != 0);
+    }
+    /**
+     * <pre>
+     * Part of fan_out_latency for HIGH notifications only
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram high_priority_fan_out_latency = 14;</code>
+     * @return The highPriorityFanOutLatency.
+     */
+    public sr.grpc.gen.event.LatencyHistogram getHighPriorityFanOutLatency() {
+      if (highPriorityFanOutLatencyBuilder_ == null) {
+        return highPriorityFanOutLatency_ == null ? sr.grpc.gen.event.LatencyHistogram.getDefaultInstance() : highPriorityFanOutLatency_;
+      } else {
+        return highPriorityFanOutLatencyBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * Part of fan_out_latency for HIGH notifications only
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram high_priority_fan_out_latency = 14;</code>
+     */
+    public Builder setHighPriorityFanOutLatency(sr.grpc.gen.event.LatencyHistogram value) {
+      if (highPriorityFanOutLatencyBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        highPriorityFanOutLatency_ = value;
+      } else {
+        highPriorityFanOutLatencyBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00002000;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Part of fan_out_latency for HIGH notifications only
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram high_priority_fan_out_latency = 14;</code>
+     */
+    public Builder setHighPriorityFanOutLatency(
+        sr.grpc.gen.event.LatencyHistogram.Builder builderForValue) {
+      if (highPriorityFanOutLatencyBuilder_ == null) {
+        highPriorityFanOutLatency_ = builderForValue.build();
+      } else {
+        highPriorityFanOutLatencyBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00002000;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Part of fan_out_latency for HIGH notifications only
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram high_priority_fan_out_latency = 14;</code>
+     */
+    public Builder mergeHighPriorityFanOutLatency(sr.grpc.gen.event.LatencyHistogram value) {
+      if (highPriorityFanOutLatencyBuilder_ == null) {
+        if (((bitField0_ & 0x00002000) != 0) &&
+          highPriorityFanOutLatency_ != null &&
+          highPriorityFanOutLatency_ != sr.grpc.gen.event.LatencyHistogram.getDefaultInstance()) {
+          getHighPriorityFanOutLatencyBuilder().mergeFrom(value);
+        } else {
+          highPriorityFanOutLatency_ = value;
+        }
+      } else {
+        highPriorityFanOutLatencyBuilder_.mergeFrom(value);
+      }
+      if (highPriorityFanOutLatency_ != null) {
+        bitField0_ |= 0x00002000;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Part of fan_out_latency for HIGH notifications only
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram high_priority_fan_out_latency = 14;</code>
+     */
+    public Builder clearHighPriorityFanOutLatency() {
+      bitField0_ = (bitField0_ & ~0x00002000);
+      highPriorityFanOutLatency_ = null;
+      if (highPriorityFanOutLatencyBuilder_ != null) {
+        highPriorityFanOutLatencyBuilder_.dispose();
+        highPriorityFanOutLatencyBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Part of fan_out_latency for HIGH notifications only
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram high_priority_fan_out_latency = 14;</code>
+     */
+    public sr.grpc.gen.event.LatencyHistogram.Builder getHighPriorityFanOutLatencyBuilder() {
+      bitField0_ |= 0x00002000;
+      onChanged();
+      return internalGetHighPriorityFanOutLatencyFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * Part of fan_out_latency for HIGH notifications only
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram high_priority_fan_out_latency = 14;</code>
+     */
+    public sr.grpc.gen.event.LatencyHistogramOrBuilder getHighPriorityFanOutLatencyOrBuilder() {
+      if (highPriorityFanOutLatencyBuilder_ != null) {
+        return highPriorityFanOutLatencyBuilder_.getMessageOrBuilder();
+      } else {
+        return highPriorityFanOutLatency_ == null ?
+            sr.grpc.gen.event.LatencyHistogram.getDefaultInstance() : highPriorityFanOutLatency_;
+      }
+    }
+    /**
+     * <pre>
+     * Part of fan_out_latency for HIGH notifications only
+     * </pre>
+     *
+     * <code>.eventsubscription.LatencyHistogram high_priority_fan_out_latency = 14;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.LatencyHistogram, sr.grpc.gen.event.LatencyHistogram.Builder, sr.grpc.gen.event.LatencyHistogramOrBuilder> 
+        internalGetHighPriorityFanOutLatencyFieldBuilder() {
+      if (highPriorityFanOutLatencyBuilder_ == null) {
+        highPriorityFanOutLatencyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.LatencyHistogram, sr.grpc.gen.event.LatencyHistogram.Builder, sr.grpc.gen.event.LatencyHistogramOrBuilder>(
+                getHighPriorityFanOutLatency(),
+                getParentForChildren(),
+                isClean());
+        highPriorityFanOutLatency_ = null;
+      }
+      return highPriorityFanOutLatencyBuilder_;
+    }
+
+    private sr.grpc.gen.event.LatencyObjective highPriorityObjective_;
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.LatencyObjective, sr.grpc.gen.event.LatencyObjective.Builder, sr.grpc.gen.event.LatencyObjectiveOrBuilder> highPriorityObjectiveBuilder_;
+    /**
+     * <code>.eventsubscription.LatencyObjective high_priority_objective = 15;</code>
+     * @return Whether the highPriorityObjective field is set.
+     */
+    public boolean hasHighPriorityObjective() {
+      return ((bitField0_ & 0x00004000) != 0);
+    }
+    /**
+     * <code>.eventsubscription.LatencyObjective high_priority_objective = 15;</code>
+     * @return The highPriorityObjective.
+     */
+    public sr.grpc.gen.event.LatencyObjective getHighPriorityObjective() {
+      if (highPriorityObjectiveBuilder_ == null) {
+        return highPriorityObjective_ == null ? sr.grpc.gen.event.LatencyObjective.getDefaultInstance() : highPriorityObjective_;
+      } else {
+        return highPriorityObjectiveBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.eventsubscription.LatencyObjective high_priority_objective = 15;</code>
+     */
+    public Builder setHighPriorityObjective(sr.grpc.gen.event.LatencyObjective value) {
+      if (highPriorityObjectiveBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        highPriorityObjective_ = value;
+      } else {
+        highPriorityObjectiveBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00004000;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.LatencyObjective high_priority_objective = 15;</code>
+     */
+    public Builder setHighPriorityObjective(
+        sr.grpc.gen.event.LatencyObjective.Builder builderForValue) {
+      if (highPriorityObjectiveBuilder_ == null) {
+        highPriorityObjective_ = builderForValue.build();
+      } else {
+        highPriorityObjectiveBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00004000;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.LatencyObjective high_priority_objective = 15;</code>
+     */
+    public Builder mergeHighPriorityObjective(sr.grpc.gen.event.LatencyObjective value) {
+      if (highPriorityObjectiveBuilder_ == null) {
+        if (((bitField0_ & 0x00004000) != 0) &&
+          highPriorityObjective_ != null &&
+          highPriorityObjective_ != sr.grpc.gen.event.LatencyObjective.getDefaultInstance()) {
+          getHighPriorityObjectiveBuilder().mergeFrom(value);
+        } else {
+          highPriorityObjective_ = value;
+        }
+      } else {
+        highPriorityObjectiveBuilder_.mergeFrom(value);
+      }
+      if (highPriorityObjective_ != null) {
+        bitField0_ |= 0x00004000;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.LatencyObjective high_priority_objective = 15;</code>
+     */
+    public Builder clearHighPriorityObjective() {
+      bitField0_ = (bitField0_ & ~0x00004000);
+      highPriorityObjective_ = null;
+      if (highPriorityObjectiveBuilder_ != null) {
+        highPriorityObjectiveBuilder_.dispose();
+        highPriorityObjectiveBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.LatencyObjective high_priority_objective = 15;</code>
+     */
+    public sr.grpc.gen.event.LatencyObjective.Builder getHighPriorityObjectiveBuilder() {
+      bitField0_ |= 0x00004000;
+      onChanged();
+      return internalGetHighPriorityObjectiveFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.eventsubscription.LatencyObjective high_priority_objective = 15;</code>
+     */
+    public sr.grpc.gen.event.LatencyObjectiveOrBuilder getHighPriorityObjectiveOrBuilder() {
+      if (highPriorityObjectiveBuilder_ != null) {
+        return highPriorityObjectiveBuilder_.getMessageOrBuilder();
+      } else {
+        return highPriorityObjective_ == null ?
+            sr.grpc.gen.event.LatencyObjective.getDefaultInstance() : highPriorityObjective_;
+      }
+    }
+    /**
+     * <code>.eventsubscription.LatencyObjective high_priority_objective = 15;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.LatencyObjective, sr.grpc.gen.event.LatencyObjective.Builder, sr.grpc.gen.event.LatencyObjectiveOrBuilder> 
+        internalGetHighPriorityObjectiveFieldBuilder() {
+      if (highPriorityObjectiveBuilder_ == null) {
+        highPriorityObjectiveBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.LatencyObjective, sr.grpc.gen.event.LatencyObjective.Builder, sr.grpc.gen.event.LatencyObjectiveOrBuilder>(
+                getHighPriorityObjective(),
+                getParentForChildren(),
+                isClean());
+        highPriorityObjective_ = null;
+      }
+      return highPriorityObjectiveBuilder_;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.ServerStats)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.ServerStats)
+  private static final sr.grpc.gen.event.ServerStats DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.ServerStats();
+  }
+
+  public static sr.grpc.gen.event.ServerStats getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ServerStats>
+      PARSER = new com.google.protobuf.AbstractParser<ServerStats>() {
+    @java.lang.Override
+    public ServerStats parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<ServerStats> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ServerStats> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.ServerStats getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
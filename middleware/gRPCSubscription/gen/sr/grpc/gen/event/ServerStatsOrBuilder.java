@@ -0,0 +1,378 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface ServerStatsOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.ServerStats)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>uint64 uptime_millis = 1;</code>
+   * @return The uptimeMillis.
+   */
+  long getUptimeMillis();
+
+  /**
+   * <code>uint32 active_subscriptions = 2;</code>
+   * @return The activeSubscriptions.
+   */
+  int getActiveSubscriptions();
+
+  /**
+   * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+   */
+  java.util.List<sr.grpc.gen.event.EventTypeSubscriptions> 
+      getSubscriptionsPerEventTypeList();
+  /**
+   * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+   */
+  sr.grpc.gen.event.EventTypeSubscriptions getSubscriptionsPerEventType(int index);
+  /**
+   * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+   */
+  int getSubscriptionsPerEventTypeCount();
+  /**
+   * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+   */
+  java.util.List<? extends sr.grpc.gen.event.EventTypeSubscriptionsOrBuilder> 
+      getSubscriptionsPerEventTypeOrBuilderList();
+  /**
+   * <code>repeated .eventsubscription.EventTypeSubscriptions subscriptions_per_event_type = 3;</code>
+   */
+  sr.grpc.gen.event.EventTypeSubscriptionsOrBuilder getSubscriptionsPerEventTypeOrBuilder(
+      int index);
+
+  /**
+   * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+   */
+  java.util.List<sr.grpc.gen.event.TopicSubscriptions> 
+      getSubscriptionsPerTopicList();
+  /**
+   * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+   */
+  sr.grpc.gen.event.TopicSubscriptions getSubscriptionsPerTopic(int index);
+  /**
+   * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+   */
+  int getSubscriptionsPerTopicCount();
+  /**
+   * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+   */
+  java.util.List<? extends sr.grpc.gen.event.TopicSubscriptionsOrBuilder> 
+      getSubscriptionsPerTopicOrBuilderList();
+  /**
+   * <code>repeated .eventsubscription.TopicSubscriptions subscriptions_per_topic = 4;</code>
+   */
+  sr.grpc.gen.event.TopicSubscriptionsOrBuilder getSubscriptionsPerTopicOrBuilder(
+      int index);
+
+  /**
+   * <pre>
+   * Events handed to the dispatcher by the event sources
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate events_published = 5;</code>
+   * @return Whether the eventsPublished field is set.
+   */
+  boolean hasEventsPublished();
+  /**
+   * <pre>
+   * Events handed to the dispatcher by the event sources
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate events_published = 5;</code>
+   * @return The eventsPublished.
+   */
+  sr.grpc.gen.event.EventRate getEventsPublished();
+  /**
+   * <pre>
+   * Events handed to the dispatcher by the event sources
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate events_published = 5;</code>
+   */
+  sr.grpc.gen.event.EventRateOrBuilder getEventsPublishedOrBuilder();
+
+  /**
+   * <pre>
+   * Notifications queued for a subscriber
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate notifications_dispatched = 6;</code>
+   * @return Whether the notificationsDispatched field is set.
+   */
+  boolean hasNotificationsDispatched();
+  /**
+   * <pre>
+   * Notifications queued for a subscriber
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate notifications_dispatched = 6;</code>
+   * @return The notificationsDispatched.
+   */
+  sr.grpc.gen.event.EventRate getNotificationsDispatched();
+  /**
+   * <pre>
+   * Notifications queued for a subscriber
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate notifications_dispatched = 6;</code>
+   */
+  sr.grpc.gen.event.EventRateOrBuilder getNotificationsDispatchedOrBuilder();
+
+  /**
+   * <pre>
+   * Discarded by a full outbound queue
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate notifications_dropped = 7;</code>
+   * @return Whether the notificationsDropped field is set.
+   */
+  boolean hasNotificationsDropped();
+  /**
+   * <pre>
+   * Discarded by a full outbound queue
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate notifications_dropped = 7;</code>
+   * @return The notificationsDropped.
+   */
+  sr.grpc.gen.event.EventRate getNotificationsDropped();
+  /**
+   * <pre>
+   * Discarded by a full outbound queue
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate notifications_dropped = 7;</code>
+   */
+  sr.grpc.gen.event.EventRateOrBuilder getNotificationsDroppedOrBuilder();
+
+  /**
+   * <pre>
+   * Written to a subscriber stream
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate notifications_sent = 8;</code>
+   * @return Whether the notificationsSent field is set.
+   */
+  boolean hasNotificationsSent();
+  /**
+   * <pre>
+   * Written to a subscriber stream
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate notifications_sent = 8;</code>
+   * @return The notificationsSent.
+   */
+  sr.grpc.gen.event.EventRate getNotificationsSent();
+  /**
+   * <pre>
+   * Written to a subscriber stream
+   * </pre>
+   *
+   * <code>.eventsubscription.EventRate notifications_sent = 8;</code>
+   */
+  sr.grpc.gen.event.EventRateOrBuilder getNotificationsSentOrBuilder();
+
+  /**
+   * <pre>
+   * From publishing an event until it is queued for all of its subscribers
+   * </pre>
+   *
+   * <code>.eventsubscription.LatencyHistogram dispatch_latency = 9;</code>
+   * @return Whether the dispatchLatency field is set.
+   */
+  boolean hasDispatchLatency();
+  /**
+   * <pre>
+   * From publishing an event until it is queued for all of its subscribers
+   * </pre>
+   *
+   * <code>.eventsubscription.LatencyHistogram dispatch_latency = 9;</code>
+   * @return The dispatchLatency.
+   */
+  sr.grpc.gen.event.LatencyHistogram getDispatchLatency();
+  /**
+   * <pre>
+   * From publishing an event until it is queued for all of its subscribers
+   * </pre>
+   *
+   * <code>.eventsubscription.LatencyHistogram dispatch_latency = 9;</code>
+   */
+  sr.grpc.gen.event.LatencyHistogramOrBuilder getDispatchLatencyOrBuilder();
+
+  /**
+   * <pre>
+   * From publishing an event until onNext returns, per notification written
+   * </pre>
+   *
+   * <code>.eventsubscription.LatencyHistogram fan_out_latency = 10;</code>
+   * @return Whether the fanOutLatency field is set.
+   */
+  boolean hasFanOutLatency();
+  /**
+   * <pre>
+   * From publishing an event until onNext returns, per notification written
+   * </pre>
+   *
+   * <code>.eventsubscription.LatencyHistogram fan_out_latency = 10;</code>
+   * @return The fanOutLatency.
+   */
+  sr.grpc.gen.event.LatencyHistogram getFanOutLatency();
+  /**
+   * <pre>
+   * From publishing an event until onNext returns, per notification written
+   * </pre>
+   *
+   * <code>.eventsubscription.LatencyHistogram fan_out_latency = 10;</code>
+   */
+  sr.grpc.gen.event.LatencyHistogramOrBuilder getFanOutLatencyOrBuilder();
+
+  /**
+   * <pre>
+   * Oldest pending notification first, then deepest queue
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+   */
+  java.util.List<sr.grpc.gen.event.SubscriberStats> 
+      getSlowestSubscribersList();
+  /**
+   * <pre>
+   * Oldest pending notification first, then deepest queue
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+   */
+  sr.grpc.gen.event.SubscriberStats getSlowestSubscribers(int index);
+  /**
+   * <pre>
+   * Oldest pending notification first, then deepest queue
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+   */
+  int getSlowestSubscribersCount();
+  /**
+   * <pre>
+   * Oldest pending notification first, then deepest queue
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+   */
+  java.util.List<? extends sr.grpc.gen.event.SubscriberStatsOrBuilder> 
+      getSlowestSubscribersOrBuilderList();
+  /**
+   * <pre>
+   * Oldest pending notification first, then deepest queue
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats slowest_subscribers = 11;</code>
+   */
+  sr.grpc.gen.event.SubscriberStatsOrBuilder getSlowestSubscribersOrBuilder(
+      int index);
+
+  /**
+   * <pre>
+   * Every active subscription, if asked for
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+   */
+  java.util.List<sr.grpc.gen.event.SubscriberStats> 
+      getSubscribersList();
+  /**
+   * <pre>
+   * Every active subscription, if asked for
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+   */
+  sr.grpc.gen.event.SubscriberStats getSubscribers(int index);
+  /**
+   * <pre>
+   * Every active subscription, if asked for
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+   */
+  int getSubscribersCount();
+  /**
+   * <pre>
+   * Every active subscription, if asked for
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+   */
+  java.util.List<? extends sr.grpc.gen.event.SubscriberStatsOrBuilder> 
+      getSubscribersOrBuilderList();
+  /**
+   * <pre>
+   * Every active subscription, if asked for
+   * </pre>
+   *
+   * <code>repeated .eventsubscription.SubscriberStats subscribers = 12;</code>
+   */
+  sr.grpc.gen.event.SubscriberStatsOrBuilder getSubscribersOrBuilder(
+      int index);
+
+  /**
+   * <code>.eventsubscription.ProcessStats process = 13;</code>
+   * @return Whether the process field is set.
+   */
+  boolean hasProcess();
+  /**
+   * <code>.eventsubscription.ProcessStats process = 13;</code>
+   * @return The process.
+   */
+  sr.grpc.gen.event.ProcessStats getProcess();
+  /**
+   * <code>.eventsubscription.ProcessStats process = 13;</code>
+   */
+  sr.grpc.gen.event.ProcessStatsOrBuilder getProcessOrBuilder();
+
+  /**
+   * <pre>
+   * Part of fan_out_latency for HIGH notifications only
+   * </pre>
+   *
+   * <code>.eventsubscription.LatencyHistogram high_priority_fan_out_latency = 14;</code>
+   * @return Whether the highPriorityFanOutLatency field is set.
+   */
+  boolean hasHighPriorityFanOutLatency();
+  /**
+   * <pre>
+   * Part of fan_out_latency for HIGH notifications only
+   * </pre>
+   *
+   * <code>.eventsubscription.LatencyHistogram high_priority_fan_out_latency = 14;</code>
+   * @return The highPriorityFanOutLatency.
+   */
+  sr.grpc.gen.event.LatencyHistogram getHighPriorityFanOutLatency();
+  /**
+   * <pre>
+   * Part of fan_out_latency for HIGH notifications only
+   * </pre>
+   *
+   * <code>.eventsubscription.LatencyHistogram high_priority_fan_out_latency = 14;</code>
+   */
+  sr.grpc.gen.event.LatencyHistogramOrBuilder getHighPriorityFanOutLatencyOrBuilder();
+
+  /**
+   * <code>.eventsubscription.LatencyObjective high_priority_objective = 15;</code>
+   * @return Whether the highPriorityObjective field is set.
+   */
+  boolean hasHighPriorityObjective();
+  /**
+   * <code>.eventsubscription.LatencyObjective high_priority_objective = 15;</code>
+   * @return The highPriorityObjective.
+   */
+  sr.grpc.gen.event.LatencyObjective getHighPriorityObjective();
+  /**
+   * <code>.eventsubscription.LatencyObjective high_priority_objective = 15;</code>
+   */
+  sr.grpc.gen.event.LatencyObjectiveOrBuilder getHighPriorityObjectiveOrBuilder();
+}
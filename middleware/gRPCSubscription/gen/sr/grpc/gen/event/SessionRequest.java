@@ -0,0 +1,913 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * <pre>
+ * Control message sent by the client on a SubscriptionSession stream.
+ * </pre>
+ *
+ * Protobuf type {@code eventsubscription.SessionRequest}
+ */
+public final class SessionRequest extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.SessionRequest)
+    SessionRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      SessionRequest.class.getName());
+  }
+  // Use SessionRequest.newBuilder() to construct.
+  private SessionRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private SessionRequest() {
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_SessionRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_SessionRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.SessionRequest.class, sr.grpc.gen.event.SessionRequest.Builder.class);
+  }
+
+  private int commandCase_ = 0;
+  @SuppressWarnings("serial")
+  private java.lang.Object command_;
+  public enum CommandCase
+      implements com.google.protobuf.Internal.EnumLite,
+          com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+    ADD_SUBSCRIPTION(1),
+    REMOVE_SUBSCRIPTION_ID(2),
+    COMMAND_NOT_SET(0);
+    private final int value;
+    private CommandCase(int value) {
+      this.value = value;
+    }
+    /**
+     * @param value The number of the enum to look for.
+     * @return The enum associated with the given number.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static CommandCase valueOf(int value) {
+      return forNumber(value);
+    }
+
+    public static CommandCase forNumber(int value) {
+      switch (value) {
+        case 1: return ADD_SUBSCRIPTION;
+        case 2: return REMOVE_SUBSCRIPTION_ID;
+        case 0: return COMMAND_NOT_SET;
+        default: return null;
+      }
+    }
+    public int getNumber() {
+      return this.value;
+    }
+  };
+
+  public CommandCase
+  getCommandCase() {
+    return CommandCase.forNumber(
+        commandCase_);
+  }
+
+  public static final int ADD_SUBSCRIPTION_FIELD_NUMBER = 1;
+  /**
+   * <pre>
+   * Start a subscription; notifications arrive on this session
+   * </pre>
+   *
+   * <code>.eventsubscription.SubscriptionRequest add_subscription = 1;</code>
+   * @return Whether the addSubscription field is set.
+   */
+  @java.lang.Override
+  public boolean hasAddSubscription() {
+    return commandCase_ == 1;
+  }
+  /**
+   * <pre>
+   * Start a subscription; notifications arrive on this session
+   * </pre>
+   *
+   * <code>.eventsubscription.SubscriptionRequest add_subscription = 1;</code>
+   * @return The addSubscription.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.SubscriptionRequest getAddSubscription() {
+    if (commandCase_ == 1) {
+       return (sr.grpc.gen.event.SubscriptionRequest) command_;
+    }
+    return sr.grpc.gen.event.SubscriptionRequest.getDefaultInstance();
+  }
+  /**
+   * <pre>
+   * Start a subscription; notifications arrive on this session
+   * </pre>
+   *
+   * <code>.eventsubscription.SubscriptionRequest add_subscription = 1;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.SubscriptionRequestOrBuilder getAddSubscriptionOrBuilder() {
+    if (commandCase_ == 1) {
+       return (sr.grpc.gen.event.SubscriptionRequest) command_;
+    }
+    return sr.grpc.gen.event.SubscriptionRequest.getDefaultInstance();
+  }
+
+  public static final int REMOVE_SUBSCRIPTION_ID_FIELD_NUMBER = 2;
+  /**
+   * <pre>
+   * client_subscription_id of a subscription of this session to cancel
+   * </pre>
+   *
+   * <code>string remove_subscription_id = 2;</code>
+   * @return Whether the removeSubscriptionId field is set.
+   */
+  public boolean hasRemoveSubscriptionId() {
+    return commandCase_ == 2;
+  }
+  /**
+   * <pre>
+   * client_subscription_id of a subscription of this session to cancel
+   * </pre>
+   *
+   * <code>string remove_subscription_id = 2;</code>
+   * @return The removeSubscriptionId.
+   */
+  public java.lang.String getRemoveSubscriptionId() {
+    java.lang.Object ref = "";
+    if (commandCase_ == 2) {
+      ref = command_;
+    }
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (commandCase_ == 2) {
+        command_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * client_subscription_id of a subscription of this session to cancel
+   * </pre>
+   *
+   * <code>string remove_subscription_id = 2;</code>
+   * @return The bytes for removeSubscriptionId.
+   */
+  public com.google.protobuf.ByteString
+      getRemoveSubscriptionIdBytes() {
+    java.lang.Object ref = "";
+    if (commandCase_ == 2) {
+      ref = command_;
+    }
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      if (commandCase_ == 2) {
+        command_ = b;
+      }
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (commandCase_ == 1) {
+      output.writeMessage(1, (sr.grpc.gen.event.SubscriptionRequest) command_);
+    }
+    if (commandCase_ == 2) {
+      com.google.protobuf.GeneratedMessage.writeString(output, 2, command_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (commandCase_ == 1) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, (sr.grpc.gen.event.SubscriptionRequest) command_);
+    }
+    if (commandCase_ == 2) {
+      size += com.google.protobuf.GeneratedMessage.computeStringSize(2, command_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.SessionRequest)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.SessionRequest other = (sr.grpc.gen.event.SessionRequest) obj;
+
+    if (!getCommandCase().equals(other.getCommandCase())) return false;
+    switch (commandCase_) {
+      case 1:
+        if (!getAddSubscription()
+            .equals(other.getAddSubscription())) return false;
+        break;
+      case 2:
+        if (!getRemoveSubscriptionId()
+            .equals(other.getRemoveSubscriptionId())) return false;
+        break;
+      case 0:
+      default:
+    }
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    switch (commandCase_) {
+      case 1:
+        hash = (37 * hash) + ADD_SUBSCRIPTION_FIELD_NUMBER;
+        hash = (53 * hash) + getAddSubscription().hashCode();
+        break;
+      case 2:
+        hash = (37 * hash) + REMOVE_SUBSCRIPTION_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getRemoveSubscriptionId().hashCode();
+        break;
+      case 0:
+      default:
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.SessionRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.SessionRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.SessionRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.SessionRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.SessionRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.SessionRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.SessionRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.SessionRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.SessionRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.SessionRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.SessionRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.SessionRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.SessionRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Control message sent by the client on a SubscriptionSession stream.
+   * </pre>
+   *
+   * Protobuf type {@code eventsubscription.SessionRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.SessionRequest)
+      sr.grpc.gen.event.SessionRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_SessionRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_SessionRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.SessionRequest.class, sr.grpc.gen.event.SessionRequest.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.SessionRequest.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      if (addSubscriptionBuilder_ != null) {
+        addSubscriptionBuilder_.clear();
+      }
+      commandCase_ = 0;
+      command_ = null;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_SessionRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.SessionRequest getDefaultInstanceForType() {
+      return sr.grpc.gen.event.SessionRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.SessionRequest build() {
+      sr.grpc.gen.event.SessionRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.SessionRequest buildPartial() {
+      sr.grpc.gen.event.SessionRequest result = new sr.grpc.gen.event.SessionRequest(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      buildPartialOneofs(result);
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.SessionRequest result) {
+      int from_bitField0_ = bitField0_;
+    }
+
+    private void buildPartialOneofs(sr.grpc.gen.event.SessionRequest result) {
+      result.commandCase_ = commandCase_;
+      result.command_ = this.command_;
+      if (commandCase_ == 1 &&
+          addSubscriptionBuilder_ != null) {
+        result.command_ = addSubscriptionBuilder_.build();
+      }
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.SessionRequest) {
+        return mergeFrom((sr.grpc.gen.event.SessionRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.SessionRequest other) {
+      if (other == sr.grpc.gen.event.SessionRequest.getDefaultInstance()) return this;
+      switch (other.getCommandCase()) {
+        case ADD_SUBSCRIPTION: {
+          mergeAddSubscription(other.getAddSubscription());
+          break;
+        }
+        case REMOVE_SUBSCRIPTION_ID: {
+          commandCase_ = 2;
+          command_ = other.command_;
+          onChanged();
+          break;
+        }
+        case COMMAND_NOT_SET: {
+          break;
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              input.readMessage(
+                  internalGetAddSubscriptionFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              commandCase_ = 1;
+              break;
+            } // case 10
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+              commandCase_ = 2;
+              command_ = s;
+              break;
+            } // case 18
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int commandCase_ = 0;
+    private java.lang.Object command_;
+    public CommandCase
+        getCommandCase() {
+      return CommandCase.forNumber(
+          commandCase_);
+    }
+
+    public Builder clearCommand() {
+      commandCase_ = 0;
+      command_ = null;
+      onChanged();
+      return this;
+    }
+
+    private int bitField0_;
+
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.SubscriptionRequest, sr.grpc.gen.event.SubscriptionRequest.Builder, sr.grpc.gen.event.SubscriptionRequestOrBuilder> addSubscriptionBuilder_;
+    /**
+     * <pre>
+     * Start a subscription; notifications arrive on this session
+     * </pre>
+     *
+     * <code>.eventsubscription.SubscriptionRequest add_subscription = 1;</code>
+     * @return Whether the addSubscription field is set.
+     */
+    @java.lang.Override
+    public boolean hasAddSubscription() {
+      return commandCase_ == 1;
+    }
+    /**
+     * <pre>
+     * Start a subscription; notifications arrive on this session
+     * </pre>
+     *
+     * <code>.eventsubscription.SubscriptionRequest add_subscription = 1;</code>
+     * @return The addSubscription.
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.SubscriptionRequest getAddSubscription() {
+      if (addSubscriptionBuilder_ == null) {
+        if (commandCase_ == 1) {
+          return (sr.grpc.gen.event.SubscriptionRequest) command_;
+        }
+        return sr.grpc.gen.event.SubscriptionRequest.getDefaultInstance();
+      } else {
+        if (commandCase_ == 1) {
+          return addSubscriptionBuilder_.getMessage();
+        }
+        return sr.grpc.gen.event.SubscriptionRequest.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * Start a subscription; notifications arrive on this session
+     * </pre>
+     *
+     * <code>.eventsubscription.SubscriptionRequest add_subscription = 1;</code>
+     */
+    public Builder setAddSubscription(sr.grpc.gen.event.SubscriptionRequest value) {
+      if (addSubscriptionBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        command_ = value;
+        onChanged();
+      } else {
+        addSubscriptionBuilder_.setMessage(value);
+      }
+      commandCase_ = 1;
+      return this;
+    }
+    /**
+     * <pre>
+     * Start a subscription; notifications arrive on this session
+     * </pre>
+     *
+     * <code>.eventsubscription.SubscriptionRequest add_subscription = 1;</code>
+     */
+    public Builder setAddSubscription(
+        sr.grpc.gen.event.SubscriptionRequest.Builder builderForValue) {
+      if (addSubscriptionBuilder_ == null) {
+        command_ = builderForValue.build();
+        onChanged();
+      } else {
+        addSubscriptionBuilder_.setMessage(builderForValue.build());
+      }
+      commandCase_ = 1;
+      return this;
+    }
+    /**
+     * <pre>
+     * Start a subscription; notifications arrive on this session
+     * </pre>
+     *
+     * <code>.eventsubscription.SubscriptionRequest add_subscription = 1;</code>
+     */
+    public Builder mergeAddSubscription(sr.grpc.gen.event.SubscriptionRequest value) {
+      if (addSubscriptionBuilder_ == null) {
+        if (commandCase_ == 1 &&
+            command_ != sr.grpc.gen.event.SubscriptionRequest.getDefaultInstance()) {
+          command_ = sr.grpc.gen.event.SubscriptionRequest.newBuilder((sr.grpc.gen.event.SubscriptionRequest) command_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          command_ = value;
+        }
+        onChanged();
+      } else {
+        if (commandCase_ == 1) {
+          addSubscriptionBuilder_.mergeFrom(value);
+        } else {
+          addSubscriptionBuilder_.setMessage(value);
+        }
+      }
+      commandCase_ = 1;
+      return this;
+    }
+    /**
+     * <pre>
+     * Start a subscription; notifications arrive on this session
+     * </pre>
+     *
+     * <code>.eventsubscription.SubscriptionRequest add_subscription = 1;</code>
+     */
+    public Builder clearAddSubscription() {
+      if (addSubscriptionBuilder_ == null) {
+        if (commandCase_ == 1) {
+          commandCase_ = 0;
+          command_ = null;
+          onChanged();
+        }
+      } else {
+        if (commandCase_ == 1) {
+          commandCase_ = 0;
+          command_ = null;
+        }
+        addSubscriptionBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Start a subscription; notifications arrive on this session
+     * </pre>
+     *
+     * <code>.eventsubscription.SubscriptionRequest add_subscription = 1;</code>
+     */
+    public sr.grpc.gen.event.SubscriptionRequest.Builder getAddSubscriptionBuilder() {
+      return internalGetAddSubscriptionFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * Start a subscription; notifications arrive on this session
+     * </pre>
+     *
+     * <code>.eventsubscription.SubscriptionRequest add_subscription = 1;</code>
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.SubscriptionRequestOrBuilder getAddSubscriptionOrBuilder() {
+      if ((commandCase_ == 1) && (addSubscriptionBuilder_ != null)) {
+        return addSubscriptionBuilder_.getMessageOrBuilder();
+      } else {
+        if (commandCase_ == 1) {
+          return (sr.grpc.gen.event.SubscriptionRequest) command_;
+        }
+        return sr.grpc.gen.event.SubscriptionRequest.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * Start a subscription; notifications arrive on this session
+     * </pre>
+     *
+     * <code>.eventsubscription.SubscriptionRequest add_subscription = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.SubscriptionRequest, sr.grpc.gen.event.SubscriptionRequest.Builder, sr.grpc.gen.event.SubscriptionRequestOrBuilder> 
+        internalGetAddSubscriptionFieldBuilder() {
+      if (addSubscriptionBuilder_ == null) {
+        if (!(commandCase_ == 1)) {
+          command_ = sr.grpc.gen.event.SubscriptionRequest.getDefaultInstance();
+        }
+        addSubscriptionBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.SubscriptionRequest, sr.grpc.gen.event.SubscriptionRequest.Builder, sr.grpc.gen.event.SubscriptionRequestOrBuilder>(
+                (sr.grpc.gen.event.SubscriptionRequest) command_,
+                getParentForChildren(),
+                isClean());
+        command_ = null;
+      }
+      commandCase_ = 1;
+      onChanged();
+      return addSubscriptionBuilder_;
+    }
+
+    /**
+     * <pre>
+     * client_subscription_id of a subscription of this session to cancel
+     * </pre>
+     *
+     * <code>string remove_subscription_id = 2;</code>
+     * @return Whether the removeSubscriptionId field is set.
+     */
+    @java.lang.Override
+    public boolean hasRemoveSubscriptionId() {
+      return commandCase_ == 2;
+    }
+    /**
+     * <pre>
+     * client_subscription_id of a subscription of this session to cancel
+     * </pre>
+     *
+     * <code>string remove_subscription_id = 2;</code>
+     * @return The removeSubscriptionId.
+     */
+    @java.lang.Override
+    public java.lang.String getRemoveSubscriptionId() {
+      java.lang.Object ref = "";
+      if (commandCase_ == 2) {
+        ref = command_;
+      }
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (commandCase_ == 2) {
+          command_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * client_subscription_id of a subscription of this session to cancel
+     * </pre>
+     *
+     * <code>string remove_subscription_id = 2;</code>
+     * @return The bytes for removeSubscriptionId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getRemoveSubscriptionIdBytes() {
+      java.lang.Object ref = "";
+      if (commandCase_ == 2) {
+        ref = command_;
+      }
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        if (commandCase_ == 2) {
+          command_ = b;
+        }
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * client_subscription_id of a subscription of this session to cancel
+     * </pre>
+     *
+     * <code>string remove_subscription_id = 2;</code>
+     * @param value The removeSubscriptionId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRemoveSubscriptionId(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      commandCase_ = 2;
+      command_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * client_subscription_id of a subscription of this session to cancel
+     * </pre>
+     *
+     * <code>string remove_subscription_id = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRemoveSubscriptionId() {
+      if (commandCase_ == 2) {
+        commandCase_ = 0;
+        command_ = null;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * client_subscription_id of a subscription of this session to cancel
+     * </pre>
+     *
+     * <code>string remove_subscription_id = 2;</code>
+     * @param value The bytes for removeSubscriptionId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRemoveSubscriptionIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      commandCase_ = 2;
+      command_ = value;
+      onChanged();
+      return this;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.SessionRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.SessionRequest)
+  private static final sr.grpc.gen.event.SessionRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.SessionRequest();
+  }
+
+  public static sr.grpc.gen.event.SessionRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<SessionRequest>
+      PARSER = new com.google.protobuf.AbstractParser<SessionRequest>() {
+    @java.lang.Override
+    public SessionRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<SessionRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SessionRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.SessionRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
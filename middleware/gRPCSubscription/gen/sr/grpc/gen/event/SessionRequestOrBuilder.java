@@ -0,0 +1,69 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface SessionRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.SessionRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * Start a subscription; notifications arrive on this session
+   * </pre>
+   *
+   * <code>.eventsubscription.SubscriptionRequest add_subscription = 1;</code>
+   * @return Whether the addSubscription field is set.
+   */
+  boolean hasAddSubscription();
+  /**
+   * <pre>
+   * Start a subscription; notifications arrive on this session
+   * </pre>
+   *
+   * <code>.eventsubscription.SubscriptionRequest add_subscription = 1;</code>
+   * @return The addSubscription.
+   */
+  sr.grpc.gen.event.SubscriptionRequest getAddSubscription();
+  /**
+   * <pre>
+   * Start a subscription; notifications arrive on this session
+   * </pre>
+   *
+   * <code>.eventsubscription.SubscriptionRequest add_subscription = 1;</code>
+   */
+  sr.grpc.gen.event.SubscriptionRequestOrBuilder getAddSubscriptionOrBuilder();
+
+  /**
+   * <pre>
+   * client_subscription_id of a subscription of this session to cancel
+   * </pre>
+   *
+   * <code>string remove_subscription_id = 2;</code>
+   * @return Whether the removeSubscriptionId field is set.
+   */
+  boolean hasRemoveSubscriptionId();
+  /**
+   * <pre>
+   * client_subscription_id of a subscription of this session to cancel
+   * </pre>
+   *
+   * <code>string remove_subscription_id = 2;</code>
+   * @return The removeSubscriptionId.
+   */
+  java.lang.String getRemoveSubscriptionId();
+  /**
+   * <pre>
+   * client_subscription_id of a subscription of this session to cancel
+   * </pre>
+   *
+   * <code>string remove_subscription_id = 2;</code>
+   * @return The bytes for removeSubscriptionId.
+   */
+  com.google.protobuf.ByteString
+      getRemoveSubscriptionIdBytes();
+
+  sr.grpc.gen.event.SessionRequest.CommandCase getCommandCase();
+}
@@ -0,0 +1,912 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * <pre>
+ * Message sent by the server on a SubscriptionSession stream.
+ * </pre>
+ *
+ * Protobuf type {@code eventsubscription.SessionResponse}
+ */
+public final class SessionResponse extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.SessionResponse)
+    SessionResponseOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      SessionResponse.class.getName());
+  }
+  // Use SessionResponse.newBuilder() to construct.
+  private SessionResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private SessionResponse() {
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_SessionResponse_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_SessionResponse_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.SessionResponse.class, sr.grpc.gen.event.SessionResponse.Builder.class);
+  }
+
+  private int messageCase_ = 0;
+  @SuppressWarnings("serial")
+  private java.lang.Object message_;
+  public enum MessageCase
+      implements com.google.protobuf.Internal.EnumLite,
+          com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+    NOTIFICATION(1),
+    ACK(2),
+    MESSAGE_NOT_SET(0);
+    private final int value;
+    private MessageCase(int value) {
+      this.value = value;
+    }
+    /**
+     * @param value The number of the enum to look for.
+     * @return The enum associated with the given number.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static MessageCase valueOf(int value) {
+      return forNumber(value);
+    }
+
+    public static MessageCase forNumber(int value) {
+      switch (value) {
+        case 1: return NOTIFICATION;
+        case 2: return ACK;
+        case 0: return MESSAGE_NOT_SET;
+        default: return null;
+      }
+    }
+    public int getNumber() {
+      return this.value;
+    }
+  };
+
+  public MessageCase
+  getMessageCase() {
+    return MessageCase.forNumber(
+        messageCase_);
+  }
+
+  public static final int NOTIFICATION_FIELD_NUMBER = 1;
+  /**
+   * <pre>
+   * client_subscription_id tells which subscription it belongs to
+   * </pre>
+   *
+   * <code>.eventsubscription.EventNotification notification = 1;</code>
+   * @return Whether the notification field is set.
+   */
+  @java.lang.Override
+  public boolean hasNotification() {
+    return messageCase_ == 1;
+  }
+  /**
+   * <pre>
+   * client_subscription_id tells which subscription it belongs to
+   * </pre>
+   *
+   * <code>.eventsubscription.EventNotification notification = 1;</code>
+   * @return The notification.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.EventNotification getNotification() {
+    if (messageCase_ == 1) {
+       return (sr.grpc.gen.event.EventNotification) message_;
+    }
+    return sr.grpc.gen.event.EventNotification.getDefaultInstance();
+  }
+  /**
+   * <pre>
+   * client_subscription_id tells which subscription it belongs to
+   * </pre>
+   *
+   * <code>.eventsubscription.EventNotification notification = 1;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.EventNotificationOrBuilder getNotificationOrBuilder() {
+    if (messageCase_ == 1) {
+       return (sr.grpc.gen.event.EventNotification) message_;
+    }
+    return sr.grpc.gen.event.EventNotification.getDefaultInstance();
+  }
+
+  public static final int ACK_FIELD_NUMBER = 2;
+  /**
+   * <code>.eventsubscription.ControlAck ack = 2;</code>
+   * @return Whether the ack field is set.
+   */
+  @java.lang.Override
+  public boolean hasAck() {
+    return messageCase_ == 2;
+  }
+  /**
+   * <code>.eventsubscription.ControlAck ack = 2;</code>
+   * @return The ack.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.ControlAck getAck() {
+    if (messageCase_ == 2) {
+       return (sr.grpc.gen.event.ControlAck) message_;
+    }
+    return sr.grpc.gen.event.ControlAck.getDefaultInstance();
+  }
+  /**
+   * <code>.eventsubscription.ControlAck ack = 2;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.ControlAckOrBuilder getAckOrBuilder() {
+    if (messageCase_ == 2) {
+       return (sr.grpc.gen.event.ControlAck) message_;
+    }
+    return sr.grpc.gen.event.ControlAck.getDefaultInstance();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (messageCase_ == 1) {
+      output.writeMessage(1, (sr.grpc.gen.event.EventNotification) message_);
+    }
+    if (messageCase_ == 2) {
+      output.writeMessage(2, (sr.grpc.gen.event.ControlAck) message_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (messageCase_ == 1) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, (sr.grpc.gen.event.EventNotification) message_);
+    }
+    if (messageCase_ == 2) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, (sr.grpc.gen.event.ControlAck) message_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.SessionResponse)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.SessionResponse other = (sr.grpc.gen.event.SessionResponse) obj;
+
+    if (!getMessageCase().equals(other.getMessageCase())) return false;
+    switch (messageCase_) {
+      case 1:
+        if (!getNotification()
+            .equals(other.getNotification())) return false;
+        break;
+      case 2:
+        if (!getAck()
+            .equals(other.getAck())) return false;
+        break;
+      case 0:
+      default:
+    }
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    switch (messageCase_) {
+      case 1:
+        hash = (37 * hash) + NOTIFICATION_FIELD_NUMBER;
+        hash = (53 * hash) + getNotification().hashCode();
+        break;
+      case 2:
+        hash = (37 * hash) + ACK_FIELD_NUMBER;
+        hash = (53 * hash) + getAck().hashCode();
+        break;
+      case 0:
+      default:
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.SessionResponse parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.SessionResponse parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.SessionResponse parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.SessionResponse parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.SessionResponse parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.SessionResponse parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.SessionResponse parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.SessionResponse parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.SessionResponse parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.SessionResponse parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.SessionResponse parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.SessionResponse parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.SessionResponse prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Message sent by the server on a SubscriptionSession stream.
+   * </pre>
+   *
+   * Protobuf type {@code eventsubscription.SessionResponse}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.SessionResponse)
+      sr.grpc.gen.event.SessionResponseOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_SessionResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_SessionResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.SessionResponse.class, sr.grpc.gen.event.SessionResponse.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.SessionResponse.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      if (notificationBuilder_ != null) {
+        notificationBuilder_.clear();
+      }
+      if (ackBuilder_ != null) {
+        ackBuilder_.clear();
+      }
+      messageCase_ = 0;
+      message_ = null;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_SessionResponse_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.SessionResponse getDefaultInstanceForType() {
+      return sr.grpc.gen.event.SessionResponse.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.SessionResponse build() {
+      sr.grpc.gen.event.SessionResponse result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.SessionResponse buildPartial() {
+      sr.grpc.gen.event.SessionResponse result = new sr.grpc.gen.event.SessionResponse(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      buildPartialOneofs(result);
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.SessionResponse result) {
+      int from_bitField0_ = bitField0_;
+    }
+
+    private void buildPartialOneofs(sr.grpc.gen.event.SessionResponse result) {
+      result.messageCase_ = messageCase_;
+      result.message_ = this.message_;
+      if (messageCase_ == 1 &&
+          notificationBuilder_ != null) {
+        result.message_ = notificationBuilder_.build();
+      }
+      if (messageCase_ == 2 &&
+          ackBuilder_ != null) {
+        result.message_ = ackBuilder_.build();
+      }
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.SessionResponse) {
+        return mergeFrom((sr.grpc.gen.event.SessionResponse)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.SessionResponse other) {
+      if (other == sr.grpc.gen.event.SessionResponse.getDefaultInstance()) return this;
+      switch (other.getMessageCase()) {
+        case NOTIFICATION: {
+          mergeNotification(other.getNotification());
+          break;
+        }
+        case ACK: {
+          mergeAck(other.getAck());
+          break;
+        }
+        case MESSAGE_NOT_SET: {
+          break;
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              input.readMessage(
+                  internalGetNotificationFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              messageCase_ = 1;
+              break;
+            } // case 10
+            case 18: {
+              input.readMessage(
+                  internalGetAckFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              messageCase_ = 2;
+              break;
+            } // case 18
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int messageCase_ = 0;
+    private java.lang.Object message_;
+    public MessageCase
+        getMessageCase() {
+      return MessageCase.forNumber(
+          messageCase_);
+    }
+
+    public Builder clearMessage() {
+      messageCase_ = 0;
+      message_ = null;
+      onChanged();
+      return this;
+    }
+
+    private int bitField0_;
+
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.EventNotification, sr.grpc.gen.event.EventNotification.Builder, sr.grpc.gen.event.EventNotificationOrBuilder> notificationBuilder_;
+    /**
+     * <pre>
+     * client_subscription_id tells which subscription it belongs to
+     * </pre>
+     *
+     * <code>.eventsubscription.EventNotification notification = 1;</code>
+     * @return Whether the notification field is set.
+     */
+    @java.lang.Override
+    public boolean hasNotification() {
+      return messageCase_ == 1;
+    }
+    /**
+     * <pre>
+     * client_subscription_id tells which subscription it belongs to
+     * </pre>
+     *
+     * <code>.eventsubscription.EventNotification notification = 1;</code>
+     * @return The notification.
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.EventNotification getNotification() {
+      if (notificationBuilder_ == null) {
+        if (messageCase_ == 1) {
+          return (sr.grpc.gen.event.EventNotification) message_;
+        }
+        return sr.grpc.gen.event.EventNotification.getDefaultInstance();
+      } else {
+        if (messageCase_ == 1) {
+          return notificationBuilder_.getMessage();
+        }
+        return sr.grpc.gen.event.EventNotification.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * client_subscription_id tells which subscription it belongs to
+     * </pre>
+     *
+     * <code>.eventsubscription.EventNotification notification = 1;</code>
+     */
+    public Builder setNotification(sr.grpc.gen.event.EventNotification value) {
+      if (notificationBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        message_ = value;
+        onChanged();
+      } else {
+        notificationBuilder_.setMessage(value);
+      }
+      messageCase_ = 1;
+      return this;
+    }
+    /**
+     * <pre>
+     * client_subscription_id tells which subscription it belongs to
+     * </pre>
+     *
+     * <code>.eventsubscription.EventNotification notification = 1;</code>
+     */
+    public Builder setNotification(
+        sr.grpc.gen.event.EventNotification.Builder builderForValue) {
+      if (notificationBuilder_ == null) {
+        message_ = builderForValue.build();
+        onChanged();
+      } else {
+        notificationBuilder_.setMessage(builderForValue.build());
+      }
+      messageCase_ = 1;
+      return this;
+    }
+    /**
+     * <pre>
+     * client_subscription_id tells which subscription it belongs to
+     * </pre>
+     *
+     * <code>.eventsubscription.EventNotification notification = 1;</code>
+     */
+    public Builder mergeNotification(sr.grpc.gen.event.EventNotification value) {
+      if (notificationBuilder_ == null) {
+        if (messageCase_ == 1 &&
+            message_ != sr.grpc.gen.event.EventNotification.getDefaultInstance()) {
+          message_ = sr.grpc.gen.event.EventNotification.newBuilder((sr.grpc.gen.event.EventNotification) message_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          message_ = value;
+        }
+        onChanged();
+      } else {
+        if (messageCase_ == 1) {
+          notificationBuilder_.mergeFrom(value);
+        } else {
+          notificationBuilder_.setMessage(value);
+        }
+      }
+      messageCase_ = 1;
+      return this;
+    }
+    /**
+     * <pre>
+     * client_subscription_id tells which subscription it belongs to
+     * </pre>
+     *
+     * <code>.eventsubscription.EventNotification notification = 1;</code>
+     */
+    public Builder clearNotification() {
+      if (notificationBuilder_ == null) {
+        if (messageCase_ == 1) {
+          messageCase_ = 0;
+          message_ = null;
+          onChanged();
+        }
+      } else {
+        if (messageCase_ == 1) {
+          messageCase_ = 0;
+          message_ = null;
+        }
+        notificationBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * client_subscription_id tells which subscription it belongs to
+     * </pre>
+     *
+     * <code>.eventsubscription.EventNotification notification = 1;</code>
+     */
+    public sr.grpc.gen.event.EventNotification.Builder getNotificationBuilder() {
+      return internalGetNotificationFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * client_subscription_id tells which subscription it belongs to
+     * </pre>
+     *
+     * <code>.eventsubscription.EventNotification notification = 1;</code>
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.EventNotificationOrBuilder getNotificationOrBuilder() {
+      if ((messageCase_ == 1) && (notificationBuilder_ != null)) {
+        return notificationBuilder_.getMessageOrBuilder();
+      } else {
+        if (messageCase_ == 1) {
+          return (sr.grpc.gen.event.EventNotification) message_;
+        }
+        return sr.grpc.gen.event.EventNotification.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * client_subscription_id tells which subscription it belongs to
+     * </pre>
+     *
+     * <code>.eventsubscription.EventNotification notification = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.EventNotification, sr.grpc.gen.event.EventNotification.Builder, sr.grpc.gen.event.EventNotificationOrBuilder> 
+        internalGetNotificationFieldBuilder() {
+      if (notificationBuilder_ == null) {
+        if (!(messageCase_ == 1)) {
+          message_ = sr.grpc.gen.event.EventNotification.getDefaultInstance();
+        }
+        notificationBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.EventNotification, sr.grpc.gen.event.EventNotification.Builder, sr.grpc.gen.event.EventNotificationOrBuilder>(
+                (sr.grpc.gen.event.EventNotification) message_,
+                getParentForChildren(),
+                isClean());
+        message_ = null;
+      }
+      messageCase_ = 1;
+      onChanged();
+      return notificationBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.ControlAck, sr.grpc.gen.event.ControlAck.Builder, sr.grpc.gen.event.ControlAckOrBuilder> ackBuilder_;
+    /**
+     * <code>.eventsubscription.ControlAck ack = 2;</code>
+     * @return Whether the ack field is set.
+     */
+    @java.lang.Override
+    public boolean hasAck() {
+      return messageCase_ == 2;
+    }
+    /**
+     * <code>.eventsubscription.ControlAck ack = 2;</code>
+     * @return The ack.
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.ControlAck getAck() {
+      if (ackBuilder_ == null) {
+        if (messageCase_ == 2) {
+          return (sr.grpc.gen.event.ControlAck) message_;
+        }
+        return sr.grpc.gen.event.ControlAck.getDefaultInstance();
+      } else {
+        if (messageCase_ == 2) {
+          return ackBuilder_.getMessage();
+        }
+        return sr.grpc.gen.event.ControlAck.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.eventsubscription.ControlAck ack = 2;</code>
+     */
+    public Builder setAck(sr.grpc.gen.event.ControlAck value) {
+      if (ackBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        message_ = value;
+        onChanged();
+      } else {
+        ackBuilder_.setMessage(value);
+      }
+      messageCase_ = 2;
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.ControlAck ack = 2;</code>
+     */
+    public Builder setAck(
+        sr.grpc.gen.event.ControlAck.Builder builderForValue) {
+      if (ackBuilder_ == null) {
+        message_ = builderForValue.build();
+        onChanged();
+      } else {
+        ackBuilder_.setMessage(builderForValue.build());
+      }
+      messageCase_ = 2;
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.ControlAck ack = 2;</code>
+     */
+    public Builder mergeAck(sr.grpc.gen.event.ControlAck value) {
+      if (ackBuilder_ == null) {
+        if (messageCase_ == 2 &&
+            message_ != sr.grpc.gen.event.ControlAck.getDefaultInstance()) {
+          message_ = sr.grpc.gen.event.ControlAck.newBuilder((sr.grpc.gen.event.ControlAck) message_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          message_ = value;
+        }
+        onChanged();
+      } else {
+        if (messageCase_ == 2) {
+          ackBuilder_.mergeFrom(value);
+        } else {
+          ackBuilder_.setMessage(value);
+        }
+      }
+      messageCase_ = 2;
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.ControlAck ack = 2;</code>
+     */
+    public Builder clearAck() {
+      if (ackBuilder_ == null) {
+        if (messageCase_ == 2) {
+          messageCase_ = 0;
+          message_ = null;
+          onChanged();
+        }
+      } else {
+        if (messageCase_ == 2) {
+          messageCase_ = 0;
+          message_ = null;
+        }
+        ackBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.ControlAck ack = 2;</code>
+     */
+    public sr.grpc.gen.event.ControlAck.Builder getAckBuilder() {
+      return internalGetAckFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.eventsubscription.ControlAck ack = 2;</code>
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.ControlAckOrBuilder getAckOrBuilder() {
+      if ((messageCase_ == 2) && (ackBuilder_ != null)) {
+        return ackBuilder_.getMessageOrBuilder();
+      } else {
+        if (messageCase_ == 2) {
+          return (sr.grpc.gen.event.ControlAck) message_;
+        }
+        return sr.grpc.gen.event.ControlAck.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.eventsubscription.ControlAck ack = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.ControlAck, sr.grpc.gen.event.ControlAck.Builder, sr.grpc.gen.event.ControlAckOrBuilder> 
+        internalGetAckFieldBuilder() {
+      if (ackBuilder_ == null) {
+        if (!(messageCase_ == 2)) {
+          message_ = sr.grpc.gen.event.ControlAck.getDefaultInstance();
+        }
+        ackBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.ControlAck, sr.grpc.gen.event.ControlAck.Builder, sr.grpc.gen.event.ControlAckOrBuilder>(
+                (sr.grpc.gen.event.ControlAck) message_,
+                getParentForChildren(),
+                isClean());
+        message_ = null;
+      }
+      messageCase_ = 2;
+      onChanged();
+      return ackBuilder_;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.SessionResponse)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.SessionResponse)
+  private static final sr.grpc.gen.event.SessionResponse DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.SessionResponse();
+  }
+
+  public static sr.grpc.gen.event.SessionResponse getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<SessionResponse>
+      PARSER = new com.google.protobuf.AbstractParser<SessionResponse>() {
+    @java.lang.Override
+    public SessionResponse parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<SessionResponse> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SessionResponse> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.SessionResponse getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,55 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface SessionResponseOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.SessionResponse)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * client_subscription_id tells which subscription it belongs to
+   * </pre>
+   *
+   * <code>.eventsubscription.EventNotification notification = 1;</code>
+   * @return Whether the notification field is set.
+   */
+  boolean hasNotification();
+  /**
+   * <pre>
+   * client_subscription_id tells which subscription it belongs to
+   * </pre>
+   *
+   * <code>.eventsubscription.EventNotification notification = 1;</code>
+   * @return The notification.
+   */
+  sr.grpc.gen.event.EventNotification getNotification();
+  /**
+   * <pre>
+   * client_subscription_id tells which subscription it belongs to
+   * </pre>
+   *
+   * <code>.eventsubscription.EventNotification notification = 1;</code>
+   */
+  sr.grpc.gen.event.EventNotificationOrBuilder getNotificationOrBuilder();
+
+  /**
+   * <code>.eventsubscription.ControlAck ack = 2;</code>
+   * @return Whether the ack field is set.
+   */
+  boolean hasAck();
+  /**
+   * <code>.eventsubscription.ControlAck ack = 2;</code>
+   * @return The ack.
+   */
+  sr.grpc.gen.event.ControlAck getAck();
+  /**
+   * <code>.eventsubscription.ControlAck ack = 2;</code>
+   */
+  sr.grpc.gen.event.ControlAckOrBuilder getAckOrBuilder();
+
+  sr.grpc.gen.event.SessionResponse.MessageCase getMessageCase();
+}
@@ -0,0 +1,530 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * Protobuf type {@code eventsubscription.StatsRequest}
+ */
+public final class StatsRequest extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.StatsRequest)
+    StatsRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      StatsRequest.class.getName());
+  }
+  // Use StatsRequest.newBuilder() to construct.
+  private StatsRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private StatsRequest() {
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_StatsRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_StatsRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.StatsRequest.class, sr.grpc.gen.event.StatsRequest.Builder.class);
+  }
+
+  public static final int SLOWEST_SUBSCRIBERS_FIELD_NUMBER = 1;
+  private int slowestSubscribers_ = 0;
+  /**
+   * <pre>
+   * How many of the slowest subscribers to list; 0 means 10
+   * </pre>
+   *
+   * <code>uint32 slowest_subscribers = 1;</code>
+   * @return The slowestSubscribers.
+   */
+  @java.lang.Override
+  public int getSlowestSubscribers() {
+    return slowestSubscribers_;
+  }
+
+  public static final int ALL_SUBSCRIBERS_FIELD_NUMBER = 2;
+  private boolean allSubscribers_ = false;
+  /**
+   * <pre>
+   * Also list the queue of every active subscription
+   * </pre>
+   *
+   * <code>bool all_subscribers = 2;</code>
+   * @return The allSubscribers.
+   */
+  @java.lang.Override
+  public boolean getAllSubscribers() {
+    return allSubscribers_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (slowestSubscribers_ != 0) {
+      output.writeUInt32(1, slowestSubscribers_);
+    }
+    if (allSubscribers_ != false) {
+      output.writeBool(2, allSubscribers_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (slowestSubscribers_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(1, slowestSubscribers_);
+    }
+    if (allSubscribers_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(2, allSubscribers_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.StatsRequest)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.StatsRequest other = (sr.grpc.gen.event.StatsRequest) obj;
+
+    if (getSlowestSubscribers()
+        != other.getSlowestSubscribers()) return false;
+    if (getAllSubscribers()
+        != other.getAllSubscribers()) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + SLOWEST_SUBSCRIBERS_FIELD_NUMBER;
+    hash = (53 * hash) + getSlowestSubscribers();
+    hash = (37 * hash) + ALL_SUBSCRIBERS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getAllSubscribers());
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.StatsRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.StatsRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.StatsRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.StatsRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.StatsRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.StatsRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.StatsRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.StatsRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.StatsRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.StatsRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.StatsRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.StatsRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.StatsRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code eventsubscription.StatsRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.StatsRequest)
+      sr.grpc.gen.event.StatsRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_StatsRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_StatsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.StatsRequest.class, sr.grpc.gen.event.StatsRequest.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.StatsRequest.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      slowestSubscribers_ = 0;
+      allSubscribers_ = false;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_StatsRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.StatsRequest getDefaultInstanceForType() {
+      return sr.grpc.gen.event.StatsRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.StatsRequest build() {
+      sr.grpc.gen.event.StatsRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.StatsRequest buildPartial() {
+      sr.grpc.gen.event.StatsRequest result = new sr.grpc.gen.event.StatsRequest(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.StatsRequest result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.slowestSubscribers_ = slowestSubscribers_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.allSubscribers_ = allSubscribers_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.StatsRequest) {
+        return mergeFrom((sr.grpc.gen.event.StatsRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.StatsRequest other) {
+      if (other == sr.grpc.gen.event.StatsRequest.getDefaultInstance()) return this;
+      if (other.getSlowestSubscribers() != 0) {
+        setSlowestSubscribers(other.getSlowestSubscribers());
+      }
+      if (other.getAllSubscribers() != false) {
+        setAllSubscribers(other.getAllSubscribers());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              slowestSubscribers_ = input.readUInt32();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 8
+            case 16: {
+              allSubscribers_ = input.readBool();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 16
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private int slowestSubscribers_ ;
+    /**
+     * <pre>
+     * How many of the slowest subscribers to list; 0 means 10
+     * </pre>
+     *
+     * <code>uint32 slowest_subscribers = 1;</code>
+     * @return The slowestSubscribers.
+     */
+    @java.lang.Override
+    public int getSlowestSubscribers() {
+      return slowestSubscribers_;
+    }
+    /**
+     * <pre>
+     * How many of the slowest subscribers to list; 0 means 10
+     * </pre>
+     *
+     * <code>uint32 slowest_subscribers = 1;</code>
+     * @param value The slowestSubscribers to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSlowestSubscribers(int value) {
+
+      slowestSubscribers_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * How many of the slowest subscribers to list; 0 means 10
+     * </pre>
+     *
+     * <code>uint32 slowest_subscribers = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSlowestSubscribers() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      slowestSubscribers_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private boolean allSubscribers_ ;
+    /**
+     * <pre>
+     * Also list the queue of every active subscription
+     * </pre>
+     *
+     * <code>bool all_subscribers = 2;</code>
+     * @return The allSubscribers.
+     */
+    @java.lang.Override
+    public boolean getAllSubscribers() {
+      return allSubscribers_;
+    }
+    /**
+     * <pre>
+     * Also list the queue of every active subscription
+     * </pre>
+     *
+     * <code>bool all_subscribers = 2;</code>
+     * @param value The allSubscribers to set.
+     * @return This builder for chaining.
+     */
+    public Builder setAllSubscribers(boolean value) {
+
+      allSubscribers_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Also list the queue of every active subscription
+     * </pre>
+     *
+     * <code>bool all_subscribers = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearAllSubscribers() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      allSubscribers_ = false;
+      onChanged();
+      return this;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.StatsRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.StatsRequest)
+  private static final sr.grpc.gen.event.StatsRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.StatsRequest();
+  }
+
+  public static sr.grpc.gen.event.StatsRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<StatsRequest>
+      PARSER = new com.google.protobuf.AbstractParser<StatsRequest>() {
+    @java.lang.Override
+    public StatsRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<StatsRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<StatsRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.StatsRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,31 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface StatsRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.StatsRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * How many of the slowest subscribers to list; 0 means 10
+   * </pre>
+   *
+   * <code>uint32 slowest_subscribers = 1;</code>
+   * @return The slowestSubscribers.
+   */
+  int getSlowestSubscribers();
+
+  /**
+   * <pre>
+   * Also list the queue of every active subscription
+   * </pre>
+   *
+   * <code>bool all_subscribers = 2;</code>
+   * @return The allSubscribers.
+   */
+  boolean getAllSubscribers();
+}
@@ -0,0 +1,1456 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * <pre>
+ * Outbound queue of one subscription, i.e. how far its subscriber is behind
+ * </pre>
+ *
+ * Protobuf type {@code eventsubscription.SubscriberStats}
+ */
+public final class SubscriberStats extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.SubscriberStats)
+    SubscriberStatsOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      SubscriberStats.class.getName());
+  }
+  // Use SubscriberStats.newBuilder() to construct.
+  private SubscriberStats(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private SubscriberStats() {
+    clientSubscriptionId_ = "";
+    eventType_ = 0;
+    target_ = "";
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_SubscriberStats_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_SubscriberStats_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.SubscriberStats.class, sr.grpc.gen.event.SubscriberStats.Builder.class);
+  }
+
+  public static final int CLIENT_SUBSCRIPTION_ID_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object clientSubscriptionId_ = "";
+  /**
+   * <code>string client_subscription_id = 1;</code>
+   * @return The clientSubscriptionId.
+   */
+  @java.lang.Override
+  public java.lang.String getClientSubscriptionId() {
+    java.lang.Object ref = clientSubscriptionId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      clientSubscriptionId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string client_subscription_id = 1;</code>
+   * @return The bytes for clientSubscriptionId.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getClientSubscriptionIdBytes() {
+    java.lang.Object ref = clientSubscriptionId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      clientSubscriptionId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int EVENT_TYPE_FIELD_NUMBER = 2;
+  private int eventType_ = 0;
+  /**
+   * <code>.eventsubscription.EventType event_type = 2;</code>
+   * @return The enum numeric value on the wire for eventType.
+   */
+  @java.lang.Override public int getEventTypeValue() {
+    return eventType_;
+  }
+  /**
+   * <code>.eventsubscription.EventType event_type = 2;</code>
+   * @return The eventType.
+   */
+  @java.lang.Override public sr.grpc.gen.event.EventType getEventType() {
+    sr.grpc.gen.event.EventType result = sr.grpc.gen.event.EventType.forNumber(eventType_);
+    return result == null ? sr.grpc.gen.event.EventType.UNRECOGNIZED : result;
+  }
+
+  public static final int TARGET_FIELD_NUMBER = 3;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object target_ = "";
+  /**
+   * <code>string target = 3;</code>
+   * @return The target.
+   */
+  @java.lang.Override
+  public java.lang.String getTarget() {
+    java.lang.Object ref = target_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      target_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string target = 3;</code>
+   * @return The bytes for target.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getTargetBytes() {
+    java.lang.Object ref = target_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      target_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int SESSION_FIELD_NUMBER = 4;
+  private boolean session_ = false;
+  /**
+   * <pre>
+   * Delivered on a SubscriptionSession stream, whose queue it shares
+   * </pre>
+   *
+   * <code>bool session = 4;</code>
+   * @return The session.
+   */
+  @java.lang.Override
+  public boolean getSession() {
+    return session_;
+  }
+
+  public static final int QUEUE_DEPTH_FIELD_NUMBER = 5;
+  private int queueDepth_ = 0;
+  /**
+   * <code>uint32 queue_depth = 5;</code>
+   * @return The queueDepth.
+   */
+  @java.lang.Override
+  public int getQueueDepth() {
+    return queueDepth_;
+  }
+
+  public static final int QUEUE_CAPACITY_FIELD_NUMBER = 6;
+  private int queueCapacity_ = 0;
+  /**
+   * <code>uint32 queue_capacity = 6;</code>
+   * @return The queueCapacity.
+   */
+  @java.lang.Override
+  public int getQueueCapacity() {
+    return queueCapacity_;
+  }
+
+  public static final int OLDEST_PENDING_MICROS_FIELD_NUMBER = 7;
+  private double oldestPendingMicros_ = 0D;
+  /**
+   * <pre>
+   * Age of the oldest notification waiting in the queue; 0 if it is empty
+   * </pre>
+   *
+   * <code>double oldest_pending_micros = 7;</code>
+   * @return The oldestPendingMicros.
+   */
+  @java.lang.Override
+  public double getOldestPendingMicros() {
+    return oldestPendingMicros_;
+  }
+
+  public static final int SENT_FIELD_NUMBER = 8;
+  private long sent_ = 0L;
+  /**
+   * <code>uint64 sent = 8;</code>
+   * @return The sent.
+   */
+  @java.lang.Override
+  public long getSent() {
+    return sent_;
+  }
+
+  public static final int DROPPED_FIELD_NUMBER = 9;
+  private long dropped_ = 0L;
+  /**
+   * <code>uint64 dropped = 9;</code>
+   * @return The dropped.
+   */
+  @java.lang.Override
+  public long getDropped() {
+    return dropped_;
+  }
+
+  public static final int CONFLATED_FIELD_NUMBER = 10;
+  private long conflated_ = 0L;
+  /**
+   * <code>uint64 conflated = 10;</code>
+   * @return The conflated.
+   */
+  @java.lang.Override
+  public long getConflated() {
+    return conflated_;
+  }
+
+  public static final int SUPPRESSED_FIELD_NUMBER = 11;
+  private long suppressed_ = 0L;
+  /**
+   * <code>uint64 suppressed = 11;</code>
+   * @return The suppressed.
+   */
+  @java.lang.Override
+  public long getSuppressed() {
+    return suppressed_;
+  }
+
+  public static final int UNCOMPRESSED_BYTES_FIELD_NUMBER = 12;
+  private long uncompressedBytes_ = 0L;
+  /**
+   * <pre>
+   * Bytes written to the stream before and after compression; -1 if not traced
+   * </pre>
+   *
+   * <code>int64 uncompressed_bytes = 12;</code>
+   * @return The uncompressedBytes.
+   */
+  @java.lang.Override
+  public long getUncompressedBytes() {
+    return uncompressedBytes_;
+  }
+
+  public static final int WIRE_BYTES_FIELD_NUMBER = 13;
+  private long wireBytes_ = 0L;
+  /**
+   * <code>int64 wire_bytes = 13;</code>
+   * @return The wireBytes.
+   */
+  @java.lang.Override
+  public long getWireBytes() {
+    return wireBytes_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(clientSubscriptionId_)) {
+      com.google.protobuf.GeneratedMessage.writeString(output, 1, clientSubscriptionId_);
+    }
+    if (eventType_ != sr.grpc.gen.event.EventType.EVENT_TYPE_UNSPECIFIED.getNumber()) {
+      output.writeEnum(2, eventType_);
+    }
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(target_)) {
+      com.google.protobuf.GeneratedMessage.writeString(output, 3, target_);
+    }
+    if (session_ != false) {
+      output.writeBool(4, session_);
+    }
+    if (queueDepth_ != 0) {
+      output.writeUInt32(5, queueDepth_);
+    }
+    if (queueCapacity_ != 0) {
+      output.writeUInt32(6, queueCapacity_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(oldestPendingMicros_) != 0) {
+      output.writeDouble(7, oldestPendingMicros_);
+    }
+    if (sent_ != 0L) {
+      output.writeUInt64(8, sent_);
+    }
+    if (dropped_ != 0L) {
+      output.writeUInt64(9, dropped_);
+    }
+    if (conflated_ != 0L) {
+      output.writeUInt64(10, conflated_);
+    }
+    if (suppressed_ != 0L) {
+      output.writeUInt64(11, suppressed_);
+    }
+    if (uncompressedBytes_ != 0L) {
+      output.writeInt64(12, uncompressedBytes_);
+    }
+    if (wireBytes_ != 0L) {
+      output.writeInt64(13, wireBytes_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(clientSubscriptionId_)) {
+      size += com.google.protobuf.GeneratedMessage.computeStringSize(1, clientSubscriptionId_);
+    }
+    if (eventType_ != sr.grpc.gen.event.EventType.EVENT_TYPE_UNSPECIFIED.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(2, eventType_);
+    }
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(target_)) {
+      size += com.google.protobuf.GeneratedMessage.computeStringSize(3, target_);
+    }
+    if (session_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(4, session_);
+    }
+    if (queueDepth_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(5, queueDepth_);
+    }
+    if (queueCapacity_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(6, queueCapacity_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(oldestPendingMicros_) != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(7, oldestPendingMicros_);
+    }
+    if (sent_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(8, sent_);
+    }
+    if (dropped_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(9, dropped_);
+    }
+    if (conflated_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(10, conflated_);
+    }
+    if (suppressed_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(11, suppressed_);
+    }
+    if (uncompressedBytes_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(12, uncompressedBytes_);
+    }
+    if (wireBytes_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(13, wireBytes_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.SubscriberStats)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.SubscriberStats other = (sr.grpc.gen.event.SubscriberStats) obj;
+
+    if (!getClientSubscriptionId()
+        .equals(other.getClientSubscriptionId())) return false;
+    if (eventType_ != other.eventType_) return false;
+    if (!getTarget()
+        .equals(other.getTarget())) return false;
+    if (getSession()
+        != other.getSession()) return false;
+    if (getQueueDepth()
+        != other.getQueueDepth()) return false;
+    if (getQueueCapacity()
+        != other.getQueueCapacity()) return false;
+    if (java.lang.Double.doubleToLongBits(getOldestPendingMicros())
+        != java.lang.Double.doubleToLongBits(
+            other.getOldestPendingMicros())) return false;
+    if (getSent()
+        != other.getSent()) return false;
+    if (getDropped()
+        != other.getDropped()) return false;
+    if (getConflated()
+        != other.getConflated()) return false;
+    if (getSuppressed()
+        != other.getSuppressed()) return false;
+    if (getUncompressedBytes()
+        != other.getUncompressedBytes()) return false;
+    if (getWireBytes()
+        != other.getWireBytes()) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + CLIENT_SUBSCRIPTION_ID_FIELD_NUMBER;
+    hash = (53 * hash) + getClientSubscriptionId().hashCode();
+    hash = (37 * hash) + EVENT_TYPE_FIELD_NUMBER;
+    hash = (53 * hash) + eventType_;
+    hash = (37 * hash) + TARGET_FIELD_NUMBER;
+    hash = (53 * hash) + getTarget().hashCode();
+    hash = (37 * hash) + SESSION_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getSession());
+    hash = (37 * hash) + QUEUE_DEPTH_FIELD_NUMBER;
+    hash = (53 * hash) + getQueueDepth();
+    hash = (37 * hash) + QUEUE_CAPACITY_FIELD_NUMBER;
+    hash = (53 * hash) + getQueueCapacity();
+    hash = (37 * hash) + OLDEST_PENDING_MICROS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        java.lang.Double.doubleToLongBits(getOldestPendingMicros()));
+    hash = (37 * hash) + SENT_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSent());
+    hash = (37 * hash) + DROPPED_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getDropped());
+    hash = (37 * hash) + CONFLATED_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getConflated());
+    hash = (37 * hash) + SUPPRESSED_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSuppressed());
+    hash = (37 * hash) + UNCOMPRESSED_BYTES_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getUncompressedBytes());
+    hash = (37 * hash) + WIRE_BYTES_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getWireBytes());
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.SubscriberStats parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.SubscriberStats parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.SubscriberStats parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.SubscriberStats parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.SubscriberStats parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.SubscriberStats parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.SubscriberStats parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.SubscriberStats parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.SubscriberStats parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.SubscriberStats parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.SubscriberStats parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.SubscriberStats parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.SubscriberStats prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Outbound queue of one subscription, i.e. how far its subscriber is behind
+   * </pre>
+   *
+   * Protobuf type {@code eventsubscription.SubscriberStats}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.SubscriberStats)
+      sr.grpc.gen.event.SubscriberStatsOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_SubscriberStats_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_SubscriberStats_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.SubscriberStats.class, sr.grpc.gen.event.SubscriberStats.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.SubscriberStats.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      clientSubscriptionId_ = "";
+      eventType_ = 0;
+      target_ = "";
+      session_ = false;
+      queueDepth_ = 0;
+      queueCapacity_ = 0;
+      oldestPendingMicros_ = 0D;
+      sent_ = 0L;
+      dropped_ = 0L;
+      conflated_ = 0L;
+      suppressed_ = 0L;
+      uncompressedBytes_ = 0L;
+      wireBytes_ = 0L;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_SubscriberStats_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.SubscriberStats getDefaultInstanceForType() {
+      return sr.grpc.gen.event.SubscriberStats.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.SubscriberStats build() {
+      sr.grpc.gen.event.SubscriberStats result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.SubscriberStats buildPartial() {
+      sr.grpc.gen.event.SubscriberStats result = new sr.grpc.gen.event.SubscriberStats(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.SubscriberStats result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.clientSubscriptionId_ = clientSubscriptionId_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.eventType_ = eventType_;
+      }
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.target_ = target_;
+      }
+      if (((from_bitField0_ & 0x00000008) != 0)) {
+        result.session_ = session_;
+      }
+      if (((from_bitField0_ & 0x00000010) != 0)) {
+        result.queueDepth_ = queueDepth_;
+      }
+      if (((from_bitField0_ & 0x00000020) != 0)) {
+        result.queueCapacity_ = queueCapacity_;
+      }
+      if (((from_bitField0_ & 0x00000040) != 0)) {
+        result.oldestPendingMicros_ = oldestPendingMicros_;
+      }
+      if (((from_bitField0_ & 0x00000080) != 0)) {
+        result.sent_ = sent_;
+      }
+      if (((from_bitField0_ & 0x00000100) != 0)) {
+        result.dropped_ = dropped_;
+      }
+      if (((from_bitField0_ & 0x00000200) != 0)) {
+        result.conflated_ = conflated_;
+      }
+      if (((from_bitField0_ & 0x00000400) != 0)) {
+        result.suppressed_ = suppressed_;
+      }
+      if (((from_bitField0_ & 0x00000800) != 0)) {
+        result.uncompressedBytes_ = uncompressedBytes_;
+      }
+      if (((from_bitField0_ & 0x00001000) != 0)) {
+        result.wireBytes_ = wireBytes_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.SubscriberStats) {
+        return mergeFrom((sr.grpc.gen.event.SubscriberStats)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.SubscriberStats other) {
+      if (other == sr.grpc.gen.event.SubscriberStats.getDefaultInstance()) return this;
+      if (!other.getClientSubscriptionId().isEmpty()) {
+        clientSubscriptionId_ = other.clientSubscriptionId_;
+        bitField0_ |= 0x00000001;
+        onChanged();
+      }
+      if (other.eventType_ != 0) {
+        setEventTypeValue(other.getEventTypeValue());
+      }
+      if (!other.getTarget().isEmpty()) {
+        target_ = other.target_;
+        bitField0_ |= 0x00000004;
+        onChanged();
+      }
+      if (other.getSession() != false) {
+        setSession(other.getSession());
+      }
+      if (other.getQueueDepth() != 0) {
+        setQueueDepth(other.getQueueDepth());
+      }
+      if (other.getQueueCapacity() != 0) {
+        setQueueCapacity(other.getQueueCapacity());
+      }
+      if (java.lang.Double.doubleToRawLongBits(other.getOldestPendingMicros()) != 0) {
+        setOldestPendingMicros(other.getOldestPendingMicros());
+      }
+      if (other.getSent() != 0L) {
+        setSent(other.getSent());
+      }
+      if (other.getDropped() != 0L) {
+        setDropped(other.getDropped());
+      }
+      if (other.getConflated() != 0L) {
+        setConflated(other.getConflated());
+      }
+      if (other.getSuppressed() != 0L) {
+        setSuppressed(other.getSuppressed());
+      }
+      if (other.getUncompressedBytes() != 0L) {
+        setUncompressedBytes(other.getUncompressedBytes());
+      }
+      if (other.getWireBytes() != 0L) {
+        setWireBytes(other.getWireBytes());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              clientSubscriptionId_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 10
+            case 16: {
+              eventType_ = input.readEnum();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 16
+            case 26: {
+              target_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 26
+            case 32: {
+              session_ = input.readBool();
+              bitField0_ |= 0x00000008;
+              break;
+            } // case 32
+            case 40: {
+              queueDepth_ = input.readUInt32();
+              bitField0_ |= 0x00000010;
+              break;
+            } // case 40
+            case 48: {
+              queueCapacity_ = input.readUInt32();
+              bitField0_ |= 0x00000020;
+              break;
+            } // case 48
+            case 57: {
+              oldestPendingMicros_ = input.readDouble();
+              bitField0_ |= 0x00000040;
+              break;
+            } // case 57
+            case 64: {
+              sent_ = input.readUInt64();
+              bitField0_ |= 0x00000080;
+              break;
+            } // case 64
+            case 72: {
+              dropped_ = input.readUInt64();
+              bitField0_ |= 0x00000100;
+              break;
+            } // case 72
+            case 80: {
+              conflated_ = input.readUInt64();
+              bitField0_ |= 0x00000200;
+              break;
+            } // case 80
+            case 88: {
+              suppressed_ = input.readUInt64();
+              bitField0_ |= 0x00000400;
+              break;
+            } // case 88
+            case 96: {
+              uncompressedBytes_ = input.readInt64();
+              bitField0_ |= 0x00000800;
+              break;
+            } // case 96
+            case 104: {
+              wireBytes_ = input.readInt64();
+              bitField0_ |= 0x00001000;
+              break;
+            } // case 104
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object clientSubscriptionId_ = "";
+    /**
+     * <code>string client_subscription_id = 1;</code>
+     * @return The clientSubscriptionId.
+     */
+    public java.lang.String getClientSubscriptionId() {
+      java.lang.Object ref = clientSubscriptionId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        clientSubscriptionId_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string client_subscription_id = 1;</code>
+     * @return The bytes for clientSubscriptionId.
+     */
+    public com.google.protobuf.ByteString
+        getClientSubscriptionIdBytes() {
+      java.lang.Object ref = clientSubscriptionId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        clientSubscriptionId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string client_subscription_id = 1;</code>
+     * @param value The clientSubscriptionId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setClientSubscriptionId(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      clientSubscriptionId_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string client_subscription_id = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearClientSubscriptionId() {
+      clientSubscriptionId_ = getDefaultInstance().getClientSubscriptionId();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string client_subscription_id = 1;</code>
+     * @param value The bytes for clientSubscriptionId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setClientSubscriptionIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      clientSubscriptionId_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+
+    private int eventType_ = 0;
+    /**
+     * <code>.eventsubscription.EventType event_type = 2;</code>
+     * @return The enum numeric value on the wire for eventType.
+     */
+    @java.lang.Override public int getEventTypeValue() {
+      return eventType_;
+    }
+    /**
+     * <code>.eventsubscription.EventType event_type = 2;</code>
+     * @param value The enum numeric value on the wire for eventType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setEventTypeValue(int value) {
+      eventType_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.EventType event_type = 2;</code>
+     * @return The eventType.
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.EventType getEventType() {
+      sr.grpc.gen.event.EventType result = sr.grpc.gen.event.EventType.forNumber(eventType_);
+      return result == null ? sr.grpc.gen.event.EventType.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.eventsubscription.EventType event_type = 2;</code>
+     * @param value The eventType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setEventType(sr.grpc.gen.event.EventType value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      bitField0_ |= 0x00000002;
+      eventType_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.eventsubscription.EventType event_type = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearEventType() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      eventType_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object target_ = "";
+    /**
+     * <code>string target = 3;</code>
+     * @return The target.
+     */
+    public java.lang.String getTarget() {
+      java.lang.Object ref = target_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        target_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string target = 3;</code>
+     * @return The bytes for target.
+     */
+    public com.google.protobuf.ByteString
+        getTargetBytes() {
+      java.lang.Object ref = target_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        target_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string target = 3;</code>
+     * @param value The target to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTarget(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      target_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string target = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTarget() {
+      target_ = getDefaultInstance().getTarget();
+      bitField0_ = (bitField0_ & ~0x00000004);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string target = 3;</code>
+     * @param value The bytes for target to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTargetBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      target_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+
+    private boolean session_ ;
+    /**
+     * <pre>
+     * Delivered on a SubscriptionSession stream, whose queue it shares
+     * </pre>
+     *
+     * <code>bool session = 4;</code>
+     * @return The session.
+     */
+    @java.lang.Override
+    public boolean getSession() {
+      return session_;
+    }
+    /**
+     * <pre>
+     * Delivered on a SubscriptionSession stream, whose queue it shares
+     * </pre>
+     *
+     * <code>bool session = 4;</code>
+     * @param value The session to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSession(boolean value) {
+
+      session_ = value;
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Delivered on a SubscriptionSession stream, whose queue it shares
+     * </pre>
+     *
+     * <code>bool session = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSession() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      session_ = false;
+      onChanged();
+      return this;
+    }
+
+    private int queueDepth_ ;
+    /**
+     * <code>uint32 queue_depth = 5;</code>
+     * @return The queueDepth.
+     */
+    @java.lang.Override
+    public int getQueueDepth() {
+      return queueDepth_;
+    }
+    /**
+     * <code>uint32 queue_depth = 5;</code>
+     * @param value The queueDepth to set.
+     * @return This builder for chaining.
+     */
+    public Builder setQueueDepth(int value) {
+
+      queueDepth_ = value;
+      bitField0_ |= 0x00000010;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint32 queue_depth = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearQueueDepth() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      queueDepth_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int queueCapacity_ ;
+    /**
+     * <code>uint32 queue_capacity = 6;</code>
+     * @return The queueCapacity.
+     */
+    @java.lang.Override
+    public int getQueueCapacity() {
+      return queueCapacity_;
+    }
+    /**
+     * <code>uint32 queue_capacity = 6;</code>
+     * @param value The queueCapacity to set.
+     * @return This builder for chaining.
+     */
+    public Builder setQueueCapacity(int value) {
+
+      queueCapacity_ = value;
+      bitField0_ |= 0x00000020;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint32 queue_capacity = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearQueueCapacity() {
+      bitField0_ = (bitField0_ & ~0x00000020);
+      queueCapacity_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private double oldestPendingMicros_ ;
+    /**
+     * <pre>
+     * Age of the oldest notification waiting in the queue; 0 if it is empty
+     * </pre>
+     *
+     * <code>double oldest_pending_micros = 7;</code>
+     * @return The oldestPendingMicros.
+     */
+    @java.lang.Override
+    public double getOldestPendingMicros() {
+      return oldestPendingMicros_;
+    }
+    /**
+     * <pre>
+     * Age of the oldest notification waiting in the queue; 0 if it is empty
+     * </pre>
+     *
+     * <code>double oldest_pending_micros = 7;</code>
+     * @param value The oldestPendingMicros to set.
+     * @return This builder for chaining.
+     */
+    public Builder setOldestPendingMicros(double value) {
+
+      oldestPendingMicros_ = value;
+      bitField0_ |= 0x00000040;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Age of the oldest notification waiting in the queue; 0 if it is empty
+     * </pre>
+     *
+     * <code>double oldest_pending_micros = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearOldestPendingMicros() {
+      bitField0_ = (bitField0_ & ~0x00000040);
+      oldestPendingMicros_ = 0D;
+      onChanged();
+      return this;
+    }
+
+    private long sent_ ;
+    /**
+     * <code>uint64 sent = 8;</code>
+     * @return The sent.
+     */
+    @java.lang.Override
+    public long getSent() {
+      return sent_;
+    }
+    /**
+     * <code>uint64 sent = 8;</code>
+     * @param value The sent to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSent(long value) {
+
+      sent_ = value;
+      bitField0_ |= 0x00000080;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 sent = 8;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSent() {
+      bitField0_ = (bitField0_ & ~0x00000080);
+      sent_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long dropped_ ;
+    /**
+     * <code>uint64 dropped = 9;</code>
+     * @return The dropped.
+     */
+    @java.lang.Override
+    public long getDropped() {
+      return dropped_;
+    }
+    /**
+     * <code>uint64 dropped = 9;</code>
+     * @param value The dropped to set.
+     * @return This builder for chaining.
+     */
+    public Builder setDropped(long value) {
+
+      dropped_ = value;
+      bitField0_ |= 0x00000100;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 dropped = 9;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearDropped() {
+      bitField0_ = (bitField0_ & ~0x00000100);
+      dropped_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long conflated_ ;
+    /**
+     * <code>uint64 conflated = 10;</code>
+     * @return The conflated.
+     */
+    @java.lang.Override
+    public long getConflated() {
+      return conflated_;
+    }
+    /**
+     * <code>uint64 conflated = 10;</code>
+     * @param value The conflated to set.
+     * @return This builder for chaining.
+     */
+    public Builder setConflated(long value) {
+
+      conflated_ = value;
+      bitField0_ |= 0x00000200;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 conflated = 10;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearConflated() {
+      bitField0_ = (bitField0_ & ~0x00000200);
+      conflated_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long suppressed_ ;
+    /**
+     * <code>uint64 suppressed = 11;</code>
+     * @return The suppressed.
+     */
+    @java.lang.Override
+    public long getSuppressed() {
+      return suppressed_;
+    }
+    /**
+     * <code>uint64 suppressed = 11;</code>
+     * @param value The suppressed to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSuppressed(long value) {
+
+      suppressed_ = value;
+      bitField0_ |= 0x00000400;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 suppressed = 11;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSuppressed() {
+      bitField0_ = (bitField0_ & ~0x00000400);
+      suppressed_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long uncompressedBytes_ ;
+    /**
+     * <pre>
+     * Bytes written to the stream before and after compression; -1 if not traced
+     * </pre>
+     *
+     * <code>int64 uncompressed_bytes = 12;</code>
+     * @return The uncompressedBytes.
+     */
+    @java.lang.Override
+    public long getUncompressedBytes() {
+      return uncompressedBytes_;
+    }
+    /**
+     * <pre>
+     * Bytes written to the stream before and after compression; -1 if not traced
+     * </pre>
+     *
+     * <code>int64 uncompressed_bytes = 12;</code>
+     * @param value The uncompressedBytes to set.
+     * @return This builder for chaining.
+     */
+    public Builder setUncompressedBytes(long value) {
+
+      uncompressedBytes_ = value;
+      bitField0_ |= 0x00000800;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Bytes written to the stream before and after compression; -1 if not traced
+     * </pre>
+     *
+     * <code>int64 uncompressed_bytes = 12;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearUncompressedBytes() {
+      bitField0_ = (bitField0_ & ~0x00000800);
+      uncompressedBytes_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long wireBytes_ ;
+    /**
+     * <code>int64 wire_bytes = 13;</code>
+     * @return The wireBytes.
+     */
+    @java.lang.Override
+    public long getWireBytes() {
+      return wireBytes_;
+    }
+    /**
+     * <code>int64 wire_bytes = 13;</code>
+     * @param value The wireBytes to set.
+     * @return This builder for chaining.
+     */
+    public Builder setWireBytes(long value) {
+
+      wireBytes_ = value;
+      bitField0_ |= 0x00001000;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 wire_bytes = 13;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearWireBytes() {
+      bitField0_ = (bitField0_ & ~0x00001000);
+      wireBytes_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.SubscriberStats)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.SubscriberStats)
+  private static final sr.grpc.gen.event.SubscriberStats DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.SubscriberStats();
+  }
+
+  public static sr.grpc.gen.event.SubscriberStats getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<SubscriberStats>
+      PARSER = new com.google.protobuf.AbstractParser<SubscriberStats>() {
+    @java.lang.Override
+    public SubscriberStats parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<SubscriberStats> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SubscriberStats> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.SubscriberStats getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,118 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface SubscriberStatsOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.SubscriberStats)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string client_subscription_id = 1;</code>
+   * @return The clientSubscriptionId.
+   */
+  java.lang.String getClientSubscriptionId();
+  /**
+   * <code>string client_subscription_id = 1;</code>
+   * @return The bytes for clientSubscriptionId.
+   */
+  com.google.protobuf.ByteString
+      getClientSubscriptionIdBytes();
+
+  /**
+   * <code>.eventsubscription.EventType event_type = 2;</code>
+   * @return The enum numeric value on the wire for eventType.
+   */
+  int getEventTypeValue();
+  /**
+   * <code>.eventsubscription.EventType event_type = 2;</code>
+   * @return The eventType.
+   */
+  sr.grpc.gen.event.EventType getEventType();
+
+  /**
+   * <code>string target = 3;</code>
+   * @return The target.
+   */
+  java.lang.String getTarget();
+  /**
+   * <code>string target = 3;</code>
+   * @return The bytes for target.
+   */
+  com.google.protobuf.ByteString
+      getTargetBytes();
+
+  /**
+   * <pre>
+   * Delivered on a SubscriptionSession stream, whose queue it shares
+   * </pre>
+   *
+   * <code>bool session = 4;</code>
+   * @return The session.
+   */
+  boolean getSession();
+
+  /**
+   * <code>uint32 queue_depth = 5;</code>
+   * @return The queueDepth.
+   */
+  int getQueueDepth();
+
+  /**
+   * <code>uint32 queue_capacity = 6;</code>
+   * @return The queueCapacity.
+   */
+  int getQueueCapacity();
+
+  /**
+   * <pre>
+   * Age of the oldest notification waiting in the queue; 0 if it is empty
+   * </pre>
+   *
+   * <code>double oldest_pending_micros = 7;</code>
+   * @return The oldestPendingMicros.
+   */
+  double getOldestPendingMicros();
+
+  /**
+   * <code>uint64 sent = 8;</code>
+   * @return The sent.
+   */
+  long getSent();
+
+  /**
+   * <code>uint64 dropped = 9;</code>
+   * @return The dropped.
+   */
+  long getDropped();
+
+  /**
+   * <code>uint64 conflated = 10;</code>
+   * @return The conflated.
+   */
+  long getConflated();
+
+  /**
+   * <code>uint64 suppressed = 11;</code>
+   * @return The suppressed.
+   */
+  long getSuppressed();
+
+  /**
+   * <pre>
+   * Bytes written to the stream before and after compression; -1 if not traced
+   * </pre>
+   *
+   * <code>int64 uncompressed_bytes = 12;</code>
+   * @return The uncompressedBytes.
+   */
+  long getUncompressedBytes();
+
+  /**
+   * <code>int64 wire_bytes = 13;</code>
+   * @return The wireBytes.
+   */
+  long getWireBytes();
+}
@@ -50,12 +50,13 @@ private static final long serialVersionUID = 0L;
             sr.grpc.gen.event.SubscriptionCriteria.class, sr.grpc.gen.event.SubscriptionCriteria.Builder.class);
   }
 
+  private int bitField0_;
   public static final int TARGET_IDENTIFIER_FIELD_NUMBER = 1;
   @SuppressWarnings("serial")
   private volatile java.lang.Object targetIdentifier_ = "";
   /**
    * <pre>
-   * Common field: Target identifier (e.g., city, artist, topic)
+   * Common field: Target identifier
    * </pre>
    *
    * <code>string target_identifier = 1;</code>
@@ -76,7 +77,7 @@ private static final long serialVersionUID = 0L;
   }
   /**
    * <pre>
-   * Common field: Target identifier (e.g., city, artist, topic)
+   * Common field: Target identifier
    * </pre>
    *
    * <code>string target_identifier = 1;</code>
@@ -150,6 +151,85 @@ private static final long serialVersionUID = 0L;
     return keywords_.getByteString(index);
   }
 
+  public static final int WEATHER_FILTER_FIELD_NUMBER = 14;
+  private sr.grpc.gen.event.WeatherFilter weatherFilter_;
+  /**
+   * <pre>
+   * WEATHER_UPDATE only: of the city's updates, deliver just the ones this filter accepts (optional)
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilter weather_filter = 14;</code>
+   * @return Whether the weatherFilter field is set.
+   */
+  @java.lang.Override
+  public boolean hasWeatherFilter() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <pre>
+   * WEATHER_UPDATE only: of the city's updates, deliver just the ones this filter accepts (optional)
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilter weather_filter = 14;</code>
+   * @return The weatherFilter.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.WeatherFilter getWeatherFilter() {
+    return weatherFilter_ == null ? sr.grpc.gen.event.WeatherFilter.getDefaultInstance() : weatherFilter_;
+  }
+  /**
+   * <pre>
+   * WEATHER_UPDATE only: of the city's updates, deliver just the ones this filter accepts (optional)
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilter weather_filter = 14;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.WeatherFilterOrBuilder getWeatherFilterOrBuilder() {
+    return weatherFilter_ == null ? sr.grpc.gen.event.WeatherFilter.getDefaultInstance() : weatherFilter_;
+  }
+
+  public static final int WITHIN_FIELD_NUMBER = 15;
+  private sr.grpc.gen.event.GeoCircle within_;
+  /**
+   * <pre>
+   * WEATHER_UPDATE only, instead of target_identifier: the updates of any city whose location lies in this
+   * circle. Updates without a location never match. Not available on cluster nodes and edge servers.
+   * </pre>
+   *
+   * <code>.eventsubscription.GeoCircle within = 15;</code>
+   * @return Whether the within field is set.
+   */
+  @java.lang.Override
+  public boolean hasWithin() {
+    return ((bitField0_ & 0x00000002) != 0);
+  }
+  /**
+   * <pre>
+   * WEATHER_UPDATE only, instead of target_identifier: the updates of any city whose location lies in this
+   * circle. Updates without a location never match. Not available on cluster nodes and edge servers.
+   * </pre>
+   *
+   * <code>.eventsubscription.GeoCircle within = 15;</code>
+   * @return The within.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.GeoCircle getWithin() {
+    return within_ == null ? sr.grpc.gen.event.GeoCircle.getDefaultInstance() : within_;
+  }
+  /**
+   * <pre>
+   * WEATHER_UPDATE only, instead of target_identifier: the updates of any city whose location lies in this
+   * circle. Updates without a location never match. Not available on cluster nodes and edge servers.
+   * </pre>
+   *
+   * <code>.eventsubscription.GeoCircle within = 15;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.GeoCircleOrBuilder getWithinOrBuilder() {
+    return within_ == null ? sr.grpc.gen.event.GeoCircle.getDefaultInstance() : within_;
+  }
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -170,6 +250,12 @@ private static final long serialVersionUID = 0L;
     for (int i = 0; i < keywords_.size(); i++) {
       com.google.protobuf.GeneratedMessage.writeString(output, 13, keywords_.getRaw(i));
     }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      output.writeMessage(14, getWeatherFilter());
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      output.writeMessage(15, getWithin());
+    }
     getUnknownFields().writeTo(output);
   }
 
@@ -190,6 +276,14 @@ private static final long serialVersionUID = 0L;
       size += dataSize;
       size += 1 * getKeywordsList().size();
     }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(14, getWeatherFilter());
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(15, getWithin());
+    }
     size += getUnknownFields().getSerializedSize();
     memoizedSize = size;
     return size;
@@ -209,6 +303,16 @@ private static final long serialVersionUID = 0L;
         .equals(other.getTargetIdentifier())) return false;
     if (!getKeywordsList()
         .equals(other.getKeywordsList())) return false;
+    if (hasWeatherFilter() != other.hasWeatherFilter()) return false;
+    if (hasWeatherFilter()) {
+      if (!getWeatherFilter()
+          .equals(other.getWeatherFilter())) return false;
+    }
+    if (hasWithin() != other.hasWithin()) return false;
+    if (hasWithin()) {
+      if (!getWithin()
+          .equals(other.getWithin())) return false;
+    }
     if (!getUnknownFields().equals(other.getUnknownFields())) return false;
     return true;
   }
@@ -226,6 +330,14 @@ private static final long serialVersionUID = 0L;
       hash = (37 * hash) + KEYWORDS_FIELD_NUMBER;
       hash = (53 * hash) + getKeywordsList().hashCode();
     }
+    if (hasWeatherFilter()) {
+      hash = (37 * hash) + WEATHER_FILTER_FIELD_NUMBER;
+      hash = (53 * hash) + getWeatherFilter().hashCode();
+    }
+    if (hasWithin()) {
+      hash = (37 * hash) + WITHIN_FIELD_NUMBER;
+      hash = (53 * hash) + getWithin().hashCode();
+    }
     hash = (29 * hash) + getUnknownFields().hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -350,13 +462,20 @@ private static final long serialVersionUID = 0L;
 
     // Construct using sr.grpc.gen.event.SubscriptionCriteria.newBuilder()
     private Builder() {
-
+      maybeForceBuilderInitialization();
     }
 
     private Builder(
         com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       super(parent);
-
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessage
+              .alwaysUseFieldBuilders) {
+        internalGetWeatherFilterFieldBuilder();
+        internalGetWithinFieldBuilder();
+      }
     }
     @java.lang.Override
     public Builder clear() {
@@ -365,6 +484,16 @@ private static final long serialVersionUID = 0L;
       targetIdentifier_ = "";
       keywords_ =
           com.google.protobuf.LazyStringArrayList.emptyList();
+      weatherFilter_ = null;
+      if (weatherFilterBuilder_ != null) {
+        weatherFilterBuilder_.dispose();
+        weatherFilterBuilder_ = null;
+      }
+      within_ = null;
+      if (withinBuilder_ != null) {
+        withinBuilder_.dispose();
+        withinBuilder_ = null;
+      }
       return this;
     }
 
@@ -405,6 +534,20 @@ private static final long serialVersionUID = 0L;
         keywords_.makeImmutable();
         result.keywords_ = keywords_;
       }
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.weatherFilter_ = weatherFilterBuilder_ == null
+            ? weatherFilter_
+            : weatherFilterBuilder_.build();
+        to_bitField0_ |= 0x00000001;
+      }
+      if (((from_bitField0_ & 0x00000008) != 0)) {
+        result.within_ = withinBuilder_ == null
+            ? within_
+            : withinBuilder_.build();
+        to_bitField0_ |= 0x00000002;
+      }
+      result.bitField0_ |= to_bitField0_;
     }
 
     @java.lang.Override
@@ -434,6 +577,12 @@ private static final long serialVersionUID = 0L;
         }
         onChanged();
       }
+      if (other.hasWeatherFilter()) {
+        mergeWeatherFilter(other.getWeatherFilter());
+      }
+      if (other.hasWithin()) {
+        mergeWithin(other.getWithin());
+      }
       this.mergeUnknownFields(other.getUnknownFields());
       onChanged();
       return this;
@@ -471,6 +620,20 @@ private static final long serialVersionUID = 0L;
               keywords_.add(s);
               break;
             } // case 106
+            case 114: {
+              input.readMessage(
+                  internalGetWeatherFilterFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 114
+            case 122: {
+              input.readMessage(
+                  internalGetWithinFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00000008;
+              break;
+            } // case 122
             default: {
               if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                 done = true; // was an endgroup tag
@@ -491,7 +654,7 @@ private static final long serialVersionUID = 0L;
     private java.lang.Object targetIdentifier_ = "";
     /**
      * <pre>
-     * Common field: Target identifier (e.g., city, artist, topic)
+     * Common field: Target identifier
      * </pre>
      *
      * <code>string target_identifier = 1;</code>
@@ -511,7 +674,7 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * Common field: Target identifier (e.g., city, artist, topic)
+     * Common field: Target identifier
      * </pre>
      *
      * <code>string target_identifier = 1;</code>
@@ -532,7 +695,7 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * Common field: Target identifier (e.g., city, artist, topic)
+     * Common field: Target identifier
      * </pre>
      *
      * <code>string target_identifier = 1;</code>
@@ -549,7 +712,7 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * Common field: Target identifier (e.g., city, artist, topic)
+     * Common field: Target identifier
      * </pre>
      *
      * <code>string target_identifier = 1;</code>
@@ -563,7 +726,7 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * Common field: Target identifier (e.g., city, artist, topic)
+     * Common field: Target identifier
      * </pre>
      *
      * <code>string target_identifier = 1;</code>
@@ -727,6 +890,329 @@ private static final long serialVersionUID = 0L;
       return this;
     }
 
+    private sr.grpc.gen.event.WeatherFilter weatherFilter_;
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.WeatherFilter, sr.grpc.gen.event.WeatherFilter.Builder, sr.grpc.gen.event.WeatherFilterOrBuilder> weatherFilterBuilder_;
+    /**
+     * <pre>
+     * WEATHER_UPDATE only: of the city's updates, deliver just the ones this filter accepts (optional)
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilter weather_filter = 14;</code>
+     * @return Whether the weatherFilter field is set.
+     */
+    public boolean hasWeatherFilter() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <pre>
+     * WEATHER_UPDATE only: of the city's updates, deliver just the ones this filter accepts (optional)
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilter weather_filter = 14;</code>
+     * @return The weatherFilter.
+     */
+    public sr.grpc.gen.event.WeatherFilter getWeatherFilter() {
+      if (weatherFilterBuilder_ == null) {
+        return weatherFilter_ == null ? sr.grpc.gen.event.WeatherFilter.getDefaultInstance() : weatherFilter_;
+      } else {
+        return weatherFilterBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * WEATHER_UPDATE only: of the city's updates, deliver just the ones this filter accepts (optional)
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilter weather_filter = 14;</code>
+     */
+    public Builder setWeatherFilter(sr.grpc.gen.event.WeatherFilter value) {
+      if (weatherFilterBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        weatherFilter_ = value;
+      } else {
+        weatherFilterBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * WEATHER_UPDATE only: of the city's updates, deliver just the ones this filter accepts (optional)
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilter weather_filter = 14;</code>
+     */
+    public Builder setWeatherFilter(
+        sr.grpc.gen.event.WeatherFilter.Builder builderForValue) {
+      if (weatherFilterBuilder_ == null) {
+        weatherFilter_ = builderForValue.build();
+      } else {
+        weatherFilterBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * WEATHER_UPDATE only: of the city's updates, deliver just the ones this filter accepts (optional)
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilter weather_filter = 14;</code>
+     */
+    public Builder mergeWeatherFilter(sr.grpc.gen.event.WeatherFilter value) {
+      if (weatherFilterBuilder_ == null) {
+        if (((bitField0_ & 0x00000004) != 0) &&
+          weatherFilter_ != null &&
+          weatherFilter_ != sr.grpc.gen.event.WeatherFilter.getDefaultInstance()) {
+          getWeatherFilterBuilder().mergeFrom(value);
+        } else {
+          weatherFilter_ = value;
+        }
+      } else {
+        weatherFilterBuilder_.mergeFrom(value);
+      }
+      if (weatherFilter_ != null) {
+        bitField0_ |= 0x00000004;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * WEATHER_UPDATE only: of the city's updates, deliver just the ones this filter accepts (optional)
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilter weather_filter = 14;</code>
+     */
+    public Builder clearWeatherFilter() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      weatherFilter_ = null;
+      if (weatherFilterBuilder_ != null) {
+        weatherFilterBuilder_.dispose();
+        weatherFilterBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * WEATHER_UPDATE only: of the city's updates, deliver just the ones this filter accepts (optional)
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilter weather_filter = 14;</code>
+     */
+    public sr.grpc.gen.event.WeatherFilter.Builder getWeatherFilterBuilder() {
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return internalGetWeatherFilterFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * WEATHER_UPDATE only: of the city's updates, deliver just the ones this filter accepts (optional)
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilter weather_filter = 14;</code>
+     */
+    public sr.grpc.gen.event.WeatherFilterOrBuilder getWeatherFilterOrBuilder() {
+      if (weatherFilterBuilder_ != null) {
+        return weatherFilterBuilder_.getMessageOrBuilder();
+      } else {
+        return weatherFilter_ == null ?
+            sr.grpc.gen.event.WeatherFilter.getDefaultInstance() : weatherFilter_;
+      }
+    }
+    /**
+     * <pre>
+     * WEATHER_UPDATE only: of the city's updates, deliver just the ones this filter accepts (optional)
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilter weather_filter = 14;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.WeatherFilter, sr.grpc.gen.event.WeatherFilter.Builder, sr.grpc.gen.event.WeatherFilterOrBuilder> 
+        internalGetWeatherFilterFieldBuilder() {
+      if (weatherFilterBuilder_ == null) {
+        weatherFilterBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.WeatherFilter, sr.grpc.gen.event.WeatherFilter.Builder, sr.grpc.gen.event.WeatherFilterOrBuilder>(
+                getWeatherFilter(),
+                getParentForChildren(),
+                isClean());
+        weatherFilter_ = null;
+      }
+      return weatherFilterBuilder_;
+    }
+
+    private sr.grpc.gen.event.GeoCircle within_;
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.GeoCircle, sr.grpc.gen.event.GeoCircle.Builder, sr.grpc.gen.event.GeoCircleOrBuilder> withinBuilder_;
+    /**
+     * <pre>
+     * WEATHER_UPDATE only, instead of target_identifier: the updates of any city whose location lies in this
+     * circle. Updates without a location never match. Not available on cluster nodes and edge servers.
+     * </pre>
+     *
+     * <code>.eventsubscription.GeoCircle within = 15;</code>
+     * @return Whether the within field is set.
+     */
+    public boolean hasWithin() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <pre>
+     * WEATHER_UPDATE only, instead of target_identifier: the updates of any city whose location lies in this
+     * circle. Updates without a location never match. Not available on cluster nodes and edge servers.
+     * </pre>
+     *
+     * <code>.eventsubscription.GeoCircle within = 15;</code>
+     * @return The within.
+     */
+    public sr.grpc.gen.event.GeoCircle getWithin() {
+      if (withinBuilder_ == null) {
+        return within_ == null ? sr.grpc.gen.event.GeoCircle.getDefaultInstance() : within_;
+      } else {
+        return withinBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * WEATHER_UPDATE only, instead of target_identifier: the updates of any city whose location lies in this
+     * circle. Updates without a location never match. Not available on cluster nodes and edge servers.
+     * </pre>
+     *
+     * <code>.eventsubscription.GeoCircle within = 15;</code>
+     */
+    public Builder setWithin(sr.grpc.gen.event.GeoCircle value) {
+      if (withinBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        within_ = value;
+      } else {
+        withinBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * WEATHER_UPDATE only, instead of target_identifier: the updates of any city whose location lies in this
+     * circle. Updates without a location never match. Not available on cluster nodes and edge servers.
+     * </pre>
+     *
+     * <code>.eventsubscription.GeoCircle within = 15;</code>
+     */
+    public Builder setWithin(
+        sr.grpc.gen.event.GeoCircle.Builder builderForValue) {
+      if (withinBuilder_ == null) {
+        within_ = builderForValue.build();
+      } else {
+        withinBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * WEATHER_UPDATE only, instead of target_identifier: the updates of any city whose location lies in this
+     * circle. Updates without a location never match. Not available on cluster nodes and edge servers.
+     * </pre>
+     *
+     * <code>.eventsubscription.GeoCircle within = 15;</code>
+     */
+    public Builder mergeWithin(sr.grpc.gen.event.GeoCircle value) {
+      if (withinBuilder_ == null) {
+        if (((bitField0_ & 0x00000008) != 0) &&
+          within_ != null &&
+          within_ != sr.grpc.gen.event.GeoCircle.getDefaultInstance()) {
+          getWithinBuilder().mergeFrom(value);
+        } else {
+          within_ = value;
+        }
+      } else {
+        withinBuilder_.mergeFrom(value);
+      }
+      if (within_ != null) {
+        bitField0_ |= 0x00000008;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * WEATHER_UPDATE only, instead of target_identifier: the updates of any city whose location lies in this
+     * circle. Updates without a location never match. Not available on cluster nodes and edge servers.
+     * </pre>
+     *
+     * <code>.eventsubscription.GeoCircle within = 15;</code>
+     */
+    public Builder clearWithin() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      within_ = null;
+      if (withinBuilder_ != null) {
+        withinBuilder_.dispose();
+        withinBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * WEATHER_UPDATE only, instead of target_identifier: the updates of any city whose location lies in this
+     * circle. Updates without a location never match. Not available on cluster nodes and edge servers.
+     * </pre>
+     *
+     * <code>.eventsubscription.GeoCircle within = 15;</code>
+     */
+    public sr.grpc.gen.event.GeoCircle.Builder getWithinBuilder() {
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return internalGetWithinFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * WEATHER_UPDATE only, instead of target_identifier: the updates of any city whose location lies in this
+     * circle. Updates without a location never match. Not available on cluster nodes and edge servers.
+     * </pre>
+     *
+     * <code>.eventsubscription.GeoCircle within = 15;</code>
+     */
+    public sr.grpc.gen.event.GeoCircleOrBuilder getWithinOrBuilder() {
+      if (withinBuilder_ != null) {
+        return withinBuilder_.getMessageOrBuilder();
+      } else {
+        return within_ == null ?
+            sr.grpc.gen.event.GeoCircle.getDefaultInstance() : within_;
+      }
+    }
+    /**
+     * <pre>
+     * WEATHER_UPDATE only, instead of target_identifier: the updates of any city whose location lies in this
+     * circle. Updates without a location never match. Not available on cluster nodes and edge servers.
+     * </pre>
+     *
+     * <code>.eventsubscription.GeoCircle within = 15;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.GeoCircle, sr.grpc.gen.event.GeoCircle.Builder, sr.grpc.gen.event.GeoCircleOrBuilder> 
+        internalGetWithinFieldBuilder() {
+      if (withinBuilder_ == null) {
+        withinBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.GeoCircle, sr.grpc.gen.event.GeoCircle.Builder, sr.grpc.gen.event.GeoCircleOrBuilder>(
+                getWithin(),
+                getParentForChildren(),
+                isClean());
+        within_ = null;
+      }
+      return withinBuilder_;
+    }
+
     // @@protoc_insertion_point(builder_scope:eventsubscription.SubscriptionCriteria)
   }
 
@@ -11,7 +11,7 @@ public interface SubscriptionCriteriaOrBuilder extends
 
   /**
    * <pre>
-   * Common field: Target identifier (e.g., city, artist, topic)
+   * Common field: Target identifier
    * </pre>
    *
    * <code>string target_identifier = 1;</code>
@@ -20,7 +20,7 @@ public interface SubscriptionCriteriaOrBuilder extends
   java.lang.String getTargetIdentifier();
   /**
    * <pre>
-   * Common field: Target identifier (e.g., city, artist, topic)
+   * Common field: Target identifier
    * </pre>
    *
    * <code>string target_identifier = 1;</code>
@@ -69,4 +69,61 @@ public interface SubscriptionCriteriaOrBuilder extends
    */
   com.google.protobuf.ByteString
       getKeywordsBytes(int index);
+
+  /**
+   * <pre>
+   * WEATHER_UPDATE only: of the city's updates, deliver just the ones this filter accepts (optional)
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilter weather_filter = 14;</code>
+   * @return Whether the weatherFilter field is set.
+   */
+  boolean hasWeatherFilter();
+  /**
+   * <pre>
+   * WEATHER_UPDATE only: of the city's updates, deliver just the ones this filter accepts (optional)
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilter weather_filter = 14;</code>
+   * @return The weatherFilter.
+   */
+  sr.grpc.gen.event.WeatherFilter getWeatherFilter();
+  /**
+   * <pre>
+   * WEATHER_UPDATE only: of the city's updates, deliver just the ones this filter accepts (optional)
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilter weather_filter = 14;</code>
+   */
+  sr.grpc.gen.event.WeatherFilterOrBuilder getWeatherFilterOrBuilder();
+
+  /**
+   * <pre>
+   * WEATHER_UPDATE only, instead of target_identifier: the updates of any city whose location lies in this
+   * circle. Updates without a location never match. Not available on cluster nodes and edge servers.
+   * </pre>
+   *
+   * <code>.eventsubscription.GeoCircle within = 15;</code>
+   * @return Whether the within field is set.
+   */
+  boolean hasWithin();
+  /**
+   * <pre>
+   * WEATHER_UPDATE only, instead of target_identifier: the updates of any city whose location lies in this
+   * circle. Updates without a location never match. Not available on cluster nodes and edge servers.
+   * </pre>
+   *
+   * <code>.eventsubscription.GeoCircle within = 15;</code>
+   * @return The within.
+   */
+  sr.grpc.gen.event.GeoCircle getWithin();
+  /**
+   * <pre>
+   * WEATHER_UPDATE only, instead of target_identifier: the updates of any city whose location lies in this
+   * circle. Updates without a location never match. Not available on cluster nodes and edge servers.
+   * </pre>
+   *
+   * <code>.eventsubscription.GeoCircle within = 15;</code>
+   */
+  sr.grpc.gen.event.GeoCircleOrBuilder getWithinOrBuilder();
 }
@@ -33,6 +33,8 @@ private static final long serialVersionUID = 0L;
   private SubscriptionRequest() {
     clientSubscriptionId_ = "";
     eventType_ = 0;
+    deliveryMode_ = 0;
+    responseEncoding_ = "";
   }
 
   public static final com.google.protobuf.Descriptors.Descriptor
@@ -162,6 +164,131 @@ private static final long serialVersionUID = 0L;
     return criteria_ == null ? sr.grpc.gen.event.SubscriptionCriteria.getDefaultInstance() : criteria_;
   }
 
+  public static final int DELIVERY_MODE_FIELD_NUMBER = 4;
+  private int deliveryMode_ = 0;
+  /**
+   * <pre>
+   * Optional: how notifications are buffered for a slow subscriber (default QUEUE_ALL). CONFLATE_LATEST is not
+   * supported for a city path or pattern, or a circle, which cover many targets, nor for NEWS_FLASH.
+   * </pre>
+   *
+   * <code>.eventsubscription.DeliveryMode delivery_mode = 4;</code>
+   * @return The enum numeric value on the wire for deliveryMode.
+   */
+  @java.lang.Override public int getDeliveryModeValue() {
+    return deliveryMode_;
+  }
+  /**
+   * <pre>
+   * Optional: how notifications are buffered for a slow subscriber (default QUEUE_ALL). CONFLATE_LATEST is not
+   * supported for a city path or pattern, or a circle, which cover many targets, nor for NEWS_FLASH.
+   * </pre>
+   *
+   * <code>.eventsubscription.DeliveryMode delivery_mode = 4;</code>
+   * @return The deliveryMode.
+   */
+  @java.lang.Override public sr.grpc.gen.event.DeliveryMode getDeliveryMode() {
+    sr.grpc.gen.event.DeliveryMode result = sr.grpc.gen.event.DeliveryMode.forNumber(deliveryMode_);
+    return result == null ? sr.grpc.gen.event.DeliveryMode.UNRECOGNIZED : result;
+  }
+
+  public static final int RESUME_AFTER_SEQUENCE_FIELD_NUMBER = 5;
+  private long resumeAfterSequence_ = 0L;
+  /**
+   * <pre>
+   * Optional: replay the topic's journaled events with a sequence greater than this before live ones, e.g. the
+   * last sequence received before reconnecting. Only for WEATHER_UPDATE, and only if the server keeps a journal.
+   * </pre>
+   *
+   * <code>optional uint64 resume_after_sequence = 5;</code>
+   * @return Whether the resumeAfterSequence field is set.
+   */
+  @java.lang.Override
+  public boolean hasResumeAfterSequence() {
+    return ((bitField0_ & 0x00000002) != 0);
+  }
+  /**
+   * <pre>
+   * Optional: replay the topic's journaled events with a sequence greater than this before live ones, e.g. the
+   * last sequence received before reconnecting. Only for WEATHER_UPDATE, and only if the server keeps a journal.
+   * </pre>
+   *
+   * <code>optional uint64 resume_after_sequence = 5;</code>
+   * @return The resumeAfterSequence.
+   */
+  @java.lang.Override
+  public long getResumeAfterSequence() {
+    return resumeAfterSequence_;
+  }
+
+  public static final int WEATHER_DELTA_FIELD_NUMBER = 6;
+  private boolean weatherDelta_ = false;
+  /**
+   * <pre>
+   * Optional, WEATHER_UPDATE only: after the first full update of the city, send weather_update_delta with only
+   * the fields that changed since the last update sent on this subscription, and nothing if none changed.
+   * Not supported for a city path or pattern, or a circle.
+   * </pre>
+   *
+   * <code>bool weather_delta = 6;</code>
+   * @return The weatherDelta.
+   */
+  @java.lang.Override
+  public boolean getWeatherDelta() {
+    return weatherDelta_;
+  }
+
+  public static final int RESPONSE_ENCODING_FIELD_NUMBER = 7;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object responseEncoding_ = "";
+  /**
+   * <pre>
+   * Optional: message encoding for the notifications of this stream, e.g. "gzip" or "deflate". The server falls
+   * back to "identity" if it, or the client (per its grpc-accept-encoding), does not support the encoding.
+   * Small messages are sent uncompressed either way. On a session, the first add_subscription decides.
+   * </pre>
+   *
+   * <code>string response_encoding = 7;</code>
+   * @return The responseEncoding.
+   */
+  @java.lang.Override
+  public java.lang.String getResponseEncoding() {
+    java.lang.Object ref = responseEncoding_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      responseEncoding_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Optional: message encoding for the notifications of this stream, e.g. "gzip" or "deflate". The server falls
+   * back to "identity" if it, or the client (per its grpc-accept-encoding), does not support the encoding.
+   * Small messages are sent uncompressed either way. On a session, the first add_subscription decides.
+   * </pre>
+   *
+   * <code>string response_encoding = 7;</code>
+   * @return The bytes for responseEncoding.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getResponseEncodingBytes() {
+    java.lang.Object ref = responseEncoding_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      responseEncoding_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -185,6 +312,18 @@ private static final long serialVersionUID = 0L;
     if (((bitField0_ & 0x00000001) != 0)) {
       output.writeMessage(3, getCriteria());
     }
+    if (deliveryMode_ != sr.grpc.gen.event.DeliveryMode.DELIVERY_MODE_UNSPECIFIED.getNumber()) {
+      output.writeEnum(4, deliveryMode_);
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      output.writeUInt64(5, resumeAfterSequence_);
+    }
+    if (weatherDelta_ != false) {
+      output.writeBool(6, weatherDelta_);
+    }
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(responseEncoding_)) {
+      com.google.protobuf.GeneratedMessage.writeString(output, 7, responseEncoding_);
+    }
     getUnknownFields().writeTo(output);
   }
 
@@ -205,6 +344,21 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeMessageSize(3, getCriteria());
     }
+    if (deliveryMode_ != sr.grpc.gen.event.DeliveryMode.DELIVERY_MODE_UNSPECIFIED.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(4, deliveryMode_);
+    }
+    if (((bitField0_ & 0x00000002) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(5, resumeAfterSequence_);
+    }
+    if (weatherDelta_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(6, weatherDelta_);
+    }
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(responseEncoding_)) {
+      size += com.google.protobuf.GeneratedMessage.computeStringSize(7, responseEncoding_);
+    }
     size += getUnknownFields().getSerializedSize();
     memoizedSize = size;
     return size;
@@ -228,6 +382,16 @@ private static final long serialVersionUID = 0L;
       if (!getCriteria()
           .equals(other.getCriteria())) return false;
     }
+    if (deliveryMode_ != other.deliveryMode_) return false;
+    if (hasResumeAfterSequence() != other.hasResumeAfterSequence()) return false;
+    if (hasResumeAfterSequence()) {
+      if (getResumeAfterSequence()
+          != other.getResumeAfterSequence()) return false;
+    }
+    if (getWeatherDelta()
+        != other.getWeatherDelta()) return false;
+    if (!getResponseEncoding()
+        .equals(other.getResponseEncoding())) return false;
     if (!getUnknownFields().equals(other.getUnknownFields())) return false;
     return true;
   }
@@ -247,6 +411,18 @@ private static final long serialVersionUID = 0L;
       hash = (37 * hash) + CRITERIA_FIELD_NUMBER;
       hash = (53 * hash) + getCriteria().hashCode();
     }
+    hash = (37 * hash) + DELIVERY_MODE_FIELD_NUMBER;
+    hash = (53 * hash) + deliveryMode_;
+    if (hasResumeAfterSequence()) {
+      hash = (37 * hash) + RESUME_AFTER_SEQUENCE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getResumeAfterSequence());
+    }
+    hash = (37 * hash) + WEATHER_DELTA_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getWeatherDelta());
+    hash = (37 * hash) + RESPONSE_ENCODING_FIELD_NUMBER;
+    hash = (53 * hash) + getResponseEncoding().hashCode();
     hash = (29 * hash) + getUnknownFields().hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -395,6 +571,10 @@ private static final long serialVersionUID = 0L;
         criteriaBuilder_.dispose();
         criteriaBuilder_ = null;
       }
+      deliveryMode_ = 0;
+      resumeAfterSequence_ = 0L;
+      weatherDelta_ = false;
+      responseEncoding_ = "";
       return this;
     }
 
@@ -441,6 +621,19 @@ private static final long serialVersionUID = 0L;
             : criteriaBuilder_.build();
         to_bitField0_ |= 0x00000001;
       }
+      if (((from_bitField0_ & 0x00000008) != 0)) {
+        result.deliveryMode_ = deliveryMode_;
+      }
+      if (((from_bitField0_ & 0x00000010) != 0)) {
+        result.resumeAfterSequence_ = resumeAfterSequence_;
+        to_bitField0_ |= 0x00000002;
+      }
+      if (((from_bitField0_ & 0x00000020) != 0)) {
+        result.weatherDelta_ = weatherDelta_;
+      }
+      if (((from_bitField0_ & 0x00000040) != 0)) {
+        result.responseEncoding_ = responseEncoding_;
+      }
       result.bitField0_ |= to_bitField0_;
     }
 
@@ -467,6 +660,20 @@ private static final long serialVersionUID = 0L;
       if (other.hasCriteria()) {
         mergeCriteria(other.getCriteria());
       }
+      if (other.deliveryMode_ != 0) {
+        setDeliveryModeValue(other.getDeliveryModeValue());
+      }
+      if (other.hasResumeAfterSequence()) {
+        setResumeAfterSequence(other.getResumeAfterSequence());
+      }
+      if (other.getWeatherDelta() != false) {
+        setWeatherDelta(other.getWeatherDelta());
+      }
+      if (!other.getResponseEncoding().isEmpty()) {
+        responseEncoding_ = other.responseEncoding_;
+        bitField0_ |= 0x00000040;
+        onChanged();
+      }
       this.mergeUnknownFields(other.getUnknownFields());
       onChanged();
       return this;
@@ -510,6 +717,26 @@ private static final long serialVersionUID = 0L;
               bitField0_ |= 0x00000004;
               break;
             } // case 26
+            case 32: {
+              deliveryMode_ = input.readEnum();
+              bitField0_ |= 0x00000008;
+              break;
+            } // case 32
+            case 40: {
+              resumeAfterSequence_ = input.readUInt64();
+              bitField0_ |= 0x00000010;
+              break;
+            } // case 40
+            case 48: {
+              weatherDelta_ = input.readBool();
+              bitField0_ |= 0x00000020;
+              break;
+            } // case 48
+            case 58: {
+              responseEncoding_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000040;
+              break;
+            } // case 58
             default: {
               if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                 done = true; // was an endgroup tag
@@ -854,6 +1081,296 @@ private static final long serialVersionUID = 0L;
       return criteriaBuilder_;
     }
 
+    private int deliveryMode_ = 0;
+    /**
+     * <pre>
+     * Optional: how notifications are buffered for a slow subscriber (default QUEUE_ALL). CONFLATE_LATEST is not
+     * supported for a city path or pattern, or a circle, which cover many targets, nor for NEWS_FLASH.
+     * </pre>
+     *
+     * <code>.eventsubscription.DeliveryMode delivery_mode = 4;</code>
+     * @return The enum numeric value on the wire for deliveryMode.
+     */
+    @java.lang.Override public int getDeliveryModeValue() {
+      return deliveryMode_;
+    }
+    /**
+     * <pre>
+     * Optional: how notifications are buffered for a slow subscriber (default QUEUE_ALL). CONFLATE_LATEST is not
+     * supported for a city path or pattern, or a circle, which cover many targets, nor for NEWS_FLASH.
+     * </pre>
+     *
+     * <code>.eventsubscription.DeliveryMode delivery_mode = 4;</code>
+     * @param value The enum numeric value on the wire for deliveryMode to set.
+     * @return This builder for chaining.
+     */
+    public Builder setDeliveryModeValue(int value) {
+      deliveryMode_ = value;
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Optional: how notifications are buffered for a slow subscriber (default QUEUE_ALL). CONFLATE_LATEST is not
+     * supported for a city path or pattern, or a circle, which cover many targets, nor for NEWS_FLASH.
+     * </pre>
+     *
+     * <code>.eventsubscription.DeliveryMode delivery_mode = 4;</code>
+     * @return The deliveryMode.
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.DeliveryMode getDeliveryMode() {
+      sr.grpc.gen.event.DeliveryMode result = sr.grpc.gen.event.DeliveryMode.forNumber(deliveryMode_);
+      return result == null ? sr.grpc.gen.event.DeliveryMode.UNRECOGNIZED : result;
+    }
+    /**
+     * <pre>
+     * Optional: how notifications are buffered for a slow subscriber (default QUEUE_ALL). CONFLATE_LATEST is not
+     * supported for a city path or pattern, or a circle, which cover many targets, nor for NEWS_FLASH.
+     * </pre>
+     *
+     * <code>.eventsubscription.DeliveryMode delivery_mode = 4;</code>
+     * @param value The deliveryMode to set.
+     * @return This builder for chaining.
+     */
+    public Builder setDeliveryMode(sr.grpc.gen.event.DeliveryMode value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      bitField0_ |= 0x00000008;
+      deliveryMode_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Optional: how notifications are buffered for a slow subscriber (default QUEUE_ALL). CONFLATE_LATEST is not
+     * supported for a city path or pattern, or a circle, which cover many targets, nor for NEWS_FLASH.
+     * </pre>
+     *
+     * <code>.eventsubscription.DeliveryMode delivery_mode = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearDeliveryMode() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      deliveryMode_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private long resumeAfterSequence_ ;
+    /**
+     * <pre>
+     * Optional: replay the topic's journaled events with a sequence greater than this before live ones, e.g. the
+     * last sequence received before reconnecting. Only for WEATHER_UPDATE, and only if the server keeps a journal.
+     * </pre>
+     *
+     * <code>optional uint64 resume_after_sequence = 5;</code>
+     * @return Whether the resumeAfterSequence field is set.
+     */
+    @java.lang.Override
+    public boolean hasResumeAfterSequence() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <pre>
+     * Optional: replay the topic's journaled events with a sequence greater than this before live ones, e.g. the
+     * last sequence received before reconnecting. Only for WEATHER_UPDATE, and only if the server keeps a journal.
+     * </pre>
+     *
+     * <code>optional uint64 resume_after_sequence = 5;</code>
+     * @return The resumeAfterSequence.
+     */
+    @java.lang.Override
+    public long getResumeAfterSequence() {
+      return resumeAfterSequence_;
+    }
+    /**
+     * <pre>
+     * Optional: replay the topic's journaled events with a sequence greater than this before live ones, e.g. the
+     * last sequence received before reconnecting. Only for WEATHER_UPDATE, and only if the server keeps a journal.
+     * </pre>
+     *
+     * <code>optional uint64 resume_after_sequence = 5;</code>
+     * @param value The resumeAfterSequence to set.
+     * @return This builder for chaining.
+     */
+    public Builder setResumeAfterSequence(long value) {
+
+      resumeAfterSequence_ = value;
+      bitField0_ |= 0x00000010;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Optional: replay the topic's journaled events with a sequence greater than this before live ones, e.g. the
+     * last sequence received before reconnecting. Only for WEATHER_UPDATE, and only if the server keeps a journal.
+     * </pre>
+     *
+     * <code>optional uint64 resume_after_sequence = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearResumeAfterSequence() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      resumeAfterSequence_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private boolean weatherDelta_ ;
+    /**
+     * <pre>
+     * Optional, WEATHER_UPDATE only: after the first full update of the city, send weather_update_delta with only
+     * the fields that changed since the last update sent on this subscription, and nothing if none changed.
+     * Not supported for a city path or pattern, or a circle.
+     * </pre>
+     *
+     * <code>bool weather_delta = 6;</code>
+     * @return The weatherDelta.
+     */
+    @java.lang.Override
+    public boolean getWeatherDelta() {
+      return weatherDelta_;
+    }
+    /**
+     * <pre>
+     * Optional, WEATHER_UPDATE only: after the first full update of the city, send weather_update_delta with only
+     * the fields that changed since the last update sent on this subscription, and nothing if none changed.
+     * Not supported for a city path or pattern, or a circle.
+     * </pre>
+     *
+     * <code>bool weather_delta = 6;</code>
+     * @param value The weatherDelta to set.
+     * @return This builder for chaining.
+     */
+    public Builder setWeatherDelta(boolean value) {
+
+      weatherDelta_ = value;
+      bitField0_ |= 0x00000020;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Optional, WEATHER_UPDATE only: after the first full update of the city, send weather_update_delta with only
+     * the fields that changed since the last update sent on this subscription, and nothing if none changed.
+     * Not supported for a city path or pattern, or a circle.
+     * </pre>
+     *
+     * <code>bool weather_delta = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearWeatherDelta() {
+      bitField0_ = (bitField0_ & ~0x00000020);
+      weatherDelta_ = false;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object responseEncoding_ = "";
+    /**
+     * <pre>
+     * Optional: message encoding for the notifications of this stream, e.g. "gzip" or "deflate". The server falls
+     * back to "identity" if it, or the client (per its grpc-accept-encoding), does not support the encoding.
+     * Small messages are sent uncompressed either way. On a session, the first add_subscription decides.
+     * </pre>
+     *
+     * <code>string response_encoding = 7;</code>
+     * @return The responseEncoding.
+     */
+    public java.lang.String getResponseEncoding() {
+      java.lang.Object ref = responseEncoding_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        responseEncoding_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Optional: message encoding for the notifications of this stream, e.g. "gzip" or "deflate". The server falls
+     * back to "identity" if it, or the client (per its grpc-accept-encoding), does not support the encoding.
+     * Small messages are sent uncompressed either way. On a session, the first add_subscription decides.
+     * </pre>
+     *
+     * <code>string response_encoding = 7;</code>
+     * @return The bytes for responseEncoding.
+     */
+    public com.google.protobuf.ByteString
+        getResponseEncodingBytes() {
+      java.lang.Object ref = responseEncoding_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        responseEncoding_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Optional: message encoding for the notifications of this stream, e.g. "gzip" or "deflate". The server falls
+     * back to "identity" if it, or the client (per its grpc-accept-encoding), does not support the encoding.
+     * Small messages are sent uncompressed either way. On a session, the first add_subscription decides.
+     * </pre>
+     *
+     * <code>string response_encoding = 7;</code>
+     * @param value The responseEncoding to set.
+     * @return This builder for chaining.
+     */
+    public Builder setResponseEncoding(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      responseEncoding_ = value;
+      bitField0_ |= 0x00000040;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Optional: message encoding for the notifications of this stream, e.g. "gzip" or "deflate". The server falls
+     * back to "identity" if it, or the client (per its grpc-accept-encoding), does not support the encoding.
+     * Small messages are sent uncompressed either way. On a session, the first add_subscription decides.
+     * </pre>
+     *
+     * <code>string response_encoding = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearResponseEncoding() {
+      responseEncoding_ = getDefaultInstance().getResponseEncoding();
+      bitField0_ = (bitField0_ & ~0x00000040);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Optional: message encoding for the notifications of this stream, e.g. "gzip" or "deflate". The server falls
+     * back to "identity" if it, or the client (per its grpc-accept-encoding), does not support the encoding.
+     * Small messages are sent uncompressed either way. On a session, the first add_subscription decides.
+     * </pre>
+     *
+     * <code>string response_encoding = 7;</code>
+     * @param value The bytes for responseEncoding to set.
+     * @return This builder for chaining.
+     */
+    public Builder setResponseEncodingBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      responseEncoding_ = value;
+      bitField0_ |= 0x00000040;
+      onChanged();
+      return this;
+    }
+
     // @@protoc_insertion_point(builder_scope:eventsubscription.SubscriptionRequest)
   }
 
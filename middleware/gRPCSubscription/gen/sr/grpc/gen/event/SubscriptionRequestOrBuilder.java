@@ -76,4 +76,82 @@ public interface SubscriptionRequestOrBuilder extends
    * <code>.eventsubscription.SubscriptionCriteria criteria = 3;</code>
    */
   sr.grpc.gen.event.SubscriptionCriteriaOrBuilder getCriteriaOrBuilder();
+
+  /**
+   * <pre>
+   * Optional: how notifications are buffered for a slow subscriber (default QUEUE_ALL). CONFLATE_LATEST is not
+   * supported for a city path or pattern, or a circle, which cover many targets, nor for NEWS_FLASH.
+   * </pre>
+   *
+   * <code>.eventsubscription.DeliveryMode delivery_mode = 4;</code>
+   * @return The enum numeric value on the wire for deliveryMode.
+   */
+  int getDeliveryModeValue();
+  /**
+   * <pre>
+   * Optional: how notifications are buffered for a slow subscriber (default QUEUE_ALL). CONFLATE_LATEST is not
+   * supported for a city path or pattern, or a circle, which cover many targets, nor for NEWS_FLASH.
+   * </pre>
+   *
+   * <code>.eventsubscription.DeliveryMode delivery_mode = 4;</code>
+   * @return The deliveryMode.
+   */
+  sr.grpc.gen.event.DeliveryMode getDeliveryMode();
+
+  /**
+   * <pre>
+   * Optional: replay the topic's journaled events with a sequence greater than this before live ones, e.g. the
+   * last sequence received before reconnecting. Only for WEATHER_UPDATE, and only if the server keeps a journal.
+   * </pre>
+   *
+   * <code>optional uint64 resume_after_sequence = 5;</code>
+   * @return Whether the resumeAfterSequence field is set.
+   */
+  boolean hasResumeAfterSequence();
+  /**
+   * <pre>
+   * Optional: replay the topic's journaled events with a sequence greater than this before live ones, e.g. the
+   * last sequence received before reconnecting. Only for WEATHER_UPDATE, and only if the server keeps a journal.
+   * </pre>
+   *
+   * <code>optional uint64 resume_after_sequence = 5;</code>
+   * @return The resumeAfterSequence.
+   */
+  long getResumeAfterSequence();
+
+  /**
+   * <pre>
+   * Optional, WEATHER_UPDATE only: after the first full update of the city, send weather_update_delta with only
+   * the fields that changed since the last update sent on this subscription, and nothing if none changed.
+   * Not supported for a city path or pattern, or a circle.
+   * </pre>
+   *
+   * <code>bool weather_delta = 6;</code>
+   * @return The weatherDelta.
+   */
+  boolean getWeatherDelta();
+
+  /**
+   * <pre>
+   * Optional: message encoding for the notifications of this stream, e.g. "gzip" or "deflate". The server falls
+   * back to "identity" if it, or the client (per its grpc-accept-encoding), does not support the encoding.
+   * Small messages are sent uncompressed either way. On a session, the first add_subscription decides.
+   * </pre>
+   *
+   * <code>string response_encoding = 7;</code>
+   * @return The responseEncoding.
+   */
+  java.lang.String getResponseEncoding();
+  /**
+   * <pre>
+   * Optional: message encoding for the notifications of this stream, e.g. "gzip" or "deflate". The server falls
+   * back to "identity" if it, or the client (per its grpc-accept-encoding), does not support the encoding.
+   * Small messages are sent uncompressed either way. On a session, the first add_subscription decides.
+   * </pre>
+   *
+   * <code>string response_encoding = 7;</code>
+   * @return The bytes for responseEncoding.
+   */
+  com.google.protobuf.ByteString
+      getResponseEncodingBytes();
 }
@@ -136,7 +136,7 @@ public enum WeatherCondition
   }
   public static final com.google.protobuf.Descriptors.EnumDescriptor
       getDescriptor() {
-    return sr.grpc.gen.event.EventSubscriptionProto.getDescriptor().getEnumTypes().get(1);
+    return sr.grpc.gen.event.EventSubscriptionProto.getDescriptor().getEnumTypes().get(3);
   }
 
   private static final WeatherCondition[] VALUES = values();
@@ -0,0 +1,1732 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * <pre>
+ * Condition on the fields of a WeatherUpdate, combined from ranges and condition sets with and/or/not.
+ * The server compiles it once per subscription; subscriptions of a city with the same filter share one
+ * evaluation per update.
+ * </pre>
+ *
+ * Protobuf type {@code eventsubscription.WeatherFilter}
+ */
+public final class WeatherFilter extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.WeatherFilter)
+    WeatherFilterOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      WeatherFilter.class.getName());
+  }
+  // Use WeatherFilter.newBuilder() to construct.
+  private WeatherFilter(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private WeatherFilter() {
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_WeatherFilter_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_WeatherFilter_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.WeatherFilter.class, sr.grpc.gen.event.WeatherFilter.Builder.class);
+  }
+
+  private int filterCase_ = 0;
+  @SuppressWarnings("serial")
+  private java.lang.Object filter_;
+  public enum FilterCase
+      implements com.google.protobuf.Internal.EnumLite,
+          com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+    RANGE(1),
+    CONDITIONS(2),
+    ALL_OF(3),
+    ANY_OF(4),
+    NEGATE(5),
+    FILTER_NOT_SET(0);
+    private final int value;
+    private FilterCase(int value) {
+      this.value = value;
+    }
+    /**
+     * @param value The number of the enum to look for.
+     * @return The enum associated with the given number.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static FilterCase valueOf(int value) {
+      return forNumber(value);
+    }
+
+    public static FilterCase forNumber(int value) {
+      switch (value) {
+        case 1: return RANGE;
+        case 2: return CONDITIONS;
+        case 3: return ALL_OF;
+        case 4: return ANY_OF;
+        case 5: return NEGATE;
+        case 0: return FILTER_NOT_SET;
+        default: return null;
+      }
+    }
+    public int getNumber() {
+      return this.value;
+    }
+  };
+
+  public FilterCase
+  getFilterCase() {
+    return FilterCase.forNumber(
+        filterCase_);
+  }
+
+  public static final int RANGE_FIELD_NUMBER = 1;
+  /**
+   * <pre>
+   * A numeric field within bounds
+   * </pre>
+   *
+   * <code>.eventsubscription.NumericRange range = 1;</code>
+   * @return Whether the range field is set.
+   */
+  @java.lang.Override
+  public boolean hasRange() {
+    return filterCase_ == 1;
+  }
+  /**
+   * <pre>
+   * A numeric field within bounds
+   * </pre>
+   *
+   * <code>.eventsubscription.NumericRange range = 1;</code>
+   * @return The range.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.NumericRange getRange() {
+    if (filterCase_ == 1) {
+       return (sr.grpc.gen.event.NumericRange) filter_;
+    }
+    return sr.grpc.gen.event.NumericRange.getDefaultInstance();
+  }
+  /**
+   * <pre>
+   * A numeric field within bounds
+   * </pre>
+   *
+   * <code>.eventsubscription.NumericRange range = 1;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.NumericRangeOrBuilder getRangeOrBuilder() {
+    if (filterCase_ == 1) {
+       return (sr.grpc.gen.event.NumericRange) filter_;
+    }
+    return sr.grpc.gen.event.NumericRange.getDefaultInstance();
+  }
+
+  public static final int CONDITIONS_FIELD_NUMBER = 2;
+  /**
+   * <pre>
+   * current_condition is one of these
+   * </pre>
+   *
+   * <code>.eventsubscription.ConditionSet conditions = 2;</code>
+   * @return Whether the conditions field is set.
+   */
+  @java.lang.Override
+  public boolean hasConditions() {
+    return filterCase_ == 2;
+  }
+  /**
+   * <pre>
+   * current_condition is one of these
+   * </pre>
+   *
+   * <code>.eventsubscription.ConditionSet conditions = 2;</code>
+   * @return The conditions.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.ConditionSet getConditions() {
+    if (filterCase_ == 2) {
+       return (sr.grpc.gen.event.ConditionSet) filter_;
+    }
+    return sr.grpc.gen.event.ConditionSet.getDefaultInstance();
+  }
+  /**
+   * <pre>
+   * current_condition is one of these
+   * </pre>
+   *
+   * <code>.eventsubscription.ConditionSet conditions = 2;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.ConditionSetOrBuilder getConditionsOrBuilder() {
+    if (filterCase_ == 2) {
+       return (sr.grpc.gen.event.ConditionSet) filter_;
+    }
+    return sr.grpc.gen.event.ConditionSet.getDefaultInstance();
+  }
+
+  public static final int ALL_OF_FIELD_NUMBER = 3;
+  /**
+   * <pre>
+   * Every filter of the list accepts the update
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilterList all_of = 3;</code>
+   * @return Whether the allOf field is set.
+   */
+  @java.lang.Override
+  public boolean hasAllOf() {
+    return filterCase_ == 3;
+  }
+  /**
+   * <pre>
+   * Every filter of the list accepts the update
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilterList all_of = 3;</code>
+   * @return The allOf.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.WeatherFilterList getAllOf() {
+    if (filterCase_ == 3) {
+       return (sr.grpc.gen.event.WeatherFilterList) filter_;
+    }
+    return sr.grpc.gen.event.WeatherFilterList.getDefaultInstance();
+  }
+  /**
+   * <pre>
+   * Every filter of the list accepts the update
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilterList all_of = 3;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.WeatherFilterListOrBuilder getAllOfOrBuilder() {
+    if (filterCase_ == 3) {
+       return (sr.grpc.gen.event.WeatherFilterList) filter_;
+    }
+    return sr.grpc.gen.event.WeatherFilterList.getDefaultInstance();
+  }
+
+  public static final int ANY_OF_FIELD_NUMBER = 4;
+  /**
+   * <pre>
+   * At least one filter of the list accepts it
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilterList any_of = 4;</code>
+   * @return Whether the anyOf field is set.
+   */
+  @java.lang.Override
+  public boolean hasAnyOf() {
+    return filterCase_ == 4;
+  }
+  /**
+   * <pre>
+   * At least one filter of the list accepts it
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilterList any_of = 4;</code>
+   * @return The anyOf.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.WeatherFilterList getAnyOf() {
+    if (filterCase_ == 4) {
+       return (sr.grpc.gen.event.WeatherFilterList) filter_;
+    }
+    return sr.grpc.gen.event.WeatherFilterList.getDefaultInstance();
+  }
+  /**
+   * <pre>
+   * At least one filter of the list accepts it
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilterList any_of = 4;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.WeatherFilterListOrBuilder getAnyOfOrBuilder() {
+    if (filterCase_ == 4) {
+       return (sr.grpc.gen.event.WeatherFilterList) filter_;
+    }
+    return sr.grpc.gen.event.WeatherFilterList.getDefaultInstance();
+  }
+
+  public static final int NEGATE_FIELD_NUMBER = 5;
+  /**
+   * <pre>
+   * The filter rejects it
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilter negate = 5;</code>
+   * @return Whether the negate field is set.
+   */
+  @java.lang.Override
+  public boolean hasNegate() {
+    return filterCase_ == 5;
+  }
+  /**
+   * <pre>
+   * The filter rejects it
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilter negate = 5;</code>
+   * @return The negate.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.WeatherFilter getNegate() {
+    if (filterCase_ == 5) {
+       return (sr.grpc.gen.event.WeatherFilter) filter_;
+    }
+    return sr.grpc.gen.event.WeatherFilter.getDefaultInstance();
+  }
+  /**
+   * <pre>
+   * The filter rejects it
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilter negate = 5;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.WeatherFilterOrBuilder getNegateOrBuilder() {
+    if (filterCase_ == 5) {
+       return (sr.grpc.gen.event.WeatherFilter) filter_;
+    }
+    return sr.grpc.gen.event.WeatherFilter.getDefaultInstance();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (filterCase_ == 1) {
+      output.writeMessage(1, (sr.grpc.gen.event.NumericRange) filter_);
+    }
+    if (filterCase_ == 2) {
+      output.writeMessage(2, (sr.grpc.gen.event.ConditionSet) filter_);
+    }
+    if (filterCase_ == 3) {
+      output.writeMessage(3, (sr.grpc.gen.event.WeatherFilterList) filter_);
+    }
+    if (filterCase_ == 4) {
+      output.writeMessage(4, (sr.grpc.gen.event.WeatherFilterList) filter_);
+    }
+    if (filterCase_ == 5) {
+      output.writeMessage(5, (sr.grpc.gen.event.WeatherFilter) filter_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (filterCase_ == 1) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, (sr.grpc.gen.event.NumericRange) filter_);
+    }
+    if (filterCase_ == 2) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, (sr.grpc.gen.event.ConditionSet) filter_);
+    }
+    if (filterCase_ == 3) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, (sr.grpc.gen.event.WeatherFilterList) filter_);
+    }
+    if (filterCase_ == 4) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(4, (sr.grpc.gen.event.WeatherFilterList) filter_);
+    }
+    if (filterCase_ == 5) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(5, (sr.grpc.gen.event.WeatherFilter) filter_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.WeatherFilter)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.WeatherFilter other = (sr.grpc.gen.event.WeatherFilter) obj;
+
+    if (!getFilterCase().equals(other.getFilterCase())) return false;
+    switch (filterCase_) {
+      case 1:
+        if (!getRange()
+            .equals(other.getRange())) return false;
+        break;
+      case 2:
+        if (!getConditions()
+            .equals(other.getConditions())) return false;
+        break;
+      case 3:
+        if (!getAllOf()
+            .equals(other.getAllOf())) return false;
+        break;
+      case 4:
+        if (!getAnyOf()
+            .equals(other.getAnyOf())) return false;
+        break;
+      case 5:
+        if (!getNegate()
+            .equals(other.getNegate())) return false;
+        break;
+      case 0:
+      default:
+    }
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    switch (filterCase_) {
+      case 1:
+        hash = (37 * hash) + RANGE_FIELD_NUMBER;
+        hash = (53 * hash) + getRange().hashCode();
+        break;
+      case 2:
+        hash = (37 * hash) + CONDITIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getConditions().hashCode();
+        break;
+      case 3:
+        hash = (37 * hash) + ALL_OF_FIELD_NUMBER;
+        hash = (53 * hash) + getAllOf().hashCode();
+        break;
+      case 4:
+        hash = (37 * hash) + ANY_OF_FIELD_NUMBER;
+        hash = (53 * hash) + getAnyOf().hashCode();
+        break;
+      case 5:
+        hash = (37 * hash) + NEGATE_FIELD_NUMBER;
+        hash = (53 * hash) + getNegate().hashCode();
+        break;
+      case 0:
+      default:
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.WeatherFilter parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.WeatherFilter parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.WeatherFilter parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.WeatherFilter parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.WeatherFilter parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.WeatherFilter parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.WeatherFilter parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.WeatherFilter parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.WeatherFilter parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.WeatherFilter parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.WeatherFilter parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.WeatherFilter parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.WeatherFilter prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Condition on the fields of a WeatherUpdate, combined from ranges and condition sets with and/or/not.
+   * The server compiles it once per subscription; subscriptions of a city with the same filter share one
+   * evaluation per update.
+   * </pre>
+   *
+   * Protobuf type {@code eventsubscription.WeatherFilter}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.WeatherFilter)
+      sr.grpc.gen.event.WeatherFilterOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_WeatherFilter_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_WeatherFilter_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.WeatherFilter.class, sr.grpc.gen.event.WeatherFilter.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.WeatherFilter.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      if (rangeBuilder_ != null) {
+        rangeBuilder_.clear();
+      }
+      if (conditionsBuilder_ != null) {
+        conditionsBuilder_.clear();
+      }
+      if (allOfBuilder_ != null) {
+        allOfBuilder_.clear();
+      }
+      if (anyOfBuilder_ != null) {
+        anyOfBuilder_.clear();
+      }
+      if (negateBuilder_ != null) {
+        negateBuilder_.clear();
+      }
+      filterCase_ = 0;
+      filter_ = null;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_WeatherFilter_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.WeatherFilter getDefaultInstanceForType() {
+      return sr.grpc.gen.event.WeatherFilter.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.WeatherFilter build() {
+      sr.grpc.gen.event.WeatherFilter result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.WeatherFilter buildPartial() {
+      sr.grpc.gen.event.WeatherFilter result = new sr.grpc.gen.event.WeatherFilter(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      buildPartialOneofs(result);
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.WeatherFilter result) {
+      int from_bitField0_ = bitField0_;
+    }
+
+    private void buildPartialOneofs(sr.grpc.gen.event.WeatherFilter result) {
+      result.filterCase_ = filterCase_;
+      result.filter_ = this.filter_;
+      if (filterCase_ == 1 &&
+          rangeBuilder_ != null) {
+        result.filter_ = rangeBuilder_.build();
+      }
+      if (filterCase_ == 2 &&
+          conditionsBuilder_ != null) {
+        result.filter_ = conditionsBuilder_.build();
+      }
+      if (filterCase_ == 3 &&
+          allOfBuilder_ != null) {
+        result.filter_ = allOfBuilder_.build();
+      }
+      if (filterCase_ == 4 &&
+          anyOfBuilder_ != null) {
+        result.filter_ = anyOfBuilder_.build();
+      }
+      if (filterCase_ == 5 &&
+          negateBuilder_ != null) {
+        result.filter_ = negateBuilder_.build();
+      }
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.WeatherFilter) {
+        return mergeFrom((sr.grpc.gen.event.WeatherFilter)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.WeatherFilter other) {
+      if (other == sr.grpc.gen.event.WeatherFilter.getDefaultInstance()) return this;
+      switch (other.getFilterCase()) {
+        case RANGE: {
+          mergeRange(other.getRange());
+          break;
+        }
+        case CONDITIONS: {
+          mergeConditions(other.getConditions());
+          break;
+        }
+        case ALL_OF: {
+          mergeAllOf(other.getAllOf());
+          break;
+        }
+        case ANY_OF: {
+          mergeAnyOf(other.getAnyOf());
+          break;
+        }
+        case NEGATE: {
+          mergeNegate(other.getNegate());
+          break;
+        }
+        case FILTER_NOT_SET: {
+          break;
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              input.readMessage(
+                  internalGetRangeFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              filterCase_ = 1;
+              break;
+            } // case 10
+            case 18: {
+              input.readMessage(
+                  internalGetConditionsFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              filterCase_ = 2;
+              break;
+            } // case 18
+            case 26: {
+              input.readMessage(
+                  internalGetAllOfFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              filterCase_ = 3;
+              break;
+            } // case 26
+            case 34: {
+              input.readMessage(
+                  internalGetAnyOfFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              filterCase_ = 4;
+              break;
+            } // case 34
+            case 42: {
+              input.readMessage(
+                  internalGetNegateFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              filterCase_ = 5;
+              break;
+            } // case 42
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int filterCase_ = 0;
+    private java.lang.Object filter_;
+    public FilterCase
+        getFilterCase() {
+      return FilterCase.forNumber(
+          filterCase_);
+    }
+
+    public Builder clearFilter() {
+      filterCase_ = 0;
+      filter_ = null;
+      onChanged();
+      return this;
+    }
+
+    private int bitField0_;
+
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.NumericRange, sr.grpc.gen.event.NumericRange.Builder, sr.grpc.gen.event.NumericRangeOrBuilder> rangeBuilder_;
+    /**
+     * <pre>
+     * A numeric field within bounds
+     * </pre>
+     *
+     * <code>.eventsubscription.NumericRange range = 1;</code>
+     * @return Whether the range field is set.
+     */
+    @java.lang.Override
+    public boolean hasRange() {
+      return filterCase_ == 1;
+    }
+    /**
+     * <pre>
+     * A numeric field within bounds
+     * </pre>
+     *
+     * <code>.eventsubscription.NumericRange range = 1;</code>
+     * @return The range.
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.NumericRange getRange() {
+      if (rangeBuilder_ == null) {
+        if (filterCase_ == 1) {
+          return (sr.grpc.gen.event.NumericRange) filter_;
+        }
+        return sr.grpc.gen.event.NumericRange.getDefaultInstance();
+      } else {
+        if (filterCase_ == 1) {
+          return rangeBuilder_.getMessage();
+        }
+        return sr.grpc.gen.event.NumericRange.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * A numeric field within bounds
+     * </pre>
+     *
+     * <code>.eventsubscription.NumericRange range = 1;</code>
+     */
+    public Builder setRange(sr.grpc.gen.event.NumericRange value) {
+      if (rangeBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        filter_ = value;
+        onChanged();
+      } else {
+        rangeBuilder_.setMessage(value);
+      }
+      filterCase_ = 1;
+      return this;
+    }
+    /**
+     * <pre>
+     * A numeric field within bounds
+     * </pre>
+     *
+     * <code>.eventsubscription.NumericRange range = 1;</code>
+     */
+    public Builder setRange(
+        sr.grpc.gen.event.NumericRange.Builder builderForValue) {
+      if (rangeBuilder_ == null) {
+        filter_ = builderForValue.build();
+        onChanged();
+      } else {
+        rangeBuilder_.setMessage(builderForValue.build());
+      }
+      filterCase_ = 1;
+      return this;
+    }
+    /**
+     * <pre>
+     * A numeric field within bounds
+     * </pre>
+     *
+     * <code>.eventsubscription.NumericRange range = 1;</code>
+     */
+    public Builder mergeRange(sr.grpc.gen.event.NumericRange value) {
+      if (rangeBuilder_ == null) {
+        if (filterCase_ == 1 &&
+            filter_ != sr.grpc.gen.event.NumericRange.getDefaultInstance()) {
+          filter_ = sr.grpc.gen.event.NumericRange.newBuilder((sr.grpc.gen.event.NumericRange) filter_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          filter_ = value;
+        }
+        onChanged();
+      } else {
+        if (filterCase_ == 1) {
+          rangeBuilder_.mergeFrom(value);
+        } else {
+          rangeBuilder_.setMessage(value);
+        }
+      }
+      filterCase_ = 1;
+      return this;
+    }
+    /**
+     * <pre>
+     * A numeric field within bounds
+     * </pre>
+     *
+     * <code>.eventsubscription.NumericRange range = 1;</code>
+     */
+    public Builder clearRange() {
+      if (rangeBuilder_ == null) {
+        if (filterCase_ == 1) {
+          filterCase_ = 0;
+          filter_ = null;
+          onChanged();
+        }
+      } else {
+        if (filterCase_ == 1) {
+          filterCase_ = 0;
+          filter_ = null;
+        }
+        rangeBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * A numeric field within bounds
+     * </pre>
+     *
+     * <code>.eventsubscription.NumericRange range = 1;</code>
+     */
+    public sr.grpc.gen.event.NumericRange.Builder getRangeBuilder() {
+      return internalGetRangeFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * A numeric field within bounds
+     * </pre>
+     *
+     * <code>.eventsubscription.NumericRange range = 1;</code>
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.NumericRangeOrBuilder getRangeOrBuilder() {
+      if ((filterCase_ == 1) && (rangeBuilder_ != null)) {
+        return rangeBuilder_.getMessageOrBuilder();
+      } else {
+        if (filterCase_ == 1) {
+          return (sr.grpc.gen.event.NumericRange) filter_;
+        }
+        return sr.grpc.gen.event.NumericRange.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * A numeric field within bounds
+     * </pre>
+     *
+     * <code>.eventsubscription.NumericRange range = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.NumericRange, sr.grpc.gen.event.NumericRange.Builder, sr.grpc.gen.event.NumericRangeOrBuilder> 
+        internalGetRangeFieldBuilder() {
+      if (rangeBuilder_ == null) {
+        if (!(filterCase_ == 1)) {
+          filter_ = sr.grpc.gen.event.NumericRange.getDefaultInstance();
+        }
+        rangeBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.NumericRange, sr.grpc.gen.event.NumericRange.Builder, sr.grpc.gen.event.NumericRangeOrBuilder>(
+                (sr.grpc.gen.event.NumericRange) filter_,
+                getParentForChildren(),
+                isClean());
+        filter_ = null;
+      }
+      filterCase_ = 1;
+      onChanged();
+      return rangeBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.ConditionSet, sr.grpc.gen.event.ConditionSet.Builder, sr.grpc.gen.event.ConditionSetOrBuilder> conditionsBuilder_;
+    /**
+     * <pre>
+     * current_condition is one of these
+     * </pre>
+     *
+     * <code>.eventsubscription.ConditionSet conditions = 2;</code>
+     * @return Whether the conditions field is set.
+     */
+    @java.lang.Override
+    public boolean hasConditions() {
+      return filterCase_ == 2;
+    }
+    /**
+     * <pre>
+     * current_condition is one of these
+     * </pre>
+     *
+     * <code>.eventsubscription.ConditionSet conditions = 2;</code>
+     * @return The conditions.
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.ConditionSet getConditions() {
+      if (conditionsBuilder_ == null) {
+        if (filterCase_ == 2) {
+          return (sr.grpc.gen.event.ConditionSet) filter_;
+        }
+        return sr.grpc.gen.event.ConditionSet.getDefaultInstance();
+      } else {
+        if (filterCase_ == 2) {
+          return conditionsBuilder_.getMessage();
+        }
+        return sr.grpc.gen.event.ConditionSet.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * current_condition is one of these
+     * </pre>
+     *
+     * <code>.eventsubscription.ConditionSet conditions = 2;</code>
+     */
+    public Builder setConditions(sr.grpc.gen.event.ConditionSet value) {
+      if (conditionsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        filter_ = value;
+        onChanged();
+      } else {
+        conditionsBuilder_.setMessage(value);
+      }
+      filterCase_ = 2;
+      return this;
+    }
+    /**
+     * <pre>
+     * current_condition is one of these
+     * </pre>
+     *
+     * <code>.eventsubscription.ConditionSet conditions = 2;</code>
+     */
+    public Builder setConditions(
+        sr.grpc.gen.event.ConditionSet.Builder builderForValue) {
+      if (conditionsBuilder_ == null) {
+        filter_ = builderForValue.build();
+        onChanged();
+      } else {
+        conditionsBuilder_.setMessage(builderForValue.build());
+      }
+      filterCase_ = 2;
+      return this;
+    }
+    /**
+     * <pre>
+     * current_condition is one of these
+     * </pre>
+     *
+     * <code>.eventsubscription.ConditionSet conditions = 2;</code>
+     */
+    public Builder mergeConditions(sr.grpc.gen.event.ConditionSet value) {
+      if (conditionsBuilder_ == null) {
+        if (filterCase_ == 2 &&
+            filter_ != sr.grpc.gen.event.ConditionSet.getDefaultInstance()) {
+          filter_ = sr.grpc.gen.event.ConditionSet.newBuilder((sr.grpc.gen.event.ConditionSet) filter_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          filter_ = value;
+        }
+        onChanged();
+      } else {
+        if (filterCase_ == 2) {
+          conditionsBuilder_.mergeFrom(value);
+        } else {
+          conditionsBuilder_.setMessage(value);
+        }
+      }
+      filterCase_ = 2;
+      return this;
+    }
+    /**
+     * <pre>
+     * current_condition is one of these
+     * </pre>
+     *
+     * <code>.eventsubscription.ConditionSet conditions = 2;</code>
+     */
+    public Builder clearConditions() {
+      if (conditionsBuilder_ == null) {
+        if (filterCase_ == 2) {
+          filterCase_ = 0;
+          filter_ = null;
+          onChanged();
+        }
+      } else {
+        if (filterCase_ == 2) {
+          filterCase_ = 0;
+          filter_ = null;
+        }
+        conditionsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * current_condition is one of these
+     * </pre>
+     *
+     * <code>.eventsubscription.ConditionSet conditions = 2;</code>
+     */
+    public sr.grpc.gen.event.ConditionSet.Builder getConditionsBuilder() {
+      return internalGetConditionsFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * current_condition is one of these
+     * </pre>
+     *
+     * <code>.eventsubscription.ConditionSet conditions = 2;</code>
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.ConditionSetOrBuilder getConditionsOrBuilder() {
+      if ((filterCase_ == 2) && (conditionsBuilder_ != null)) {
+        return conditionsBuilder_.getMessageOrBuilder();
+      } else {
+        if (filterCase_ == 2) {
+          return (sr.grpc.gen.event.ConditionSet) filter_;
+        }
+        return sr.grpc.gen.event.ConditionSet.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * current_condition is one of these
+     * </pre>
+     *
+     * <code>.eventsubscription.ConditionSet conditions = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.ConditionSet, sr.grpc.gen.event.ConditionSet.Builder, sr.grpc.gen.event.ConditionSetOrBuilder> 
+        internalGetConditionsFieldBuilder() {
+      if (conditionsBuilder_ == null) {
+        if (!(filterCase_ == 2)) {
+          filter_ = sr.grpc.gen.event.ConditionSet.getDefaultInstance();
+        }
+        conditionsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.ConditionSet, sr.grpc.gen.event.ConditionSet.Builder, sr.grpc.gen.event.ConditionSetOrBuilder>(
+                (sr.grpc.gen.event.ConditionSet) filter_,
+                getParentForChildren(),
+                isClean());
+        filter_ = null;
+      }
+      filterCase_ = 2;
+      onChanged();
+      return conditionsBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.WeatherFilterList, sr.grpc.gen.event.WeatherFilterList.Builder, sr.grpc.gen.event.WeatherFilterListOrBuilder> allOfBuilder_;
+    /**
+     * <pre>
+     * Every filter of the list accepts the update
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilterList all_of = 3;</code>
+     * @return Whether the allOf field is set.
+     */
+    @java.lang.Override
+    public boolean hasAllOf() {
+      return filterCase_ == 3;
+    }
+    /**
+     * <pre>
+     * Every filter of the list accepts the update
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilterList all_of = 3;</code>
+     * @return The allOf.
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.WeatherFilterList getAllOf() {
+      if (allOfBuilder_ == null) {
+        if (filterCase_ == 3) {
+          return (sr.grpc.gen.event.WeatherFilterList) filter_;
+        }
+        return sr.grpc.gen.event.WeatherFilterList.getDefaultInstance();
+      } else {
+        if (filterCase_ == 3) {
+          return allOfBuilder_.getMessage();
+        }
+        return sr.grpc.gen.event.WeatherFilterList.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * Every filter of the list accepts the update
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilterList all_of = 3;</code>
+     */
+    public Builder setAllOf(sr.grpc.gen.event.WeatherFilterList value) {
+      if (allOfBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        filter_ = value;
+        onChanged();
+      } else {
+        allOfBuilder_.setMessage(value);
+      }
+      filterCase_ = 3;
+      return this;
+    }
+    /**
+     * <pre>
+     * Every filter of the list accepts the update
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilterList all_of = 3;</code>
+     */
+    public Builder setAllOf(
+        sr.grpc.gen.event.WeatherFilterList.Builder builderForValue) {
+      if (allOfBuilder_ == null) {
+        filter_ = builderForValue.build();
+        onChanged();
+      } else {
+        allOfBuilder_.setMessage(builderForValue.build());
+      }
+      filterCase_ = 3;
+      return this;
+    }
+    /**
+     * <pre>
+     * Every filter of the list accepts the update
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilterList all_of = 3;</code>
+     */
+    public Builder mergeAllOf(sr.grpc.gen.event.WeatherFilterList value) {
+      if (allOfBuilder_ == null) {
+        if (filterCase_ == 3 &&
+            filter_ != sr.grpc.gen.event.WeatherFilterList.getDefaultInstance()) {
+          filter_ = sr.grpc.gen.event.WeatherFilterList.newBuilder((sr.grpc.gen.event.WeatherFilterList) filter_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          filter_ = value;
+        }
+        onChanged();
+      } else {
+        if (filterCase_ == 3) {
+          allOfBuilder_.mergeFrom(value);
+        } else {
+          allOfBuilder_.setMessage(value);
+        }
+      }
+      filterCase_ = 3;
+      return this;
+    }
+    /**
+     * <pre>
+     * Every filter of the list accepts the update
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilterList all_of = 3;</code>
+     */
+    public Builder clearAllOf() {
+      if (allOfBuilder_ == null) {
+        if (filterCase_ == 3) {
+          filterCase_ = 0;
+          filter_ = null;
+          onChanged();
+        }
+      } else {
+        if (filterCase_ == 3) {
+          filterCase_ = 0;
+          filter_ = null;
+        }
+        allOfBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Every filter of the list accepts the update
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilterList all_of = 3;</code>
+     */
+    public sr.grpc.gen.event.WeatherFilterList.Builder getAllOfBuilder() {
+      return internalGetAllOfFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * Every filter of the list accepts the update
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilterList all_of = 3;</code>
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.WeatherFilterListOrBuilder getAllOfOrBuilder() {
+      if ((filterCase_ == 3) && (allOfBuilder_ != null)) {
+        return allOfBuilder_.getMessageOrBuilder();
+      } else {
+        if (filterCase_ == 3) {
+          return (sr.grpc.gen.event.WeatherFilterList) filter_;
+        }
+        return sr.grpc.gen.event.WeatherFilterList.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * Every filter of the list accepts the update
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilterList all_of = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.WeatherFilterList, sr.grpc.gen.event.WeatherFilterList.Builder, sr.grpc.gen.event.WeatherFilterListOrBuilder> 
+        internalGetAllOfFieldBuilder() {
+      if (allOfBuilder_ == null) {
+        if (!(filterCase_ == 3)) {
+          filter_ = sr.grpc.gen.event.WeatherFilterList.getDefaultInstance();
+        }
+        allOfBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.WeatherFilterList, sr.grpc.gen.event.WeatherFilterList.Builder, sr.grpc.gen.event.WeatherFilterListOrBuilder>(
+                (sr.grpc.gen.event.WeatherFilterList) filter_,
+                getParentForChildren(),
+                isClean());
+        filter_ = null;
+      }
+      filterCase_ = 3;
+      onChanged();
+      return allOfBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.WeatherFilterList, sr.grpc.gen.event.WeatherFilterList.Builder, sr.grpc.gen.event.WeatherFilterListOrBuilder> anyOfBuilder_;
+    /**
+     * <pre>
+     * At least one filter of the list accepts it
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilterList any_of = 4;</code>
+     * @return Whether the anyOf field is set.
+     */
+    @java.lang.Override
+    public boolean hasAnyOf() {
+      return filterCase_ == 4;
+    }
+    /**
+     * <pre>
+     * At least one filter of the list accepts it
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilterList any_of = 4;</code>
+     * @return The anyOf.
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.WeatherFilterList getAnyOf() {
+      if (anyOfBuilder_ == null) {
+        if (filterCase_ == 4) {
+          return (sr.grpc.gen.event.WeatherFilterList) filter_;
+        }
+        return sr.grpc.gen.event.WeatherFilterList.getDefaultInstance();
+      } else {
+        if (filterCase_ == 4) {
+          return anyOfBuilder_.getMessage();
+        }
+        return sr.grpc.gen.event.WeatherFilterList.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * At least one filter of the list accepts it
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilterList any_of = 4;</code>
+     */
+    public Builder setAnyOf(sr.grpc.gen.event.WeatherFilterList value) {
+      if (anyOfBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        filter_ = value;
+        onChanged();
+      } else {
+        anyOfBuilder_.setMessage(value);
+      }
+      filterCase_ = 4;
+      return this;
+    }
+    /**
+     * <pre>
+     * At least one filter of the list accepts it
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilterList any_of = 4;</code>
+     */
+    public Builder setAnyOf(
+        sr.grpc.gen.event.WeatherFilterList.Builder builderForValue) {
+      if (anyOfBuilder_ == null) {
+        filter_ = builderForValue.build();
+        onChanged();
+      } else {
+        anyOfBuilder_.setMessage(builderForValue.build());
+      }
+      filterCase_ = 4;
+      return this;
+    }
+    /**
+     * <pre>
+     * At least one filter of the list accepts it
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilterList any_of = 4;</code>
+     */
+    public Builder mergeAnyOf(sr.grpc.gen.event.WeatherFilterList value) {
+      if (anyOfBuilder_ == null) {
+        if (filterCase_ == 4 &&
+            filter_ != sr.grpc.gen.event.WeatherFilterList.getDefaultInstance()) {
+          filter_ = sr.grpc.gen.event.WeatherFilterList.newBuilder((sr.grpc.gen.event.WeatherFilterList) filter_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          filter_ = value;
+        }
+        onChanged();
+      } else {
+        if (filterCase_ == 4) {
+          anyOfBuilder_.mergeFrom(value);
+        } else {
+          anyOfBuilder_.setMessage(value);
+        }
+      }
+      filterCase_ = 4;
+      return this;
+    }
+    /**
+     * <pre>
+     * At least one filter of the list accepts it
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilterList any_of = 4;</code>
+     */
+    public Builder clearAnyOf() {
+      if (anyOfBuilder_ == null) {
+        if (filterCase_ == 4) {
+          filterCase_ = 0;
+          filter_ = null;
+          onChanged();
+        }
+      } else {
+        if (filterCase_ == 4) {
+          filterCase_ = 0;
+          filter_ = null;
+        }
+        anyOfBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * At least one filter of the list accepts it
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilterList any_of = 4;</code>
+     */
+    public sr.grpc.gen.event.WeatherFilterList.Builder getAnyOfBuilder() {
+      return internalGetAnyOfFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * At least one filter of the list accepts it
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilterList any_of = 4;</code>
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.WeatherFilterListOrBuilder getAnyOfOrBuilder() {
+      if ((filterCase_ == 4) && (anyOfBuilder_ != null)) {
+        return anyOfBuilder_.getMessageOrBuilder();
+      } else {
+        if (filterCase_ == 4) {
+          return (sr.grpc.gen.event.WeatherFilterList) filter_;
+        }
+        return sr.grpc.gen.event.WeatherFilterList.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * At least one filter of the list accepts it
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilterList any_of = 4;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.WeatherFilterList, sr.grpc.gen.event.WeatherFilterList.Builder, sr.grpc.gen.event.WeatherFilterListOrBuilder> 
+        internalGetAnyOfFieldBuilder() {
+      if (anyOfBuilder_ == null) {
+        if (!(filterCase_ == 4)) {
+          filter_ = sr.grpc.gen.event.WeatherFilterList.getDefaultInstance();
+        }
+        anyOfBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.WeatherFilterList, sr.grpc.gen.event.WeatherFilterList.Builder, sr.grpc.gen.event.WeatherFilterListOrBuilder>(
+                (sr.grpc.gen.event.WeatherFilterList) filter_,
+                getParentForChildren(),
+                isClean());
+        filter_ = null;
+      }
+      filterCase_ = 4;
+      onChanged();
+      return anyOfBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.WeatherFilter, sr.grpc.gen.event.WeatherFilter.Builder, sr.grpc.gen.event.WeatherFilterOrBuilder> negateBuilder_;
+    /**
+     * <pre>
+     * The filter rejects it
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilter negate = 5;</code>
+     * @return Whether the negate field is set.
+     */
+    @java.lang.Override
+    public boolean hasNegate() {
+      return filterCase_ == 5;
+    }
+    /**
+     * <pre>
+     * The filter rejects it
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilter negate = 5;</code>
+     * @return The negate.
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.WeatherFilter getNegate() {
+      if (negateBuilder_ == null) {
+        if (filterCase_ == 5) {
+          return (sr.grpc.gen.event.WeatherFilter) filter_;
+        }
+        return sr.grpc.gen.event.WeatherFilter.getDefaultInstance();
+      } else {
+        if (filterCase_ == 5) {
+          return negateBuilder_.getMessage();
+        }
+        return sr.grpc.gen.event.WeatherFilter.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * The filter rejects it
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilter negate = 5;</code>
+     */
+    public Builder setNegate(sr.grpc.gen.event.WeatherFilter value) {
+      if (negateBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        filter_ = value;
+        onChanged();
+      } else {
+        negateBuilder_.setMessage(value);
+      }
+      filterCase_ = 5;
+      return this;
+    }
+    /**
+     * <pre>
+     * The filter rejects it
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilter negate = 5;</code>
+     */
+    public Builder setNegate(
+        sr.grpc.gen.event.WeatherFilter.Builder builderForValue) {
+      if (negateBuilder_ == null) {
+        filter_ = builderForValue.build();
+        onChanged();
+      } else {
+        negateBuilder_.setMessage(builderForValue.build());
+      }
+      filterCase_ = 5;
+      return this;
+    }
+    /**
+     * <pre>
+     * The filter rejects it
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilter negate = 5;</code>
+     */
+    public Builder mergeNegate(sr.grpc.gen.event.WeatherFilter value) {
+      if (negateBuilder_ == null) {
+        if (filterCase_ == 5 &&
+            filter_ != sr.grpc.gen.event.WeatherFilter.getDefaultInstance()) {
+          filter_ = sr.grpc.gen.event.WeatherFilter.newBuilder((sr.grpc.gen.event.WeatherFilter) filter_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          filter_ = value;
+        }
+        onChanged();
+      } else {
+        if (filterCase_ == 5) {
+          negateBuilder_.mergeFrom(value);
+        } else {
+          negateBuilder_.setMessage(value);
+        }
+      }
+      filterCase_ = 5;
+      return this;
+    }
+    /**
+     * <pre>
+     * The filter rejects it
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilter negate = 5;</code>
+     */
+    public Builder clearNegate() {
+      if (negateBuilder_ == null) {
+        if (filterCase_ == 5) {
+          filterCase_ = 0;
+          filter_ = null;
+          onChanged();
+        }
+      } else {
+        if (filterCase_ == 5) {
+          filterCase_ = 0;
+          filter_ = null;
+        }
+        negateBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * The filter rejects it
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilter negate = 5;</code>
+     */
+    public sr.grpc.gen.event.WeatherFilter.Builder getNegateBuilder() {
+      return internalGetNegateFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * The filter rejects it
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilter negate = 5;</code>
+     */
+    @java.lang.Override
+    public sr.grpc.gen.event.WeatherFilterOrBuilder getNegateOrBuilder() {
+      if ((filterCase_ == 5) && (negateBuilder_ != null)) {
+        return negateBuilder_.getMessageOrBuilder();
+      } else {
+        if (filterCase_ == 5) {
+          return (sr.grpc.gen.event.WeatherFilter) filter_;
+        }
+        return sr.grpc.gen.event.WeatherFilter.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * The filter rejects it
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherFilter negate = 5;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.WeatherFilter, sr.grpc.gen.event.WeatherFilter.Builder, sr.grpc.gen.event.WeatherFilterOrBuilder> 
+        internalGetNegateFieldBuilder() {
+      if (negateBuilder_ == null) {
+        if (!(filterCase_ == 5)) {
+          filter_ = sr.grpc.gen.event.WeatherFilter.getDefaultInstance();
+        }
+        negateBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.WeatherFilter, sr.grpc.gen.event.WeatherFilter.Builder, sr.grpc.gen.event.WeatherFilterOrBuilder>(
+                (sr.grpc.gen.event.WeatherFilter) filter_,
+                getParentForChildren(),
+                isClean());
+        filter_ = null;
+      }
+      filterCase_ = 5;
+      onChanged();
+      return negateBuilder_;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.WeatherFilter)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.WeatherFilter)
+  private static final sr.grpc.gen.event.WeatherFilter DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.WeatherFilter();
+  }
+
+  public static sr.grpc.gen.event.WeatherFilter getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<WeatherFilter>
+      PARSER = new com.google.protobuf.AbstractParser<WeatherFilter>() {
+    @java.lang.Override
+    public WeatherFilter parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<WeatherFilter> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<WeatherFilter> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.WeatherFilter getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
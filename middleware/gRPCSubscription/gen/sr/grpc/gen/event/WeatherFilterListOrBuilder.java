@@ -0,0 +1,35 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface WeatherFilterListOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.WeatherFilterList)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .eventsubscription.WeatherFilter filters = 1;</code>
+   */
+  java.util.List<sr.grpc.gen.event.WeatherFilter> 
+      getFiltersList();
+  /**
+   * <code>repeated .eventsubscription.WeatherFilter filters = 1;</code>
+   */
+  sr.grpc.gen.event.WeatherFilter getFilters(int index);
+  /**
+   * <code>repeated .eventsubscription.WeatherFilter filters = 1;</code>
+   */
+  int getFiltersCount();
+  /**
+   * <code>repeated .eventsubscription.WeatherFilter filters = 1;</code>
+   */
+  java.util.List<? extends sr.grpc.gen.event.WeatherFilterOrBuilder> 
+      getFiltersOrBuilderList();
+  /**
+   * <code>repeated .eventsubscription.WeatherFilter filters = 1;</code>
+   */
+  sr.grpc.gen.event.WeatherFilterOrBuilder getFiltersOrBuilder(
+      int index);
+}
@@ -0,0 +1,148 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface WeatherFilterOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.WeatherFilter)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * A numeric field within bounds
+   * </pre>
+   *
+   * <code>.eventsubscription.NumericRange range = 1;</code>
+   * @return Whether the range field is set.
+   */
+  boolean hasRange();
+  /**
+   * <pre>
+   * A numeric field within bounds
+   * </pre>
+   *
+   * <code>.eventsubscription.NumericRange range = 1;</code>
+   * @return The range.
+   */
+  sr.grpc.gen.event.NumericRange getRange();
+  /**
+   * <pre>
+   * A numeric field within bounds
+   * </pre>
+   *
+   * <code>.eventsubscription.NumericRange range = 1;</code>
+   */
+  sr.grpc.gen.event.NumericRangeOrBuilder getRangeOrBuilder();
+
+  /**
+   * <pre>
+   * current_condition is one of these
+   * </pre>
+   *
+   * <code>.eventsubscription.ConditionSet conditions = 2;</code>
+   * @return Whether the conditions field is set.
+   */
+  boolean hasConditions();
+  /**
+   * <pre>
+   * current_condition is one of these
+   * </pre>
+   *
+   * <code>.eventsubscription.ConditionSet conditions = 2;</code>
+   * @return The conditions.
+   */
+  sr.grpc.gen.event.ConditionSet getConditions();
+  /**
+   * <pre>
+   * current_condition is one of these
+   * </pre>
+   *
+   * <code>.eventsubscription.ConditionSet conditions = 2;</code>
+   */
+  sr.grpc.gen.event.ConditionSetOrBuilder getConditionsOrBuilder();
+
+  /**
+   * <pre>
+   * Every filter of the list accepts the update
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilterList all_of = 3;</code>
+   * @return Whether the allOf field is set.
+   */
+  boolean hasAllOf();
+  /**
+   * <pre>
+   * Every filter of the list accepts the update
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilterList all_of = 3;</code>
+   * @return The allOf.
+   */
+  sr.grpc.gen.event.WeatherFilterList getAllOf();
+  /**
+   * <pre>
+   * Every filter of the list accepts the update
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilterList all_of = 3;</code>
+   */
+  sr.grpc.gen.event.WeatherFilterListOrBuilder getAllOfOrBuilder();
+
+  /**
+   * <pre>
+   * At least one filter of the list accepts it
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilterList any_of = 4;</code>
+   * @return Whether the anyOf field is set.
+   */
+  boolean hasAnyOf();
+  /**
+   * <pre>
+   * At least one filter of the list accepts it
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilterList any_of = 4;</code>
+   * @return The anyOf.
+   */
+  sr.grpc.gen.event.WeatherFilterList getAnyOf();
+  /**
+   * <pre>
+   * At least one filter of the list accepts it
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilterList any_of = 4;</code>
+   */
+  sr.grpc.gen.event.WeatherFilterListOrBuilder getAnyOfOrBuilder();
+
+  /**
+   * <pre>
+   * The filter rejects it
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilter negate = 5;</code>
+   * @return Whether the negate field is set.
+   */
+  boolean hasNegate();
+  /**
+   * <pre>
+   * The filter rejects it
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilter negate = 5;</code>
+   * @return The negate.
+   */
+  sr.grpc.gen.event.WeatherFilter getNegate();
+  /**
+   * <pre>
+   * The filter rejects it
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherFilter negate = 5;</code>
+   */
+  sr.grpc.gen.event.WeatherFilterOrBuilder getNegateOrBuilder();
+
+  sr.grpc.gen.event.WeatherFilter.FilterCase getFilterCase();
+}
@@ -35,6 +35,7 @@ private static final long serialVersionUID = 0L;
     currentCondition_ = 0;
     detailedDescription_ = "";
     forecast_ = java.util.Collections.emptyList();
+    region_ = "";
   }
 
   public static final com.google.protobuf.Descriptors.Descriptor
@@ -50,6 +51,7 @@ private static final long serialVersionUID = 0L;
             sr.grpc.gen.event.WeatherUpdate.class, sr.grpc.gen.event.WeatherUpdate.Builder.class);
   }
 
+  private int bitField0_;
   public static final int CITY_FIELD_NUMBER = 1;
   @SuppressWarnings("serial")
   private volatile java.lang.Object city_ = "";
@@ -100,10 +102,6 @@ private static final long serialVersionUID = 0L;
   public static final int CURRENT_TEMPERATURE_CELSIUS_FIELD_NUMBER = 2;
   private double currentTemperatureCelsius_ = 0D;
   /**
-   * <pre>
-   * Numeric field (double)
-   * </pre>
-   *
    * <code>double current_temperature_celsius = 2;</code>
    * @return The currentTemperatureCelsius.
    */
@@ -115,10 +113,6 @@ private static final long serialVersionUID = 0L;
   public static final int HUMIDITY_PERCENT_FIELD_NUMBER = 3;
   private double humidityPercent_ = 0D;
   /**
-   * <pre>
-   * Numeric field (double)
-   * </pre>
-   *
    * <code>double humidity_percent = 3;</code>
    * @return The humidityPercent.
    */
@@ -130,10 +124,6 @@ private static final long serialVersionUID = 0L;
   public static final int WIND_SPEED_KPH_FIELD_NUMBER = 4;
   private int windSpeedKph_ = 0;
   /**
-   * <pre>
-   * Numeric field (int32)
-   * </pre>
-   *
    * <code>int32 wind_speed_kph = 4;</code>
    * @return The windSpeedKph.
    */
@@ -145,10 +135,6 @@ private static final long serialVersionUID = 0L;
   public static final int CURRENT_CONDITION_FIELD_NUMBER = 5;
   private int currentCondition_ = 0;
   /**
-   * <pre>
-   * Enum field
-   * </pre>
-   *
    * <code>.eventsubscription.WeatherCondition current_condition = 5;</code>
    * @return The enum numeric value on the wire for currentCondition.
    */
@@ -156,10 +142,6 @@ private static final long serialVersionUID = 0L;
     return currentCondition_;
   }
   /**
-   * <pre>
-   * Enum field
-   * </pre>
-   *
    * <code>.eventsubscription.WeatherCondition current_condition = 5;</code>
    * @return The currentCondition.
    */
@@ -172,10 +154,6 @@ private static final long serialVersionUID = 0L;
   @SuppressWarnings("serial")
   private volatile java.lang.Object detailedDescription_ = "";
   /**
-   * <pre>
-   * String field
-   * </pre>
-   *
    * <code>string detailed_description = 6;</code>
    * @return The detailedDescription.
    */
@@ -193,10 +171,6 @@ private static final long serialVersionUID = 0L;
     }
   }
   /**
-   * <pre>
-   * String field
-   * </pre>
-   *
    * <code>string detailed_description = 6;</code>
    * @return The bytes for detailedDescription.
    */
@@ -219,10 +193,6 @@ private static final long serialVersionUID = 0L;
   @SuppressWarnings("serial")
   private java.util.List<sr.grpc.gen.event.DailyForecast> forecast_;
   /**
-   * <pre>
-   * Repeated message field
-   * </pre>
-   *
    * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
    */
   @java.lang.Override
@@ -230,10 +200,6 @@ private static final long serialVersionUID = 0L;
     return forecast_;
   }
   /**
-   * <pre>
-   * Repeated message field
-   * </pre>
-   *
    * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
    */
   @java.lang.Override
@@ -242,10 +208,6 @@ private static final long serialVersionUID = 0L;
     return forecast_;
   }
   /**
-   * <pre>
-   * Repeated message field
-   * </pre>
-   *
    * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
    */
   @java.lang.Override
@@ -253,10 +215,6 @@ private static final long serialVersionUID = 0L;
     return forecast_.size();
   }
   /**
-   * <pre>
-   * Repeated message field
-   * </pre>
-   *
    * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
    */
   @java.lang.Override
@@ -264,10 +222,6 @@ private static final long serialVersionUID = 0L;
     return forecast_.get(index);
   }
   /**
-   * <pre>
-   * Repeated message field
-   * </pre>
-   *
    * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
    */
   @java.lang.Override
@@ -276,6 +230,91 @@ private static final long serialVersionUID = 0L;
     return forecast_.get(index);
   }
 
+  public static final int LOCATION_FIELD_NUMBER = 8;
+  private sr.grpc.gen.event.GeoPoint location_;
+  /**
+   * <pre>
+   * Where the city is; matched against SubscriptionCriteria.within
+   * </pre>
+   *
+   * <code>.eventsubscription.GeoPoint location = 8;</code>
+   * @return Whether the location field is set.
+   */
+  @java.lang.Override
+  public boolean hasLocation() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <pre>
+   * Where the city is; matched against SubscriptionCriteria.within
+   * </pre>
+   *
+   * <code>.eventsubscription.GeoPoint location = 8;</code>
+   * @return The location.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.GeoPoint getLocation() {
+    return location_ == null ? sr.grpc.gen.event.GeoPoint.getDefaultInstance() : location_;
+  }
+  /**
+   * <pre>
+   * Where the city is; matched against SubscriptionCriteria.within
+   * </pre>
+   *
+   * <code>.eventsubscription.GeoPoint location = 8;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.GeoPointOrBuilder getLocationOrBuilder() {
+    return location_ == null ? sr.grpc.gen.event.GeoPoint.getDefaultInstance() : location_;
+  }
+
+  public static final int REGION_FIELD_NUMBER = 9;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object region_ = "";
+  /**
+   * <pre>
+   * Path of the city's region, e.g. "PL/malopolskie"; optional
+   * </pre>
+   *
+   * <code>string region = 9;</code>
+   * @return The region.
+   */
+  @java.lang.Override
+  public java.lang.String getRegion() {
+    java.lang.Object ref = region_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      region_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Path of the city's region, e.g. "PL/malopolskie"; optional
+   * </pre>
+   *
+   * <code>string region = 9;</code>
+   * @return The bytes for region.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getRegionBytes() {
+    java.lang.Object ref = region_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      region_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -311,6 +350,12 @@ private static final long serialVersionUID = 0L;
     for (int i = 0; i < forecast_.size(); i++) {
       output.writeMessage(7, forecast_.get(i));
     }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      output.writeMessage(8, getLocation());
+    }
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(region_)) {
+      com.google.protobuf.GeneratedMessage.writeString(output, 9, region_);
+    }
     getUnknownFields().writeTo(output);
   }
 
@@ -346,6 +391,13 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeMessageSize(7, forecast_.get(i));
     }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(8, getLocation());
+    }
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(region_)) {
+      size += com.google.protobuf.GeneratedMessage.computeStringSize(9, region_);
+    }
     size += getUnknownFields().getSerializedSize();
     memoizedSize = size;
     return size;
@@ -376,6 +428,13 @@ private static final long serialVersionUID = 0L;
         .equals(other.getDetailedDescription())) return false;
     if (!getForecastList()
         .equals(other.getForecastList())) return false;
+    if (hasLocation() != other.hasLocation()) return false;
+    if (hasLocation()) {
+      if (!getLocation()
+          .equals(other.getLocation())) return false;
+    }
+    if (!getRegion()
+        .equals(other.getRegion())) return false;
     if (!getUnknownFields().equals(other.getUnknownFields())) return false;
     return true;
   }
@@ -405,6 +464,12 @@ private static final long serialVersionUID = 0L;
       hash = (37 * hash) + FORECAST_FIELD_NUMBER;
       hash = (53 * hash) + getForecastList().hashCode();
     }
+    if (hasLocation()) {
+      hash = (37 * hash) + LOCATION_FIELD_NUMBER;
+      hash = (53 * hash) + getLocation().hashCode();
+    }
+    hash = (37 * hash) + REGION_FIELD_NUMBER;
+    hash = (53 * hash) + getRegion().hashCode();
     hash = (29 * hash) + getUnknownFields().hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -528,13 +593,20 @@ private static final long serialVersionUID = 0L;
 
     // Construct using sr.grpc.gen.event.WeatherUpdate.newBuilder()
     private Builder() {
-
+      maybeForceBuilderInitialization();
     }
 
     private Builder(
         com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       super(parent);
-
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessage
+              .alwaysUseFieldBuilders) {
+        internalGetForecastFieldBuilder();
+        internalGetLocationFieldBuilder();
+      }
     }
     @java.lang.Override
     public Builder clear() {
@@ -553,6 +625,12 @@ private static final long serialVersionUID = 0L;
         forecastBuilder_.clear();
       }
       bitField0_ = (bitField0_ & ~0x00000040);
+      location_ = null;
+      if (locationBuilder_ != null) {
+        locationBuilder_.dispose();
+        locationBuilder_ = null;
+      }
+      region_ = "";
       return this;
     }
 
@@ -617,6 +695,17 @@ private static final long serialVersionUID = 0L;
       if (((from_bitField0_ & 0x00000020) != 0)) {
         result.detailedDescription_ = detailedDescription_;
       }
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000080) != 0)) {
+        result.location_ = locationBuilder_ == null
+            ? location_
+            : locationBuilder_.build();
+        to_bitField0_ |= 0x00000001;
+      }
+      if (((from_bitField0_ & 0x00000100) != 0)) {
+        result.region_ = region_;
+      }
+      result.bitField0_ |= to_bitField0_;
     }
 
     @java.lang.Override
@@ -679,6 +768,14 @@ private static final long serialVersionUID = 0L;
           }
         }
       }
+      if (other.hasLocation()) {
+        mergeLocation(other.getLocation());
+      }
+      if (!other.getRegion().isEmpty()) {
+        region_ = other.region_;
+        bitField0_ |= 0x00000100;
+        onChanged();
+      }
       this.mergeUnknownFields(other.getUnknownFields());
       onChanged();
       return this;
@@ -748,6 +845,18 @@ private static final long serialVersionUID = 0L;
               }
               break;
             } // case 58
+            case 66: {
+              input.readMessage(
+                  internalGetLocationFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00000080;
+              break;
+            } // case 66
+            case 74: {
+              region_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000100;
+              break;
+            } // case 74
             default: {
               if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                 done = true; // was an endgroup tag
@@ -859,10 +968,6 @@ private static final long serialVersionUID = 0L;
 
     private double currentTemperatureCelsius_ ;
     /**
-     * <pre>
-     * Numeric field (double)
-     * </pre>
-     *
      * <code>double current_temperature_celsius = 2;</code>
      * @return The currentTemperatureCelsius.
      */
@@ -871,10 +976,6 @@ private static final long serialVersionUID = 0L;
       return currentTemperatureCelsius_;
     }
     /**
-     * <pre>
-     * Numeric field (double)
-     * </pre>
-     *
      * <code>double current_temperature_celsius = 2;</code>
      * @param value The currentTemperatureCelsius to set.
      * @return This builder for chaining.
@@ -887,10 +988,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Numeric field (double)
-     * </pre>
-     *
      * <code>double current_temperature_celsius = 2;</code>
      * @return This builder for chaining.
      */
@@ -903,10 +1000,6 @@ private static final long serialVersionUID = 0L;
 
     private double humidityPercent_ ;
     /**
-     * <pre>
-     * Numeric field (double)
-     * </pre>
-     *
      * <code>double humidity_percent = 3;</code>
      * @return The humidityPercent.
      */
@@ -915,10 +1008,6 @@ private static final long serialVersionUID = 0L;
       return humidityPercent_;
     }
     /**
-     * <pre>
-     * Numeric field (double)
-     * </pre>
-     *
      * <code>double humidity_percent = 3;</code>
      * @param value The humidityPercent to set.
      * @return This builder for chaining.
@@ -931,10 +1020,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Numeric field (double)
-     * </pre>
-     *
      * <code>double humidity_percent = 3;</code>
      * @return This builder for chaining.
      */
@@ -947,10 +1032,6 @@ private static final long serialVersionUID = 0L;
 
     private int windSpeedKph_ ;
     /**
-     * <pre>
-     * Numeric field (int32)
-     * </pre>
-     *
      * <code>int32 wind_speed_kph = 4;</code>
      * @return The windSpeedKph.
      */
@@ -959,10 +1040,6 @@ private static final long serialVersionUID = 0L;
       return windSpeedKph_;
     }
     /**
-     * <pre>
-     * Numeric field (int32)
-     * </pre>
-     *
      * <code>int32 wind_speed_kph = 4;</code>
      * @param value The windSpeedKph to set.
      * @return This builder for chaining.
@@ -975,10 +1052,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Numeric field (int32)
-     * </pre>
-     *
      * <code>int32 wind_speed_kph = 4;</code>
      * @return This builder for chaining.
      */
@@ -991,10 +1064,6 @@ private static final long serialVersionUID = 0L;
 
     private int currentCondition_ = 0;
     /**
-     * <pre>
-     * Enum field
-     * </pre>
-     *
      * <code>.eventsubscription.WeatherCondition current_condition = 5;</code>
      * @return The enum numeric value on the wire for currentCondition.
      */
@@ -1002,10 +1071,6 @@ private static final long serialVersionUID = 0L;
       return currentCondition_;
     }
     /**
-     * <pre>
-     * Enum field
-     * </pre>
-     *
      * <code>.eventsubscription.WeatherCondition current_condition = 5;</code>
      * @param value The enum numeric value on the wire for currentCondition to set.
      * @return This builder for chaining.
@@ -1017,10 +1082,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Enum field
-     * </pre>
-     *
      * <code>.eventsubscription.WeatherCondition current_condition = 5;</code>
      * @return The currentCondition.
      */
@@ -1030,10 +1091,6 @@ private static final long serialVersionUID = 0L;
       return result == null ? sr.grpc.gen.event.WeatherCondition.UNRECOGNIZED : result;
     }
     /**
-     * <pre>
-     * Enum field
-     * </pre>
-     *
      * <code>.eventsubscription.WeatherCondition current_condition = 5;</code>
      * @param value The currentCondition to set.
      * @return This builder for chaining.
@@ -1048,10 +1105,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Enum field
-     * </pre>
-     *
      * <code>.eventsubscription.WeatherCondition current_condition = 5;</code>
      * @return This builder for chaining.
      */
@@ -1064,10 +1117,6 @@ private static final long serialVersionUID = 0L;
 
     private java.lang.Object detailedDescription_ = "";
     /**
-     * <pre>
-     * String field
-     * </pre>
-     *
      * <code>string detailed_description = 6;</code>
      * @return The detailedDescription.
      */
@@ -1084,10 +1133,6 @@ private static final long serialVersionUID = 0L;
       }
     }
     /**
-     * <pre>
-     * String field
-     * </pre>
-     *
      * <code>string detailed_description = 6;</code>
      * @return The bytes for detailedDescription.
      */
@@ -1105,10 +1150,6 @@ private static final long serialVersionUID = 0L;
       }
     }
     /**
-     * <pre>
-     * String field
-     * </pre>
-     *
      * <code>string detailed_description = 6;</code>
      * @param value The detailedDescription to set.
      * @return This builder for chaining.
@@ -1122,10 +1163,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * String field
-     * </pre>
-     *
      * <code>string detailed_description = 6;</code>
      * @return This builder for chaining.
      */
@@ -1136,10 +1173,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * String field
-     * </pre>
-     *
      * <code>string detailed_description = 6;</code>
      * @param value The bytes for detailedDescription to set.
      * @return This builder for chaining.
@@ -1167,10 +1200,6 @@ private static final long serialVersionUID = 0L;
         sr.grpc.gen.event.DailyForecast, sr.grpc.gen.event.DailyForecast.Builder, sr.grpc.gen.event.DailyForecastOrBuilder> forecastBuilder_;
 
     /**
-     * <pre>
-     * Repeated message field
-     * </pre>
-     *
      * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
      */
     public java.util.List<sr.grpc.gen.event.DailyForecast> getForecastList() {
@@ -1181,10 +1210,6 @@ private static final long serialVersionUID = 0L;
       }
     }
     /**
-     * <pre>
-     * Repeated message field
-     * </pre>
-     *
      * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
      */
     public int getForecastCount() {
@@ -1195,10 +1220,6 @@ private static final long serialVersionUID = 0L;
       }
     }
     /**
-     * <pre>
-     * Repeated message field
-     * </pre>
-     *
      * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
      */
     public sr.grpc.gen.event.DailyForecast getForecast(int index) {
@@ -1209,10 +1230,6 @@ private static final long serialVersionUID = 0L;
       }
     }
     /**
-     * <pre>
-     * Repeated message field
-     * </pre>
-     *
      * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
      */
     public Builder setForecast(
@@ -1230,10 +1247,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Repeated message field
-     * </pre>
-     *
      * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
      */
     public Builder setForecast(
@@ -1248,10 +1261,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Repeated message field
-     * </pre>
-     *
      * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
      */
     public Builder addForecast(sr.grpc.gen.event.DailyForecast value) {
@@ -1268,10 +1277,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Repeated message field
-     * </pre>
-     *
      * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
      */
     public Builder addForecast(
@@ -1289,10 +1294,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Repeated message field
-     * </pre>
-     *
      * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
      */
     public Builder addForecast(
@@ -1307,10 +1308,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Repeated message field
-     * </pre>
-     *
      * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
      */
     public Builder addForecast(
@@ -1325,10 +1322,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Repeated message field
-     * </pre>
-     *
      * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
      */
     public Builder addAllForecast(
@@ -1344,10 +1337,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Repeated message field
-     * </pre>
-     *
      * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
      */
     public Builder clearForecast() {
@@ -1361,10 +1350,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Repeated message field
-     * </pre>
-     *
      * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
      */
     public Builder removeForecast(int index) {
@@ -1378,10 +1363,6 @@ private static final long serialVersionUID = 0L;
       return this;
     }
     /**
-     * <pre>
-     * Repeated message field
-     * </pre>
-     *
      * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
      */
     public sr.grpc.gen.event.DailyForecast.Builder getForecastBuilder(
@@ -1389,10 +1370,6 @@ private static final long serialVersionUID = 0L;
       return internalGetForecastFieldBuilder().getBuilder(index);
     }
     /**
-     * <pre>
-     * Repeated message field
-     * </pre>
-     *
      * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
      */
     public sr.grpc.gen.event.DailyForecastOrBuilder getForecastOrBuilder(
@@ -1403,10 +1380,6 @@ private static final long serialVersionUID = 0L;
       }
     }
     /**
-     * <pre>
-     * Repeated message field
-     * </pre>
-     *
      * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
      */
     public java.util.List<? extends sr.grpc.gen.event.DailyForecastOrBuilder> 
@@ -1418,10 +1391,6 @@ private static final long serialVersionUID = 0L;
       }
     }
     /**
-     * <pre>
-     * Repeated message field
-     * </pre>
-     *
      * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
      */
     public sr.grpc.gen.event.DailyForecast.Builder addForecastBuilder() {
@@ -1429,10 +1398,6 @@ private static final long serialVersionUID = 0L;
           sr.grpc.gen.event.DailyForecast.getDefaultInstance());
     }
     /**
-     * <pre>
-     * Repeated message field
-     * </pre>
-     *
      * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
      */
     public sr.grpc.gen.event.DailyForecast.Builder addForecastBuilder(
@@ -1441,10 +1406,6 @@ private static final long serialVersionUID = 0L;
           index, sr.grpc.gen.event.DailyForecast.getDefaultInstance());
     }
     /**
-     * <pre>
-     * Repeated message field
-     * </pre>
-     *
      * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
      */
     public java.util.List<sr.grpc.gen.event.DailyForecast.Builder> 
@@ -1466,6 +1427,255 @@ private static final long serialVersionUID = 0L;
       return forecastBuilder_;
     }
 
+    private sr.grpc.gen.event.GeoPoint location_;
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.GeoPoint, sr.grpc.gen.event.GeoPoint.Builder, sr.grpc.gen.event.GeoPointOrBuilder> locationBuilder_;
+    /**
+     * <pre>
+     * Where the city is; matched against SubscriptionCriteria.within
+     * </pre>
+     *
+     * <code>.eventsubscription.GeoPoint location = 8;</code>
+     * @return Whether the location field is set.
+     */
+    public boolean hasLocation() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <pre>
+     * Where the city is; matched against SubscriptionCriteria.within
+     * </pre>
+     *
+     * <code>.eventsubscription.GeoPoint location = 8;</code>
+     * @return The location.
+     */
+    public sr.grpc.gen.event.GeoPoint getLocation() {
+      if (locationBuilder_ == null) {
+        return location_ == null ? sr.grpc.gen.event.GeoPoint.getDefaultInstance() : location_;
+      } else {
+        return locationBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * Where the city is; matched against SubscriptionCriteria.within
+     * </pre>
+     *
+     * <code>.eventsubscription.GeoPoint location = 8;</code>
+     */
+    public Builder setLocation(sr.grpc.gen.event.GeoPoint value) {
+      if (locationBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        location_ = value;
+      } else {
+        locationBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00000080;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Where the city is; matched against SubscriptionCriteria.within
+     * </pre>
+     *
+     * <code>.eventsubscription.GeoPoint location = 8;</code>
+     */
+    public Builder setLocation(
+        sr.grpc.gen.event.GeoPoint.Builder builderForValue) {
+      if (locationBuilder_ == null) {
+        location_ = builderForValue.build();
+      } else {
+        locationBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00000080;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Where the city is; matched against SubscriptionCriteria.within
+     * </pre>
+     *
+     * <code>.eventsubscription.GeoPoint location = 8;</code>
+     */
+    public Builder mergeLocation(sr.grpc.gen.event.GeoPoint value) {
+      if (locationBuilder_ == null) {
+        if (((bitField0_ & 0x00000080) != 0) &&
+          location_ != null &&
+          location_ != sr.grpc.gen.event.GeoPoint.getDefaultInstance()) {
+          getLocationBuilder().mergeFrom(value);
+        } else {
+          location_ = value;
+        }
+      } else {
+        locationBuilder_.mergeFrom(value);
+      }
+      if (location_ != null) {
+        bitField0_ |= 0x00000080;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Where the city is; matched against SubscriptionCriteria.within
+     * </pre>
+     *
+     * <code>.eventsubscription.GeoPoint location = 8;</code>
+     */
+    public Builder clearLocation() {
+      bitField0_ = (bitField0_ & ~0x00000080);
+      location_ = null;
+      if (locationBuilder_ != null) {
+        locationBuilder_.dispose();
+        locationBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Where the city is; matched against SubscriptionCriteria.within
+     * </pre>
+     *
+     * <code>.eventsubscription.GeoPoint location = 8;</code>
+     */
+    public sr.grpc.gen.event.GeoPoint.Builder getLocationBuilder() {
+      bitField0_ |= 0x00000080;
+      onChanged();
+      return internalGetLocationFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * Where the city is; matched against SubscriptionCriteria.within
+     * </pre>
+     *
+     * <code>.eventsubscription.GeoPoint location = 8;</code>
+     */
+    public sr.grpc.gen.event.GeoPointOrBuilder getLocationOrBuilder() {
+      if (locationBuilder_ != null) {
+        return locationBuilder_.getMessageOrBuilder();
+      } else {
+        return location_ == null ?
+            sr.grpc.gen.event.GeoPoint.getDefaultInstance() : location_;
+      }
+    }
+    /**
+     * <pre>
+     * Where the city is; matched against SubscriptionCriteria.within
+     * </pre>
+     *
+     * <code>.eventsubscription.GeoPoint location = 8;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.GeoPoint, sr.grpc.gen.event.GeoPoint.Builder, sr.grpc.gen.event.GeoPointOrBuilder> 
+        internalGetLocationFieldBuilder() {
+      if (locationBuilder_ == null) {
+        locationBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.GeoPoint, sr.grpc.gen.event.GeoPoint.Builder, sr.grpc.gen.event.GeoPointOrBuilder>(
+                getLocation(),
+                getParentForChildren(),
+                isClean());
+        location_ = null;
+      }
+      return locationBuilder_;
+    }
+
+    private java.lang.Object region_ = "";
+    /**
+     * <pre>
+     * Path of the city's region, e.g. "PL/malopolskie"; optional
+     * </pre>
+     *
+     * <code>string region = 9;</code>
+     * @return The region.
+     */
+    public java.lang.String getRegion() {
+      java.lang.Object ref = region_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        region_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Path of the city's region, e.g. "PL/malopolskie"; optional
+     * </pre>
+     *
+     * <code>string region = 9;</code>
+     * @return The bytes for region.
+     */
+    public com.google.protobuf.ByteString
+        getRegionBytes() {
+      java.lang.Object ref = region_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        region_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Path of the city's region, e.g. "PL/malopolskie"; optional
+     * </pre>
+     *
+     * <code>string region = 9;</code>
+     * @param value The region to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRegion(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      region_ = value;
+      bitField0_ |= 0x00000100;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Path of the city's region, e.g. "PL/malopolskie"; optional
+     * </pre>
+     *
+     * <code>string region = 9;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRegion() {
+      region_ = getDefaultInstance().getRegion();
+      bitField0_ = (bitField0_ & ~0x00000100);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Path of the city's region, e.g. "PL/malopolskie"; optional
+     * </pre>
+     *
+     * <code>string region = 9;</code>
+     * @param value The bytes for region to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRegionBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      region_ = value;
+      bitField0_ |= 0x00000100;
+      onChanged();
+      return this;
+    }
+
     // @@protoc_insertion_point(builder_scope:eventsubscription.WeatherUpdate)
   }
 
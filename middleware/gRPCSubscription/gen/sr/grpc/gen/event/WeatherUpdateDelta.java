@@ -0,0 +1,1078 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+/**
+ * <pre>
+ * The fields of a city's WeatherUpdate that changed since the update with base_sequence, which the subscriber
+ * received before. Apply it to that update to get the current one; its sequence is the notification's sequence.
+ * </pre>
+ *
+ * Protobuf type {@code eventsubscription.WeatherUpdateDelta}
+ */
+public final class WeatherUpdateDelta extends
+    com.google.protobuf.GeneratedMessage implements
+    // @@protoc_insertion_point(message_implements:eventsubscription.WeatherUpdateDelta)
+    WeatherUpdateDeltaOrBuilder {
+private static final long serialVersionUID = 0L;
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 30,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      WeatherUpdateDelta.class.getName());
+  }
+  // Use WeatherUpdateDelta.newBuilder() to construct.
+  private WeatherUpdateDelta(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    super(builder);
+  }
+  private WeatherUpdateDelta() {
+    city_ = "";
+    changedFields_ = emptyIntList();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_WeatherUpdateDelta_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_WeatherUpdateDelta_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            sr.grpc.gen.event.WeatherUpdateDelta.class, sr.grpc.gen.event.WeatherUpdateDelta.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int CITY_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object city_ = "";
+  /**
+   * <pre>
+   * Always set
+   * </pre>
+   *
+   * <code>string city = 1;</code>
+   * @return The city.
+   */
+  @java.lang.Override
+  public java.lang.String getCity() {
+    java.lang.Object ref = city_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      city_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Always set
+   * </pre>
+   *
+   * <code>string city = 1;</code>
+   * @return The bytes for city.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getCityBytes() {
+    java.lang.Object ref = city_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      city_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int BASE_SEQUENCE_FIELD_NUMBER = 2;
+  private long baseSequence_ = 0L;
+  /**
+   * <pre>
+   * Sequence of the update these changes apply to
+   * </pre>
+   *
+   * <code>uint64 base_sequence = 2;</code>
+   * @return The baseSequence.
+   */
+  @java.lang.Override
+  public long getBaseSequence() {
+    return baseSequence_;
+  }
+
+  public static final int CHANGED_FIELDS_FIELD_NUMBER = 3;
+  @SuppressWarnings("serial")
+  private com.google.protobuf.Internal.IntList changedFields_ =
+      emptyIntList();
+  /**
+   * <pre>
+   * WeatherUpdate field numbers that changed; forecast is replaced as a whole
+   * </pre>
+   *
+   * <code>repeated uint32 changed_fields = 3;</code>
+   * @return A list containing the changedFields.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Integer>
+      getChangedFieldsList() {
+    return changedFields_;
+  }
+  /**
+   * <pre>
+   * WeatherUpdate field numbers that changed; forecast is replaced as a whole
+   * </pre>
+   *
+   * <code>repeated uint32 changed_fields = 3;</code>
+   * @return The count of changedFields.
+   */
+  public int getChangedFieldsCount() {
+    return changedFields_.size();
+  }
+  /**
+   * <pre>
+   * WeatherUpdate field numbers that changed; forecast is replaced as a whole
+   * </pre>
+   *
+   * <code>repeated uint32 changed_fields = 3;</code>
+   * @param index The index of the element to return.
+   * @return The changedFields at the given index.
+   */
+  public int getChangedFields(int index) {
+    return changedFields_.getInt(index);
+  }
+  private int changedFieldsMemoizedSerializedSize = -1;
+
+  public static final int CHANGES_FIELD_NUMBER = 4;
+  private sr.grpc.gen.event.WeatherUpdate changes_;
+  /**
+   * <pre>
+   * New values of the changed fields; a changed field left unset was cleared
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherUpdate changes = 4;</code>
+   * @return Whether the changes field is set.
+   */
+  @java.lang.Override
+  public boolean hasChanges() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <pre>
+   * New values of the changed fields; a changed field left unset was cleared
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherUpdate changes = 4;</code>
+   * @return The changes.
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.WeatherUpdate getChanges() {
+    return changes_ == null ? sr.grpc.gen.event.WeatherUpdate.getDefaultInstance() : changes_;
+  }
+  /**
+   * <pre>
+   * New values of the changed fields; a changed field left unset was cleared
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherUpdate changes = 4;</code>
+   */
+  @java.lang.Override
+  public sr.grpc.gen.event.WeatherUpdateOrBuilder getChangesOrBuilder() {
+    return changes_ == null ? sr.grpc.gen.event.WeatherUpdate.getDefaultInstance() : changes_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(city_)) {
+      com.google.protobuf.GeneratedMessage.writeString(output, 1, city_);
+    }
+    if (baseSequence_ != 0L) {
+      output.writeUInt64(2, baseSequence_);
+    }
+    if (getChangedFieldsList().size() > 0) {
+      output.writeUInt32NoTag(26);
+      output.writeUInt32NoTag(changedFieldsMemoizedSerializedSize);
+    }
+    for (int i = 0; i < changedFields_.size(); i++) {
+      output.writeUInt32NoTag(changedFields_.getInt(i));
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      output.writeMessage(4, getChanges());
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessage.isStringEmpty(city_)) {
+      size += com.google.protobuf.GeneratedMessage.computeStringSize(1, city_);
+    }
+    if (baseSequence_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(2, baseSequence_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < changedFields_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeUInt32SizeNoTag(changedFields_.getInt(i));
+      }
+      size += dataSize;
+      if (!getChangedFieldsList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      changedFieldsMemoizedSerializedSize = dataSize;
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(4, getChanges());
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof sr.grpc.gen.event.WeatherUpdateDelta)) {
+      return super.equals(obj);
+    }
+    sr.grpc.gen.event.WeatherUpdateDelta other = (sr.grpc.gen.event.WeatherUpdateDelta) obj;
+
+    if (!getCity()
+        .equals(other.getCity())) return false;
+    if (getBaseSequence()
+        != other.getBaseSequence()) return false;
+    if (!getChangedFieldsList()
+        .equals(other.getChangedFieldsList())) return false;
+    if (hasChanges() != other.hasChanges()) return false;
+    if (hasChanges()) {
+      if (!getChanges()
+          .equals(other.getChanges())) return false;
+    }
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + CITY_FIELD_NUMBER;
+    hash = (53 * hash) + getCity().hashCode();
+    hash = (37 * hash) + BASE_SEQUENCE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getBaseSequence());
+    if (getChangedFieldsCount() > 0) {
+      hash = (37 * hash) + CHANGED_FIELDS_FIELD_NUMBER;
+      hash = (53 * hash) + getChangedFieldsList().hashCode();
+    }
+    if (hasChanges()) {
+      hash = (37 * hash) + CHANGES_FIELD_NUMBER;
+      hash = (53 * hash) + getChanges().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static sr.grpc.gen.event.WeatherUpdateDelta parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.WeatherUpdateDelta parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.WeatherUpdateDelta parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.WeatherUpdateDelta parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.WeatherUpdateDelta parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static sr.grpc.gen.event.WeatherUpdateDelta parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.WeatherUpdateDelta parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.WeatherUpdateDelta parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static sr.grpc.gen.event.WeatherUpdateDelta parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static sr.grpc.gen.event.WeatherUpdateDelta parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static sr.grpc.gen.event.WeatherUpdateDelta parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input);
+  }
+  public static sr.grpc.gen.event.WeatherUpdateDelta parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessage
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(sr.grpc.gen.event.WeatherUpdateDelta prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * The fields of a city's WeatherUpdate that changed since the update with base_sequence, which the subscriber
+   * received before. Apply it to that update to get the current one; its sequence is the notification's sequence.
+   * </pre>
+   *
+   * Protobuf type {@code eventsubscription.WeatherUpdateDelta}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:eventsubscription.WeatherUpdateDelta)
+      sr.grpc.gen.event.WeatherUpdateDeltaOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_WeatherUpdateDelta_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_WeatherUpdateDelta_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              sr.grpc.gen.event.WeatherUpdateDelta.class, sr.grpc.gen.event.WeatherUpdateDelta.Builder.class);
+    }
+
+    // Construct using sr.grpc.gen.event.WeatherUpdateDelta.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessage
+              .alwaysUseFieldBuilders) {
+        internalGetChangesFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      city_ = "";
+      baseSequence_ = 0L;
+      changedFields_ = emptyIntList();
+      changes_ = null;
+      if (changesBuilder_ != null) {
+        changesBuilder_.dispose();
+        changesBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return sr.grpc.gen.event.EventSubscriptionProto.internal_static_eventsubscription_WeatherUpdateDelta_descriptor;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.WeatherUpdateDelta getDefaultInstanceForType() {
+      return sr.grpc.gen.event.WeatherUpdateDelta.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.WeatherUpdateDelta build() {
+      sr.grpc.gen.event.WeatherUpdateDelta result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public sr.grpc.gen.event.WeatherUpdateDelta buildPartial() {
+      sr.grpc.gen.event.WeatherUpdateDelta result = new sr.grpc.gen.event.WeatherUpdateDelta(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(sr.grpc.gen.event.WeatherUpdateDelta result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.city_ = city_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.baseSequence_ = baseSequence_;
+      }
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        changedFields_.makeImmutable();
+        result.changedFields_ = changedFields_;
+      }
+      int to_bitField0_ = 0;
+      if (((from_bitField0_ & 0x00000008) != 0)) {
+        result.changes_ = changesBuilder_ == null
+            ? changes_
+            : changesBuilder_.build();
+        to_bitField0_ |= 0x00000001;
+      }
+      result.bitField0_ |= to_bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof sr.grpc.gen.event.WeatherUpdateDelta) {
+        return mergeFrom((sr.grpc.gen.event.WeatherUpdateDelta)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(sr.grpc.gen.event.WeatherUpdateDelta other) {
+      if (other == sr.grpc.gen.event.WeatherUpdateDelta.getDefaultInstance()) return this;
+      if (!other.getCity().isEmpty()) {
+        city_ = other.city_;
+        bitField0_ |= 0x00000001;
+        onChanged();
+      }
+      if (other.getBaseSequence() != 0L) {
+        setBaseSequence(other.getBaseSequence());
+      }
+      if (!other.changedFields_.isEmpty()) {
+        if (changedFields_.isEmpty()) {
+          changedFields_ = other.changedFields_;
+          changedFields_.makeImmutable();
+          bitField0_ |= 0x00000004;
+        } else {
+          ensureChangedFieldsIsMutable();
+          changedFields_.addAll(other.changedFields_);
+        }
+        onChanged();
+      }
+      if (other.hasChanges()) {
+        mergeChanges(other.getChanges());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              city_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 10
+            case 16: {
+              baseSequence_ = input.readUInt64();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 16
+            case 24: {
+              int v = input.readUInt32();
+              ensureChangedFieldsIsMutable();
+              changedFields_.addInt(v);
+              break;
+            } // case 24
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              ensureChangedFieldsIsMutable();
+              while (input.getBytesUntilLimit() > 0) {
+                changedFields_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            } // case 26
+            case 34: {
+              input.readMessage(
+                  internalGetChangesFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              bitField0_ |= 0x00000008;
+              break;
+            } // case 34
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object city_ = "";
+    /**
+     * <pre>
+     * Always set
+     * </pre>
+     *
+     * <code>string city = 1;</code>
+     * @return The city.
+     */
+    public java.lang.String getCity() {
+      java.lang.Object ref = city_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        city_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Always set
+     * </pre>
+     *
+     * <code>string city = 1;</code>
+     * @return The bytes for city.
+     */
+    public com.google.protobuf.ByteString
+        getCityBytes() {
+      java.lang.Object ref = city_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        city_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Always set
+     * </pre>
+     *
+     * <code>string city = 1;</code>
+     * @param value The city to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCity(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      city_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Always set
+     * </pre>
+     *
+     * <code>string city = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCity() {
+      city_ = getDefaultInstance().getCity();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Always set
+     * </pre>
+     *
+     * <code>string city = 1;</code>
+     * @param value The bytes for city to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCityBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      city_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+
+    private long baseSequence_ ;
+    /**
+     * <pre>
+     * Sequence of the update these changes apply to
+     * </pre>
+     *
+     * <code>uint64 base_sequence = 2;</code>
+     * @return The baseSequence.
+     */
+    @java.lang.Override
+    public long getBaseSequence() {
+      return baseSequence_;
+    }
+    /**
+     * <pre>
+     * Sequence of the update these changes apply to
+     * </pre>
+     *
+     * <code>uint64 base_sequence = 2;</code>
+     * @param value The baseSequence to set.
+     * @return This builder for chaining.
+     */
+    public Builder setBaseSequence(long value) {
+
+      baseSequence_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Sequence of the update these changes apply to
+     * </pre>
+     *
+     * <code>uint64 base_sequence = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearBaseSequence() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      baseSequence_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.Internal.IntList changedFields_ = emptyIntList();
+    private void ensureChangedFieldsIsMutable() {
+      if (!changedFields_.isModifiable()) {
+        changedFields_ = makeMutableCopy(changedFields_);
+      }
+      bitField0_ |= 0x00000004;
+    }
+    /**
+     * <pre>
+     * WeatherUpdate field numbers that changed; forecast is replaced as a whole
+     * </pre>
+     *
+     * <code>repeated uint32 changed_fields = 3;</code>
+     * @return A list containing the changedFields.
+     */
+    public java.util.List<java.lang.Integer>
+        getChangedFieldsList() {
+      changedFields_.makeImmutable();
+      return changedFields_;
+    }
+    /**
+     * <pre>
+     * WeatherUpdate field numbers that changed; forecast is replaced as a whole
+     * </pre>
+     *
+     * <code>repeated uint32 changed_fields = 3;</code>
+     * @return The count of changedFields.
+     */
+    public int getChangedFieldsCount() {
+      return changedFields_.size();
+    }
+    /**
+     * <pre>
+     * WeatherUpdate field numbers that changed; forecast is replaced as a whole
+     * </pre>
+     *
+     * <code>repeated uint32 changed_fields = 3;</code>
+     * @param index The index of the element to return.
+     * @return The changedFields at the given index.
+     */
+    public int getChangedFields(int index) {
+      return changedFields_.getInt(index);
+    }
+    /**
+     * <pre>
+     * WeatherUpdate field numbers that changed; forecast is replaced as a whole
+     * </pre>
+     *
+     * <code>repeated uint32 changed_fields = 3;</code>
+     * @param index The index to set the value at.
+     * @param value The changedFields to set.
+     * @return This builder for chaining.
+     */
+    public Builder setChangedFields(
+        int index, int value) {
+
+      ensureChangedFieldsIsMutable();
+      changedFields_.setInt(index, value);
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * WeatherUpdate field numbers that changed; forecast is replaced as a whole
+     * </pre>
+     *
+     * <code>repeated uint32 changed_fields = 3;</code>
+     * @param value The changedFields to add.
+     * @return This builder for chaining.
+     */
+    public Builder addChangedFields(int value) {
+
+      ensureChangedFieldsIsMutable();
+      changedFields_.addInt(value);
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * WeatherUpdate field numbers that changed; forecast is replaced as a whole
+     * </pre>
+     *
+     * <code>repeated uint32 changed_fields = 3;</code>
+     * @param values The changedFields to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllChangedFields(
+        java.lang.Iterable<? extends java.lang.Integer> values) {
+      ensureChangedFieldsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, changedFields_);
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * WeatherUpdate field numbers that changed; forecast is replaced as a whole
+     * </pre>
+     *
+     * <code>repeated uint32 changed_fields = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearChangedFields() {
+      changedFields_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000004);
+      onChanged();
+      return this;
+    }
+
+    private sr.grpc.gen.event.WeatherUpdate changes_;
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.WeatherUpdate, sr.grpc.gen.event.WeatherUpdate.Builder, sr.grpc.gen.event.WeatherUpdateOrBuilder> changesBuilder_;
+    /**
+     * <pre>
+     * New values of the changed fields; a changed field left unset was cleared
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherUpdate changes = 4;</code>
+     * @return Whether the changes field is set.
+     */
+    public boolean hasChanges() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <pre>
+     * New values of the changed fields; a changed field left unset was cleared
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherUpdate changes = 4;</code>
+     * @return The changes.
+     */
+    public sr.grpc.gen.event.WeatherUpdate getChanges() {
+      if (changesBuilder_ == null) {
+        return changes_ == null ? sr.grpc.gen.event.WeatherUpdate.getDefaultInstance() : changes_;
+      } else {
+        return changesBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * New values of the changed fields; a changed field left unset was cleared
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherUpdate changes = 4;</code>
+     */
+    public Builder setChanges(sr.grpc.gen.event.WeatherUpdate value) {
+      if (changesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        changes_ = value;
+      } else {
+        changesBuilder_.setMessage(value);
+      }
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * New values of the changed fields; a changed field left unset was cleared
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherUpdate changes = 4;</code>
+     */
+    public Builder setChanges(
+        sr.grpc.gen.event.WeatherUpdate.Builder builderForValue) {
+      if (changesBuilder_ == null) {
+        changes_ = builderForValue.build();
+      } else {
+        changesBuilder_.setMessage(builderForValue.build());
+      }
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * New values of the changed fields; a changed field left unset was cleared
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherUpdate changes = 4;</code>
+     */
+    public Builder mergeChanges(sr.grpc.gen.event.WeatherUpdate value) {
+      if (changesBuilder_ == null) {
+        if (((bitField0_ & 0x00000008) != 0) &&
+          changes_ != null &&
+          changes_ != sr.grpc.gen.event.WeatherUpdate.getDefaultInstance()) {
+          getChangesBuilder().mergeFrom(value);
+        } else {
+          changes_ = value;
+        }
+      } else {
+        changesBuilder_.mergeFrom(value);
+      }
+      if (changes_ != null) {
+        bitField0_ |= 0x00000008;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * New values of the changed fields; a changed field left unset was cleared
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherUpdate changes = 4;</code>
+     */
+    public Builder clearChanges() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      changes_ = null;
+      if (changesBuilder_ != null) {
+        changesBuilder_.dispose();
+        changesBuilder_ = null;
+      }
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * New values of the changed fields; a changed field left unset was cleared
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherUpdate changes = 4;</code>
+     */
+    public sr.grpc.gen.event.WeatherUpdate.Builder getChangesBuilder() {
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return internalGetChangesFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * New values of the changed fields; a changed field left unset was cleared
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherUpdate changes = 4;</code>
+     */
+    public sr.grpc.gen.event.WeatherUpdateOrBuilder getChangesOrBuilder() {
+      if (changesBuilder_ != null) {
+        return changesBuilder_.getMessageOrBuilder();
+      } else {
+        return changes_ == null ?
+            sr.grpc.gen.event.WeatherUpdate.getDefaultInstance() : changes_;
+      }
+    }
+    /**
+     * <pre>
+     * New values of the changed fields; a changed field left unset was cleared
+     * </pre>
+     *
+     * <code>.eventsubscription.WeatherUpdate changes = 4;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilder<
+        sr.grpc.gen.event.WeatherUpdate, sr.grpc.gen.event.WeatherUpdate.Builder, sr.grpc.gen.event.WeatherUpdateOrBuilder> 
+        internalGetChangesFieldBuilder() {
+      if (changesBuilder_ == null) {
+        changesBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+            sr.grpc.gen.event.WeatherUpdate, sr.grpc.gen.event.WeatherUpdate.Builder, sr.grpc.gen.event.WeatherUpdateOrBuilder>(
+                getChanges(),
+                getParentForChildren(),
+                isClean());
+        changes_ = null;
+      }
+      return changesBuilder_;
+    }
+
+    // @@protoc_insertion_point(builder_scope:eventsubscription.WeatherUpdateDelta)
+  }
+
+  // @@protoc_insertion_point(class_scope:eventsubscription.WeatherUpdateDelta)
+  private static final sr.grpc.gen.event.WeatherUpdateDelta DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new sr.grpc.gen.event.WeatherUpdateDelta();
+  }
+
+  public static sr.grpc.gen.event.WeatherUpdateDelta getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<WeatherUpdateDelta>
+      PARSER = new com.google.protobuf.AbstractParser<WeatherUpdateDelta>() {
+    @java.lang.Override
+    public WeatherUpdateDelta parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<WeatherUpdateDelta> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<WeatherUpdateDelta> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public sr.grpc.gen.event.WeatherUpdateDelta getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
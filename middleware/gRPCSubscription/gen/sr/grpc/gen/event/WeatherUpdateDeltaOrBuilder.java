@@ -0,0 +1,97 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: weather.proto
+// Protobuf Java Version: 4.30.1
+
+package sr.grpc.gen.event;
+
+public interface WeatherUpdateDeltaOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:eventsubscription.WeatherUpdateDelta)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * Always set
+   * </pre>
+   *
+   * <code>string city = 1;</code>
+   * @return The city.
+   */
+  java.lang.String getCity();
+  /**
+   * <pre>
+   * Always set
+   * </pre>
+   *
+   * <code>string city = 1;</code>
+   * @return The bytes for city.
+   */
+  com.google.protobuf.ByteString
+      getCityBytes();
+
+  /**
+   * <pre>
+   * Sequence of the update these changes apply to
+   * </pre>
+   *
+   * <code>uint64 base_sequence = 2;</code>
+   * @return The baseSequence.
+   */
+  long getBaseSequence();
+
+  /**
+   * <pre>
+   * WeatherUpdate field numbers that changed; forecast is replaced as a whole
+   * </pre>
+   *
+   * <code>repeated uint32 changed_fields = 3;</code>
+   * @return A list containing the changedFields.
+   */
+  java.util.List<java.lang.Integer> getChangedFieldsList();
+  /**
+   * <pre>
+   * WeatherUpdate field numbers that changed; forecast is replaced as a whole
+   * </pre>
+   *
+   * <code>repeated uint32 changed_fields = 3;</code>
+   * @return The count of changedFields.
+   */
+  int getChangedFieldsCount();
+  /**
+   * <pre>
+   * WeatherUpdate field numbers that changed; forecast is replaced as a whole
+   * </pre>
+   *
+   * <code>repeated uint32 changed_fields = 3;</code>
+   * @param index The index of the element to return.
+   * @return The changedFields at the given index.
+   */
+  int getChangedFields(int index);
+
+  /**
+   * <pre>
+   * New values of the changed fields; a changed field left unset was cleared
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherUpdate changes = 4;</code>
+   * @return Whether the changes field is set.
+   */
+  boolean hasChanges();
+  /**
+   * <pre>
+   * New values of the changed fields; a changed field left unset was cleared
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherUpdate changes = 4;</code>
+   * @return The changes.
+   */
+  sr.grpc.gen.event.WeatherUpdate getChanges();
+  /**
+   * <pre>
+   * New values of the changed fields; a changed field left unset was cleared
+   * </pre>
+   *
+   * <code>.eventsubscription.WeatherUpdate changes = 4;</code>
+   */
+  sr.grpc.gen.event.WeatherUpdateOrBuilder getChangesOrBuilder();
+}
@@ -30,68 +30,40 @@ public interface WeatherUpdateOrBuilder extends
       getCityBytes();
 
   /**
-   * <pre>
-   * Numeric field (double)
-   * </pre>
-   *
    * <code>double current_temperature_celsius = 2;</code>
    * @return The currentTemperatureCelsius.
    */
   double getCurrentTemperatureCelsius();
 
   /**
-   * <pre>
-   * Numeric field (double)
-   * </pre>
-   *
    * <code>double humidity_percent = 3;</code>
    * @return The humidityPercent.
    */
   double getHumidityPercent();
 
   /**
-   * <pre>
-   * Numeric field (int32)
-   * </pre>
-   *
    * <code>int32 wind_speed_kph = 4;</code>
    * @return The windSpeedKph.
    */
   int getWindSpeedKph();
 
   /**
-   * <pre>
-   * Enum field
-   * </pre>
-   *
    * <code>.eventsubscription.WeatherCondition current_condition = 5;</code>
    * @return The enum numeric value on the wire for currentCondition.
    */
   int getCurrentConditionValue();
   /**
-   * <pre>
-   * Enum field
-   * </pre>
-   *
    * <code>.eventsubscription.WeatherCondition current_condition = 5;</code>
    * @return The currentCondition.
    */
   sr.grpc.gen.event.WeatherCondition getCurrentCondition();
 
   /**
-   * <pre>
-   * String field
-   * </pre>
-   *
    * <code>string detailed_description = 6;</code>
    * @return The detailedDescription.
    */
   java.lang.String getDetailedDescription();
   /**
-   * <pre>
-   * String field
-   * </pre>
-   *
    * <code>string detailed_description = 6;</code>
    * @return The bytes for detailedDescription.
    */
@@ -99,46 +71,73 @@ public interface WeatherUpdateOrBuilder extends
       getDetailedDescriptionBytes();
 
   /**
-   * <pre>
-   * Repeated message field
-   * </pre>
-   *
    * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
    */
   java.util.List<sr.grpc.gen.event.DailyForecast> 
       getForecastList();
+  /**
+   * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
+   */
+  sr.grpc.gen.event.DailyForecast getForecast(int index);
+  /**
+   * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
+   */
+  int getForecastCount();
+  /**
+   * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
+   */
+  java.util.List<? extends sr.grpc.gen.event.DailyForecastOrBuilder> 
+      getForecastOrBuilderList();
+  /**
+   * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
+   */
+  sr.grpc.gen.event.DailyForecastOrBuilder getForecastOrBuilder(
+      int index);
+
   /**
    * <pre>
-   * Repeated message field
+   * Where the city is; matched against SubscriptionCriteria.within
    * </pre>
    *
-   * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
+   * <code>.eventsubscription.GeoPoint location = 8;</code>
+   * @return Whether the location field is set.
    */
-  sr.grpc.gen.event.DailyForecast getForecast(int index);
+  boolean hasLocation();
   /**
    * <pre>
-   * Repeated message field
+   * Where the city is; matched against SubscriptionCriteria.within
    * </pre>
    *
-   * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
+   * <code>.eventsubscription.GeoPoint location = 8;</code>
+   * @return The location.
    */
-  int getForecastCount();
+  sr.grpc.gen.event.GeoPoint getLocation();
   /**
    * <pre>
-   * Repeated message field
+   * Where the city is; matched against SubscriptionCriteria.within
    * </pre>
    *
-   * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
+   * <code>.eventsubscription.GeoPoint location = 8;</code>
    */
-  java.util.List<? extends sr.grpc.gen.event.DailyForecastOrBuilder> 
-      getForecastOrBuilderList();
+  sr.grpc.gen.event.GeoPointOrBuilder getLocationOrBuilder();
+
   /**
    * <pre>
-   * Repeated message field
+   * Path of the city's region, e.g. "PL/malopolskie"; optional
    * </pre>
    *
-   * <code>repeated .eventsubscription.DailyForecast forecast = 7;</code>
+   * <code>string region = 9;</code>
+   * @return The region.
    */
-  sr.grpc.gen.event.DailyForecastOrBuilder getForecastOrBuilder(
-      int index);
+  java.lang.String getRegion();
+  /**
+   * <pre>
+   * Path of the city's region, e.g. "PL/malopolskie"; optional
+   * </pre>
+   *
+   * <code>string region = 9;</code>
+   * @return The bytes for region.
+   */
+  com.google.protobuf.ByteString
+      getRegionBytes();
 }
@@ -0,0 +1,48 @@
+package sr.grpc.server;
+
+import org.openjdk.jmh.annotations.*;
+import sr.grpc.gen.event.EventNotification;
+import sr.grpc.gen.event.EventType;
+import sr.grpc.gen.event.WeatherUpdate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-event work before fan-out: generating a random weather update the way the demo source does,
+ * and encoding it once into the body shared by all subscribers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventGenerationBenchmark {
+
+    private final RandomEventSource source = new RandomEventSource(null, 0, 1, TimeUnit.SECONDS); // Never started
+    private EventNotification notification;
+
+    @Setup
+    public void setUp() {
+        notification = notification(source.generateRandomWeatherUpdate("Kraków"));
+    }
+
+    @Benchmark
+    public WeatherUpdate generateRandomWeatherUpdate() {
+        return source.generateRandomWeatherUpdate("Kraków");
+    }
+
+    @Benchmark
+    public byte[] encodeBody() {
+        return EncodedNotification.encodeBody(notification, 42);
+    }
+
+    private static EventNotification notification(WeatherUpdate update) {
+        return EventNotification.newBuilder()
+                .setNotificationId("WEATHER-JMH")
+                .setTimestampUnixSeconds(1_700_000_000L)
+                .setEventType(EventType.WEATHER_UPDATE)
+                .setWeatherUpdate(update)
+                .build();
+    }
+}
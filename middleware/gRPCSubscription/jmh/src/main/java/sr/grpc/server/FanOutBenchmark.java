@@ -0,0 +1,118 @@
+package sr.grpc.server;
+
+import io.grpc.stub.StreamObserver;
+import org.openjdk.jmh.annotations.*;
+import sr.grpc.gen.event.*;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Fan-out of one weather event to its subscribers, driven directly on the calling thread, with no transport:
+ * every subscriber's stream is a no-op observer that is always ready, so each matching subscription costs
+ * the offer to its outbound queue and one onNext.
+ * <p>
+ * {@code subscribers} subscriptions are spread over {@code cities} cities; the dispatched city holds
+ * {@code matchRatio} of them and the rest are spread evenly over the others. Run with {@code -prof gc}
+ * for the allocation rate per event.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class FanOutBenchmark {
+
+    // Held so that the level set on it is not lost with a collected logger
+    private static final Logger SERVICE_LOGGER = Logger.getLogger(WeatherEventSubscriptionService.class.getName());
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    int subscribers;
+
+    @Param({"10", "1000"})
+    int cities;
+
+    @Param({"0.001", "0.01", "0.1"})
+    double matchRatio;
+
+    private ScheduledExecutorService scheduler;
+    private WeatherEventSubscriptionService service;
+    private EventNotification event;
+    private SubscriptionRequest churnRequest;
+    private UnsubscriptionRequest churnUnsubscribe;
+    private final StreamObserver<UnsubscriptionResponse> ignoredResponse = new NoopServerCallStreamObserver<>();
+
+    @Setup(Level.Trial)
+    public void subscribe() {
+        // Subscribe/unsubscribe log every call at INFO, which would dominate the setup and the churn benchmark
+        SERVICE_LOGGER.setLevel(java.util.logging.Level.WARNING);
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        service = new WeatherEventSubscriptionService(scheduler, ServerOptions.builder().dispatcherThreads(1).build());
+
+        int matching = Math.max(1, (int) Math.round(subscribers * matchRatio));
+        for (int i = 0; i < subscribers; i++) {
+            String city = i < matching || cities == 1 ? "City-0" : "City-" + (1 + i % (cities - 1));
+            service.subscribeEncoded(request("jmh-" + i, city), new NoopServerCallStreamObserver<>());
+        }
+        event = EventNotification.newBuilder()
+                .setNotificationId("WEATHER-JMH")
+                .setTimestampUnixSeconds(1_700_000_000L)
+                .setEventType(EventType.WEATHER_UPDATE)
+                .setWeatherUpdate(WeatherUpdate.newBuilder()
+                        .setCity("City-0")
+                        .setCurrentTemperatureCelsius(21.5)
+                        .setHumidityPercent(55)
+                        .setWindSpeedKph(12)
+                        .setCurrentCondition(WeatherCondition.SUNNY)
+                        .setDetailedDescription("Benchmark update"))
+                .build();
+        churnRequest = request("jmh-churn", "City-0");
+        churnUnsubscribe = UnsubscriptionRequest.newBuilder().setClientSubscriptionId("jmh-churn").build();
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() throws InterruptedException {
+        service.shutdownDispatcher(5, TimeUnit.SECONDS);
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Events fanned out per second.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void dispatchThroughput() {
+        service.dispatchWeatherUpdate(event);
+    }
+
+    /**
+     * Distribution of the time one event takes to reach all of its subscribers.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void dispatchLatency() {
+        service.dispatchWeatherUpdate(event);
+    }
+
+    /**
+     * One subscription added to and removed from the populated service.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void subscribeAndUnsubscribe() {
+        service.subscribeEncoded(churnRequest, new NoopServerCallStreamObserver<>());
+        service.unsubscribe(churnUnsubscribe, ignoredResponse);
+    }
+
+    private static SubscriptionRequest request(String id, String city) {
+        return SubscriptionRequest.newBuilder()
+                .setClientSubscriptionId(id)
+                .setEventType(EventType.WEATHER_UPDATE)
+                .setCriteria(SubscriptionCriteria.newBuilder().setTargetIdentifier(city))
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package sr.grpc.server;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import sr.grpc.gen.event.*;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Content filters of {@code subscribers} weather subscriptions to one city, drawn from {@code distinctFilters}
+ * different filters (a temperature range combined with a condition set or a wind limit). One operation is one
+ * update, taken in turn from a set of sixteen so that the filters' branches cannot be learnt.
+ * <p>
+ * {@link #groupedSelection} is what dispatch does: each distinct filter is tested once and the accepted groups
+ * are iterated. {@link #perSubscriberSelection} compiles every subscription's filter on its own and tests them
+ * all, as the baseline. {@link #dispatch} adds the offers to the subscribers' outbound queues.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class FilterBenchmark {
+
+    // Held so that the level set on it is not lost with a collected logger
+    private static final Logger SERVICE_LOGGER = Logger.getLogger(WeatherEventSubscriptionService.class.getName());
+
+    private static final String CITY = "City-0";
+
+    @Param({"100000"})
+    int subscribers;
+
+    @Param({"1", "100", "10000", "100000"})
+    int distinctFilters;
+
+    private final SubscriptionIndex index = new SubscriptionIndex();
+    private CompiledFilter[] perSubscriber;
+    private SubscriptionInfo[] subscriptions;
+    private final Topic topic = Topic.of(EventType.WEATHER_UPDATE, CITY);
+    private final EventNotification[] events = new EventNotification[16];
+    private int next;
+
+    private ScheduledExecutorService scheduler;
+    private WeatherEventSubscriptionService service;
+
+    @Setup(Level.Trial)
+    public void subscribe() {
+        SERVICE_LOGGER.setLevel(java.util.logging.Level.WARNING);
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        service = new WeatherEventSubscriptionService(scheduler, ServerOptions.builder().dispatcherThreads(1).build());
+
+        perSubscriber = new CompiledFilter[subscribers];
+        subscriptions = new SubscriptionInfo[subscribers];
+        for (int i = 0; i < subscribers; i++) {
+            SubscriptionRequest request = SubscriptionRequest.newBuilder()
+                    .setClientSubscriptionId("jmh-" + i)
+                    .setEventType(EventType.WEATHER_UPDATE)
+                    .setCriteria(SubscriptionCriteria.newBuilder()
+                            .setTargetIdentifier(CITY)
+                            .setWeatherFilter(filter(i % distinctFilters)))
+                    .build();
+            SubscriptionInfo subInfo = new SubscriptionInfo(request.getClientSubscriptionId(), request, null);
+            subscriptions[i] = subInfo;
+            index.add(subInfo);
+            perSubscriber[i] = CompiledFilter.compile(request.getCriteria().getWeatherFilter());
+            service.subscribeEncoded(request, new NoopServerCallStreamObserver<>());
+        }
+        WeatherCondition[] conditions = {WeatherCondition.SUNNY, WeatherCondition.CLOUDY, WeatherCondition.RAINY,
+                WeatherCondition.SNOWY, WeatherCondition.STORMY};
+        for (int e = 0; e < events.length; e++) {
+            events[e] = EventNotification.newBuilder()
+                    .setNotificationId("WEATHER-JMH-" + e)
+                    .setTimestampUnixSeconds(1_700_000_000L)
+                    .setEventType(EventType.WEATHER_UPDATE)
+                    .setWeatherUpdate(WeatherUpdate.newBuilder()
+                            .setCity(CITY)
+                            .setCurrentTemperatureCelsius(-10 + (e * 7919 % 45))
+                            .setHumidityPercent(30 + e * 4)
+                            .setWindSpeedKph(e * 13 % 60)
+                            .setCurrentCondition(conditions[e * 3 % conditions.length])
+                            .setDetailedDescription("Benchmark update"))
+                    .build();
+        }
+    }
+
+    // Filter number k: a 10-degree temperature band, and either two conditions or a wind limit; half of them negated
+    private static WeatherFilter filter(int k) {
+        WeatherFilter temperature = WeatherFilter.newBuilder().setRange(NumericRange.newBuilder()
+                .setField(NumericRange.Field.CURRENT_TEMPERATURE_CELSIUS)
+                .setMin(-15 + k % 40)
+                .setMax(-5 + k % 40)).build();
+        WeatherFilter second = (k / 40) % 2 == 0
+                ? WeatherFilter.newBuilder().setConditions(ConditionSet.newBuilder()
+                        .addConditionsValue(1 + k % 5)
+                        .addConditionsValue(1 + (k / 5) % 5)).build()
+                : WeatherFilter.newBuilder().setRange(NumericRange.newBuilder()
+                        .setField(NumericRange.Field.WIND_SPEED_KPH)
+                        .setMax(k % 60)).build();
+        if ((k / 80) % 2 == 1) {
+            second = WeatherFilter.newBuilder().setNegate(second).build();
+        }
+        // Filters beyond the first 160 differ in a humidity bound, so that each k is a filter of its own
+        return WeatherFilter.newBuilder().setAllOf(WeatherFilterList.newBuilder()
+                .addFilters(temperature)
+                .addFilters(second)
+                .addFilters(WeatherFilter.newBuilder().setRange(NumericRange.newBuilder()
+                        .setField(NumericRange.Field.HUMIDITY_PERCENT)
+                        .setMax(100 + k / 160)))).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() throws InterruptedException {
+        service.shutdownDispatcher(5, TimeUnit.SECONDS);
+        scheduler.shutdownNow();
+    }
+
+    private WeatherUpdate nextUpdate() {
+        return events[next++ & (events.length - 1)].getWeatherUpdate();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void groupedSelection(Blackhole blackhole) {
+        for (SubscriptionInfo subInfo : index.subscribersOf(topic, nextUpdate())) {
+            blackhole.consume(subInfo);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void perSubscriberSelection(Blackhole blackhole) {
+        WeatherUpdate update = nextUpdate();
+        for (int i = 0; i < perSubscriber.length; i++) {
+            if (perSubscriber[i].test(update)) {
+                blackhole.consume(subscriptions[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void dispatch() {
+        service.dispatchWeatherUpdate(events[next++ & (events.length - 1)]);
+    }
+}
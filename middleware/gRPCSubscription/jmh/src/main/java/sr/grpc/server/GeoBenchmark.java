@@ -0,0 +1,125 @@
+package sr.grpc.server;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import sr.grpc.gen.event.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code subscribers} circle subscriptions of {@code radiusKm} around points spread over Europe, which keep
+ * moving: {@link #move} takes the next subscription off the index and puts it back a few hundred metres further,
+ * as a crew on the road re-subscribes. {@link #match} finds the circles around the location of an update, taken
+ * in turn from 1024 random points of the same area, through the grid; {@link #scan} computes the distance to
+ * every circle instead, as the baseline.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class GeoBenchmark {
+
+    private static final double SOUTH = 36, NORTH = 70, WEST = -10, EAST = 40;
+
+    @Param({"100000"})
+    int subscribers;
+
+    @Param({"10", "50", "200"})
+    double radiusKm;
+
+    private final GeoIndex index = new GeoIndex();
+    private final SplittableRandom random = new SplittableRandom(42);
+    private SubscriptionInfo[] subscriptions;
+    private double[] latitudes;
+    private double[] longitudes;
+    private final WeatherUpdate[] updates = new WeatherUpdate[1024];
+    private int nextUpdate;
+    private int nextMove;
+
+    // Where the circles are for the baseline, in radians, with what the distance test needs
+    private double[] phis;
+    private double[] lambdas;
+    private double[] cosPhis;
+    private double maxHaversine;
+
+    @Setup(Level.Trial)
+    public void subscribe() {
+        subscriptions = new SubscriptionInfo[subscribers];
+        latitudes = new double[subscribers];
+        longitudes = new double[subscribers];
+        phis = new double[subscribers];
+        lambdas = new double[subscribers];
+        cosPhis = new double[subscribers];
+        maxHaversine = GeoIndex.maxHaversine(radiusKm);
+        for (int i = 0; i < subscribers; i++) {
+            latitudes[i] = random.nextDouble(SOUTH, NORTH);
+            longitudes[i] = random.nextDouble(WEST, EAST);
+            place(i);
+        }
+        for (int u = 0; u < updates.length; u++) {
+            updates[u] = WeatherUpdate.newBuilder()
+                    .setCity("City-" + u)
+                    .setCurrentTemperatureCelsius(20)
+                    .setCurrentCondition(WeatherCondition.SUNNY)
+                    .setLocation(GeoPoint.newBuilder()
+                            .setLatitude(random.nextDouble(SOUTH, NORTH))
+                            .setLongitude(random.nextDouble(WEST, EAST)))
+                    .build();
+        }
+    }
+
+    // Subscribes subscription i at its current point
+    private void place(int i) {
+        SubscriptionRequest request = SubscriptionRequest.newBuilder()
+                .setClientSubscriptionId("jmh-" + i)
+                .setEventType(EventType.WEATHER_UPDATE)
+                .setCriteria(SubscriptionCriteria.newBuilder()
+                        .setWithin(GeoCircle.newBuilder()
+                                .setCenter(GeoPoint.newBuilder().setLatitude(latitudes[i]).setLongitude(longitudes[i]))
+                                .setRadiusKm(radiusKm)))
+                .build();
+        subscriptions[i] = new SubscriptionInfo(request.getClientSubscriptionId(), request, null);
+        index.add(subscriptions[i]);
+        phis[i] = Math.toRadians(latitudes[i]);
+        lambdas[i] = Math.toRadians(longitudes[i]);
+        cosPhis[i] = Math.cos(phis[i]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void match(Blackhole blackhole) {
+        for (SubscriptionInfo subInfo : index.match(updates[nextUpdate++ & (updates.length - 1)])) {
+            blackhole.consume(subInfo);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void scan(Blackhole blackhole) {
+        GeoPoint location = updates[nextUpdate++ & (updates.length - 1)].getLocation();
+        double phi = Math.toRadians(location.getLatitude());
+        double lambda = Math.toRadians(location.getLongitude());
+        double cosPhi = Math.cos(phi);
+        for (int i = 0; i < subscriptions.length; i++) {
+            if (GeoIndex.haversine(phi, lambda, cosPhi, phis[i], lambdas[i], cosPhis[i]) <= maxHaversine) {
+                blackhole.consume(subscriptions[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void move() {
+        int i = nextMove;
+        nextMove = (nextMove + 1) % subscriptions.length;
+        index.remove(subscriptions[i]);
+        // A step of up to ~500 m, kept inside the area
+        latitudes[i] = Math.max(SOUTH, Math.min(NORTH, latitudes[i] + random.nextDouble(-0.0045, 0.0045)));
+        longitudes[i] = Math.max(WEST, Math.min(EAST, longitudes[i] + random.nextDouble(-0.007, 0.007)));
+        place(i);
+    }
+}
@@ -0,0 +1,151 @@
+package sr.grpc.server;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.openjdk.jmh.annotations.*;
+import sr.grpc.gen.event.*;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * End-to-end delivery over gRPC's in-process transport: events are published to the service, which fans them
+ * out through its dispatcher, marshals them and writes them to real Subscribe streams; no-op client observers
+ * count what arrives. One operation is one event received by all {@code subscribers} subscribers.
+ * <p>
+ * Server and channel use direct executors, so nothing but the service's own threads is involved.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InProcessDeliveryBenchmark {
+
+    // Held so that the level set on it is not lost with a collected logger
+    private static final Logger SERVICE_LOGGER = Logger.getLogger(WeatherEventSubscriptionService.class.getName());
+
+    @Param({"1", "100", "1000"})
+    int subscribers;
+
+    private ScheduledExecutorService scheduler;
+    private WeatherEventSubscriptionService service;
+    private Server server;
+    private ManagedChannel channel;
+    private EventSubscriptionServiceGrpc.EventSubscriptionServiceStub asyncStub;
+    private EventSubscriptionServiceGrpc.EventSubscriptionServiceBlockingStub blockingStub;
+    private final AtomicLong received = new AtomicLong();
+    private long expected;
+    private EventNotification event;
+    private int churn;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException, InterruptedException {
+        SERVICE_LOGGER.setLevel(java.util.logging.Level.WARNING);
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        service = new WeatherEventSubscriptionService(scheduler, ServerOptions.builder().outboundQueueCapacity(4096).build());
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor().addService(service).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        asyncStub = EventSubscriptionServiceGrpc.newStub(channel);
+        blockingStub = EventSubscriptionServiceGrpc.newBlockingStub(channel);
+
+        CountDownLatch confirmed = new CountDownLatch(subscribers);
+        for (int i = 0; i < subscribers; i++) {
+            asyncStub.subscribe(request("jmh-" + i, "City-0"), new CountingObserver(confirmed));
+        }
+        if (!confirmed.await(30, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Subscriptions were not confirmed");
+        }
+        event = EventNotification.newBuilder()
+                .setNotificationId("WEATHER-JMH")
+                .setTimestampUnixSeconds(1_700_000_000L)
+                .setEventType(EventType.WEATHER_UPDATE)
+                .setWeatherUpdate(WeatherUpdate.newBuilder()
+                        .setCity("City-0")
+                        .setCurrentTemperatureCelsius(21.5)
+                        .setCurrentCondition(WeatherCondition.SUNNY)
+                        .setDetailedDescription("Benchmark update"))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws InterruptedException {
+        channel.shutdownNow();
+        server.shutdownNow();
+        service.shutdownDispatcher(5, TimeUnit.SECONDS);
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Time from publishing an event until every subscriber has received it.
+     */
+    @Benchmark
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void publishAndReceive() {
+        expected += subscribers;
+        service.publish(event);
+        while (received.get() < expected) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * A Subscribe call until its confirmation arrives, followed by the Unsubscribe call that ends it.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public UnsubscriptionResponse subscribeRpc() throws InterruptedException {
+        String id = "jmh-churn-" + churn++;
+        CountDownLatch confirmed = new CountDownLatch(1);
+        asyncStub.subscribe(request(id, "City-1"), new CountingObserver(confirmed));
+        confirmed.await();
+        return blockingStub.unsubscribe(UnsubscriptionRequest.newBuilder().setClientSubscriptionId(id).build());
+    }
+
+    private static SubscriptionRequest request(String id, String city) {
+        return SubscriptionRequest.newBuilder()
+                .setClientSubscriptionId(id)
+                .setEventType(EventType.WEATHER_UPDATE)
+                .setCriteria(SubscriptionCriteria.newBuilder().setTargetIdentifier(city))
+                .build();
+    }
+
+    // Counts the confirmation down and every notification after it
+    private class CountingObserver implements StreamObserver<EventNotification> {
+        private final CountDownLatch confirmed;
+        private boolean confirmationSeen; // Called by one transport thread at a time
+
+        CountingObserver(CountDownLatch confirmed) {
+            this.confirmed = confirmed;
+        }
+
+        @Override
+        public void onNext(EventNotification notification) {
+            if (!confirmationSeen) {
+                confirmationSeen = true;
+                confirmed.countDown();
+            } else {
+                received.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            confirmed.countDown();
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+    }
+}
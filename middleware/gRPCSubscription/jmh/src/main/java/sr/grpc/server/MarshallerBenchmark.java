@@ -0,0 +1,101 @@
+package sr.grpc.server;
+
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.netty.shaded.io.netty.buffer.ByteBuf;
+import io.grpc.netty.shaded.io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.*;
+import sr.grpc.gen.event.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The outbound marshalling of one notification, as gRPC's message framer does it: the response marshaller's
+ * stream is sized through KnownLength and drained into a pooled direct buffer, which Netty then writes out.
+ * With {@code -prof gc}, the allocation per operation is what each sent notification costs the heap.
+ * <p>
+ * Bodies are heap arrays for live events, or direct buffers like the mapped journal slices a resumed
+ * subscription is replayed from. The batch benchmark counts each of its {@value #BATCH_SIZE} notifications.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarshallerBenchmark {
+
+    private static final int BATCH_SIZE = 16;
+
+    @Param({"HEAP", "DIRECT"})
+    public String body;
+
+    private EncodedNotification notification;
+    private EncodedBatch batch;
+    private final FrameOutputStream frame = new FrameOutputStream();
+
+    @Setup
+    public void setUp() {
+        byte[] encoded = EncodedNotification.encodeBody(SyntheticEventSource.builder().build().producer(0).next(), 42);
+        ByteBuffer buffer = ByteBuffer.wrap(encoded);
+        if (body.equals("DIRECT")) {
+            buffer = ByteBuffer.allocateDirect(encoded.length).put(encoded).flip();
+        }
+        notification = new EncodedNotification(EncodedNotification.encodeSubscriberPrefix("jmh-subscriber-1"), buffer);
+        List<EncodedNotification> notifications = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            notifications.add(notification);
+        }
+        batch = new EncodedBatch(notifications);
+    }
+
+    @Benchmark
+    public int subscribe() throws IOException {
+        return send(NotificationMarshaller.INSTANCE.stream(notification));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int subscribeBatched() throws IOException {
+        return send(NotificationBatchMarshaller.INSTANCE.stream(batch));
+    }
+
+    @Benchmark
+    public int subscriptionSession() throws IOException {
+        return send(SessionResponseMarshaller.INSTANCE.stream(EncodedSessionResponse.notification(notification)));
+    }
+
+    // What MessageFramer does with a known-length, drainable message
+    private int send(InputStream stream) throws IOException {
+        int length = ((KnownLength) stream).available();
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.directBuffer(length);
+        try {
+            frame.target = buffer;
+            ((Drainable) stream).drainTo(frame);
+            return buffer.readableBytes();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    // Like the framer's adapter to its writable buffer, one for every message it frames
+    private static final class FrameOutputStream extends OutputStream {
+        ByteBuf target;
+
+        @Override
+        public void write(int b) {
+            target.writeByte(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            target.writeBytes(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package sr.grpc.server;
+
+import org.openjdk.jmh.annotations.*;
+import sr.grpc.gen.event.EventNotification;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One event of the synthetic load source for each payload size, over 10,000 Zipf-distributed cities; with
+ * {@code -prof gc} the allocation per event is what the notification itself takes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SyntheticEventBenchmark {
+
+    @Param({"MINIMAL", "STANDARD", "LARGE"})
+    public PayloadProfile payload;
+
+    private SyntheticEventSource.Producer producer;
+
+    @Setup
+    public void setUp() {
+        producer = SyntheticEventSource.builder()
+                .cities(10_000)
+                .payload(payload, 1)
+                .build()
+                .producer(0); // Never started
+    }
+
+    @Benchmark
+    public EventNotification next() {
+        return producer.next();
+    }
+}
@@ -0,0 +1,122 @@
+package sr.grpc.server;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import sr.grpc.gen.event.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code subscribers} path subscriptions over 20 countries of 16 regions of 50 cities: most to one city's path,
+ * the rest to a region ("C3/R7/*"), a country ("C3/**"), or the cities of a country starting with a letter
+ * ("C3/*&#47;W*"). {@link #match} walks the trie for the path of an update, taken in turn from 1024 random cities;
+ * {@link #scan} tests every subscription's pattern against the path instead, as the baseline.
+ * {@link #subscribeAndUnsubscribe} adds a pattern to the trie and removes it again.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class TopicTrieBenchmark {
+
+    private static final int COUNTRIES = 20, REGIONS = 16, CITIES = 50;
+    private static final String LETTERS = "ABCDEFGHIJKLMNOPRSTUWZ";
+
+    @Param({"100000"})
+    int subscribers;
+
+    private final TopicTrie trie = new TopicTrie();
+    private final SplittableRandom random = new SplittableRandom(42);
+    private SubscriptionInfo[] subscriptions;
+    private String[][] patterns; // Normalized segments of each subscription's target, for the baseline
+    private final WeatherUpdate[] updates = new WeatherUpdate[1024];
+    private final String[][] paths = new String[updates.length][];
+    private int next;
+    private SubscriptionInfo churn;
+
+    @Setup(Level.Trial)
+    public void subscribe() {
+        subscriptions = new SubscriptionInfo[subscribers];
+        patterns = new String[subscribers][];
+        for (int i = 0; i < subscribers; i++) {
+            String country = "C" + random.nextInt(COUNTRIES);
+            String region = country + "/R" + random.nextInt(REGIONS);
+            int kind = random.nextInt(100);
+            String target = kind < 90 ? region + "/" + city(random.nextInt(CITIES))
+                    : kind < 95 ? region + "/*"
+                    : kind < 98 ? country + "/**"
+                    : country + "/*/" + LETTERS.charAt(random.nextInt(LETTERS.length())) + "*";
+            subscriptions[i] = subscription("jmh-" + i, target);
+            patterns[i] = Topic.normalize(target).split("/");
+            trie.add(subscriptions[i]);
+        }
+        for (int u = 0; u < updates.length; u++) {
+            String region = "C" + random.nextInt(COUNTRIES) + "/R" + random.nextInt(REGIONS);
+            String city = city(random.nextInt(CITIES));
+            updates[u] = WeatherUpdate.newBuilder().setRegion(region).setCity(city).build();
+            paths[u] = Topic.normalize(region + "/" + city).split("/");
+        }
+        churn = subscription("jmh-churn", "C1/*/K*");
+    }
+
+    // City number c, e.g. "Kity-7"; the first letters vary so that the letter patterns match some of them
+    private static String city(int c) {
+        return LETTERS.charAt(c % LETTERS.length()) + "ity-" + c;
+    }
+
+    private static SubscriptionInfo subscription(String id, String target) {
+        SubscriptionRequest request = SubscriptionRequest.newBuilder()
+                .setClientSubscriptionId(id)
+                .setEventType(EventType.WEATHER_UPDATE)
+                .setCriteria(SubscriptionCriteria.newBuilder().setTargetIdentifier(target))
+                .build();
+        return new SubscriptionInfo(id, request, null);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void match(Blackhole blackhole) {
+        for (SubscriptionInfo subInfo : trie.match(updates[next++ & (updates.length - 1)])) {
+            blackhole.consume(subInfo);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void scan(Blackhole blackhole) {
+        String[] path = paths[next++ & (paths.length - 1)];
+        for (int i = 0; i < patterns.length; i++) {
+            if (matches(patterns[i], path)) {
+                blackhole.consume(subscriptions[i]);
+            }
+        }
+    }
+
+    private static boolean matches(String[] pattern, String[] path) {
+        for (int i = 0; i < pattern.length; i++) {
+            String segment = pattern[i];
+            if (segment.equals("**")) {
+                return true;
+            }
+            if (i == path.length) {
+                return false;
+            }
+            boolean prefix = segment.endsWith("*");
+            if (prefix ? !path[i].startsWith(segment.substring(0, segment.length() - 1)) : !segment.equals(path[i])) {
+                return false;
+            }
+        }
+        return pattern.length == path.length;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void subscribeAndUnsubscribe() {
+        trie.add(churn);
+        trie.remove(churn);
+    }
+}
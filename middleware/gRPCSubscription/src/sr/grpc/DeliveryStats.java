@@ -0,0 +1,88 @@
+package sr.grpc;
+
+import sr.grpc.gen.event.LatencyHistogram;
+import sr.grpc.server.AtomicHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * What a client received on its subscriptions, worked out from the per-topic sequence number and the producer
+ * timestamp of every event notification: how many notifications arrived and how late, how many events were
+ * missed, and how many notifications came out of order.
+ * <p>
+ * A gap is a jump of a subscription's sequence numbers past the next one; the events jumped over count as missed.
+ * Only subscriptions that are sent every event of their topic are checked for gaps: conflating and delta
+ * subscriptions skip events by design, and keyword, filtered, circle and pattern subscriptions only get the
+ * matching events. A sequence number at or below the last one received counts as out of order on any subscription
+ * but one to a circle or a wildcard pattern, whose cities are numbered separately. HIGH priority notifications
+ * overtake routine ones by design: the sequence numbers a HIGH one skips are only missed if they never arrive,
+ * and arriving after it is not out of order.
+ * <p>
+ * The lag is the time of receipt minus the producer's timestamp, both read from wall clocks, so between hosts it
+ * includes the offset of their clocks. Updated by the stream threads; may be read from any thread.
+ */
+public final class DeliveryStats {
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder gaps = new LongAdder();
+    private final LongAdder missed = new LongAdder();
+    private final LongAdder outOfOrder = new LongAdder();
+    private final AtomicHistogram lag = new AtomicHistogram();
+
+    void received() {
+        received.increment();
+    }
+
+    void lag(long nanos) {
+        lag.record(nanos);
+    }
+
+    void gap(long missedEvents) {
+        gaps.increment();
+        missed.add(missedEvents);
+    }
+
+    void outOfOrder() {
+        outOfOrder.increment();
+    }
+
+    /**
+     * Event notifications received, including the ones out of order.
+     */
+    public long receivedCount() {
+        return received.sum();
+    }
+
+    /**
+     * Jumps in the sequence numbers of gap-checked subscriptions.
+     */
+    public long gapCount() {
+        return gaps.sum();
+    }
+
+    /**
+     * Events jumped over by the gaps: published to a subscription's topic but never received.
+     */
+    public long missedCount() {
+        return missed.sum();
+    }
+
+    public long outOfOrderCount() {
+        return outOfOrder.sum();
+    }
+
+    /**
+     * Distribution of the delivery lag of the notifications that carried a producer timestamp, in microseconds.
+     */
+    public LatencyHistogram lag() {
+        return lag.snapshot();
+    }
+
+    @Override
+    public String toString() {
+        LatencyHistogram lag = lag();
+        return String.format("received=%d, gaps=%d (missed %d), out of order=%d, lag p50=%.0fus p99=%.0fus max=%.0fus",
+                receivedCount(), gapCount(), missedCount(), outOfOrderCount(),
+                lag.getP50Micros(), lag.getP99Micros(), lag.getMaxMicros());
+    }
+}
@@ -1,25 +1,43 @@
 package sr.grpc;
 
+import com.google.protobuf.Any;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.grpc.DecompressorRegistry;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.protobuf.StatusProto;
 import io.grpc.stub.StreamObserver;
+import sr.grpc.codec.DeflateCodec;
 import sr.grpc.gen.event.*; // Import all generated classes
 import sr.grpc.gen.event.EventSubscriptionServiceGrpc.EventSubscriptionServiceBlockingStub;
 import sr.grpc.gen.event.EventSubscriptionServiceGrpc.EventSubscriptionServiceStub;
 
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class WeatherEventSubscriptionClient {
     private static final Logger logger = Logger.getLogger(WeatherEventSubscriptionClient.class.getName());
 
+    private static final int MAX_REDIRECTS = 3; // Cluster nodes followed per subscription attempt while views settle
+    private static final int ENDED_TRACKERS_KEPT = 64; // Ended subscriptions whose sequence and stats can still be read
+
     private final ManagedChannel channel;
     private final EventSubscriptionServiceStub asyncStub;
     private final EventSubscriptionServiceBlockingStub blockingStub;
@@ -28,24 +46,58 @@ public class WeatherEventSubscriptionClient {
     // Optional: Map to keep track of active subscriptions initiated by this client instance
     // Key: client_subscription_id, Value: Description (e.g., city) or the StreamObserver itself
     private final ConcurrentMap<String, String> activeSubscriptions = new ConcurrentHashMap<>();
+    // Sessions opened by this client instance; closed on shutdown
+    private final Set<Session> sessions = ConcurrentHashMap.newKeySet();
+    // Sequence tracking per subscription, registered before it is opened; kept after it ends, to resume from,
+    // for the last ENDED_TRACKERS_KEPT subscriptions that ended (oldest first in endedTrackers)
+    private final ConcurrentMap<String, SequenceTracker> trackers = new ConcurrentHashMap<>();
+    private final Set<String> endedTrackers = new LinkedHashSet<>(); // Guarded by itself
+    // Received, missed and out-of-order notifications and their lag, over all subscriptions
+    private final DeliveryStats deliveryStats = new DeliveryStats();
+    // Last full weather notification per subscription; weather_update_delta notifications are applied to it
+    private final ConcurrentMap<String, EventNotification> weatherStates = new ConcurrentHashMap<>();
+    // Channels to the other nodes of the server's cluster, opened when a subscription is redirected there
+    private final ConcurrentMap<String, ManagedChannel> nodeChannels = new ConcurrentHashMap<>();
+    // Cluster node of each subscription that is not on this client's own channel
+    private final ConcurrentMap<String, String> subscriptionNodes = new ConcurrentHashMap<>();
+    // Encoding asked of the server for notification streams opened from now on; empty for none
+    private volatile String responseEncoding = "";
 
     public WeatherEventSubscriptionClient(String host, int port, String clientInstanceId) {
+        this.channel = buildChannel(ManagedChannelBuilder.forAddress(host, port));
+
+        this.asyncStub = EventSubscriptionServiceGrpc.newStub(channel);
+        this.blockingStub = EventSubscriptionServiceGrpc.newBlockingStub(channel);
+        this.clientInstanceId = clientInstanceId;
+        logger.info("Client instance " + clientInstanceId + " created for " + host + ":" + port);
+    }
+
+    // Channel to the server, or to another node of its cluster
+    private static ManagedChannel buildChannel(ManagedChannelBuilder<?> builder) {
         // Add keepAlive settings matching server expectations (optional but recommended)
-        this.channel = ManagedChannelBuilder.forAddress(host, port)
+        return builder
                 .usePlaintext() // Disable TLS/SSL for local testing
                 .keepAliveTime(60, TimeUnit.SECONDS) // Should be >= server keepAliveTime
                 .keepAliveTimeout(30, TimeUnit.SECONDS) // Should be >= server keepAliveTimeout
                 .keepAliveWithoutCalls(true)
+                // Accept deflate as well as gzip, so the server may compress responses with either
+                .decompressorRegistry(DecompressorRegistry.getDefaultInstance().with(new DeflateCodec(), true))
                 .build();
+    }
 
-        this.asyncStub = EventSubscriptionServiceGrpc.newStub(channel);
-        this.blockingStub = EventSubscriptionServiceGrpc.newBlockingStub(channel);
-        this.clientInstanceId = clientInstanceId;
-        logger.info("Client instance " + clientInstanceId + " created for " + host + ":" + port);
+    /**
+     * Asks the server to compress the notifications of subscriptions and sessions opened from now on,
+     * e.g. with "deflate" (fast) or "gzip" (smaller). Notifications below the server's size threshold are
+     * still sent uncompressed; an encoding the server does not offer falls back to none.
+     */
+    public void requestCompression(String encoding) {
+        this.responseEncoding = encoding;
     }
 
     public void shutdown() throws InterruptedException {
         logger.info("Shutting down client instance: " + clientInstanceId);
+        // Closing a session ends all of its subscriptions on the server
+        sessions.forEach(Session::close);
         // Optional: Gracefully unsubscribe from all active subscriptions before shutting down
         if (!activeSubscriptions.isEmpty()) {
             logger.info("Unsubscribing from " + activeSubscriptions.size() + " active subscriptions before shutdown...");
@@ -54,6 +106,7 @@ public class WeatherEventSubscriptionClient {
             TimeUnit.MILLISECONDS.sleep(500); // Give time for unsubscribe RPCs
         }
 
+        nodeChannels.values().forEach(ManagedChannel::shutdown);
         channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
         if (!channel.isTerminated()) {
             logger.warning("Channel did not terminate gracefully after 5 seconds for client: " + clientInstanceId);
@@ -70,98 +123,525 @@ public class WeatherEventSubscriptionClient {
      * @return The unique client_subscription_id generated for this subscription. Null if subscription fails immediately.
      */
     public String subscribe(EventType eventType, SubscriptionCriteria criteria) {
+        return subscribe(eventType, criteria, DeliveryMode.QUEUE_ALL);
+    }
+
+    /**
+     * Subscribes to events of a specific type and criteria with the given delivery mode.
+     *
+     * @param eventType    The type of event (e.g., WEATHER_UPDATE).
+     * @param criteria     The subscription criteria (e.g., target_identifier="Kraków").
+     * @param deliveryMode QUEUE_ALL to receive every notification, CONFLATE_LATEST to receive only the newest
+     *                     one per city when this client falls behind.
+     * @return The unique client_subscription_id generated for this subscription. Null if subscription fails immediately.
+     */
+    public String subscribe(EventType eventType, SubscriptionCriteria criteria, DeliveryMode deliveryMode) {
+        return openSubscription(eventType, criteria, deliveryMode, false, null, false);
+    }
+
+    /**
+     * Subscribes to a city's weather in delta mode: after the first full update the server only sends the fields
+     * that changed, and nothing when none did. Full updates are rebuilt here, so notifications are handled like
+     * those of any other subscription.
+     *
+     * @param criteria The subscription criteria (e.g., target_identifier="Kraków").
+     * @return The unique client_subscription_id generated for this subscription. Null if subscription fails immediately.
+     */
+    public String subscribeWeatherDeltas(SubscriptionCriteria criteria) {
+        return openSubscription(EventType.WEATHER_UPDATE, criteria, DeliveryMode.QUEUE_ALL, false, null, true);
+    }
+
+    /**
+     * Subscribes to weather updates and first receives those published after the given sequence number that
+     * the server still has in its journal, e.g. the ones missed while a previous subscription was down.
+     *
+     * @param eventType           WEATHER_UPDATE; the server rejects resuming other event types.
+     * @param criteria            The subscription criteria (e.g., target_identifier="Kraków").
+     * @param deliveryMode        QUEUE_ALL or CONFLATE_LATEST, as for {@link #subscribe(EventType, SubscriptionCriteria, DeliveryMode)}.
+     * @param resumeAfterSequence Last sequence number received for this city, see {@link #lastSequence(String)}.
+     * @return The unique client_subscription_id generated for this subscription. Null if subscription fails immediately.
+     */
+    public String subscribe(EventType eventType, SubscriptionCriteria criteria, DeliveryMode deliveryMode,
+                            long resumeAfterSequence) {
+        return openSubscription(eventType, criteria, deliveryMode, false, resumeAfterSequence, false);
+    }
+
+    /**
+     * Sequence number of the last notification received on a subscription, also after it has ended (for the last
+     * {@value #ENDED_TRACKERS_KEPT} subscriptions that ended); 0 if none or unknown.
+     */
+    public long lastSequence(String subscriptionId) {
+        SequenceTracker tracker = trackers.get(subscriptionId);
+        return tracker != null ? tracker.lastSequence : 0;
+    }
+
+    /**
+     * Delivery counters and lag of all subscriptions of this client, see {@link DeliveryStats}.
+     */
+    public DeliveryStats deliveryStats() {
+        return deliveryStats;
+    }
+
+    /**
+     * Delivery counters and lag of one subscription, also after it has ended (for the last
+     * {@value #ENDED_TRACKERS_KEPT} subscriptions that ended); null if it is unknown.
+     */
+    public DeliveryStats deliveryStats(String subscriptionId) {
+        SequenceTracker tracker = trackers.get(subscriptionId);
+        return tracker != null ? tracker.stats : null;
+    }
+
+    /**
+     * Subscribes through SubscribeBatched: the server sends notifications in batches (bounded by count and delay,
+     * see the server options), which are unpacked here and handled one by one like on a regular subscription.
+     *
+     * @param eventType The type of event (e.g., WEATHER_UPDATE).
+     * @param criteria  The subscription criteria (e.g., target_identifier="Kraków").
+     * @return The unique client_subscription_id generated for this subscription. Null if subscription fails immediately.
+     */
+    public String subscribeBatched(EventType eventType, SubscriptionCriteria criteria) {
+        return openSubscription(eventType, criteria, DeliveryMode.QUEUE_ALL, true, null, false);
+    }
+
+    private String openSubscription(EventType eventType, SubscriptionCriteria criteria, DeliveryMode deliveryMode,
+                                    boolean batched, Long resumeAfterSequence, boolean weatherDelta) {
         // Generate a unique ID for this subscription attempt
         String clientSubscriptionId = clientInstanceId + "-" + eventType.name() + "-" + UUID.randomUUID();
-        String description = criteria.getTargetIdentifier(); // Use target_identifier as description
+        // Use target_identifier as description, or the keywords of a news subscription, or the circle
+        String description = criteria.hasWithin()
+                ? "within " + criteria.getWithin().getRadiusKm() + " km of " + criteria.getWithin().getCenter().getLatitude()
+                        + "," + criteria.getWithin().getCenter().getLongitude()
+                : criteria.getTargetIdentifier().isEmpty() && criteria.getKeywordsCount() > 0
+                        ? "keywords " + criteria.getKeywordsList() : criteria.getTargetIdentifier();
 
         logger.info("[" + clientInstanceId + "] Subscribing with ID: " + clientSubscriptionId +
-                " | Type: " + eventType + " | Criteria: " + description);
+                " | Type: " + eventType + " | Criteria: " + description + " | Delivery: " + deliveryMode +
+                (batched ? " (batched)" : "") + (weatherDelta ? " (deltas)" : "") +
+                (resumeAfterSequence != null ? " | Resume after: " + resumeAfterSequence : ""));
 
-        SubscriptionRequest request = SubscriptionRequest.newBuilder()
+        SubscriptionRequest.Builder requestBuilder = SubscriptionRequest.newBuilder()
                 .setClientSubscriptionId(clientSubscriptionId)
                 .setEventType(eventType)
                 .setCriteria(criteria)
-                .build();
+                .setDeliveryMode(deliveryMode)
+                .setWeatherDelta(weatherDelta)
+                .setResponseEncoding(responseEncoding);
+        if (resumeAfterSequence != null) {
+            requestBuilder.setResumeAfterSequence(resumeAfterSequence);
+        }
+        SubscriptionRequest request = requestBuilder.build();
+        trackers.put(clientSubscriptionId, new SequenceTracker(
+                deliveryMode == DeliveryMode.QUEUE_ALL && !weatherDelta && criteria.getKeywordsCount() == 0
+                        && !criteria.hasWeatherFilter() && !spansCities(criteria),
+                !spansCities(criteria), resumeAfterSequence != null ? resumeAfterSequence : 0));
+
+        if (!openStream(request, description, batched, null)) {
+            trackers.remove(clientSubscriptionId); // The caller never gets the ID to ask about it
+            return null;
+        }
+        return clientSubscriptionId;
+    }
 
-        // Use a CountDownLatch to wait for the initial stream setup (optional, for simpler main logic)
-        CountDownLatch setupLatch = new CountDownLatch(1);
-        final Status[] errorStatus = {Status.OK}; // Array to hold error status from observer thread
+    // Keeps the tracker of a subscription that ended until ENDED_TRACKERS_KEPT more recent ones have ended too
+    private void trackerEnded(String clientSubscriptionId) {
+        synchronized (endedTrackers) {
+            endedTrackers.remove(clientSubscriptionId); // Ended again, e.g. by Unsubscribe and then by the server
+            endedTrackers.add(clientSubscriptionId);
+            Iterator<String> oldest = endedTrackers.iterator();
+            while (endedTrackers.size() > ENDED_TRACKERS_KEPT) {
+                trackers.remove(oldest.next());
+                oldest.remove();
+            }
+        }
+    }
 
-        asyncStub.subscribe(request, new StreamObserver<EventNotification>() {
-            @Override
-            public void onNext(EventNotification notification) {
-                // Check if it's the confirmation message (optional check)
-                if (notification.getEventPayloadCase() == EventNotification.EventPayloadCase.EVENTPAYLOAD_NOT_SET &&
-                        notification.getNotificationId().startsWith("CONFIRM-")) {
-                    logger.info("[" + clientInstanceId + "][SubID: " + notification.getClientSubscriptionId() +
-                            "] Subscription confirmed by server.");
-                    // Store the subscription ID locally upon confirmation
-                    activeSubscriptions.put(clientSubscriptionId, description);
-                    setupLatch.countDown(); // Signal successful setup
-                } else {
-                    // Process actual event notification
-                    handleEventNotification(notification);
+    // A circle or a wildcard pattern gets the events of several cities, each numbered on its own
+    private static boolean spansCities(SubscriptionCriteria criteria) {
+        return criteria.hasWithin() || criteria.getTargetIdentifier().indexOf('*') >= 0;
+    }
+
+    // Opens a subscription's stream at a cluster node (null: the server this client was created for) and waits
+    // for its confirmation, following redirects to the node that owns the subscription's target
+    private boolean openStream(SubscriptionRequest request, String description, boolean batched, String node) {
+        String clientSubscriptionId = request.getClientSubscriptionId();
+        for (int redirects = 0; ; redirects++) {
+            // The observer counts down its latch once the stream is set up (confirmation) or fails
+            SubscriptionObserver observer = new SubscriptionObserver(request, description, batched);
+            EventSubscriptionServiceStub stub = node == null ? asyncStub : EventSubscriptionServiceGrpc.newStub(channelTo(node));
+            if (batched) {
+                stub.subscribeBatched(request, new BatchObserver(observer));
+            } else {
+                stub.subscribe(request, observer);
+            }
+
+            // Wait briefly for the stream setup (or immediate error)
+            try {
+                if (!observer.setupLatch.await(5, TimeUnit.SECONDS)) {
+                    logger.warning("[" + clientInstanceId + "][SubID: " + clientSubscriptionId +
+                            "] Timed out waiting for subscription confirmation/error.");
+                    // Consider cancelling the RPC here if necessary, though it might already be problematic
+                    return false; // Indicate setup timeout
                 }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warning("[" + clientInstanceId + "][SubID: " + clientSubscriptionId +
+                        "] Interrupted while waiting for subscription setup.");
+                return false; // Indicate interruption
             }
 
-            @Override
-            public void onError(Throwable t) {
-                Status status = Status.fromThrowable(t);
+            // Check if an error occurred during setup
+            if (!observer.errorStatus.isOk()) {
+                String owner = redirectTarget(observer.error);
+                if (owner != null && redirects < MAX_REDIRECTS) {
+                    logger.info("[" + clientInstanceId + "][SubID: " + clientSubscriptionId +
+                            "] Redirected to cluster node " + owner + ": " + observer.errorStatus.getDescription());
+                    node = owner;
+                    continue;
+                }
+                logger.severe("[" + clientInstanceId + "][SubID: " + clientSubscriptionId +
+                        "] Subscription failed during setup: " + observer.errorStatus);
+                return false; // Indicate setup failure
+            }
+
+            // Check if the subscription was actually added (possible race condition if onError happened fast)
+            if (!activeSubscriptions.containsKey(clientSubscriptionId)) {
+                // This might happen if onError was called before the onNext confirmation
+                logger.warning("[" + clientInstanceId + "][SubID: " + clientSubscriptionId +
+                        "] Subscription might not have been fully established despite no immediate error.");
+                // Don't return the ID if it wasn't successfully stored.
+                // It implies the stream failed very early or the confirmation was missed.
+                return false;
+            }
+
+            if (node != null) {
+                subscriptionNodes.put(clientSubscriptionId, node); // Unsubscribe goes there too
+            } else {
+                subscriptionNodes.remove(clientSubscriptionId);
+            }
+            return true; // Setup seems successful
+        }
+    }
+
+    // The cluster node named by a NodeRedirect status detail, or null if the error is not a redirect
+    private static String redirectTarget(Throwable error) {
+        com.google.rpc.Status status = error != null ? StatusProto.fromThrowable(error) : null;
+        if (status == null) {
+            return null;
+        }
+        for (Any detail : status.getDetailsList()) {
+            if (detail.is(NodeRedirect.class)) {
+                try {
+                    return detail.unpack(NodeRedirect.class).getOwnerAddress();
+                } catch (InvalidProtocolBufferException e) {
+                    logger.warning("Malformed redirect from the server: " + e.getMessage());
+                }
+            }
+        }
+        return null;
+    }
+
+    private ManagedChannel channelTo(String node) {
+        return nodeChannels.computeIfAbsent(node, address -> buildChannel(ManagedChannelBuilder.forTarget(address)));
+    }
+
+    // Receives the notifications of one subscription, starting with the server's confirmation
+    private class SubscriptionObserver implements StreamObserver<EventNotification> {
+        private final SubscriptionRequest request;
+        private final String clientSubscriptionId;
+        private final String description;
+        private final boolean batched;
+        // Used to wait for the initial stream setup (optional, for simpler main logic)
+        final CountDownLatch setupLatch = new CountDownLatch(1);
+        volatile Status errorStatus = Status.OK; // Error status from the observer thread
+        volatile Throwable error; // With the status details, e.g. a cluster redirect
+
+        SubscriptionObserver(SubscriptionRequest request, String description, boolean batched) {
+            this.request = request;
+            this.clientSubscriptionId = request.getClientSubscriptionId();
+            this.description = description;
+            this.batched = batched;
+        }
+
+        @Override
+        public void onNext(EventNotification notification) {
+            // Check if it's the confirmation message (optional check)
+            if (notification.getEventPayloadCase() == EventNotification.EventPayloadCase.EVENTPAYLOAD_NOT_SET &&
+                    notification.getNotificationId().startsWith("CONFIRM-")) {
+                logger.info("[" + clientInstanceId + "][SubID: " + notification.getClientSubscriptionId() +
+                        "] Subscription confirmed by server.");
+                // Store the subscription ID locally upon confirmation
+                activeSubscriptions.put(clientSubscriptionId, description);
+                setupLatch.countDown(); // Signal successful setup
+            } else {
+                // Process actual event notification
+                handleEventNotification(notification);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            Status status = Status.fromThrowable(t);
+            String owner = redirectTarget(t);
+            if (owner == null) {
                 logger.log(Level.WARNING, "[" + clientInstanceId + "][SubID: " + clientSubscriptionId +
                         "] Subscription stream error: " + status.getCode() + " - " + status.getDescription(), t);
-                activeSubscriptions.remove(clientSubscriptionId); // Remove if stream fails
-                errorStatus[0] = status; // Store error
-                setupLatch.countDown(); // Signal failure/completion
             }
+            activeSubscriptions.remove(clientSubscriptionId); // Remove if stream fails
+            weatherStates.remove(clientSubscriptionId);
+            boolean wasConfirmed = setupLatch.getCount() == 0;
+            error = t;
+            errorStatus = status; // Store error
+            setupLatch.countDown(); // Signal failure/completion
+            if (wasConfirmed && owner != null) {
+                // The target moved to another cluster node: subscribe there, off the transport thread
+                CompletableFuture.runAsync(() -> follow(owner));
+            } else if (owner == null) {
+                trackerEnded(clientSubscriptionId);
+            }
+        }
 
-            @Override
-            public void onCompleted() {
-                logger.info("[" + clientInstanceId + "][SubID: " + clientSubscriptionId +
-                        "] Subscription stream completed by server.");
-                activeSubscriptions.remove(clientSubscriptionId); // Remove on completion
-                setupLatch.countDown(); // Signal completion
+        // Reopens the subscription under the same ID at the target's new owner, which numbers its events afresh
+        private void follow(String owner) {
+            SequenceTracker tracker = trackers.get(clientSubscriptionId);
+            if (tracker != null) {
+                tracker.restart();
             }
-        });
+            logger.info("[" + clientInstanceId + "][SubID: " + clientSubscriptionId + "] Moved to cluster node " + owner);
+            if (!openStream(request.toBuilder().clearResumeAfterSequence().build(), description, batched, owner)) {
+                trackerEnded(clientSubscriptionId);
+            }
+        }
 
-        // Wait briefly for the stream setup (or immediate error)
-        try {
-            if (!setupLatch.await(5, TimeUnit.SECONDS)) {
-                logger.warning("[" + clientInstanceId + "][SubID: " + clientSubscriptionId +
-                        "] Timed out waiting for subscription confirmation/error.");
-                // Consider cancelling the RPC here if necessary, though it might already be problematic
-                return null; // Indicate setup timeout
+        @Override
+        public void onCompleted() {
+            logger.info("[" + clientInstanceId + "][SubID: " + clientSubscriptionId +
+                    "] Subscription stream completed by server.");
+            activeSubscriptions.remove(clientSubscriptionId); // Remove on completion
+            weatherStates.remove(clientSubscriptionId);
+            trackerEnded(clientSubscriptionId);
+            setupLatch.countDown(); // Signal completion
+        }
+    }
+
+    // Unpacks SubscribeBatched batches and hands each notification to the subscription's observer in order
+    private static class BatchObserver implements StreamObserver<EventNotificationBatch> {
+        private final StreamObserver<EventNotification> delegate;
+
+        BatchObserver(StreamObserver<EventNotification> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onNext(EventNotificationBatch batch) {
+            for (EventNotification notification : batch.getNotificationsList()) {
+                delegate.onNext(notification);
             }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.warning("[" + clientInstanceId + "][SubID: " + clientSubscriptionId +
-                    "] Interrupted while waiting for subscription setup.");
-            return null; // Indicate interruption
         }
 
-        // Check if an error occurred during setup
-        if (!errorStatus[0].isOk()) {
-            logger.severe("[" + clientInstanceId + "][SubID: " + clientSubscriptionId +
-                    "] Subscription failed during setup: " + errorStatus[0]);
-            return null; // Indicate setup failure
+        @Override
+        public void onError(Throwable t) {
+            delegate.onError(t);
         }
 
-        // Check if the subscription was actually added (possible race condition if onError happened fast)
-        if (!activeSubscriptions.containsKey(clientSubscriptionId)) {
-            // This might happen if onError was called before the onNext confirmation
-            logger.warning("[" + clientInstanceId + "][SubID: " + clientSubscriptionId +
-                    "] Subscription might not have been fully established despite no immediate error.");
-            // Don't return the ID if it wasn't successfully stored.
-            // It implies the stream failed very early or the confirmation was missed.
-            return null;
+        @Override
+        public void onCompleted() {
+            delegate.onCompleted();
         }
+    }
 
+    /**
+     * Opens a SubscriptionSession: every subscription added to it is delivered over this one stream,
+     * so following many cities costs a single HTTP/2 stream instead of one per subscription.
+     *
+     * @return The session; close it to end all of its subscriptions.
+     */
+    public Session openSession() {
+        Session session = new Session();
+        session.requests = asyncStub.subscriptionSession(session.new ResponseObserver());
+        sessions.add(session);
+        logger.info("[" + clientInstanceId + "] Subscription session opened");
+        return session;
+    }
+
+    /**
+     * Subscriptions multiplexed on one SubscriptionSession stream. Each add/remove waits for the server's
+     * ControlAck; notifications of all subscriptions are handled like those of regular subscriptions.
+     * Methods may be called from any thread.
+     */
+    public final class Session implements AutoCloseable {
+        private StreamObserver<SessionRequest> requests; // Guarded by this; not thread-safe on its own
+        // Commands waiting for their ack, keyed by action and subscription ID
+        private final ConcurrentMap<String, CompletableFuture<ControlAck>> pendingAcks = new ConcurrentHashMap<>();
+        private final Set<String> subscriptionIds = ConcurrentHashMap.newKeySet();
+        private volatile boolean closed;
+
+        private Session() {
+        }
 
-        return clientSubscriptionId; // Return the ID if setup seems successful
+        /**
+         * Adds a subscription to the session.
+         *
+         * @return The client_subscription_id of the new subscription. Null if the server rejected it or did not answer.
+         */
+        public String add(EventType eventType, SubscriptionCriteria criteria) {
+            return add(eventType, criteria, DeliveryMode.QUEUE_ALL);
+        }
+
+        /**
+         * Adds a subscription with the given delivery mode to the session.
+         *
+         * @return The client_subscription_id of the new subscription. Null if the server rejected it or did not answer.
+         */
+        public String add(EventType eventType, SubscriptionCriteria criteria, DeliveryMode deliveryMode) {
+            String clientSubscriptionId = clientInstanceId + "-" + eventType.name() + "-" + UUID.randomUUID();
+            SubscriptionRequest request = SubscriptionRequest.newBuilder()
+                    .setClientSubscriptionId(clientSubscriptionId)
+                    .setEventType(eventType)
+                    .setCriteria(criteria)
+                    .setDeliveryMode(deliveryMode)
+                    .setResponseEncoding(responseEncoding) // Only the first subscription added to a session decides
+                    .build();
+            trackers.put(clientSubscriptionId, new SequenceTracker(
+                    deliveryMode == DeliveryMode.QUEUE_ALL && criteria.getKeywordsCount() == 0
+                            && !criteria.hasWeatherFilter() && !spansCities(criteria), !spansCities(criteria), 0));
+            ControlAck ack = send(SessionRequest.newBuilder().setAddSubscription(request).build(),
+                    ControlAck.Action.ADD, clientSubscriptionId);
+            if (ack == null || !ack.getSuccess()) {
+                logger.warning("[" + clientInstanceId + "][SubID: " + clientSubscriptionId + "] Session subscription to "
+                        + criteria.getTargetIdentifier() + " failed: " + (ack == null ? "no ack" : ack.getMessage()));
+                trackers.remove(clientSubscriptionId);
+                return null;
+            }
+            return clientSubscriptionId;
+        }
+
+        /**
+         * Removes a subscription of this session.
+         *
+         * @return true if the server confirmed the removal.
+         */
+        public boolean remove(String clientSubscriptionId) {
+            ControlAck ack = send(SessionRequest.newBuilder().setRemoveSubscriptionId(clientSubscriptionId).build(),
+                    ControlAck.Action.REMOVE, clientSubscriptionId);
+            subscriptionIds.remove(clientSubscriptionId);
+            trackerEnded(clientSubscriptionId);
+            return ack != null && ack.getSuccess();
+        }
+
+        public int subscriptionCount() {
+            return subscriptionIds.size();
+        }
+
+        // Sends a command and waits for its ack; null on timeout or if the session failed
+        private ControlAck send(SessionRequest command, ControlAck.Action action, String clientSubscriptionId) {
+            if (closed) {
+                return null;
+            }
+            String key = ackKey(action, clientSubscriptionId);
+            CompletableFuture<ControlAck> ack = new CompletableFuture<>();
+            pendingAcks.put(key, ack);
+            try {
+                synchronized (this) {
+                    requests.onNext(command);
+                }
+                return ack.get(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException | TimeoutException e) {
+                logger.warning("[" + clientInstanceId + "][SubID: " + clientSubscriptionId + "] No " + action + " ack: " + e);
+                return null;
+            } finally {
+                pendingAcks.remove(key, ack);
+            }
+        }
+
+        private String ackKey(ControlAck.Action action, String clientSubscriptionId) {
+            return action.name() + '/' + clientSubscriptionId;
+        }
+
+        /**
+         * Ends the session and with it all of its subscriptions.
+         */
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                requests.onCompleted();
+            }
+            sessions.remove(this);
+        }
+
+        private class ResponseObserver implements StreamObserver<SessionResponse> {
+            @Override
+            public void onNext(SessionResponse response) {
+                if (response.hasAck()) {
+                    ControlAck ack = response.getAck();
+                    if (ack.getAction() == ControlAck.Action.ADD && ack.getSuccess()) {
+                        // Tracked here rather than in add(), so the subscription's first notification is not missed
+                        subscriptionIds.add(ack.getClientSubscriptionId());
+                    }
+                    CompletableFuture<ControlAck> pending = pendingAcks.get(ackKey(ack.getAction(), ack.getClientSubscriptionId()));
+                    if (pending != null) {
+                        pending.complete(ack);
+                    } else if (ack.getAction() == ControlAck.Action.REMOVE) {
+                        // Removed by the server, e.g. through Unsubscribe
+                        subscriptionIds.remove(ack.getClientSubscriptionId());
+                        trackerEnded(ack.getClientSubscriptionId());
+                        logger.info("[" + clientInstanceId + "][SubID: " + ack.getClientSubscriptionId()
+                                + "] Session subscription removed by server: " + ack.getMessage());
+                    }
+                } else if (subscriptionIds.contains(response.getNotification().getClientSubscriptionId())) {
+                    handleEventNotification(response.getNotification());
+                }
+                // Else: queued for a subscription that has been removed since
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                Status status = Status.fromThrowable(t);
+                logger.log(Level.WARNING, "[" + clientInstanceId + "] Subscription session error: " + status.getCode()
+                        + " - " + status.getDescription(), t);
+                end(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                logger.info("[" + clientInstanceId + "] Subscription session completed by server.");
+                end(Status.UNAVAILABLE.withDescription("Session completed").asRuntimeException());
+            }
+
+            private void end(Throwable cause) {
+                closed = true;
+                sessions.remove(Session.this);
+                subscriptionIds.forEach(WeatherEventSubscriptionClient.this::trackerEnded);
+                subscriptionIds.clear();
+                pendingAcks.values().forEach(ack -> ack.completeExceptionally(cause));
+            }
+        }
     }
 
     // Helper method to process different notification types
     private void handleEventNotification(EventNotification notification) {
         String subId = notification.getClientSubscriptionId();
+        SequenceTracker tracker = trackers.get(subId);
+        if (tracker != null) {
+            tracker.track(notification, deliveryStats);
+        }
+        if (notification.getEventPayloadCase() == EventNotification.EventPayloadCase.WEATHER_UPDATE_DELTA) {
+            notification = applyWeatherDelta(notification);
+            if (notification == null) {
+                return;
+            }
+        }
+        if (notification.getEventPayloadCase() == EventNotification.EventPayloadCase.WEATHER_UPDATE) {
+            // A routine update written after a HIGH priority one that overtook it is older; the state stays the newest
+            weatherStates.merge(subId, notification, (current, received) ->
+                    received.getSequence() < current.getSequence() ? current : received);
+        }
         switch (notification.getEventType()) {
             case WEATHER_UPDATE:
                 if (notification.getEventPayloadCase() == EventNotification.EventPayloadCase.WEATHER_UPDATE) {
@@ -199,6 +679,146 @@ public class WeatherEventSubscriptionClient {
     }
 
 
+    /**
+     * Follows the sequence numbers of one subscription's notifications. Called by the thread of its stream only,
+     * one notification at a time; lastSequence is read by others.
+     * <p>
+     * A HIGH priority notification may overtake routine ones of its topic that were queued before it, but not the
+     * other way round, so routine notifications are checked for order among themselves. One arriving beyond the
+     * next expected sequence is set aside instead of counting the sequences it skipped as lost; the routine
+     * notifications then fill the numbers in below it, and only what is still missing once a later one arrives
+     * is a gap.
+     */
+    private static final class SequenceTracker {
+        private final boolean checksGaps; // Sent every event of its topic, so a skipped sequence number is a lost event
+        private final boolean checksOrder; // Sent the events of one numbering; not so for a circle or a pattern
+        private final DeliveryStats stats = new DeliveryStats();
+        private volatile long lastSequence; // Highest received, or the one resumed after
+        private long lastInOrder; // Highest up to which nothing is still expected, or the one resumed after
+        private final NavigableSet<Long> ahead = new TreeSet<>(); // HIGH priority ones beyond it; only with checksGaps
+
+        SequenceTracker(boolean checksGaps, boolean checksOrder, long resumeAfterSequence) {
+            this.checksGaps = checksGaps;
+            this.checksOrder = checksOrder;
+            this.lastSequence = resumeAfterSequence;
+            this.lastInOrder = resumeAfterSequence;
+        }
+
+        // The subscription moved to another server, whose sequence numbers are unrelated to these
+        void restart() {
+            lastSequence = 0;
+            lastInOrder = 0;
+            ahead.clear();
+        }
+
+        void track(EventNotification notification, DeliveryStats total) {
+            long sequence = notification.getSequence();
+            if (sequence == 0) {
+                return; // Not an event, or from a server without sequence numbers
+            }
+            boolean highPriority = notification.getPriority() == EventPriority.HIGH;
+            if (!checksOrder) {
+                lastSequence = sequence;
+            } else if (highPriority ? sequence <= lastSequence : sequence <= lastInOrder || ahead.contains(sequence)) {
+                stats.outOfOrder();
+                total.outOfOrder();
+            } else {
+                if (highPriority && lastInOrder > 0 && sequence > lastInOrder + 1) {
+                    if (checksGaps) {
+                        ahead.add(sequence); // The routine notifications before it may still be on their way
+                    }
+                } else {
+                    // Numbering starts with the first notification, unless resumed after a known sequence;
+                    // the HIGH priority notifications received ahead of this one are not missing
+                    Set<Long> passed = ahead.headSet(sequence);
+                    long missing = sequence - lastInOrder - 1 - passed.size();
+                    if (checksGaps && lastInOrder > 0 && missing > 0) {
+                        stats.gap(missing);
+                        total.gap(missing);
+                    }
+                    passed.clear();
+                    lastInOrder = sequence;
+                    while (ahead.remove(lastInOrder + 1)) {
+                        lastInOrder++;
+                    }
+                }
+                lastSequence = Math.max(lastSequence, sequence);
+            }
+            stats.received();
+            total.received();
+            if (notification.getTimestampUnixNanos() != 0) {
+                long lag = epochNanos() - notification.getTimestampUnixNanos();
+                stats.lag(lag);
+                total.lag(lag);
+            }
+        }
+    }
+
+    private static long epochNanos() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    // Rebuilds the full weather notification from a delta and the last update of its subscription; null if that is not the delta's base
+    private EventNotification applyWeatherDelta(EventNotification notification) {
+        String subId = notification.getClientSubscriptionId();
+        WeatherUpdateDelta delta = notification.getWeatherUpdateDelta();
+        EventNotification base = weatherStates.get(subId);
+        if (base == null || base.getSequence() != delta.getBaseSequence()) {
+            logger.warning("[" + clientInstanceId + "][SubID: " + subId + "] Weather delta for " + delta.getCity()
+                    + " applies to sequence " + delta.getBaseSequence() + ", but the last update received is "
+                    + (base == null ? "none" : base.getSequence()) + "; ignoring it.");
+            return null;
+        }
+        WeatherUpdate.Builder update = base.getWeatherUpdate().toBuilder();
+        for (int fieldNumber : delta.getChangedFieldsList()) {
+            FieldDescriptor field = WeatherUpdate.getDescriptor().findFieldByNumber(fieldNumber);
+            if (field != null) {
+                update.setField(field, delta.getChanges().getField(field)); // Repeated fields are replaced as a whole
+            }
+        }
+        return notification.toBuilder().setWeatherUpdate(update).build(); // Replaces the delta in the payload oneof
+    }
+
+    /**
+     * Fetches the server's live metrics from EventStatsService and logs a summary.
+     *
+     * @return The stats, or null if the server could not be asked.
+     */
+    public ServerStats logServerStats(int slowestSubscribers) {
+        ServerStats stats;
+        try {
+            stats = EventStatsServiceGrpc.newBlockingStub(channel)
+                    .withDeadlineAfter(5, TimeUnit.SECONDS)
+                    .getStats(StatsRequest.newBuilder().setSlowestSubscribers(slowestSubscribers).build());
+        } catch (StatusRuntimeException e) {
+            logger.log(Level.WARNING, "[" + clientInstanceId + "] Failed to fetch server stats: " + e.getStatus());
+            return null;
+        }
+        LatencyHistogram fanOut = stats.getFanOutLatency();
+        logger.info(String.format("[%s] Server stats: %d subscriptions, published %d (%.1f/s), sent %d (%.1f/s), dropped %d;"
+                        + " fan-out latency p50=%.0fus p99=%.0fus p99.9=%.0fus max=%.0fus",
+                clientInstanceId, stats.getActiveSubscriptions(),
+                stats.getEventsPublished().getTotal(), stats.getEventsPublished().getPerSecond(),
+                stats.getNotificationsSent().getTotal(), stats.getNotificationsSent().getPerSecond(),
+                stats.getNotificationsDropped().getTotal(),
+                fanOut.getP50Micros(), fanOut.getP99Micros(), fanOut.getP999Micros(), fanOut.getMaxMicros()));
+        LatencyHistogram highPriority = stats.getHighPriorityFanOutLatency();
+        LatencyObjective objective = stats.getHighPriorityObjective();
+        logger.info(String.format("[%s]   HIGH priority: %d sent, p50=%.0fus p99=%.0fus max=%.0fus;"
+                        + " %.2f%% within %.0fus (%d missed)",
+                clientInstanceId, highPriority.getCount(), highPriority.getP50Micros(), highPriority.getP99Micros(),
+                highPriority.getMaxMicros(), objective.getWithinRatio() * 100, objective.getObjectiveMicros(),
+                objective.getMissed()));
+        for (SubscriberStats subscriber : stats.getSlowestSubscribersList()) {
+            logger.info(String.format("[%s]   %s: depth=%d/%d, oldest pending %.0fus, sent=%d, dropped=%d",
+                    clientInstanceId, subscriber.getClientSubscriptionId(), subscriber.getQueueDepth(),
+                    subscriber.getQueueCapacity(), subscriber.getOldestPendingMicros(), subscriber.getSent(),
+                    subscriber.getDropped()));
+        }
+        return stats;
+    }
+
     /**
      * Unsubscribes from a specific subscription using its ID.
      *
@@ -216,8 +836,10 @@ public class WeatherEventSubscriptionClient {
                 .build();
 
         try {
-            // Use blocking stub for simple unary RPC
-            UnsubscriptionResponse response = blockingStub.unsubscribe(request);
+            // Use blocking stub for simple unary RPC, at the cluster node holding the subscription
+            String node = subscriptionNodes.get(subscriptionId);
+            UnsubscriptionResponse response = (node == null ? blockingStub
+                    : EventSubscriptionServiceGrpc.newBlockingStub(channelTo(node))).unsubscribe(request);
             if (response.getSuccess()) {
                 logger.info("[" + clientInstanceId + "] Unsubscription successful for ID: " + subscriptionId + " - Server message: " + response.getMessage());
                 activeSubscriptions.remove(subscriptionId); // Remove from local tracking
@@ -246,6 +868,8 @@ public class WeatherEventSubscriptionClient {
 
         WeatherEventSubscriptionClient client1 = new WeatherEventSubscriptionClient(host, port, client1Id);
         WeatherEventSubscriptionClient client2 = new WeatherEventSubscriptionClient(host, port, client2Id);
+        client1.requestCompression("deflate"); // Cheap to compress; the server skips notifications too small to gain
+        client2.requestCompression("gzip");
 
         String sub1_krakow_id = null;
         String sub1_warszawa_id = null;
@@ -262,18 +886,67 @@ public class WeatherEventSubscriptionClient {
 
             // Client 1 subscribes to Warszawa weather
             SubscriptionCriteria warszawaCriteria = SubscriptionCriteria.newBuilder().setTargetIdentifier("Warszawa").build();
-            sub1_warszawa_id = client1.subscribe(EventType.WEATHER_UPDATE, warszawaCriteria);
+            // Client 1 subscribes to Warszawa weather, receiving notifications in batches
+            sub1_warszawa_id = client1.subscribeBatched(EventType.WEATHER_UPDATE, warszawaCriteria);
             if (sub1_warszawa_id == null) {
                 logger.severe(client1Id + " failed to subscribe to Warszawa weather.");
             }
 
 
-            // Client 2 subscribes to Warszawa weather
-            sub2_warszawa_id = client2.subscribe(EventType.WEATHER_UPDATE, warszawaCriteria);
+            // Client 1 follows news mentioning storms or floods
+            SubscriptionCriteria newsCriteria = SubscriptionCriteria.newBuilder().addKeywords("burza").addKeywords("powódź").build();
+            if (client1.subscribe(EventType.NEWS_FLASH, newsCriteria) == null) {
+                logger.severe(client1Id + " failed to subscribe to news.");
+            }
+
+            // Client 2 subscribes to Warszawa weather and only cares about the latest update if it falls behind
+            sub2_warszawa_id = client2.subscribe(EventType.WEATHER_UPDATE, warszawaCriteria, DeliveryMode.CONFLATE_LATEST);
             if (sub2_warszawa_id == null) {
                 logger.severe(client2Id + " failed to subscribe to Warszawa weather.");
             }
 
+            // Client 2 also follows Kraków in delta mode: only changed fields travel, full updates are rebuilt locally
+            if (client2.subscribeWeatherDeltas(krakowCriteria) == null) {
+                logger.severe(client2Id + " failed to subscribe to Kraków weather deltas.");
+            }
+
+            // Client 1 only wants to hear about Gdańsk when the weather turns rough: a storm, or wind from 20 km/h up
+            SubscriptionCriteria roughGdansk = SubscriptionCriteria.newBuilder()
+                    .setTargetIdentifier("Gdańsk")
+                    .setWeatherFilter(WeatherFilter.newBuilder().setAnyOf(WeatherFilterList.newBuilder()
+                            .addFilters(WeatherFilter.newBuilder().setConditions(
+                                    ConditionSet.newBuilder().addConditions(WeatherCondition.STORMY)))
+                            .addFilters(WeatherFilter.newBuilder().setRange(NumericRange.newBuilder()
+                                    .setField(NumericRange.Field.WIND_SPEED_KPH)
+                                    .setMin(20)))))
+                    .build();
+            if (client1.subscribe(EventType.WEATHER_UPDATE, roughGdansk) == null) {
+                logger.severe(client1Id + " failed to subscribe to rough weather in Gdańsk.");
+            }
+
+            // Client 1 is also a field crew near Kraków: the weather of whatever city lies within 30 km of it
+            SubscriptionCriteria nearCrew = SubscriptionCriteria.newBuilder()
+                    .setWithin(GeoCircle.newBuilder()
+                            .setCenter(GeoPoint.newBuilder().setLatitude(50.0).setLongitude(19.9))
+                            .setRadiusKm(30))
+                    .build();
+            if (client1.subscribe(EventType.WEATHER_UPDATE, nearCrew) == null) {
+                logger.severe(client1Id + " failed to subscribe to the weather around its crew.");
+            }
+
+            // Client 2 also follows every Polish city whose name starts with W, however many there are
+            if (client2.subscribe(EventType.WEATHER_UPDATE, SubscriptionCriteria.newBuilder().setTargetIdentifier("PL/*/W*").build()) == null) {
+                logger.severe(client2Id + " failed to subscribe to the cities matching PL/*/W*.");
+            }
+
+            // Client 2 follows the remaining cities over a single session stream
+            Session dashboard = client2.openSession();
+            for (String city : new String[]{"Gdańsk", "Wrocław", "Poznań"}) {
+                if (dashboard.add(EventType.WEATHER_UPDATE, SubscriptionCriteria.newBuilder().setTargetIdentifier(city).build()) == null) {
+                    logger.severe(client2Id + " failed to add " + city + " to its session.");
+                }
+            }
+
 
             // Let the subscriptions run and receive notifications for a while
             logger.info("--- Waiting for notifications (15 seconds) ---");
@@ -292,6 +965,17 @@ public class WeatherEventSubscriptionClient {
             logger.info("--- Waiting for more notifications (5 seconds) ---");
             TimeUnit.SECONDS.sleep(5);
 
+            // Client 1 comes back to Kraków and is first replayed the updates it missed meanwhile
+            if (sub1_krakow_id != null) {
+                long lastKrakow = client1.lastSequence(sub1_krakow_id);
+                logger.info("--- Client 1 resuming Kraków after sequence " + lastKrakow + " ---");
+                sub1_krakow_id = client1.subscribe(EventType.WEATHER_UPDATE, krakowCriteria, DeliveryMode.QUEUE_ALL, lastKrakow);
+                if (sub1_krakow_id == null) {
+                    // The server keeps no journal (started without -Djournal.dir): only new updates from here
+                    sub1_krakow_id = client1.subscribe(EventType.WEATHER_UPDATE, krakowCriteria, DeliveryMode.QUEUE_ALL);
+                }
+            }
+
             // Client 1 unsubscribes from Warszawa
             logger.info("--- Client 1 unsubscribing from Warszawa ---");
             if (sub1_warszawa_id != null) {
@@ -305,6 +989,12 @@ public class WeatherEventSubscriptionClient {
             logger.info("--- Waiting for final notifications (5 seconds) ---");
             TimeUnit.SECONDS.sleep(5);
 
+            // What the server saw meanwhile: rates, latencies and the subscribers furthest behind
+            client2.logServerStats(3);
+            // And what the clients saw: their lag behind the producer, and any events lost on the way
+            logger.info("[" + client1Id + "] Deliveries: " + client1.deliveryStats());
+            logger.info("[" + client2Id + "] Deliveries: " + client2.deliveryStats());
+
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -319,7 +1009,7 @@ public class WeatherEventSubscriptionClient {
                 logger.log(Level.SEVERE, "Failed to shutdown " + client1Id, e);
             }
             try {
-                client2.shutdown(); // Will automatically unsubscribe from its Warszawa subscription
+                client2.shutdown(); // Will automatically unsubscribe from Warszawa and close its session
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 logger.log(Level.SEVERE, "Failed to shutdown " + client2Id, e);
@@ -0,0 +1,113 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.LatencyBucket;
+import sr.grpc.gen.event.LatencyHistogram;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of nanosecond latencies, cheap enough to record every notification.
+ * <p>
+ * Buckets are log-linear: each power of two is split into 8 equal sub-buckets, so a value is counted in a
+ * bucket at most 12.5% wider than itself, from 1 ns up to about 18 minutes (larger values share the last bucket).
+ * Recording is one array increment plus two adders; nothing is allocated. Snapshots are taken while other
+ * threads record, so their count and buckets may disagree by the few values recorded in between.
+ * <p>
+ * Public for the client, which keeps its delivery lag in one.
+ */
+public final class AtomicHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40; // 2^40 ns: about 18 minutes
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0; // nanoTime is monotonic, but a value may come from another clock
+        }
+        counts.incrementAndGet(bucketOf(nanos));
+        count.increment();
+        sum.add(nanos);
+        long currentMax = max.get();
+        while (nanos > currentMax && !max.compareAndSet(currentMax, nanos)) { // Rarely loops: the max settles quickly
+            currentMax = max.get();
+        }
+    }
+
+    // Values below 8 have a bucket each; above, the top 3 bits after the leading one pick the sub-bucket
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    // Largest value counted in the bucket
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * The distribution recorded so far, in microseconds.
+     */
+    public LatencyHistogram snapshot() {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        long maxNanos = max.get();
+        LatencyHistogram.Builder histogram = LatencyHistogram.newBuilder()
+                .setCount(total)
+                .setMaxMicros(maxNanos / 1_000.0);
+        if (total == 0) {
+            return histogram.build();
+        }
+        histogram.setMeanMicros((double) sum.sum() / count.sum() / 1_000.0);
+        double[] percentiles = {0.50, 0.90, 0.99, 0.999};
+        double[] values = new double[percentiles.length];
+        int next = 0;
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (snapshot[i] == 0) {
+                continue;
+            }
+            seen += snapshot[i];
+            while (next < percentiles.length && seen >= Math.ceil(percentiles[next] * total)) {
+                values[next++] = Math.min(upperBoundOf(i), maxNanos) / 1_000.0; // The top bucket may reach past the max
+            }
+            histogram.addBuckets(LatencyBucket.newBuilder()
+                    .setUpperBoundMicros(upperBoundOf(i) / 1_000.0)
+                    .setCount(snapshot[i]));
+        }
+        return histogram
+                .setP50Micros(values[0])
+                .setP90Micros(values[1])
+                .setP99Micros(values[2])
+                .setP999Micros(values[3])
+                .build();
+    }
+}
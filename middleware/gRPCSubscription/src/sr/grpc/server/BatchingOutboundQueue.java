@@ -0,0 +1,111 @@
+package sr.grpc.server;
+
+import io.grpc.stub.ServerCallStreamObserver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Outbound queue of a SubscribeBatched stream: pending notifications are written together as one
+ * EventNotificationBatch once {@code maxBatchSize} of them are waiting or the oldest one has waited
+ * {@code maxDelay}, whichever comes first. A HIGH priority notification closes the window at once: it is
+ * written at the head of the next batch, with whatever else is pending.
+ * <p>
+ * The window is opened by the draining thread when it first finds a pending notification; if the batch is
+ * not full yet, a one-shot timer on {@code flushTimer} drains the queue again when the window ends.
+ * Bounding, overflow handling and conflation are inherited unchanged.
+ */
+class BatchingOutboundQueue extends OutboundQueue {
+
+    private static final Logger logger = Logger.getLogger(BatchingOutboundQueue.class.getName());
+
+    private final ServerCallStreamObserver<EncodedBatch> observer;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final ScheduledExecutorService flushTimer;
+
+    private long windowStartNanos = -1; // When the oldest pending notification was first seen; only touched by the draining thread
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicLong batches = new AtomicLong();
+
+    BatchingOutboundQueue(ServerCallStreamObserver<EncodedBatch> observer, int capacity, OverflowPolicy overflowPolicy,
+                          boolean conflate, Executor drainExecutor,
+                          int maxBatchSize, long maxDelay, TimeUnit unit, ScheduledExecutorService flushTimer) {
+        super(observer, capacity, overflowPolicy, conflate, drainExecutor);
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + maxBatchSize);
+        }
+        this.observer = observer;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = unit.toNanos(maxDelay);
+        this.flushTimer = flushTimer;
+    }
+
+    @Override
+    protected boolean writeNext() {
+        int pending = pendingCount();
+        if (pending == 0) {
+            windowStartNanos = -1;
+            return false;
+        }
+        long now = System.nanoTime();
+        if (windowStartNanos < 0) {
+            windowStartNanos = now;
+        }
+        long waited = now - windowStartNanos;
+        if (pending < maxBatchSize && waited < maxDelayNanos && !highPriorityPending()) {
+            scheduleFlush(maxDelayNanos - waited);
+            return false;
+        }
+
+        List<EncodedNotification> batch = new ArrayList<>(Math.min(pending, maxBatchSize));
+        EncodedNotification next;
+        while (batch.size() < maxBatchSize && (next = poll()) != null) {
+            batch.add(next);
+        }
+        windowStartNanos = -1; // Whatever is left starts a new window
+        if (batch.isEmpty()) {
+            return false;
+        }
+        EncodedBatch encoded = new EncodedBatch(batch);
+        beforeWrite(encoded.serializedSize());
+        observer.onNext(encoded);
+        countSent(batch);
+        batches.incrementAndGet();
+        return true;
+    }
+
+    private void scheduleFlush(long delayNanos) {
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return; // The pending timer fires no later than this window ends
+        }
+        try {
+            flushTimer.schedule(this::flush, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the next offer or on-ready drains the queue again
+            flushScheduled.set(false);
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            // The queue is closed now; the dispatcher drops the subscription on its next offer
+            logger.log(Level.WARNING, "Failed to flush batch to subscriber stream, closing its outbound queue", e);
+        }
+    }
+
+    long batchCount() {
+        return batches.get();
+    }
+}
@@ -0,0 +1,72 @@
+package sr.grpc.server;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How the rate of {@link SyntheticEventSource} varies over time: steady, or raised by a factor for a burst at
+ * the start of every period, as when a front moves in and every station reports at once.
+ */
+public final class BurstPattern {
+
+    private static final BurstPattern STEADY = new BurstPattern(1, 0, 1);
+
+    private final double factor; // Multiplies the base rate during a burst
+    private final long burstNanos;
+    private final long periodNanos;
+
+    private BurstPattern(double factor, long burstNanos, long periodNanos) {
+        this.factor = factor;
+        this.burstNanos = burstNanos;
+        this.periodNanos = periodNanos;
+    }
+
+    public static BurstPattern steady() {
+        return STEADY;
+    }
+
+    /**
+     * The base rate times factor for the first burstMillis of every periodMillis, the base rate otherwise.
+     */
+    public static BurstPattern periodic(double factor, long burstMillis, long periodMillis) {
+        if (!(factor > 0)) {
+            throw new IllegalArgumentException("Burst factor must be positive: " + factor);
+        }
+        if (burstMillis < 0 || periodMillis < 1 || burstMillis > periodMillis) {
+            throw new IllegalArgumentException("Burst of " + burstMillis + " ms does not fit a period of " + periodMillis + " ms");
+        }
+        return new BurstPattern(factor, TimeUnit.MILLISECONDS.toNanos(burstMillis), TimeUnit.MILLISECONDS.toNanos(periodMillis));
+    }
+
+    /**
+     * Parses {@code steady} or {@code burst:<factor>:<burst millis>:<period millis>}, e.g. {@code burst:10:200:5000}.
+     */
+    public static BurstPattern parse(String spec) {
+        String[] parts = spec.trim().toLowerCase(Locale.ROOT).split(":");
+        switch (parts[0]) {
+            case "steady":
+                return steady();
+            case "burst":
+                if (parts.length != 4) {
+                    throw new IllegalArgumentException("burst pattern needs factor, burst and period, e.g. burst:10:200:5000");
+                }
+                return periodic(Double.parseDouble(parts[1]), Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+            default:
+                throw new IllegalArgumentException("Unknown burst pattern: " + spec);
+        }
+    }
+
+    /**
+     * What the base rate is multiplied by at the given time since the source started.
+     */
+    double rateFactor(long elapsedNanos) {
+        return elapsedNanos % periodNanos < burstNanos ? factor : 1;
+    }
+
+    @Override
+    public String toString() {
+        return this == STEADY ? "steady"
+                : String.format(Locale.ROOT, "x%.1f for %d ms every %d ms", factor,
+                TimeUnit.NANOSECONDS.toMillis(burstNanos), TimeUnit.NANOSECONDS.toMillis(periodNanos));
+    }
+}
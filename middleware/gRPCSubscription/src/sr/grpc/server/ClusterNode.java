@@ -0,0 +1,504 @@
+package sr.grpc.server;
+
+import com.google.protobuf.Any;
+import com.google.rpc.Code;
+import io.grpc.CallOptions;
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.protobuf.StatusProto;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import sr.grpc.gen.event.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * This server's membership in a cluster of servers that share the subscriptions between them: each node owns
+ * the weather targets (cities) that its {@link HashRing} assigns to it, holds their subscriptions and does their
+ * fan-out.
+ * <ul>
+ *   <li>A weather Subscribe for a city owned elsewhere is rejected with a {@link NodeRedirect} status detail, or
+ *   in PROXY mode relayed from the owner. SubscribeBatched is always redirected, a session add is refused with
+ *   the owner in its ack.</li>
+ *   <li>Weather events published here for a city owned elsewhere are forwarded to the owner over one Forward
+ *   stream per peer, which keeps their order. News flashes go to every node, since keyword subscriptions
+ *   are not partitioned. Publishing never waits for a peer: each has a bounded queue that drops its oldest
+ *   events when full, and a peer that takes nothing for {@value #PEER_STALL_SECONDS} s has its stream
+ *   cancelled and reopened later.</li>
+ *   <li>A node joins through any member (a seed), which hands the new view to the others. When the view changes,
+ *   subscriptions to cities that moved away are ended with a redirect to their new owner.</li>
+ * </ul>
+ * Nodes are only ever added: a node that is gone stays in the view, and its cities go unserved until it is back.
+ */
+final class ClusterNode extends ClusterServiceGrpc.ClusterServiceImplBase {
+
+    private static final Logger logger = Logger.getLogger(ClusterNode.class.getName());
+
+    private static final long RPC_TIMEOUT_SECONDS = 5; // Join and view updates
+    static final int FORWARD_QUEUE_CAPACITY = 8_192; // Events waiting for each peer
+    static final long PEER_STALL_SECONDS = 5; // A Forward stream not ready for this long counts as dead
+    private static final long FORWARD_RETRY_MILLIS = 1_000; // Pause before a dead or failed Forward stream is reopened
+    private static final byte[] NO_PREFIX = new byte[0];
+
+    // Subscribe with the owner's notifications kept in wire form, so relaying them costs no parsing or re-encoding
+    private static final MethodDescriptor<SubscriptionRequest, EncodedNotification> RELAY_METHOD =
+            WeatherEventSubscriptionService.SUBSCRIBE_METHOD.toBuilder(
+                    EventSubscriptionServiceGrpc.getSubscribeMethod().getRequestMarshaller(),
+                    RelayMarshaller.INSTANCE).build();
+
+    private final WeatherEventSubscriptionService service;
+    private final String self;
+    private final List<String> seeds;
+    private final ClusterRouting routing;
+    private volatile HashRing ring;
+    private final ConcurrentMap<String, ManagedChannel> channels = new ConcurrentHashMap<>(); // Per peer address
+    private final ConcurrentMap<String, Forwarder> forwarders = new ConcurrentHashMap<>();
+    // Subscriptions relayed from their owner in PROXY mode: client_subscription_id -> owner, for Unsubscribe
+    private final ConcurrentMap<String, String> proxied = new ConcurrentHashMap<>();
+    private final AtomicLong forwardedOut = new AtomicLong();
+    private final AtomicLong forwardDropped = new AtomicLong(); // Queued for a peer and dropped when its queue was full
+    private final AtomicLong forwardedIn = new AtomicLong();
+
+    ClusterNode(WeatherEventSubscriptionService service, ServerOptions options) {
+        this.service = service;
+        this.self = options.clusterAddress();
+        this.seeds = options.clusterSeeds();
+        this.routing = options.clusterRouting();
+        this.ring = new HashRing(ClusterView.newBuilder().setVersion(1).addNodes(self).build());
+    }
+
+    /**
+     * Joins the cluster through the first seed that answers; without one, this node starts a cluster of its own
+     * that the others can join. Call once the server is listening, since the seed pushes views back to it.
+     */
+    void start() {
+        for (String seed : seeds) {
+            if (seed.equals(self)) {
+                continue;
+            }
+            try {
+                ClusterView view = ClusterServiceGrpc.newBlockingStub(channelTo(seed))
+                        .withDeadlineAfter(RPC_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                        .join(JoinRequest.newBuilder().setAddress(self).build());
+                merge(view, seed);
+                logger.info("Joined cluster through " + seed + ": " + view.getNodesList() + " (version " + view.getVersion() + ")");
+                return;
+            } catch (StatusRuntimeException e) {
+                logger.warning("Cluster seed " + seed + " did not answer: " + e.getStatus());
+            }
+        }
+        logger.info("Cluster node " + self + " started " + (seeds.isEmpty() ? "a new cluster" : "alone; no seed answered"));
+    }
+
+    ClusterRouting routing() {
+        return routing;
+    }
+
+    ClusterView view() {
+        return ring.view();
+    }
+
+    /**
+     * The node owning the target of a subscription, or null if it is this one or the request is not partitioned
+     * (news keywords, or a circle, path or invalid request, which is rejected locally).
+     */
+    String remoteOwnerOf(SubscriptionRequest request) {
+        String target = request.getCriteria().getTargetIdentifier();
+        if (request.getEventType() != EventType.WEATHER_UPDATE || target.isBlank() || TopicTrie.isPath(target)) {
+            return null;
+        }
+        String owner = ring.ownerOf(Topic.of(EventType.WEATHER_UPDATE, target).target());
+        return self.equals(owner) ? null : owner;
+    }
+
+    /**
+     * The status a subscription to a target owned by another node is ended with.
+     */
+    StatusRuntimeException redirect(SubscriptionRequest request, String owner) {
+        String target = Topic.of(request.getEventType(), request.getCriteria().getTargetIdentifier()).target();
+        return StatusProto.toStatusRuntimeException(com.google.rpc.Status.newBuilder()
+                .setCode(Code.FAILED_PRECONDITION_VALUE)
+                .setMessage("Target '" + target + "' is owned by cluster node " + owner)
+                .addDetails(Any.pack(NodeRedirect.newBuilder()
+                        .setOwnerAddress(owner)
+                        .setTarget(target)
+                        .setViewVersion(ring.view().getVersion())
+                        .build()))
+                .build());
+    }
+
+    /**
+     * Routes an event published on this node.
+     *
+     * @return true if it is to be dispatched here as well, false if only its owner dispatches it.
+     */
+    boolean route(EventNotification notification) {
+        switch (notification.getEventPayloadCase()) {
+            case WEATHER_UPDATE:
+                String owner = ring.ownerOf(Topic.of(EventType.WEATHER_UPDATE, notification.getWeatherUpdate().getCity()).target());
+                if (self.equals(owner)) {
+                    return true;
+                }
+                forward(owner, notification);
+                return false;
+            case NEWS_FLASH:
+                for (String node : ring.view().getNodesList()) {
+                    if (!node.equals(self)) {
+                        forward(node, notification);
+                    }
+                }
+                return true;
+            default:
+                return true; // Rejected by the local dispatcher
+        }
+    }
+
+    // Queues an event for the peer's Forward stream; never blocks
+    private void forward(String node, EventNotification notification) {
+        forwarders.computeIfAbsent(node, Forwarder::new).send(notification);
+    }
+
+    /**
+     * Subscribes at the owner on the client's behalf and relays its notifications, confirmation and final status
+     * (including a later redirect) unchanged, at the pace the client's stream takes them.
+     */
+    void proxy(SubscriptionRequest request, ServerCallStreamObserver<EncodedNotification> downstream, String owner) {
+        String clientSubscriptionId = request.getClientSubscriptionId();
+        if (service.offersResponseEncoding(request.getResponseEncoding())) {
+            downstream.setCompression(request.getResponseEncoding()); // On the client's link; the hop to the owner is not compressed
+        }
+        proxied.put(clientSubscriptionId, owner);
+        ClientCalls.asyncServerStreamingCall(channelTo(owner).newCall(RELAY_METHOD, CallOptions.DEFAULT),
+                request.toBuilder().clearResponseEncoding().build(), new Relay(clientSubscriptionId, downstream));
+        logger.info("Proxying subscription " + clientSubscriptionId + " to " + owner);
+    }
+
+    /**
+     * Passes an Unsubscribe for a proxied subscription on to its owner.
+     *
+     * @return false if the subscription is not proxied by this node.
+     */
+    boolean unsubscribeProxied(UnsubscriptionRequest request, StreamObserver<UnsubscriptionResponse> responseObserver) {
+        String owner = proxied.get(request.getClientSubscriptionId());
+        if (owner == null) {
+            return false;
+        }
+        EventSubscriptionServiceGrpc.newStub(channelTo(owner))
+                .withDeadlineAfter(RPC_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .unsubscribe(request, responseObserver);
+        return true;
+    }
+
+    @Override
+    public void join(JoinRequest request, StreamObserver<ClusterView> responseObserver) {
+        ClusterView current = ring.view();
+        merge(current.toBuilder().addNodes(request.getAddress()).build(), request.getAddress());
+        logger.info("Cluster node " + request.getAddress() + " joined through this node");
+        responseObserver.onNext(ring.view());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void updateView(ClusterView request, StreamObserver<ClusterView> responseObserver) {
+        merge(request, null);
+        responseObserver.onNext(ring.view());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<EventNotification> forward(StreamObserver<ForwardSummary> responseObserver) {
+        return new StreamObserver<>() {
+            private long received; // Calls on one stream never overlap
+
+            @Override
+            public void onNext(EventNotification notification) {
+                received++;
+                forwardedIn.incrementAndGet();
+                // Blocks while the dispatcher is full, which holds the peer back; cluster nodes never run handlers
+                // in DIRECT mode, so this is a call executor thread rather than the event loop
+                service.publishLocally(notification);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                logger.info("Forward stream from a cluster peer ended after " + received + " events: " + Status.fromThrowable(t));
+            }
+
+            @Override
+            public void onCompleted() {
+                responseObserver.onNext(ForwardSummary.newBuilder().setReceived(received).build());
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    /**
+     * Merges another node's view into this one: the members of both, under a version above both unless the
+     * newer of the two already had them all. A change rebuilds the ring, moves the subscriptions of cities
+     * this node no longer owns and is passed on to the other members (except the one it came from).
+     */
+    private void merge(ClusterView other, String from) {
+        ClusterView merged;
+        synchronized (this) {
+            ClusterView current = ring.view();
+            Set<String> nodes = new TreeSet<>(current.getNodesList());
+            nodes.addAll(other.getNodesList());
+            ClusterView newer = other.getVersion() > current.getVersion() ? other : current;
+            long version = nodes.equals(new TreeSet<>(newer.getNodesList())) ? newer.getVersion()
+                    : Math.max(current.getVersion(), other.getVersion()) + 1;
+            if (version == current.getVersion() && nodes.size() == current.getNodesCount()) {
+                return; // Nothing new
+            }
+            merged = ClusterView.newBuilder().setVersion(version).addAllNodes(nodes).build();
+            ring = new HashRing(merged);
+        }
+        logger.info("Cluster view " + merged.getVersion() + ": " + merged.getNodesList());
+        service.rebalance();
+        for (String node : merged.getNodesList()) {
+            if (!node.equals(self) && !node.equals(from)) {
+                pushView(node, merged);
+            }
+        }
+    }
+
+    // Runs outside the RPC that brought the change, which is cancelled when it returns and would take the push along
+    private void pushView(String node, ClusterView view) {
+        Context.ROOT.run(() -> ClusterServiceGrpc.newStub(channelTo(node))
+                .withDeadlineAfter(RPC_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .updateView(view, new StreamObserver<>() {
+                    @Override
+                    public void onNext(ClusterView answer) {
+                        merge(answer, node); // It may know members this node does not
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        logger.warning("Could not update the cluster view of " + node + ": " + Status.fromThrowable(t));
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                    }
+                }));
+    }
+
+    long forwardedCount() {
+        return forwardedOut.get();
+    }
+
+    long forwardDroppedCount() {
+        return forwardDropped.get();
+    }
+
+    private ManagedChannel channelTo(String node) {
+        return channels.computeIfAbsent(node, address -> ManagedChannelBuilder.forTarget(address).usePlaintext().build());
+    }
+
+    /**
+     * Ends the Forward streams, so peers get what was sent, and closes the channels to the peers.
+     */
+    void shutdown() {
+        forwarders.values().forEach(Forwarder::close);
+        channels.values().forEach(ManagedChannel::shutdown);
+        logger.info("Cluster node " + self + " left: forwarded " + forwardedOut.get() + " events (" + forwardDropped.get()
+                + " dropped), received " + forwardedIn.get());
+    }
+
+    // The events for one peer and the Forward stream they are written to, opened by the first send() and
+    // reopened after it fails. Events wait while the stream is not ready; the producer does not.
+    private final class Forwarder {
+        private final String node;
+        // Guarded by this
+        private final ArrayDeque<EventNotification> pending = new ArrayDeque<>();
+        private ForwardStream stream; // Null while none is open
+        private long stalledSinceNanos = -1; // Since when events have waited with none written; -1 if none wait
+        private long reopenAtNanos = System.nanoTime(); // A stream that ended is not reopened before
+        private boolean closed;
+
+        Forwarder(String node) {
+            this.node = node;
+        }
+
+        synchronized void send(EventNotification notification) {
+            if (closed) {
+                return;
+            }
+            if (pending.size() >= FORWARD_QUEUE_CAPACITY) {
+                pending.poll();
+                if (forwardDropped.incrementAndGet() % FORWARD_QUEUE_CAPACITY == 1) {
+                    logger.warning("Forward queue to cluster node " + node + " is full, dropping its oldest events ("
+                            + forwardDropped.get() + " dropped so far)");
+                }
+            }
+            pending.offer(notification);
+            long now = System.nanoTime();
+            if (stream == null && now - reopenAtNanos >= 0) {
+                stream = new ForwardStream();
+                ClusterServiceGrpc.newStub(channelTo(node)).forward(stream); // Calls beforeStart on this thread
+            }
+            flush();
+            if (stream != null && stalledSinceNanos >= 0
+                    && now - stalledSinceNanos > TimeUnit.SECONDS.toNanos(PEER_STALL_SECONDS)) {
+                logger.warning("Cluster node " + node + " took no forwarded events for " + PEER_STALL_SECONDS
+                        + " s, reopening its stream in " + FORWARD_RETRY_MILLIS + " ms");
+                ForwardStream stalled = stream;
+                ended(stalled);
+                stalled.requests.cancel("Cluster node stopped taking forwarded events", null);
+            }
+        }
+
+        // Writes what is pending while the stream is ready
+        private synchronized void flush() {
+            if (stream == null || stream.requests == null) {
+                return;
+            }
+            int written = 0;
+            while (!pending.isEmpty() && stream.requests.isReady()) {
+                stream.requests.onNext(pending.poll());
+                written++;
+            }
+            forwardedOut.addAndGet(written);
+            if (pending.isEmpty()) {
+                stalledSinceNanos = -1;
+            } else if (written > 0 || stalledSinceNanos < 0) {
+                stalledSinceNanos = System.nanoTime(); // A slow peer is not a dead one
+            }
+        }
+
+        // Returns false if the stream had been replaced already, e.g. after it stalled
+        private synchronized boolean ended(ForwardStream ended) {
+            if (stream != ended) {
+                return false;
+            }
+            stream = null;
+            stalledSinceNanos = -1;
+            reopenAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FORWARD_RETRY_MILLIS);
+            return true;
+        }
+
+        synchronized void close() {
+            flush(); // As much as the stream takes now; the rest is lost
+            closed = true;
+            pending.clear();
+            if (stream != null) {
+                stream.requests.onCompleted();
+                stream = null;
+            }
+        }
+
+        // One Forward call; the events still pending when it ends wait for the next one
+        private final class ForwardStream implements ClientResponseObserver<EventNotification, ForwardSummary> {
+            private ClientCallStreamObserver<EventNotification> requests; // Set by beforeStart
+
+            @Override
+            public void beforeStart(ClientCallStreamObserver<EventNotification> requests) {
+                this.requests = requests;
+                requests.setOnReadyHandler(Forwarder.this::flush);
+            }
+
+            @Override
+            public void onNext(ForwardSummary summary) {
+                logger.fine("Cluster node " + node + " received " + summary.getReceived() + " forwarded events");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                if (ended(this)) {
+                    logger.warning("Forward stream to cluster node " + node + " failed: " + Status.fromThrowable(t));
+                }
+            }
+
+            @Override
+            public void onCompleted() {
+                ended(this);
+            }
+        }
+    }
+
+    // Relays one proxied subscription; asks the owner for the next notification once the client's stream is ready
+    private final class Relay implements ClientResponseObserver<SubscriptionRequest, EncodedNotification> {
+        private final String clientSubscriptionId;
+        private final ServerCallStreamObserver<EncodedNotification> downstream;
+        private final AtomicBoolean requestWhenReady = new AtomicBoolean(); // A notification was relayed, none requested since
+        private ClientCallStreamObserver<SubscriptionRequest> upstream;
+
+        Relay(String clientSubscriptionId, ServerCallStreamObserver<EncodedNotification> downstream) {
+            this.clientSubscriptionId = clientSubscriptionId;
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<SubscriptionRequest> upstream) {
+            this.upstream = upstream;
+            upstream.disableAutoRequestWithInitial(1);
+            downstream.setOnCancelHandler(() -> {
+                proxied.remove(clientSubscriptionId);
+                upstream.cancel("Client cancelled the proxied subscription", null);
+            });
+            downstream.setOnReadyHandler(this::requestIfReady);
+        }
+
+        @Override
+        public void onNext(EncodedNotification notification) {
+            downstream.onNext(notification);
+            requestWhenReady.set(true);
+            requestIfReady();
+        }
+
+        private void requestIfReady() {
+            if (downstream.isReady() && requestWhenReady.compareAndSet(true, false)) {
+                upstream.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            proxied.remove(clientSubscriptionId);
+            downstream.onError(t); // Keeps the owner's status and trailers, e.g. a redirect after a rebalance
+        }
+
+        @Override
+        public void onCompleted() {
+            proxied.remove(clientSubscriptionId);
+            downstream.onCompleted();
+        }
+    }
+
+    // Keeps relayed notifications as the owner encoded them; they already carry their client_subscription_id
+    private static final class RelayMarshaller implements MethodDescriptor.Marshaller<EncodedNotification> {
+        static final RelayMarshaller INSTANCE = new RelayMarshaller();
+
+        @Override
+        public InputStream stream(EncodedNotification value) {
+            return new NotificationMarshaller.SplicedInputStream(value);
+        }
+
+        @Override
+        public EncodedNotification parse(InputStream stream) {
+            try {
+                return new EncodedNotification(NO_PREFIX, stream.readAllBytes());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read a relayed notification", e);
+            }
+        }
+    }
+}
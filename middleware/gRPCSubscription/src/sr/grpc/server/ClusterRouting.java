@@ -0,0 +1,11 @@
+package sr.grpc.server;
+
+/**
+ * What a cluster node does with a Subscribe for a target that another node owns.
+ */
+public enum ClusterRouting {
+    /** Reject it with FAILED_PRECONDITION and a NodeRedirect status detail naming the owner, for the client to follow. */
+    REDIRECT,
+    /** Subscribe at the owner on the client's behalf and relay its notifications on the client's stream. */
+    PROXY
+}
@@ -0,0 +1,356 @@
+package sr.grpc.server;
+
+import com.google.protobuf.ByteString;
+import sr.grpc.gen.event.ConditionSet;
+import sr.grpc.gen.event.NumericRange;
+import sr.grpc.gen.event.WeatherCondition;
+import sr.grpc.gen.event.WeatherFilter;
+import sr.grpc.gen.event.WeatherFilterList;
+import sr.grpc.gen.event.WeatherUpdate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A {@link WeatherFilter} compiled into a tree of predicates that read the fields of a WeatherUpdate directly:
+ * a range is two comparisons of a double, a condition set one bit test, and all_of / any_of loop over an array
+ * of their children, the cheapest first, stopping at the first one that decides.
+ * <p>
+ * Filters are compiled from their {@linkplain #canonical canonical form}, in which filters that accept the same
+ * updates for the same reasons are equal, however their clients wrote them: nested lists of the same kind are
+ * flattened, children sorted and deduplicated, double negations removed. The {@link SubscriptionIndex} groups
+ * subscriptions by it, so a filter is compiled once per city and evaluated once per update for all of them.
+ */
+abstract class CompiledFilter {
+
+    static final int MAX_DEPTH = 16; // Nesting of lists and negations
+    static final int MAX_NODES = 256; // Ranges, condition sets, lists and negations together
+
+    abstract boolean test(WeatherUpdate update);
+
+    // Relative cost of a test, to evaluate cheap children first
+    abstract int cost();
+
+    /**
+     * Why the filter cannot be compiled, or null if it can.
+     */
+    static String check(WeatherFilter filter) {
+        int[] nodes = {0};
+        return check(filter, 1, nodes);
+    }
+
+    private static String check(WeatherFilter filter, int depth, int[] nodes) {
+        if (depth > MAX_DEPTH) {
+            return "nested deeper than " + MAX_DEPTH;
+        }
+        if (++nodes[0] > MAX_NODES) {
+            return "more than " + MAX_NODES + " terms";
+        }
+        switch (filter.getFilterCase()) {
+            case RANGE:
+                NumericRange range = filter.getRange();
+                if (range.getField() == NumericRange.Field.FIELD_UNSPECIFIED || range.getField() == NumericRange.Field.UNRECOGNIZED) {
+                    return "range without a field";
+                }
+                if (!range.hasMin() && !range.hasMax()) {
+                    return "range of " + range.getField() + " without min or max";
+                }
+                if (Double.isNaN(range.getMin()) || Double.isNaN(range.getMax())) {
+                    return "range of " + range.getField() + " with a NaN bound";
+                }
+                if (range.hasMin() && range.hasMax() && range.getMin() > range.getMax()) {
+                    return "range of " + range.getField() + " with min above max";
+                }
+                return null;
+            case CONDITIONS:
+                if (filter.getConditions().getConditionsCount() == 0) {
+                    return "empty condition set";
+                }
+                for (WeatherCondition condition : filter.getConditions().getConditionsList()) {
+                    if (condition == WeatherCondition.CONDITION_UNSPECIFIED || condition == WeatherCondition.UNRECOGNIZED) {
+                        return "condition set with an unknown condition";
+                    }
+                }
+                return null;
+            case ALL_OF:
+            case ANY_OF:
+                WeatherFilterList list = filter.getFilterCase() == WeatherFilter.FilterCase.ALL_OF ? filter.getAllOf() : filter.getAnyOf();
+                if (list.getFiltersCount() == 0) {
+                    return "empty " + filter.getFilterCase().name().toLowerCase(Locale.ROOT);
+                }
+                for (WeatherFilter child : list.getFiltersList()) {
+                    String problem = check(child, depth + 1, nodes);
+                    if (problem != null) {
+                        return problem;
+                    }
+                }
+                return null;
+            case NEGATE:
+                return check(filter.getNegate(), depth + 1, nodes);
+            case FILTER_NOT_SET:
+            default:
+                return "empty filter";
+        }
+    }
+
+    /**
+     * The canonical form of a filter that passed {@link #check}.
+     */
+    static WeatherFilter canonical(WeatherFilter filter) {
+        switch (filter.getFilterCase()) {
+            case CONDITIONS:
+                Set<Integer> conditions = new TreeSet<>(filter.getConditions().getConditionsValueList());
+                return WeatherFilter.newBuilder()
+                        .setConditions(ConditionSet.newBuilder().addAllConditionsValue(conditions))
+                        .build();
+            case ALL_OF:
+                return canonicalList(filter.getAllOf(), WeatherFilter.FilterCase.ALL_OF);
+            case ANY_OF:
+                return canonicalList(filter.getAnyOf(), WeatherFilter.FilterCase.ANY_OF);
+            case NEGATE:
+                WeatherFilter negated = canonical(filter.getNegate());
+                return negated.getFilterCase() == WeatherFilter.FilterCase.NEGATE
+                        ? negated.getNegate() // not(not(x)) is x
+                        : WeatherFilter.newBuilder().setNegate(negated).build();
+            case RANGE:
+            default:
+                return filter;
+        }
+    }
+
+    private static final Comparator<WeatherFilter> BY_ENCODING =
+            Comparator.comparing(WeatherFilter::toByteString, ByteString.unsignedLexicographicalComparator());
+
+    // Children canonical, lists of the same kind merged into this one, sorted and without repeats
+    private static WeatherFilter canonicalList(WeatherFilterList list, WeatherFilter.FilterCase kind) {
+        Set<WeatherFilter> children = new LinkedHashSet<>();
+        for (WeatherFilter child : list.getFiltersList()) {
+            WeatherFilter canonicalChild = canonical(child);
+            if (canonicalChild.getFilterCase() == kind) {
+                children.addAll(childrenOf(canonicalChild));
+            } else {
+                children.add(canonicalChild);
+            }
+        }
+        if (children.size() == 1) {
+            return children.iterator().next();
+        }
+        List<WeatherFilter> sorted = new ArrayList<>(children);
+        sorted.sort(BY_ENCODING);
+        WeatherFilterList canonicalList = WeatherFilterList.newBuilder().addAllFilters(sorted).build();
+        return kind == WeatherFilter.FilterCase.ALL_OF
+                ? WeatherFilter.newBuilder().setAllOf(canonicalList).build()
+                : WeatherFilter.newBuilder().setAnyOf(canonicalList).build();
+    }
+
+    private static List<WeatherFilter> childrenOf(WeatherFilter list) {
+        return list.getFilterCase() == WeatherFilter.FilterCase.ALL_OF
+                ? list.getAllOf().getFiltersList() : list.getAnyOf().getFiltersList();
+    }
+
+    /**
+     * Compiles a filter that passed {@link #check}, normally its canonical form.
+     */
+    static CompiledFilter compile(WeatherFilter filter) {
+        switch (filter.getFilterCase()) {
+            case RANGE:
+                NumericRange range = filter.getRange();
+                double min = range.hasMin() ? range.getMin() : Double.NEGATIVE_INFINITY;
+                double max = range.hasMax() ? range.getMax() : Double.POSITIVE_INFINITY;
+                switch (range.getField()) {
+                    case CURRENT_TEMPERATURE_CELSIUS:
+                        return new TemperatureRange(min, max);
+                    case HUMIDITY_PERCENT:
+                        return new HumidityRange(min, max);
+                    case WIND_SPEED_KPH:
+                        return new WindSpeedRange(min, max);
+                    default:
+                        throw new IllegalArgumentException("Range without a field: " + range);
+                }
+            case CONDITIONS:
+                long mask = 0;
+                for (int condition : filter.getConditions().getConditionsValueList()) {
+                    mask |= 1L << condition;
+                }
+                return new Conditions(mask);
+            case ALL_OF:
+                return new AllOf(compileAll(filter.getAllOf()));
+            case ANY_OF:
+                return new AnyOf(compileAll(filter.getAnyOf()));
+            case NEGATE:
+                return new Negate(compile(filter.getNegate()));
+            default:
+                throw new IllegalArgumentException("Empty filter");
+        }
+    }
+
+    private static CompiledFilter[] compileAll(WeatherFilterList list) {
+        CompiledFilter[] children = new CompiledFilter[list.getFiltersCount()];
+        for (int i = 0; i < children.length; i++) {
+            children[i] = compile(list.getFilters(i));
+        }
+        Arrays.sort(children, Comparator.comparingInt(CompiledFilter::cost));
+        return children;
+    }
+
+    private static final class TemperatureRange extends CompiledFilter {
+        private final double min;
+        private final double max;
+
+        TemperatureRange(double min, double max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        boolean test(WeatherUpdate update) {
+            double value = update.getCurrentTemperatureCelsius();
+            return value >= min && value <= max;
+        }
+
+        @Override
+        int cost() {
+            return 1;
+        }
+    }
+
+    private static final class HumidityRange extends CompiledFilter {
+        private final double min;
+        private final double max;
+
+        HumidityRange(double min, double max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        boolean test(WeatherUpdate update) {
+            double value = update.getHumidityPercent();
+            return value >= min && value <= max;
+        }
+
+        @Override
+        int cost() {
+            return 1;
+        }
+    }
+
+    private static final class WindSpeedRange extends CompiledFilter {
+        private final double min;
+        private final double max;
+
+        WindSpeedRange(double min, double max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        boolean test(WeatherUpdate update) {
+            int value = update.getWindSpeedKph();
+            return value >= min && value <= max;
+        }
+
+        @Override
+        int cost() {
+            return 1;
+        }
+    }
+
+    // Condition numbers as bits; an unknown condition (a newer producer's) is in no set
+    private static final class Conditions extends CompiledFilter {
+        private final long mask;
+
+        Conditions(long mask) {
+            this.mask = mask;
+        }
+
+        @Override
+        boolean test(WeatherUpdate update) {
+            int condition = update.getCurrentConditionValue();
+            return condition >= 0 && condition < 64 && (mask & (1L << condition)) != 0;
+        }
+
+        @Override
+        int cost() {
+            return 1;
+        }
+    }
+
+    private static final class AllOf extends CompiledFilter {
+        private final CompiledFilter[] children;
+
+        AllOf(CompiledFilter[] children) {
+            this.children = children;
+        }
+
+        @Override
+        boolean test(WeatherUpdate update) {
+            for (CompiledFilter child : children) {
+                if (!child.test(update)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        int cost() {
+            return costOf(children);
+        }
+    }
+
+    private static final class AnyOf extends CompiledFilter {
+        private final CompiledFilter[] children;
+
+        AnyOf(CompiledFilter[] children) {
+            this.children = children;
+        }
+
+        @Override
+        boolean test(WeatherUpdate update) {
+            for (CompiledFilter child : children) {
+                if (child.test(update)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        int cost() {
+            return costOf(children);
+        }
+    }
+
+    private static int costOf(CompiledFilter[] children) {
+        int cost = 1;
+        for (CompiledFilter child : children) {
+            cost += child.cost();
+        }
+        return cost;
+    }
+
+    private static final class Negate extends CompiledFilter {
+        private final CompiledFilter negated;
+
+        Negate(CompiledFilter negated) {
+            this.negated = negated;
+        }
+
+        @Override
+        boolean test(WeatherUpdate update) {
+            return !negated.test(update);
+        }
+
+        @Override
+        int cost() {
+            return negated.cost() + 1;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.EventRate;
+import sr.grpc.gen.event.LatencyObjective;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server-wide counters and latency histograms of the event pipeline, shared by the dispatcher threads and
+ * every outbound queue.
+ * <p>
+ * Everything is recorded with adders and atomic increments, so the metrics stay on in production: the hot
+ * paths never lock or allocate. Per-second rates are worked out by {@link #tick()}, which the service calls
+ * once a second, from the difference between two readings of each counter.
+ * <p>
+ * HIGH priority notifications are also recorded apart, in their own fan-out histogram and against a latency
+ * objective, so that their latency is not hidden among the far more numerous routine ones.
+ */
+final class DispatchMetrics {
+
+    private final long startMillis = System.currentTimeMillis();
+
+    private final Counter published = new Counter();
+    private final Counter dispatched = new Counter();
+    private final Counter dropped = new Counter();
+    private final Counter sent = new Counter();
+    private final AtomicHistogram dispatchLatency = new AtomicHistogram();
+    private final AtomicHistogram fanOutLatency = new AtomicHistogram();
+    private final AtomicHistogram highPriorityFanOutLatency = new AtomicHistogram();
+    private final long highPriorityObjectiveNanos;
+    private final LongAdder withinObjective = new LongAdder();
+    private final LongAdder missedObjective = new LongAdder();
+
+    DispatchMetrics(long highPriorityObjectiveNanos) {
+        this.highPriorityObjectiveNanos = highPriorityObjectiveNanos;
+    }
+
+    void eventPublished() {
+        published.adder.increment();
+    }
+
+    /**
+     * An event was queued for all of its subscribers, the given number of which accepted it.
+     */
+    void eventDispatched(long publishedNanos, int notifications) {
+        dispatched.adder.add(notifications);
+        dispatchLatency.record(System.nanoTime() - publishedNanos);
+    }
+
+    void notificationDropped() {
+        dropped.adder.increment();
+    }
+
+    /**
+     * A notification of an event published at publishedNanos was written to its stream; onNext has returned.
+     * Notifications that are not live events (confirmations, replays) pass 0 and only count as sent.
+     */
+    void notificationSent(long publishedNanos, long nowNanos) {
+        sent.adder.increment();
+        if (publishedNanos != 0) {
+            fanOutLatency.record(nowNanos - publishedNanos);
+        }
+    }
+
+    /**
+     * Like {@link #notificationSent(long, long)}, for a notification of a HIGH priority event.
+     */
+    void highPriorityNotificationSent(long publishedNanos, long nowNanos) {
+        notificationSent(publishedNanos, nowNanos);
+        if (publishedNanos != 0) {
+            long latency = nowNanos - publishedNanos;
+            highPriorityFanOutLatency.record(latency);
+            (latency <= highPriorityObjectiveNanos ? withinObjective : missedObjective).increment();
+        }
+    }
+
+    /**
+     * Updates the per-second rates. Called by a single timer thread, once a second.
+     */
+    void tick() {
+        long now = System.nanoTime();
+        published.tick(now);
+        dispatched.tick(now);
+        dropped.tick(now);
+        sent.tick(now);
+    }
+
+    long uptimeMillis() {
+        return System.currentTimeMillis() - startMillis;
+    }
+
+    EventRate published() {
+        return published.snapshot();
+    }
+
+    EventRate dispatched() {
+        return dispatched.snapshot();
+    }
+
+    EventRate dropped() {
+        return dropped.snapshot();
+    }
+
+    EventRate sent() {
+        return sent.snapshot();
+    }
+
+    AtomicHistogram dispatchLatency() {
+        return dispatchLatency;
+    }
+
+    AtomicHistogram fanOutLatency() {
+        return fanOutLatency;
+    }
+
+    AtomicHistogram highPriorityFanOutLatency() {
+        return highPriorityFanOutLatency;
+    }
+
+    LatencyObjective highPriorityObjective() {
+        long within = withinObjective.sum();
+        long missed = missedObjective.sum();
+        return LatencyObjective.newBuilder()
+                .setObjectiveMicros(highPriorityObjectiveNanos / 1_000.0)
+                .setWithin(within)
+                .setMissed(missed)
+                .setWithinRatio(within + missed == 0 ? 1 : (double) within / (within + missed))
+                .build();
+    }
+
+    private static final class Counter {
+        final LongAdder adder = new LongAdder();
+        private long lastTotal; // Only touched by the ticking thread
+        private long lastTickNanos = System.nanoTime();
+        private volatile double perSecond;
+
+        void tick(long nowNanos) {
+            long total = adder.sum();
+            long elapsed = nowNanos - lastTickNanos;
+            if (elapsed > 0) {
+                perSecond = (total - lastTotal) * 1e9 / elapsed;
+            }
+            lastTotal = total;
+            lastTickNanos = nowNanos;
+        }
+
+        EventRate snapshot() {
+            return EventRate.newBuilder().setTotal(adder.sum()).setPerSecond(perSecond).build();
+        }
+    }
+}
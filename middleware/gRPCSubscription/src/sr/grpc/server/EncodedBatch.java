@@ -0,0 +1,31 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.EventNotificationBatch;
+
+import java.util.List;
+
+/**
+ * An {@link EventNotificationBatch} in wire form: each {@link EncodedNotification} becomes one
+ * {@code notifications} entry (tag, length, prefix, body), written out by
+ * {@link NotificationMarshaller.SplicedInputStream}, so batching copies no notification bytes either.
+ */
+final class EncodedBatch {
+
+    final List<EncodedNotification> notifications;
+
+    EncodedBatch(List<EncodedNotification> notifications) {
+        this.notifications = notifications;
+    }
+
+    int size() {
+        return notifications.size();
+    }
+
+    int serializedSize() {
+        int size = 0;
+        for (EncodedNotification notification : notifications) {
+            size += EncodedNotification.fieldSize(EventNotificationBatch.NOTIFICATIONS_FIELD_NUMBER, notification.serializedSize());
+        }
+        return size;
+    }
+}
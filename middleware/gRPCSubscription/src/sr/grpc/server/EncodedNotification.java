@@ -0,0 +1,122 @@
+package sr.grpc.server;
+
+import com.google.protobuf.CodedOutputStream;
+import sr.grpc.gen.event.EventNotification;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link EventNotification} in wire form, split into a per-subscriber prefix and a shared body.
+ * <p>
+ * The body is the notification encoded once per event without {@code client_subscription_id};
+ * the prefix is that single field (tag, length, UTF-8 bytes), encoded once per subscription.
+ * Protobuf parsers accept fields in any order, so prefix + body is a valid EventNotification
+ * and fan-out costs one small object per recipient instead of a copy and re-encode of the whole message.
+ * <p>
+ * The body is a buffer so that it can also be a slice of a mapped journal segment. It is shared and only
+ * ever read with absolute gets; nothing may move its position or limit.
+ */
+class EncodedNotification {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    final byte[] prefix;
+    final ByteBuffer body; // position..limit is the encoded body
+    final long publishedNanos; // System.nanoTime() when the event was published; 0 if it is not a live event
+    final boolean highPriority; // Written ahead of the routine notifications queued before it
+
+    EncodedNotification(byte[] prefix, byte[] body) {
+        this(prefix, ByteBuffer.wrap(body));
+    }
+
+    EncodedNotification(byte[] prefix, ByteBuffer body) {
+        this(prefix, body, 0);
+    }
+
+    EncodedNotification(byte[] prefix, ByteBuffer body, long publishedNanos) {
+        this(prefix, body, publishedNanos, false);
+    }
+
+    EncodedNotification(byte[] prefix, ByteBuffer body, long publishedNanos, boolean highPriority) {
+        this.prefix = prefix;
+        this.body = body;
+        this.publishedNanos = publishedNanos;
+        this.highPriority = highPriority;
+    }
+
+    /**
+     * Wraps a notification that is sent as-is (e.g. a confirmation that already carries its subscription ID).
+     */
+    static EncodedNotification of(EventNotification notification) {
+        return new EncodedNotification(EMPTY, notification.toByteArray());
+    }
+
+    /**
+     * Encodes the shared part of a notification; any client_subscription_id it carries is dropped.
+     */
+    static byte[] encodeBody(EventNotification notification) {
+        if (!notification.getClientSubscriptionId().isEmpty()) {
+            notification = notification.toBuilder().clearClientSubscriptionId().build();
+        }
+        return notification.toByteArray();
+    }
+
+    /**
+     * Encodes the shared part of a notification with its per-topic sequence number. The sequence field is
+     * written after the other fields, so the notification is encoded once without being rebuilt.
+     */
+    static byte[] encodeBody(EventNotification notification, long sequence) {
+        if (!notification.getClientSubscriptionId().isEmpty() || notification.getSequence() != 0) {
+            notification = notification.toBuilder().clearClientSubscriptionId().clearSequence().build();
+        }
+        int size = notification.getSerializedSize();
+        byte[] body = new byte[size + CodedOutputStream.computeUInt64Size(EventNotification.SEQUENCE_FIELD_NUMBER, sequence)];
+        CodedOutputStream out = CodedOutputStream.newInstance(body);
+        try {
+            notification.writeTo(out);
+            out.writeUInt64(EventNotification.SEQUENCE_FIELD_NUMBER, sequence);
+            out.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode notification " + notification.getNotificationId(), e);
+        }
+        return body;
+    }
+
+    /**
+     * Encodes the client_subscription_id field of EventNotification on its own.
+     */
+    static byte[] encodeSubscriberPrefix(String clientSubscriptionId) {
+        byte[] prefix = new byte[CodedOutputStream.computeStringSize(
+                EventNotification.CLIENT_SUBSCRIPTION_ID_FIELD_NUMBER, clientSubscriptionId)];
+        CodedOutputStream out = CodedOutputStream.newInstance(prefix);
+        try {
+            out.writeString(EventNotification.CLIENT_SUBSCRIPTION_ID_FIELD_NUMBER, clientSubscriptionId);
+            out.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode subscription prefix for " + clientSubscriptionId, e);
+        }
+        return prefix;
+    }
+
+    /**
+     * Size of a length-delimited field holding length bytes, e.g. an EventNotification embedded in a containing
+     * message: tag, length and content.
+     */
+    static int fieldSize(int fieldNumber, int length) {
+        return CodedOutputStream.computeTagSize(fieldNumber) + CodedOutputStream.computeUInt32SizeNoTag(length) + length;
+    }
+
+    /**
+     * The notification to write in place of this one, or null if there is nothing to send. Called by the
+     * draining thread when the notification leaves its outbound queue; see {@link WeatherDeltaEncoder}.
+     */
+    EncodedNotification resolve() {
+        return this;
+    }
+
+    int serializedSize() {
+        return prefix.length + body.remaining();
+    }
+}
@@ -0,0 +1,34 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.ControlAck;
+import sr.grpc.gen.event.SessionResponse;
+
+/**
+ * A {@link SessionResponse} in wire form. A notification is written as the {@code notification} field around
+ * its already encoded prefix and body; acknowledgements are rare and encoded normally, as a whole response.
+ */
+final class EncodedSessionResponse {
+
+    private static final byte[] NO_PREFIX = new byte[0];
+
+    final int fieldNumber; // Of the SessionResponse field content is the value of; 0 if content is the whole response
+    final EncodedNotification content;
+
+    private EncodedSessionResponse(int fieldNumber, EncodedNotification content) {
+        this.fieldNumber = fieldNumber;
+        this.content = content;
+    }
+
+    int serializedSize() {
+        return fieldNumber == 0 ? content.serializedSize() : EncodedNotification.fieldSize(fieldNumber, content.serializedSize());
+    }
+
+    static EncodedSessionResponse notification(EncodedNotification notification) {
+        return new EncodedSessionResponse(SessionResponse.NOTIFICATION_FIELD_NUMBER, notification);
+    }
+
+    static EncodedSessionResponse ack(ControlAck ack) {
+        return new EncodedSessionResponse(0,
+                new EncodedNotification(NO_PREFIX, SessionResponse.newBuilder().setAck(ack).build().toByteArray()));
+    }
+}
@@ -0,0 +1,24 @@
+package sr.grpc.server;
+
+import java.time.Instant;
+
+/**
+ * Wall-clock time for the producer timestamps of notifications, in nanoseconds since the epoch.
+ * <p>
+ * The wall clock rather than {@link System#nanoTime()}, since subscribers in other processes compare it with
+ * their own clock; on one host both read the same clock, across hosts the lag includes their clock offset.
+ */
+final class EventClock {
+
+    private EventClock() {
+    }
+
+    static long epochNanos() {
+        Instant now = Instant.now(); // Nanosecond resolution where the OS offers it; scalar-replaced once compiled
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    static long toEpochSeconds(long epochNanos) {
+        return Math.floorDiv(epochNanos, 1_000_000_000L);
+    }
+}
@@ -0,0 +1,271 @@
+package sr.grpc.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Append-only journal of published notifications, kept in a directory of memory-mapped segment files
+ * ({@link JournalSegment}) so that subscribers can be replayed what they missed.
+ * <p>
+ * Every record carries the notification's topic and per-topic sequence number next to its encoded body.
+ * Appends go to the newest segment and roll over to a new file when it is full. Readers get the bodies as
+ * slices of the mapped files, so replaying copies nothing until the transport writes them out.
+ * Old segments are deleted by {@link #enforceRetention()} once the journal grows past its size limit or
+ * they are older than its age limit; the segment being written is always kept.
+ */
+final class EventJournal implements Closeable {
+
+    private static final Logger logger = Logger.getLogger(EventJournal.class.getName());
+
+    private static final String SUFFIX = ".journal";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final long retentionBytes;
+    private final long retentionMillis;
+    // Oldest first; appends go to the last one. Copy-on-write: readers iterate a snapshot while segments roll
+    private final List<JournalSegment> segments = new CopyOnWriteArrayList<>();
+    private final ConcurrentMap<Topic, byte[]> topicKeys = new ConcurrentHashMap<>();
+    private JournalSegment active;
+    private boolean closed;
+
+    /**
+     * Opens the journal in the given directory, recovering the segments already there.
+     *
+     * @param segmentBytes    size of each segment file
+     * @param retentionBytes  total size of segment files kept; the oldest are deleted beyond it
+     * @param retentionMillis segments whose last record is older than this are deleted
+     */
+    EventJournal(Path directory, int segmentBytes, long retentionBytes, long retentionMillis) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.retentionBytes = retentionBytes;
+        this.retentionMillis = retentionMillis;
+        Files.createDirectories(directory);
+
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(null); // Zero-padded IDs sort in creation order
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            segments.add(JournalSegment.recover(file, Long.parseLong(name.substring(0, name.length() - SUFFIX.length()))));
+        }
+        for (int i = 0; i < segments.size() - 1; i++) {
+            segments.get(i).seal();
+        }
+        if (!segments.isEmpty() && segments.get(segments.size() - 1).size() == segmentBytes) {
+            active = segments.get(segments.size() - 1); // Keep filling it after the last complete record
+        } else {
+            if (!segments.isEmpty()) {
+                segments.get(segments.size() - 1).seal(); // Written with another segment size
+            }
+            roll();
+        }
+        logger.info("Event journal opened in " + directory + " with " + segments.size() + " segments");
+    }
+
+    /**
+     * Appends the encoded body of a notification. Callers append each topic's notifications in sequence order.
+     *
+     * @return false if the record can never fit into a segment, or the journal is closed.
+     */
+    synchronized boolean append(Topic topic, long sequence, ByteBuffer body) {
+        if (closed) {
+            return false;
+        }
+        byte[] topicKey = topicKeys.computeIfAbsent(topic, t -> t.key().getBytes(StandardCharsets.UTF_8));
+        long now = System.currentTimeMillis();
+        if (active.append(topic, topicKey, sequence, now, body)) {
+            return true;
+        }
+        if (active.writePosition() == 0) {
+            logger.warning("Notification of " + body.remaining() + " bytes does not fit into a journal segment; not journaled.");
+            return false;
+        }
+        roll();
+        if (!active.append(topic, topicKey, sequence, now, body)) {
+            logger.warning("Notification of " + body.remaining() + " bytes does not fit into a journal segment; not journaled.");
+            return false;
+        }
+        return true;
+    }
+
+    // Seals the current segment and starts a new one
+    private void roll() {
+        long id = segments.isEmpty() ? 0 : segments.get(segments.size() - 1).id() + 1;
+        try {
+            JournalSegment next = JournalSegment.create(directory.resolve(String.format("%020d%s", id, SUFFIX)), id, segmentBytes);
+            if (active != null) {
+                active.seal();
+            }
+            segments.add(next);
+            active = next;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create journal segment " + id + " in " + directory, e);
+        }
+        enforceRetention();
+    }
+
+    /**
+     * Deletes the oldest sealed segments while the journal is over its size limit, and every sealed
+     * segment whose newest record is past the age limit.
+     */
+    synchronized void enforceRetention() {
+        long totalBytes = 0;
+        for (JournalSegment segment : segments) {
+            totalBytes += segment.size();
+        }
+        long cutoff = System.currentTimeMillis() - retentionMillis;
+        for (JournalSegment segment : segments) {
+            if (!segment.isSealed()) {
+                break; // Only the last segment is unsealed, and it is never deleted
+            }
+            if (totalBytes <= retentionBytes && segment.lastAppendMillis() >= cutoff) {
+                break; // Newer segments are within both limits too
+            }
+            try {
+                segment.delete();
+                segments.remove(segment);
+                totalBytes -= segment.size();
+                logger.fine("Deleted journal segment " + segment.path());
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Failed to delete journal segment " + segment.path() + "; will retry.", e);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Flushes the records written so far to disk.
+     */
+    synchronized void force() {
+        if (!closed) {
+            active.force();
+        }
+    }
+
+    /**
+     * Highest sequence number recorded for every topic in the journal; used to continue numbering after a restart.
+     */
+    Map<Topic, Long> lastSequences() {
+        Map<Topic, Long> last = new HashMap<>();
+        for (JournalSegment segment : segments) {
+            last.putAll(segment.lastSequences()); // Newer segments overwrite older ones
+        }
+        return last;
+    }
+
+    /**
+     * Lowest sequence number of the topic still in the journal, or 0 if it has none.
+     */
+    long firstSequence(Topic topic) {
+        for (JournalSegment segment : segments) {
+            Long first = segment.firstSequence(topic);
+            if (first != null) {
+                return first;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Reads the topic's records with a sequence number above the given one, oldest first.
+     * The cursor also returns records appended after it was created.
+     */
+    Cursor read(Topic topic, long afterSequence) {
+        return new Cursor(topic.key().getBytes(StandardCharsets.UTF_8), topic, afterSequence);
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            active.seal();
+        }
+    }
+
+    /**
+     * Position in the records of one topic. Not thread-safe; a replay uses its cursor from one thread at a time.
+     */
+    final class Cursor {
+
+        private final byte[] topicKey;
+        private final Topic topic;
+        private long afterSequence; // Sequence of the last record returned
+        private JournalSegment segment; // Null between segments
+        private long segmentId = -1; // ID of the segment being read, or last read
+        private int position;
+
+        private Cursor(byte[] topicKey, Topic topic, long afterSequence) {
+            this.topicKey = topicKey;
+            this.topic = topic;
+            this.afterSequence = afterSequence;
+        }
+
+        /**
+         * The body of the next record, as a read-only slice of its mapped segment, or null if there is none yet.
+         */
+        ByteBuffer next() {
+            while (true) {
+                if (segment == null && !advanceSegment()) {
+                    return null;
+                }
+                int end = segment.writePosition();
+                while (position < end) {
+                    int record = position;
+                    position = segment.nextRecord(record);
+                    if (segment.keyEquals(record, topicKey) && segment.sequenceAt(record) > afterSequence) {
+                        afterSequence = segment.sequenceAt(record);
+                        return segment.bodyAt(record);
+                    }
+                }
+                if (!segment.isSealed()) {
+                    return null; // At the end of the segment being written; later appends continue from here
+                }
+                segment = null;
+            }
+        }
+
+        // Moves to the oldest segment after the current one that has newer records of the topic
+        private boolean advanceSegment() {
+            for (JournalSegment candidate : segments) {
+                if (candidate.id() <= segmentId) {
+                    continue;
+                }
+                Long last = candidate.lastSequence(topic);
+                if ((last != null && last > afterSequence) || !candidate.isSealed()) {
+                    segment = candidate;
+                    segmentId = candidate.id();
+                    position = 0;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        long lastSequence() {
+            return afterSequence;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.EventNotification;
+
+import java.util.function.Consumer;
+
+/**
+ * Producer of the events the service fans out, e.g. the demo generator or a recording replayed from disk.
+ * Started with {@link WeatherEventSubscriptionService#startEventSource(EventSource)}.
+ */
+public interface EventSource extends AutoCloseable {
+
+    /**
+     * Starts handing events to the sink and returns without waiting for them. The sink may block while the
+     * dispatcher is saturated; a source should let it, so that it is slowed down instead of buffering.
+     */
+    void start(Consumer<EventNotification> sink);
+
+    /**
+     * Stops producing events. Events already handed to the sink are still delivered.
+     */
+    @Override
+    void close();
+}
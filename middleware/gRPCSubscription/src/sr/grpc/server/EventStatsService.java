@@ -0,0 +1,127 @@
+package sr.grpc.server;
+
+import io.grpc.stub.StreamObserver;
+import sr.grpc.gen.event.*;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Serves live metrics of a {@link WeatherEventSubscriptionService}: subscription counts, event rates,
+ * latency histograms, the outbound queues of the subscribers that are furthest behind, and the CPU time and
+ * heap of the server's JVM.
+ * <p>
+ * A request only reads what the service records anyway; the subscription counts and queue listing are
+ * computed on demand by walking the active subscriptions, so nothing is maintained for them on the hot path.
+ */
+public class EventStatsService extends EventStatsServiceGrpc.EventStatsServiceImplBase {
+
+    private static final Logger logger = Logger.getLogger(EventStatsService.class.getName());
+
+    private static final int DEFAULT_SLOWEST_SUBSCRIBERS = 10;
+
+    // Oldest pending notification first, then deepest queue, then most drops
+    private static final Comparator<SubscriberStats> SLOWEST_FIRST = Comparator
+            .comparingDouble(SubscriberStats::getOldestPendingMicros)
+            .thenComparingInt(SubscriberStats::getQueueDepth)
+            .thenComparingLong(SubscriberStats::getDropped)
+            .reversed();
+
+    private final WeatherEventSubscriptionService subscriptionService;
+
+    public EventStatsService(WeatherEventSubscriptionService subscriptionService) {
+        this.subscriptionService = subscriptionService;
+    }
+
+    @Override
+    public void getStats(StatsRequest request, StreamObserver<ServerStats> responseObserver) {
+        DispatchMetrics metrics = subscriptionService.metrics();
+        ServerStats.Builder stats = ServerStats.newBuilder()
+                .setUptimeMillis(metrics.uptimeMillis())
+                .setEventsPublished(metrics.published())
+                .setNotificationsDispatched(metrics.dispatched())
+                .setNotificationsDropped(metrics.dropped())
+                .setNotificationsSent(metrics.sent())
+                .setDispatchLatency(metrics.dispatchLatency().snapshot())
+                .setFanOutLatency(metrics.fanOutLatency().snapshot())
+                .setHighPriorityFanOutLatency(metrics.highPriorityFanOutLatency().snapshot())
+                .setHighPriorityObjective(metrics.highPriorityObjective())
+                .setProcess(processStats());
+
+        Map<EventType, Integer> perEventType = new EnumMap<>(EventType.class);
+        Map<Topic, Integer> perTopic = new HashMap<>();
+        List<SubscriberStats> subscribers = new ArrayList<>();
+        for (SubscriptionInfo subInfo : subscriptionService.activeSubscriptions()) {
+            perEventType.merge(subInfo.topic.eventType(), 1, Integer::sum);
+            perTopic.merge(subInfo.topic, 1, Integer::sum);
+            subscribers.add(subscriberStats(subInfo));
+        }
+        stats.setActiveSubscriptions(subscribers.size());
+        perEventType.forEach((eventType, count) -> stats.addSubscriptionsPerEventType(EventTypeSubscriptions.newBuilder()
+                .setEventType(eventType)
+                .setSubscriptions(count)));
+        perTopic.entrySet().stream()
+                .sorted(Map.Entry.<Topic, Integer>comparingByValue().reversed()) // Most followed topics first
+                .forEach(entry -> stats.addSubscriptionsPerTopic(TopicSubscriptions.newBuilder()
+                        .setEventType(entry.getKey().eventType())
+                        .setTarget(entry.getKey().target())
+                        .setSubscriptions(entry.getValue())));
+
+        int slowest = request.getSlowestSubscribers() > 0 ? request.getSlowestSubscribers() : DEFAULT_SLOWEST_SUBSCRIBERS;
+        subscribers.stream().sorted(SLOWEST_FIRST).limit(slowest).forEach(stats::addSlowestSubscribers);
+        if (request.getAllSubscribers()) {
+            stats.addAllSubscribers(subscribers);
+        }
+
+        responseObserver.onNext(stats.build());
+        responseObserver.onCompleted();
+        logger.fine("Served stats: " + subscribers.size() + " subscriptions");
+    }
+
+    private static ProcessStats processStats() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        ProcessStats.Builder process = ProcessStats.newBuilder()
+                .setAvailableProcessors(Runtime.getRuntime().availableProcessors())
+                .setHeapUsedBytes(heap.getUsed())
+                .setHeapCommittedBytes(heap.getCommitted())
+                .setHeapMaxBytes(Math.max(0, heap.getMax())) // -1 if undefined
+                .setThreadCount(ManagementFactory.getThreadMXBean().getThreadCount());
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) { // HotSpot and OpenJ9 both provide it
+            process.setCpuTimeNanos(Math.max(0, ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime()));
+        }
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            process.setGcCount(process.getGcCount() + Math.max(0, gc.getCollectionCount()));
+            process.setGcTimeMillis(process.getGcTimeMillis() + Math.max(0, gc.getCollectionTime()));
+        }
+        return process.build();
+    }
+
+    private static SubscriberStats subscriberStats(SubscriptionInfo subInfo) {
+        OutboundQueue outbound = subInfo.outbound;
+        return SubscriberStats.newBuilder()
+                .setClientSubscriptionId(subInfo.clientSubscriptionId)
+                .setEventType(subInfo.topic.eventType())
+                .setTarget(subInfo.topic.target())
+                .setSession(subInfo.session != null)
+                .setQueueDepth(outbound.depth())
+                .setQueueCapacity(outbound.capacity())
+                .setOldestPendingMicros(outbound.oldestPendingNanos() / 1_000.0)
+                .setSent(outbound.sentCount())
+                .setDropped(outbound.droppedCount())
+                .setConflated(outbound.conflatedCount())
+                .setSuppressed(outbound.suppressedCount())
+                .setUncompressedBytes(outbound.uncompressedBytes())
+                .setWireBytes(outbound.wireBytes())
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package sr.grpc.server;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+/**
+ * How the server runs gRPC call handlers (subscribe/unsubscribe and stream callbacks).
+ */
+public enum ExecutionMode {
+    /** A fixed pool of platform threads; bursts of calls queue up behind it. */
+    FIXED_POOL,
+    /**
+     * Handlers run directly on the Netty event loop; only safe because no handler blocks. Not allowed for cluster
+     * nodes, whose Forward handler blocks while the dispatcher is full to hold the forwarding peer back.
+     */
+    DIRECT,
+    /** One virtual thread per task (Java 21+); falls back to FIXED_POOL on older runtimes. */
+    VIRTUAL_THREADS;
+
+    private static final Logger logger = Logger.getLogger(ExecutionMode.class.getName());
+
+    /**
+     * Whether the running JVM provides virtual threads.
+     */
+    public static boolean virtualThreadsAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates an executor that starts a virtual thread per task, or returns null if the runtime has none.
+     * Looked up reflectively so the module still compiles for language levels without virtual threads.
+     */
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Failed to create virtual thread executor", e);
+        }
+    }
+
+    /**
+     * Creates the call executor for this mode, or returns null for DIRECT.
+     */
+    ExecutorService newCallExecutor(int threadPoolSize) {
+        switch (this) {
+            case DIRECT:
+                return null;
+            case VIRTUAL_THREADS:
+                ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+                if (virtual != null) {
+                    return virtual;
+                }
+                logger.warning("Virtual threads need Java 21+, running " + System.getProperty("java.version")
+                        + "; falling back to a fixed pool of " + threadPoolSize + " threads.");
+                return Executors.newFixedThreadPool(threadPoolSize);
+            case FIXED_POOL:
+            default:
+                return Executors.newFixedThreadPool(threadPoolSize);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package sr.grpc.server;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import sr.grpc.gen.event.EventType;
+import sr.grpc.gen.event.FederationInterest;
+import sr.grpc.gen.event.InterestUpdate;
+import sr.grpc.gen.event.SubscriptionCriteria;
+import sr.grpc.gen.event.SubscriptionRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * One Federate call, seen from the upstream server: follows the interest of an edge server and owns the
+ * subscriptions that feed it, one per city and one for all its news keywords together. All of them write to the
+ * call's {@link BatchingOutboundQueue}, so the edge gets its events in batches on a single stream.
+ * <p>
+ * An event reaches the edge once however many subscribers the edge has for it: the edge only announces a topic
+ * when it gains its first local subscriber. A news article matching several keywords goes to the one news
+ * subscription once. When the keywords change, the new news subscription is indexed before the old one is
+ * removed, so an article may be sent twice meanwhile but never missed; the edge drops the repeat by its sequence.
+ * <p>
+ * The subscriptions are registered in the service like any other, so the edge's own edges see them as interest
+ * too. In a cluster, the subscriptions of cities owned by other nodes receive nothing; edges should take their
+ * events from a server that runs alone.
+ */
+class FederationLink implements StreamObserver<InterestUpdate> {
+
+    private static final Logger logger = Logger.getLogger(FederationLink.class.getName());
+
+    // Starts the IDs of the links' subscriptions; clients may not use it, so they cannot take or cancel them
+    static final String SUBSCRIPTION_ID_PREFIX = "@federation-";
+    private static final AtomicLong links = new AtomicLong(); // Numbers the links in their subscription IDs
+
+    private final WeatherEventSubscriptionService service;
+    private final OutboundQueue outbound;
+    private final String name;
+    // Guarded by this: interest updates and the end of the call may come from different threads
+    private final Map<String, SubscriptionInfo> cities = new HashMap<>();
+    private final Set<String> keywords = new TreeSet<>();
+    private SubscriptionInfo news; // Subscription to all keywords; null while there are none
+    private int newsVersion; // Tells the IDs of successive news subscriptions apart
+    private boolean ended;
+
+    FederationLink(WeatherEventSubscriptionService service, OutboundQueue outbound) {
+        this.service = service;
+        this.outbound = outbound;
+        this.name = SUBSCRIPTION_ID_PREFIX + links.incrementAndGet();
+    }
+
+    @Override
+    public synchronized void onNext(InterestUpdate update) {
+        if (ended) {
+            return;
+        }
+        boolean keywordsChanged = false;
+        for (FederationInterest interest : update.getRemovedList()) {
+            String target = Topic.normalize(interest.getTarget());
+            if (interest.getEventType() == EventType.WEATHER_UPDATE) {
+                SubscriptionInfo city = cities.remove(target);
+                if (city != null) {
+                    service.removeSubscription(city.clientSubscriptionId);
+                }
+            } else if (interest.getEventType() == EventType.NEWS_FLASH) {
+                keywordsChanged |= keywords.remove(target);
+            }
+        }
+        for (FederationInterest interest : update.getAddedList()) {
+            String target = Topic.normalize(interest.getTarget());
+            if (interest.getEventType() == EventType.WEATHER_UPDATE) {
+                if (!cities.containsKey(target)) {
+                    SubscriptionInfo city = subscribe(name + "/" + target, EventType.WEATHER_UPDATE,
+                            SubscriptionCriteria.newBuilder().setTargetIdentifier(target).build());
+                    if (city != null) {
+                        cities.put(target, city);
+                    }
+                }
+            } else if (interest.getEventType() == EventType.NEWS_FLASH && !target.isEmpty()) {
+                keywordsChanged |= keywords.add(target);
+            }
+        }
+        if (keywordsChanged) {
+            SubscriptionInfo previous = news;
+            news = keywords.isEmpty() ? null : subscribe(name + "/news-" + (++newsVersion), EventType.NEWS_FLASH,
+                    SubscriptionCriteria.newBuilder().addAllKeywords(keywords).build());
+            if (previous != null) {
+                service.removeSubscription(previous.clientSubscriptionId);
+            }
+        }
+        logger.fine(name + ": " + cities.size() + " cities, " + keywords.size() + " keywords after "
+                + update.getAddedCount() + " added and " + update.getRemovedCount() + " removed");
+    }
+
+    private SubscriptionInfo subscribe(String id, EventType eventType, SubscriptionCriteria criteria) {
+        SubscriptionRequest request = SubscriptionRequest.newBuilder()
+                .setClientSubscriptionId(id)
+                .setEventType(eventType)
+                .setCriteria(criteria)
+                .build();
+        Status invalid = service.validateSubscription(request);
+        if (invalid != null) {
+            logger.warning(name + ": ignoring interest in " + eventType + " " + criteria + ": " + invalid.getDescription());
+            return null;
+        }
+        SubscriptionInfo subInfo = new SubscriptionInfo(id, request, outbound);
+        if (!service.registerSubscription(subInfo)) {
+            logger.warning(name + ": subscription ID already in use: " + id);
+            return null;
+        }
+        service.startDelivery(subInfo);
+        return subInfo;
+    }
+
+    synchronized int topicCount() {
+        return cities.size() + keywords.size();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        cancel(); // The edge's side of the call failed; nothing more can be written either
+    }
+
+    @Override
+    public void onCompleted() {
+        // The edge closed its request stream: end every subscription and complete the response stream
+        logger.info(name + " closed by the edge server");
+        end();
+        outbound.close(Status.OK);
+    }
+
+    /**
+     * The call is gone (cancelled or failed): removes all subscriptions without writing to the stream again.
+     */
+    void cancel() {
+        end();
+        outbound.abandon();
+    }
+
+    private synchronized void end() {
+        ended = true;
+        List<SubscriptionInfo> subscriptions = new ArrayList<>(cities.values());
+        if (news != null) {
+            subscriptions.add(news);
+        }
+        for (SubscriptionInfo subInfo : subscriptions) {
+            service.removeSubscription(subInfo.clientSubscriptionId);
+        }
+        cities.clear();
+        keywords.clear();
+        news = null;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,118 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.EventNotification;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Replays a recording of length-delimited EventNotification records (see {@link MappedEventReader}) on a
+ * thread of its own, at the given {@link ReplayRate}. In ORIGINAL mode events are spaced by their recorded
+ * {@code timestamp_unix_nanos}; events of older recordings, which only have {@code timestamp_unix_seconds},
+ * are replayed back to back within each second.
+ * <p>
+ * Events keep their recorded timestamps, so the delivery lag subscribers measure includes the recording's age.
+ * <p>
+ * The replay falls behind instead of skipping events when the dispatcher cannot keep up.
+ */
+public class FileReplayEventSource implements EventSource {
+
+    private static final Logger logger = Logger.getLogger(FileReplayEventSource.class.getName());
+
+    private final Path file;
+    private final ReplayRate rate;
+    private volatile boolean closed;
+    private Thread thread;
+    private volatile long replayed;
+
+    public FileReplayEventSource(Path file, ReplayRate rate) {
+        this.file = file;
+        this.rate = rate;
+    }
+
+    @Override
+    public synchronized void start(Consumer<EventNotification> sink) {
+        if (thread != null) {
+            throw new IllegalStateException("Replay of " + file + " already started");
+        }
+        thread = new Thread(() -> replay(sink), "event-replay-" + file.getFileName());
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Replaying " + file + " at " + rate);
+    }
+
+    private void replay(Consumer<EventNotification> sink) {
+        long start = System.nanoTime();
+        long firstRecordedNanos = -1;
+        try (MappedEventReader reader = new MappedEventReader(file)) {
+            EventNotification notification;
+            while (!closed && (notification = reader.next()) != null) {
+                long recordedNanos = notification.getTimestampUnixNanos() != 0 ? notification.getTimestampUnixNanos()
+                        : TimeUnit.SECONDS.toNanos(notification.getTimestampUnixSeconds()); // Recorded before it was added
+                if (firstRecordedNanos < 0) {
+                    firstRecordedNanos = recordedNanos;
+                }
+                long due = start + rate.dueOffsetNanos(replayed, recordedNanos - firstRecordedNanos);
+                long wait;
+                while (!closed && (wait = due - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (closed) {
+                    break;
+                }
+                sink.accept(notification);
+                replayed++;
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            logger.info("Replay of " + file + (closed ? " stopped" : " finished") + ": " + replayed + " events in "
+                    + String.format("%.1f", seconds) + " s (" + String.format("%.0f", replayed / Math.max(seconds, 1e-9)) + " events/s)");
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Replay of " + file + " failed after " + replayed + " events", e);
+        } catch (RuntimeException e) {
+            if (!closed) { // Publishing is rejected once the dispatcher shuts down
+                logger.log(Level.SEVERE, "Replay of " + file + " aborted after " + replayed + " events", e);
+            }
+        }
+    }
+
+    /**
+     * Waits for the replay to reach the end of the recording (or to be stopped).
+     */
+    public boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+        Thread replayThread;
+        synchronized (this) {
+            replayThread = thread;
+        }
+        if (replayThread == null) {
+            return false;
+        }
+        replayThread.join(Math.max(1, unit.toMillis(timeout)));
+        return !replayThread.isAlive();
+    }
+
+    long replayedCount() {
+        return replayed;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Thread replayThread;
+        synchronized (this) {
+            replayThread = thread;
+        }
+        if (replayThread != null) {
+            LockSupport.unpark(replayThread);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "replay of " + file + " at " + rate;
+    }
+}
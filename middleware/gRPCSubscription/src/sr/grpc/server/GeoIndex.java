@@ -0,0 +1,211 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.GeoCircle;
+import sr.grpc.gen.event.GeoPoint;
+import sr.grpc.gen.event.WeatherUpdate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Index of weather subscriptions to a circle (SubscriptionCriteria.within) by the cells of a lat/lon grid.
+ * <p>
+ * The grid has levels of square cells, from {@value #FINEST_CELL_DEGREES}° up to one cell for the whole globe,
+ * each about twice as large as the one below. A circle is registered in the cells its bounding box overlaps on
+ * the finest level where those are at most {@value #MAX_CELLS}, so however large it is, the cells hold little
+ * more than the circle itself; a circle around a pole ends up on the top level. An update's location lies in
+ * exactly one cell per level, so matching it looks up one cell per level in use and checks the circles found
+ * there with the great-circle distance, instead of every circle subscribed.
+ */
+class GeoIndex {
+
+    static final double MAX_RADIUS_KM = 2000;
+    private static final double EARTH_RADIUS_KM = 6371.0088; // Mean radius
+    private static final double FINEST_CELL_DEGREES = 0.125;
+    // Each divides 360, so that the columns wrap around the antimeridian exactly
+    private static final double[] CELL_DEGREES = {FINEST_CELL_DEGREES, 0.25, 0.5, 1, 2, 4, 8, 20, 45, 120, 360};
+    private static final int MAX_CELLS = 16; // Per circle
+
+    private final ConcurrentMap<Long, Set<Circle>> byCell = new ConcurrentHashMap<>();
+    private final ConcurrentMap<SubscriptionInfo, Circle> circles = new ConcurrentHashMap<>();
+    private final AtomicIntegerArray circlesPerLevel = new AtomicIntegerArray(CELL_DEGREES.length);
+
+    /**
+     * Why a circle cannot be subscribed to, or null if it can.
+     */
+    static String check(GeoCircle circle) {
+        double latitude = circle.getCenter().getLatitude();
+        double longitude = circle.getCenter().getLongitude();
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            return "center outside -90..90 latitude or -180..180 longitude";
+        }
+        if (!(circle.getRadiusKm() > 0 && circle.getRadiusKm() <= MAX_RADIUS_KM)) {
+            return "radius_km not above 0 and at most " + (int) MAX_RADIUS_KM;
+        }
+        return null;
+    }
+
+    void add(SubscriptionInfo subInfo) {
+        Circle circle = new Circle(subInfo);
+        if (circles.putIfAbsent(subInfo, circle) != null) {
+            return;
+        }
+        for (long cell : circle.cells) {
+            // Mutated inside compute() like the topic buckets of SubscriptionIndex, so a cell is never
+            // dropped while another thread is inserting into it
+            byCell.compute(cell, (c, members) -> {
+                Set<Circle> bucket = members != null ? members : ConcurrentHashMap.newKeySet();
+                bucket.add(circle);
+                return bucket;
+            });
+        }
+        circlesPerLevel.incrementAndGet(circle.level);
+    }
+
+    void remove(SubscriptionInfo subInfo) {
+        Circle circle = circles.remove(subInfo);
+        if (circle == null) {
+            return;
+        }
+        for (long cell : circle.cells) {
+            byCell.computeIfPresent(cell, (c, members) -> {
+                members.remove(circle);
+                return members.isEmpty() ? null : members;
+            });
+        }
+        circlesPerLevel.decrementAndGet(circle.level);
+    }
+
+    /**
+     * The subscriptions whose circle contains the update's location and whose weather filter, if any, accepts
+     * it; empty for an update without a location.
+     */
+    List<SubscriptionInfo> match(WeatherUpdate update) {
+        if (!update.hasLocation() || circles.isEmpty()) {
+            return List.of();
+        }
+        double latitude = update.getLocation().getLatitude();
+        double longitude = update.getLocation().getLongitude();
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            return List.of();
+        }
+        double phi = Math.toRadians(latitude);
+        double lambda = Math.toRadians(longitude);
+        double cosPhi = Math.cos(phi);
+        List<SubscriptionInfo> nearby = null;
+        for (int level = 0; level < CELL_DEGREES.length; level++) {
+            if (circlesPerLevel.get(level) == 0) {
+                continue;
+            }
+            Set<Circle> candidates = byCell.get(cellKey(level, row(level, latitude), column(level, longitude)));
+            if (candidates == null) {
+                continue;
+            }
+            // A circle is in the cells of one level only, and the point in one cell of it: no circle is seen twice
+            for (Circle circle : candidates) {
+                if (haversine(phi, lambda, cosPhi, circle.phi, circle.lambda, circle.cosPhi) <= circle.maxHaversine
+                        && (circle.filter == null || circle.filter.test(update))) {
+                    if (nearby == null) {
+                        nearby = new ArrayList<>();
+                    }
+                    nearby.add(circle.subInfo);
+                }
+            }
+        }
+        return nearby != null ? nearby : List.of();
+    }
+
+    int circleCount() {
+        return circles.size();
+    }
+
+    /**
+     * The haversine of the central angle between two points given in radians, which grows with their distance:
+     * the points are at most d km apart iff it is at most {@link #maxHaversine maxHaversine(d)}.
+     */
+    static double haversine(double phi1, double lambda1, double cosPhi1, double phi2, double lambda2, double cosPhi2) {
+        double sinHalfPhi = Math.sin((phi2 - phi1) / 2);
+        double sinHalfLambda = Math.sin((lambda2 - lambda1) / 2);
+        return sinHalfPhi * sinHalfPhi + cosPhi1 * cosPhi2 * sinHalfLambda * sinHalfLambda;
+    }
+
+    static double maxHaversine(double distanceKm) {
+        double sinHalfAngle = Math.sin(distanceKm / EARTH_RADIUS_KM / 2);
+        return sinHalfAngle * sinHalfAngle;
+    }
+
+    private static int rows(int level) {
+        return (int) Math.ceil(180 / CELL_DEGREES[level]);
+    }
+
+    private static int columns(int level) {
+        return (int) (360 / CELL_DEGREES[level]);
+    }
+
+    private static int row(int level, double latitude) {
+        return Math.min(rows(level) - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES[level]));
+    }
+
+    // 180 falls in the same column as -180
+    private static int column(int level, double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES[level]), columns(level));
+    }
+
+    private static long cellKey(int level, int row, int column) {
+        return (long) level << 32 | (long) row << 16 | column;
+    }
+
+    // A subscribed circle with what matching needs precomputed
+    private static final class Circle {
+        final SubscriptionInfo subInfo;
+        final double phi; // Center in radians
+        final double lambda;
+        final double cosPhi;
+        final double maxHaversine;
+        final CompiledFilter filter; // Null if the subscription has none
+        final int level;
+        final long[] cells;
+
+        Circle(SubscriptionInfo subInfo) {
+            GeoCircle within = subInfo.request.getCriteria().getWithin();
+            GeoPoint center = within.getCenter();
+            this.subInfo = subInfo;
+            this.phi = Math.toRadians(center.getLatitude());
+            this.lambda = Math.toRadians(center.getLongitude());
+            this.cosPhi = Math.cos(phi);
+            this.maxHaversine = maxHaversine(within.getRadiusKm());
+            this.filter = subInfo.filter != null ? CompiledFilter.compile(subInfo.filter) : null;
+
+            // Bounding box in degrees; a circle reaching over a pole spans every longitude
+            double latitudeSpan = Math.toDegrees(within.getRadiusKm() / EARTH_RADIUS_KM);
+            double south = center.getLatitude() - latitudeSpan;
+            double north = center.getLatitude() + latitudeSpan;
+            double longitudeSpan = south <= -90 || north >= 90 ? 180
+                    : Math.min(180, latitudeSpan / Math.cos(Math.toRadians(Math.max(-south, north))));
+            double west = center.getLongitude() - longitudeSpan;
+            double east = center.getLongitude() + longitudeSpan;
+
+            int level = -1;
+            int firstRow, lastRow, firstColumn, lastColumn;
+            do {
+                level++;
+                firstRow = row(level, Math.max(-90, south));
+                lastRow = row(level, Math.min(90, north));
+                firstColumn = (int) Math.floor((west + 180) / CELL_DEGREES[level]);
+                lastColumn = Math.min((int) Math.floor((east + 180) / CELL_DEGREES[level]), firstColumn + columns(level) - 1);
+            } while (level < CELL_DEGREES.length - 1 && (lastRow - firstRow + 1) * (lastColumn - firstColumn + 1) > MAX_CELLS);
+            this.level = level;
+            this.cells = new long[(lastRow - firstRow + 1) * (lastColumn - firstColumn + 1)];
+            int i = 0;
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int column = firstColumn; column <= lastColumn; column++) {
+                    cells[i++] = cellKey(level, row, Math.floorMod(column, columns(level)));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.ClusterView;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Consistent-hash ownership of targets for one {@link ClusterView}: every node is placed on a 64-bit ring at
+ * {@value #VIRTUAL_NODES} points, and a target belongs to the node of the first point at or after its hash.
+ * <p>
+ * When a node joins, it takes over about 1/n of the targets, from all other nodes alike; every other target
+ * keeps its owner. Immutable: a new view gets a new ring, and lookups are a binary search over two arrays.
+ */
+final class HashRing {
+
+    static final int VIRTUAL_NODES = 128; // Points per node; more spread the targets more evenly
+
+    private final ClusterView view;
+    private final long[] points; // Sorted
+    private final String[] owners; // Node of each point
+
+    HashRing(ClusterView view) {
+        this.view = view;
+        List<String> nodes = view.getNodesList();
+        long[] unsorted = new long[nodes.size() * VIRTUAL_NODES];
+        for (int n = 0; n < nodes.size(); n++) {
+            for (int v = 0; v < VIRTUAL_NODES; v++) {
+                unsorted[n * VIRTUAL_NODES + v] = hash(nodes.get(n) + '#' + v);
+            }
+        }
+        // Sort the points with their owners: order an index by point, then copy both arrays in that order
+        Integer[] order = new Integer[unsorted.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(unsorted[a], unsorted[b]));
+        this.points = new long[unsorted.length];
+        this.owners = new String[unsorted.length];
+        for (int i = 0; i < order.length; i++) {
+            points[i] = unsorted[order[i]];
+            owners[i] = nodes.get(order[i] / VIRTUAL_NODES);
+        }
+    }
+
+    ClusterView view() {
+        return view;
+    }
+
+    /**
+     * The node owning a normalized target (see {@link Topic#target()}), or null if the view has no nodes.
+     */
+    String ownerOf(String target) {
+        if (points.length == 0) {
+            return null;
+        }
+        int i = Arrays.binarySearch(points, hash(target));
+        if (i < 0) {
+            i = -i - 1; // Insertion point: the first point after the hash
+        }
+        return owners[i == points.length ? 0 : i]; // Past the last point wraps around to the first
+    }
+
+    // FNV-1a over the UTF-8 bytes, then a 64-bit finalizer so that similar keys land far apart
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
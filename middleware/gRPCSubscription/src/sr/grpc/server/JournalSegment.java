@@ -0,0 +1,230 @@
+package sr.grpc.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+/**
+ * One file of an {@link EventJournal}: a preallocated region mapped into memory, filled with records
+ * from the start and never modified once written.
+ * <p>
+ * Record layout (big-endian):
+ * <pre>
+ *   int   length     bytes after the checksum
+ *   int   checksum   CRC32C of those bytes
+ *   long  sequence   per-topic sequence number
+ *   long  appendedAt epoch millis
+ *   short keyLength
+ *   byte[keyLength]  topic key, UTF-8 "eventTypeNumber:target"
+ *   byte[]           encoded notification body
+ * </pre>
+ * A length of zero ends the segment's records. Records are only visible to readers below the
+ * volatile write position, which is advanced after a record is complete.
+ */
+final class JournalSegment {
+
+    private static final Logger logger = Logger.getLogger(JournalSegment.class.getName());
+
+    static final int FRAME_HEADER_SIZE = 8; // length + checksum
+    static final int RECORD_HEADER_SIZE = FRAME_HEADER_SIZE + 8 + 8 + 2;
+
+    private final Path path;
+    private final long id;
+    private final MappedByteBuffer buffer;
+    private volatile int writePosition;
+    private volatile long lastAppendMillis;
+    private volatile boolean sealed;
+    // Last sequence of every topic with records here; lets a reader skip segments without scanning them
+    private final Map<Topic, Long> lastSequences = new ConcurrentHashMap<>();
+    private final Map<Topic, Long> firstSequences = new ConcurrentHashMap<>();
+
+    private JournalSegment(Path path, long id, MappedByteBuffer buffer) {
+        this.path = path;
+        this.id = id;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Creates a new, empty segment file of the given size.
+     */
+    static JournalSegment create(Path path, long id, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            JournalSegment segment = new JournalSegment(path, id, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            segment.lastAppendMillis = System.currentTimeMillis();
+            return segment;
+        }
+    }
+
+    /**
+     * Maps an existing segment file and finds its last complete record. A torn or corrupt record
+     * (e.g. from a crash in the middle of an append) ends the segment there.
+     */
+    static JournalSegment recover(Path path, long id) throws IOException {
+        JournalSegment segment;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = new JournalSegment(path, id, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+        }
+        segment.lastAppendMillis = Files.getLastModifiedTime(path).toMillis();
+        ByteBuffer buffer = segment.buffer;
+        int position = 0;
+        while (position + RECORD_HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length == 0) {
+                break;
+            }
+            if (length < RECORD_HEADER_SIZE - FRAME_HEADER_SIZE || length > buffer.capacity() - position - FRAME_HEADER_SIZE
+                    || buffer.getInt(position + 4) != checksum(buffer, position + FRAME_HEADER_SIZE, length)) {
+                logger.warning("Journal segment " + path + " has a torn record at offset " + position + "; ignoring the rest of it.");
+                break;
+            }
+            long sequence = buffer.getLong(position + FRAME_HEADER_SIZE);
+            segment.lastAppendMillis = buffer.getLong(position + FRAME_HEADER_SIZE + 8);
+            Topic topic = Topic.fromKey(new String(segment.keyBytes(position), StandardCharsets.UTF_8));
+            segment.firstSequences.putIfAbsent(topic, sequence);
+            segment.lastSequences.put(topic, sequence);
+            position += FRAME_HEADER_SIZE + length;
+        }
+        segment.writePosition = position;
+        return segment;
+    }
+
+    /**
+     * Appends a record if it fits, leaving room for the end marker.
+     *
+     * @return false if the segment is full; the caller rolls over to a new one.
+     */
+    boolean append(Topic topic, byte[] topicKey, long sequence, long appendMillis, ByteBuffer body) {
+        int length = RECORD_HEADER_SIZE - FRAME_HEADER_SIZE + topicKey.length + body.remaining();
+        int position = writePosition;
+        if (sealed || position + FRAME_HEADER_SIZE + length + 4 > buffer.capacity()) {
+            return false;
+        }
+        int at = position + FRAME_HEADER_SIZE;
+        buffer.putLong(at, sequence);
+        buffer.putLong(at + 8, appendMillis);
+        buffer.putShort(at + 16, (short) topicKey.length);
+        buffer.put(at + 18, topicKey);
+        buffer.put(at + 18 + topicKey.length, body, body.position(), body.remaining());
+        buffer.putInt(position + FRAME_HEADER_SIZE + length, 0); // End marker, in case the space held a torn record
+        buffer.putInt(position + 4, checksum(buffer, at, length));
+        buffer.putInt(position, length); // Written last: a record with a length is complete
+
+        firstSequences.putIfAbsent(topic, sequence);
+        lastSequences.put(topic, sequence);
+        lastAppendMillis = appendMillis;
+        writePosition = position + FRAME_HEADER_SIZE + length; // Publishes the record to readers
+        return true;
+    }
+
+    // CRC32C of the record bytes after the checksum
+    private static int checksum(ByteBuffer buffer, int position, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(position, length));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Flushes written records to the file.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    // No more appends; the segment can be deleted by retention from now on
+    void seal() {
+        sealed = true;
+        force();
+    }
+
+    void delete() throws IOException {
+        // The mapping is released by the garbage collector; readers holding slices of it keep working
+        Files.deleteIfExists(path);
+    }
+
+    // Accessors used by readers; positions are record starts at or below writePosition()
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    long sequenceAt(int position) {
+        return buffer.getLong(position + FRAME_HEADER_SIZE);
+    }
+
+    int keyLengthAt(int position) {
+        return buffer.getShort(position + FRAME_HEADER_SIZE + 16);
+    }
+
+    boolean keyEquals(int position, byte[] topicKey) {
+        if (keyLengthAt(position) != topicKey.length) {
+            return false;
+        }
+        int at = position + RECORD_HEADER_SIZE;
+        for (int i = 0; i < topicKey.length; i++) {
+            if (buffer.get(at + i) != topicKey[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] keyBytes(int position) {
+        byte[] key = new byte[keyLengthAt(position)];
+        buffer.get(position + RECORD_HEADER_SIZE, key);
+        return key;
+    }
+
+    // The body of the record at position, as a read-only view of the mapped file
+    ByteBuffer bodyAt(int position) {
+        int length = buffer.getInt(position);
+        int bodyStart = position + RECORD_HEADER_SIZE + keyLengthAt(position);
+        return buffer.slice(bodyStart, position + FRAME_HEADER_SIZE + length - bodyStart).asReadOnlyBuffer();
+    }
+
+    int nextRecord(int position) {
+        return position + FRAME_HEADER_SIZE + buffer.getInt(position);
+    }
+
+    Long firstSequence(Topic topic) {
+        return firstSequences.get(topic);
+    }
+
+    Long lastSequence(Topic topic) {
+        return lastSequences.get(topic);
+    }
+
+    Map<Topic, Long> lastSequences() {
+        return lastSequences;
+    }
+
+    long id() {
+        return id;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int size() {
+        return buffer.capacity();
+    }
+
+    long lastAppendMillis() {
+        return lastAppendMillis;
+    }
+
+    boolean isSealed() {
+        return sealed;
+    }
+}
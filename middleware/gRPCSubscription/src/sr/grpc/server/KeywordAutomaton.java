@@ -0,0 +1,158 @@
+package sr.grpc.server;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable Aho-Corasick automaton over a set of keywords: one pass over a text reports every keyword that
+ * occurs in it as a whole word, however many keywords there are.
+ * <p>
+ * States are stored in flat arrays; each state's outgoing edges are sorted by character and binary searched,
+ * which keeps the automaton compact for a large Unicode alphabet. Keywords and texts must already be normalized
+ * the same way (see {@link Topic#normalize}).
+ */
+final class KeywordAutomaton {
+
+    static final KeywordAutomaton EMPTY = new KeywordAutomaton(List.of());
+
+    private final String[] keywords;
+    // Per state: sorted edge labels and their target states
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failure; // Longest proper suffix of the state's path that is also a path
+    private final int[] match; // Keyword ending exactly at this state, or -1
+    private final int[] outputLink; // Nearest state along the failure chain with a keyword, or -1
+
+    KeywordAutomaton(Collection<String> keywords) {
+        this.keywords = keywords.toArray(new String[0]);
+
+        // Build the trie with growable per-state edge lists
+        List<StringBuilder> stateLabels = new ArrayList<>();
+        List<int[]> stateTargets = new ArrayList<>();
+        List<Integer> stateMatch = new ArrayList<>();
+        stateLabels.add(new StringBuilder());
+        stateTargets.add(new int[0]);
+        stateMatch.add(-1);
+        for (int k = 0; k < this.keywords.length; k++) {
+            String keyword = this.keywords[k];
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                int edge = stateLabels.get(state).indexOf(String.valueOf(c));
+                if (edge >= 0) {
+                    state = stateTargets.get(state)[edge];
+                    continue;
+                }
+                int next = stateLabels.size();
+                stateLabels.add(new StringBuilder());
+                stateTargets.add(new int[0]);
+                stateMatch.add(-1);
+                stateLabels.get(state).append(c);
+                int[] grown = Arrays.copyOf(stateTargets.get(state), stateTargets.get(state).length + 1);
+                grown[grown.length - 1] = next;
+                stateTargets.set(state, grown);
+                state = next;
+            }
+            stateMatch.set(state, k);
+        }
+
+        int states = stateLabels.size();
+        this.labels = new char[states][];
+        this.targets = new int[states][];
+        this.match = new int[states];
+        for (int s = 0; s < states; s++) {
+            sortEdges(s, stateLabels.get(s).toString().toCharArray(), stateTargets.get(s));
+            match[s] = stateMatch.get(s);
+        }
+
+        // Failure and output links, breadth first so a state's failure target is always finished before it
+        this.failure = new int[states];
+        this.outputLink = new int[states];
+        outputLink[0] = -1;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            failure[child] = 0;
+            outputLink[child] = -1;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int e = 0; e < labels[state].length; e++) {
+                char c = labels[state][e];
+                int child = targets[state][e];
+                int f = failure[state];
+                int next;
+                while ((next = step(f, c)) < 0 && f != 0) {
+                    f = failure[f];
+                }
+                failure[child] = next < 0 ? 0 : next;
+                int fs = failure[child];
+                outputLink[child] = match[fs] >= 0 ? fs : outputLink[fs];
+                queue.add(child);
+            }
+        }
+    }
+
+    private void sortEdges(int state, char[] stateLabels, int[] stateTargets) {
+        Integer[] order = new Integer[stateLabels.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Character.compare(stateLabels[a], stateLabels[b]));
+        labels[state] = new char[order.length];
+        targets[state] = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            labels[state][i] = stateLabels[order[i]];
+            targets[state][i] = stateTargets[order[i]];
+        }
+    }
+
+    // Goto function: the child of state on c, or -1
+    private int step(int state, char c) {
+        int edge = Arrays.binarySearch(labels[state], c);
+        return edge >= 0 ? targets[state][edge] : -1;
+    }
+
+    /**
+     * Scans the text once and reports the index of every keyword occurring in it as a whole word
+     * (not preceded or followed by a letter or digit). A keyword occurring several times is reported each time.
+     */
+    void forEachMatch(CharSequence text, IntConsumer keywordIndex) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = step(state, c)) < 0 && state != 0) {
+                state = failure[state];
+            }
+            state = next < 0 ? 0 : next;
+            for (int s = match[state] >= 0 ? state : outputLink[state]; s >= 0; s = outputLink[s]) {
+                int k = match[s];
+                int start = i - keywords[k].length() + 1;
+                if (isBoundary(text, start - 1) && isBoundary(text, i + 1)) {
+                    keywordIndex.accept(k);
+                }
+            }
+        }
+    }
+
+    private static boolean isBoundary(CharSequence text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+
+    String keyword(int index) {
+        return keywords[index];
+    }
+
+    int keywordCount() {
+        return keywords.length;
+    }
+
+    int stateCount() {
+        return labels.length;
+    }
+}
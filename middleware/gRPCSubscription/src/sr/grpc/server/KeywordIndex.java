@@ -0,0 +1,132 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.NewsFlash;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Index of NEWS_FLASH subscriptions by keyword, matched against articles with a {@link KeywordAutomaton}.
+ * <p>
+ * Subscriptions are kept per normalized keyword; the automaton only holds the set of distinct keywords. Adding a
+ * subscription whose keywords are all known, or removing one, never touches the automaton. A new keyword marks
+ * it stale and it is rebuilt once, on the next match, however many subscriptions were added in between; keywords
+ * left without subscribers are skipped while matching and purged by the next rebuild, or by one forced when they
+ * make up half of the automaton.
+ */
+class KeywordIndex {
+
+    private final ConcurrentMap<String, Set<SubscriptionInfo>> byKeyword = new ConcurrentHashMap<>();
+    private volatile KeywordAutomaton automaton = KeywordAutomaton.EMPTY;
+    private volatile boolean stale; // A keyword was added since the automaton was built
+    private final AtomicInteger deadKeywords = new AtomicInteger(); // In the automaton but no longer subscribed to
+    private final AtomicInteger rebuilds = new AtomicInteger();
+
+    void add(SubscriptionInfo subInfo) {
+        boolean[] newKeyword = {false};
+        for (String keyword : keywordsOf(subInfo)) {
+            byKeyword.compute(keyword, (k, subscribers) -> {
+                if (subscribers == null) {
+                    subscribers = ConcurrentHashMap.newKeySet();
+                    newKeyword[0] = true;
+                }
+                subscribers.add(subInfo);
+                return subscribers;
+            });
+        }
+        if (newKeyword[0]) {
+            stale = true; // Only once the keyword is in the map, where the rebuild takes its snapshot from
+        }
+    }
+
+    void remove(SubscriptionInfo subInfo) {
+        for (String keyword : keywordsOf(subInfo)) {
+            byKeyword.computeIfPresent(keyword, (k, subscribers) -> {
+                subscribers.remove(subInfo);
+                if (subscribers.isEmpty()) {
+                    deadKeywords.incrementAndGet();
+                    return null;
+                }
+                return subscribers;
+            });
+        }
+        KeywordAutomaton current = automaton;
+        if (deadKeywords.get() > Math.max(16, current.keywordCount() / 2)) {
+            stale = true;
+        }
+    }
+
+    /**
+     * Finds the subscriptions whose keywords occur in the article's headline, summary or related keywords,
+     * with a single pass over that text. Each subscription is returned once, however many of its keywords match.
+     */
+    Set<SubscriptionInfo> match(NewsFlash newsFlash) {
+        KeywordAutomaton current = currentAutomaton();
+        if (current.keywordCount() == 0) {
+            return Collections.emptySet();
+        }
+        BitSet matched = new BitSet(current.keywordCount());
+        current.forEachMatch(searchText(newsFlash), matched::set);
+
+        Set<SubscriptionInfo> subscribers = new LinkedHashSet<>();
+        for (int k = matched.nextSetBit(0); k >= 0; k = matched.nextSetBit(k + 1)) {
+            Set<SubscriptionInfo> keywordSubscribers = byKeyword.get(current.keyword(k));
+            if (keywordSubscribers != null) { // Null: no subscribers left since the last rebuild
+                subscribers.addAll(keywordSubscribers);
+            }
+        }
+        return subscribers;
+    }
+
+    private KeywordAutomaton currentAutomaton() {
+        if (!stale) {
+            return automaton;
+        }
+        synchronized (this) {
+            if (stale) {
+                // Cleared before taking the keyword snapshot, so a keyword added meanwhile triggers another rebuild
+                stale = false;
+                deadKeywords.set(0);
+                automaton = new KeywordAutomaton(new ArrayList<>(byKeyword.keySet()));
+                rebuilds.incrementAndGet();
+            }
+            return automaton;
+        }
+    }
+
+    // Headline, summary and related keywords, normalized like the subscriptions' keywords
+    static String searchText(NewsFlash newsFlash) {
+        StringBuilder text = new StringBuilder(newsFlash.getHeadline().length() + newsFlash.getSummary().length() + 64);
+        text.append(newsFlash.getHeadline()).append('\n').append(newsFlash.getSummary());
+        for (String keyword : newsFlash.getRelatedKeywordsList()) {
+            text.append('\n').append(keyword);
+        }
+        return Topic.normalize(text.toString());
+    }
+
+    static List<String> keywordsOf(SubscriptionInfo subInfo) {
+        List<String> keywords = new ArrayList<>(subInfo.request.getCriteria().getKeywordsCount());
+        for (String keyword : subInfo.request.getCriteria().getKeywordsList()) {
+            String normalized = Topic.normalize(keyword);
+            if (!normalized.isEmpty() && !keywords.contains(normalized)) {
+                keywords.add(normalized);
+            }
+        }
+        return keywords;
+    }
+
+    int keywordCount() {
+        return byKeyword.size();
+    }
+
+    int rebuildCount() {
+        return rebuilds.get();
+    }
+}
@@ -0,0 +1,108 @@
+package sr.grpc.server;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import sr.grpc.gen.event.EventNotification;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads length-delimited EventNotification records (varint length, then the message, as written by
+ * {@link EventNotification#writeDelimitedTo}) from a memory-mapped file.
+ * <p>
+ * The file is mapped in windows of up to {@code windowSize} bytes, so recordings larger than 2 GB work and only
+ * the pages being read are resident. A record crossing the end of a window is read after remapping at its start.
+ */
+class MappedEventReader implements Closeable {
+
+    static final int DEFAULT_WINDOW_SIZE = 64 << 20;
+    private static final int MAX_LENGTH_PREFIX = 5; // Bytes of a varint32
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int windowSize;
+    private MappedByteBuffer window;
+    private long windowStart; // File offset of window position 0
+
+    MappedEventReader(Path file) throws IOException {
+        this(file, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedEventReader(Path file, int windowSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.windowSize = windowSize;
+        map(0);
+    }
+
+    private void map(long offset) throws IOException {
+        windowStart = offset;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(windowSize, fileSize - offset));
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return null at the end of the file.
+     * @throws IOException if the file ends inside a record or a record does not parse.
+     */
+    EventNotification next() throws IOException {
+        long offset = windowStart + window.position();
+        if (offset >= fileSize) {
+            return null;
+        }
+        if (window.remaining() < MAX_LENGTH_PREFIX && windowStart + window.limit() < fileSize) {
+            map(offset);
+        }
+        int length = readLength(offset);
+        if (length > window.remaining()) {
+            if (windowStart + window.position() + length > fileSize) {
+                throw new IOException("Truncated record at offset " + offset + ": " + length + " bytes expected");
+            }
+            if ((long) length + MAX_LENGTH_PREFIX > windowSize) {
+                throw new IOException("Record at offset " + offset + " is larger than the mapping window: " + length);
+            }
+            map(offset);
+            readLength(offset);
+        }
+        int end = window.position() + length;
+        MappedByteBuffer record = window;
+        int limit = record.limit();
+        record.limit(end);
+        try {
+            return EventNotification.parseFrom(record);
+        } catch (InvalidProtocolBufferException e) {
+            throw new IOException("Invalid record at offset " + offset, e);
+        } finally {
+            record.limit(limit);
+            record.position(end);
+        }
+    }
+
+    private int readLength(long offset) throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (!window.hasRemaining()) {
+                throw new IOException("Truncated length prefix at offset " + offset);
+            }
+            byte b = window.get();
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (result < 0) {
+                    throw new IOException("Negative record length at offset " + offset);
+                }
+                return result;
+            }
+        }
+        throw new IOException("Malformed length prefix at offset " + offset);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
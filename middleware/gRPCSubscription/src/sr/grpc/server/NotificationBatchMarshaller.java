@@ -0,0 +1,46 @@
+package sr.grpc.server;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import sr.grpc.gen.event.EventNotification;
+import sr.grpc.gen.event.EventNotificationBatch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response marshaller for SubscribeBatched that writes an {@link EncodedBatch} from the notifications'
+ * already encoded prefixes and bodies. Clients keep using the generated protobuf marshaller.
+ */
+final class NotificationBatchMarshaller implements MethodDescriptor.Marshaller<EncodedBatch> {
+
+    static final NotificationBatchMarshaller INSTANCE = new NotificationBatchMarshaller();
+
+    private NotificationBatchMarshaller() {
+    }
+
+    @Override
+    public InputStream stream(EncodedBatch value) {
+        return new NotificationMarshaller.SplicedInputStream(EventNotificationBatch.NOTIFICATIONS_FIELD_NUMBER, value.notifications);
+    }
+
+    @Override
+    public EncodedBatch parse(InputStream stream) {
+        // Only used if the descriptor ends up on a client; the server never parses its own responses
+        try {
+            EventNotificationBatch batch = EventNotificationBatch.parseFrom(stream);
+            List<EncodedNotification> notifications = new ArrayList<>(batch.getNotificationsCount());
+            for (EventNotification notification : batch.getNotificationsList()) {
+                notifications.add(EncodedNotification.of(notification));
+            }
+            return new EncodedBatch(notifications);
+        } catch (InvalidProtocolBufferException e) {
+            throw Status.INTERNAL.withDescription("Invalid EventNotificationBatch").withCause(e).asRuntimeException();
+        } catch (IOException e) {
+            throw Status.INTERNAL.withDescription("Failed to read EventNotificationBatch").withCause(e).asRuntimeException();
+        }
+    }
+}
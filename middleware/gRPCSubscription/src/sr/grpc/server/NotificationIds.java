@@ -0,0 +1,36 @@
+package sr.grpc.server;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unique notification IDs for one producer: {@code <kind>-<start>-<n>}, with the producer's start time in
+ * base 36 so that IDs do not repeat after a restart, and a counter so that they do not collide within a
+ * millisecond and sort in the order they were handed out.
+ * <p>
+ * The fixed part is encoded once; an ID is its bytes with the counter's digits written after them, so the hot
+ * path makes the ID string and nothing else.
+ */
+final class NotificationIds {
+
+    private final byte[] prefix;
+    private final AtomicLong counter = new AtomicLong();
+
+    NotificationIds(String kind) {
+        this.prefix = (kind + '-' + Long.toString(System.currentTimeMillis(), 36) + '-').getBytes(StandardCharsets.US_ASCII);
+    }
+
+    String next() {
+        long n = counter.incrementAndGet();
+        int digits = 1;
+        for (long rest = n / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        byte[] id = Arrays.copyOf(prefix, prefix.length + digits);
+        for (int i = id.length - 1; i >= prefix.length; i--, n /= 10) {
+            id[i] = (byte) ('0' + n % 10);
+        }
+        return new String(id, StandardCharsets.ISO_8859_1); // Copied byte for byte into a compact string
+    }
+}
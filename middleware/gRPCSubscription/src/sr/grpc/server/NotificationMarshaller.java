@@ -0,0 +1,237 @@
+package sr.grpc.server;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import sr.grpc.gen.event.EventNotification;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Response marshaller for Subscribe that writes an {@link EncodedNotification} as prefix + shared body
+ * without re-encoding anything. Clients keep using the generated protobuf marshaller.
+ */
+final class NotificationMarshaller implements MethodDescriptor.Marshaller<EncodedNotification> {
+
+    static final NotificationMarshaller INSTANCE = new NotificationMarshaller();
+
+    private NotificationMarshaller() {
+    }
+
+    @Override
+    public InputStream stream(EncodedNotification value) {
+        return new SplicedInputStream(value);
+    }
+
+    @Override
+    public EncodedNotification parse(InputStream stream) {
+        // Only used if the descriptor ends up on a client; the server never parses its own responses
+        try {
+            return EncodedNotification.of(EventNotification.parseFrom(stream));
+        } catch (InvalidProtocolBufferException e) {
+            throw Status.INTERNAL.withDescription("Invalid EventNotification").withCause(e).asRuntimeException();
+        } catch (IOException e) {
+            throw Status.INTERNAL.withDescription("Failed to read EventNotification").withCause(e).asRuntimeException();
+        }
+    }
+
+    /**
+     * Reads notifications back to back, each optionally as the value of a length-delimited field of the message
+     * sent (an {@code EventNotificationBatch} entry, a {@code SessionResponse}): field header, prefix, body.
+     * Drainable lets the transport copy them straight into the pooled direct buffer it frames the message in;
+     * KnownLength lets it size that buffer without buffering the message first.
+     * <p>
+     * Nothing is wrapped or gathered into arrays per message: the stream walks the notifications themselves and
+     * keeps the field header in a long. Field headers, and bodies without a backing array (slices of a mapped
+     * journal segment), reach the transport through a staging array kept per thread, since OutputStream only
+     * takes arrays. The bodies may be shared with other streams, so they are only read with absolute gets.
+     */
+    static final class SplicedInputStream extends InputStream implements KnownLength, Drainable {
+
+        private static final int STAGING_SIZE = 8192; // Largest copy step for buffers without a backing array
+        private static final ThreadLocal<byte[]> STAGING = ThreadLocal.withInitial(() -> new byte[STAGING_SIZE]);
+        private static final int HEADER = 0; // Segments of a notification, in the order they are read
+        private static final int PREFIX = 1;
+        private static final int BODY = 2;
+
+        private final int fieldNumber; // Of the field each notification is the value of; 0 if written bare
+        private final EncodedNotification single; // When there is only one and no list
+        private final List<EncodedNotification> notifications;
+        private EncodedNotification current;
+        private int index; // Of the current notification
+        private int segment;
+        private int offset; // Within the segment
+        private long header; // Field header of the current notification, little-endian
+        private int headerLength;
+        private int remaining;
+
+        SplicedInputStream(EncodedNotification notification) {
+            this(0, notification);
+        }
+
+        SplicedInputStream(int fieldNumber, EncodedNotification notification) {
+            this(fieldNumber, notification, null, 1);
+        }
+
+        SplicedInputStream(int fieldNumber, List<EncodedNotification> notifications) {
+            this(fieldNumber, null, notifications, notifications.size());
+        }
+
+        private SplicedInputStream(int fieldNumber, EncodedNotification single, List<EncodedNotification> notifications,
+                                   int count) {
+            this.fieldNumber = fieldNumber;
+            this.single = single;
+            this.notifications = notifications;
+            for (int i = 0; i < count; i++) {
+                int size = notification(i).serializedSize();
+                remaining += fieldNumber == 0 ? size : EncodedNotification.fieldSize(fieldNumber, size);
+            }
+            if (count > 0) {
+                start(notification(0));
+            }
+        }
+
+        private EncodedNotification notification(int i) {
+            return notifications == null ? single : notifications.get(i);
+        }
+
+        private void start(EncodedNotification notification) {
+            current = notification;
+            header = 0;
+            headerLength = 0;
+            if (fieldNumber != 0) {
+                putVarint((fieldNumber << 3) | 2); // Wire type 2: length-delimited
+                putVarint(notification.serializedSize());
+            }
+        }
+
+        private void putVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                header |= (long) ((value & 0x7F) | 0x80) << (8 * headerLength++);
+                value >>>= 7;
+            }
+            header |= (long) value << (8 * headerLength++);
+        }
+
+        private int segmentLength() {
+            switch (segment) {
+                case HEADER:
+                    return headerLength;
+                case PREFIX:
+                    return current.prefix.length;
+                default:
+                    return current.body.remaining();
+            }
+        }
+
+        // Moves past the segments read to the end, and any empty ones; only called while bytes remain
+        private void advance() {
+            while (offset == segmentLength()) {
+                offset = 0;
+                if (++segment > BODY) {
+                    segment = HEADER;
+                    start(notification(++index));
+                }
+            }
+        }
+
+        @Override
+        public int drainTo(OutputStream target) throws IOException {
+            int drained = remaining;
+            byte[] staging = null;
+            while (remaining > 0) {
+                advance();
+                int length = segmentLength() - offset;
+                if (segment == PREFIX) {
+                    target.write(current.prefix, offset, length);
+                } else if (segment == BODY && current.body.hasArray()) {
+                    ByteBuffer body = current.body;
+                    target.write(body.array(), body.arrayOffset() + body.position() + offset, length);
+                } else {
+                    // A header, or a mapped or direct body: copy through the staging array
+                    if (staging == null) {
+                        staging = STAGING.get();
+                    }
+                    for (int done = 0; done < length; ) {
+                        int n = Math.min(length - done, staging.length);
+                        copy(offset + done, staging, 0, n);
+                        target.write(staging, 0, n);
+                        done += n;
+                    }
+                }
+                offset += length;
+                remaining -= length;
+            }
+            return drained;
+        }
+
+        // Copies n bytes of the current segment, from the given offset within it
+        private void copy(int from, byte[] target, int at, int n) {
+            switch (segment) {
+                case HEADER:
+                    for (int i = 0; i < n; i++) {
+                        target[at + i] = (byte) (header >>> (8 * (from + i)));
+                    }
+                    break;
+                case PREFIX:
+                    System.arraycopy(current.prefix, from, target, at, n);
+                    break;
+                default:
+                    current.body.get(current.body.position() + from, target, at, n);
+            }
+        }
+
+        @Override
+        public int read() {
+            if (remaining == 0) {
+                return -1;
+            }
+            advance();
+            int b;
+            switch (segment) {
+                case HEADER:
+                    b = (int) (header >>> (8 * offset));
+                    break;
+                case PREFIX:
+                    b = current.prefix[offset];
+                    break;
+                default:
+                    b = current.body.get(current.body.position() + offset);
+            }
+            offset++;
+            remaining--;
+            return b & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (remaining == 0) {
+                return -1;
+            }
+            int toRead = Math.min(len, remaining);
+            for (int copied = 0; copied < toRead; ) {
+                advance();
+                int n = Math.min(toRead - copied, segmentLength() - offset);
+                copy(offset, b, off + copied, n);
+                offset += n;
+                copied += n;
+            }
+            remaining -= toRead;
+            return toRead;
+        }
+
+        @Override
+        public int available() {
+            return remaining;
+        }
+    }
+}
@@ -0,0 +1,510 @@
+package sr.grpc.server;
+
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded queue of notifications waiting to be written to one subscription stream.
+ * <p>
+ * Notifications are only passed to {@code onNext} while the call reports {@link ServerCallStreamObserver#isReady()},
+ * so a slow subscriber fills its own queue instead of Netty's buffers. Whatever is left is drained from the
+ * stream's on-ready handler. When the queue is full the configured {@link OverflowPolicy} applies.
+ * <p>
+ * In conflating mode the queue holds at most one pending notification per key (a subscription, i.e. its topic):
+ * a newer notification replaces the pending one in place, so a slow subscriber uses memory proportional to
+ * the number of topics it follows and receives current data as soon as it catches up.
+ * <p>
+ * HIGH priority notifications wait in a lane of their own, bounded by the same capacity, that is always written
+ * first: a storm warning is not stuck behind the routine backlog of a slow subscriber. They are never conflated;
+ * in conflating mode one replaces the pending routine notification of its key, which is older. A queue that must
+ * keep publication order ({@link #writeInOrder()}) queues them in line with the rest instead.
+ * <p>
+ * {@link #drain()} may be called from any thread (dispatcher, gRPC callbacks); only one thread drains at a time,
+ * so all calls on the observer, including the terminal onCompleted/onError, are serialized. With a drain executor
+ * (e.g. virtual threads) the writes run there instead of on the caller's thread.
+ * <p>
+ * Subclasses decide how queued notifications become stream messages: {@link #forNotifications} writes one
+ * EventNotification per message, {@link BatchingOutboundQueue} coalesces them into batches.
+ * <p>
+ * On a compressed stream, messages below a size threshold are sent uncompressed: for them the compression
+ * header and CPU time outweigh the bytes saved.
+ */
+abstract class OutboundQueue {
+
+    private static final Logger logger = Logger.getLogger(OutboundQueue.class.getName());
+
+    private final ServerCallStreamObserver<?> observer;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final boolean conflate;
+    private final Executor drainExecutor; // Null: drain on the calling thread
+
+    // Pending notifications in FIFO order of their keys. Without conflation every notification is its own key.
+    private final ArrayDeque<Object> queue = new ArrayDeque<>(); // Guarded by itself
+    private final Map<Object, EncodedNotification> latestByKey; // Guarded by queue; only used when conflating
+    private final ArrayDeque<EncodedNotification> highPriority = new ArrayDeque<>(); // Guarded by queue
+    private final AtomicInteger wip = new AtomicInteger(); // Drain requests; non-zero while a thread is draining
+    private volatile int depth; // Both lanes
+    private volatile int highPriorityDepth;
+    private int highPriorityInLine; // HIGH priority notifications queued with the routine ones; guarded by queue
+    private volatile boolean inOrder; // No HIGH priority lane: notifications are written in the order offered
+    private volatile boolean closed; // No more offers accepted
+    private volatile Status closeStatus; // Terminal signal: OK -> onCompleted, null -> none (cancelled), else onError
+    private volatile Metadata closeTrailers; // Sent with an error status, e.g. its status details; may be null
+    private boolean terminated; // Terminal signal delivered; only touched by the draining thread
+    private volatile int compressionMinBytes = -1; // Smallest message that is compressed; -1: stream not compressed
+    private volatile WireSizeTracer wireSize; // Bytes of the stream before and after compression; null if not traced
+    private volatile DispatchMetrics metrics; // Server-wide counters this queue reports to; null if none
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong conflated = new AtomicLong(); // Pending notifications replaced by a newer one
+    private final AtomicLong suppressed = new AtomicLong(); // Not written because nothing changed (delta mode)
+
+    protected OutboundQueue(ServerCallStreamObserver<?> observer, int capacity, OverflowPolicy overflowPolicy,
+                            boolean conflate, Executor drainExecutor) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Outbound queue capacity must be positive: " + capacity);
+        }
+        this.observer = observer;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.conflate = conflate;
+        this.drainExecutor = drainExecutor;
+        this.latestByKey = conflate ? new HashMap<>() : null;
+    }
+
+    /**
+     * Creates a queue that writes every notification as its own stream message (Subscribe).
+     */
+    static OutboundQueue forNotifications(ServerCallStreamObserver<EncodedNotification> observer, int capacity,
+                                          OverflowPolicy overflowPolicy, boolean conflate, Executor drainExecutor) {
+        return new OutboundQueue(observer, capacity, overflowPolicy, conflate, drainExecutor) {
+            @Override
+            protected boolean writeNext() {
+                EncodedNotification next = poll();
+                if (next == null) {
+                    return false;
+                }
+                beforeWrite(next.serializedSize());
+                observer.onNext(next);
+                countSent(next);
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Writes the next message built from queued notifications. Called by the draining thread, only while the
+     * stream is ready and the queue is open.
+     *
+     * @return false if nothing was written; the queue is drained again on the next offer, on-ready or {@link #drain()}.
+     */
+    protected abstract boolean writeNext();
+
+    /**
+     * Removes the oldest pending notification that still has something to send, or returns null if there is none.
+     */
+    protected final EncodedNotification poll() {
+        while (true) {
+            EncodedNotification next;
+            synchronized (queue) {
+                next = highPriority.poll();
+                if (next == null) {
+                    next = removeHead();
+                }
+                updateDepth();
+            }
+            if (next == null) {
+                return null;
+            }
+            EncodedNotification resolved = next.resolve(); // Outside the lock: may encode a delta
+            if (resolved != null) {
+                return resolved;
+            }
+            suppressed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Called by subclasses right before writing a message of the given serialized size.
+     */
+    protected final void beforeWrite(int messageBytes) {
+        int minBytes = compressionMinBytes;
+        if (minBytes >= 0) {
+            observer.setMessageCompression(messageBytes >= minBytes);
+        }
+    }
+
+    protected final int pendingCount() {
+        return depth;
+    }
+
+    /**
+     * Whether a HIGH priority notification is waiting; it should be written without waiting for more.
+     */
+    protected final boolean highPriorityPending() {
+        return highPriorityDepth > 0;
+    }
+
+    /**
+     * Called by subclasses once onNext has returned for a message carrying the notification.
+     */
+    protected final void countSent(EncodedNotification notification) {
+        sent.incrementAndGet();
+        DispatchMetrics dispatchMetrics = metrics;
+        if (dispatchMetrics != null) {
+            recordSent(dispatchMetrics, notification, System.nanoTime());
+        }
+    }
+
+    protected final void countSent(List<EncodedNotification> notifications) {
+        sent.addAndGet(notifications.size());
+        DispatchMetrics dispatchMetrics = metrics;
+        if (dispatchMetrics != null) {
+            long now = System.nanoTime(); // All of them were written by the same onNext
+            for (EncodedNotification notification : notifications) {
+                recordSent(dispatchMetrics, notification, now);
+            }
+        }
+    }
+
+    private static void recordSent(DispatchMetrics dispatchMetrics, EncodedNotification notification, long nowNanos) {
+        if (notification.highPriority) {
+            dispatchMetrics.highPriorityNotificationSent(notification.publishedNanos, nowNanos);
+        } else {
+            dispatchMetrics.notificationSent(notification.publishedNanos, nowNanos);
+        }
+    }
+
+    /**
+     * Queues a notification that is never conflated (e.g. a confirmation) and tries to write it right away.
+     */
+    boolean offer(EncodedNotification notification) {
+        return offer(notification, null);
+    }
+
+    /**
+     * Queues a notification and tries to write it right away.
+     *
+     * @param conflationKey identifies what the notification is the latest value of (the subscription, whose topic
+     *                      is fixed); in conflating mode a pending notification with the same key is replaced.
+     *                      Null means the notification is never conflated. A HIGH priority notification goes
+     *                      to its own lane and removes the pending notification of the key instead, unless
+     *                      the queue writes in order.
+     * @return false if the stream is closed, or was just closed because the queue overflowed under DISCONNECT.
+     */
+    boolean offer(EncodedNotification notification, Object conflationKey) {
+        if (closed) {
+            return false;
+        }
+        boolean overflowed = false;
+        synchronized (queue) {
+            Object key = conflate && conflationKey != null ? conflationKey : notification;
+            if (notification.highPriority && !inOrder) {
+                if (conflate && conflationKey != null && latestByKey.remove(key) != null) {
+                    // Linear in the pending keys, but HIGH priority events are rare
+                    queue.remove(key);
+                    conflated.incrementAndGet();
+                }
+                if (highPriority.size() >= capacity) {
+                    overflowed = overflow(key, notification);
+                } else {
+                    highPriority.offer(notification);
+                }
+            } else if (notification.highPriority) {
+                // In line, so never conflated: key is the notification itself
+                if (queue.size() >= capacity) {
+                    overflowed = overflow(notification, notification);
+                } else {
+                    append(notification, notification);
+                }
+            } else if (conflate && latestByKey.containsKey(key)) {
+                latestByKey.put(key, notification); // Keeps the key's position in the queue
+                conflated.incrementAndGet();
+            } else if (queue.size() >= capacity) {
+                overflowed = overflow(key, notification);
+            } else {
+                append(key, notification);
+            }
+            updateDepth();
+        }
+        if (overflowed) {
+            close(Status.RESOURCE_EXHAUSTED.withDescription(
+                    "Subscriber is too slow: outbound queue exceeded " + capacity + " notifications"));
+            return false;
+        }
+        drain();
+        return true;
+    }
+
+    // The helpers below are called with the queue lock held
+
+    // Applies the overflow policy to the full lane of the notification; returns true if the stream must be closed
+    private boolean overflow(Object key, EncodedNotification notification) {
+        boolean disconnect = false;
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                if (notification.highPriority && !inOrder) {
+                    highPriority.poll();
+                    highPriority.offer(notification);
+                } else {
+                    removeHead();
+                    append(key, notification);
+                }
+                break;
+            case DROP_NEWEST:
+                break;
+            case DISCONNECT:
+            default:
+                disconnect = true;
+                break;
+        }
+        dropped.incrementAndGet();
+        DispatchMetrics dispatchMetrics = metrics;
+        if (dispatchMetrics != null) {
+            dispatchMetrics.notificationDropped();
+        }
+        return disconnect;
+    }
+
+    private void updateDepth() {
+        highPriorityDepth = highPriority.size() + highPriorityInLine;
+        depth = queue.size() + highPriority.size();
+    }
+
+    private void append(Object key, EncodedNotification notification) {
+        queue.offer(key);
+        if (notification.highPriority) {
+            highPriorityInLine++;
+        }
+        if (conflate) {
+            latestByKey.put(key, notification);
+        }
+    }
+
+    private EncodedNotification removeHead() {
+        Object key = queue.poll();
+        if (key == null) {
+            return null;
+        }
+        EncodedNotification head = conflate ? latestByKey.remove(key) : (EncodedNotification) key;
+        if (head != null && head.highPriority) {
+            highPriorityInLine--;
+        }
+        return head;
+    }
+
+    /**
+     * Closes the stream: pending notifications are discarded and onCompleted (OK) or onError is delivered
+     * by the draining thread. Subsequent offers are rejected.
+     */
+    void close(Status status) {
+        close(status, null);
+    }
+
+    /**
+     * Closes the stream with an error status and the trailers to send with it.
+     */
+    void close(Status status, Metadata trailers) {
+        synchronized (queue) {
+            if (closed) {
+                return;
+            }
+            closeTrailers = trailers;
+            closeStatus = status;
+            closed = true;
+        }
+        drain();
+    }
+
+    /**
+     * The client cancelled the call: pending notifications are discarded and no terminal signal is sent.
+     */
+    void abandon() {
+        close(null);
+    }
+
+    /**
+     * Writes queued notifications while the stream is ready. Called after every offer and from the on-ready handler.
+     */
+    void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return; // Another thread is draining and will loop again
+        }
+        if (drainExecutor == null) {
+            runDrain();
+            return;
+        }
+        try {
+            drainExecutor.execute(this::runOffloadedDrain);
+        } catch (RejectedExecutionException e) {
+            closed = true;
+            terminated = true;
+            wip.set(0);
+            throw e;
+        }
+    }
+
+    private void runOffloadedDrain() {
+        try {
+            runDrain();
+        } catch (RuntimeException e) {
+            // The queue is closed now; the dispatcher drops the subscription on its next offer
+            logger.log(Level.WARNING, "Failed to write to subscriber stream, closing its outbound queue", e);
+        }
+    }
+
+    private void runDrain() {
+        int missed = 1;
+        do {
+            if (!terminated) {
+                try {
+                    drainLoop();
+                } catch (RuntimeException e) {
+                    // The observer failed (e.g. the transport is gone); nothing more can be written to it
+                    closed = true;
+                    terminated = true;
+                    wip.set(0);
+                    throw e;
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void drainLoop() {
+        while (true) {
+            if (closed) {
+                synchronized (queue) {
+                    queue.clear();
+                    if (conflate) {
+                        latestByKey.clear();
+                    }
+                    highPriority.clear();
+                    highPriorityInLine = 0;
+                    updateDepth();
+                }
+                terminated = true;
+                Status status = closeStatus;
+                if (status == null) {
+                    return; // Cancelled by the client, the call is already gone
+                }
+                if (status.isOk()) {
+                    observer.onCompleted();
+                } else {
+                    observer.onError(status.asRuntimeException(closeTrailers));
+                }
+                return;
+            }
+            if (!observer.isReady()) {
+                return; // Resumed by the on-ready handler
+            }
+            if (!writeNext()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Compresses messages of at least minBytes from now on; the stream's encoding must already be set on the call.
+     */
+    void compressMessagesFrom(int minBytes) {
+        compressionMinBytes = minBytes;
+    }
+
+    void traceWireSize(WireSizeTracer tracer) {
+        wireSize = tracer;
+    }
+
+    /**
+     * Writes HIGH priority notifications in line with the routine ones, e.g. for a consumer that tells repeats
+     * apart by sequence; they still close a batching window at once. Must be called before the first offer.
+     */
+    void writeInOrder() {
+        inOrder = true;
+    }
+
+    void reportTo(DispatchMetrics dispatchMetrics) {
+        metrics = dispatchMetrics;
+    }
+
+    /**
+     * How long the oldest pending live notification has been waiting since its event was published, in
+     * nanoseconds; 0 if nothing is pending. Takes the queue lock, so it is meant for occasional monitoring.
+     */
+    long oldestPendingNanos() {
+        EncodedNotification head;
+        EncodedNotification highPriorityHead;
+        synchronized (queue) {
+            Object key = queue.peek();
+            head = key == null ? null : conflate ? latestByKey.get(key) : (EncodedNotification) key;
+            highPriorityHead = highPriority.peek();
+        }
+        return Math.max(waitingNanos(head), waitingNanos(highPriorityHead));
+    }
+
+    private static long waitingNanos(EncodedNotification notification) {
+        return notification == null || notification.publishedNanos == 0 ? 0 : System.nanoTime() - notification.publishedNanos;
+    }
+
+    /**
+     * Serialized size of the messages written so far, before compression; -1 if the stream is not traced.
+     */
+    long uncompressedBytes() {
+        WireSizeTracer tracer = wireSize;
+        return tracer != null ? tracer.uncompressedBytes() : -1;
+    }
+
+    /**
+     * Size of the messages written so far as sent, i.e. compressed where they were; -1 if the stream is not traced.
+     */
+    long wireBytes() {
+        WireSizeTracer tracer = wireSize;
+        return tracer != null ? tracer.wireBytes() : -1;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    int depth() {
+        return depth;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    long sentCount() {
+        return sent.get();
+    }
+
+    long droppedCount() {
+        return dropped.get();
+    }
+
+    long conflatedCount() {
+        return conflated.get();
+    }
+
+    long suppressedCount() {
+        return suppressed.get();
+    }
+
+    boolean isConflating() {
+        return conflate;
+    }
+}
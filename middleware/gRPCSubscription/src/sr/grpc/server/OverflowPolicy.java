@@ -0,0 +1,13 @@
+package sr.grpc.server;
+
+/**
+ * What an {@link OutboundQueue} does when a notification arrives and the queue is already full.
+ */
+public enum OverflowPolicy {
+    /** Evict the oldest queued notification to make room for the new one. */
+    DROP_OLDEST,
+    /** Discard the incoming notification and keep what is already queued. */
+    DROP_NEWEST,
+    /** Close the subscription stream with RESOURCE_EXHAUSTED. */
+    DISCONNECT
+}
@@ -0,0 +1,219 @@
+package sr.grpc.server;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs fan-out tasks on a fixed set of single-threaded partitions chosen by key hash.
+ * <p>
+ * All tasks submitted with equal keys (e.g. the same city topic) run on the same thread in submission order,
+ * so per-topic ordering is preserved while different topics are dispatched in parallel. Each partition has a
+ * bounded queue; when it is full {@link #execute} blocks, which pushes back on the event producer instead of
+ * letting undelivered events pile up on the heap.
+ * <p>
+ * HIGH priority tasks go to a second queue per partition, which the partition's thread empties before it takes
+ * the next routine task: a storm warning waits for the task running and the routine tasks of its own key submitted
+ * before it, which run first in their order, but not for the backlog of the other keys of its partition. So the
+ * tasks of one key still run in submission order, and a topic's events are numbered in the order published.
+ */
+class PartitionedDispatcher {
+
+    private static final Logger logger = Logger.getLogger(PartitionedDispatcher.class.getName());
+
+    private static final Object POISON = new Object(); // Tells a partition thread to exit once its queue is drained
+    private static final Object WAKE = new Object(); // Wakes a partition thread waiting for routine tasks
+
+    private final Partition[] partitions;
+    private volatile boolean shutdown;
+
+    PartitionedDispatcher(String name, int threads, int queueCapacity) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Dispatcher needs at least one thread: " + threads);
+        }
+        this.partitions = new Partition[threads];
+        for (int i = 0; i < threads; i++) {
+            partitions[i] = new Partition(name + "-" + i, queueCapacity);
+            partitions[i].thread.start();
+        }
+    }
+
+    /**
+     * Queues a task on the partition owning the key. Blocks while that partition's queue is full.
+     *
+     * @throws RejectedExecutionException if the dispatcher is shut down or the caller is interrupted while waiting.
+     */
+    void execute(Object key, Runnable task) {
+        execute(key, task, false);
+    }
+
+    /**
+     * Queues a task on the partition owning the key, ahead of the partition's routine tasks if highPriority.
+     * Blocks while the queue it goes to is full.
+     *
+     * @throws RejectedExecutionException if the dispatcher is shut down or the caller is interrupted while waiting.
+     */
+    void execute(Object key, Runnable task, boolean highPriority) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Dispatcher is shut down");
+        }
+        Partition partition = partitionFor(key);
+        KeyedTask keyed = new KeyedTask(key, task, partition.submitted.incrementAndGet());
+        try {
+            if (highPriority) {
+                partition.highPriority.put(keyed);
+                // A thread blocked on an empty routine queue would not see it; a full one is not blocked
+                partition.queue.offer(WAKE);
+            } else {
+                partition.queue.put(keyed);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for dispatcher queue space", e);
+        }
+    }
+
+    int partitionCount() {
+        return partitions.length;
+    }
+
+    int partitionOf(Object key) {
+        int h = key.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), partitions.length);
+    }
+
+    int queuedTasks() {
+        int total = 0;
+        for (Partition partition : partitions) {
+            total += partition.queue.size() + partition.highPriority.size();
+        }
+        return total;
+    }
+
+    private Partition partitionFor(Object key) {
+        return partitions[partitionOf(key)];
+    }
+
+    /**
+     * Stops accepting tasks; tasks already queued still run.
+     */
+    void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        for (Partition partition : partitions) {
+            try {
+                partition.queue.put(POISON);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                partition.thread.interrupt();
+            }
+        }
+    }
+
+    void shutdownNow() {
+        shutdown = true;
+        for (Partition partition : partitions) {
+            partition.queue.clear();
+            partition.highPriority.clear();
+            partition.thread.interrupt();
+        }
+    }
+
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Partition partition : partitions) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis > 0) {
+                partition.thread.join(remainingMillis);
+            }
+            if (partition.thread.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // A task with the key it was submitted under and its place among the partition's submissions
+    private static final class KeyedTask {
+        final Object key;
+        final Runnable task;
+        final long submission;
+        boolean done; // Run ahead of its turn, for a HIGH priority task of its key; only used by the partition thread
+
+        KeyedTask(Object key, Runnable task, long submission) {
+            this.key = key;
+            this.task = task;
+            this.submission = submission;
+        }
+    }
+
+    private static final class Partition implements Runnable {
+        final BlockingQueue<Object> queue; // KeyedTask, POISON or WAKE
+        final BlockingQueue<KeyedTask> highPriority;
+        final AtomicLong submitted = new AtomicLong(); // Tasks submitted so far, routine and HIGH
+        final Thread thread;
+
+        Partition(String threadName, int queueCapacity) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.highPriority = new ArrayBlockingQueue<>(queueCapacity);
+            this.thread = new Thread(this, threadName);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                KeyedTask urgent = highPriority.poll();
+                if (urgent != null) {
+                    runHighPriority(urgent);
+                    continue;
+                }
+                Object task;
+                try {
+                    task = queue.take();
+                } catch (InterruptedException e) {
+                    return; // shutdownNow()
+                }
+                if (task == POISON) {
+                    // A HIGH priority task may have been queued after the POISON, as shutdown() raced with it
+                    while ((urgent = highPriority.poll()) != null) {
+                        runHighPriority(urgent);
+                    }
+                    return;
+                }
+                if (task != WAKE && !((KeyedTask) task).done) {
+                    runTask((KeyedTask) task);
+                }
+            }
+        }
+
+        // Runs the routine tasks of the same key submitted before it first, so that the key's order is kept
+        private void runHighPriority(KeyedTask urgent) {
+            for (Object queued : queue) { // Weakly consistent, but sees every task put before the HIGH one was submitted
+                if (queued instanceof KeyedTask) {
+                    KeyedTask earlier = (KeyedTask) queued;
+                    if (earlier.submission < urgent.submission && !earlier.done && earlier.key.equals(urgent.key)) {
+                        earlier.done = true;
+                        runTask(earlier);
+                    }
+                }
+            }
+            runTask(urgent);
+        }
+
+        private void runTask(KeyedTask keyed) {
+            try {
+                keyed.task.run();
+            } catch (RuntimeException e) {
+                // Keep the partition alive; one failed event must not stop delivery for its other topics
+                logger.log(Level.SEVERE, "Dispatch task failed on " + thread.getName(), e);
+            }
+        }
+    }
+}
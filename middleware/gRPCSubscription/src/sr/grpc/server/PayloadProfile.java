@@ -0,0 +1,19 @@
+package sr.grpc.server;
+
+/**
+ * Size class of the weather updates made by {@link SyntheticEventSource}: how many forecast days and how much
+ * description text they carry. Encoded sizes are approximate and exclude the notification's own fields.
+ */
+public enum PayloadProfile {
+    MINIMAL(0, 0),     // Current conditions only, about 60 bytes
+    STANDARD(3, 80),   // Three forecast days and a sentence, about 300 bytes, like the demo source
+    LARGE(10, 1000);   // Ten forecast days and a long description, about 1.8 KB
+
+    final int forecastDays;
+    final int descriptionChars;
+
+    PayloadProfile(int forecastDays, int descriptionChars) {
+        this.forecastDays = forecastDays;
+        this.descriptionChars = descriptionChars;
+    }
+}
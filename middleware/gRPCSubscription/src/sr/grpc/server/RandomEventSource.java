@@ -0,0 +1,158 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.*;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Demo source: a random weather update for one of five cities every period, and now and then a news flash.
+ */
+public class RandomEventSource implements EventSource {
+
+    private static final Logger logger = Logger.getLogger(RandomEventSource.class.getName());
+
+    private final ScheduledExecutorService scheduler;
+    private final long initialDelay;
+    private final long period;
+    private final TimeUnit unit;
+    private final SplittableRandom random = new SplittableRandom(); // Only used by the scheduler's thread
+    private final NotificationIds weatherIds = new NotificationIds("WEATHER");
+    private final NotificationIds newsIds = new NotificationIds("NEWS");
+    private static final String[] CITIES = {"Kraków", "Warszawa", "Gdańsk", "Wrocław", "Poznań"};
+    // Region of each city, for subscriptions to paths such as "PL/*/W*"
+    private static final String[] CITY_REGIONS = {
+            "PL/malopolskie", "PL/mazowieckie", "PL/pomorskie", "PL/dolnoslaskie", "PL/wielkopolskie"};
+    // Latitude and longitude of each city, for subscriptions to a circle
+    private static final double[][] CITY_LOCATIONS = {
+            {50.0647, 19.9450}, {52.2297, 21.0122}, {54.3520, 18.6466}, {51.1079, 17.0385}, {52.4064, 16.9252}};
+    // The values of WeatherCondition that can be drawn, i.e. without CONDITION_UNSPECIFIED and UNRECOGNIZED
+    private static final WeatherCondition[] CONDITIONS = {
+            WeatherCondition.SUNNY, WeatherCondition.CLOUDY, WeatherCondition.RAINY, WeatherCondition.SNOWY,
+            WeatherCondition.STORMY};
+    private static final int FORECAST_DAYS = 3;
+    private static final String[] FORECAST_DAY_DESCRIPTIONS = {"Dzień +1", "Dzień +2", "Dzień +3"};
+    private static final String[] FORECAST_SUMMARIES = {
+            "Losowa prognoza na dzień 1", "Losowa prognoza na dzień 2", "Losowa prognoza na dzień 3"};
+    private ScheduledFuture<?> generation;
+
+    public RandomEventSource(ScheduledExecutorService scheduler, long initialDelay, long period, TimeUnit unit) {
+        this.scheduler = scheduler;
+        this.initialDelay = initialDelay;
+        this.period = period;
+        this.unit = unit;
+    }
+
+    @Override
+    public synchronized void start(Consumer<EventNotification> sink) {
+        if (generation != null) {
+            throw new IllegalStateException("Event generation already started");
+        }
+        generation = scheduler.scheduleAtFixedRate(() -> generateAndSendNotifications(sink), initialDelay, period, unit);
+        logger.info("Event generation scheduled: initialDelay=" + initialDelay + ", period=" + period + " " + unit.name());
+    }
+
+    @Override
+    public synchronized void close() {
+        if (generation != null) {
+            generation.cancel(false);
+        }
+    }
+
+    // Main logic for generating and distributing notifications
+    private void generateAndSendNotifications(Consumer<EventNotification> sink) {
+        // Simulate generating one type of event
+        // In a real app, you might have multiple generators or sources
+        try {
+            generateAndSendWeatherUpdates(sink);
+            if (random.nextInt(3) == 0) {
+                generateAndSendNewsFlash(sink); // News are rarer than weather updates
+            }
+            // generateAndSendConcertAlerts(); // etc.
+        } catch (Exception e) {
+            // Catch unexpected errors in generation logic
+            logger.log(Level.SEVERE, "Error during event generation cycle", e);
+        }
+    }
+
+    private void generateAndSendWeatherUpdates(Consumer<EventNotification> sink) {
+        // --- Generate a sample WeatherUpdate event ---
+        int c = random.nextInt(CITIES.length);
+        WeatherUpdate weatherUpdate = generateRandomWeatherUpdate(CITIES[c]).toBuilder()
+                .setRegion(CITY_REGIONS[c])
+                .setLocation(GeoPoint.newBuilder().setLatitude(CITY_LOCATIONS[c][0]).setLongitude(CITY_LOCATIONS[c][1]))
+                .build();
+
+        long now = EventClock.epochNanos();
+        EventNotification notification = EventNotification.newBuilder()
+                .setNotificationId(weatherIds.next())
+                .setTimestampUnixSeconds(EventClock.toEpochSeconds(now))
+                .setTimestampUnixNanos(now)
+                .setEventType(EventType.WEATHER_UPDATE)
+                .setWeatherUpdate(weatherUpdate)
+                // client_subscription_id is spliced in per subscriber by the service
+                .build();
+
+        sink.accept(notification);
+    }
+
+    private void generateAndSendNewsFlash(Consumer<EventNotification> sink) {
+        // --- Generate a sample NewsFlash event ---
+        String[][] articles = {
+                {"Burza nad Krakowem", "Silny wiatr i ulewa paraliżują komunikację miejską.", "burza", "pogoda"},
+                {"Powódź w Gdańsku", "Służby ostrzegają przed podtopieniami w dzielnicach nadmorskich.", "powódź", "alert"},
+                {"Nowy stadion we Wrocławiu", "Miasto ogłosiło przetarg na budowę stadionu.", "sport", "inwestycje"},
+                {"Koncert w Poznaniu", "Festiwal muzyczny przyciągnął tysiące fanów.", "koncert", "muzyka"}
+        };
+        String[] article = articles[random.nextInt(articles.length)];
+        NewsFlash newsFlash = NewsFlash.newBuilder()
+                .setHeadline(article[0])
+                .setSummary(article[1])
+                .addRelatedKeywords(article[2])
+                .addRelatedKeywords(article[3])
+                .setSource("Serwis demonstracyjny")
+                .setPublicationDateUnixSeconds(Instant.now().getEpochSecond())
+                .build();
+
+        long now = EventClock.epochNanos();
+        sink.accept(EventNotification.newBuilder()
+                .setNotificationId(newsIds.next())
+                .setTimestampUnixSeconds(EventClock.toEpochSeconds(now))
+                .setTimestampUnixNanos(now)
+                .setEventType(EventType.NEWS_FLASH)
+                .setNewsFlash(newsFlash)
+                .build());
+    }
+
+    // Package-private for EventGenerationBenchmark
+    WeatherUpdate generateRandomWeatherUpdate(String city) {
+        DailyForecast[] forecast = new DailyForecast[FORECAST_DAYS];
+        for (int i = 0; i < FORECAST_DAYS; i++) {
+            forecast[i] = DailyForecast.newBuilder()
+                    .setDayDescription(FORECAST_DAY_DESCRIPTIONS[i])
+                    .setMaxTemperatureCelsius(random.nextDouble() * 15 + 10) // 10 to 25 C
+                    .setMinTemperatureCelsius(random.nextDouble() * 10 + 5)  // 5 to 15 C
+                    .setCondition(CONDITIONS[random.nextInt(CONDITIONS.length)])
+                    .setSummary(FORECAST_SUMMARIES[i])
+                    .build();
+        }
+
+        return WeatherUpdate.newBuilder()
+                .setCity(city)
+                .setCurrentTemperatureCelsius(random.nextDouble() * 10 + 15) // 15 to 25 C
+                .setHumidityPercent(random.nextDouble() * 50 + 30)       // 30 to 80%
+                .setWindSpeedKph(random.nextInt(30))                 // 0 to 29 kph
+                .setCurrentCondition(CONDITIONS[random.nextInt(CONDITIONS.length)])
+                // The time of the update is in the notification's timestamps
+                .setDetailedDescription("Losowe szczegóły pogodowe dla " + city)
+                .addAllForecast(Arrays.asList(forecast))
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package sr.grpc.server;
+
+import java.util.Locale;
+
+/**
+ * How fast {@link FileReplayEventSource} replays a recording: with the recorded timing (optionally sped up),
+ * at a fixed number of events per second, or as fast as the dispatcher accepts them.
+ */
+public final class ReplayRate {
+
+    public enum Mode {
+        ORIGINAL, // Gaps between recorded timestamps, divided by the speed-up
+        FIXED, // Evenly spaced events
+        AS_FAST_AS_POSSIBLE // Only slowed down by dispatcher back-pressure
+    }
+
+    private final Mode mode;
+    private final double value; // Speed-up for ORIGINAL, events per second for FIXED
+
+    private ReplayRate(Mode mode, double value) {
+        if (mode != Mode.AS_FAST_AS_POSSIBLE && !(value > 0)) {
+            throw new IllegalArgumentException(mode + " replay rate must be positive: " + value);
+        }
+        this.mode = mode;
+        this.value = value;
+    }
+
+    /**
+     * Recorded timing; a speed-up of 10 replays an hour of traffic in six minutes.
+     */
+    public static ReplayRate original(double speedUp) {
+        return new ReplayRate(Mode.ORIGINAL, speedUp);
+    }
+
+    public static ReplayRate fixed(double eventsPerSecond) {
+        return new ReplayRate(Mode.FIXED, eventsPerSecond);
+    }
+
+    public static ReplayRate asFastAsPossible() {
+        return new ReplayRate(Mode.AS_FAST_AS_POSSIBLE, 0);
+    }
+
+    /**
+     * Parses {@code original}, {@code original:<speed-up>}, {@code fixed:<events per second>} or {@code max}.
+     */
+    public static ReplayRate parse(String spec) {
+        String[] parts = spec.trim().toLowerCase(Locale.ROOT).split(":", 2);
+        switch (parts[0]) {
+            case "original":
+                return original(parts.length > 1 ? Double.parseDouble(parts[1]) : 1);
+            case "fixed":
+                if (parts.length < 2) {
+                    throw new IllegalArgumentException("fixed replay rate needs events per second, e.g. fixed:500");
+                }
+                return fixed(Double.parseDouble(parts[1]));
+            case "max":
+                return asFastAsPossible();
+            default:
+                throw new IllegalArgumentException("Unknown replay rate: " + spec);
+        }
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    /**
+     * Nanoseconds after the start of the replay at which an event is due.
+     *
+     * @param index          position of the event in the recording
+     * @param recordedOffset nanoseconds between the first recorded event and this one
+     */
+    long dueOffsetNanos(long index, long recordedOffset) {
+        switch (mode) {
+            case ORIGINAL:
+                return (long) (recordedOffset / value);
+            case FIXED:
+                return (long) (index * 1e9 / value);
+            case AS_FAST_AS_POSSIBLE:
+            default:
+                return 0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        switch (mode) {
+            case ORIGINAL:
+                return "original x" + value;
+            case FIXED:
+                return value + " events/s";
+            case AS_FAST_AS_POSSIBLE:
+            default:
+                return "as fast as possible";
+        }
+    }
+}
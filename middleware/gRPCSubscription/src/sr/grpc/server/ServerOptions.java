@@ -0,0 +1,443 @@
+package sr.grpc.server;
+
+import io.grpc.Codec;
+import sr.grpc.codec.DeflateCodec;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tuning knobs of {@link WeatherEventSubscriptionServer} and {@link WeatherEventSubscriptionService}.
+ * Create with {@link #builder()}; every setting has a default suitable for the demo.
+ */
+public final class ServerOptions {
+
+    private final int port;
+    private final int threadPoolSize;
+    private final long keepAliveSeconds;
+    private final ExecutionMode executionMode;
+    private final boolean virtualThreadDelivery;
+    private final int dispatcherThreads;
+    private final int outboundQueueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final int sessionQueueCapacity;
+    private final int batchMaxSize;
+    private final long batchMaxDelayMillis;
+    private final long highPriorityObjectiveMillis;
+    private final Path replayFile;
+    private final ReplayRate replayRate;
+    private final EventSource eventSource;
+    private final Path journalDirectory;
+    private final int journalSegmentBytes;
+    private final long journalRetentionBytes;
+    private final long journalRetentionSeconds;
+    private final List<Codec> compressionCodecs;
+    private final int compressionMinBytes;
+    private final String clusterAddress;
+    private final List<String> clusterSeeds;
+    private final ClusterRouting clusterRouting;
+    private final String federationUpstream;
+    private final int federationQueueCapacity;
+
+    private ServerOptions(Builder builder) {
+        this.port = builder.port;
+        this.threadPoolSize = builder.threadPoolSize;
+        this.keepAliveSeconds = builder.keepAliveSeconds;
+        this.executionMode = builder.executionMode;
+        this.virtualThreadDelivery = builder.virtualThreadDelivery;
+        this.dispatcherThreads = builder.dispatcherThreads;
+        this.outboundQueueCapacity = builder.outboundQueueCapacity;
+        this.overflowPolicy = builder.overflowPolicy;
+        this.sessionQueueCapacity = builder.sessionQueueCapacity;
+        this.batchMaxSize = builder.batchMaxSize;
+        this.batchMaxDelayMillis = builder.batchMaxDelayMillis;
+        this.highPriorityObjectiveMillis = builder.highPriorityObjectiveMillis;
+        this.replayFile = builder.replayFile;
+        this.replayRate = builder.replayRate;
+        this.eventSource = builder.eventSource;
+        this.journalDirectory = builder.journalDirectory;
+        this.journalSegmentBytes = builder.journalSegmentBytes;
+        this.journalRetentionBytes = builder.journalRetentionBytes;
+        this.journalRetentionSeconds = builder.journalRetentionSeconds;
+        this.compressionCodecs = List.copyOf(builder.compressionCodecs);
+        this.compressionMinBytes = builder.compressionMinBytes;
+        this.clusterAddress = builder.clusterAddress;
+        this.clusterSeeds = List.copyOf(builder.clusterSeeds);
+        this.clusterRouting = builder.clusterRouting;
+        this.federationUpstream = builder.federationUpstream;
+        this.federationQueueCapacity = builder.federationQueueCapacity;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static ServerOptions defaults() {
+        return builder().build();
+    }
+
+    public int port() {
+        return port;
+    }
+
+    public int threadPoolSize() {
+        return threadPoolSize;
+    }
+
+    public long keepAliveSeconds() {
+        return keepAliveSeconds;
+    }
+
+    public ExecutionMode executionMode() {
+        return executionMode;
+    }
+
+    public boolean virtualThreadDelivery() {
+        return virtualThreadDelivery;
+    }
+
+    public int dispatcherThreads() {
+        return dispatcherThreads;
+    }
+
+    public int outboundQueueCapacity() {
+        return outboundQueueCapacity;
+    }
+
+    public OverflowPolicy overflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public int sessionQueueCapacity() {
+        return sessionQueueCapacity;
+    }
+
+    public int batchMaxSize() {
+        return batchMaxSize;
+    }
+
+    public long batchMaxDelayMillis() {
+        return batchMaxDelayMillis;
+    }
+
+    /**
+     * Latency objective of HIGH priority notifications, from publishing the event until it is written to a
+     * subscriber stream; the stats report how many were written within it.
+     */
+    public long highPriorityObjectiveMillis() {
+        return highPriorityObjectiveMillis;
+    }
+
+    /**
+     * Recording replayed instead of the random demo events, or null.
+     */
+    public Path replayFile() {
+        return replayFile;
+    }
+
+    public ReplayRate replayRate() {
+        return replayRate;
+    }
+
+    /**
+     * Source the server publishes instead of the random demo events or a recording, or null.
+     */
+    public EventSource eventSource() {
+        return eventSource;
+    }
+
+    /**
+     * Directory of the event journal that resuming subscribers are replayed from, or null if there is none.
+     */
+    public Path journalDirectory() {
+        return journalDirectory;
+    }
+
+    public int journalSegmentBytes() {
+        return journalSegmentBytes;
+    }
+
+    public long journalRetentionBytes() {
+        return journalRetentionBytes;
+    }
+
+    public long journalRetentionSeconds() {
+        return journalRetentionSeconds;
+    }
+
+    /**
+     * Message encodings offered in addition to identity and gzip; subscriptions ask for one by name.
+     */
+    public List<Codec> compressionCodecs() {
+        return compressionCodecs;
+    }
+
+    public int compressionMinBytes() {
+        return compressionMinBytes;
+    }
+
+    /**
+     * host:port under which the other nodes and clients reach this server in cluster mode, or null if it runs alone.
+     */
+    public String clusterAddress() {
+        return clusterAddress;
+    }
+
+    /**
+     * Nodes asked to let this one join the cluster, tried in order until one answers.
+     */
+    public List<String> clusterSeeds() {
+        return clusterSeeds;
+    }
+
+    public ClusterRouting clusterRouting() {
+        return clusterRouting;
+    }
+
+    /**
+     * host:port of the server this one takes its events from as a federation edge, or null if it produces its own.
+     */
+    public String federationUpstream() {
+        return federationUpstream;
+    }
+
+    /**
+     * Bound of the queue in front of each edge server's Federate stream, shared by all topics of the edge.
+     */
+    public int federationQueueCapacity() {
+        return federationQueueCapacity;
+    }
+
+    @Override
+    public String toString() {
+        return "port=" + port + ", executionMode=" + executionMode + ", threadPoolSize=" + threadPoolSize
+                + ", keepAlive=" + keepAliveSeconds + "s, virtualThreadDelivery=" + virtualThreadDelivery
+                + ", dispatcherThreads=" + dispatcherThreads + ", outboundQueueCapacity=" + outboundQueueCapacity
+                + ", overflowPolicy=" + overflowPolicy + ", sessionQueueCapacity=" + sessionQueueCapacity
+                + ", batchMaxSize=" + batchMaxSize
+                + ", batchMaxDelay=" + batchMaxDelayMillis + "ms"
+                + ", highPriorityObjective=" + highPriorityObjectiveMillis + "ms"
+                + (eventSource != null ? ", eventSource=" + eventSource
+                : replayFile != null ? ", replay=" + replayFile + " at " + replayRate : "")
+                + (journalDirectory != null ? ", journal=" + journalDirectory + " (segments of " + journalSegmentBytes
+                + " bytes, retention " + journalRetentionBytes + " bytes / " + journalRetentionSeconds + "s)" : "")
+                + ", compressionCodecs=" + compressionCodecs.stream().map(Codec::getMessageEncoding).collect(Collectors.toList())
+                + ", compressionMinBytes=" + compressionMinBytes
+                + (clusterAddress != null ? ", cluster=" + clusterAddress + " (seeds " + clusterSeeds + ", " + clusterRouting + ")" : "")
+                + (federationUpstream != null ? ", upstream=" + federationUpstream : "")
+                + ", federationQueueCapacity=" + federationQueueCapacity;
+    }
+
+    public static final class Builder {
+        private int port = 50051;
+        private int threadPoolSize = 10; // Threads handling gRPC calls in FIXED_POOL mode
+        private long keepAliveSeconds = 60; // Send keep-alive pings every 60 seconds
+        private ExecutionMode executionMode = ExecutionMode.FIXED_POOL;
+        private boolean virtualThreadDelivery = false; // Drain subscriber queues on virtual threads instead of the dispatcher
+        private int dispatcherThreads = Runtime.getRuntime().availableProcessors(); // Fan-out threads, partitioned by city
+        private int outboundQueueCapacity = 256; // Notifications buffered per subscription while its stream is not ready
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST; // What to do when that buffer is full
+        private int sessionQueueCapacity = 4096; // Notifications buffered per SubscriptionSession, across its subscriptions
+        private int batchMaxSize = 64; // SubscribeBatched: notifications per batch at most
+        private long batchMaxDelayMillis = 5; // SubscribeBatched: how long a notification may wait for its batch to fill
+        private long highPriorityObjectiveMillis = 50; // HIGH priority notifications should be written within this
+        private Path replayFile = null; // Events come from the random demo generator unless a recording is given
+        private ReplayRate replayRate = ReplayRate.original(1);
+        private EventSource eventSource = null; // Takes precedence over replayFile, e.g. a load generator
+        private Path journalDirectory = null; // No journal: notifications are gone once sent, resuming is rejected
+        private int journalSegmentBytes = 64 * 1024 * 1024; // Size of each memory-mapped journal file
+        private long journalRetentionBytes = 1024L * 1024 * 1024; // Oldest journal files are deleted beyond this total
+        private long journalRetentionSeconds = 24 * 60 * 60; // Journal files are deleted once their last event is older
+        private List<Codec> compressionCodecs = List.of(new DeflateCodec()); // Besides identity and gzip
+        private int compressionMinBytes = 256; // Smaller messages are sent uncompressed on compressed streams
+        private String clusterAddress = null; // Runs alone, owning every target
+        private List<String> clusterSeeds = List.of(); // None: starts a new cluster that others join
+        private ClusterRouting clusterRouting = ClusterRouting.REDIRECT; // Subscribe on a node not owning its target
+        private String federationUpstream = null; // Events come from this server's own sources
+        private int federationQueueCapacity = 4096; // Notifications buffered per edge server
+
+        private Builder() {
+        }
+
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        public Builder threadPoolSize(int threadPoolSize) {
+            this.threadPoolSize = threadPoolSize;
+            return this;
+        }
+
+        public Builder keepAliveSeconds(long keepAliveSeconds) {
+            this.keepAliveSeconds = keepAliveSeconds;
+            return this;
+        }
+
+        public Builder executionMode(ExecutionMode executionMode) {
+            this.executionMode = executionMode;
+            return this;
+        }
+
+        public Builder virtualThreadDelivery(boolean virtualThreadDelivery) {
+            this.virtualThreadDelivery = virtualThreadDelivery;
+            return this;
+        }
+
+        public Builder dispatcherThreads(int dispatcherThreads) {
+            this.dispatcherThreads = dispatcherThreads;
+            return this;
+        }
+
+        public Builder outboundQueueCapacity(int outboundQueueCapacity) {
+            this.outboundQueueCapacity = outboundQueueCapacity;
+            return this;
+        }
+
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        public Builder sessionQueueCapacity(int sessionQueueCapacity) {
+            this.sessionQueueCapacity = sessionQueueCapacity;
+            return this;
+        }
+
+        public Builder batchMaxSize(int batchMaxSize) {
+            this.batchMaxSize = batchMaxSize;
+            return this;
+        }
+
+        public Builder batchMaxDelayMillis(long batchMaxDelayMillis) {
+            this.batchMaxDelayMillis = batchMaxDelayMillis;
+            return this;
+        }
+
+        public Builder highPriorityObjectiveMillis(long highPriorityObjectiveMillis) {
+            this.highPriorityObjectiveMillis = highPriorityObjectiveMillis;
+            return this;
+        }
+
+        public Builder replayFile(Path replayFile) {
+            this.replayFile = replayFile;
+            return this;
+        }
+
+        public Builder eventSource(EventSource eventSource) {
+            this.eventSource = eventSource;
+            return this;
+        }
+
+        public Builder replayRate(ReplayRate replayRate) {
+            this.replayRate = replayRate;
+            return this;
+        }
+
+        public Builder journalDirectory(Path journalDirectory) {
+            this.journalDirectory = journalDirectory;
+            return this;
+        }
+
+        public Builder journalSegmentBytes(int journalSegmentBytes) {
+            this.journalSegmentBytes = journalSegmentBytes;
+            return this;
+        }
+
+        public Builder journalRetentionBytes(long journalRetentionBytes) {
+            this.journalRetentionBytes = journalRetentionBytes;
+            return this;
+        }
+
+        public Builder journalRetentionSeconds(long journalRetentionSeconds) {
+            this.journalRetentionSeconds = journalRetentionSeconds;
+            return this;
+        }
+
+        public Builder compressionCodecs(List<Codec> compressionCodecs) {
+            this.compressionCodecs = compressionCodecs;
+            return this;
+        }
+
+        public Builder compressionMinBytes(int compressionMinBytes) {
+            this.compressionMinBytes = compressionMinBytes;
+            return this;
+        }
+
+        public Builder clusterAddress(String clusterAddress) {
+            this.clusterAddress = clusterAddress;
+            return this;
+        }
+
+        public Builder clusterSeeds(List<String> clusterSeeds) {
+            this.clusterSeeds = clusterSeeds;
+            return this;
+        }
+
+        public Builder clusterRouting(ClusterRouting clusterRouting) {
+            this.clusterRouting = clusterRouting;
+            return this;
+        }
+
+        public Builder federationUpstream(String federationUpstream) {
+            this.federationUpstream = federationUpstream;
+            return this;
+        }
+
+        public Builder federationQueueCapacity(int federationQueueCapacity) {
+            this.federationQueueCapacity = federationQueueCapacity;
+            return this;
+        }
+
+        public ServerOptions build() {
+            if (threadPoolSize < 1) {
+                throw new IllegalArgumentException("threadPoolSize must be positive: " + threadPoolSize);
+            }
+            if (dispatcherThreads < 1) {
+                throw new IllegalArgumentException("dispatcherThreads must be positive: " + dispatcherThreads);
+            }
+            if (outboundQueueCapacity < 1) {
+                throw new IllegalArgumentException("outboundQueueCapacity must be positive: " + outboundQueueCapacity);
+            }
+            if (sessionQueueCapacity < 1) {
+                throw new IllegalArgumentException("sessionQueueCapacity must be positive: " + sessionQueueCapacity);
+            }
+            if (batchMaxSize < 1) {
+                throw new IllegalArgumentException("batchMaxSize must be positive: " + batchMaxSize);
+            }
+            if (batchMaxDelayMillis < 0) {
+                throw new IllegalArgumentException("batchMaxDelayMillis must not be negative: " + batchMaxDelayMillis);
+            }
+            if (highPriorityObjectiveMillis < 1) {
+                throw new IllegalArgumentException("highPriorityObjectiveMillis must be positive: " + highPriorityObjectiveMillis);
+            }
+            if (journalSegmentBytes < 64 * 1024) {
+                throw new IllegalArgumentException("journalSegmentBytes must be at least 64 KiB: " + journalSegmentBytes);
+            }
+            if (journalRetentionBytes < journalSegmentBytes) {
+                throw new IllegalArgumentException("journalRetentionBytes must hold at least one segment: " + journalRetentionBytes);
+            }
+            if (journalRetentionSeconds < 1) {
+                throw new IllegalArgumentException("journalRetentionSeconds must be positive: " + journalRetentionSeconds);
+            }
+            if (compressionMinBytes < 0) {
+                throw new IllegalArgumentException("compressionMinBytes must not be negative: " + compressionMinBytes);
+            }
+            if (clusterAddress != null && clusterAddress.lastIndexOf(':') < 1) {
+                throw new IllegalArgumentException("clusterAddress must be host:port: " + clusterAddress);
+            }
+            if (clusterAddress != null && executionMode == ExecutionMode.DIRECT) {
+                // Events forwarded by peers are published on the handler's thread, blocking while the dispatcher is full
+                throw new IllegalArgumentException("executionMode DIRECT cannot be used with a clusterAddress");
+            }
+            if (federationUpstream != null && federationUpstream.lastIndexOf(':') < 1) {
+                throw new IllegalArgumentException("federationUpstream must be host:port: " + federationUpstream);
+            }
+            if (federationQueueCapacity < 1) {
+                throw new IllegalArgumentException("federationQueueCapacity must be positive: " + federationQueueCapacity);
+            }
+            return new ServerOptions(this);
+        }
+    }
+}
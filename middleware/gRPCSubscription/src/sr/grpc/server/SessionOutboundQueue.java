@@ -0,0 +1,61 @@
+package sr.grpc.server;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import sr.grpc.gen.event.ControlAck;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * Outbound queue of a SubscriptionSession stream, shared by all subscriptions of the session.
+ * <p>
+ * Control acknowledgements are kept apart from notifications: they are written before any pending notification
+ * and are never dropped by the overflow policy, so a client always learns the outcome of its commands.
+ * The queue always runs in conflating mode; subscriptions that asked for QUEUE_ALL offer without a key.
+ */
+class SessionOutboundQueue extends OutboundQueue {
+
+    private final ServerCallStreamObserver<EncodedSessionResponse> observer;
+    private final Queue<ControlAck> acks = new ConcurrentLinkedQueue<>();
+
+    SessionOutboundQueue(ServerCallStreamObserver<EncodedSessionResponse> observer, int capacity,
+                         OverflowPolicy overflowPolicy, Executor drainExecutor) {
+        super(observer, capacity, overflowPolicy, true, drainExecutor);
+        this.observer = observer;
+    }
+
+    /**
+     * Queues an acknowledgement ahead of pending notifications and tries to write it right away.
+     *
+     * @return false if the stream is closed.
+     */
+    boolean offerAck(ControlAck ack) {
+        if (isClosed()) {
+            return false;
+        }
+        acks.offer(ack);
+        drain();
+        return true;
+    }
+
+    @Override
+    protected boolean writeNext() {
+        ControlAck ack = acks.poll();
+        if (ack != null) {
+            EncodedSessionResponse response = EncodedSessionResponse.ack(ack);
+            beforeWrite(response.serializedSize());
+            observer.onNext(response);
+            return true;
+        }
+        EncodedNotification next = poll();
+        if (next == null) {
+            return false;
+        }
+        EncodedSessionResponse response = EncodedSessionResponse.notification(next);
+        beforeWrite(response.serializedSize());
+        observer.onNext(response);
+        countSent(next);
+        return true;
+    }
+}
@@ -0,0 +1,41 @@
+package sr.grpc.server;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import sr.grpc.gen.event.SessionResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Response marshaller for SubscriptionSession that writes an {@link EncodedSessionResponse} without re-encoding
+ * its notification. Clients keep using the generated protobuf marshaller.
+ */
+final class SessionResponseMarshaller implements MethodDescriptor.Marshaller<EncodedSessionResponse> {
+
+    static final SessionResponseMarshaller INSTANCE = new SessionResponseMarshaller();
+
+    private SessionResponseMarshaller() {
+    }
+
+    @Override
+    public InputStream stream(EncodedSessionResponse value) {
+        return new NotificationMarshaller.SplicedInputStream(value.fieldNumber, value.content);
+    }
+
+    @Override
+    public EncodedSessionResponse parse(InputStream stream) {
+        // Only used if the descriptor ends up on a client; the server never parses its own responses
+        try {
+            SessionResponse response = SessionResponse.parseFrom(stream);
+            return response.hasAck()
+                    ? EncodedSessionResponse.ack(response.getAck())
+                    : EncodedSessionResponse.notification(EncodedNotification.of(response.getNotification()));
+        } catch (InvalidProtocolBufferException e) {
+            throw Status.INTERNAL.withDescription("Invalid SessionResponse").withCause(e).asRuntimeException();
+        } catch (IOException e) {
+            throw Status.INTERNAL.withDescription("Failed to read SessionResponse").withCause(e).asRuntimeException();
+        }
+    }
+}
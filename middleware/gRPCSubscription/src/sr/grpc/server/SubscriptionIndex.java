@@ -0,0 +1,277 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.WeatherFilter;
+import sr.grpc.gen.event.WeatherUpdate;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Inverted index of active subscriptions keyed by {@link Topic} (event type + normalized target).
+ * Dispatching an event only touches the subscribers of its topic, so the cost of a fan-out depends on
+ * the number of matching subscribers and not on the total number of subscriptions held by the server.
+ * <p>
+ * Subscriptions with a weather filter are kept apart, grouped by the canonical form of their filter: each group
+ * holds the filter compiled once, and a weather update is tested once per group, however many subscribers it has.
+ */
+class SubscriptionIndex {
+
+    private final ConcurrentMap<Topic, Set<SubscriptionInfo>> byTopic = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Topic, FilterGroups> filteredByTopic = new ConcurrentHashMap<>();
+
+    void add(SubscriptionInfo subscription) {
+        if (subscription.filter != null) {
+            filteredByTopic.compute(subscription.topic, (topic, groups) -> {
+                FilterGroups topicGroups = groups != null ? groups : new FilterGroups();
+                topicGroups.add(subscription);
+                return topicGroups;
+            });
+            return;
+        }
+        // Mutating the bucket inside compute() keeps add/remove atomic per topic,
+        // so a bucket is never dropped while another thread is inserting into it
+        byTopic.compute(subscription.topic, (topic, subscribers) -> {
+            Set<SubscriptionInfo> bucket = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            bucket.add(subscription);
+            return bucket;
+        });
+    }
+
+    void remove(SubscriptionInfo subscription) {
+        if (subscription.filter != null) {
+            filteredByTopic.computeIfPresent(subscription.topic, (topic, groups) -> {
+                groups.remove(subscription);
+                return groups.isEmpty() ? null : groups;
+            });
+            return;
+        }
+        byTopic.computeIfPresent(subscription.topic, (topic, subscribers) -> {
+            subscribers.remove(subscription);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * Returns a live, weakly consistent view of the subscribers of the given topic that have no filter.
+     */
+    Collection<SubscriptionInfo> subscribersOf(Topic topic) {
+        Set<SubscriptionInfo> subscribers = byTopic.get(topic);
+        return subscribers != null ? subscribers : Collections.emptySet();
+    }
+
+    /**
+     * Returns the subscribers of a weather update's topic: those without a filter and those whose filter accepts
+     * it. Each distinct filter of the topic is tested once; the subscribers of the accepted groups are read as
+     * the result is iterated, so it is weakly consistent like the unfiltered view.
+     */
+    Collection<SubscriptionInfo> subscribersOf(Topic topic, WeatherUpdate update) {
+        Collection<SubscriptionInfo> unfiltered = subscribersOf(topic);
+        FilterGroups groups = filteredByTopic.get(topic);
+        if (groups == null) {
+            return unfiltered;
+        }
+        FilterGroup[] all = groups.snapshot();
+        FilterGroup[] accepted = null;
+        int acceptedCount = 0;
+        for (FilterGroup group : all) {
+            if (group.filter.test(update)) {
+                if (accepted == null) {
+                    accepted = new FilterGroup[all.length];
+                }
+                accepted[acceptedCount++] = group;
+            }
+        }
+        return acceptedCount == 0 ? unfiltered : new Selection(unfiltered, accepted, acceptedCount);
+    }
+
+    int topicCount() {
+        return byTopic.size();
+    }
+
+    /**
+     * Distinct filters over all topics, i.e. filter evaluations it takes to dispatch one update to every topic.
+     */
+    int filterGroupCount() {
+        int count = 0;
+        for (FilterGroups groups : filteredByTopic.values()) {
+            count += groups.byFilter.size();
+        }
+        return count;
+    }
+
+    // One compiled filter and the subscriptions of a topic that share it. Written only inside compute() on the
+    // topic; dispatch reads it concurrently. Most groups are small when filters vary between clients, so members
+    // are kept in a copy-on-write array until there are more than SMALL_GROUP of them, then in a concurrent set.
+    private static final class FilterGroup {
+        private static final int SMALL_GROUP = 16;
+        private static final SubscriptionInfo[] NONE = new SubscriptionInfo[0];
+
+        final CompiledFilter filter;
+        volatile SubscriptionInfo[] members = NONE; // While the group is small
+        volatile Set<SubscriptionInfo> large; // Once it has grown; members is no longer used
+
+        FilterGroup(WeatherFilter canonical) {
+            this.filter = CompiledFilter.compile(canonical);
+        }
+
+        void add(SubscriptionInfo subscription) {
+            if (large != null) {
+                large.add(subscription);
+                return;
+            }
+            SubscriptionInfo[] current = members;
+            for (SubscriptionInfo member : current) {
+                if (member == subscription) {
+                    return;
+                }
+            }
+            if (current.length == SMALL_GROUP) {
+                Set<SubscriptionInfo> set = ConcurrentHashMap.newKeySet();
+                Collections.addAll(set, current);
+                set.add(subscription);
+                large = set; // members is left as it was for a dispatch that read it just before
+                return;
+            }
+            SubscriptionInfo[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = subscription;
+            members = grown;
+        }
+
+        // Returns whether the group is empty now
+        boolean remove(SubscriptionInfo subscription) {
+            if (large != null) {
+                large.remove(subscription);
+                return large.isEmpty();
+            }
+            SubscriptionInfo[] current = members;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == subscription) {
+                    SubscriptionInfo[] shrunk = Arrays.copyOf(current, current.length - 1);
+                    if (i < shrunk.length) {
+                        shrunk[i] = current[current.length - 1];
+                    }
+                    members = shrunk;
+                    break;
+                }
+            }
+            return members.length == 0;
+        }
+
+        int size() {
+            Set<SubscriptionInfo> set = large;
+            return set != null ? set.size() : members.length;
+        }
+    }
+
+    // The filter groups of one topic; only changed inside compute() on the topic, so one writer at a time
+    private static final class FilterGroups {
+        private final ConcurrentMap<WeatherFilter, FilterGroup> byFilter = new ConcurrentHashMap<>();
+        // What dispatch iterates. Not rebuilt by every change to the set of filters, which would make subscribing
+        // n clients with distinct filters quadratic, but by the next dispatch after one
+        private volatile FilterGroup[] snapshot = new FilterGroup[0];
+        private volatile boolean stale;
+
+        void add(SubscriptionInfo subscription) {
+            FilterGroup group = byFilter.get(subscription.filter);
+            if (group == null) {
+                group = new FilterGroup(subscription.filter);
+                group.add(subscription);
+                byFilter.put(subscription.filter, group);
+                stale = true; // After the put, so that a rebuild that misses the group is followed by another
+                return;
+            }
+            group.add(subscription);
+        }
+
+        void remove(SubscriptionInfo subscription) {
+            FilterGroup group = byFilter.get(subscription.filter);
+            if (group != null && group.remove(subscription)) {
+                byFilter.remove(subscription.filter);
+                stale = true;
+            }
+        }
+
+        boolean isEmpty() {
+            return byFilter.isEmpty();
+        }
+
+        FilterGroup[] snapshot() {
+            if (stale) {
+                stale = false; // Before reading the map: a change made meanwhile marks it stale again
+                snapshot = byFilter.values().toArray(new FilterGroup[0]);
+            }
+            return snapshot;
+        }
+    }
+
+    // The unfiltered subscribers followed by the members of the accepted groups, read without copying them
+    private static final class Selection extends AbstractCollection<SubscriptionInfo> {
+        private final Collection<SubscriptionInfo> unfiltered;
+        private final FilterGroup[] accepted;
+        private final int acceptedCount;
+
+        Selection(Collection<SubscriptionInfo> unfiltered, FilterGroup[] accepted, int acceptedCount) {
+            this.unfiltered = unfiltered;
+            this.accepted = accepted;
+            this.acceptedCount = acceptedCount;
+        }
+
+        @Override
+        public Iterator<SubscriptionInfo> iterator() {
+            return new Iterator<>() {
+                private Iterator<SubscriptionInfo> current = unfiltered.iterator(); // Null while reading an array
+                private SubscriptionInfo[] members;
+                private int member;
+                private int group;
+
+                @Override
+                public boolean hasNext() {
+                    while (current != null ? !current.hasNext() : member == members.length) {
+                        if (group == acceptedCount) {
+                            return false;
+                        }
+                        FilterGroup next = accepted[group++];
+                        Set<SubscriptionInfo> large = next.large;
+                        if (large != null) {
+                            current = large.iterator();
+                        } else {
+                            current = null;
+                            members = next.members;
+                            member = 0;
+                        }
+                    }
+                    return true;
+                }
+
+                @Override
+                public SubscriptionInfo next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return current != null ? current.next() : members[member++];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            int size = unfiltered.size();
+            for (int i = 0; i < acceptedCount; i++) {
+                size += accepted[i].size();
+            }
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !iterator().hasNext();
+        }
+    }
+}
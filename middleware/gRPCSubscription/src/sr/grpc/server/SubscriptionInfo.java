@@ -0,0 +1,35 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.DeliveryMode;
+import sr.grpc.gen.event.SubscriptionRequest;
+import sr.grpc.gen.event.WeatherFilter;
+
+// Helper class to store the outbound stream and criteria together
+class SubscriptionInfo {
+    final OutboundQueue outbound; // Bounded queue in front of the subscriber's stream observer
+    final SubscriptionRequest request; // Store the full request for easy access to criteria and type
+    final String clientSubscriptionId;
+    final Topic topic; // Index key derived from the request's event type and target identifier
+    final byte[] subscriberPrefix; // Encoded client_subscription_id field, spliced in front of every shared body
+    final SubscriptionSession session; // Session the subscription was added on; null if it has a stream of its own
+    final Object conflationKey; // Passed with every offer: the subscription itself for CONFLATE_LATEST, else null
+    final WeatherDeltaEncoder.SubscriberState deltaState; // Last weather update written in delta mode; else null
+    final WeatherFilter filter; // Canonical form of the criteria's weather filter, the key of its group; null if none
+
+    SubscriptionInfo(String clientSubscriptionId, SubscriptionRequest request, OutboundQueue outbound) {
+        this(clientSubscriptionId, request, outbound, null);
+    }
+
+    SubscriptionInfo(String clientSubscriptionId, SubscriptionRequest request, OutboundQueue outbound,
+                     SubscriptionSession session) {
+        this.clientSubscriptionId = clientSubscriptionId;
+        this.request = request;
+        this.outbound = outbound;
+        this.session = session;
+        this.conflationKey = request.getDeliveryMode() == DeliveryMode.CONFLATE_LATEST ? this : null;
+        this.deltaState = request.getWeatherDelta() ? new WeatherDeltaEncoder.SubscriberState() : null;
+        this.topic = Topic.of(request.getEventType(), request.getCriteria().getTargetIdentifier());
+        this.subscriberPrefix = EncodedNotification.encodeSubscriberPrefix(clientSubscriptionId);
+        this.filter = request.getCriteria().hasWeatherFilter() ? CompiledFilter.canonical(request.getCriteria().getWeatherFilter()) : null;
+    }
+}
@@ -0,0 +1,158 @@
+package sr.grpc.server;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import sr.grpc.gen.event.ControlAck;
+import sr.grpc.gen.event.SessionRequest;
+import sr.grpc.gen.event.SubscriptionRequest;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * One SubscriptionSession call: receives the client's control messages and owns the subscriptions added
+ * through them. All of them share the session's {@link SessionOutboundQueue}, so a client following
+ * thousands of topics still uses a single HTTP/2 stream.
+ * <p>
+ * Subscriptions are registered in the service like any other, so fan-out and Unsubscribe treat them the same;
+ * ending the session (half-close, error or cancellation) removes all of them.
+ */
+class SubscriptionSession implements StreamObserver<SessionRequest> {
+
+    private static final Logger logger = Logger.getLogger(SubscriptionSession.class.getName());
+
+    private final WeatherEventSubscriptionService service;
+    private final ServerCallStreamObserver<EncodedSessionResponse> serverObserver;
+    private final SessionOutboundQueue outbound;
+    private final Set<String> subscriptionIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean ended;
+    private boolean firstCommandSeen; // Only touched by onNext, which gRPC never calls concurrently
+
+    SubscriptionSession(WeatherEventSubscriptionService service,
+                        ServerCallStreamObserver<EncodedSessionResponse> serverObserver, SessionOutboundQueue outbound) {
+        this.service = service;
+        this.serverObserver = serverObserver;
+        this.outbound = outbound;
+    }
+
+    @Override
+    public void onNext(SessionRequest request) {
+        if (!firstCommandSeen) {
+            firstCommandSeen = true;
+            // The stream's encoding is fixed once its headers go out with the first ack
+            if (request.getCommandCase() == SessionRequest.CommandCase.ADD_SUBSCRIPTION) {
+                service.negotiateCompression(request.getAddSubscription(), serverObserver, outbound);
+            }
+        }
+        switch (request.getCommandCase()) {
+            case ADD_SUBSCRIPTION:
+                add(request.getAddSubscription());
+                break;
+            case REMOVE_SUBSCRIPTION_ID:
+                remove(request.getRemoveSubscriptionId());
+                break;
+            case COMMAND_NOT_SET:
+            default:
+                outbound.offerAck(ack("", ControlAck.Action.ACTION_UNSPECIFIED, false, "Control message without a command"));
+                break;
+        }
+    }
+
+    private void add(SubscriptionRequest request) {
+        String clientSubscriptionId = request.getClientSubscriptionId();
+        Status invalid = service.validate(request);
+        if (invalid != null) {
+            outbound.offerAck(ack(clientSubscriptionId, ControlAck.Action.ADD, false, invalid.getDescription()));
+            return;
+        }
+        String owner = service.cluster() != null ? service.cluster().remoteOwnerOf(request) : null;
+        if (owner != null) { // A session's stream stays on one node; the client subscribes at the owner itself
+            outbound.offerAck(ack(clientSubscriptionId, ControlAck.Action.ADD, false,
+                    service.cluster().redirect(request, owner).getStatus().getDescription()));
+            return;
+        }
+        SubscriptionInfo subInfo = new SubscriptionInfo(clientSubscriptionId, request, outbound, this);
+        if (!service.registerSubscription(subInfo)) {
+            logger.warning("Session subscription attempt with duplicate client_subscription_id: " + clientSubscriptionId);
+            outbound.offerAck(ack(clientSubscriptionId, ControlAck.Action.ADD, false,
+                    "Subscription ID '" + clientSubscriptionId + "' is already in use."));
+            return;
+        }
+        subscriptionIds.add(clientSubscriptionId);
+        if (ended) {
+            service.removeSubscription(clientSubscriptionId); // Lost a race with the end of the session
+            return;
+        }
+        // The ack is queued before delivery starts, so it precedes the subscription's first notification
+        outbound.offerAck(ack(clientSubscriptionId, ControlAck.Action.ADD, true, ""));
+        service.startDelivery(subInfo);
+        logger.fine("Session subscription added: ID=" + clientSubscriptionId + ", Type=" + request.getEventType()
+                + ", Criteria=" + request.getCriteria().getTargetIdentifier());
+    }
+
+    private void remove(String clientSubscriptionId) {
+        if (!subscriptionIds.contains(clientSubscriptionId)) {
+            outbound.offerAck(ack(clientSubscriptionId, ControlAck.Action.REMOVE, false,
+                    "Subscription ID not found in this session: " + clientSubscriptionId));
+            return;
+        }
+        service.removeSubscription(clientSubscriptionId);
+        outbound.offerAck(ack(clientSubscriptionId, ControlAck.Action.REMOVE, true, ""));
+    }
+
+    /**
+     * Tells the client that one of its subscriptions was removed from outside the session (Unsubscribe).
+     */
+    void acknowledgeRemoval(String clientSubscriptionId, String message) {
+        outbound.offerAck(ack(clientSubscriptionId, ControlAck.Action.REMOVE, true, message));
+    }
+
+    // Called by the service whenever a subscription of this session is removed
+    void forget(String clientSubscriptionId) {
+        subscriptionIds.remove(clientSubscriptionId);
+    }
+
+    int subscriptionCount() {
+        return subscriptionIds.size();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        cancel(); // The client's side of the call failed; nothing more can be written either
+    }
+
+    @Override
+    public void onCompleted() {
+        // The client closed its request stream: end every subscription and complete the response stream
+        logger.info("Subscription session closed by client with " + subscriptionIds.size() + " subscriptions");
+        end();
+        outbound.close(Status.OK);
+    }
+
+    /**
+     * The call is gone (cancelled or failed): removes all subscriptions without writing to the stream again.
+     */
+    void cancel() {
+        end();
+        outbound.abandon();
+    }
+
+    private void end() {
+        ended = true;
+        for (String clientSubscriptionId : new ArrayList<>(subscriptionIds)) {
+            service.removeSubscription(clientSubscriptionId);
+        }
+    }
+
+    private static ControlAck ack(String clientSubscriptionId, ControlAck.Action action, boolean success, String message) {
+        return ControlAck.newBuilder()
+                .setClientSubscriptionId(clientSubscriptionId)
+                .setAction(action)
+                .setSuccess(success)
+                .setMessage(message)
+                .build();
+    }
+}
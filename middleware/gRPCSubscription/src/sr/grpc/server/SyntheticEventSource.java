@@ -0,0 +1,389 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.*;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Load source: weather updates at benchmark scale, up to millions per second, for {@code cities} cities whose
+ * popularity follows a Zipf distribution, in a mix of {@link PayloadProfile payload sizes}, at a base rate shaped
+ * by a {@link BurstPattern}.
+ * <p>
+ * Everything that does not change from one event to the next is built once: the cities with their region and
+ * location, and per payload size a set of template updates with their forecast and description. An event is a
+ * template merged into a reused builder with its city, condition and measurements drawn; the forecast list and
+ * strings are shared with the template, so nothing is allocated apart from the notification, its update and its
+ * ID. STORMY updates are published as HIGH priority, as the service would make them anyway.
+ * <p>
+ * Each producer thread has its own {@link SplittableRandom}, split from one seeded at construction, and its own
+ * builders; the threads share the rate evenly. A thread that is slowed down by the dispatcher catches up on at
+ * most {@value #MAX_CATCH_UP_MILLIS} ms of its schedule, then drops the rest of it.
+ */
+public final class SyntheticEventSource implements EventSource {
+
+    private static final Logger logger = Logger.getLogger(SyntheticEventSource.class.getName());
+
+    private static final int TEMPLATES_PER_PROFILE = 16; // So that consecutive events do not all carry the same forecast
+    private static final int MAX_BATCH = 1024; // Events between two looks at the clock and at close()
+    private static final long PAUSE_NANOS = TimeUnit.MILLISECONDS.toNanos(1); // When a thread is ahead of its schedule
+    private static final long MAX_CATCH_UP_MILLIS = 100;
+    // Drawn in these proportions (out of 100); STORMY is rare, as the HIGH priority events it becomes should be
+    private static final WeatherCondition[] CONDITIONS = conditionTable(
+            WeatherCondition.SUNNY, 30, WeatherCondition.CLOUDY, 35, WeatherCondition.RAINY, 20,
+            WeatherCondition.SNOWY, 13, WeatherCondition.STORMY, 2);
+    private static final String DESCRIPTION_TEXT = "Zachmurzenie umiarkowane, możliwe przelotne opady deszczu wieczorem. "
+            + "Wiatr z kierunków zachodnich, w porywach do 40 km/h. Temperatura odczuwalna niższa o kilka stopni. ";
+
+    private final int cityCount;
+    private final double citySkew;
+    private final double eventsPerSecond;
+    private final int threads;
+    private final long eventLimit;
+    private final BurstPattern burst;
+    private final Map<PayloadProfile, Integer> payloadWeights;
+
+    private final ZipfSampler citySampler;
+    private final String[] cityNames; // By popularity rank
+    private final String[] cityRegions;
+    private final GeoPoint[] cityLocations;
+    private final double[] cityTemperatures; // Around which each city's temperature varies
+    private final PayloadProfile[] profiles; // With a weight above 0
+    private final int[] profileThresholds; // Cumulative weights of profiles
+    private final WeatherUpdate[][] templates; // By profile ordinal
+    private final SplittableRandom seedRandom;
+
+    private final LongAdder produced = new LongAdder();
+    private final List<Thread> producers = new ArrayList<>();
+    private volatile boolean closed;
+
+    private SyntheticEventSource(Builder builder) {
+        this.cityCount = builder.cities;
+        this.citySkew = builder.citySkew;
+        this.eventsPerSecond = builder.eventsPerSecond;
+        this.threads = builder.threads;
+        this.eventLimit = builder.events;
+        this.burst = builder.burst;
+        this.payloadWeights = new EnumMap<>(builder.payloadWeights);
+        this.citySampler = new ZipfSampler(cityCount, citySkew);
+
+        SplittableRandom random = new SplittableRandom(builder.seed);
+        this.cityNames = new String[cityCount];
+        this.cityRegions = new String[cityCount];
+        this.cityLocations = new GeoPoint[cityCount];
+        this.cityTemperatures = new double[cityCount];
+        for (int c = 0; c < cityCount; c++) {
+            cityNames[c] = "City-" + c;
+            cityRegions[c] = "SYN/R" + c / 100; // A hundred cities per region
+            cityLocations[c] = GeoPoint.newBuilder() // Spread over Europe
+                    .setLatitude(random.nextDouble(36, 70))
+                    .setLongitude(random.nextDouble(-10, 40))
+                    .build();
+            cityTemperatures[c] = random.nextDouble(-5, 25);
+        }
+
+        this.profiles = payloadWeights.keySet().toArray(new PayloadProfile[0]);
+        this.profileThresholds = new int[profiles.length];
+        int total = 0;
+        for (int p = 0; p < profiles.length; p++) {
+            total += payloadWeights.get(profiles[p]);
+            profileThresholds[p] = total;
+        }
+        this.templates = new WeatherUpdate[PayloadProfile.values().length][];
+        for (PayloadProfile profile : profiles) {
+            templates[profile.ordinal()] = new WeatherUpdate[TEMPLATES_PER_PROFILE];
+            for (int t = 0; t < TEMPLATES_PER_PROFILE; t++) {
+                templates[profile.ordinal()][t] = template(profile, random);
+            }
+        }
+        this.seedRandom = random;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // The parts of an update of the given size that events share: forecast and description
+    private static WeatherUpdate template(PayloadProfile profile, SplittableRandom random) {
+        WeatherUpdate.Builder template = WeatherUpdate.newBuilder();
+        for (int day = 1; day <= profile.forecastDays; day++) {
+            double min = random.nextDouble(-10, 20);
+            template.addForecast(DailyForecast.newBuilder()
+                    .setDayDescription("Dzień +" + day)
+                    .setMinTemperatureCelsius(min)
+                    .setMaxTemperatureCelsius(min + random.nextDouble(2, 12))
+                    .setCondition(CONDITIONS[random.nextInt(CONDITIONS.length)])
+                    .setSummary("Prognoza syntetyczna na dzień " + day));
+        }
+        if (profile.descriptionChars > 0) {
+            template.setDetailedDescription(DESCRIPTION_TEXT.repeat(profile.descriptionChars / DESCRIPTION_TEXT.length() + 1)
+                    .substring(0, profile.descriptionChars));
+        }
+        return template.build();
+    }
+
+    private static WeatherCondition[] conditionTable(Object... conditionsAndPercents) {
+        List<WeatherCondition> table = new ArrayList<>();
+        for (int i = 0; i < conditionsAndPercents.length; i += 2) {
+            for (int n = 0; n < (Integer) conditionsAndPercents[i + 1]; n++) {
+                table.add((WeatherCondition) conditionsAndPercents[i]);
+            }
+        }
+        return table.toArray(new WeatherCondition[0]);
+    }
+
+    @Override
+    public synchronized void start(Consumer<EventNotification> sink) {
+        if (!producers.isEmpty()) {
+            throw new IllegalStateException("Synthetic event generation already started");
+        }
+        for (int t = 0; t < threads; t++) {
+            // The first eventLimit % threads producers make one event more
+            long limit = eventLimit == 0 ? Long.MAX_VALUE : eventLimit / threads + (t < eventLimit % threads ? 1 : 0);
+            Producer producer = producer(t);
+            Thread thread = new Thread(() -> producer.run(sink, limit), "synthetic-events-" + t);
+            thread.setDaemon(true);
+            producers.add(thread);
+        }
+        producers.forEach(Thread::start);
+        logger.info("Synthetic event generation started: " + this);
+    }
+
+    /**
+     * A generator of events with a random generator of its own, for one thread. Package-private for
+     * SyntheticEventBenchmark.
+     */
+    synchronized Producer producer(int index) {
+        return new Producer(index, seedRandom.split());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * Waits for the producer threads to end, i.e. for the event limit to be reached or the source to be closed.
+     *
+     * @return false if a thread is still running after the timeout.
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        List<Thread> threadsToJoin;
+        synchronized (this) {
+            threadsToJoin = new ArrayList<>(producers);
+        }
+        for (Thread thread : threadsToJoin) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis > 0) {
+                thread.join(remainingMillis);
+            }
+            if (thread.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Events handed to the sink so far, counted once per batch.
+     */
+    public long producedCount() {
+        return produced.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "synthetic load of %s over %d cities (Zipf skew %.2f), payloads %s, %s, %d thread(s)%s",
+                eventsPerSecond > 0 ? String.format(Locale.ROOT, "%.0f events/s", eventsPerSecond) : "as many events as accepted",
+                cityCount, citySkew, payloadWeights, burst, threads, eventLimit > 0 ? ", " + eventLimit + " events" : "");
+    }
+
+    /**
+     * Makes the events of one thread; not thread-safe.
+     */
+    final class Producer {
+        private final SplittableRandom random;
+        private final NotificationIds ids; // One per thread, so that they do not contend for a counter
+        private final WeatherUpdate.Builder weather = WeatherUpdate.newBuilder();
+        private final EventNotification.Builder event = EventNotification.newBuilder().setEventType(EventType.WEATHER_UPDATE);
+
+        private Producer(int index, SplittableRandom random) {
+            this.random = random;
+            this.ids = new NotificationIds("SYNTHETIC" + index);
+        }
+
+        EventNotification next() {
+            int city = citySampler.next(random);
+            WeatherCondition condition = CONDITIONS[random.nextInt(CONDITIONS.length)];
+            // clear() leaves the forecast list empty, so mergeFrom() takes the template's over instead of copying it
+            weather.clear().mergeFrom(templates[nextProfile().ordinal()][random.nextInt(TEMPLATES_PER_PROFILE)])
+                    .setCity(cityNames[city])
+                    .setRegion(cityRegions[city])
+                    .setLocation(cityLocations[city])
+                    .setCurrentTemperatureCelsius(cityTemperatures[city] + random.nextDouble(-3, 3))
+                    .setHumidityPercent(random.nextDouble(30, 95))
+                    .setWindSpeedKph(condition == WeatherCondition.STORMY ? random.nextInt(60, 120) : random.nextInt(40))
+                    .setCurrentCondition(condition);
+            long now = EventClock.epochNanos();
+            return event
+                    .setNotificationId(ids.next())
+                    .setTimestampUnixSeconds(EventClock.toEpochSeconds(now))
+                    .setTimestampUnixNanos(now)
+                    .setPriority(condition == WeatherCondition.STORMY ? EventPriority.HIGH : EventPriority.ROUTINE)
+                    .setWeatherUpdate(weather.build())
+                    .build();
+        }
+
+        private PayloadProfile nextProfile() {
+            if (profiles.length == 1) {
+                return profiles[0];
+            }
+            int u = random.nextInt(profileThresholds[profileThresholds.length - 1]);
+            int p = 0;
+            while (u >= profileThresholds[p]) {
+                p++;
+            }
+            return profiles[p];
+        }
+
+        // Hands limit events to the sink at this thread's share of the rate, or until the source is closed
+        private void run(Consumer<EventNotification> sink, long limit) {
+            double eventsPerNano = eventsPerSecond / threads / 1e9;
+            double maxCredit = Math.max(1, eventsPerNano * TimeUnit.MILLISECONDS.toNanos(MAX_CATCH_UP_MILLIS));
+            long start = System.nanoTime();
+            long last = start;
+            double credit = 0; // Events due and not made yet
+            long made = 0;
+            try {
+                while (!closed && made < limit) {
+                    int batch;
+                    if (eventsPerNano == 0) {
+                        batch = (int) Math.min(MAX_BATCH, limit - made);
+                    } else {
+                        long now = System.nanoTime();
+                        credit = Math.min(maxCredit, credit + (now - last) * eventsPerNano * burst.rateFactor(now - start));
+                        last = now;
+                        batch = (int) Math.min(Math.min(MAX_BATCH, (long) credit), limit - made);
+                        if (batch == 0) {
+                            LockSupport.parkNanos(PAUSE_NANOS);
+                            continue;
+                        }
+                        credit -= batch;
+                    }
+                    for (int i = 0; i < batch; i++) {
+                        sink.accept(next());
+                    }
+                    made += batch;
+                    produced.add(batch);
+                }
+            } catch (RejectedExecutionException e) {
+                logger.fine("Dispatcher shut down, synthetic events stopped on " + Thread.currentThread().getName());
+            }
+        }
+    }
+
+    public static final class Builder {
+        private int cities = 1000;
+        private double citySkew = 1.0; // 0: every city equally popular
+        private double eventsPerSecond = 100_000; // Base rate over all threads; 0: as many as the dispatcher accepts
+        private int threads = 1;
+        private long events = 0; // 0: until closed
+        private long seed = 42; // Cities, templates and every thread's draws follow from it
+        private BurstPattern burst = BurstPattern.steady();
+        private final Map<PayloadProfile, Integer> payloadWeights = new EnumMap<>(PayloadProfile.class);
+
+        private Builder() {
+        }
+
+        public Builder cities(int cities) {
+            this.cities = cities;
+            return this;
+        }
+
+        public Builder citySkew(double citySkew) {
+            this.citySkew = citySkew;
+            return this;
+        }
+
+        public Builder eventsPerSecond(double eventsPerSecond) {
+            this.eventsPerSecond = eventsPerSecond;
+            return this;
+        }
+
+        public Builder threads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        public Builder events(long events) {
+            this.events = events;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder burst(BurstPattern burst) {
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Adds a payload size to the mix with a relative weight; without any, every update is STANDARD.
+         */
+        public Builder payload(PayloadProfile profile, int weight) {
+            if (weight < 1) {
+                throw new IllegalArgumentException("Payload weight must be positive: " + weight);
+            }
+            payloadWeights.put(profile, weight);
+            return this;
+        }
+
+        /**
+         * Parses a mix such as {@code minimal:70,standard:25,large:5}, or a single profile name.
+         */
+        public Builder payloads(String spec) {
+            for (String part : spec.split(",")) {
+                String[] nameAndWeight = part.trim().split(":", 2);
+                payload(PayloadProfile.valueOf(nameAndWeight[0].trim().toUpperCase(Locale.ROOT)),
+                        nameAndWeight.length > 1 ? Integer.parseInt(nameAndWeight[1].trim()) : 1);
+            }
+            return this;
+        }
+
+        public SyntheticEventSource build() {
+            if (cities < 1) {
+                throw new IllegalArgumentException("cities must be positive: " + cities);
+            }
+            if (!(citySkew >= 0)) {
+                throw new IllegalArgumentException("citySkew must not be negative: " + citySkew);
+            }
+            if (!(eventsPerSecond >= 0)) {
+                throw new IllegalArgumentException("eventsPerSecond must not be negative: " + eventsPerSecond);
+            }
+            if (threads < 1) {
+                throw new IllegalArgumentException("threads must be positive: " + threads);
+            }
+            if (events < 0) {
+                throw new IllegalArgumentException("events must not be negative: " + events);
+            }
+            if (payloadWeights.isEmpty()) {
+                payloadWeights.put(PayloadProfile.STANDARD, 1);
+            }
+            return new SyntheticEventSource(this);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.EventType;
+
+import java.util.Locale;
+
+/**
+ * Key of a subscription topic: the event type together with the normalized target identifier.
+ * Two targets that differ only in case or surrounding whitespace ("Kraków", " kraków ") map to the same topic,
+ * which mirrors the equalsIgnoreCase() matching the service used before the index existed.
+ */
+final class Topic {
+
+    private final EventType eventType;
+    private final String target; // Normalized target identifier
+    private final int hash;
+
+    private Topic(EventType eventType, String target) {
+        this.eventType = eventType;
+        this.target = target;
+        this.hash = 31 * eventType.hashCode() + target.hashCode();
+    }
+
+    static Topic of(EventType eventType, String targetIdentifier) {
+        return new Topic(eventType, normalize(targetIdentifier));
+    }
+
+    static String normalize(String targetIdentifier) {
+        return targetIdentifier == null ? "" : targetIdentifier.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Stable text form of the topic, "eventTypeNumber:target", e.g. for storing it in the journal.
+     */
+    String key() {
+        return eventType.getNumber() + ":" + target;
+    }
+
+    static Topic fromKey(String key) {
+        int separator = key.indexOf(':');
+        EventType eventType = EventType.forNumber(Integer.parseInt(key.substring(0, separator)));
+        return new Topic(eventType == null ? EventType.UNRECOGNIZED : eventType, key.substring(separator + 1));
+    }
+
+    EventType eventType() {
+        return eventType;
+    }
+
+    String target() {
+        return target;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Topic)) return false;
+        Topic other = (Topic) o;
+        return eventType == other.eventType && target.equals(other.target);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return eventType + "/" + target;
+    }
+}
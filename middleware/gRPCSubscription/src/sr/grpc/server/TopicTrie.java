@@ -0,0 +1,210 @@
+package sr.grpc.server;
+
+import sr.grpc.gen.event.WeatherUpdate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Index of weather subscriptions to a city path or a pattern of them ("PL/malopolskie/Kraków", "PL/*&#47;W*",
+ * "PL/**"), as a trie of their normalized segments.
+ * <p>
+ * A node has a child per exact segment and one per prefix wildcard, "*" being the empty prefix; a subscription
+ * sits on the node its pattern ends at, or, ending with "**", on the node before it. An update's path (region and
+ * city) walks the trie once from the root: at each node it follows the exact child of its next segment and the
+ * prefix children that segment starts with, and takes the "**" subscribers it passes and the exact subscribers
+ * of the nodes it ends on. The work depends on the path's length and the patterns along it, not on the number of
+ * subscriptions.
+ * <p>
+ * Matching reads the concurrent maps of the nodes without locking. Subscribing and unsubscribing are serialized,
+ * so that a node is never pruned while another subscription is being added to it, and only touch the nodes of
+ * their own pattern.
+ */
+class TopicTrie {
+
+    static final int MAX_SEGMENTS = 8;
+    private static final String ANY_DEPTH = "**";
+
+    // Stands for no filter in the subscriber maps, which cannot hold null
+    private static final CompiledFilter UNFILTERED = new CompiledFilter() {
+        @Override
+        boolean test(WeatherUpdate update) {
+            return true;
+        }
+
+        @Override
+        int cost() {
+            return 0;
+        }
+    };
+
+    private final Node root = new Node();
+    private volatile int subscriptions; // Written under the lock; lets match() skip an empty trie
+
+    /**
+     * Whether a subscription's target is a path or a pattern, to be indexed here rather than by city.
+     */
+    static boolean isPath(String target) {
+        return target.indexOf('/') >= 0 || target.indexOf('*') >= 0;
+    }
+
+    /**
+     * Whether a target matches more than one path, i.e. the events of more than one city.
+     */
+    static boolean isPattern(String target) {
+        return target.indexOf('*') >= 0;
+    }
+
+    /**
+     * Why a path or pattern cannot be subscribed to, or null if it can.
+     */
+    static String check(String target) {
+        String[] segments = segments(Topic.normalize(target));
+        if (segments.length > MAX_SEGMENTS) {
+            return "more than " + MAX_SEGMENTS + " segments";
+        }
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.isEmpty()) {
+                return "empty segment";
+            }
+            if (segment.equals(ANY_DEPTH)) {
+                if (i != segments.length - 1) {
+                    return "\"**\" before the last segment";
+                }
+            } else if (segment.indexOf('*') >= 0 && segment.indexOf('*') != segment.length() - 1) {
+                return "\"*\" other than at the end of a segment";
+            }
+        }
+        return null;
+    }
+
+    private static String[] segments(String normalized) {
+        String[] segments = normalized.split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = segments[i].trim();
+        }
+        return segments;
+    }
+
+    synchronized void add(SubscriptionInfo subInfo) {
+        String[] segments = segments(subInfo.topic.target());
+        Node node = root;
+        int end = segments[segments.length - 1].equals(ANY_DEPTH) ? segments.length - 1 : segments.length;
+        for (int i = 0; i < end; i++) {
+            node = node.childFor(segments[i]);
+        }
+        Map<SubscriptionInfo, CompiledFilter> subscribers = end < segments.length ? node.anyDepth : node.exact;
+        CompiledFilter filter = subInfo.filter != null ? CompiledFilter.compile(subInfo.filter) : UNFILTERED;
+        if (subscribers.putIfAbsent(subInfo, filter) == null) {
+            subscriptions++;
+        }
+    }
+
+    synchronized void remove(SubscriptionInfo subInfo) {
+        String[] segments = segments(subInfo.topic.target());
+        int end = segments[segments.length - 1].equals(ANY_DEPTH) ? segments.length - 1 : segments.length;
+        Node[] path = new Node[end + 1];
+        path[0] = root;
+        for (int i = 0; i < end; i++) {
+            path[i + 1] = path[i].existingChild(segments[i]);
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+        Map<SubscriptionInfo, CompiledFilter> subscribers = end < segments.length ? path[end].anyDepth : path[end].exact;
+        if (subscribers.remove(subInfo) == null) {
+            return;
+        }
+        subscriptions--;
+        // Prune the nodes left without subscribers or children, deepest first
+        for (int i = end; i > 0 && path[i].isEmpty(); i--) {
+            path[i - 1].removeChild(segments[i - 1]);
+        }
+    }
+
+    /**
+     * The subscriptions whose path or pattern matches the update's region and city, and whose weather filter,
+     * if any, accepts the update.
+     */
+    List<SubscriptionInfo> match(WeatherUpdate update) {
+        if (subscriptions == 0) {
+            return List.of();
+        }
+        String region = update.getRegion();
+        String[] path = segments(Topic.normalize(region.isEmpty() ? update.getCity() : region + "/" + update.getCity()));
+        List<SubscriptionInfo> matched = new ArrayList<>();
+        collect(root, path, 0, update, matched);
+        return matched;
+    }
+
+    // Each node is reached at most once per path: its depth and its parent's segment fix the way to it
+    private static void collect(Node node, String[] path, int depth, WeatherUpdate update, List<SubscriptionInfo> matched) {
+        take(node.anyDepth, update, matched); // "**" matches the rest of the path, also when nothing is left
+        if (depth == path.length) {
+            take(node.exact, update, matched);
+            return;
+        }
+        String segment = path[depth];
+        Node child = node.children.get(segment);
+        if (child != null) {
+            collect(child, path, depth + 1, update, matched);
+        }
+        if (!node.prefixes.isEmpty()) {
+            for (Map.Entry<String, Node> prefix : node.prefixes.entrySet()) {
+                if (segment.startsWith(prefix.getKey())) {
+                    collect(prefix.getValue(), path, depth + 1, update, matched);
+                }
+            }
+        }
+    }
+
+    private static void take(Map<SubscriptionInfo, CompiledFilter> subscribers, WeatherUpdate update,
+                             List<SubscriptionInfo> matched) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<SubscriptionInfo, CompiledFilter> subscriber : subscribers.entrySet()) {
+            if (subscriber.getValue().test(update)) {
+                matched.add(subscriber.getKey());
+            }
+        }
+    }
+
+    int subscriptionCount() {
+        return subscriptions;
+    }
+
+    private static final class Node {
+        final ConcurrentMap<String, Node> children = new ConcurrentHashMap<>(); // By exact segment
+        final ConcurrentMap<String, Node> prefixes = new ConcurrentHashMap<>(); // By the prefix before the "*"
+        final ConcurrentMap<SubscriptionInfo, CompiledFilter> exact = new ConcurrentHashMap<>(); // Pattern ends here
+        final ConcurrentMap<SubscriptionInfo, CompiledFilter> anyDepth = new ConcurrentHashMap<>(); // Followed by "**"
+
+        // Only called under the trie's lock
+        Node childFor(String segment) {
+            return segment.endsWith("*")
+                    ? prefixes.computeIfAbsent(segment.substring(0, segment.length() - 1), p -> new Node())
+                    : children.computeIfAbsent(segment, s -> new Node());
+        }
+
+        Node existingChild(String segment) {
+            return segment.endsWith("*") ? prefixes.get(segment.substring(0, segment.length() - 1)) : children.get(segment);
+        }
+
+        void removeChild(String segment) {
+            if (segment.endsWith("*")) {
+                prefixes.remove(segment.substring(0, segment.length() - 1));
+            } else {
+                children.remove(segment);
+            }
+        }
+
+        boolean isEmpty() {
+            return children.isEmpty() && prefixes.isEmpty() && exact.isEmpty() && anyDepth.isEmpty();
+        }
+    }
+}
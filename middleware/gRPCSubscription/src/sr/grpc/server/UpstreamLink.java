@@ -0,0 +1,271 @@
+package sr.grpc.server;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import sr.grpc.gen.event.EventNotification;
+import sr.grpc.gen.event.EventNotificationBatch;
+import sr.grpc.gen.event.EventType;
+import sr.grpc.gen.event.FederationInterest;
+import sr.grpc.gen.event.FederationServiceGrpc;
+import sr.grpc.gen.event.InterestUpdate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * The events of an edge server: a Federate call to its upstream server, which sends the events of the topics this
+ * server has local subscribers for. Started as the service's {@link EventSource} in place of a local producer.
+ * <p>
+ * The service reports every subscription it indexes or drops. The link counts the subscriptions of each city
+ * and news keyword and announces a topic upstream when it gains its first one and withdraws it when it loses
+ * its last, collecting the changes of {@value #INTEREST_FLUSH_MILLIS} ms into one InterestUpdate. The upstream
+ * sends each event of those topics once, in batches, and the service fans it out here like its own.
+ * <p>
+ * A notification whose upstream sequence number is not above the last one of its topic is a repeat and dropped.
+ * The upstream writes the call in publication order, HIGH priority events included, so only repeats are. The
+ * events keep their priority, and skip the routine backlogs of this server's subscribers again.
+ * A failed call is reopened with backoff and the whole interest announced again; events published upstream while
+ * it was down are not recovered.
+ */
+final class UpstreamLink implements EventSource {
+
+    private static final Logger logger = Logger.getLogger(UpstreamLink.class.getName());
+
+    static final long INTEREST_FLUSH_MILLIS = 20;
+    private static final long MIN_RECONNECT_MILLIS = 500;
+    private static final long MAX_RECONNECT_MILLIS = 30_000;
+
+    private final String upstream;
+    private final ManagedChannel channel;
+    private final ScheduledExecutorService timer; // Interest flushes and reconnects
+
+    // Guarded by this
+    private final Map<Topic, Set<SubscriptionInfo>> interest = new HashMap<>(); // Local subscriptions of each topic
+    private final Set<Topic> added = new HashSet<>(); // Not announced yet
+    private final Set<Topic> removed = new HashSet<>(); // Not withdrawn yet
+    private boolean flushScheduled;
+    private StreamObserver<InterestUpdate> requests; // Request stream of the current call; null while there is none
+    private Receiver receiver; // Response side of the current call
+    private long reconnectMillis = MIN_RECONNECT_MILLIS;
+
+    private volatile Consumer<EventNotification> sink;
+    private volatile boolean closed;
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong repeats = new AtomicLong();
+
+    UpstreamLink(String upstream) {
+        this.upstream = upstream;
+        this.channel = ManagedChannelBuilder.forTarget(upstream).usePlaintext().build();
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "upstream-link");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void start(Consumer<EventNotification> sink) {
+        this.sink = sink;
+        connect();
+    }
+
+    /**
+     * A subscription was indexed: its topics are pulled from upstream unless another subscription has them already.
+     */
+    synchronized void interested(SubscriptionInfo subInfo) {
+        for (Topic topic : topicsOf(subInfo)) {
+            Set<SubscriptionInfo> subscribers = interest.computeIfAbsent(topic, t -> new HashSet<>());
+            if (subscribers.add(subInfo) && subscribers.size() == 1 && !removed.remove(topic)) {
+                added.add(topic);
+                scheduleFlush();
+            }
+        }
+    }
+
+    /**
+     * A subscription was dropped from the index: topics left without subscribers are withdrawn from upstream.
+     */
+    synchronized void uninterested(SubscriptionInfo subInfo) {
+        for (Topic topic : topicsOf(subInfo)) {
+            Set<SubscriptionInfo> subscribers = interest.get(topic);
+            if (subscribers != null && subscribers.remove(subInfo) && subscribers.isEmpty()) {
+                interest.remove(topic);
+                if (!added.remove(topic)) {
+                    removed.add(topic);
+                    scheduleFlush();
+                }
+            }
+        }
+    }
+
+    // Weather subscriptions want their city; keyword subscriptions each of their keywords
+    private static List<Topic> topicsOf(SubscriptionInfo subInfo) {
+        if (subInfo.request.getEventType() != EventType.NEWS_FLASH) {
+            return List.of(subInfo.topic);
+        }
+        List<Topic> topics = new ArrayList<>();
+        for (String keyword : KeywordIndex.keywordsOf(subInfo)) {
+            topics.add(Topic.of(EventType.NEWS_FLASH, keyword));
+        }
+        return topics;
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled || requests == null) {
+            return; // Flushed by the pending timer, or announced in full when the call is reopened
+        }
+        flushScheduled = true;
+        try {
+            timer.schedule(this::flush, INTEREST_FLUSH_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            flushScheduled = false; // Closed
+        }
+    }
+
+    private synchronized void flush() {
+        flushScheduled = false;
+        if (requests == null || (added.isEmpty() && removed.isEmpty())) {
+            return;
+        }
+        InterestUpdate.Builder update = InterestUpdate.newBuilder();
+        added.forEach(topic -> update.addAdded(interestIn(topic)));
+        removed.forEach(topic -> update.addRemoved(interestIn(topic)));
+        added.clear();
+        removed.clear();
+        requests.onNext(update.build());
+    }
+
+    private static FederationInterest interestIn(Topic topic) {
+        return FederationInterest.newBuilder().setEventType(topic.eventType()).setTarget(topic.target()).build();
+    }
+
+    // Opens the Federate call and announces everything this server is interested in
+    private synchronized void connect() {
+        if (closed) {
+            return;
+        }
+        receiver = new Receiver();
+        requests = FederationServiceGrpc.newStub(channel).federate(receiver);
+        removed.clear(); // The new call starts from nothing upstream
+        added.clear();
+        added.addAll(interest.keySet());
+        flushScheduled = false;
+        logger.info("Federating with upstream " + upstream + ", interested in " + interest.size() + " topics");
+        flush();
+    }
+
+    // The call ended: reopen it after a pause that grows while the upstream stays unreachable
+    private synchronized void disconnected(Receiver call, Status status) {
+        if (receiver != call) {
+            return; // Superseded or closed already
+        }
+        receiver = null;
+        requests = null;
+        if (closed) {
+            return;
+        }
+        logger.warning("Federation link to " + upstream + " ended (" + status + "); reconnecting in " + reconnectMillis + " ms");
+        try {
+            timer.schedule(this::connect, reconnectMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            return; // Closed meanwhile
+        }
+        reconnectMillis = Math.min(reconnectMillis * 2, MAX_RECONNECT_MILLIS);
+    }
+
+    private synchronized void connected() {
+        reconnectMillis = MIN_RECONNECT_MILLIS;
+    }
+
+    // Publishes the events of one call; gRPC delivers its batches one at a time, so the sequences need no locking
+    private class Receiver implements StreamObserver<EventNotificationBatch> {
+        private final Map<Topic, Long> lastSequences = new HashMap<>(); // Upstream numbering of this call
+        private boolean first = true;
+
+        @Override
+        public void onNext(EventNotificationBatch batch) {
+            if (first) {
+                first = false;
+                connected();
+            }
+            for (EventNotification notification : batch.getNotificationsList()) {
+                Topic topic = topicOf(notification);
+                long sequence = notification.getSequence();
+                if (topic != null && sequence != 0) {
+                    Long last = lastSequences.put(topic, sequence);
+                    if (last != null && sequence <= last) {
+                        lastSequences.put(topic, last);
+                        repeats.incrementAndGet();
+                        continue;
+                    }
+                }
+                received.incrementAndGet();
+                sink.accept(notification); // Blocks while the dispatcher is full, which holds back the next batch
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            disconnected(this, Status.fromThrowable(t));
+        }
+
+        @Override
+        public void onCompleted() {
+            disconnected(this, Status.UNAVAILABLE.withDescription("Upstream server ended the link"));
+        }
+    }
+
+    // The topic the upstream numbered the notification in: the weather's city or the article's source
+    private static Topic topicOf(EventNotification notification) {
+        switch (notification.getEventPayloadCase()) {
+            case WEATHER_UPDATE:
+                return Topic.of(EventType.WEATHER_UPDATE, notification.getWeatherUpdate().getCity());
+            case NEWS_FLASH:
+                return Topic.of(EventType.NEWS_FLASH, notification.getNewsFlash().getSource());
+            default:
+                return null;
+        }
+    }
+
+    long receivedCount() {
+        return received.get();
+    }
+
+    long repeatCount() {
+        return repeats.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (this) {
+            if (requests != null) {
+                requests.onCompleted();
+                requests = null;
+                receiver = null;
+            }
+        }
+        timer.shutdownNow();
+        channel.shutdown();
+        logger.info("Federation link to " + upstream + " closed after " + received.get() + " events ("
+                + repeats.get() + " repeats dropped)");
+    }
+
+    @Override
+    public String toString() {
+        return "upstream " + upstream;
+    }
+}
@@ -0,0 +1,127 @@
+package sr.grpc.server;
+
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import sr.grpc.gen.event.EventNotification;
+import sr.grpc.gen.event.WeatherUpdate;
+import sr.grpc.gen.event.WeatherUpdateDelta;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One weather update as sent to subscriptions in delta mode (SubscriptionRequest.weather_delta).
+ * <p>
+ * The delta is worked out when the notification is written, not when it is queued: only then is it known
+ * what the subscriber was really sent last, after the overflow policy or conflation may have discarded pending
+ * updates. A subscription gets the full update first, then {@code weather_update_delta} with the fields that
+ * changed since the last update it was sent, and nothing at all when no field changed or when a HIGH priority
+ * update written ahead of this one is already newer.
+ * <p>
+ * Subscribers that are up to date share the same base, so the delta against it is encoded once per event
+ * and reused, like the full body.
+ */
+final class WeatherDeltaEncoder {
+
+    private final EventNotification notification;
+    private final long sequence;
+    private final ByteBuffer fullBody; // The update encoded in full, shared with the other subscribers
+    // Delta against the base most recently asked for; a race between draining threads only costs a recomputation
+    private volatile Delta cached;
+
+    WeatherDeltaEncoder(EventNotification notification, long sequence, ByteBuffer fullBody) {
+        this.notification = notification;
+        this.sequence = sequence;
+        this.fullBody = fullBody;
+    }
+
+    /**
+     * The notification to queue for a delta subscription; its body is chosen when it is written.
+     */
+    EncodedNotification notificationFor(SubscriptionInfo subInfo, long publishedNanos, boolean highPriority) {
+        return new PendingDelta(subInfo.subscriberPrefix, this, subInfo.deltaState, publishedNanos, highPriority);
+    }
+
+    // Body to write to a subscriber whose last update is in state, or null if nothing changed since
+    private ByteBuffer bodyFor(SubscriberState state) {
+        ByteBuffer body;
+        if (state.lastSent != null && sequence < state.lastSequence) {
+            return null; // A HIGH priority update written ahead of this one is newer; the subscriber keeps that
+        }
+        if (state.lastSent == null) {
+            body = fullBody;
+        } else {
+            Delta delta = cached;
+            if (delta == null || delta.baseSequence != state.lastSequence) {
+                delta = new Delta(state.lastSequence, encodeDelta(state.lastSent, state.lastSequence));
+                cached = delta;
+            }
+            if (delta.body == null) {
+                return null; // The base stays the update the subscriber actually has
+            }
+            body = delta.body;
+        }
+        state.lastSent = notification.getWeatherUpdate();
+        state.lastSequence = sequence;
+        return body;
+    }
+
+    // Encodes the fields that differ from base, or returns null if none does
+    private ByteBuffer encodeDelta(WeatherUpdate base, long baseSequence) {
+        WeatherUpdate update = notification.getWeatherUpdate();
+        WeatherUpdateDelta.Builder delta = WeatherUpdateDelta.newBuilder()
+                .setCity(update.getCity())
+                .setBaseSequence(baseSequence);
+        WeatherUpdate.Builder changes = WeatherUpdate.newBuilder();
+        for (FieldDescriptor field : WeatherUpdate.getDescriptor().getFields()) {
+            Object value = update.getField(field);
+            if (!value.equals(base.getField(field))) {
+                delta.addChangedFields(field.getNumber());
+                changes.setField(field, value); // A repeated field is replaced as a whole
+            }
+        }
+        if (delta.getChangedFieldsCount() == 0) {
+            return null;
+        }
+        EventNotification deltaNotification = notification.toBuilder()
+                .setWeatherUpdateDelta(delta.setChanges(changes)) // Replaces weather_update in the payload oneof
+                .build();
+        return ByteBuffer.wrap(EncodedNotification.encodeBody(deltaNotification, sequence));
+    }
+
+    /**
+     * The last weather update written to one delta subscription. Only used by the thread draining the
+     * subscription's outbound queue.
+     */
+    static final class SubscriberState {
+        private WeatherUpdate lastSent; // Null until the first, full update is written
+        private long lastSequence;
+    }
+
+    private static final class Delta {
+        final long baseSequence;
+        final ByteBuffer body; // Null: nothing changed against that base
+
+        Delta(long baseSequence, ByteBuffer body) {
+            this.baseSequence = baseSequence;
+            this.body = body;
+        }
+    }
+
+    // Queued in place of a regular notification; resolved to the full update or a delta when written
+    private static final class PendingDelta extends EncodedNotification {
+        private final WeatherDeltaEncoder encoder;
+        private final SubscriberState state;
+
+        PendingDelta(byte[] prefix, WeatherDeltaEncoder encoder, SubscriberState state, long publishedNanos,
+                     boolean highPriority) {
+            super(prefix, encoder.fullBody, publishedNanos, highPriority);
+            this.encoder = encoder;
+            this.state = state;
+        }
+
+        @Override
+        EncodedNotification resolve() {
+            ByteBuffer body = encoder.bodyFor(state);
+            return body == null ? null : new EncodedNotification(prefix, body, publishedNanos, highPriority);
+        }
+    }
+}
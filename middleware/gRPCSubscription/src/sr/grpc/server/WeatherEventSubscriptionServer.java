@@ -1,13 +1,18 @@
 package sr.grpc.server;
 
+import io.grpc.Codec;
+import io.grpc.CompressorRegistry;
+import io.grpc.DecompressorRegistry;
 import io.grpc.Server;
-import io.grpc.ServerBuilder;
 import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -20,34 +25,99 @@ public class WeatherEventSubscriptionServer {
     private final Server server;
     private final WeatherEventSubscriptionService subscriptionService;
     private final ScheduledExecutorService eventGeneratorScheduler;
+    private final ExecutorService grpcExecutor; // Null in DIRECT mode
+    private final ServerOptions options;
 
     public WeatherEventSubscriptionServer(int port, int threadPoolSize, long keepAliveSeconds) throws IOException {
-        this.port = port;
-        // Use a fixed thread pool for handling gRPC requests
-        ThreadPoolExecutor grpcExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(threadPoolSize);
+        this(ServerOptions.builder()
+                .port(port)
+                .threadPoolSize(threadPoolSize)
+                .keepAliveSeconds(keepAliveSeconds)
+                .build());
+    }
+
+    public WeatherEventSubscriptionServer(ServerOptions options) throws IOException {
+        this.options = options;
+        this.port = options.port();
+        long keepAliveSeconds = options.keepAliveSeconds();
+        // Executor for handling gRPC requests: fixed pool, virtual threads, or none (direct)
+        this.grpcExecutor = options.executionMode().newCallExecutor(options.threadPoolSize());
 
-        // Separate scheduler for event generation
+        // Separate scheduler for event generation; the fan-out itself runs on the service's partitioned dispatcher
         this.eventGeneratorScheduler = Executors.newSingleThreadScheduledExecutor();
-        this.subscriptionService = new WeatherEventSubscriptionService(eventGeneratorScheduler);
+        this.subscriptionService = new WeatherEventSubscriptionService(eventGeneratorScheduler, options);
 
         // Configure server with keep-alive and the service implementation
-        ServerBuilder<?> serverBuilder = NettyServerBuilder.forPort(port) // Use NettyServerBuilder for keepAlive
+        NettyServerBuilder serverBuilder = NettyServerBuilder.forPort(port) // Use NettyServerBuilder for keepAlive
                 .addService(subscriptionService)
-                .executor(grpcExecutor) // Assign the executor for handling calls
+                .addService(new EventStatsService(subscriptionService)) // Live metrics for operators
+                .addService(subscriptionService.bindFederationService()) // Edge servers take their events from here
                 .keepAliveTime(keepAliveSeconds, TimeUnit.SECONDS) // Ping clients if idle
                 .keepAliveTimeout(keepAliveSeconds / 2, TimeUnit.SECONDS) // Time to wait for ACK after ping
-                .permitKeepAliveWithoutCalls(true); // Allow keepalive even if there are no ongoing calls
+                .permitKeepAliveWithoutCalls(true) // Allow keepalive even if there are no ongoing calls
+                .compressorRegistry(compressorRegistry(options)) // Response encodings subscriptions may ask for
+                .decompressorRegistry(decompressorRegistry(options))
+                .addStreamTracerFactory(WireSizeTracer.FACTORY); // Raw vs. compressed bytes per stream
+        if (subscriptionService.cluster() != null) {
+            serverBuilder.addService(subscriptionService.cluster()); // Membership and event forwarding between nodes
+        }
+        if (grpcExecutor != null) {
+            serverBuilder.executor(grpcExecutor); // Assign the executor for handling calls
+        } else {
+            serverBuilder.directExecutor(); // Handlers never block (no cluster in DIRECT mode), so they may run on the transport threads
+        }
 
         this.server = serverBuilder.build();
-        logger.info("Server configured on port " + port + " with keepAlive=" + keepAliveSeconds + "s");
+        logger.info("Server configured: " + options);
+    }
+
+    private static CompressorRegistry compressorRegistry(ServerOptions options) {
+        CompressorRegistry registry = CompressorRegistry.newEmptyInstance();
+        registry.register(Codec.Identity.NONE);
+        registry.register(new Codec.Gzip());
+        options.compressionCodecs().forEach(registry::register);
+        return registry;
+    }
+
+    private static DecompressorRegistry decompressorRegistry(ServerOptions options) {
+        DecompressorRegistry registry = DecompressorRegistry.getDefaultInstance();
+        for (Codec codec : options.compressionCodecs()) {
+            registry = registry.with(codec, true);
+        }
+        return registry;
+    }
+
+    /**
+     * The port the server listens on; resolves port 0 to the actual port once started.
+     */
+    public int getPort() {
+        return server.getPort() > 0 ? server.getPort() : port;
+    }
+
+    WeatherEventSubscriptionService service() {
+        return subscriptionService;
     }
 
     public void start() throws IOException {
         server.start();
-        logger.info("Server started, listening on " + port);
+        logger.info("Server started, listening on " + getPort());
+        if (subscriptionService.cluster() != null) {
+            subscriptionService.cluster().start(); // Before the events start, so that they are routed to their owners
+        }
 
-        // Start the event generator simulation
-        subscriptionService.startEventGeneration(1, 3, TimeUnit.SECONDS); // start after 1s, repeat every 3s
+        if (subscriptionService.upstream() != null) {
+            // An edge server: its events are the upstream server's, for the topics subscribed to here
+            subscriptionService.startEventSource(subscriptionService.upstream());
+        } else if (options.eventSource() != null) {
+            subscriptionService.startEventSource(options.eventSource());
+        } else if (options.replayFile() != null) {
+            // Replay recorded traffic instead of the simulation
+            subscriptionService.startEventSource(new FileReplayEventSource(options.replayFile(), options.replayRate()));
+        } else {
+            // Start the event generator simulation
+            subscriptionService.startEventGeneration(1, 3, TimeUnit.SECONDS); // start after 1s, repeat every 3s
+        }
+        subscriptionService.startQueueStatsReporting(30, TimeUnit.SECONDS); // report slow subscribers every 30s
 
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             System.err.println("*** Shutting down gRPC server due to JVM shutdown ***");
@@ -69,8 +139,9 @@ public class WeatherEventSubscriptionServer {
             server.shutdown();
         }
 
-        // 2. Stop the event generator
+        // 2. Stop the event sources and the generator's scheduler
         logger.info("Shutting down event generator...");
+        subscriptionService.stopEventSources();
         eventGeneratorScheduler.shutdown();
         try {
             if (!eventGeneratorScheduler.awaitTermination(5, TimeUnit.SECONDS)) {
@@ -83,8 +154,21 @@ public class WeatherEventSubscriptionServer {
             eventGeneratorScheduler.shutdownNow();
         }
         logger.info("Event generator shut down.");
+        if (subscriptionService.cluster() != null) {
+            subscriptionService.cluster().shutdown(); // Peers receive what was forwarded to them so far
+        }
+
+        // 3. Deliver events already handed to the dispatcher, then stop its threads
+        logger.info("Shutting down event dispatcher...");
+        try {
+            subscriptionService.shutdownDispatcher(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for event dispatcher shutdown.");
+        }
+        logger.info("Event dispatcher shut down.");
 
-        // 3. Wait for existing calls to finish or timeout
+        // 4. Wait for existing calls to finish or timeout
         if (server != null) {
             logger.info("Waiting for existing connections to terminate...");
             if (!server.awaitTermination(30, TimeUnit.SECONDS)) {
@@ -94,6 +178,9 @@ public class WeatherEventSubscriptionServer {
                 server.awaitTermination(5, TimeUnit.SECONDS);
             }
         }
+        if (grpcExecutor != null) {
+            grpcExecutor.shutdown();
+        }
         logger.info("Server shutdown process finished.");
     }
 
@@ -110,13 +197,62 @@ public class WeatherEventSubscriptionServer {
      * Main launches the server from the command line.
      */
     public static void main(String[] args) {
+        // Optional first argument selects how calls are executed: FIXED_POOL, VIRTUAL_THREADS or DIRECT
+        ExecutionMode executionMode = args.length > 0 ? ExecutionMode.valueOf(args[0]) : ExecutionMode.FIXED_POOL;
+        // Optional second and third arguments replay a recording instead of generating random events,
+        // e.g. "peak.bin original:10" replays it ten times faster than recorded
+        Path replayFile = args.length > 1 ? Paths.get(args[1]) : null;
+        ReplayRate replayRate = args.length > 2 ? ReplayRate.parse(args[2]) : ReplayRate.original(1);
+        // Cluster mode: -Dcluster.address=localhost:50052 -Dcluster.seeds=localhost:50051 [-Dcluster.routing=PROXY]
+        // starts a node listening on the address's port that joins the cluster of the first seed that answers
+        String clusterAddress = System.getProperty("cluster.address");
+        String clusterSeeds = System.getProperty("cluster.seeds", "");
+        // Edge server: -Dfederation.upstream=localhost:50051 -Dport=50061 takes its events from the server at
+        // the upstream address instead of generating them, and serves its own subscribers on the given port
+        String federationUpstream = System.getProperty("federation.upstream");
+        int port = clusterAddress != null ? Integer.parseInt(clusterAddress.substring(clusterAddress.lastIndexOf(':') + 1))
+                : Integer.getInteger("port", 50051);
+        // Journal: -Djournal.dir=journal keeps the published events there so that reconnecting clients can resume;
+        // without it nothing is written to disk and resuming is rejected. Servers sharing a machine need one each
+        String journalDir = System.getProperty("journal.dir", "");
+        // Synthetic load instead of the demo generator: -Dsynthetic.rate=200000 [-Dsynthetic.cities=10000
+        // -Dsynthetic.skew=1.1 -Dsynthetic.payload=minimal:70,standard:25,large:5 -Dsynthetic.burst=burst:10:200:5000
+        // -Dsynthetic.threads=2]; a rate of 0 publishes as fast as the dispatcher accepts
+        String syntheticRate = System.getProperty("synthetic.rate");
+        SyntheticEventSource syntheticSource = syntheticRate == null ? null : SyntheticEventSource.builder()
+                .eventsPerSecond(Double.parseDouble(syntheticRate))
+                .cities(Integer.getInteger("synthetic.cities", 1000))
+                .citySkew(Double.parseDouble(System.getProperty("synthetic.skew", "1.0")))
+                .payloads(System.getProperty("synthetic.payload", "standard"))
+                .burst(BurstPattern.parse(System.getProperty("synthetic.burst", "steady")))
+                .threads(Integer.getInteger("synthetic.threads", 1))
+                .build();
+
         // Configuration parameters
-        int port = 50051;
-        int threadPoolSize = 10; // Number of threads to handle gRPC requests
-        long keepAliveSeconds = 60; // Send keep-alive pings every 60 seconds
+        ServerOptions options = ServerOptions.builder()
+                .port(port)
+                .threadPoolSize(10) // Number of threads to handle gRPC requests in FIXED_POOL mode
+                .keepAliveSeconds(60) // Send keep-alive pings every 60 seconds
+                .executionMode(executionMode)
+                .dispatcherThreads(Runtime.getRuntime().availableProcessors()) // Fan-out threads, partitioned by city
+                .outboundQueueCapacity(256) // Notifications buffered per subscription while its stream is not ready
+                .overflowPolicy(OverflowPolicy.DROP_OLDEST) // What to do when that buffer is full
+                .replayFile(replayFile)
+                .replayRate(replayRate)
+                .eventSource(syntheticSource)
+                .journalDirectory(journalDir.isEmpty() ? null : Paths.get(journalDir))
+                .journalSegmentBytes(64 * 1024 * 1024) // Size of each memory-mapped journal file
+                .journalRetentionBytes(1024L * 1024 * 1024) // Keep at most 1 GiB of journal files...
+                .journalRetentionSeconds(24 * 60 * 60) // ...and none whose last event is older than a day
+                .compressionMinBytes(256) // Notifications smaller than this are not worth compressing
+                .clusterAddress(clusterAddress)
+                .clusterSeeds(clusterSeeds.isEmpty() ? List.of() : List.of(clusterSeeds.split(",")))
+                .clusterRouting(ClusterRouting.valueOf(System.getProperty("cluster.routing", "REDIRECT")))
+                .federationUpstream(federationUpstream)
+                .build();
 
         try {
-            WeatherEventSubscriptionServer server = new WeatherEventSubscriptionServer(port, threadPoolSize, keepAliveSeconds);
+            WeatherEventSubscriptionServer server = new WeatherEventSubscriptionServer(options);
             server.start();
             server.blockUntilShutdown();
         } catch (IOException e) {
@@ -1,54 +1,381 @@
 package sr.grpc.server;
 
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.grpc.BindableService;
+import io.grpc.Codec;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.ServerCalls;
 import io.grpc.stub.StreamObserver;
 import sr.grpc.gen.event.*;
-import sr.grpc.gen.event.EventSubscriptionServiceGrpc.EventSubscriptionServiceImplBase;
 
-import java.time.Instant;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-public class WeatherEventSubscriptionService extends EventSubscriptionServiceImplBase {
+// Implements AsyncService + BindableService rather than extending the generated ImplBase,
+// whose bindService() is final, so that Subscribe can be bound with a custom response marshaller
+public class WeatherEventSubscriptionService implements EventSubscriptionServiceGrpc.AsyncService, BindableService {
 
     private static final Logger logger = Logger.getLogger(WeatherEventSubscriptionService.class.getName());
 
+    // Subscribe with the generated request marshaller and a response marshaller that splices the
+    // per-subscriber ID in front of a body encoded once per event
+    static final MethodDescriptor<SubscriptionRequest, EncodedNotification> SUBSCRIBE_METHOD =
+            EventSubscriptionServiceGrpc.getSubscribeMethod().toBuilder(
+                    EventSubscriptionServiceGrpc.getSubscribeMethod().getRequestMarshaller(),
+                    NotificationMarshaller.INSTANCE).build();
+
+    // SubscribeBatched, likewise writing batches straight from the encoded notifications
+    static final MethodDescriptor<SubscriptionRequest, EncodedBatch> SUBSCRIBE_BATCHED_METHOD =
+            EventSubscriptionServiceGrpc.getSubscribeBatchedMethod().toBuilder(
+                    EventSubscriptionServiceGrpc.getSubscribeBatchedMethod().getRequestMarshaller(),
+                    NotificationBatchMarshaller.INSTANCE).build();
+
+    // SubscriptionSession, with notifications wrapped into SessionResponse without re-encoding them
+    static final MethodDescriptor<SessionRequest, EncodedSessionResponse> SUBSCRIPTION_SESSION_METHOD =
+            EventSubscriptionServiceGrpc.getSubscriptionSessionMethod().toBuilder(
+                    EventSubscriptionServiceGrpc.getSubscriptionSessionMethod().getRequestMarshaller(),
+                    SessionResponseMarshaller.INSTANCE).build();
+
+    // Federate, with the events of an edge server's topics written as batches of encoded notifications
+    static final MethodDescriptor<InterestUpdate, EncodedBatch> FEDERATE_METHOD =
+            FederationServiceGrpc.getFederateMethod().toBuilder(
+                    FederationServiceGrpc.getFederateMethod().getRequestMarshaller(),
+                    NotificationBatchMarshaller.INSTANCE).build();
+
     // Stores active subscriptions: client_subscription_id -> SubscriptionInfo
     private final ConcurrentMap<String, SubscriptionInfo> activeSubscriptions = new ConcurrentHashMap<>();
+    // IDs of the confirmations sent when a subscription starts
+    private final NotificationIds confirmationIds = new NotificationIds("CONFIRM");
     private final ScheduledExecutorService eventGeneratorScheduler;
-    private final Random random = new Random();
+    // Fan-out runs here, partitioned by topic, so event production never waits on delivery
+    private final PartitionedDispatcher dispatcher;
+    // Writes to subscriber streams run here when set (virtual threads); otherwise on the dispatcher thread
+    private final ExecutorService deliveryExecutor;
+    // Per-subscription outbound queue bound and what happens when a slow subscriber fills it
+    private final int outboundQueueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    // Bound of a SubscriptionSession's queue, shared by all subscriptions of the session
+    private final int sessionQueueCapacity;
+    // SubscribeBatched coalescing window; the timer flushes batches that did not fill up in time
+    private final int batchMaxSize;
+    private final long batchMaxDelayMillis;
+    // Delayed delivery work: batch flushes, journal replays waiting for queue space, journal maintenance
+    private final ScheduledExecutorService deliveryTimer;
+    // Journal of published notifications that resuming subscriptions are replayed from; null if disabled
+    private final EventJournal journal;
+    // Response encodings a subscription may ask for, and the smallest message compressed on such a stream
+    private final Set<String> responseEncodings = new HashSet<>();
+    private final int compressionMinBytes;
+    // Last sequence number per topic; only advanced on the topic's dispatcher partition
+    private final ConcurrentMap<Topic, AtomicLong> sequences = new ConcurrentHashMap<>();
+    // Counters and latency histograms served by EventStatsService
+    private final DispatchMetrics metrics;
+    // Inverted index over the same subscriptions, keyed by (event type, normalized target), used for fan-out
+    private final SubscriptionIndex subscriptionIndex = new SubscriptionIndex();
+    // NEWS_FLASH subscriptions by keyword; articles are matched against all of them in one pass
+    private final KeywordIndex keywordIndex = new KeywordIndex();
+    // WEATHER_UPDATE subscriptions to a circle instead of a city, by the grid cells it overlaps
+    private final GeoIndex geoIndex = new GeoIndex();
+    // WEATHER_UPDATE subscriptions to a city path or a wildcard pattern of paths, by their segments
+    private final TopicTrie topicTrie = new TopicTrie();
+    // Sources started on this service; closed when the server stops
+    private final List<EventSource> eventSources = new CopyOnWriteArrayList<>();
+    // Membership in a cluster that partitions the cities between its nodes; null if this server runs alone
+    private final ClusterNode cluster;
+    // Where an edge server takes its events from; null if this server's events are produced here
+    private final UpstreamLink upstream;
+    private final int federationQueueCapacity; // Bound of the queue of each edge server's Federate stream
+
+    private static final int DISPATCHER_QUEUE_CAPACITY = 1024; // Events waiting per dispatcher partition
+    private static final long REPLAY_RETRY_MILLIS = 5; // Pause of a replay whose subscriber's queue is full
+    private static final int REPLAY_MAX_SKIPPED = 4096; // Journal entries a filtered replay may pass over per turn
+    private static final long JOURNAL_MAINTENANCE_SECONDS = 1; // How often the journal is flushed and trimmed
 
-    // Helper class to store observer and criteria together
-    private static class SubscriptionInfo {
-        final StreamObserver<EventNotification> observer;
-        final SubscriptionRequest request; // Store the full request for easy access to criteria and type
-        final String clientSubscriptionId;
+    // Constructor accepting the scheduler
+    public WeatherEventSubscriptionService(ScheduledExecutorService eventGeneratorScheduler) {
+        this(eventGeneratorScheduler, ServerOptions.defaults());
+    }
 
-        SubscriptionInfo(String clientSubscriptionId, SubscriptionRequest request, StreamObserver<EventNotification> observer) {
-            this.clientSubscriptionId = clientSubscriptionId;
-            this.request = request;
-            this.observer = observer;
+    public WeatherEventSubscriptionService(ScheduledExecutorService eventGeneratorScheduler, ServerOptions options) {
+        this.eventGeneratorScheduler = eventGeneratorScheduler;
+        this.dispatcher = new PartitionedDispatcher("event-dispatcher", options.dispatcherThreads(), DISPATCHER_QUEUE_CAPACITY);
+        this.outboundQueueCapacity = options.outboundQueueCapacity();
+        this.overflowPolicy = options.overflowPolicy();
+        this.sessionQueueCapacity = options.sessionQueueCapacity();
+        this.batchMaxSize = options.batchMaxSize();
+        this.batchMaxDelayMillis = options.batchMaxDelayMillis();
+        this.deliveryTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "delivery-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.journal = options.journalDirectory() != null ? openJournal(options) : null;
+        this.metrics = new DispatchMetrics(TimeUnit.MILLISECONDS.toNanos(options.highPriorityObjectiveMillis()));
+        deliveryTimer.scheduleAtFixedRate(metrics::tick, 1, 1, TimeUnit.SECONDS);
+        this.responseEncodings.add("identity");
+        this.responseEncodings.add("gzip");
+        for (Codec codec : options.compressionCodecs()) {
+            this.responseEncodings.add(codec.getMessageEncoding());
+        }
+        this.compressionMinBytes = options.compressionMinBytes();
+        ExecutorService virtualThreads = options.virtualThreadDelivery() ? ExecutionMode.newVirtualThreadPerTaskExecutor() : null;
+        if (options.virtualThreadDelivery() && virtualThreads == null) {
+            logger.warning("Virtual thread delivery needs Java 21+; subscriber streams are written by the dispatcher threads.");
         }
+        this.deliveryExecutor = virtualThreads;
+        this.cluster = options.clusterAddress() != null ? new ClusterNode(this, options) : null;
+        this.upstream = options.federationUpstream() != null ? new UpstreamLink(options.federationUpstream()) : null;
+        this.federationQueueCapacity = options.federationQueueCapacity();
     }
 
-    // Constructor accepting the scheduler
-    public WeatherEventSubscriptionService(ScheduledExecutorService eventGeneratorScheduler) {
-        this.eventGeneratorScheduler = eventGeneratorScheduler;
+    // Opens the journal, continues every topic's numbering where it ended and schedules flushing and retention
+    private EventJournal openJournal(ServerOptions options) {
+        EventJournal eventJournal;
+        try {
+            eventJournal = new EventJournal(options.journalDirectory(), options.journalSegmentBytes(),
+                    options.journalRetentionBytes(), TimeUnit.SECONDS.toMillis(options.journalRetentionSeconds()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open event journal in " + options.journalDirectory(), e);
+        }
+        eventJournal.lastSequences().forEach((topic, sequence) -> sequences.put(topic, new AtomicLong(sequence)));
+        deliveryTimer.scheduleWithFixedDelay(() -> {
+            try {
+                eventJournal.force();
+                eventJournal.enforceRetention();
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Event journal maintenance failed", e);
+            }
+        }, JOURNAL_MAINTENANCE_SECONDS, JOURNAL_MAINTENANCE_SECONDS, TimeUnit.SECONDS);
+        return eventJournal;
     }
 
     // Method to start the periodic event generation
     public void startEventGeneration(long initialDelay, long period, TimeUnit unit) {
-        eventGeneratorScheduler.scheduleAtFixedRate(this::generateAndSendNotifications, initialDelay, period, unit);
-        logger.info("Event generation scheduled: initialDelay=" + initialDelay + ", period=" + period + " " + unit.name());
+        startEventSource(new RandomEventSource(eventGeneratorScheduler, initialDelay, period, unit));
+    }
+
+    /**
+     * Starts a source whose events are published to the subscribers; it runs until {@link #stopEventSources()}.
+     */
+    public void startEventSource(EventSource source) {
+        eventSources.add(source);
+        source.start(this::publish);
+    }
+
+    /**
+     * Closes every started source. Call before {@link #shutdownDispatcher} so that no more events are published.
+     */
+    public void stopEventSources() {
+        for (EventSource source : eventSources) {
+            try {
+                source.close();
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Failed to stop event source " + source, e);
+            }
+        }
+        eventSources.clear();
+    }
+
+    // Periodically logs queue depth and drop counts of subscriptions that are falling behind
+    public void startQueueStatsReporting(long period, TimeUnit unit) {
+        eventGeneratorScheduler.scheduleAtFixedRate(this::logOutboundQueueStats, period, period, unit);
+    }
+
+    private void logOutboundQueueStats() {
+        for (SubscriptionInfo subInfo : activeSubscriptions.values()) {
+            OutboundQueue outbound = subInfo.outbound;
+            if (outbound.depth() > 0 || outbound.droppedCount() > 0) {
+                logger.info("Outbound queue for " + subInfo.clientSubscriptionId + ": depth=" + outbound.depth()
+                        + "/" + outbound.capacity() + ", sent=" + outbound.sentCount() + ", dropped=" + outbound.droppedCount()
+                        + ", conflated=" + outbound.conflatedCount() + ", suppressed=" + outbound.suppressedCount()
+                        + (outbound.wireBytes() >= 0 ? ", bytes=" + outbound.uncompressedBytes() + " raw/" + outbound.wireBytes() + " wire" : "")
+                        + (outbound instanceof BatchingOutboundQueue ? ", batches=" + ((BatchingOutboundQueue) outbound).batchCount() : ""));
+            }
+        }
     }
 
     @Override
-    public void subscribe(SubscriptionRequest request, StreamObserver<EventNotification> responseObserver) {
+    public ServerServiceDefinition bindService() {
+        ServerServiceDefinition generated = EventSubscriptionServiceGrpc.bindService(this);
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(generated.getServiceDescriptor().getName());
+        for (ServerMethodDefinition<?, ?> method : generated.getMethods()) {
+            // The generated streaming bindings (protobuf responses) are replaced by the encoded ones below
+            String methodName = method.getMethodDescriptor().getFullMethodName();
+            if (!methodName.equals(SUBSCRIBE_METHOD.getFullMethodName())
+                    && !methodName.equals(SUBSCRIBE_BATCHED_METHOD.getFullMethodName())
+                    && !methodName.equals(SUBSCRIPTION_SESSION_METHOD.getFullMethodName())) {
+                builder.addMethod(method);
+            }
+        }
+        builder.addMethod(SUBSCRIBE_METHOD, ServerCalls.asyncServerStreamingCall(this::subscribeEncoded));
+        builder.addMethod(SUBSCRIBE_BATCHED_METHOD, ServerCalls.asyncServerStreamingCall(this::subscribeBatchedEncoded));
+        builder.addMethod(SUBSCRIPTION_SESSION_METHOD, ServerCalls.asyncBidiStreamingCall(this::openSession));
+        return builder.build();
+    }
+
+    // Handles Subscribe; bound through SUBSCRIBE_METHOD instead of the generated subscribe() override
+    void subscribeEncoded(SubscriptionRequest request, StreamObserver<EncodedNotification> responseObserver) {
+        ServerCallStreamObserver<EncodedNotification> serverObserver =
+                (ServerCallStreamObserver<EncodedNotification>) responseObserver;
+        String owner = cluster != null ? cluster.remoteOwnerOf(request) : null;
+        if (owner != null) {
+            if (cluster.routing() == ClusterRouting.PROXY) {
+                cluster.proxy(request, serverObserver, owner);
+            } else {
+                serverObserver.onError(cluster.redirect(request, owner));
+            }
+            return;
+        }
+        OutboundQueue outbound = OutboundQueue.forNotifications(serverObserver,
+                outboundQueueCapacity, overflowPolicy, isConflating(request), deliveryExecutor);
+        outbound.traceWireSize(WireSizeTracer.current());
+        outbound.reportTo(metrics);
+        startSubscription(request, serverObserver, outbound);
+    }
+
+    // Handles SubscribeBatched; bound through SUBSCRIBE_BATCHED_METHOD instead of the generated subscribeBatched() override
+    void subscribeBatchedEncoded(SubscriptionRequest request, StreamObserver<EncodedBatch> responseObserver) {
+        ServerCallStreamObserver<EncodedBatch> serverObserver = (ServerCallStreamObserver<EncodedBatch>) responseObserver;
+        String owner = cluster != null ? cluster.remoteOwnerOf(request) : null;
+        if (owner != null) {
+            serverObserver.onError(cluster.redirect(request, owner)); // Batches are not proxied
+            return;
+        }
+        OutboundQueue outbound = new BatchingOutboundQueue(serverObserver,
+                outboundQueueCapacity, overflowPolicy, isConflating(request), deliveryExecutor,
+                batchMaxSize, batchMaxDelayMillis, TimeUnit.MILLISECONDS, deliveryTimer);
+        outbound.traceWireSize(WireSizeTracer.current());
+        outbound.reportTo(metrics);
+        startSubscription(request, serverObserver, outbound);
+    }
+
+    private static boolean isConflating(SubscriptionRequest request) {
+        return request.getDeliveryMode() == DeliveryMode.CONFLATE_LATEST;
+    }
+
+    // Handles SubscriptionSession; bound through SUBSCRIPTION_SESSION_METHOD instead of the generated subscriptionSession() override
+    StreamObserver<SessionRequest> openSession(StreamObserver<EncodedSessionResponse> responseObserver) {
+        ServerCallStreamObserver<EncodedSessionResponse> serverObserver =
+                (ServerCallStreamObserver<EncodedSessionResponse>) responseObserver;
+        SessionOutboundQueue outbound = new SessionOutboundQueue(serverObserver, sessionQueueCapacity, overflowPolicy, deliveryExecutor);
+        outbound.traceWireSize(WireSizeTracer.current());
+        outbound.reportTo(metrics);
+        SubscriptionSession session = new SubscriptionSession(this, serverObserver, outbound);
+
+        serverObserver.setOnCancelHandler(() -> {
+            logger.info("Client cancelled subscription session with " + session.subscriptionCount() + " subscriptions");
+            session.cancel();
+        });
+        serverObserver.setOnReadyHandler(() -> {
+            try {
+                outbound.drain();
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Failed to drain subscription session, ending it.", e);
+                session.cancel();
+            }
+        });
+        logger.info("Subscription session opened");
+        return session;
+    }
+
+    /**
+     * FederationService, through which edge servers take the events of their subscribers' topics from this one.
+     */
+    ServerServiceDefinition bindFederationService() {
+        return ServerServiceDefinition.builder(FederationServiceGrpc.SERVICE_NAME)
+                .addMethod(FEDERATE_METHOD, ServerCalls.asyncBidiStreamingCall(this::openFederation))
+                .build();
+    }
+
+    // Handles Federate: one batching queue carries every topic the edge server asks for
+    StreamObserver<InterestUpdate> openFederation(StreamObserver<EncodedBatch> responseObserver) {
+        ServerCallStreamObserver<EncodedBatch> serverObserver = (ServerCallStreamObserver<EncodedBatch>) responseObserver;
+        OutboundQueue outbound = new BatchingOutboundQueue(serverObserver,
+                federationQueueCapacity, overflowPolicy, false, deliveryExecutor,
+                batchMaxSize, batchMaxDelayMillis, TimeUnit.MILLISECONDS, deliveryTimer);
+        outbound.writeInOrder(); // The edge drops what is not newer than its topic's last event as a repeat
+        outbound.traceWireSize(WireSizeTracer.current());
+        outbound.reportTo(metrics);
+        FederationLink link = new FederationLink(this, outbound);
+
+        serverObserver.setOnCancelHandler(() -> {
+            logger.info("Edge server cancelled " + link + " with " + link.topicCount() + " topics");
+            link.cancel();
+        });
+        serverObserver.setOnReadyHandler(() -> {
+            try {
+                outbound.drain();
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Failed to drain " + link + ", ending it.", e);
+                link.cancel();
+            }
+        });
+        logger.info("Edge server opened " + link);
+        return link;
+    }
+
+    /**
+     * Sets the response encoding the request asks for on its call; must run before anything is written to it.
+     * An encoding this server does not offer falls back to identity, and so does one the client did not
+     * list in its grpc-accept-encoding (gRPC checks that itself when it sends the response headers).
+     */
+    void negotiateCompression(SubscriptionRequest request, ServerCallStreamObserver<?> serverObserver, OutboundQueue outbound) {
+        String encoding = request.getResponseEncoding();
+        if (encoding.isEmpty() || encoding.equals("identity")) {
+            return;
+        }
+        if (!responseEncodings.contains(encoding)) {
+            logger.warning("Unsupported response encoding '" + encoding + "' requested by " + request.getClientSubscriptionId()
+                    + "; sending it uncompressed. Supported: " + responseEncodings);
+            return;
+        }
+        serverObserver.setCompression(encoding);
+        outbound.compressMessagesFrom(compressionMinBytes);
+    }
+
+    /**
+     * Whether a subscription may ask for the given response encoding.
+     */
+    boolean offersResponseEncoding(String encoding) {
+        return !encoding.isEmpty() && responseEncodings.contains(encoding);
+    }
+
+    /**
+     * Checks a client's subscription request before it is registered. IDs starting with
+     * {@link FederationLink#SUBSCRIPTION_ID_PREFIX} are reserved for the subscriptions of edge servers.
+     *
+     * @return null if the request is valid, otherwise the status to reject it with: INVALID_ARGUMENT, or
+     * FAILED_PRECONDITION for a resume while the server keeps no journal and for a circle or a path on a server
+     * that does not see every city's updates.
+     */
+    Status validate(SubscriptionRequest request) {
+        if (request.getClientSubscriptionId().startsWith(FederationLink.SUBSCRIPTION_ID_PREFIX)) {
+            logger.warning("Subscription attempt with a reserved ID: " + request.getClientSubscriptionId());
+            return Status.INVALID_ARGUMENT.withDescription(
+                    "client_subscription_id cannot start with " + FederationLink.SUBSCRIPTION_ID_PREFIX);
+        }
+        return validateSubscription(request);
+    }
+
+    /**
+     * Checks a subscription request whatever its ID, also for the subscriptions this server makes for edge servers.
+     *
+     * @return null if it is valid, or the status to reject it with.
+     */
+    Status validateSubscription(SubscriptionRequest request) {
         String clientSubscriptionId = request.getClientSubscriptionId();
         EventType eventType = request.getEventType();
         SubscriptionCriteria criteria = request.getCriteria();
@@ -56,41 +383,268 @@ public class WeatherEventSubscriptionService extends EventSubscriptionServiceImp
         // Basic validation
         if (clientSubscriptionId == null || clientSubscriptionId.trim().isEmpty()) {
             logger.warning("Subscription attempt with empty client_subscription_id");
-            responseObserver.onError(Status.INVALID_ARGUMENT
-                    .withDescription("client_subscription_id cannot be empty")
-                    .asRuntimeException());
-            return;
+            return Status.INVALID_ARGUMENT.withDescription("client_subscription_id cannot be empty");
         }
         if (eventType == EventType.EVENT_TYPE_UNSPECIFIED) {
             logger.warning("Subscription attempt with unspecified event type for ID: " + clientSubscriptionId);
-            responseObserver.onError(Status.INVALID_ARGUMENT
-                    .withDescription("event_type must be specified")
-                    .asRuntimeException());
-            return;
+            return Status.INVALID_ARGUMENT.withDescription("event_type must be specified");
         }
         // Add more specific criteria validation if needed (e.g., city required for WEATHER_UPDATE)
-        if (eventType == EventType.WEATHER_UPDATE && (criteria.getTargetIdentifier() == null || criteria.getTargetIdentifier().trim().isEmpty())) {
+        if (eventType == EventType.WEATHER_UPDATE && !criteria.hasWithin() && (criteria.getTargetIdentifier() == null || criteria.getTargetIdentifier().trim().isEmpty())) {
             logger.warning("Weather subscription attempt without target_identifier (city) for ID: " + clientSubscriptionId);
-            responseObserver.onError(Status.INVALID_ARGUMENT
-                    .withDescription("target_identifier (city) is required for WEATHER_UPDATE")
-                    .asRuntimeException());
+            return Status.INVALID_ARGUMENT.withDescription("target_identifier (city) or within is required for WEATHER_UPDATE");
+        }
+        if (eventType == EventType.NEWS_FLASH && criteria.getKeywordsList().stream().allMatch(k -> k.trim().isEmpty())) {
+            logger.warning("News subscription attempt without keywords for ID: " + clientSubscriptionId);
+            return Status.INVALID_ARGUMENT.withDescription("keywords are required for NEWS_FLASH");
+        }
+        if (eventType == EventType.NEWS_FLASH && request.getDeliveryMode() == DeliveryMode.CONFLATE_LATEST) {
+            // Articles are not successive values of one target; keeping the latest would drop the others
+            logger.warning("Conflation requested for a news subscription, ID: " + clientSubscriptionId);
+            return Status.INVALID_ARGUMENT.withDescription("CONFLATE_LATEST is not supported for NEWS_FLASH");
+        }
+        if (criteria.hasWithin()) {
+            if (eventType != EventType.WEATHER_UPDATE || !criteria.getTargetIdentifier().trim().isEmpty()) {
+                logger.warning("Circle given for a " + eventType + " subscription or with a city, ID: " + clientSubscriptionId);
+                return Status.INVALID_ARGUMENT.withDescription("within is only supported for WEATHER_UPDATE, instead of target_identifier");
+            }
+            String problem = GeoIndex.check(criteria.getWithin());
+            if (problem != null) {
+                logger.warning("Invalid circle for ID: " + clientSubscriptionId + ": " + problem);
+                return Status.INVALID_ARGUMENT.withDescription("invalid within: " + problem);
+            }
+        }
+        boolean path = eventType == EventType.WEATHER_UPDATE && TopicTrie.isPath(criteria.getTargetIdentifier());
+        if (path) {
+            String problem = TopicTrie.check(criteria.getTargetIdentifier());
+            if (problem != null) {
+                logger.warning("Invalid target path for ID: " + clientSubscriptionId + ": " + problem);
+                return Status.INVALID_ARGUMENT.withDescription("invalid target_identifier path: " + problem);
+            }
+        }
+        boolean severalCities = criteria.hasWithin() || path;
+        if (severalCities) {
+            if (request.getDeliveryMode() == DeliveryMode.CONFLATE_LATEST || request.getWeatherDelta()) {
+                // Both keep one pending or last-sent update per subscription, which stands for one city
+                logger.warning("Conflation or delta mode requested for several cities, ID: " + clientSubscriptionId);
+                return Status.INVALID_ARGUMENT.withDescription("CONFLATE_LATEST and weather_delta are only supported for a single city");
+            }
+            if (cluster != null || upstream != null) {
+                // A cluster node only dispatches the cities it owns, an edge server only those it asked for, by name
+                logger.warning("Circle or path subscription on a server that does not see every city, ID: " + clientSubscriptionId);
+                return Status.FAILED_PRECONDITION.withDescription(
+                        "within and target_identifier paths are not supported on cluster nodes and edge servers");
+            }
+        }
+        if (criteria.hasWeatherFilter()) {
+            if (eventType != EventType.WEATHER_UPDATE) {
+                logger.warning("Weather filter given for a " + eventType + " subscription, ID: " + clientSubscriptionId);
+                return Status.INVALID_ARGUMENT.withDescription("weather_filter is only supported for WEATHER_UPDATE");
+            }
+            String problem = CompiledFilter.check(criteria.getWeatherFilter());
+            if (problem != null) {
+                logger.warning("Invalid weather filter for ID: " + clientSubscriptionId + ": " + problem);
+                return Status.INVALID_ARGUMENT.withDescription("invalid weather_filter: " + problem);
+            }
+        }
+        if (request.getWeatherDelta() && eventType != EventType.WEATHER_UPDATE) {
+            logger.warning("Delta mode requested for a " + eventType + " subscription, ID: " + clientSubscriptionId);
+            return Status.INVALID_ARGUMENT.withDescription("weather_delta is only supported for WEATHER_UPDATE");
+        }
+        if (request.hasResumeAfterSequence()) {
+            // Sequences are numbered per topic, and journaled under the city's name; keyword, circle and path
+            // subscriptions are not indexed by it
+            if (eventType != EventType.WEATHER_UPDATE || severalCities) {
+                logger.warning("Resume requested for a " + eventType + " subscription, ID: " + clientSubscriptionId);
+                return Status.INVALID_ARGUMENT.withDescription("resume_after_sequence is only supported for WEATHER_UPDATE of one city");
+            }
+            if (journal == null) {
+                logger.warning("Resume requested but the event journal is disabled, ID: " + clientSubscriptionId);
+                return Status.FAILED_PRECONDITION.withDescription("this server keeps no event journal to resume from");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Registers a subscription under its ID without making it visible to fan-out yet, so that whatever
+     * must precede its first notification (confirmation, ack) can be queued first.
+     *
+     * @return false if the ID is already in use.
+     */
+    boolean registerSubscription(SubscriptionInfo subInfo) {
+        return activeSubscriptions.putIfAbsent(subInfo.clientSubscriptionId, subInfo) == null;
+    }
+
+    // Starts fan-out to a registered subscription
+    private void indexSubscription(SubscriptionInfo subInfo) {
+        if (subInfo.request.getEventType() == EventType.NEWS_FLASH) {
+            keywordIndex.add(subInfo);
+        } else if (subInfo.request.getCriteria().hasWithin()) {
+            geoIndex.add(subInfo);
+        } else if (isPathSubscription(subInfo)) {
+            topicTrie.add(subInfo);
+        } else {
+            subscriptionIndex.add(subInfo);
+        }
+        if (upstream != null) {
+            upstream.interested(subInfo); // Pulls its topics from the upstream server, if no one here has them yet
+        }
+        if (activeSubscriptions.get(subInfo.clientSubscriptionId) != subInfo) {
+            unindexSubscription(subInfo); // Removed concurrently, before it was indexed
+        }
+    }
+
+    /**
+     * Starts delivery to a registered subscription: right away, or after replaying the journal if it resumes
+     * after a sequence number. Whatever must precede its first notification has to be queued already.
+     */
+    void startDelivery(SubscriptionInfo subInfo) {
+        if (!subInfo.request.hasResumeAfterSequence()) {
+            indexSubscription(subInfo);
+            return;
+        }
+        long afterSequence = subInfo.request.getResumeAfterSequence();
+        long firstRetained = journal.firstSequence(subInfo.topic);
+        if (firstRetained > afterSequence + 1) {
+            logger.warning("Resuming " + subInfo.clientSubscriptionId + " after sequence " + afterSequence
+                    + ", but the journal of " + subInfo.topic + " only starts at " + firstRetained);
+        }
+        EventJournal.Cursor cursor = journal.read(subInfo.topic, afterSequence);
+        try {
+            dispatcher.execute(subInfo.topic, () -> replay(subInfo, cursor));
+        } catch (RejectedExecutionException e) {
+            logger.warning("Cannot replay the journal for " + subInfo.clientSubscriptionId + ": " + e.getMessage());
+            endSubscription(subInfo, Status.UNAVAILABLE.withDescription("Server is shutting down"));
+        }
+    }
+
+    /**
+     * Queues as much of the journal as fits into the subscription's queue, then either joins it to the live
+     * notifications or continues once the subscriber has caught up. Runs on the topic's dispatcher partition,
+     * where the topic's live notifications are journaled and dispatched too: nothing can be appended between
+     * reaching the end of the journal and indexing the subscription, so no notification is missed or sent twice.
+     */
+    private void replay(SubscriptionInfo subInfo, EventJournal.Cursor cursor) {
+        if (activeSubscriptions.get(subInfo.clientSubscriptionId) != subInfo) {
+            return; // Removed during the replay
+        }
+        OutboundQueue outbound = subInfo.outbound;
+        CompiledFilter filter = subInfo.filter != null ? CompiledFilter.compile(subInfo.filter) : null;
+        int skipped = 0; // Rejected by the filter; they take no room, but a turn only reads so many
+        for (int room = outbound.capacity() - outbound.depth(); room > 0 && skipped < REPLAY_MAX_SKIPPED; room--) {
+            ByteBuffer body = cursor.next(); // A slice of the mapped segment, written out without being copied
+            if (body != null && filter != null && !accepts(filter, body)) {
+                room++;
+                skipped++;
+                continue;
+            }
+            if (body == null) {
+                indexSubscription(subInfo);
+                logger.info("Replayed journal of " + subInfo.topic + " for " + subInfo.clientSubscriptionId
+                        + " up to sequence " + cursor.lastSequence() + "; now live");
+                return;
+            }
+            if (!outbound.offer(new EncodedNotification(subInfo.subscriberPrefix, body), subInfo.conflationKey)) {
+                removeSubscription(subInfo.clientSubscriptionId); // Stream closed
+                return;
+            }
+        }
+        deliveryTimer.schedule(() -> {
+            try {
+                dispatcher.execute(subInfo.topic, () -> replay(subInfo, cursor));
+            } catch (RejectedExecutionException e) {
+                endSubscription(subInfo, Status.UNAVAILABLE.withDescription("Server is shutting down"));
+            }
+        }, REPLAY_RETRY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    // Whether a filter accepts a journaled weather update; only replays decode the journal
+    private static boolean accepts(CompiledFilter filter, ByteBuffer body) {
+        try {
+            return filter.test(EventNotification.parseFrom(body.duplicate()).getWeatherUpdate());
+        } catch (InvalidProtocolBufferException e) {
+            logger.warning("Skipping unreadable journal entry during replay: " + e.getMessage());
+            return false;
+        }
+    }
+
+    // Removes a subscription and tells its client: closes its own stream, or acknowledges the removal on its session
+    private void endSubscription(SubscriptionInfo subInfo, Status status) {
+        endSubscription(subInfo, status, null);
+    }
+
+    private void endSubscription(SubscriptionInfo subInfo, Status status, Metadata trailers) {
+        if (removeSubscription(subInfo.clientSubscriptionId) == null) {
             return;
         }
+        if (subInfo.session != null) {
+            subInfo.session.acknowledgeRemoval(subInfo.clientSubscriptionId, status.getDescription());
+        } else {
+            subInfo.outbound.close(status, trailers);
+        }
+    }
+
+    /**
+     * Ends the subscriptions to cities this node no longer owns after the cluster view changed, with a redirect
+     * to their new owner. Notifications still queued for them are dropped; the new owner numbers the city's
+     * events on its own, so clients cannot resume there after a sequence number from here.
+     */
+    void rebalance() {
+        int moved = 0;
+        for (SubscriptionInfo subInfo : activeSubscriptions.values()) {
+            String owner = cluster.remoteOwnerOf(subInfo.request);
+            if (owner != null) {
+                StatusRuntimeException redirect = cluster.redirect(subInfo.request, owner);
+                endSubscription(subInfo, redirect.getStatus(), redirect.getTrailers());
+                moved++;
+            }
+        }
+        if (moved > 0) {
+            logger.info("Moved " + moved + " subscriptions to the cities' new owners");
+        }
+    }
 
-        // Cast to ServerCallStreamObserver to handle cancellation
-        final ServerCallStreamObserver<EventNotification> serverObserver =
-                (ServerCallStreamObserver<EventNotification>) responseObserver;
+    private static boolean isPathSubscription(SubscriptionInfo subInfo) {
+        return subInfo.request.getEventType() == EventType.WEATHER_UPDATE && TopicTrie.isPath(subInfo.topic.target());
+    }
 
-        // Create subscription info
-        final SubscriptionInfo subInfo = new SubscriptionInfo(clientSubscriptionId, request, serverObserver);
+    private void unindexSubscription(SubscriptionInfo subInfo) {
+        if (subInfo.request.getEventType() == EventType.NEWS_FLASH) {
+            keywordIndex.remove(subInfo);
+        } else if (subInfo.request.getCriteria().hasWithin()) {
+            geoIndex.remove(subInfo);
+        } else if (isPathSubscription(subInfo)) {
+            topicTrie.remove(subInfo);
+        } else {
+            subscriptionIndex.remove(subInfo);
+        }
+        if (upstream != null) {
+            upstream.uninterested(subInfo);
+        }
+    }
 
-        // Attempt to add the subscription atomically
-        SubscriptionInfo previous = activeSubscriptions.putIfAbsent(clientSubscriptionId, subInfo);
+    // Validates and registers a subscription whose stream is written through the given outbound queue
+    private void startSubscription(SubscriptionRequest request, ServerCallStreamObserver<?> serverObserver,
+                                   OutboundQueue outbound) {
+        String clientSubscriptionId = request.getClientSubscriptionId();
+        EventType eventType = request.getEventType();
+        SubscriptionCriteria criteria = request.getCriteria();
+
+        Status invalid = validate(request);
+        if (invalid != null) {
+            serverObserver.onError(invalid.asRuntimeException());
+            return;
+        }
+
+        // Create subscription info; everything sent to this stream goes through its bounded outbound queue
+        final SubscriptionInfo subInfo = new SubscriptionInfo(clientSubscriptionId, request, outbound);
 
-        if (previous != null) {
+        // Attempt to add the subscription atomically
+        if (!registerSubscription(subInfo)) {
             // Subscription ID already exists
             logger.warning("Subscription attempt with duplicate client_subscription_id: " + clientSubscriptionId);
-            responseObserver.onError(Status.ALREADY_EXISTS
+            serverObserver.onError(Status.ALREADY_EXISTS
                     .withDescription("Subscription ID '" + clientSubscriptionId + "' is already in use.")
                     .asRuntimeException());
             return;
@@ -99,26 +653,50 @@ public class WeatherEventSubscriptionService extends EventSubscriptionServiceImp
         // Set a handler for when the client cancels the stream
         serverObserver.setOnCancelHandler(() -> {
             logger.info("Client cancelled subscription: " + clientSubscriptionId);
-            activeSubscriptions.remove(clientSubscriptionId); // Clean up map on cancellation
+            outbound.abandon(); // Drop whatever is still queued for this stream
+            removeSubscription(clientSubscriptionId); // Clean up map and index on cancellation
         });
 
-        logger.info("Client subscribed: ID=" + clientSubscriptionId + ", Type=" + eventType + ", Criteria=" + criteria.getTargetIdentifier());
+        negotiateCompression(request, serverObserver, outbound); // Before the confirmation sends the response headers
+
+        // Resume writing queued notifications once the transport can take more
+        serverObserver.setOnReadyHandler(() -> {
+            try {
+                outbound.drain();
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Failed to drain notifications for ID: " + clientSubscriptionId + ", removing subscription.", e);
+                removeSubscription(clientSubscriptionId);
+            }
+        });
+
+        logger.info("Client subscribed: ID=" + clientSubscriptionId + ", Type=" + eventType + ", Criteria=" + (criteria.hasWithin()
+                ? "within " + criteria.getWithin().getRadiusKm() + " km of " + criteria.getWithin().getCenter().getLatitude()
+                        + "," + criteria.getWithin().getCenter().getLongitude() : criteria.getTargetIdentifier())
+                + ", Delivery=" + (isConflating(request) ? DeliveryMode.CONFLATE_LATEST : DeliveryMode.QUEUE_ALL)
+                + (outbound instanceof BatchingOutboundQueue ? ", batched" : "")
+                + (request.getWeatherDelta() ? ", deltas" : "")
+                + (!request.getResponseEncoding().isEmpty() ? ", encoding=" + request.getResponseEncoding() : "")
+                + (request.hasResumeAfterSequence() ? ", resuming after " + request.getResumeAfterSequence() : ""));
 
         // Send a confirmation notification (optional)
         try {
+            long now = EventClock.epochNanos();
             EventNotification confirmation = EventNotification.newBuilder()
-                    .setNotificationId("CONFIRM-" + System.currentTimeMillis())
+                    .setNotificationId(confirmationIds.next())
                     .setClientSubscriptionId(clientSubscriptionId)
-                    .setTimestampUnixSeconds(Instant.now().getEpochSecond())
+                    .setTimestampUnixSeconds(EventClock.toEpochSeconds(now))
+                    .setTimestampUnixNanos(now)
                     .setEventType(eventType) // Echo back the type
                     // No payload for confirmation, or add a specific confirmation message
                     .build();
-            serverObserver.onNext(confirmation);
+            outbound.offer(EncodedNotification.of(confirmation));
         } catch (StatusRuntimeException e) {
             // Handle cases where sending confirmation fails (e.g., client disconnected immediately)
             logger.log(Level.WARNING, "Failed to send subscription confirmation for ID: " + clientSubscriptionId + ", removing subscription.", e);
-            activeSubscriptions.remove(clientSubscriptionId);
+            removeSubscription(clientSubscriptionId);
+            return;
         }
+        startDelivery(subInfo); // Notifications are queued behind the confirmation
 
         // Note: We don't call onCompleted here because the stream stays open for notifications.
         // It will be completed either by the client cancelling, the server explicitly calling
@@ -130,7 +708,12 @@ public class WeatherEventSubscriptionService extends EventSubscriptionServiceImp
         String clientSubscriptionId = request.getClientSubscriptionId();
         logger.info("Received unsubscribe request for ID: " + clientSubscriptionId);
 
-        SubscriptionInfo removedSubscription = activeSubscriptions.remove(clientSubscriptionId);
+        // An edge server's subscriptions end with its Federate call only
+        SubscriptionInfo removedSubscription = clientSubscriptionId.startsWith(FederationLink.SUBSCRIPTION_ID_PREFIX)
+                ? null : removeSubscription(clientSubscriptionId);
+        if (removedSubscription == null && cluster != null && cluster.unsubscribeProxied(request, responseObserver)) {
+            return; // Answered by the node the subscription is proxied from
+        }
 
         boolean success = removedSubscription != null;
         String message;
@@ -140,7 +723,12 @@ public class WeatherEventSubscriptionService extends EventSubscriptionServiceImp
             logger.info(message);
             // Optionally, gracefully close the stream from the server side
             try {
-                removedSubscription.observer.onCompleted();
+                if (removedSubscription.session != null) {
+                    // The session's stream carries other subscriptions; only tell the session's client
+                    removedSubscription.session.acknowledgeRemoval(clientSubscriptionId, message);
+                } else {
+                    removedSubscription.outbound.close(Status.OK); // Delivered as onCompleted by the draining thread
+                }
             } catch (Exception e) {
                 // Log error if closing stream fails, but unsubscription from map succeeded.
                 logger.log(Level.WARNING, "Error closing stream on unsubscribe for ID: " + clientSubscriptionId, e);
@@ -158,115 +746,226 @@ public class WeatherEventSubscriptionService extends EventSubscriptionServiceImp
         responseObserver.onCompleted();
     }
 
-    // Main logic for generating and distributing notifications
-    private void generateAndSendNotifications() {
-        // Simulate generating one type of event
-        // In a real app, you might have multiple generators or sources
-        try {
-            generateAndSendWeatherUpdates();
-            // generateAndSendConcertAlerts(); // etc.
-        } catch (Exception e) {
-            // Catch unexpected errors in generation logic
-            logger.log(Level.SEVERE, "Error during event generation cycle", e);
-        }
-    }
-
-    private void generateAndSendWeatherUpdates() {
-        // --- Generate a sample WeatherUpdate event ---
-        String[] cities = {"Kraków", "Warszawa", "Gdańsk", "Wrocław", "Poznań"};
-        String city = cities[random.nextInt(cities.length)];
-        WeatherUpdate weatherUpdate = generateRandomWeatherUpdate(city);
-
-        EventNotification notification = EventNotification.newBuilder()
-                .setNotificationId("WEATHER-" + System.currentTimeMillis() + "-" + city)
-                .setTimestampUnixSeconds(Instant.now().getEpochSecond())
-                .setEventType(EventType.WEATHER_UPDATE)
-                .setWeatherUpdate(weatherUpdate)
-                // client_subscription_id is set per subscriber below
-                .build();
+    // Removes a subscription from both the registry and the fan-out index; returns null if it was not active
+    SubscriptionInfo removeSubscription(String clientSubscriptionId) {
+        SubscriptionInfo removed = activeSubscriptions.remove(clientSubscriptionId);
+        if (removed != null) {
+            unindexSubscription(removed);
+            if (removed.session != null) {
+                removed.session.forget(clientSubscriptionId);
+            }
+        }
+        return removed;
+    }
 
-        // --- Distribute to relevant subscribers ---
-        List<String> clientsToRemove = new ArrayList<>(); // To avoid ConcurrentModificationException
+    int activeSubscriptionCount() {
+        return activeSubscriptions.size();
+    }
 
-        for (Map.Entry<String, SubscriptionInfo> entry : activeSubscriptions.entrySet()) {
-            String subId = entry.getKey();
-            SubscriptionInfo subInfo = entry.getValue();
-
-            // Check if this subscriber is interested in this event type and criteria
-            if (subInfo.request.getEventType() == EventType.WEATHER_UPDATE &&
-                    subInfo.request.getCriteria().getTargetIdentifier().equalsIgnoreCase(city))
-            {
-                // Build the notification specific to this subscriber
-                EventNotification specificNotification = notification.toBuilder()
-                        .setClientSubscriptionId(subId) // Set the correct ID for this client
-                        .build();
-                try {
-                    // Send the notification
-                    subInfo.observer.onNext(specificNotification);
-                    logger.finest("Sent weather update for " + city + " to " + subId);
-                } catch (StatusRuntimeException e) {
-                    // Common gRPC errors: CANCELLED (client closed), UNAVAILABLE (network issues)
-                    logger.log(Level.WARNING, "Failed to send notification to " + subId + " (Status: " + e.getStatus().getCode() + "). Marking for removal.", e.getMessage());
-                    clientsToRemove.add(subId); // Mark for removal after iteration
-                } catch (Exception e) {
-                    // Catch other unexpected errors during sending
-                    logger.log(Level.SEVERE, "Unexpected error sending notification to " + subId + ". Marking for removal.", e);
-                    clientsToRemove.add(subId); // Mark for removal
-                }
-            }
+    DispatchMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * This server's cluster membership, or null if it runs alone.
+     */
+    ClusterNode cluster() {
+        return cluster;
+    }
+
+    /**
+     * This edge server's link to its upstream server, or null if its events are produced here.
+     */
+    UpstreamLink upstream() {
+        return upstream;
+    }
+
+    /**
+     * Live view of the active subscriptions; queue depth and drop counts are read from each {@link OutboundQueue}.
+     */
+    Collection<SubscriptionInfo> activeSubscriptions() {
+        return Collections.unmodifiableCollection(activeSubscriptions.values());
+    }
+
+    /**
+     * Hands an event over to the dispatcher partition that owns its topic and returns without waiting for the fan-out.
+     * Events of the same topic are delivered in the order they were published. Blocks while that partition is full.
+     * In a cluster, the event goes to the node that owns its city instead (and news flashes to every node).
+     * <p>
+     * A HIGH priority event, which includes every STORMY weather update, is dispatched before the routine events of
+     * other topics waiting on its partition, and written before the routine notifications waiting for each
+     * subscriber. Those of its own topic published before it are still dispatched, and numbered, first: it can
+     * arrive ahead of them, but always with a higher sequence, which delta state and conflation go by.
+     */
+    public void publish(EventNotification notification) {
+        if (cluster != null && !cluster.route(notification)) {
+            return; // Forwarded to the owner of its city
         }
+        publishLocally(notification);
+    }
 
-        // Remove subscriptions that failed (disconnected clients)
-        if (!clientsToRemove.isEmpty()) {
-            logger.info("Removing " + clientsToRemove.size() + " disconnected or errored subscriptions.");
-            clientsToRemove.forEach(activeSubscriptions::remove);
+    // Dispatches an event to the subscriptions of this server, also one forwarded by another cluster node
+    void publishLocally(EventNotification event) {
+        long publishedNanos = System.nanoTime(); // Start of the dispatch and fan-out latencies
+        EventNotification notification = withPriority(event);
+        boolean highPriority = notification.getPriority() == EventPriority.HIGH;
+        switch (notification.getEventPayloadCase()) {
+            case WEATHER_UPDATE:
+                Topic topic = Topic.of(EventType.WEATHER_UPDATE, notification.getWeatherUpdate().getCity());
+                metrics.eventPublished();
+                dispatcher.execute(topic, () -> dispatchWeatherUpdate(notification, publishedNanos), highPriority);
+                break;
+            case NEWS_FLASH:
+                // Partitioned by source: articles of one source keep their order
+                Topic source = Topic.of(EventType.NEWS_FLASH, notification.getNewsFlash().getSource());
+                metrics.eventPublished();
+                dispatcher.execute(source, () -> dispatchNewsFlash(notification, publishedNanos), highPriority);
+                break;
+            default:
+                logger.warning("Cannot publish notification without a supported payload: " + notification.getEventPayloadCase());
+                break;
         }
     }
 
+    // The notification with the priority it is delivered with: a STORMY weather update is HIGH whatever its producer set
+    private static EventNotification withPriority(EventNotification notification) {
+        if (notification.getPriority() != EventPriority.HIGH
+                && notification.getEventPayloadCase() == EventNotification.EventPayloadCase.WEATHER_UPDATE
+                && notification.getWeatherUpdate().getCurrentCondition() == WeatherCondition.STORMY) {
+            return notification.toBuilder().setPriority(EventPriority.HIGH).build();
+        }
+        return notification;
+    }
 
-    private WeatherUpdate generateRandomWeatherUpdate(String city) {
-        // Get all const enum WeatherCondition
-        WeatherCondition[] allConditions = WeatherCondition.values();
+    /**
+     * Stops the dispatcher after the events already handed to it are delivered. Call after the producers are stopped.
+     */
+    public void shutdownDispatcher(long timeout, TimeUnit unit) throws InterruptedException {
+        dispatcher.shutdown();
+        if (!dispatcher.awaitTermination(timeout, unit)) {
+            logger.warning("Dispatcher did not finish queued events in time, forcing shutdown.");
+            dispatcher.shutdownNow();
+        }
+        deliveryTimer.shutdownNow(); // Pending flushes and replays are moot once delivery stops
+        if (journal != null) {
+            journal.close();
+        }
+        if (deliveryExecutor != null) {
+            deliveryExecutor.shutdown();
+            if (!deliveryExecutor.awaitTermination(timeout, unit)) {
+                deliveryExecutor.shutdownNow();
+            }
+        }
+    }
 
-        // Filter invalid values (UNSPECIFIED and UNRECOGNIZED)
-        List<WeatherCondition> validConditions = Arrays.stream(allConditions)
-                .filter(wc -> wc != WeatherCondition.CONDITION_UNSPECIFIED && wc != WeatherCondition.UNRECOGNIZED)
-                .collect(Collectors.toList());
+    // Distributes a weather notification to the subscribers of its city; runs on the city's dispatcher partition
+    void dispatchWeatherUpdate(EventNotification notification) {
+        dispatchWeatherUpdate(notification, System.nanoTime());
+    }
 
-        if (validConditions.isEmpty()) {
-            logger.severe("Brak poprawnych wartości enum WeatherCondition do wylosowania!");
-            // Return a default object or throw an exception to avoid further errors
-            // Zwrócenie obiektu z opisem błędu jest bezpieczniejsze niż null
-            return WeatherUpdate.newBuilder().setCity(city)
-                    .setDetailedDescription("Błąd: Nie można wygenerować danych pogodowych - brak poprawnych warunków.")
-                    .build();
+    private void dispatchWeatherUpdate(EventNotification notification, long publishedNanos) {
+        WeatherUpdate update = notification.getWeatherUpdate();
+        Topic city = Topic.of(EventType.WEATHER_UPDATE, update.getCity());
+        // Only the subscribers indexed under (WEATHER_UPDATE, city) are visited, and of those with a filter only
+        // the groups whose filter accepts the update; of the circles, only those in the grid cells of its location;
+        // of the paths and patterns, only those along the update's path through the trie
+        Collection<SubscriptionInfo> subscribers = subscriptionIndex.subscribersOf(city, update);
+        subscribers = concat(subscribers, geoIndex.match(update));
+        subscribers = concat(subscribers, topicTrie.match(update));
+        deliver(city, notification, publishedNanos, subscribers);
+    }
+
+    // Both collections one after the other, without copying them; they have no subscription in common
+    private static Collection<SubscriptionInfo> concat(Collection<SubscriptionInfo> first, Collection<SubscriptionInfo> second) {
+        if (second.isEmpty()) {
+            return first;
+        }
+        if (first.isEmpty()) {
+            return second;
         }
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<SubscriptionInfo> iterator() {
+                return Stream.concat(first.stream(), second.stream()).iterator();
+            }
 
-        // Pick the correct condition for the current weather
-        WeatherCondition currentCondition = validConditions.get(random.nextInt(validConditions.size()));
+            @Override
+            public int size() {
+                return first.size() + second.size();
+            }
+        };
+    }
 
-        List<DailyForecast> forecastList = new ArrayList<>();
-        for (int i = 0; i < 3; i++) {
-            WeatherCondition forecastCondition = validConditions.get(random.nextInt(validConditions.size()));
+    // Distributes a news article to every subscription with a keyword in it; runs on the source's dispatcher partition
+    void dispatchNewsFlash(EventNotification notification) {
+        dispatchNewsFlash(notification, System.nanoTime());
+    }
 
-            forecastList.add(DailyForecast.newBuilder()
-                    .setDayDescription("Dzień +" + (i + 1))
-                    .setMaxTemperatureCelsius(random.nextDouble() * 15 + 10) // 10 to 25 C
-                    .setMinTemperatureCelsius(random.nextDouble() * 10 + 5)  // 5 to 15 C
-                    .setCondition(forecastCondition)
-                    .setSummary("Losowa prognoza na dzień " + (i + 1))
-                    .build());
+    private void dispatchNewsFlash(EventNotification notification, long publishedNanos) {
+        Topic source = Topic.of(EventType.NEWS_FLASH, notification.getNewsFlash().getSource());
+        // One pass over the article's text finds the subscriptions of all matching keywords
+        deliver(source, notification, publishedNanos, keywordIndex.match(notification.getNewsFlash()));
+    }
+
+    // Numbers the notification within its topic, journals it and queues it for each subscriber,
+    // removing subscriptions whose stream is gone. Runs on the topic's dispatcher partition.
+    private void deliver(Topic topic, EventNotification notification, long publishedNanos,
+                         Collection<SubscriptionInfo> subscribers) {
+        long sequence = sequences.computeIfAbsent(topic, t -> new AtomicLong()).incrementAndGet();
+        if (subscribers.isEmpty() && journal == null) {
+            metrics.eventDispatched(publishedNanos, 0);
+            return;
+        }
+        // Encoded once, shared by every subscriber and the journal
+        ByteBuffer body = ByteBuffer.wrap(EncodedNotification.encodeBody(notification, sequence));
+        if (journal != null) {
+            journal.append(topic, sequence, body);
         }
+        WeatherDeltaEncoder deltas = null; // Created for the first subscriber in delta mode, shared by the others
+        boolean highPriority = notification.getPriority() == EventPriority.HIGH;
+        List<String> clientsToRemove = new ArrayList<>(); // To avoid ConcurrentModificationException
+        int queued = 0;
 
-        return WeatherUpdate.newBuilder()
-                .setCity(city)
-                .setCurrentTemperatureCelsius(random.nextDouble() * 10 + 15) // 15 to 25 C
-                .setHumidityPercent(random.nextDouble() * 50 + 30)       // 30 to 80%
-                .setWindSpeedKph(random.nextInt(30))                 // 0 to 29 kph
-                .setCurrentCondition(currentCondition)
-                .setDetailedDescription("Losowe szczegóły pogodowe dla " + city + " o " + Instant.now())
-                .addAllForecast(forecastList)
-                .build();
+        for (SubscriptionInfo subInfo : subscribers) {
+            String subId = subInfo.clientSubscriptionId;
+
+            // Splice this subscriber's ID in front of the shared body, or of a delta chosen when it is written
+            EncodedNotification specificNotification;
+            if (subInfo.deltaState != null) {
+                if (deltas == null) {
+                    deltas = new WeatherDeltaEncoder(notification, sequence, body);
+                }
+                specificNotification = deltas.notificationFor(subInfo, publishedNanos, highPriority);
+            } else {
+                specificNotification = new EncodedNotification(subInfo.subscriberPrefix, body, publishedNanos, highPriority);
+            }
+            try {
+                // Queue the notification; it is written now if the stream is ready, otherwise from its on-ready handler
+                if (subInfo.outbound.offer(specificNotification, subInfo.conflationKey)) {
+                    queued++;
+                } else {
+                    logger.warning("Outbound stream closed for " + subId + " (dropped " + subInfo.outbound.droppedCount()
+                            + " notifications). Marking for removal.");
+                    clientsToRemove.add(subId);
+                }
+            } catch (StatusRuntimeException e) {
+                // Common gRPC errors: CANCELLED (client closed), UNAVAILABLE (network issues)
+                logger.log(Level.WARNING, "Failed to send notification to " + subId + " (Status: " + e.getStatus().getCode() + "). Marking for removal.", e.getMessage());
+                clientsToRemove.add(subId); // Mark for removal after iteration
+            } catch (Exception e) {
+                // Catch other unexpected errors during sending
+                logger.log(Level.SEVERE, "Unexpected error sending notification to " + subId + ". Marking for removal.", e);
+                clientsToRemove.add(subId); // Mark for removal
+            }
+        }
+
+        metrics.eventDispatched(publishedNanos, queued);
+
+        // Remove subscriptions that failed (disconnected clients)
+        if (!clientsToRemove.isEmpty()) {
+            logger.info("Removing " + clientsToRemove.size() + " disconnected or errored subscriptions.");
+            clientsToRemove.forEach(this::removeSubscription);
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package sr.grpc.server;
+
+import io.grpc.Context;
+import io.grpc.Metadata;
+import io.grpc.ServerStreamTracer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the bytes of one call's outbound messages before and after compression, as reported by the transport.
+ * <p>
+ * Installed on the server with {@link #FACTORY}; the call's handler finds its tracer with {@link #current()},
+ * since the tracer puts itself into the call's context.
+ */
+final class WireSizeTracer extends ServerStreamTracer {
+
+    private static final Context.Key<WireSizeTracer> KEY = Context.key("wire-size-tracer");
+
+    static final ServerStreamTracer.Factory FACTORY = new ServerStreamTracer.Factory() {
+        @Override
+        public ServerStreamTracer newServerStreamTracer(String fullMethodName, Metadata headers) {
+            return new WireSizeTracer();
+        }
+    };
+
+    private final AtomicLong messages = new AtomicLong();
+    private final AtomicLong uncompressedBytes = new AtomicLong();
+    private final AtomicLong wireBytes = new AtomicLong();
+
+    /**
+     * The tracer of the call whose handler is running on this thread, or null if the server has none installed.
+     */
+    static WireSizeTracer current() {
+        return KEY.get();
+    }
+
+    @Override
+    public Context filterContext(Context context) {
+        return context.withValue(KEY, this);
+    }
+
+    @Override
+    public void outboundMessage(int seqNo) {
+        messages.incrementAndGet();
+    }
+
+    @Override
+    public void outboundUncompressedSize(long bytes) {
+        uncompressedBytes.addAndGet(bytes);
+    }
+
+    @Override
+    public void outboundWireSize(long bytes) {
+        wireBytes.addAndGet(bytes); // Compressed size of compressed messages; excludes gRPC and HTTP/2 framing
+    }
+
+    long messageCount() {
+        return messages.get();
+    }
+
+    long uncompressedBytes() {
+        return uncompressedBytes.get();
+    }
+
+    long wireBytes() {
+        return wireBytes.get();
+    }
+}
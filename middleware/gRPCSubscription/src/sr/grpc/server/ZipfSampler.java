@@ -0,0 +1,76 @@
+package sr.grpc.server;
+
+import java.util.SplittableRandom;
+
+/**
+ * Draws ranks 0..n-1 with probabilities proportional to 1 / (rank + 1)^skew; a skew of 0 is uniform.
+ * <p>
+ * Uses Vose's alias method: a table built once gives every rank a column holding its own share and the rank
+ * that fills the rest, so a draw is one uniform column and one coin toss, in constant time whatever the number
+ * of ranks, and allocates nothing. Immutable; the random generator passed in is the caller's, one per thread.
+ */
+final class ZipfSampler {
+
+    private final double[] share; // Probability that column i yields i rather than alias[i]
+    private final int[] alias;
+
+    ZipfSampler(int n, double skew) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Zipf distribution needs at least one rank: " + n);
+        }
+        if (!(skew >= 0)) {
+            throw new IllegalArgumentException("Zipf skew must not be negative: " + skew);
+        }
+        double[] weights = new double[n];
+        double total = 0;
+        for (int rank = 0; rank < n; rank++) {
+            weights[rank] = 1 / Math.pow(rank + 1, skew);
+            total += weights[rank];
+        }
+        // Scaled so that the average column holds exactly 1
+        for (int rank = 0; rank < n; rank++) {
+            weights[rank] *= n / total;
+        }
+        this.share = new double[n];
+        this.alias = new int[n];
+        int[] small = new int[n]; // Stacks of the ranks below and at or above 1
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int rank = n - 1; rank >= 0; rank--) {
+            if (weights[rank] < 1) {
+                small[smallCount++] = rank;
+            } else {
+                large[largeCount++] = rank;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            share[less] = weights[less];
+            alias[less] = more;
+            weights[more] += weights[less] - 1; // What the larger rank gave to fill the column up
+            if (weights[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is 1 up to rounding errors
+        while (largeCount > 0) {
+            share[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            share[small[--smallCount]] = 1;
+        }
+    }
+
+    int next(SplittableRandom random) {
+        int column = random.nextInt(share.length);
+        return random.nextDouble() < share[column] ? column : alias[column];
+    }
+
+    int size() {
+        return share.length;
+    }
+}